@@ -0,0 +1,64 @@
+package io.openems.backend.common.edge;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A global dictionary of Channel-Addresses, shared by all {@link EdgeCache}s.
+ *
+ * <p>
+ * Every distinct Channel-Address String is stored only once and mapped to a
+ * compact numeric ID. Edges of the same type mostly share their
+ * Channel-Addresses, so this replaces thousands of equal String keys per
+ * Channel. IDs are never released; the number of distinct Channel-Addresses
+ * is bounded by the Components and Channels that exist in OpenEMS Edge.
+ */
+public final class ChannelAddressDictionary {
+
+	/** ID for an unknown Channel-Address. */
+	public static final int UNKNOWN = -1;
+
+	private static final ConcurrentHashMap<String, Integer> IDS = new ConcurrentHashMap<>();
+	private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+	private ChannelAddressDictionary() {
+	}
+
+	/**
+	 * Gets the ID of a Channel-Address; adds it to the dictionary if necessary.
+	 *
+	 * @param address the Channel-Address
+	 * @return the ID
+	 */
+	public static int intern(String address) {
+		final var id = IDS.get(address);
+		if (id != null) {
+			return id;
+		}
+		return IDS.computeIfAbsent(address, a -> NEXT_ID.getAndIncrement());
+	}
+
+	/**
+	 * Gets the ID of a Channel-Address, without adding it to the dictionary.
+	 *
+	 * @param address the Channel-Address
+	 * @return the ID; {@link #UNKNOWN} if the Channel-Address is not known
+	 */
+	public static int get(String address) {
+		final var id = IDS.get(address);
+		if (id == null) {
+			return UNKNOWN;
+		}
+		return id;
+	}
+
+	/**
+	 * Gets the number of Channel-Addresses in the dictionary.
+	 *
+	 * @return the size
+	 */
+	public static int size() {
+		return IDS.size();
+	}
+
+}
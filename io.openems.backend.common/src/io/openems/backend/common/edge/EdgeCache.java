@@ -1,14 +1,16 @@
 package io.openems.backend.common.edge;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.locks.StampedLock;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
 
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
@@ -22,19 +24,84 @@ public class EdgeCache {
 
 	}
 
+	/**
+	 * Holds the latest value per Channel in primitive columns.
+	 *
+	 * <p>
+	 * Channels are identified by their ID in the {@link ChannelAddressDictionary}
+	 * and stored in an open addressing table. Numbers and booleans are stored as
+	 * primitive 'long'; only other values (e.g. Strings) are kept as
+	 * {@link JsonElement}.
+	 *
+	 * <p>
+	 * Writers take the write lock of a {@link StampedLock}; readers use
+	 * optimistic reads (like a seqlock) and only fall back to the read lock if
+	 * they repeatedly overlap with a write.
+	 */
 	private static class ChannelDataCache {
+
+		private static final byte ABSENT = 0;
+		private static final byte NULL = 1;
+		private static final byte LONG = 2;
+		private static final byte DOUBLE = 3;
+		private static final byte BOOLEAN = 4;
+		private static final byte ELEMENT = 5;
+
+		private static final int INITIAL_CAPACITY = 64; // power of two
+		private static final int OPTIMISTIC_READ_ATTEMPTS = 3;
+
+		private static final int SMALL_LONGS_MIN = -128;
+		private static final JsonPrimitive[] SMALL_LONGS = new JsonPrimitive[1152];
+		private static final JsonPrimitive TRUE = new JsonPrimitive(true);
+		private static final JsonPrimitive FALSE = new JsonPrimitive(false);
+
+		static {
+			for (var i = 0; i < SMALL_LONGS.length; i++) {
+				SMALL_LONGS[i] = new JsonPrimitive((long) i + SMALL_LONGS_MIN);
+			}
+		}
+
+		private final StampedLock lock = new StampedLock();
 		private long timestamp = 0L;
-		private final HashMap<String, JsonElement> data = new HashMap<>();
+
+		// Channel-Address ID + 1 per slot; '0' marks a free slot
+		private int[] ids = new int[INITIAL_CAPACITY];
+		private byte[] types = new byte[INITIAL_CAPACITY];
+		private long[] values = new long[INITIAL_CAPACITY];
+		private JsonElement[] elements = null;
+		private int size = 0;
 
 		/**
 		 * Gets the channel value from cache.
 		 *
 		 * @param address the Channel-Address of the channel
-		 * @return the value; {@link JsonNull} if it is not in cache
+		 * @return the value; null if it is not in cache
 		 */
 		public final JsonElement getChannelValue(String address) {
-			synchronized (this) {
-				return this.data.get(address);
+			final var id = ChannelAddressDictionary.get(address);
+			if (id == ChannelAddressDictionary.UNKNOWN) {
+				return null;
+			}
+			for (var attempt = 0; attempt < OPTIMISTIC_READ_ATTEMPTS; attempt++) {
+				final var stamp = this.lock.tryOptimisticRead();
+				if (stamp == 0L) {
+					Thread.onSpinWait();
+					continue;
+				}
+				try {
+					final var result = this.read(id);
+					if (this.lock.validate(stamp)) {
+						return result;
+					}
+				} catch (RuntimeException e) {
+					// Inconsistent state of a concurrent write; retry
+				}
+			}
+			final var stamp = this.lock.readLock();
+			try {
+				return this.read(id);
+			} finally {
+				this.lock.unlockRead(stamp);
 			}
 		}
 
@@ -42,33 +109,206 @@ public class EdgeCache {
 		 * Updates the Cache.
 		 *
 		 * @param incomingDatas the incoming data
+		 * @return true if any data was applied; false if all of it was older than
+		 *         the Cache
 		 */
-		public void update(SortedMap<Long, Map<String, JsonElement>> incomingDatas) {
-			for (var entry : incomingDatas.entrySet()) {
-				var incomingTimestamp = entry.getKey();
-				var incomingData = entry.getValue();
+		public boolean update(SortedMap<Long, Map<String, JsonElement>> incomingDatas) {
+			var applied = false;
+			final var stamp = this.lock.writeLock();
+			try {
+				for (var entry : incomingDatas.entrySet()) {
+					var incomingTimestamp = entry.getKey();
+					var incomingData = entry.getValue();
 
-				// Check if cache should be applied
-				if (incomingTimestamp < this.timestamp) {
-					// Incoming data is older than cache -> do not apply cache
+					// Check if cache should be applied
+					if (incomingTimestamp < this.timestamp) {
+						// Incoming data is older than cache -> do not apply cache
 
-				} else {
-					// Incoming data is more recent than cache
+					} else {
+						// Incoming data is more recent than cache
 
-					if (incomingTimestamp > this.timestamp + 15 * 60 * 1000) {
-						// Cache is not anymore valid (elder than 15 minutes) -> clear Cache
-						synchronized (this) {
-							this.data.clear();
+						if (incomingTimestamp > this.timestamp + 15 * 60 * 1000) {
+							// Cache is not anymore valid (elder than 15 minutes) -> clear Cache
+							this.clear();
 						}
-					}
 
-					// update cache
-					this.timestamp = incomingTimestamp;
-					synchronized (this) {
-						this.data.putAll(incomingData);
+						// update cache
+						this.timestamp = incomingTimestamp;
+						for (var data : incomingData.entrySet()) {
+							this.write(ChannelAddressDictionary.intern(data.getKey()), data.getValue());
+						}
+						applied = true;
 					}
 				}
+			} finally {
+				this.lock.unlockWrite(stamp);
 			}
+			return applied;
+		}
+
+		private JsonElement read(int id) {
+			final var ids = this.ids;
+			final var mask = ids.length - 1;
+			var slot = hash(id) & mask;
+			for (var probes = 0; probes <= mask; probes++) {
+				final var key = ids[slot];
+				if (key == id + 1) {
+					return this.decode(slot);
+				}
+				if (key == 0) {
+					return null;
+				}
+				slot = (slot + 1) & mask;
+			}
+			return null;
+		}
+
+		private JsonElement decode(int slot) {
+			final var value = this.values[slot];
+			return switch (this.types[slot]) {
+			case NULL -> JsonNull.INSTANCE;
+			case LONG -> value >= SMALL_LONGS_MIN && value < SMALL_LONGS_MIN + SMALL_LONGS.length //
+					? SMALL_LONGS[(int) value - SMALL_LONGS_MIN] //
+					: new JsonPrimitive(value);
+			case DOUBLE -> new JsonPrimitive(Double.longBitsToDouble(value));
+			case BOOLEAN -> value != 0 ? TRUE : FALSE;
+			case ELEMENT -> this.elements[slot];
+			default -> null; // ABSENT
+			};
+		}
+
+		private void write(int id, JsonElement element) {
+			final var slot = this.findOrInsert(id);
+			if (element == null || element.isJsonNull()) {
+				this.set(slot, NULL, 0L, null);
+
+			} else if (element instanceof JsonPrimitive p && p.isBoolean()) {
+				this.set(slot, BOOLEAN, p.getAsBoolean() ? 1L : 0L, null);
+
+			} else if (element instanceof JsonPrimitive p && p.isNumber()) {
+				this.writeNumber(slot, p);
+
+			} else {
+				// Strings, JsonObjects, JsonArrays
+				this.set(slot, ELEMENT, 0L, element);
+			}
+		}
+
+		private void writeNumber(int slot, JsonPrimitive p) {
+			final var n = p.getAsNumber();
+			if (n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte) {
+				this.set(slot, LONG, n.longValue(), null);
+				return;
+			}
+			if (n instanceof Double || n instanceof Float) {
+				this.set(slot, DOUBLE, Double.doubleToRawLongBits(n.doubleValue()), null);
+				return;
+			}
+
+			// e.g. LazilyParsedNumber stores value internally as String
+			final var s = n.toString();
+			try {
+				if (isIntegral(s)) {
+					this.set(slot, LONG, Long.parseLong(s), null);
+				} else {
+					this.set(slot, DOUBLE, Double.doubleToRawLongBits(Double.parseDouble(s)), null);
+				}
+			} catch (NumberFormatException e) {
+				// e.g. out of range: keep original
+				this.set(slot, ELEMENT, 0L, p);
+			}
+		}
+
+		private void set(int slot, byte type, long value, JsonElement element) {
+			this.types[slot] = type;
+			this.values[slot] = value;
+			if (element != null) {
+				if (this.elements == null) {
+					this.elements = new JsonElement[this.ids.length];
+				}
+				this.elements[slot] = element;
+			} else if (this.elements != null) {
+				this.elements[slot] = null;
+			}
+		}
+
+		private int findOrInsert(int id) {
+			// Load factor 0.75
+			if ((this.size + 1) * 4 > this.ids.length * 3) {
+				this.grow();
+			}
+			final var mask = this.ids.length - 1;
+			var slot = hash(id) & mask;
+			while (true) {
+				final var key = this.ids[slot];
+				if (key == id + 1) {
+					return slot;
+				}
+				if (key == 0) {
+					this.ids[slot] = id + 1;
+					this.size++;
+					return slot;
+				}
+				slot = (slot + 1) & mask;
+			}
+		}
+
+		private void grow() {
+			final var oldIds = this.ids;
+			final var oldTypes = this.types;
+			final var oldValues = this.values;
+			final var oldElements = this.elements;
+
+			final var capacity = oldIds.length * 2;
+			final var mask = capacity - 1;
+			final var newIds = new int[capacity];
+			final var newTypes = new byte[capacity];
+			final var newValues = new long[capacity];
+			final var newElements = oldElements == null ? null : new JsonElement[capacity];
+			for (var i = 0; i < oldIds.length; i++) {
+				if (oldIds[i] == 0) {
+					continue;
+				}
+				var slot = hash(oldIds[i] - 1) & mask;
+				while (newIds[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				newIds[slot] = oldIds[i];
+				newTypes[slot] = oldTypes[i];
+				newValues[slot] = oldValues[i];
+				if (newElements != null) {
+					newElements[slot] = oldElements[i];
+				}
+			}
+			this.ids = newIds;
+			this.types = newTypes;
+			this.values = newValues;
+			this.elements = newElements;
+		}
+
+		private void clear() {
+			// Keep the slots; Edges mostly send the same Channels again
+			Arrays.fill(this.types, ABSENT);
+			if (this.elements != null) {
+				Arrays.fill(this.elements, null);
+			}
+		}
+
+		private static int hash(int id) {
+			return id * 0x9E3779B9 >>> 7;
+		}
+
+		private static boolean isIntegral(String s) {
+			if (s.isEmpty()) {
+				return false;
+			}
+			for (var i = s.charAt(0) == '-' ? 1 : 0; i < s.length(); i++) {
+				final var c = s.charAt(i);
+				if (c < '0' || c > '9') {
+					return false;
+				}
+			}
+			return true;
 		}
 	}
 
@@ -100,7 +340,7 @@ public class EdgeCache {
 	 */
 	public final Pair<Map<String, JsonElement>, Set<String>> getChannelValues(Set<String> addresses) {
 		final var result = new TreeMap<String, JsonElement>();
-		final var aggregatedChannelValues = new TreeSet<String>();
+		Set<String> aggregatedChannelValues = null;
 		for (var address : addresses) {
 			final var value = this.current.getChannelValue(address);
 			if (value != null) {
@@ -110,30 +350,37 @@ public class EdgeCache {
 			final var aggregatedValue = this.aggregated.getChannelValue(address);
 			if (aggregatedValue != null) {
 				result.put(address, aggregatedValue);
+				if (aggregatedChannelValues == null) {
+					aggregatedChannelValues = new TreeSet<>();
+				}
 				aggregatedChannelValues.add(address);
 				continue;
 			}
 			result.put(address, JsonNull.INSTANCE);
 		}
-		return new Pair<>(result, aggregatedChannelValues);
+		return new Pair<>(result, aggregatedChannelValues != null ? aggregatedChannelValues : Set.of());
 	}
 
 	/**
 	 * Updates the Cache.
 	 *
 	 * @param notification the incoming data
+	 * @return true if any data was applied; false if all of it was older than
+	 *         the Cache, e.g. replayed after a reconnect
 	 */
-	public void updateCurrentData(TimestampedDataNotification notification) {
-		this.current.update(notification.getData().rowMap());
+	public boolean updateCurrentData(TimestampedDataNotification notification) {
+		return this.current.update(notification.getData().rowMap());
 	}
 
 	/**
 	 * Updates the aggregated data cache.
 	 *
 	 * @param notification the incoming data
+	 * @return true if any data was applied; false if all of it was older than
+	 *         the Cache, e.g. replayed after a reconnect
 	 */
-	public void updateAggregatedData(AggregatedDataNotification notification) {
-		this.aggregated.update(notification.getData().rowMap());
+	public boolean updateAggregatedData(AggregatedDataNotification notification) {
+		return this.aggregated.update(notification.getData().rowMap());
 	}
 
 }
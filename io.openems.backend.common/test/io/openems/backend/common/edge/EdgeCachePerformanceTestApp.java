@@ -0,0 +1,115 @@
+package io.openems.backend.common.edge;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.TreeSet;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Compares heap per Edge of the {@link EdgeCache} with the previous
+ * implementation, that kept a {@link HashMap} of Channel-Address to
+ * {@link JsonElement} per Edge.
+ *
+ * <p>
+ * Like in production, values are parsed from JSON for every Edge, i.e. keys and
+ * numbers are distinct objects per Edge. Run with a fixed heap, e.g.
+ * '-Xms4g -Xmx4g'.
+ */
+public class EdgeCachePerformanceTestApp {
+
+	private static final int EDGES = 1_000;
+	private static final int CHANNELS = 3_000;
+	private static final int QUERY_CHANNELS = 100;
+	private static final int QUERIES = 100_000;
+
+	/**
+	 * Runs the performance test.
+	 *
+	 * @param args the args
+	 * @throws Exception on error
+	 */
+	public static void main(String[] args) throws Exception {
+		final var json = createJson();
+
+		// Before: HashMap per Edge
+		var baseline = usedHeap();
+		final var before = new ArrayList<HashMap<String, JsonElement>>(EDGES);
+		for (var i = 0; i < EDGES; i++) {
+			final var data = new HashMap<String, JsonElement>();
+			for (var entry : JsonParser.parseString(json).getAsJsonObject().entrySet()) {
+				data.put(entry.getKey(), entry.getValue());
+			}
+			before.add(data);
+		}
+		final var beforeBytes = usedHeap() - baseline;
+		System.out.println("HashMap:   " + beforeBytes / EDGES / 1024 + " kB per Edge");
+		before.clear();
+
+		// After: EdgeCache
+		baseline = usedHeap();
+		final var after = new ArrayList<EdgeCache>(EDGES);
+		for (var i = 0; i < EDGES; i++) {
+			final var edgeCache = new EdgeCache();
+			edgeCache.updateCurrentData(createNotification(JsonParser.parseString(json).getAsJsonObject()));
+			after.add(edgeCache);
+		}
+		final var afterBytes = usedHeap() - baseline;
+		System.out.println("EdgeCache: " + afterBytes / EDGES / 1024 + " kB per Edge " //
+				+ "(" + ChannelAddressDictionary.size() + " Channel-Addresses in dictionary)");
+
+		// Query latency
+		final var addresses = new TreeSet<String>();
+		for (var i = 0; i < QUERY_CHANNELS; i++) {
+			addresses.add(address(i * (CHANNELS / QUERY_CHANNELS)));
+		}
+		final var stopwatch = Stopwatch.createStarted();
+		var count = 0L;
+		for (var i = 0; i < QUERIES; i++) {
+			count += after.get(i % EDGES).getChannelValues(addresses).a().size();
+		}
+		System.out.println("getChannelValues: " + stopwatch.elapsed().toNanos() / QUERIES / 1000 + " us per " //
+				+ QUERY_CHANNELS + " Channels [" + count + "]");
+	}
+
+	private static String createJson() {
+		final var j = new JsonObject();
+		for (var i = 0; i < CHANNELS; i++) {
+			final var address = address(i);
+			switch (i % 10) {
+			case 0 -> j.addProperty(address, "State " + i);
+			case 1, 2 -> j.addProperty(address, i * 0.5);
+			default -> j.addProperty(address, i * 1000);
+			}
+		}
+		return j.toString();
+	}
+
+	private static TimestampedDataNotification createNotification(JsonObject j) {
+		final var table = TreeBasedTable.<Long, String, JsonElement>create();
+		for (var entry : j.entrySet()) {
+			table.put(0L, entry.getKey(), entry.getValue());
+		}
+		return new TimestampedDataNotification(table);
+	}
+
+	private static String address(int i) {
+		return "component" + i / 100 + "/Channel" + i % 100;
+	}
+
+	private static long usedHeap() throws InterruptedException {
+		final var runtime = Runtime.getRuntime();
+		for (var i = 0; i < 3; i++) {
+			System.gc();
+			Thread.sleep(100);
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+}
@@ -1,9 +1,12 @@
 package io.openems.backend.common.edge;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.junit.Test;
@@ -11,9 +14,11 @@ import org.junit.Test;
 import com.google.common.collect.TreeBasedTable;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.types.ChannelAddress;
 
@@ -29,17 +34,17 @@ public class EdgeCacheTest {
 		var timestamp = 0L;
 
 		var data1 = buildData(timestamp, CHANNEL1, "value1");
-		cache.updateCurrentData(data1);
+		assertTrue(cache.updateCurrentData(data1));
 		assertEquals("value1", cache.getChannelValue(CHANNEL1).getAsString());
 
 		// older than cache
 		var data2 = buildData(timestamp - 1, CHANNEL1, "ignore");
-		cache.updateCurrentData(data2);
+		assertFalse(cache.updateCurrentData(data2));
 		assertEquals("value1", cache.getChannelValue(CHANNEL1).getAsString());
 
 		// normal operation
 		var data3 = buildData(timestamp += 2 * 60 * 1000, CHANNEL2, "value2");
-		cache.updateCurrentData(data3);
+		assertTrue(cache.updateCurrentData(data3));
 		assertEquals("value1", cache.getChannelValue(CHANNEL1).getAsString());
 		assertEquals("value2", cache.getChannelValue(CHANNEL2).getAsString());
 
@@ -51,6 +56,58 @@ public class EdgeCacheTest {
 		assertEquals("value3", cache.getChannelValue(CHANNEL3).getAsString());
 	}
 
+	@Test
+	public void testValueTypes() throws OpenemsNamedException {
+		var cache = new EdgeCache();
+		var table = TreeBasedTable.<Long, String, JsonElement>create();
+		var json = JsonParser.parseString("""
+				{"a/long": 123456789012, "a/small": -5, "a/double": 12.5, "a/string": "12", \
+				"a/bool": true, "a/null": null, "a/huge": 123456789012345678901234567890}""").getAsJsonObject();
+		json.entrySet().forEach(e -> table.put(1L, e.getKey(), e.getValue()));
+		table.put(1L, "a/int", new JsonPrimitive(7));
+		table.put(1L, "a/float", new JsonPrimitive(0.25F));
+		cache.updateCurrentData(new TimestampedDataNotification(table));
+
+		assertEquals(new JsonPrimitive(123456789012L), cache.getChannelValue("a/long"));
+		assertEquals("-5", cache.getChannelValue("a/small").toString());
+		assertEquals("12.5", cache.getChannelValue("a/double").toString());
+		assertEquals(new JsonPrimitive("12"), cache.getChannelValue("a/string"));
+		assertEquals(new JsonPrimitive(true), cache.getChannelValue("a/bool"));
+		assertEquals(JsonNull.INSTANCE, cache.getChannelValue("a/null"));
+		assertEquals("123456789012345678901234567890", cache.getChannelValue("a/huge").toString());
+		assertEquals("7", cache.getChannelValue("a/int").toString());
+		assertEquals("0.25", cache.getChannelValue("a/float").toString());
+		assertEquals(JsonNull.INSTANCE, cache.getChannelValue("a/unknown"));
+	}
+
+	@Test
+	public void testGetChannelValues() throws OpenemsNamedException {
+		var cache = new EdgeCache();
+		cache.updateCurrentData(buildData(0L, CHANNEL1, "value1"));
+		var aggregated = TreeBasedTable.<Long, String, JsonElement>create();
+		aggregated.put(0L, CHANNEL2, new JsonPrimitive(2));
+		cache.updateAggregatedData(new AggregatedDataNotification(aggregated));
+
+		var result = cache.getChannelValues(Set.of(CHANNEL1, CHANNEL2, CHANNEL3));
+		assertEquals("{foo/bar1=\"value1\", foo/bar2=2, foo/bar3=null}", result.a().toString());
+		assertEquals(Set.of(CHANNEL2), result.b());
+
+		assertTrue(cache.getChannelValues(Set.of(CHANNEL1)).b().isEmpty());
+	}
+
+	@Test
+	public void testGrow() throws OpenemsNamedException {
+		var cache = new EdgeCache();
+		var table = TreeBasedTable.<Long, String, JsonElement>create();
+		for (var i = 0; i < 1_000; i++) {
+			table.put(1L, "grow/Channel" + i, new JsonPrimitive(i * 10));
+		}
+		cache.updateCurrentData(new TimestampedDataNotification(table));
+		for (var i = 0; i < 1_000; i++) {
+			assertEquals(i * 10, cache.getChannelValue("grow/Channel" + i).getAsInt());
+		}
+	}
+
 	private static TimestampedDataNotification buildData(long timestamp, String channel, String value)
 			throws OpenemsNamedException {
 		var data = new TreeMap<Long, Map<String, JsonElement>>();
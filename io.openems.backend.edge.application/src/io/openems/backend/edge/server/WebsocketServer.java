@@ -1,5 +1,8 @@
 package io.openems.backend.edge.server;
 
+import static io.openems.common.websocket.WebsocketUtils.generateWsDataString;
+
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
@@ -7,13 +10,19 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.framing.CloseFrame;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.handshake.ServerHandshakeBuilder;
 import org.slf4j.Logger;
 
 import io.openems.common.exceptions.OpenemsError;
+import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.websocket.AbstractWebsocketServer;
+import io.openems.common.websocket.BinaryDataEncoding;
 
 public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
@@ -86,6 +95,36 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 				.findFirst().orElse(null);
 	}
 
+	@Override
+	protected void onHandshake(ClientHandshake request, ServerHandshakeBuilder response) {
+		if (BinaryDataEncoding.isSupported(request)) {
+			// Confirm binary encoding of data notifications
+			response.put(BinaryDataEncoding.HTTP_HEADER, BinaryDataEncoding.HTTP_HEADER_VALUE);
+		}
+	}
+
+	@Override
+	protected void onBinaryMessage(WebSocket ws, ByteBuffer message) throws OpenemsException {
+		WsData wsData = ws.getAttachment();
+		final AbstractDataNotification notification;
+		try {
+			notification = wsData.getBinaryDataDecoder().decode(message);
+		} catch (OpenemsException e) {
+			// Dictionary is out of sync; Edge starts a new one on reconnect
+			ws.close(CloseFrame.PROTOCOL_ERROR, e.getMessage());
+			throw e;
+		}
+		// Forwarded to the Edge-Manager as JSON-RPC like text messages; the binary
+		// encoding only reduces traffic on the Edge connection
+		this.execute(() -> {
+			try {
+				this.onNotification.accept(ws, notification);
+			} catch (Throwable t) {
+				this.handleInternalError(t, generateWsDataString(ws));
+			}
+		});
+	}
+
 	@Override
 	protected WsData createWsData(WebSocket ws) {
 		return new WsData(ws);
@@ -6,6 +6,8 @@ import java.util.concurrent.TimeUnit;
 
 import org.java_websocket.WebSocket;
 
+import io.openems.common.websocket.BinaryDataDecoder;
+
 public class WsData extends io.openems.common.websocket.WsData {
 
 	private static final List<String> DEBUG_EDGE_IDS = List.of();
@@ -16,6 +18,7 @@ public class WsData extends io.openems.common.websocket.WsData {
 	 */
 	private String edgeId = null;
 	private final CompletableFuture<Void> isAuthenticated = new CompletableFuture<>();
+	private final BinaryDataDecoder binaryDataDecoder = new BinaryDataDecoder();
 
 	public WsData(WebSocket ws) {
 		super(ws);
@@ -64,6 +67,15 @@ public class WsData extends io.openems.common.websocket.WsData {
 				: "UNKNOWN";
 	}
 
+	/**
+	 * Gets the {@link BinaryDataDecoder} of this connection.
+	 * 
+	 * @return the {@link BinaryDataDecoder}
+	 */
+	public BinaryDataDecoder getBinaryDataDecoder() {
+		return this.binaryDataDecoder;
+	}
+
 	@Override
 	protected String toLogString() {
 		return "BackendEdgeServerWsData [" + this.getEdgeIdString() + "]";
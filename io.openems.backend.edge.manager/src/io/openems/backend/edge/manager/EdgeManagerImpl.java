@@ -2,7 +2,6 @@ package io.openems.backend.edge.manager;
 
 import static io.openems.common.utils.JsonUtils.getAsJsonObject;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toUnmodifiableMap;
 
 import java.util.Map;
@@ -12,7 +11,6 @@ import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Function;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -301,17 +299,12 @@ public class EdgeManagerImpl extends AbstractOpenemsBackendComponent
 	@Override
 	public SortedMap<ChannelAddress, JsonElement> getChannelValues(String edgeId,
 			Set<ChannelAddress> channelAddresses) {
-		var result = channelAddresses.stream() //
-				.collect(toMap(//
-						Function.identity(), //
-						c -> JsonNull.INSTANCE, //
-						(t, u) -> u, TreeMap<ChannelAddress, JsonElement>::new));
-		var edgeCache = this.getEdgeCacheForEdgeId(edgeId);
-		if (edgeCache == null) {
-			return result;
-		}
+		final var result = new TreeMap<ChannelAddress, JsonElement>();
+		final var edgeCache = this.getEdgeCacheForEdgeId(edgeId);
 		for (var channelAddress : channelAddresses) {
-			result.put(channelAddress, edgeCache.getChannelValue(channelAddress.toString()));
+			result.put(channelAddress, edgeCache == null //
+					? JsonNull.INSTANCE //
+					: edgeCache.getChannelValue(channelAddress.toString()));
 		}
 		return result;
 	}
@@ -199,17 +199,22 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 			return;
 		}
 
+		var isCurrent = true;
 		final var timedataManager = this.timedataManager.get();
 		if (timedataManager != null) {
 			// TODO java 21 switch case with type
 			if (message instanceof TimestampedDataNotification timestampNotification) {
-				edgeCache.updateCurrentData(timestampNotification);
+				isCurrent = edgeCache.updateCurrentData(timestampNotification);
 				timedataManager.write(edgeId, timestampNotification);
 			} else if (message instanceof AggregatedDataNotification aggregatedNotification) {
-				edgeCache.updateAggregatedData(aggregatedNotification);
+				isCurrent = edgeCache.updateAggregatedData(aggregatedNotification);
 				timedataManager.write(edgeId, aggregatedNotification);
 			}
 		}
+		if (!isCurrent) {
+			// Historic data, e.g. replayed by the Edge after a reconnect: keep live state
+			return;
+		}
 
 		// Forward subscribed Channels to UI
 		final var uiWebsocket = this.uiWebsocket.get();
@@ -60,6 +60,8 @@ public class PrometheusClient extends AbstractOpenemsBackendComponent implements
 		this.prometheusRegistry.register(PrometheusMetrics.ALERTING_MESSAGES_QUEUE);
 		this.prometheusRegistry.register(PrometheusMetrics.ALERTING_MESSAGES_SENT);
 		this.prometheusRegistry.register(PrometheusMetrics.WEBSOCKET_REQUEST);
+		this.prometheusRegistry.register(PrometheusMetrics.WEBSOCKET_FANOUT);
+		this.prometheusRegistry.register(PrometheusMetrics.WEBSOCKET_FANOUT_BYTES);
 
 		this.prometheusRegistry.register(PrometheusMetrics.HTTP_REQUEST);
 		this.prometheusRegistry.register(PrometheusMetrics.HTTP_REQUEST_RESULT);
@@ -1,5 +1,6 @@
 package io.openems.backend.metrics.prometheus;
 
+import io.prometheus.metrics.core.metrics.Counter;
 import io.prometheus.metrics.core.metrics.Gauge;
 import io.prometheus.metrics.core.metrics.Histogram;
 import io.prometheus.metrics.core.metrics.Info;
@@ -16,6 +17,16 @@ public class PrometheusMetrics {
 			.labelNames("component", "method") //
 			.build();
 
+	public static final Histogram WEBSOCKET_FANOUT = Histogram.builder() //
+			.name("websocket_fanout") //
+			.labelNames("component") //
+			.build();
+
+	public static final Counter WEBSOCKET_FANOUT_BYTES = Counter.builder() //
+			.name("websocket_fanout_bytes") //
+			.labelNames("component") //
+			.build();
+
 	public static final Histogram HTTP_REQUEST = Histogram.builder() //
 			.name("http_requests") //
 			.labelNames("component", "path") //
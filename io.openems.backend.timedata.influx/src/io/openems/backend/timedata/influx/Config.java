@@ -46,6 +46,12 @@ import io.openems.shared.influxdb.QueryLanguageConfig;
 	@AttributeDefinition(name = "Number of max scheduled tasks", description = "Max-Size of Queued tasks.")
 	int maxQueueSize() default 5000;
 
+	@AttributeDefinition(name = "Write batch size [kB]", description = "Max size of one batch of records that is written to InfluxDB")
+	int writeBatchSize() default 512;
+
+	@AttributeDefinition(name = "Number of parallel writes", description = "Max number of batches that are written to InfluxDB at the same time")
+	int maxParallelWrites() default 4;
+
 	@AttributeDefinition(name = "List of blacklisted ChannelAddresses", description = "Blacklisted ChannelAddresses which should not be written to the database. e.g. \"kacoCore0/Serialnumber\"")
 	String[] blacklistedChannels() default {};
 
@@ -10,10 +10,10 @@ import org.slf4j.LoggerFactory;
 import com.google.common.primitives.Doubles;
 import com.google.common.primitives.Longs;
 import com.google.gson.JsonElement;
-import com.influxdb.client.write.Point;
 import com.influxdb.exceptions.InfluxException;
 
 import io.openems.common.utils.JsonUtils;
+import io.openems.shared.influxdb.LineProtocolBuffer;
 
 /**
  * Handles Influx FieldTypeConflictExceptions. This helper provides conversion
@@ -26,7 +26,7 @@ public class FieldTypeConflictHandler {
 
 	private final Logger log = LoggerFactory.getLogger(FieldTypeConflictHandler.class);
 	private final TimedataInfluxDb parent;
-	private final ConcurrentHashMap<String, BiConsumer<Point, JsonElement>> specialCaseFieldHandlers = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, BiConsumer<LineProtocolBuffer, JsonElement>> specialCaseFieldHandlers = new ConcurrentHashMap<>();
 
 	public FieldTypeConflictHandler(TimedataInfluxDb parent) {
 		this.parent = parent;
@@ -74,14 +74,14 @@ public class FieldTypeConflictHandler {
 	}
 
 	/**
-	 * Creates a Handler for the given field, to convert a Point to a
+	 * Creates a Handler for the given field, to convert a value to a
 	 * 'requiredType'.
 	 * 
 	 * @param field        the field name, i.e. the Channel-Address
 	 * @param requiredType the {@link RequiredType}
 	 * @return the Handler
 	 */
-	protected BiConsumer<Point, JsonElement> createHandler(String field, RequiredType requiredType) {
+	protected BiConsumer<LineProtocolBuffer, JsonElement> createHandler(String field, RequiredType requiredType) {
 		return switch (requiredType) {
 		case STRING -> (builder, jValue) -> {
 			var value = getAsFieldTypeString(jValue);
@@ -209,7 +209,7 @@ public class FieldTypeConflictHandler {
 	 * @param field the Field
 	 * @return the handler or null
 	 */
-	public BiConsumer<Point, JsonElement> getHandler(String field) {
+	public BiConsumer<LineProtocolBuffer, JsonElement> getHandler(String field) {
 		return this.specialCaseFieldHandlers.get(field);
 	}
 }
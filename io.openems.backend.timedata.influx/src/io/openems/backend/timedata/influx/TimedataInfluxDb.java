@@ -26,8 +26,6 @@ import com.google.common.primitives.Doubles;
 import com.google.common.primitives.Longs;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
-import com.influxdb.client.domain.WritePrecision;
-import com.influxdb.client.write.Point;
 
 import io.openems.backend.common.component.AbstractOpenemsBackendComponent;
 import io.openems.backend.common.debugcycle.DebugLoggable;
@@ -45,6 +43,8 @@ import io.openems.common.oem.OpenemsBackendOem;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.shared.influxdb.InfluxConnector;
+import io.openems.shared.influxdb.LineProtocolBuffer;
+import io.openems.shared.influxdb.LineProtocolMergeWorker;
 
 @Designate(ocd = Config.class, factory = true)
 @Component(//
@@ -57,9 +57,15 @@ import io.openems.shared.influxdb.InfluxConnector;
 })
 public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements Timedata, EventHandler, DebugLoggable {
 
+	private static final int LINE_PROTOCOL_BUFFER_SIZE = 16 * 1024;
+
 	private final Logger log = LoggerFactory.getLogger(TimedataInfluxDb.class);
 	private final FieldTypeConflictHandler fieldTypeConflictHandler;
 
+	// Reused per writing thread; lines are copied by InfluxConnector.write()
+	private final ThreadLocal<LineProtocolBuffer> lineProtocolBuffer = ThreadLocal
+			.withInitial(() -> new LineProtocolBuffer(LINE_PROTOCOL_BUFFER_SIZE));
+
 	@Reference
 	private OpenemsBackendOem oem;
 
@@ -98,7 +104,8 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 				config.poolSize(), config.maxQueueSize(), //
 				(e) -> {
 					this.fieldTypeConflictHandler.handleException(e);
-				});
+				}, false, //
+				new LineProtocolMergeWorker.Settings(config.writeBatchSize() * 1024, config.maxParallelWrites()));
 	}
 
 	@Deactivate
@@ -201,6 +208,11 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 			return;
 		}
 
+		final var measurement = this.config.measurement();
+		final var tag = this.oem.getInfluxdbTag();
+		final var tagValue = String.valueOf(influxEdgeId);
+		final var buffer = this.lineProtocolBuffer.get();
+		buffer.reset();
 		for (var dataEntry : dataEntries) {
 			var channelEntries = dataEntry.getValue().entrySet();
 			if (channelEntries.isEmpty()) {
@@ -215,11 +227,9 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 				continue;
 			}
 
-			// this builds an InfluxDB record ("point") for a given timestamp
-			var point = Point //
-					.measurement(this.config.measurement()) //
-					.addTag(this.oem.getInfluxdbTag(), String.valueOf(influxEdgeId)) //
-					.time(timestamp, WritePrecision.MS);
+			// this encodes an InfluxDB record ("point") for a given timestamp
+			buffer.startLine(measurement) //
+					.addTag(tag, tagValue);
 			for (var channelEntry : channelEntries) {
 				if (!shouldWriteValue.apply(influxEdgeId, channelEntry.getKey())) {
 					continue;
@@ -228,13 +238,14 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 					continue;
 				}
 				this.addValue(//
-						point, //
+						buffer, //
 						channelEntry.getKey(), //
 						channelEntry.getValue());
 			}
-
-			this.influxConnector.write(point);
+			buffer.endLine(timestamp);
 		}
+
+		this.influxConnector.write(buffer);
 	}
 
 	@Override
@@ -281,11 +292,11 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 	/**
 	 * Adds the value in the correct data format for InfluxDB.
 	 *
-	 * @param builder the Influx PointBuilder
+	 * @param builder the {@link LineProtocolBuffer}
 	 * @param field   the field name
 	 * @param element the value
 	 */
-	private void addValue(Point builder, String field, JsonElement element) {
+	private void addValue(LineProtocolBuffer builder, String field, JsonElement element) {
 		if (element == null || element.isJsonNull() //
 				|| this.specialCaseFieldHandling(builder, field, element)) { // already handled by special case handling
 			return;
@@ -365,12 +376,12 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 	 * E.g. to avoid errors like "field type conflict: input field XYZ on
 	 * measurement "data" is type integer, already exists as type string"
 	 *
-	 * @param builder the InfluxDB Builder
+	 * @param builder the {@link LineProtocolBuffer}
 	 * @param field   the fieldName, i.e. the ChannelAddress
 	 * @param value   the value, guaranteed to be not-null and not JsonNull.
 	 * @return true if field was handled; false otherwise
 	 */
-	private boolean specialCaseFieldHandling(Point builder, String field, JsonElement value) {
+	private boolean specialCaseFieldHandling(LineProtocolBuffer builder, String field, JsonElement value) {
 		var handler = this.fieldTypeConflictHandler.getHandler(field);
 		if (handler == null) {
 			// no special handling exists for this field
@@ -0,0 +1,86 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reverse index from Edge-ID to the UI sessions that subscribed the Edge.
+ *
+ * <p>
+ * Avoids iterating over all UI connections for every data notification of
+ * every Edge. Kept in step by {@link WsData#handleSubscribeEdgesRequest(Set)}
+ * and {@link WsData#dispose()}.
+ */
+public class SubscriberIndex {
+
+	private final ConcurrentHashMap<String, Set<WsData>> wsDatasByEdgeId = new ConcurrentHashMap<>();
+
+	/**
+	 * Updates the subscribed Edges of a {@link WsData}.
+	 *
+	 * @param wsData      the {@link WsData}
+	 * @param removeEdges the previously subscribed Edge-IDs
+	 * @param addEdges    the newly subscribed Edge-IDs
+	 */
+	public void update(WsData wsData, Set<String> removeEdges, Set<String> addEdges) {
+		for (var edgeId : addEdges) {
+			// Add inside compute() to not race with removal of an empty Set
+			this.wsDatasByEdgeId.compute(edgeId, (e, wsDatas) -> {
+				final var result = wsDatas != null ? wsDatas : ConcurrentHashMap.<WsData>newKeySet();
+				result.add(wsData);
+				return result;
+			});
+		}
+		for (var edgeId : removeEdges) {
+			if (addEdges.contains(edgeId)) {
+				continue;
+			}
+			this.remove(wsData, edgeId);
+		}
+	}
+
+	/**
+	 * Removes a {@link WsData} from the index.
+	 *
+	 * @param wsData  the {@link WsData}
+	 * @param edgeIds the subscribed Edge-IDs
+	 */
+	public void remove(WsData wsData, Set<String> edgeIds) {
+		for (var edgeId : edgeIds) {
+			this.remove(wsData, edgeId);
+		}
+	}
+
+	private void remove(WsData wsData, String edgeId) {
+		// Drop the Set once it is empty
+		this.wsDatasByEdgeId.computeIfPresent(edgeId, (e, wsDatas) -> {
+			wsDatas.remove(wsData);
+			return wsDatas.isEmpty() ? null : wsDatas;
+		});
+	}
+
+	/**
+	 * Gets the {@link WsData}s that subscribed an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return the {@link WsData}s; empty if there are none
+	 */
+	public Set<WsData> get(String edgeId) {
+		var result = this.wsDatasByEdgeId.get(edgeId);
+		if (result == null) {
+			return Collections.emptySet();
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the number of Edges with at least one subscribed UI session.
+	 *
+	 * @return the number of Edges
+	 */
+	public int size() {
+		return this.wsDatasByEdgeId.size();
+	}
+
+}
@@ -2,9 +2,9 @@ package io.openems.backend.uiwebsocket.impl;
 
 import static java.util.stream.Collectors.toUnmodifiableMap;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -38,6 +38,7 @@ import io.openems.backend.common.metadata.Metadata;
 import io.openems.backend.common.metadata.User;
 import io.openems.backend.common.timedata.TimedataManager;
 import io.openems.backend.common.uiwebsocket.UiWebsocket;
+import io.openems.backend.metrics.prometheus.PrometheusMetrics;
 import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
@@ -45,6 +46,8 @@ import io.openems.common.jsonrpc.base.AbstractJsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.jsonrpc.notification.CurrentDataNotification;
+import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
 
 @Designate(ocd = Config.class, factory = false)
 @Component(//
@@ -60,6 +63,7 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 
 	private static final String COMPONENT_ID = "uiwebsocket0";
 
+	protected final SubscriberIndex subscriberIndex = new SubscriberIndex();
 	protected WebsocketServer server = null;
 
 	@Reference
@@ -219,22 +223,10 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 	 * Edge-ID.
 	 *
 	 * @param edgeId the Edge-ID
-	 * @return the WsDatas; empty list if there are none
+	 * @return the WsDatas; empty if there are none
 	 */
-	private List<WsData> getWsDatasForEdgeId(String edgeId) {
-		var result = new ArrayList<WsData>();
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData == null) {
-				continue;
-			}
-			if (!wsData.isEdgeSubscribed(edgeId)) {
-				continue;
-			}
-			result.add(wsData);
-		}
-		return result;
+	private Set<WsData> getWsDatasForEdgeId(String edgeId) {
+		return this.subscriberIndex.get(edgeId);
 	}
 
 	@Override
@@ -251,12 +243,36 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		if (this.server == null) {
 			return;
 		}
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData != null) {
-				wsData.sendSubscribedChannels(edgeId, edgeCache);
+		final var wsDatas = this.getWsDatasForEdgeId(edgeId);
+		if (wsDatas.isEmpty()) {
+			return;
+		}
+
+		try (var timer = PrometheusMetrics.WEBSOCKET_FANOUT.labelValues(this.getId()).startTimer()) {
+			// Serialize once per distinct set of subscribed Channels
+			final var notifications = new HashMap<Set<String>, String>();
+			var bytes = 0L;
+			for (var wsData : wsDatas) {
+				final var channels = wsData.getSubscribedChannels(edgeId);
+				if (channels == null || channels.isEmpty()) {
+					continue;
+				}
+				final var notification = notifications.computeIfAbsent(channels, c -> {
+					final var values = edgeCache.getChannelValues(c).a();
+					if (values.isEmpty()) {
+						// nothing to send
+						return "";
+					}
+					return new EdgeRpcNotification(edgeId, new CurrentDataNotification(values)).toString();
+				});
+				if (notification.isEmpty()) {
+					continue;
+				}
+				if (wsData.sendSerialized(notification)) {
+					bytes += notification.length();
+				}
 			}
+			PrometheusMetrics.WEBSOCKET_FANOUT_BYTES.labelValues(this.getId()).inc(bytes);
 		}
 	}
 
@@ -294,6 +310,7 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 				.append(this.server != null //
 						? this.server.debugLog() //
 						: "NOT STARTED") //
+				.append(", SubscribedEdges: ").append(this.subscriberIndex.size()) //
 				.toString();
 	}
 
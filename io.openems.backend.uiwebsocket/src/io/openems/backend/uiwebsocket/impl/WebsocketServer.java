@@ -27,7 +27,7 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
 	@Override
 	protected WsData createWsData(WebSocket ws) {
-		return new WsData(ws, this.requestLimit);
+		return new WsData(ws, this.requestLimit, this.parent.subscriberIndex);
 	}
 
 	@Override
@@ -13,6 +13,7 @@ import java.util.SortedSet;
 import java.util.UUID;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.exceptions.WebsocketNotConnectedException;
 
 import com.google.common.util.concurrent.RateLimiter;
 import com.google.gson.JsonElement;
@@ -50,6 +51,16 @@ public class WsData extends io.openems.common.websocket.WsData {
 			}
 		}
 
+		/**
+		 * Gets the subscribed Channels.
+		 *
+		 * @param edgeId the Edge-ID
+		 * @return the Channels; null if there are none
+		 */
+		public synchronized SortedSet<String> getChannels(String edgeId) {
+			return this.subscribedChannels.get(edgeId);
+		}
+
 		/**
 		 * Gets the values for subscribed Channels.
 		 * 
@@ -67,7 +78,7 @@ public class WsData extends io.openems.common.websocket.WsData {
 			return result.a();
 		}
 
-		protected void dispose() {
+		protected synchronized void dispose() {
 			this.subscribedChannels.clear();
 		}
 	}
@@ -78,14 +89,20 @@ public class WsData extends io.openems.common.websocket.WsData {
 	private Optional<String> token = Optional.empty();
 	private volatile User user;
 
-	private Set<String> subscribedEdges = new HashSet<>();
+	private volatile Set<String> subscribedEdges = new HashSet<>();
 
+	private final SubscriberIndex subscriberIndex;
 	private final RateLimiter limiterGlobal;
 	private final RateLimiter limiterLogMessages = RateLimiter.create(5);
 
-	public WsData(WebSocket ws, int requestLimit) {
+	public WsData(WebSocket ws, int requestLimit, SubscriberIndex subscriberIndex) {
 		super(ws);
 		this.limiterGlobal = RateLimiter.create(requestLimit);
+		this.subscriberIndex = subscriberIndex;
+	}
+
+	public WsData(WebSocket ws, int requestLimit) {
+		this(ws, requestLimit, new SubscriberIndex());
 	}
 
 	/**
@@ -207,9 +224,11 @@ public class WsData extends io.openems.common.websocket.WsData {
 	 * 
 	 * @param edgeIds the edges to subscribe
 	 */
-	public void handleSubscribeEdgesRequest(Set<String> edgeIds) {
+	public synchronized void handleSubscribeEdgesRequest(Set<String> edgeIds) {
 		// TODO maybe only add and remove on explicit request
+		final var previous = this.subscribedEdges;
 		this.subscribedEdges = edgeIds;
+		this.subscriberIndex.update(this, previous, edgeIds);
 	}
 
 	/**
@@ -231,6 +250,39 @@ public class WsData extends io.openems.common.websocket.WsData {
 						new CurrentDataNotification(values)));
 	}
 
+	/**
+	 * Gets the subscribed Channels of an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return the Channels; null if there are none
+	 */
+	public SortedSet<String> getSubscribedChannels(String edgeId) {
+		return this.subscribedChannels.getChannels(edgeId);
+	}
+
+	/**
+	 * Sends an already serialized JSON-RPC Notification to the UI session.
+	 *
+	 * <p>
+	 * Allows to serialize a Notification once for multiple UI sessions.
+	 *
+	 * @param notification the serialized JSON-RPC Notification
+	 * @return true if sending was successful; false otherwise
+	 */
+	public boolean sendSerialized(String notification) {
+		final var ws = this.getWebsocket();
+		if (ws == null || !ws.isOpen()) {
+			return false;
+		}
+		try {
+			ws.send(notification);
+			return true;
+		} catch (WebsocketNotConnectedException e) {
+			// handles corner cases
+			return false;
+		}
+	}
+
 	/**
 	 * Is the given Edge subscribed by this UI session?.
 	 * 
@@ -249,6 +301,10 @@ public class WsData extends io.openems.common.websocket.WsData {
 	public void dispose() {
 		super.dispose();
 		this.subscribedChannels.dispose();
+		synchronized (this) {
+			this.subscriberIndex.remove(this, this.subscribedEdges);
+			this.subscribedEdges = new HashSet<>();
+		}
 	}
 
 }
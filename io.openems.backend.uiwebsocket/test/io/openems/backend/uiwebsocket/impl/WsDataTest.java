@@ -2,8 +2,10 @@ package io.openems.backend.uiwebsocket.impl;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.Test;
 
@@ -32,4 +34,26 @@ public class WsDataTest {
 		sut.logout();
 	}
 
+	@Test
+	public void testSubscriberIndex() {
+		var index = new SubscriberIndex();
+		var sut1 = new WsData(null, 10, index);
+		var sut2 = new WsData(null, 10, index);
+
+		sut1.handleSubscribeEdgesRequest(Set.of("edge0", "edge1"));
+		sut2.handleSubscribeEdgesRequest(Set.of("edge1"));
+		assertEquals(Set.of(sut1), index.get("edge0"));
+		assertEquals(Set.of(sut1, sut2), index.get("edge1"));
+
+		sut1.handleSubscribeEdgesRequest(Set.of("edge1", "edge2"));
+		assertTrue(index.get("edge0").isEmpty());
+		assertEquals(Set.of(sut1, sut2), index.get("edge1"));
+		assertEquals(Set.of(sut1), index.get("edge2"));
+
+		sut1.dispose();
+		assertEquals(Set.of(sut2), index.get("edge1"));
+		assertTrue(index.get("edge2").isEmpty());
+		assertEquals(1, index.size());
+	}
+
 }
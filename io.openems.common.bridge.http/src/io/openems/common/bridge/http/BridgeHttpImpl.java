@@ -10,6 +10,8 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferencePolicy;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
 import org.osgi.service.component.annotations.ReferenceScope;
 import org.osgi.service.component.annotations.ServiceScope;
 import org.slf4j.Logger;
@@ -35,7 +37,14 @@ public class BridgeHttpImpl implements BridgeHttp, BridgeHttpEventRaiser {
 
 	private final Logger log = LoggerFactory.getLogger(BridgeHttpImpl.class);
 
-	private final EndpointFetcher urlFetcher;
+	// Dynamic, so a configured EndpointFetcher with a higher service ranking is
+	// used without restarting the Components which use this bridge
+	@Reference(policy = ReferencePolicy.DYNAMIC, policyOption = ReferencePolicyOption.GREEDY)
+	private volatile EndpointFetcher urlFetcher;
+
+	// Passed to the services, so they always use the currently bound fetcher
+	private final EndpointFetcher currentUrlFetcher = (endpoint, mode, eventRaiser) -> this.urlFetcher
+			.fetchEndpoint(endpoint, mode, eventRaiser);
 	private final BridgeHttpExecutor pool;
 	private final Map<HttpBridgeServiceDefinition<?>, HttpBridgeService> services = new ConcurrentHashMap<>();
 	private final Map<BridgeHttpEventDefinition<?>, List<BridgeHttpEventListener<?>>> listeners = new ConcurrentHashMap<>();
@@ -44,14 +53,20 @@ public class BridgeHttpImpl implements BridgeHttp, BridgeHttpEventRaiser {
 
 	@Activate
 	public BridgeHttpImpl(//
-			@Reference final EndpointFetcher urlFetcher, //
 			@Reference(scope = ReferenceScope.PROTOTYPE_REQUIRED) final BridgeHttpExecutor pool //
 	) {
 		super();
-		this.urlFetcher = urlFetcher;
 		this.pool = pool;
 	}
 
+	public BridgeHttpImpl(//
+			final EndpointFetcher urlFetcher, //
+			final BridgeHttpExecutor pool //
+	) {
+		this(pool);
+		this.urlFetcher = urlFetcher;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public synchronized <T extends HttpBridgeService> T createService(
@@ -60,7 +75,7 @@ public class BridgeHttpImpl implements BridgeHttp, BridgeHttpEventRaiser {
 		if (existingService != null) {
 			return (T) existingService;
 		}
-		final var service = serviceDefinition.create(this, this.pool, this.urlFetcher);
+		final var service = serviceDefinition.create(this, this.pool, this.currentUrlFetcher);
 		this.services.put(serviceDefinition, service);
 		return service;
 	}
@@ -94,7 +109,7 @@ public class BridgeHttpImpl implements BridgeHttp, BridgeHttpEventRaiser {
 		final var future = new CompletableFuture<HttpResponse<String>>();
 		this.pool.execute(() -> {
 			try {
-				final var result = this.urlFetcher.fetchEndpoint(endpoint, this.debugMode, this);
+				final var result = this.currentUrlFetcher.fetchEndpoint(endpoint, this.debugMode, this);
 				future.complete(result);
 			} catch (HttpError e) {
 				future.completeExceptionally(e);
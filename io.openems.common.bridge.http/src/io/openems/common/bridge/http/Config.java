@@ -0,0 +1,20 @@
+package io.openems.common.bridge.http;
+
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+
+@ObjectClassDefinition(//
+		name = "Bridge Http HttpClient", //
+		description = "Fetches Http endpoints with a java.net.http.HttpClient, which keeps connections alive. "
+				+ "Replaces the default endpoint fetcher while it is configured.")
+@interface Config {
+
+	@AttributeDefinition(name = "Max concurrent requests per host", //
+			description = "Maximum number of requests that are sent to the same host at the same time")
+	int maxConcurrentRequestsPerHost() default HttpClientEndpointFetcher.DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST;
+
+	@AttributeDefinition(name = "Service Ranking", //
+			description = "The endpoint fetcher with the highest ranking is used; the default one has ranking 0")
+	int service_ranking() default 10;
+
+}
@@ -0,0 +1,261 @@
+package io.openems.common.bridge.http;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.metatype.annotations.Designate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.bridge.http.api.BridgeHttp;
+import io.openems.common.bridge.http.api.BridgeHttpEventRaiser;
+import io.openems.common.bridge.http.api.EndpointFetcher;
+import io.openems.common.bridge.http.api.EndpointFetcherEvents;
+import io.openems.common.bridge.http.api.HttpError;
+import io.openems.common.bridge.http.api.HttpResponse;
+import io.openems.common.types.DebugMode;
+import io.openems.common.types.HttpStatus;
+
+/**
+ * {@link EndpointFetcher} based on {@link HttpClient}.
+ *
+ * <p>
+ * In contrast to the {@link NetworkEndpointFetcher} connections are kept alive
+ * and reused for following requests to the same host. HTTPS requests negotiate
+ * HTTP/2, so concurrent requests to the same host are multiplexed over one
+ * connection; plain HTTP requests use HTTP/1.1 to not confuse devices which do
+ * not understand an upgrade request.
+ *
+ * <p>
+ * The number of concurrent requests per host is limited, so a slow device is
+ * not flooded with requests. Like in the {@link NetworkEndpointFetcher} the
+ * lines of the response body are joined with {@link System#lineSeparator()},
+ * without a trailing line separator.
+ *
+ * <p>
+ * The component is opt-in: it is only active if it is configured, and then
+ * replaces the {@link NetworkEndpointFetcher} by its higher service ranking,
+ * also in already active {@link BridgeHttpImpl}s.
+ */
+@Designate(ocd = Config.class, factory = false)
+@Component(//
+		name = "Bridge.Http.HttpClient", //
+		configurationPolicy = ConfigurationPolicy.REQUIRE //
+)
+public class HttpClientEndpointFetcher implements EndpointFetcher {
+
+	public static final int DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST = 4;
+
+	// Headers which are set by the HttpClient itself and must not be set manually
+	private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host",
+			"upgrade");
+
+	private final Logger log = LoggerFactory.getLogger(HttpClientEndpointFetcher.class);
+	private final AtomicLong idCounter = new AtomicLong();
+
+	private final int maxConcurrentRequestsPerHost;
+	// The connect timeout can only be set per HttpClient
+	private final Map<Integer, HttpClient> clientsByConnectTimeout = new ConcurrentHashMap<>();
+	private final Map<String, Semaphore> hostLimits = new ConcurrentHashMap<>();
+
+	@Activate
+	public HttpClientEndpointFetcher(Config config) {
+		this(config.maxConcurrentRequestsPerHost());
+	}
+
+	public HttpClientEndpointFetcher(int maxConcurrentRequestsPerHost) {
+		if (maxConcurrentRequestsPerHost < 1) {
+			throw new IllegalArgumentException(
+					"Max concurrent requests per host must be positive: " + maxConcurrentRequestsPerHost);
+		}
+		this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
+	}
+
+	/**
+	 * Deactivate method.
+	 */
+	@Deactivate
+	public void deactivate() {
+		this.clientsByConnectTimeout.values().forEach(HttpClient::shutdownNow);
+		this.clientsByConnectTimeout.clear();
+		this.hostLimits.clear();
+	}
+
+	@Override
+	public HttpResponse<String> fetchEndpoint(//
+			final BridgeHttp.Endpoint endpoint, //
+			final DebugMode mode, //
+			final BridgeHttpEventRaiser eventRaiser //
+	) throws HttpError {
+		final var requestId = this.idCounter.incrementAndGet();
+		eventRaiser.raiseEvent(EndpointFetcherEvents.REQUEST_START,
+				new EndpointFetcherEvents.RequestStartEvent(requestId, endpoint));
+		try {
+			final var result = this.fetchEndpointInternal(endpoint, mode);
+
+			eventRaiser.raiseEvent(EndpointFetcherEvents.REQUEST_SUCCESS,
+					new EndpointFetcherEvents.RequestSuccessEvent(requestId, result, endpoint));
+
+			return result;
+		} catch (Exception e) {
+			eventRaiser.raiseEvent(EndpointFetcherEvents.REQUEST_FAILED,
+					new EndpointFetcherEvents.RequestFailedEvent(requestId, e, endpoint));
+			throw e;
+		} finally {
+			eventRaiser.raiseEvent(EndpointFetcherEvents.REQUEST_FINISHED,
+					new EndpointFetcherEvents.RequestFinishedEvent(requestId, endpoint));
+		}
+	}
+
+	private HttpResponse<String> fetchEndpointInternal(//
+			final BridgeHttp.Endpoint endpoint, //
+			final DebugMode mode //
+	) throws HttpError {
+		if (mode == DebugMode.DETAILED) {
+			this.log.info("Fetching Endpoint for request endpoint: {}", endpoint);
+		}
+
+		final var uri = URI.create(endpoint.url());
+		final var request = this.buildRequest(uri, endpoint);
+		final var client = this.clientsByConnectTimeout.computeIfAbsent(endpoint.connectTimeout(),
+				HttpClientEndpointFetcher::createClient);
+
+		final var hostLimit = this.hostLimits.computeIfAbsent(hostKey(uri),
+				t -> new Semaphore(this.maxConcurrentRequestsPerHost, true));
+		try {
+			acquire(hostLimit, endpoint.connectTimeout(), uri);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HttpError.UnknownError(e);
+		}
+		try {
+			final var response = send(client, request, endpoint);
+			// HTTP/2 has no reason phrase, so only predefined status have a description
+			final var status = HttpStatus.fromCodeOrCustom(response.statusCode(), "");
+			if (mode.equals(DebugMode.DETAILED)) {
+				this.log.info("Headers: {}", response.headers().map());
+			}
+
+			final var body = response.body().lines() //
+					.collect(joining(System.lineSeparator()));
+
+			if (status.isError()) {
+				throw new HttpError.ResponseError(status, body);
+			}
+			if (mode.equals(DebugMode.DETAILED)) {
+				this.log.info("Fetched Endpoint for request: " + "\n" //
+						+ "endpoint: " + endpoint + "\n" //
+						+ "result: " + body //
+				);
+			}
+
+			return new HttpResponse<>(status, response.headers().map(), body);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HttpError.UnknownError(e);
+		} finally {
+			hostLimit.release();
+		}
+	}
+
+	private HttpRequest buildRequest(URI uri, BridgeHttp.Endpoint endpoint) {
+		final var builder = HttpRequest.newBuilder(uri) //
+				.version("https".equalsIgnoreCase(uri.getScheme()) //
+						? HttpClient.Version.HTTP_2 //
+						: HttpClient.Version.HTTP_1_1);
+		if (endpoint.readTimeout() > 0) {
+			builder.timeout(Duration.ofMillis(endpoint.readTimeout()));
+		}
+
+		endpoint.properties().forEach((key, value) -> {
+			if (!RESTRICTED_HEADERS.contains(key.toLowerCase(Locale.ROOT))) {
+				builder.header(key, value);
+			}
+		});
+
+		final var publisher = endpoint.method().isBodyAllowed() && endpoint.body() != null //
+				? BodyPublishers.ofString(endpoint.body(), UTF_8) //
+				: BodyPublishers.noBody();
+		return builder.method(endpoint.method().name(), publisher) //
+				.build();
+	}
+
+	/**
+	 * Sends the request and reads the whole response body. The read timeout of the
+	 * {@link BridgeHttp.Endpoint} only applies until the response headers are
+	 * received, so the whole exchange is additionally limited to the sum of the
+	 * connect and read timeout.
+	 *
+	 * @param client   the {@link HttpClient}
+	 * @param request  the {@link HttpRequest}
+	 * @param endpoint the {@link BridgeHttp.Endpoint}
+	 * @return the response with the body as {@link String}
+	 * @throws InterruptedException  if interrupted while waiting
+	 * @throws HttpError.UnknownError on error or timeout
+	 */
+	private static java.net.http.HttpResponse<String> send(HttpClient client, HttpRequest request,
+			BridgeHttp.Endpoint endpoint) throws InterruptedException, HttpError.UnknownError {
+		final var future = client.sendAsync(request, BodyHandlers.ofString(UTF_8));
+		try {
+			if (endpoint.readTimeout() <= 0) {
+				return future.get();
+			}
+			final var timeout = endpoint.readTimeout() + Math.max(0, endpoint.connectTimeout());
+			return future.get(timeout, TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			throw new HttpError.UnknownError(e.getCause());
+		} catch (TimeoutException e) {
+			throw new HttpError.UnknownError(e);
+		} finally {
+			// Aborts the exchange if it is still running
+			future.cancel(true);
+		}
+	}
+
+	private static HttpClient createClient(int connectTimeout) {
+		final var builder = HttpClient.newBuilder() //
+				.version(HttpClient.Version.HTTP_2) //
+				.followRedirects(HttpClient.Redirect.NORMAL);
+		if (connectTimeout > 0) {
+			builder.connectTimeout(Duration.ofMillis(connectTimeout));
+		}
+		return builder.build();
+	}
+
+	private static void acquire(Semaphore hostLimit, int timeout, URI uri)
+			throws InterruptedException, HttpError.UnknownError {
+		if (timeout <= 0) {
+			hostLimit.acquire();
+			return;
+		}
+		if (!hostLimit.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+			throw new HttpError.UnknownError(new TimeoutException(
+					"Too many concurrent requests to [" + hostKey(uri) + "]; waited [" + timeout + "ms]"));
+		}
+	}
+
+	private static String hostKey(URI uri) {
+		return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+	}
+
+}
@@ -1,7 +1,6 @@
 package io.openems.common.bridge.http.metric;
 
 import java.time.Duration;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -21,7 +20,7 @@ public class HttpBridgeMetricService<T> implements HttpBridgeService {
 			final BridgeHttp bridgeHttp, //
 			final Function<BridgeHttp.Endpoint, T> groupingFunction //
 	) {
-		this.metricGroups = new HashMap<>();
+		this.metricGroups = new ConcurrentHashMap<>();
 		final var requestTimer = new ConcurrentHashMap<Long, Long>();
 		final var requestStartDisposable = bridgeHttp.subscribeEvent(EndpointFetcherEvents.REQUEST_START, eventData -> {
 			this.metricGroups.compute(groupingFunction.apply(eventData.endpoint()), (endpoint, metricGroup) -> {
@@ -31,7 +30,7 @@ public class HttpBridgeMetricService<T> implements HttpBridgeService {
 				return metricGroup.withRequestStartetCount(metricGroup.requestStartetCount() + 1);
 			});
 
-			requestTimer.put(eventData.requestId(), System.currentTimeMillis());
+			requestTimer.put(eventData.requestId(), System.nanoTime());
 		});
 
 		final var requestFinishedDisposable = bridgeHttp.subscribeEvent(EndpointFetcherEvents.REQUEST_FINISHED,
@@ -40,7 +39,7 @@ public class HttpBridgeMetricService<T> implements HttpBridgeService {
 					if (startTime == null) {
 						return;
 					}
-					final var duration = Duration.ofMillis(System.currentTimeMillis() - startTime);
+					final var duration = Duration.ofNanos(System.nanoTime() - startTime);
 
 					this.metricGroups.compute(groupingFunction.apply(eventData.endpoint()), (endpoint, metricGroup) -> {
 						if (metricGroup == null) {
@@ -49,7 +48,8 @@ public class HttpBridgeMetricService<T> implements HttpBridgeService {
 						return metricGroup.withRequestFinishedCount(metricGroup.requestFinishedCount() + 1)
 								.withMaxDuration(metricGroup.maxDuration().compareTo(duration) < 0 ? duration
 										: metricGroup.maxDuration())
-								.withWholeDuration(metricGroup.wholeDuration().plus(duration));
+								.withWholeDuration(metricGroup.wholeDuration().plus(duration))
+								.withLatencyHistogram(metricGroup.latencyHistogram().record(duration));
 					});
 				});
 
@@ -0,0 +1,172 @@
+package io.openems.common.bridge.http.metric;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable histogram of request durations with fixed bucket upper bounds.
+ *
+ * <p>
+ * A duration is counted in the first bucket whose upper bound is greater or
+ * equal to the duration. Durations above the last bound are counted in an
+ * additional overflow bucket.
+ */
+public final class LatencyHistogram {
+
+	/**
+	 * The default bucket upper bounds.
+	 */
+	public static final List<Duration> DEFAULT_BOUNDS = List.of(//
+			Duration.ofMillis(10), //
+			Duration.ofMillis(25), //
+			Duration.ofMillis(50), //
+			Duration.ofMillis(100), //
+			Duration.ofMillis(250), //
+			Duration.ofMillis(500), //
+			Duration.ofSeconds(1), //
+			Duration.ofMillis(2500), //
+			Duration.ofSeconds(5), //
+			Duration.ofSeconds(10) //
+	);
+
+	private static final LatencyHistogram EMPTY = new LatencyHistogram(DEFAULT_BOUNDS);
+
+	private final List<Duration> bounds;
+	private final long[] counts;
+
+	/**
+	 * Gets an empty {@link LatencyHistogram} with the {@link #DEFAULT_BOUNDS}.
+	 *
+	 * @return the empty {@link LatencyHistogram}
+	 */
+	public static LatencyHistogram empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Creates an empty {@link LatencyHistogram} with the given bucket upper bounds.
+	 *
+	 * @param bounds the ascending bucket upper bounds
+	 */
+	public LatencyHistogram(List<Duration> bounds) {
+		for (var i = 1; i < bounds.size(); i++) {
+			if (bounds.get(i - 1).compareTo(bounds.get(i)) >= 0) {
+				throw new IllegalArgumentException("Bounds must be strictly ascending: " + bounds);
+			}
+		}
+		this.bounds = List.copyOf(bounds);
+		this.counts = new long[bounds.size() + 1];
+	}
+
+	private LatencyHistogram(List<Duration> bounds, long[] counts) {
+		this.bounds = bounds;
+		this.counts = counts;
+	}
+
+	/**
+	 * Creates a new {@link LatencyHistogram} with the given duration counted.
+	 *
+	 * @param duration the duration of a request
+	 * @return a new {@link LatencyHistogram} instance
+	 */
+	public LatencyHistogram record(Duration duration) {
+		final var counts = this.counts.clone();
+		counts[this.bucketOf(duration)]++;
+		return new LatencyHistogram(this.bounds, counts);
+	}
+
+	/**
+	 * Gets the bucket upper bounds.
+	 *
+	 * @return the bucket upper bounds; the overflow bucket has no bound
+	 */
+	public List<Duration> bounds() {
+		return this.bounds;
+	}
+
+	/**
+	 * Gets the counts per bucket. The last count is the overflow bucket.
+	 *
+	 * @return a copy of the counts; length is number of bounds + 1
+	 */
+	public long[] counts() {
+		return this.counts.clone();
+	}
+
+	/**
+	 * Gets the number of recorded durations.
+	 *
+	 * @return the total count
+	 */
+	public long totalCount() {
+		return Arrays.stream(this.counts).sum();
+	}
+
+	/**
+	 * Estimates the given percentile as the upper bound of the bucket which
+	 * contains it.
+	 *
+	 * @param percentile the percentile between 0 and 1, e.g. 0.95
+	 * @return the upper bound of the bucket; null if the percentile lies in the
+	 *         overflow bucket; {@link Duration#ZERO} if nothing was recorded
+	 */
+	public Duration percentile(double percentile) {
+		if (percentile < 0 || percentile > 1) {
+			throw new IllegalArgumentException("Percentile must be between 0 and 1: " + percentile);
+		}
+		final var total = this.totalCount();
+		if (total == 0) {
+			return Duration.ZERO;
+		}
+		final var rank = Math.max(1, (long) Math.ceil(percentile * total));
+		var cumulative = 0L;
+		for (var i = 0; i < this.bounds.size(); i++) {
+			cumulative += this.counts[i];
+			if (cumulative >= rank) {
+				return this.bounds.get(i);
+			}
+		}
+		return null;
+	}
+
+	private int bucketOf(Duration duration) {
+		for (var i = 0; i < this.bounds.size(); i++) {
+			if (duration.compareTo(this.bounds.get(i)) <= 0) {
+				return i;
+			}
+		}
+		return this.bounds.size();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof LatencyHistogram other)) {
+			return false;
+		}
+		return this.bounds.equals(other.bounds) && Arrays.equals(this.counts, other.counts);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * this.bounds.hashCode() + Arrays.hashCode(this.counts);
+	}
+
+	@Override
+	public String toString() {
+		final var sb = new StringBuilder("LatencyHistogram{");
+		for (var i = 0; i < this.counts.length; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(i < this.bounds.size() ? "<=" + this.bounds.get(i).toMillis() + "ms" : "+Inf") //
+					.append('=') //
+					.append(this.counts[i]);
+		}
+		return sb.append('}').toString();
+	}
+
+}
@@ -8,13 +8,20 @@ public record MetricGroup(//
 		long requestSuccessCount, //
 		long requestFailedCount, //
 		Duration wholeDuration, //
-		Duration maxDuration //
+		Duration maxDuration, //
+		LatencyHistogram latencyHistogram //
 ) {
 
 	public MetricGroup() {
 		this(0, 0, 0, 0, Duration.ZERO, Duration.ZERO);
 	}
 
+	public MetricGroup(long requestStartetCount, long requestFinishedCount, long requestSuccessCount,
+			long requestFailedCount, Duration wholeDuration, Duration maxDuration) {
+		this(requestStartetCount, requestFinishedCount, requestSuccessCount, requestFailedCount, wholeDuration,
+				maxDuration, LatencyHistogram.empty());
+	}
+
 	/**
 	 * Creates a new MetricGroup with updated requestStartetCount.
 	 *
@@ -23,7 +30,7 @@ public record MetricGroup(//
 	 */
 	public MetricGroup withRequestStartetCount(long count) {
 		return new MetricGroup(count, this.requestFinishedCount, this.requestSuccessCount, this.requestFailedCount,
-				this.wholeDuration, this.maxDuration);
+				this.wholeDuration, this.maxDuration, this.latencyHistogram);
 	}
 
 	/**
@@ -34,7 +41,7 @@ public record MetricGroup(//
 	 */
 	public MetricGroup withRequestFinishedCount(long count) {
 		return new MetricGroup(this.requestStartetCount, count, this.requestSuccessCount, this.requestFailedCount,
-				this.wholeDuration, this.maxDuration);
+				this.wholeDuration, this.maxDuration, this.latencyHistogram);
 	}
 
 	/**
@@ -45,7 +52,7 @@ public record MetricGroup(//
 	 */
 	public MetricGroup withRequestSuccessCount(long count) {
 		return new MetricGroup(this.requestStartetCount, this.requestFinishedCount, count, this.requestFailedCount,
-				this.wholeDuration, this.maxDuration);
+				this.wholeDuration, this.maxDuration, this.latencyHistogram);
 	}
 
 	/**
@@ -56,7 +63,7 @@ public record MetricGroup(//
 	 */
 	public MetricGroup withRequestFailedCount(long count) {
 		return new MetricGroup(this.requestStartetCount, this.requestFinishedCount, this.requestSuccessCount, count,
-				this.wholeDuration, this.maxDuration);
+				this.wholeDuration, this.maxDuration, this.latencyHistogram);
 	}
 
 	/**
@@ -67,7 +74,7 @@ public record MetricGroup(//
 	 */
 	public MetricGroup withWholeDuration(Duration duration) {
 		return new MetricGroup(this.requestStartetCount, this.requestFinishedCount, this.requestSuccessCount,
-				this.requestFailedCount, duration, this.maxDuration);
+				this.requestFailedCount, duration, this.maxDuration, this.latencyHistogram);
 	}
 
 	/**
@@ -78,7 +85,18 @@ public record MetricGroup(//
 	 */
 	public MetricGroup withMaxDuration(Duration duration) {
 		return new MetricGroup(this.requestStartetCount, this.requestFinishedCount, this.requestSuccessCount,
-				this.requestFailedCount, this.wholeDuration, duration);
+				this.requestFailedCount, this.wholeDuration, duration, this.latencyHistogram);
+	}
+
+	/**
+	 * Creates a new MetricGroup with updated latencyHistogram.
+	 *
+	 * @param histogram The new latencyHistogram.
+	 * @return A new MetricGroup instance with the updated latencyHistogram.
+	 */
+	public MetricGroup withLatencyHistogram(LatencyHistogram histogram) {
+		return new MetricGroup(this.requestStartetCount, this.requestFinishedCount, this.requestSuccessCount,
+				this.requestFailedCount, this.wholeDuration, this.maxDuration, histogram);
 	}
 
 	/**
@@ -104,6 +122,7 @@ public record MetricGroup(//
 				+ ", wholeDuration=" + this.wholeDuration //
 				+ ", maxDuration=" + this.maxDuration //
 				+ ", averageDuration=" + this.averageDuration() //
+				+ ", latencyHistogram=" + this.latencyHistogram //
 				+ '}';
 	}
 
@@ -0,0 +1,243 @@
+package io.openems.common.bridge.http;
+
+import static io.openems.common.utils.ReflectionUtils.getValueViaReflection;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.openems.common.bridge.http.api.BridgeHttp;
+import io.openems.common.bridge.http.api.BridgeHttpEventDefinition;
+import io.openems.common.bridge.http.api.BridgeHttpEventRaiser;
+import io.openems.common.bridge.http.api.EndpointFetcherEvents;
+import io.openems.common.bridge.http.api.HttpError;
+import io.openems.common.bridge.http.api.HttpMethod;
+import io.openems.common.types.DebugMode;
+
+public class HttpClientEndpointFetcherTest {
+
+	private static final BridgeHttpEventRaiser NO_EVENTS = new BridgeHttpEventRaiser() {
+
+		@Override
+		public <T> void raiseEvent(BridgeHttpEventDefinition<T> eventDefinition, T eventData) {
+			// ignore
+		}
+	};
+
+	private final AtomicInteger concurrentRequests = new AtomicInteger();
+	private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+
+	private final List<Integer> echoClientPorts = new CopyOnWriteArrayList<>();
+
+	private final CountDownLatch stalled = new CountDownLatch(1);
+
+	private ExecutorService serverExecutor;
+	private HttpServer server;
+	private HttpClientEndpointFetcher fetcher;
+
+	@Before
+	public void setUp() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		this.serverExecutor = Executors.newCachedThreadPool();
+		this.server.setExecutor(this.serverExecutor);
+		this.server.createContext("/echo", exchange -> {
+			this.echoClientPorts.add(exchange.getRemoteAddress().getPort());
+			final var request = new String(exchange.getRequestBody().readAllBytes(), UTF_8);
+			respond(exchange, 200, exchange.getRequestMethod() + " " + request + " "
+					+ exchange.getRequestHeaders().getFirst("X-Test"));
+		});
+		this.server.createContext("/large", exchange -> {
+			respond(exchange, 200, "x".repeat(100_000));
+		});
+		this.server.createContext("/lines", exchange -> {
+			respond(exchange, 200, "first\r\nsecond\nthird\n");
+		});
+		this.server.createContext("/stall", exchange -> {
+			// Sends the headers, but not the whole body
+			exchange.sendResponseHeaders(200, 100);
+			exchange.getResponseBody().write("x".repeat(10).getBytes(UTF_8));
+			exchange.getResponseBody().flush();
+			try {
+				this.stalled.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			exchange.close();
+		});
+		this.server.createContext("/error", exchange -> {
+			respond(exchange, 404, "not here");
+		});
+		this.server.createContext("/slow", exchange -> {
+			final var current = this.concurrentRequests.incrementAndGet();
+			this.maxConcurrentRequests.accumulateAndGet(current, Math::max);
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			this.concurrentRequests.decrementAndGet();
+			respond(exchange, 200, "slow");
+		});
+		this.server.start();
+		this.fetcher = new HttpClientEndpointFetcher(2);
+	}
+
+	@After
+	public void tearDown() {
+		this.stalled.countDown();
+		this.fetcher.deactivate();
+		this.server.stop(0);
+		this.serverExecutor.shutdownNow();
+	}
+
+	@Test
+	public void testFetchEndpoint() throws Exception {
+		final var endpoint = BridgeHttp.create(this.url("/echo")) //
+				.setMethod(HttpMethod.POST) //
+				.setHeader("X-Test", "header") //
+				.setBody("body") //
+				.build();
+
+		for (var i = 0; i < 3; i++) {
+			final var response = this.fetcher.fetchEndpoint(endpoint, DebugMode.OFF, NO_EVENTS);
+			assertEquals(200, response.status().code());
+			assertEquals("POST body header", response.data());
+		}
+	}
+
+	@Test
+	public void testFetchEndpoint_ReusesConnection() throws Exception {
+		final var endpoint = BridgeHttp.create(this.url("/echo")).build();
+
+		for (var i = 0; i < 3; i++) {
+			this.fetcher.fetchEndpoint(endpoint, DebugMode.OFF, NO_EVENTS);
+		}
+
+		// All requests are sent over the same connection
+		assertEquals(3, this.echoClientPorts.size());
+		assertEquals(1, this.echoClientPorts.stream().distinct().count());
+	}
+
+	@Test
+	public void testFetchEndpoint_LargeBody() throws Exception {
+		final var endpoint = BridgeHttp.create(this.url("/large")).build();
+
+		final var response = this.fetcher.fetchEndpoint(endpoint, DebugMode.OFF, NO_EVENTS);
+		assertEquals(100_000, response.data().length());
+	}
+
+	@Test
+	public void testFetchEndpoint_LineSeparator() throws Exception {
+		final var endpoint = BridgeHttp.create(this.url("/lines")).build();
+
+		final var response = this.fetcher.fetchEndpoint(endpoint, DebugMode.OFF, NO_EVENTS);
+		assertEquals(String.join(System.lineSeparator(), "first", "second", "third"), response.data());
+	}
+
+	@Test
+	public void testFetchEndpoint_BodyReadTimeout() {
+		final var endpoint = BridgeHttp.create(this.url("/stall")) //
+				.setConnectTimeout(100) //
+				.setReadTimeout(200) //
+				.build();
+
+		final var error = assertThrows(HttpError.UnknownError.class,
+				() -> this.fetcher.fetchEndpoint(endpoint, DebugMode.OFF, NO_EVENTS));
+		assertTrue(error.getCause() instanceof TimeoutException);
+	}
+
+	@Test
+	public void testDeactivate() throws Exception {
+		final var endpoint = BridgeHttp.create(this.url("/echo")).build();
+		this.fetcher.fetchEndpoint(endpoint, DebugMode.OFF, NO_EVENTS);
+
+		final Map<String, ?> hostLimits = getValueViaReflection(this.fetcher, "hostLimits");
+		assertEquals(1, hostLimits.size());
+
+		this.fetcher.deactivate();
+		assertTrue(hostLimits.isEmpty());
+	}
+
+	@Test
+	public void testFetchEndpoint_ResponseError() {
+		final var endpoint = BridgeHttp.create(this.url("/error")).build();
+
+		final var error = assertThrows(HttpError.ResponseError.class,
+				() -> this.fetcher.fetchEndpoint(endpoint, DebugMode.OFF, NO_EVENTS));
+		assertEquals(404, error.status.code());
+		assertEquals("not here", error.body);
+	}
+
+	@Test
+	public void testFetchEndpoint_Events() throws Exception {
+		final var endpoint = BridgeHttp.create(this.url("/error")).build();
+		final var events = new ArrayList<BridgeHttpEventDefinition<?>>();
+
+		assertThrows(HttpError.class, () -> this.fetcher.fetchEndpoint(endpoint, DebugMode.OFF,
+				new BridgeHttpEventRaiser() {
+
+					@Override
+					public <T> void raiseEvent(BridgeHttpEventDefinition<T> eventDefinition, T eventData) {
+						events.add(eventDefinition);
+					}
+				}));
+		assertEquals(List.of(EndpointFetcherEvents.REQUEST_START, EndpointFetcherEvents.REQUEST_FAILED,
+				EndpointFetcherEvents.REQUEST_FINISHED), events);
+	}
+
+	@Test
+	public void testFetchEndpoint_ConcurrencyLimitPerHost() throws Exception {
+		final var endpoint = BridgeHttp.create(this.url("/slow")).build();
+
+		final var futures = new ArrayList<CompletableFuture<Void>>();
+		try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (var i = 0; i < 8; i++) {
+				futures.add(CompletableFuture.runAsync(() -> {
+					try {
+						this.fetcher.fetchEndpoint(endpoint, DebugMode.OFF, NO_EVENTS);
+					} catch (HttpError e) {
+						throw new RuntimeException(e);
+					}
+				}, executor));
+			}
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+		}
+
+		assertEquals(2, this.maxConcurrentRequests.get());
+	}
+
+	private String url(String path) {
+		return "http://127.0.0.1:" + this.server.getAddress().getPort() + path;
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		final var bytes = body.getBytes(UTF_8);
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (var os = exchange.getResponseBody()) {
+			os.write(bytes);
+		}
+	}
+
+}
@@ -0,0 +1,52 @@
+package io.openems.common.bridge.http.metric;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void testRecord() {
+		final var empty = new LatencyHistogram(List.of(Duration.ofMillis(10), Duration.ofMillis(100)));
+		final var histogram = empty //
+				.record(Duration.ofMillis(5)) //
+				.record(Duration.ofMillis(10)) //
+				.record(Duration.ofMillis(50)) //
+				.record(Duration.ofSeconds(1));
+
+		assertArrayEquals(new long[] { 0, 0, 0 }, empty.counts());
+		assertArrayEquals(new long[] { 2, 1, 1 }, histogram.counts());
+		assertEquals(4, histogram.totalCount());
+	}
+
+	@Test
+	public void testPercentile() {
+		var histogram = LatencyHistogram.empty();
+		assertEquals(Duration.ZERO, histogram.percentile(0.5));
+
+		for (var i = 0; i < 9; i++) {
+			histogram = histogram.record(Duration.ofMillis(20));
+		}
+		histogram = histogram.record(Duration.ofMillis(400));
+
+		assertEquals(Duration.ofMillis(25), histogram.percentile(0.5));
+		assertEquals(Duration.ofMillis(25), histogram.percentile(0.9));
+		assertEquals(Duration.ofMillis(500), histogram.percentile(0.95));
+		assertNull(histogram.record(Duration.ofMinutes(1)).record(Duration.ofMinutes(1)).percentile(1));
+	}
+
+	@Test
+	public void testInvalidArguments() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new LatencyHistogram(List.of(Duration.ofMillis(100), Duration.ofMillis(10))));
+		assertThrows(IllegalArgumentException.class, () -> LatencyHistogram.empty().percentile(1.5));
+	}
+
+}
@@ -104,4 +104,15 @@ public class MetricGroupTest {
 
 		assertEquals(Duration.ofSeconds(1), averageDuration);
 	}
+
+	@Test
+	public void withLatencyHistogram() {
+		final var histogram = LatencyHistogram.empty().record(DEFAULT_DURATION);
+		this.metricGroup = this.metricGroup.withLatencyHistogram(histogram);
+
+		assertEquals(DEFAULT_REQUEST_COUNT, this.metricGroup.requestStartetCount());
+		assertEquals(DEFAULT_REQUEST_FINISHED_COUNT, this.metricGroup.requestFinishedCount());
+		assertEquals(DEFAULT_DURATION, this.metricGroup.wholeDuration());
+		assertEquals(histogram, this.metricGroup.latencyHistogram());
+	}
 }
\ No newline at end of file
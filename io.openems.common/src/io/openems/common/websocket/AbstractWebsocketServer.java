@@ -1,9 +1,11 @@
 package io.openems.common.websocket;
 
 import static io.openems.common.utils.ThreadPoolUtils.shutdownAndAwaitTermination;
+import static io.openems.common.websocket.WebsocketUtils.generateWsDataString;
 
 import java.net.BindException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -15,7 +17,10 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Predicate;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.drafts.Draft;
+import org.java_websocket.exceptions.InvalidDataException;
 import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.handshake.ServerHandshakeBuilder;
 import org.java_websocket.server.WebSocketServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,6 +66,14 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 			public void onStart() {
 			}
 
+			@Override
+			public ServerHandshakeBuilder onWebsocketHandshakeReceivedAsServer(WebSocket ws, Draft draft,
+					ClientHandshake request) throws InvalidDataException {
+				var response = super.onWebsocketHandshakeReceivedAsServer(ws, draft, request);
+				AbstractWebsocketServer.this.onHandshake(request, response);
+				return response;
+			}
+
 			@Override
 			public void onOpen(WebSocket ws, ClientHandshake handshake) {
 				T wsData = AbstractWebsocketServer.this.createWsData(ws);
@@ -83,6 +96,16 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 						AbstractWebsocketServer.this::logWarn));
 			}
 
+			@Override
+			public void onMessage(WebSocket ws, ByteBuffer message) {
+				// Called in order per connection; handled synchronously
+				try {
+					AbstractWebsocketServer.this.onBinaryMessage(ws, message);
+				} catch (Throwable t) {
+					AbstractWebsocketServer.this.handleInternalError(t, generateWsDataString(ws));
+				}
+			}
+
 			@Override
 			public void onError(WebSocket ws, Exception ex) {
 				AbstractWebsocketServer.this.execute(new OnErrorHandler(//
@@ -138,6 +161,33 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		this.ws.setReuseAddr(true);
 	}
 
+	/**
+	 * Callback for the websocket handshake; allows to add HTTP headers to the
+	 * response, e.g. to confirm a {@link BinaryDataEncoding}.
+	 *
+	 * @param request  the {@link ClientHandshake}
+	 * @param response the {@link ServerHandshakeBuilder}
+	 */
+	protected void onHandshake(ClientHandshake request, ServerHandshakeBuilder response) {
+	}
+
+	/**
+	 * Callback for a binary websocket message.
+	 *
+	 * <p>
+	 * Called synchronously in the order the messages of a connection were
+	 * received. Implementations should offload expensive tasks via
+	 * {@link #execute(Runnable)}.
+	 *
+	 * @param ws      the {@link WebSocket}
+	 * @param message the binary message
+	 * @throws Exception on error
+	 */
+	protected void onBinaryMessage(WebSocket ws, ByteBuffer message) throws Exception {
+		this.logWarn(this.log, "Unhandled binary message [" + message.remaining() + " bytes] from ["
+				+ generateWsDataString(ws) + "]");
+	}
+
 	/**
 	 * Returns a debug log of the current websocket state.
 	 * 
@@ -0,0 +1,222 @@
+package io.openems.common.websocket;
+
+import static io.openems.common.websocket.BinaryDataEncoding.MAX_CHANNELS;
+import static io.openems.common.websocket.BinaryDataEncoding.TAG_DOUBLE;
+import static io.openems.common.websocket.BinaryDataEncoding.TAG_FALSE;
+import static io.openems.common.websocket.BinaryDataEncoding.TAG_FLOAT;
+import static io.openems.common.websocket.BinaryDataEncoding.TAG_JSON;
+import static io.openems.common.websocket.BinaryDataEncoding.TAG_LONG;
+import static io.openems.common.websocket.BinaryDataEncoding.TAG_NULL;
+import static io.openems.common.websocket.BinaryDataEncoding.TAG_SAME;
+import static io.openems.common.websocket.BinaryDataEncoding.TAG_STRING;
+import static io.openems.common.websocket.BinaryDataEncoding.TAG_TRUE;
+import static io.openems.common.websocket.BinaryDataEncoding.TYPE_AGGREGATED;
+import static io.openems.common.websocket.BinaryDataEncoding.TYPE_RESEND;
+import static io.openems.common.websocket.BinaryDataEncoding.TYPE_TIMESTAMPED;
+import static io.openems.common.websocket.BinaryDataEncoding.VERSION;
+import static io.openems.common.websocket.BinaryDataEncoding.unzigzag;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Decodes binary websocket frames created by a {@link BinaryDataEncoder} to
+ * {@link AbstractDataNotification}s, as described in
+ * {@link BinaryDataEncoding}.
+ *
+ * <p>
+ * An instance holds the state of exactly one connection. Frames have to be
+ * decoded in the order they were received; after an error the state is
+ * undefined and the connection should be closed.
+ */
+public class BinaryDataDecoder {
+
+	private static final int INITIAL_CHANNELS = 256;
+	private static final JsonPrimitive TRUE = new JsonPrimitive(true);
+	private static final JsonPrimitive FALSE = new JsonPrimitive(false);
+
+	private String[] addresses = new String[INITIAL_CHANNELS];
+	private int size = 0;
+
+	// Last value per Channel-ID
+	private byte[] tags = new byte[INITIAL_CHANNELS];
+	private long[] bits = new long[INITIAL_CHANNELS];
+	private JsonElement[] values = new JsonElement[INITIAL_CHANNELS];
+
+	private long lastTimestamp = 0L;
+
+	/**
+	 * Decodes a binary frame.
+	 *
+	 * @param frame the binary frame
+	 * @return the {@link AbstractDataNotification}
+	 * @throws OpenemsException on error
+	 */
+	public synchronized AbstractDataNotification decode(ByteBuffer frame) throws OpenemsException {
+		try {
+			final var version = frame.get();
+			if (version != VERSION) {
+				throw new OpenemsException("Unsupported binary data version [" + version + "]");
+			}
+			final var type = frame.get();
+
+			final var data = TreeBasedTable.<Long, String, JsonElement>create();
+			for (var rows = readInt(frame); rows > 0; rows--) {
+				final var timestamp = this.lastTimestamp + unzigzag(readVarint(frame));
+				this.lastTimestamp = timestamp;
+
+				for (var cells = readInt(frame); cells > 0; cells--) {
+					final var id = this.readChannel(frame);
+					data.put(timestamp, this.addresses[id], this.readValue(frame, id));
+				}
+			}
+
+			return switch (type) {
+			case TYPE_TIMESTAMPED -> new TimestampedDataNotification(data);
+			case TYPE_AGGREGATED -> new AggregatedDataNotification(data);
+			case TYPE_RESEND -> new ResendDataNotification(data);
+			default -> throw new OpenemsException("Unsupported binary data type [" + type + "]");
+			};
+
+		} catch (BufferUnderflowException | IllegalArgumentException | JsonParseException e) {
+			throw new OpenemsException("Invalid binary data frame: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Gets the number of Channel-Addresses in the dictionary of this connection.
+	 *
+	 * @return the number of Channel-Addresses
+	 */
+	public synchronized int getNumberOfChannels() {
+		return this.size;
+	}
+
+	private int readChannel(ByteBuffer frame) throws OpenemsException {
+		final var id = readInt(frame);
+		if (id < this.size) {
+			return id;
+		}
+		if (id > this.size || id >= MAX_CHANNELS) {
+			throw new OpenemsException("Unknown Channel-ID [" + id + "]");
+		}
+
+		// New Channel
+		if (id == this.addresses.length) {
+			final var capacity = id * 2;
+			this.addresses = Arrays.copyOf(this.addresses, capacity);
+			this.tags = Arrays.copyOf(this.tags, capacity);
+			this.bits = Arrays.copyOf(this.bits, capacity);
+			this.values = Arrays.copyOf(this.values, capacity);
+		}
+		this.addresses[id] = readString(frame);
+		this.size++;
+		return id;
+	}
+
+	private JsonElement readValue(ByteBuffer frame, int id) throws OpenemsException {
+		final var tag = frame.get();
+		final JsonElement value;
+		final long bits;
+		switch (tag) {
+		case TAG_SAME -> {
+			if (this.values[id] == null) {
+				throw new OpenemsException("No previous value for [" + this.addresses[id] + "]");
+			}
+			return this.values[id];
+		}
+		case TAG_NULL -> {
+			value = JsonNull.INSTANCE;
+			bits = 0L;
+		}
+		case TAG_TRUE -> {
+			value = TRUE;
+			bits = 0L;
+		}
+		case TAG_FALSE -> {
+			value = FALSE;
+			bits = 0L;
+		}
+		case TAG_LONG -> {
+			final var previous = this.tags[id] == TAG_LONG ? this.bits[id] : 0L;
+			bits = previous + unzigzag(readVarint(frame));
+			value = new JsonPrimitive(bits);
+		}
+		case TAG_DOUBLE -> {
+			bits = readFixed(frame, 8);
+			value = new JsonPrimitive(Double.longBitsToDouble(bits));
+		}
+		case TAG_FLOAT -> {
+			bits = readFixed(frame, 4);
+			value = new JsonPrimitive(Float.intBitsToFloat((int) bits));
+		}
+		case TAG_STRING -> {
+			value = new JsonPrimitive(readString(frame));
+			bits = 0L;
+		}
+		case TAG_JSON -> {
+			value = JsonParser.parseString(readString(frame));
+			bits = 0L;
+		}
+		default -> throw new OpenemsException("Unsupported binary data tag [" + tag + "]");
+		}
+		this.tags[id] = tag;
+		this.bits[id] = bits;
+		this.values[id] = value;
+		return value;
+	}
+
+	private static String readString(ByteBuffer frame) {
+		final var length = readInt(frame);
+		if (length > frame.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		final var bytes = new byte[length];
+		frame.get(bytes);
+		return new String(bytes, UTF_8);
+	}
+
+	private static long readFixed(ByteBuffer frame, int bytes) {
+		var result = 0L;
+		for (var i = 0; i < bytes; i++) {
+			result |= (frame.get() & 0xFFL) << (8 * i);
+		}
+		return result;
+	}
+
+	private static int readInt(ByteBuffer frame) {
+		final var value = readVarint(frame);
+		if (value < 0 || value > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Value out of range [" + value + "]");
+		}
+		return (int) value;
+	}
+
+	private static long readVarint(ByteBuffer frame) {
+		var result = 0L;
+		for (var shift = 0; shift < 64; shift += 7) {
+			final var b = frame.get();
+			result |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new IllegalArgumentException("Varint too long");
+	}
+
+}
@@ -0,0 +1,226 @@
+package io.openems.common.websocket;
+
+import static io.openems.common.websocket.BinaryDataEncoding.TAG_DOUBLE;
+import static io.openems.common.websocket.BinaryDataEncoding.TAG_FALSE;
+import static io.openems.common.websocket.BinaryDataEncoding.TAG_FLOAT;
+import static io.openems.common.websocket.BinaryDataEncoding.TAG_JSON;
+import static io.openems.common.websocket.BinaryDataEncoding.TAG_LONG;
+import static io.openems.common.websocket.BinaryDataEncoding.TAG_NULL;
+import static io.openems.common.websocket.BinaryDataEncoding.TAG_SAME;
+import static io.openems.common.websocket.BinaryDataEncoding.TAG_STRING;
+import static io.openems.common.websocket.BinaryDataEncoding.TAG_TRUE;
+import static io.openems.common.websocket.BinaryDataEncoding.TYPE_AGGREGATED;
+import static io.openems.common.websocket.BinaryDataEncoding.TYPE_RESEND;
+import static io.openems.common.websocket.BinaryDataEncoding.TYPE_TIMESTAMPED;
+import static io.openems.common.websocket.BinaryDataEncoding.VERSION;
+import static io.openems.common.websocket.BinaryDataEncoding.zigzag;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Objects;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Encodes {@link AbstractDataNotification}s to binary websocket frames, as
+ * described in {@link BinaryDataEncoding}.
+ *
+ * <p>
+ * An instance holds the state of exactly one connection and must be replaced
+ * on reconnect. Frames have to be sent in the order they were encoded.
+ */
+public class BinaryDataEncoder {
+
+	private static final int INITIAL_CHANNELS = 256;
+
+	private final HashMap<String, Integer> ids = new HashMap<>();
+
+	// Last value per Channel-ID
+	private byte[] tags = new byte[INITIAL_CHANNELS];
+	private long[] bits = new long[INITIAL_CHANNELS];
+	private String[] strings = new String[INITIAL_CHANNELS];
+
+	private long lastTimestamp = 0L;
+
+	private byte[] buffer = new byte[4096];
+	private int position = 0;
+
+	/**
+	 * Encodes a {@link AbstractDataNotification}.
+	 *
+	 * @param notification the {@link AbstractDataNotification}
+	 * @return the binary frame
+	 */
+	public synchronized byte[] encode(AbstractDataNotification notification) {
+		this.position = 0;
+		this.writeByte(VERSION);
+		this.writeByte(switch (notification) {
+		case TimestampedDataNotification n -> TYPE_TIMESTAMPED;
+		case AggregatedDataNotification n -> TYPE_AGGREGATED;
+		case ResendDataNotification n -> TYPE_RESEND;
+		});
+
+		final var rows = notification.getData().rowMap();
+		this.writeVarint(rows.size());
+		for (var row : rows.entrySet()) {
+			final long timestamp = row.getKey();
+			this.writeVarint(zigzag(timestamp - this.lastTimestamp));
+			this.lastTimestamp = timestamp;
+
+			this.writeVarint(row.getValue().size());
+			for (var cell : row.getValue().entrySet()) {
+				final var id = this.writeChannel(cell.getKey());
+				this.writeValue(id, cell.getValue());
+			}
+		}
+		return Arrays.copyOf(this.buffer, this.position);
+	}
+
+	/**
+	 * Gets the number of Channel-Addresses in the dictionary of this connection.
+	 *
+	 * @return the number of Channel-Addresses
+	 */
+	public synchronized int getNumberOfChannels() {
+		return this.ids.size();
+	}
+
+	private int writeChannel(String address) {
+		final var id = this.ids.get(address);
+		if (id != null) {
+			this.writeVarint(id);
+			return id;
+		}
+
+		// New Channel: transfer Channel-Address once
+		final var newId = this.ids.size();
+		this.ids.put(address, newId);
+		if (newId == this.tags.length) {
+			final var capacity = newId * 2;
+			this.tags = Arrays.copyOf(this.tags, capacity);
+			this.bits = Arrays.copyOf(this.bits, capacity);
+			this.strings = Arrays.copyOf(this.strings, capacity);
+		}
+		this.writeVarint(newId);
+		this.writeString(address);
+		return newId;
+	}
+
+	private void writeValue(int id, JsonElement value) {
+		if (value == null || value.isJsonNull()) {
+			this.writeTag(id, TAG_NULL, 0L);
+
+		} else if (value instanceof JsonPrimitive p && p.isBoolean()) {
+			this.writeTag(id, p.getAsBoolean() ? TAG_TRUE : TAG_FALSE, 0L);
+
+		} else if (value instanceof JsonPrimitive p && p.isNumber()) {
+			this.writeNumber(id, p);
+
+		} else if (value instanceof JsonPrimitive p && p.isString()) {
+			final var s = p.getAsString();
+			if (this.tags[id] == TAG_STRING && s.equals(this.strings[id])) {
+				this.writeByte(TAG_SAME);
+				return;
+			}
+			this.writeTag(id, TAG_STRING, 0L);
+			this.strings[id] = s;
+			this.writeString(s);
+
+		} else {
+			// JsonObject, JsonArray
+			this.writeTag(id, TAG_JSON, 0L);
+			this.writeString(value.toString());
+		}
+	}
+
+	private void writeNumber(int id, JsonPrimitive p) {
+		final var n = p.getAsNumber();
+		if (n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte) {
+			final var value = n.longValue();
+			final var tag = this.tags[id];
+			if (tag == TAG_LONG && this.bits[id] == value) {
+				this.writeByte(TAG_SAME);
+				return;
+			}
+			final var previous = tag == TAG_LONG ? this.bits[id] : 0L;
+			this.writeTag(id, TAG_LONG, value);
+			this.writeVarint(zigzag(value - previous));
+
+		} else if (n instanceof Double) {
+			final var value = Double.doubleToRawLongBits(n.doubleValue());
+			if (this.tags[id] == TAG_DOUBLE && this.bits[id] == value) {
+				this.writeByte(TAG_SAME);
+				return;
+			}
+			this.writeTag(id, TAG_DOUBLE, value);
+			this.writeFixed(value, 8);
+
+		} else if (n instanceof Float) {
+			final long value = Float.floatToRawIntBits(n.floatValue());
+			if (this.tags[id] == TAG_FLOAT && this.bits[id] == value) {
+				this.writeByte(TAG_SAME);
+				return;
+			}
+			this.writeTag(id, TAG_FLOAT, value);
+			this.writeFixed(value, 4);
+
+		} else {
+			// e.g. LazilyParsedNumber or BigDecimal: keep exact representation
+			this.writeTag(id, TAG_JSON, 0L);
+			this.writeString(p.toString());
+		}
+	}
+
+	private void writeTag(int id, byte tag, long bits) {
+		this.tags[id] = tag;
+		this.bits[id] = bits;
+		if (tag != TAG_STRING) {
+			this.strings[id] = null;
+		}
+		this.writeByte(tag);
+	}
+
+	private void writeString(String value) {
+		final var bytes = Objects.requireNonNull(value).getBytes(UTF_8);
+		this.writeVarint(bytes.length);
+		this.ensureCapacity(bytes.length);
+		System.arraycopy(bytes, 0, this.buffer, this.position, bytes.length);
+		this.position += bytes.length;
+	}
+
+	private void writeFixed(long value, int bytes) {
+		this.ensureCapacity(bytes);
+		for (var i = 0; i < bytes; i++) {
+			this.buffer[this.position++] = (byte) (value >>> (8 * i));
+		}
+	}
+
+	private void writeVarint(long value) {
+		this.ensureCapacity(10);
+		var v = value;
+		while ((v & ~0x7FL) != 0) {
+			this.buffer[this.position++] = (byte) (v & 0x7F | 0x80);
+			v >>>= 7;
+		}
+		this.buffer[this.position++] = (byte) v;
+	}
+
+	private void writeByte(byte value) {
+		this.ensureCapacity(1);
+		this.buffer[this.position++] = value;
+	}
+
+	private void ensureCapacity(int additional) {
+		if (this.position + additional > this.buffer.length) {
+			this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.position + additional));
+		}
+	}
+
+}
@@ -0,0 +1,95 @@
+package io.openems.common.websocket;
+
+import static io.openems.common.websocket.WebsocketUtils.getAsString;
+
+import org.java_websocket.handshake.Handshakedata;
+
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+
+/**
+ * Compact binary encoding of {@link AbstractDataNotification}s between OpenEMS
+ * Edge and OpenEMS Backend.
+ *
+ * <p>
+ * The encoding is negotiated per connection: the client announces it with the
+ * HTTP header {@link #HTTP_HEADER} in the websocket handshake; the server
+ * confirms by returning the same header. If either side does not know the
+ * header, JSON-RPC messages are used as before.
+ *
+ * <p>
+ * Every binary websocket frame holds one data notification:
+ *
+ * <pre>
+ * byte    VERSION
+ * byte    TYPE_TIMESTAMPED | TYPE_AGGREGATED | TYPE_RESEND
+ * varint  number of timestamps
+ *   zigzag  timestamp, delta to the previous timestamp of the connection
+ *   varint  number of values
+ *     varint  Channel-ID; a new ID is followed by the Channel-Address String
+ *     byte    TAG_*
+ *     ...     payload of the tag
+ * </pre>
+ *
+ * <p>
+ * Channel-IDs are assigned in the order of first use per connection, i.e. the
+ * dictionary is transferred only once, with the first values after the
+ * EdgeConfigNotification. Integer values are sent as delta to the previous
+ * value of the same Channel; repeated values are sent as {@link #TAG_SAME}.
+ * Because of this state, frames must be decoded in the order they were
+ * encoded.
+ */
+public final class BinaryDataEncoding {
+
+	/** The HTTP header for negotiation of the encoding. */
+	public static final String HTTP_HEADER = "data-encoding";
+
+	/** The HTTP header value of this version of the encoding. */
+	public static final String HTTP_HEADER_VALUE = "binary-v1";
+
+	static final byte VERSION = 1;
+
+	static final byte TYPE_TIMESTAMPED = 1;
+	static final byte TYPE_AGGREGATED = 2;
+	static final byte TYPE_RESEND = 3;
+
+	static final byte TAG_NULL = 0;
+	static final byte TAG_TRUE = 1;
+	static final byte TAG_FALSE = 2;
+	/** Zigzag varint delta to the previous LONG value of the Channel. */
+	static final byte TAG_LONG = 3;
+	/** 8 bytes IEEE 754. */
+	static final byte TAG_DOUBLE = 4;
+	/** 4 bytes IEEE 754. */
+	static final byte TAG_FLOAT = 5;
+	/** Varint length and UTF-8 bytes. */
+	static final byte TAG_STRING = 6;
+	/** Any other value as serialized JSON, like {@link #TAG_STRING}. */
+	static final byte TAG_JSON = 7;
+	/** Same value as previously sent for the Channel. */
+	static final byte TAG_SAME = 8;
+
+	/** Maximum number of Channel-IDs per connection. */
+	static final int MAX_CHANNELS = 1 << 20;
+
+	private BinaryDataEncoding() {
+	}
+
+	/**
+	 * Is the binary encoding announced in the given {@link Handshakedata}?.
+	 *
+	 * @param handshakedata the {@link Handshakedata} of the client or the server
+	 * @return true if this version of the encoding is supported by the remote
+	 */
+	public static boolean isSupported(Handshakedata handshakedata) {
+		return HTTP_HEADER_VALUE.equals(getAsString(handshakedata, HTTP_HEADER));
+	}
+
+	static long zigzag(long value) {
+		return value << 1 ^ value >> 63;
+	}
+
+	static long unzigzag(long value) {
+		return value >>> 1 ^ -(value & 1);
+	}
+
+}
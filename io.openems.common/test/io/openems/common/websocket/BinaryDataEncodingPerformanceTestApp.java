@@ -0,0 +1,156 @@
+package io.openems.common.websocket;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Compares JSON-RPC and {@link BinaryDataEncoding} of the
+ * {@link TimestampedDataNotification}s of one Edge for one day.
+ *
+ * <p>
+ * Like the SendChannelValuesWorker, changed values are sent every Cycle and
+ * all values every 5 minutes. Reports the bytes per Edge per day - raw and
+ * compressed per message like with 'permessage-deflate' - and the time to
+ * decode a message in the Backend.
+ *
+ * <p>
+ * Backend.Edge.Server forwards every decoded notification as JSON
+ * {@link EdgeRpcNotification} to the Edge-Manager, so the bytes on that link do
+ * not change. 'forward' is the time to decode and re-encode a message for that
+ * link.
+ */
+public class BinaryDataEncodingPerformanceTestApp {
+
+	private static final int CHANNELS = 1_000;
+	private static final int CYCLES = 86_400; // one day of 1 second Cycles
+	private static final int SEND_ALL_CYCLES = 300;
+	private static final double CHANGED_SHARE = 0.1;
+
+	/**
+	 * Runs the performance test.
+	 *
+	 * @param args the args
+	 * @throws Exception on error
+	 */
+	public static void main(String[] args) throws Exception {
+		final var random = new Random(0);
+		final var values = new JsonElement[CHANNELS];
+		for (var i = 0; i < CHANNELS; i++) {
+			values[i] = initialValue(i);
+		}
+
+		final var encoder = new BinaryDataEncoder();
+		final var decoder = new BinaryDataDecoder();
+		final var deflater = new Deflater();
+		final var deflateBuffer = new byte[1 << 20];
+
+		long jsonBytes = 0;
+		long jsonDeflatedBytes = 0;
+		long jsonNanos = 0;
+		long jsonForwardNanos = 0;
+		long forwardBytes = 0;
+		long binaryBytes = 0;
+		long binaryDeflatedBytes = 0;
+		long binaryNanos = 0;
+		long binaryForwardNanos = 0;
+		var messages = 0;
+		for (var cycle = 0; cycle < CYCLES; cycle++) {
+			final var sendAll = cycle % SEND_ALL_CYCLES == 0;
+			final var data = new HashMap<String, JsonElement>();
+			for (var i = 0; i < CHANNELS; i++) {
+				final var changed = random.nextDouble() < CHANGED_SHARE;
+				if (changed) {
+					values[i] = nextValue(i, values[i], random);
+				}
+				if (changed || sendAll) {
+					data.put(address(i), values[i]);
+				}
+			}
+			final var notification = new TimestampedDataNotification();
+			notification.add(1_700_000_000_000L + cycle * 1000L, data);
+
+			// JSON
+			final var json = notification.toString();
+			final var jsonRaw = json.getBytes(UTF_8);
+			jsonBytes += jsonRaw.length;
+			jsonDeflatedBytes += deflate(deflater, jsonRaw, deflateBuffer);
+			var start = System.nanoTime();
+			final var fromJson = TimestampedDataNotification.from((JsonrpcNotification) JsonrpcMessage.from(json));
+			jsonNanos += System.nanoTime() - start;
+			forwardBytes += new EdgeRpcNotification("edge0", fromJson).toString().getBytes(UTF_8).length;
+			jsonForwardNanos += System.nanoTime() - start;
+
+			// Binary
+			final var binary = encoder.encode(notification);
+			binaryBytes += binary.length;
+			binaryDeflatedBytes += deflate(deflater, binary, deflateBuffer);
+			start = System.nanoTime();
+			final var fromBinary = decoder.decode(ByteBuffer.wrap(binary));
+			binaryNanos += System.nanoTime() - start;
+			new EdgeRpcNotification("edge0", fromBinary).toString().getBytes(UTF_8);
+			binaryForwardNanos += System.nanoTime() - start;
+
+			messages++;
+		}
+
+		System.out.println("Channels: " + CHANNELS + ", Messages: " + messages);
+		print("JSON  ", jsonBytes, jsonDeflatedBytes, jsonNanos, jsonForwardNanos, messages);
+		print("Binary", binaryBytes, binaryDeflatedBytes, binaryNanos, binaryForwardNanos, messages);
+		System.out.println("Edge-Manager: " + forwardBytes / 1024 / 1024 + " MB/day raw for both");
+	}
+
+	private static void print(String name, long bytes, long deflatedBytes, long nanos, long forwardNanos,
+			int messages) {
+		System.out.println(name + ": " //
+				+ bytes / 1024 / 1024 + " MB/day raw, " //
+				+ deflatedBytes / 1024 / 1024 + " MB/day deflated, " //
+				+ String.format("%.1f", nanos / 1000.0 / messages) + " us decode, " //
+				+ String.format("%.1f", forwardNanos / 1000.0 / messages) + " us forward per message");
+	}
+
+	private static int deflate(Deflater deflater, byte[] input, byte[] output) {
+		deflater.reset();
+		deflater.setInput(input);
+		deflater.finish();
+		var result = 0;
+		while (!deflater.finished()) {
+			result += deflater.deflate(output);
+		}
+		return result;
+	}
+
+	private static JsonElement initialValue(int i) {
+		return switch (i % 20) {
+		case 0 -> new JsonPrimitive("State " + i);
+		case 1 -> new JsonPrimitive(i * 0.5);
+		case 2 -> new JsonPrimitive(true);
+		default -> new JsonPrimitive(i * 1000);
+		};
+	}
+
+	private static JsonElement nextValue(int i, JsonElement value, Random random) {
+		return switch (i % 20) {
+		case 0 -> new JsonPrimitive("State " + random.nextInt(3));
+		case 1 -> new JsonPrimitive(value.getAsDouble() + random.nextGaussian());
+		case 2 -> new JsonPrimitive(random.nextBoolean());
+		default -> new JsonPrimitive(value.getAsInt() + random.nextInt(201) - 100);
+		};
+	}
+
+	private static String address(int i) {
+		return "component" + i / 100 + "/Channel" + i % 100;
+	}
+
+}
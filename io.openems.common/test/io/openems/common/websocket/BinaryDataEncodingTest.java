@@ -0,0 +1,130 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+public class BinaryDataEncodingTest {
+
+	@Test
+	public void testValueTypes() throws OpenemsException {
+		var encoder = new BinaryDataEncoder();
+		var decoder = new BinaryDataDecoder();
+
+		var n = new TimestampedDataNotification();
+		n.add(1_700_000_000_000L, Map.<String, JsonElement>of(//
+				"a/int", new JsonPrimitive(-7), //
+				"a/long", new JsonPrimitive(123456789012L), //
+				"a/double", new JsonPrimitive(12.5), //
+				"a/float", new JsonPrimitive(0.1F), //
+				"a/string", new JsonPrimitive("Ä-ok"), //
+				"a/true", new JsonPrimitive(true), //
+				"a/false", new JsonPrimitive(false), //
+				"a/null", JsonNull.INSTANCE, //
+				"a/object", JsonParser.parseString("{\"x\":[1,2]}"), //
+				"a/huge", JsonParser.parseString("123456789012345678901234567890")));
+		n.add(1_700_000_001_000L, "a/int", new JsonPrimitive(-6));
+
+		var result = decoder.decode(ByteBuffer.wrap(encoder.encode(n)));
+		assertTrue(result instanceof TimestampedDataNotification);
+		assertEquals(n.getParams().toString(), result.getParams().toString());
+		assertEquals(10, decoder.getNumberOfChannels());
+	}
+
+	@Test
+	public void testDictionaryAndDelta() throws OpenemsException {
+		var encoder = new BinaryDataEncoder();
+		var decoder = new BinaryDataDecoder();
+
+		var first = encoder.encode(notification(1000L, 1_000_000));
+		var second = encoder.encode(notification(2000L, 1_000_001));
+		var third = encoder.encode(notification(3000L, 1_000_001));
+
+		// Channel-Address is only sent once; delta of value and timestamp fit in one
+		// byte; repeated values are only a tag
+		assertTrue(first.length > "meter0/ActivePower".length());
+		assertEquals(2 + 1 + 2 + 1 + 1 + 1 + 1, second.length);
+		assertEquals(2 + 1 + 2 + 1 + 1 + 1, third.length);
+
+		assertEquals("{\"1000\":{\"meter0/ActivePower\":1000000}}",
+				decoder.decode(ByteBuffer.wrap(first)).getParams().toString());
+		assertEquals("{\"2000\":{\"meter0/ActivePower\":1000001}}",
+				decoder.decode(ByteBuffer.wrap(second)).getParams().toString());
+		assertEquals("{\"3000\":{\"meter0/ActivePower\":1000001}}",
+				decoder.decode(ByteBuffer.wrap(third)).getParams().toString());
+	}
+
+	@Test
+	public void testTypes() throws OpenemsException {
+		var encoder = new BinaryDataEncoder();
+		var decoder = new BinaryDataDecoder();
+
+		AbstractDataNotification n = new AggregatedDataNotification();
+		n.add(300_000L, "a/b", new JsonPrimitive(1.5));
+		assertTrue(decoder.decode(ByteBuffer.wrap(encoder.encode(n))) instanceof AggregatedDataNotification);
+
+		n = new ResendDataNotification(n.getData());
+		var result = decoder.decode(ByteBuffer.wrap(encoder.encode(n)));
+		assertTrue(result instanceof ResendDataNotification);
+		assertEquals("{\"300000\":{\"a/b\":1.5}}", result.getParams().toString());
+	}
+
+	@Test
+	public void testSameStringInstance() throws OpenemsException {
+		var encoder = new BinaryDataEncoder();
+		var decoder = new BinaryDataDecoder();
+
+		var n = new TimestampedDataNotification();
+		n.add(0L, "_meta/Version", new JsonPrimitive("2025.1.0"));
+		var first = decoder.decode(ByteBuffer.wrap(encoder.encode(n))).getData().get(0L, "_meta/Version");
+		var second = decoder.decode(ByteBuffer.wrap(encoder.encode(n))).getData().get(0L, "_meta/Version");
+		assertSame(first, second);
+	}
+
+	@Test
+	public void testInvalidFrame() {
+		var decoder = new BinaryDataDecoder();
+
+		// Unknown Channel-ID
+		assertInvalid(decoder, new byte[] { 1, 1, 1, 0, 1, 5, 0 });
+		// Truncated
+		assertInvalid(decoder, new byte[] { 1, 1, 1, 0, 1, 0, 10, 'a' });
+		// Unsupported version
+		assertInvalid(decoder, new byte[] { 2, 1, 0 });
+		assertFalse(decoder.getNumberOfChannels() > 0);
+	}
+
+	private static void assertInvalid(BinaryDataDecoder decoder, byte[] frame) {
+		try {
+			decoder.decode(ByteBuffer.wrap(frame));
+			fail("Expected OpenemsException");
+		} catch (OpenemsException e) {
+			// expected
+		}
+	}
+
+	private static TimestampedDataNotification notification(long timestamp, int value) {
+		var n = new TimestampedDataNotification();
+		n.add(timestamp, "meter0/ActivePower", new JsonPrimitive(value));
+		return n;
+	}
+
+}
@@ -29,6 +29,7 @@ import io.openems.edge.bridge.modbus.api.Parity;
 import io.openems.edge.bridge.modbus.api.Stopbit;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.jsonapi.ComponentJsonApi;
 import io.openems.edge.common.startstop.StartStoppable;
 
 /**
@@ -46,7 +47,8 @@ import io.openems.edge.common.startstop.StartStoppable;
 		EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE //
 })
 public class BridgeModbusSerialImpl extends AbstractModbusBridge
-		implements BridgeModbus, BridgeModbusSerial, OpenemsComponent, EventHandler, StartStoppable {
+		implements BridgeModbus, BridgeModbusSerial, OpenemsComponent, EventHandler, StartStoppable,
+		ComponentJsonApi {
 
 	/** The configured Port-Name (e.g. '/dev/ttyUSB0' or 'COM3'). */
 	private String portName = "";
@@ -75,14 +77,16 @@ public class BridgeModbusSerialImpl extends AbstractModbusBridge
 	@Activate
 	private void activate(ComponentContext context, ConfigSerial config) {
 		super.activate(context, new Config(config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors()));
+				config.invalidateElementsAfterReadErrors(), config.mergeReadTasks(), config.mergeReadTasksMaxGap(),
+				config.adaptivePolling(), config.lowPriorityRefreshInterval()));
 		this.applyConfig(config);
 	}
 
 	@Modified
 	private void modified(ComponentContext context, ConfigSerial config) {
 		super.modified(context, new Config(config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors()));
+				config.invalidateElementsAfterReadErrors(), config.mergeReadTasks(), config.mergeReadTasksMaxGap(),
+				config.adaptivePolling(), config.lowPriorityRefreshInterval()));
 		this.applyConfig(config);
 		this.closeModbusConnection();
 	}
@@ -25,6 +25,7 @@ import io.openems.edge.bridge.modbus.api.BridgeModbusTcp;
 import io.openems.edge.bridge.modbus.api.Config;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.jsonapi.ComponentJsonApi;
 import io.openems.edge.common.startstop.StartStoppable;
 
 /**
@@ -42,11 +43,13 @@ import io.openems.edge.common.startstop.StartStoppable;
 		EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE //
 })
 public class BridgeModbusTcpImpl extends AbstractModbusBridge
-		implements BridgeModbus, BridgeModbusTcp, OpenemsComponent, EventHandler, StartStoppable {
+		implements BridgeModbus, BridgeModbusTcp, OpenemsComponent, EventHandler, StartStoppable,
+		ComponentJsonApi {
 
 	/** The configured IP address. */
 	private InetAddress ipAddress = null;
 	private int port;
+	private int maxTransactionsInFlight = 1;
 
 	public BridgeModbusTcpImpl() {
 		super(//
@@ -60,14 +63,16 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	@Activate
 	private void activate(ComponentContext context, ConfigTcp config) throws UnknownHostException {
 		super.activate(context, new Config(config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors()));
+				config.invalidateElementsAfterReadErrors(), config.mergeReadTasks(), config.mergeReadTasksMaxGap(),
+				config.adaptivePolling(), config.lowPriorityRefreshInterval()));
 		this.applyConfig(config);
 	}
 
 	@Modified
 	private void modified(ComponentContext context, ConfigTcp config) throws UnknownHostException {
 		super.modified(context, new Config(config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors()));
+				config.invalidateElementsAfterReadErrors(), config.mergeReadTasks(), config.mergeReadTasksMaxGap(),
+				config.adaptivePolling(), config.lowPriorityRefreshInterval()));
 		this.applyConfig(config);
 		this.closeModbusConnection();
 	}
@@ -75,6 +80,9 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	private void applyConfig(ConfigTcp config) {
 		this.setIpAddress(InetAddressUtils.parseOrNull(config.ip()));
 		this.port = config.port();
+		this.maxTransactionsInFlight = Math.max(1, config.maxTransactionsInFlight());
+		this.worker.setMaxTasksInFlight(config.id(), this.maxTransactionsInFlight,
+				config.maxTransactionsInFlightPerDevice());
 	}
 
 	@Override
@@ -84,7 +92,11 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	}
 
 	@Override
-	public void closeModbusConnection() {
+	public synchronized void closeModbusConnection() {
+		if (this._pipeline != null) {
+			this._pipeline.close();
+			this._pipeline = null;
+		}
 		if (this._connection != null) {
 			this._connection.close();
 			this._connection = null;
@@ -97,6 +109,10 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 			return null;
 		}
 
+		if (this.maxTransactionsInFlight > 1) {
+			return new PipelinedModbusTcpConnection.Transaction(this.getPipeline());
+		}
+
 		var connection = this.getModbusConnection();
 		var transaction = new ModbusTCPTransaction(connection);
 		transaction.setRetries(AbstractModbusBridge.DEFAULT_RETRIES);
@@ -104,6 +120,18 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	}
 
 	private TCPMasterConnection _connection = null;
+	private PipelinedModbusTcpConnection _pipeline = null;
+
+	private synchronized PipelinedModbusTcpConnection getPipeline() throws OpenemsException {
+		if (this._pipeline != null && !this._pipeline.isClosed()) {
+			return this._pipeline;
+		}
+		// (Re-)Connect; a closed pipeline has also closed the connection
+		var connection = this.getModbusConnection();
+		this._pipeline = new PipelinedModbusTcpConnection(connection, this.maxTransactionsInFlight,
+				AbstractModbusBridge.DEFAULT_TIMEOUT);
+		return this._pipeline;
+	}
 
 	private synchronized TCPMasterConnection getModbusConnection() throws OpenemsException {
 		if (this._connection == null) {
@@ -42,5 +42,17 @@ import io.openems.edge.bridge.modbus.api.Stopbit;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Merge Read-Tasks?", description = "Merge neighbouring read tasks of the same Unit-ID to fewer Modbus requests.")
+	boolean mergeReadTasks() default false;
+
+	@AttributeDefinition(name = "Merge Read-Tasks: max. gap", description = "Maximum number of unused registers between two merged read tasks.")
+	int mergeReadTasksMaxGap() default 0;
+
+	@AttributeDefinition(name = "Adaptive polling?", description = "Read each task by its refresh interval within the free time of the Cycle, instead of all HIGH and one LOW priority task per Cycle.")
+	boolean adaptivePolling() default false;
+
+	@AttributeDefinition(name = "Adaptive polling: LOW priority refresh interval [s]", description = "Target refresh interval of LOW priority read tasks.")
+	int lowPriorityRefreshInterval() default 30;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/RTU Serial [{id}]";
 }
@@ -27,11 +27,29 @@ import io.openems.edge.bridge.modbus.api.LogVerbosity;
 	@AttributeDefinition(name = "Port", description = "The port of the Modbus/TCP device.")
 	int port() default Modbus.DEFAULT_PORT;
 
+	@AttributeDefinition(name = "Max. transactions in flight", description = "Number of requests that are sent without waiting for previous responses. '1' executes all requests one after the other.")
+	int maxTransactionsInFlight() default 1;
+
+	@AttributeDefinition(name = "Max. transactions in flight per device", description = "Limits the number of parallel requests to the same Unit-ID; '0' for no limit, '1' for devices that cannot handle parallel requests.")
+	int maxTransactionsInFlightPerDevice() default 0;
+
 	@AttributeDefinition(name = "Log-Verbosity", description = "The log verbosity.")
 	LogVerbosity logVerbosity() default LogVerbosity.NONE;
 
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Merge Read-Tasks?", description = "Merge neighbouring read tasks of the same Unit-ID to fewer Modbus requests.")
+	boolean mergeReadTasks() default false;
+
+	@AttributeDefinition(name = "Merge Read-Tasks: max. gap", description = "Maximum number of unused registers between two merged read tasks.")
+	int mergeReadTasksMaxGap() default 0;
+
+	@AttributeDefinition(name = "Adaptive polling?", description = "Read each task by its refresh interval within the free time of the Cycle, instead of all HIGH and one LOW priority task per Cycle.")
+	boolean adaptivePolling() default false;
+
+	@AttributeDefinition(name = "Adaptive polling: LOW priority refresh interval [s]", description = "Target refresh interval of LOW priority read tasks.")
+	int lowPriorityRefreshInterval() default 30;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/TCP [{id}]";
 }
\ No newline at end of file
@@ -0,0 +1,251 @@
+package io.openems.edge.bridge.modbus;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+import com.ghgande.j2mod.modbus.msg.ExceptionResponse;
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+import com.ghgande.j2mod.modbus.net.TCPMasterConnection;
+
+import io.openems.edge.bridge.modbus.api.ModbusTransactionTimeoutException;
+
+/**
+ * Shares one {@link TCPMasterConnection} between multiple concurrent
+ * {@link ModbusTransaction}s.
+ *
+ * <p>
+ * Requests are written to the socket immediately, up to a configured number of
+ * requests without response ('window size'). Responses are read by a separate
+ * Thread and matched to their request by the Modbus/TCP transaction ID.
+ *
+ * <p>
+ * Every transaction has its own timeout; a transaction that timed out fails
+ * with a {@link ModbusTransactionTimeoutException} and leaves the other
+ * transactions intact. The reader blocks until the next response, so only real
+ * socket errors - or a device that let {@link #MAX_SILENT_TIMEOUTS}
+ * transactions time out without any response in between - fail all pending
+ * transactions and close the connection; a new
+ * {@link PipelinedModbusTcpConnection} is required afterwards.
+ */
+public class PipelinedModbusTcpConnection {
+
+	private static final int MAX_TRANSACTION_ID = 0xFFFF;
+
+	/** Number of transaction timeouts without any response in between. */
+	static final int MAX_SILENT_TIMEOUTS = 3;
+
+	private final Logger log = LoggerFactory.getLogger(PipelinedModbusTcpConnection.class);
+
+	private final TCPMasterConnection connection;
+	private final int timeout;
+	private final Semaphore window;
+	private final Map<Integer, CompletableFuture<ModbusResponse>> pending = new ConcurrentHashMap<>();
+	private final Object writeLock = new Object();
+	private final Object readLock = new Object();
+	private final Thread reader;
+	private final AtomicInteger silentTimeouts = new AtomicInteger();
+
+	private int lastTransactionId = 0; // guarded by writeLock
+	private volatile boolean closed = false;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param connection the connected {@link TCPMasterConnection}
+	 * @param windowSize the maximum number of requests without response
+	 * @param timeout    the timeout for one request in [ms]
+	 */
+	public PipelinedModbusTcpConnection(TCPMasterConnection connection, int windowSize, int timeout) {
+		this.connection = connection;
+		this.timeout = timeout;
+		this.window = new Semaphore(Math.max(1, windowSize));
+		// Timeouts are handled per transaction; the reader waits for the next response
+		connection.getModbusTransport().setTimeout(0);
+		this.reader = new Thread(this::readForever,
+				"Modbus.Tcp.Pipeline:" + connection.getAddress().getHostAddress());
+		this.reader.setDaemon(true);
+		this.reader.start();
+	}
+
+	/**
+	 * Sends a {@link ModbusRequest} and waits for its {@link ModbusResponse}.
+	 *
+	 * @param request the {@link ModbusRequest}; the transaction ID is overwritten
+	 * @return the {@link ModbusResponse}
+	 * @throws ModbusException      on error
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public ModbusResponse execute(ModbusRequest request) throws ModbusException, InterruptedException {
+		if (!this.window.tryAcquire(this.timeout, TimeUnit.MILLISECONDS)) {
+			throw new ModbusTransactionTimeoutException("No free slot for Modbus/TCP transaction");
+		}
+		try {
+			var future = new CompletableFuture<ModbusResponse>();
+			final int transactionId;
+			synchronized (this.writeLock) {
+				if (this.closed) {
+					throw new ModbusIOException("Modbus/TCP connection is closed");
+				}
+				transactionId = this.nextTransactionId();
+				request.setTransactionID(transactionId);
+				this.pending.put(transactionId, future);
+				try {
+					this.connection.getModbusTransport().writeRequest(request);
+				} catch (ModbusIOException e) {
+					this.pending.remove(transactionId);
+					this.close(e);
+					throw e;
+				}
+			}
+			synchronized (this.readLock) {
+				this.readLock.notifyAll();
+			}
+
+			try {
+				return future.get(this.timeout, TimeUnit.MILLISECONDS);
+
+			} catch (TimeoutException e) {
+				// A late response is dropped by the reader
+				this.pending.remove(transactionId);
+				if (this.silentTimeouts.incrementAndGet() >= MAX_SILENT_TIMEOUTS) {
+					// Device does not answer at all
+					this.close(new ModbusIOException("No response for [" + MAX_SILENT_TIMEOUTS + "] transactions"));
+				}
+				throw new ModbusTransactionTimeoutException(
+						"Timeout waiting for Modbus/TCP transaction [" + transactionId + "]");
+
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof ModbusException me) {
+					throw me;
+				}
+				throw new ModbusIOException(String.valueOf(e.getCause()));
+			}
+
+		} finally {
+			this.window.release();
+		}
+	}
+
+	/**
+	 * Gets the next free transaction ID. Must be called within writeLock.
+	 *
+	 * @return the transaction ID
+	 */
+	private int nextTransactionId() {
+		do {
+			this.lastTransactionId = this.lastTransactionId % MAX_TRANSACTION_ID + 1;
+		} while (this.pending.containsKey(this.lastTransactionId));
+		return this.lastTransactionId;
+	}
+
+	private void readForever() {
+		while (!this.closed) {
+			try {
+				synchronized (this.readLock) {
+					while (this.pending.isEmpty() && !this.closed) {
+						this.readLock.wait();
+					}
+				}
+				if (this.closed) {
+					return;
+				}
+
+				var response = this.connection.getModbusTransport().readResponse();
+				this.silentTimeouts.set(0);
+				var future = this.pending.remove(response.getTransactionID());
+				if (future == null) {
+					this.log.warn("Dropping Modbus/TCP response for unknown transaction [" + response.getTransactionID()
+							+ "]");
+				} else if (response instanceof ExceptionResponse r) {
+					future.completeExceptionally(new ModbusSlaveException(r.getExceptionCode()));
+				} else {
+					future.complete(response);
+				}
+
+			} catch (InterruptedException e) {
+				return;
+
+			} catch (Exception e) {
+				// Broken connection: the stream is not usable anymore
+				this.close(e);
+			}
+		}
+	}
+
+	/**
+	 * Is this {@link PipelinedModbusTcpConnection} closed?.
+	 *
+	 * @return true if closed
+	 */
+	public boolean isClosed() {
+		return this.closed;
+	}
+
+	/**
+	 * Gets the number of transactions without response.
+	 *
+	 * @return the number of pending transactions
+	 */
+	public int getPendingTransactions() {
+		return this.pending.size();
+	}
+
+	/**
+	 * Closes the {@link PipelinedModbusTcpConnection} and the underlying
+	 * {@link TCPMasterConnection}. All pending transactions fail.
+	 */
+	public void close() {
+		this.close(new ModbusIOException("Modbus/TCP connection is closed"));
+	}
+
+	private void close(Exception cause) {
+		this.closed = true;
+		synchronized (this.readLock) {
+			this.readLock.notifyAll();
+		}
+		for (var transactionId : this.pending.keySet()) {
+			var future = this.pending.remove(transactionId);
+			if (future != null) {
+				future.completeExceptionally(cause);
+			}
+		}
+		this.connection.close();
+	}
+
+	/**
+	 * A {@link ModbusTransaction} that is executed via a
+	 * {@link PipelinedModbusTcpConnection}.
+	 */
+	public static class Transaction extends ModbusTransaction {
+
+		private final PipelinedModbusTcpConnection pipeline;
+
+		public Transaction(PipelinedModbusTcpConnection pipeline) {
+			this.pipeline = pipeline;
+		}
+
+		@Override
+		public void execute() throws ModbusException {
+			try {
+				this.response = this.pipeline.execute(this.request);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ModbusIOException("Interrupted while waiting for Modbus/TCP response");
+			}
+		}
+	}
+}
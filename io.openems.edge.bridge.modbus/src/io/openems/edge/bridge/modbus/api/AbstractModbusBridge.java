@@ -2,6 +2,8 @@ package io.openems.edge.bridge.modbus.api;
 
 import static io.openems.edge.common.channel.ChannelUtils.setValue;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.osgi.service.component.ComponentContext;
@@ -11,9 +13,14 @@ import org.osgi.service.event.EventHandler;
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
 
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.session.Role;
 import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
+import io.openems.edge.bridge.modbus.jsonrpc.GetReadTasksStatus;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.jsonapi.ComponentJsonApi;
+import io.openems.edge.common.jsonapi.EdgeGuards;
+import io.openems.edge.common.jsonapi.JsonApiBuilder;
 import io.openems.edge.common.startstop.StartStop;
 import io.openems.edge.common.startstop.StartStoppable;
 import io.openems.edge.common.test.TestUtils;
@@ -22,7 +29,7 @@ import io.openems.edge.common.test.TestUtils;
  * Abstract service for connecting to, querying and writing to a Modbus device.
  */
 public abstract class AbstractModbusBridge extends AbstractOpenemsComponent
-		implements BridgeModbus, EventHandler, StartStoppable {
+		implements BridgeModbus, EventHandler, StartStoppable, ComponentJsonApi {
 
 	/**
 	 * Default Modbus timeout in [ms].
@@ -51,6 +58,8 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent
 			state -> this._setCycleTimeIsTooShort(state),
 			// Set ChannelId.CYCLE_DELAY
 			cycleDelay -> this._setCycleDelay(cycleDelay),
+			// Set ChannelId.SAVED_REQUESTS
+			savedRequests -> this._setSavedRequests(savedRequests),
 			// LogHandler
 			() -> this.config.log //
 	);
@@ -99,6 +108,9 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent
 
 	private void applyConfig(Config config) {
 		this.config = config;
+		this.worker.setMergeReadTasks(config.mergeReadTasks, config.mergeReadTasksMaxGap);
+		this.worker.setAdaptivePolling(config.adaptivePolling,
+				Duration.ofSeconds(Math.max(0, config.lowPriorityRefreshInterval)));
 	}
 
 	/**
@@ -146,11 +158,29 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent
 		case NONE -> //
 			null;
 		case DEBUG_LOG, READS_AND_WRITES, READS_AND_WRITES_DURATION, READS_AND_WRITES_VERBOSE,
-				READS_AND_WRITES_DURATION_TRACE_EVENTS -> //
-			"CycleDelay:" + this.getCycleDelay().asString(); //
+				READS_AND_WRITES_DURATION_TRACE_EVENTS -> {
+			var readTasksScheduler = this.worker.getReadTasksScheduler();
+			yield "CycleDelay:" + this.getCycleDelay().asString() //
+					+ (readTasksScheduler == null //
+							? "" //
+							: "|MaxRefreshAge:" + readTasksScheduler.getMaxRefreshAge() + " ms");
+		}
 		};
 	}
 
+	@Override
+	public void buildJsonApiRoutes(JsonApiBuilder builder) {
+		builder.handleRequest(new GetReadTasksStatus(), endpoint -> {
+			endpoint.setGuards(EdgeGuards.roleIsAtleast(Role.ADMIN));
+		}, call -> {
+			var readTasksScheduler = this.worker.getReadTasksScheduler();
+			return new GetReadTasksStatus.Response(readTasksScheduler != null, //
+					readTasksScheduler == null //
+							? List.of() //
+							: readTasksScheduler.getTaskStatus());
+		});
+	}
+
 	/**
 	 * Creates a new Modbus Transaction on an open Modbus connection.
 	 *
@@ -7,6 +7,7 @@ import io.openems.common.channel.Level;
 import io.openems.common.channel.Unit;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
@@ -26,7 +27,13 @@ public interface BridgeModbus extends OpenemsComponent {
 				.unit(Unit.MILLISECONDS)),
 
 		BRIDGE_IS_STOPPED(Doc.of(Level.INFO) //
-				.text("Modbus Communication is stopped")) //
+				.text("Modbus Communication is stopped")), //
+		/**
+		 * Number of Modbus requests that were saved in the last Cycle by merging
+		 * neighbouring read tasks. Negative if merged requests failed and had to be
+		 * repeated as original tasks.
+		 */
+		SAVED_REQUESTS(Doc.of(OpenemsType.INTEGER)) //
 		;
 
 		private final Doc doc;
@@ -98,6 +105,35 @@ public interface BridgeModbus extends OpenemsComponent {
 		this.getCycleDelayChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#SAVED_REQUESTS}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getSavedRequestsChannel() {
+		return this.channel(ChannelId.SAVED_REQUESTS);
+	}
+
+	/**
+	 * Gets the number of saved requests in the last Cycle, see
+	 * {@link ChannelId#SAVED_REQUESTS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getSavedRequests() {
+		return this.getSavedRequestsChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#SAVED_REQUESTS}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSavedRequests(int value) {
+		this.getSavedRequestsChannel().setNextValue(value);
+	}
+
 	/**
 	 * Adds a Protocol with a source identifier to this Modbus Bridge.
 	 *
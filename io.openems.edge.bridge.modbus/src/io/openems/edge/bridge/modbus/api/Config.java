@@ -10,14 +10,28 @@ public class Config {
 	public final String alias;
 	public final boolean enabled;
 	public final int invalidateElementsAfterReadErrors;
+	public final boolean mergeReadTasks;
+	public final int mergeReadTasksMaxGap;
+	public final boolean adaptivePolling;
+	public final int lowPriorityRefreshInterval;
 	public final LogHandler log;
 
 	public Config(String id, String alias, boolean enabled, LogVerbosity logVerbosity,
 			int invalidateElementsAfterReadErrors) {
+		this(id, alias, enabled, logVerbosity, invalidateElementsAfterReadErrors, false, 0, false, 0);
+	}
+
+	public Config(String id, String alias, boolean enabled, LogVerbosity logVerbosity,
+			int invalidateElementsAfterReadErrors, boolean mergeReadTasks, int mergeReadTasksMaxGap,
+			boolean adaptivePolling, int lowPriorityRefreshInterval) {
 		this.id = id;
 		this.alias = alias;
 		this.enabled = enabled;
 		this.invalidateElementsAfterReadErrors = invalidateElementsAfterReadErrors;
+		this.mergeReadTasks = mergeReadTasks;
+		this.mergeReadTasksMaxGap = mergeReadTasksMaxGap;
+		this.adaptivePolling = adaptivePolling;
+		this.lowPriorityRefreshInterval = lowPriorityRefreshInterval;
 		this.log = new LogHandler(this, logVerbosity);
 	}
 
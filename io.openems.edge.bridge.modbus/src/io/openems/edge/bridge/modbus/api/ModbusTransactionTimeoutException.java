@@ -0,0 +1,18 @@
+package io.openems.edge.bridge.modbus.api;
+
+import com.ghgande.j2mod.modbus.ModbusIOException;
+
+/**
+ * A single Modbus transaction timed out, but the connection is still usable -
+ * e.g. because it is shared with other transactions in flight. In contrast to
+ * other {@link ModbusIOException}s the connection must not be closed.
+ */
+public class ModbusTransactionTimeoutException extends ModbusIOException {
+
+	private static final long serialVersionUID = 1L;
+
+	public ModbusTransactionTimeoutException(String message) {
+		super(message);
+	}
+
+}
@@ -8,6 +8,7 @@ import com.ghgande.j2mod.modbus.msg.ModbusResponse;
 import com.ghgande.j2mod.modbus.procimg.Register;
 
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
 import io.openems.edge.bridge.modbus.api.element.ModbusRegisterElement;
 import io.openems.edge.common.taskmanager.Priority;
@@ -34,4 +35,53 @@ public abstract class AbstractReadRegistersTask<//
 	protected final int calculateNextPosition(ModbusElement modbusElement, int position) {
 		return position + modbusElement.length;
 	}
-}
\ No newline at end of file
+
+	@Override
+	protected final REQUEST createModbusRequest() {
+		return this.createModbusRequest(this.startAddress, this.length);
+	}
+
+	/**
+	 * Factory for a {@link ModbusRequest} for the given register range.
+	 * 
+	 * @param startAddress the start address
+	 * @param length       the number of registers
+	 * @return a new {@link ModbusRequest}
+	 */
+	protected abstract REQUEST createModbusRequest(int startAddress, int length);
+
+	/**
+	 * Reads a register range that includes the range of this task. Used by
+	 * {@link MergedReadRegistersTask}; Unit-ID, response type and logging are
+	 * taken from this task.
+	 * 
+	 * @param bridge       the {@link AbstractModbusBridge}
+	 * @param startAddress the start address
+	 * @param length       the number of registers
+	 * @return the registers; null if Bridge is stopped
+	 * @throws Exception on error
+	 */
+	protected Register[] readRegisters(AbstractModbusBridge bridge, int startAddress, int length) throws Exception {
+		var response = this.executeRequest(bridge, this.createModbusRequest(startAddress, length));
+		if (response == null) {
+			return null;
+		}
+		return this.parseResponse(response);
+	}
+
+	/**
+	 * Fills the {@link ModbusElement}s of this task from the registers of a
+	 * merged request.
+	 * 
+	 * @param bridge   the {@link AbstractModbusBridge}
+	 * @param response the registers of the merged request
+	 * @param offset   the position of the StartAddress of this task within the
+	 *                 registers
+	 * @return the {@link ExecuteState}
+	 */
+	protected ExecuteState applyRegisters(AbstractModbusBridge bridge, Register[] response, int offset) {
+		var from = Math.min(offset, response.length);
+		var to = Math.min(offset + this.length, response.length);
+		return this.applyResult(bridge, Arrays.copyOfRange(response, from, to));
+	}
+}
@@ -1,5 +1,6 @@
 package io.openems.edge.bridge.modbus.api.task;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
@@ -34,6 +35,8 @@ public abstract class AbstractReadTask<//
 	private final Priority priority;
 	private final Class<?> elementClazz;
 
+	private Duration refreshInterval = null;
+
 	public AbstractReadTask(String name, Consumer<ExecuteState> onExecute, Class<RESPONSE> responseClazz,
 			Class<ELEMENT> elementClazz, int startAddress, Priority priority, ModbusElement... elements) {
 		super(name, onExecute, responseClazz, startAddress, elements);
@@ -54,31 +57,57 @@ public abstract class AbstractReadTask<//
 				return ExecuteState.NO_OP;
 			}
 
+			final T[] result;
 			try {
-				var result = this.parseResponse(response);
-				validateResponse(result, this.length);
-
-				// NOTE: onExecute has to be called before filling elements; but OK could be
-				// wrong if fillElements throws an exception.
-				this.onExecute.accept(ExecuteState.OK);
-				this.fillElements(result);
-
-				return ExecuteState.OK;
-
+				result = this.parseResponse(response);
 			} catch (Exception e1) {
 				logError(this.log, e1, "Parsing Response failed.");
 				throw e1;
 			}
+			return this.applyResult(bridge, result);
 
 		} catch (Exception e) {
-			var executeState = new ExecuteState.Error(e);
-			this.onExecute.accept(executeState);
+			return this.onError(bridge, e);
+		}
+	}
+
+	/**
+	 * Validates the parsed response values and fills the {@link ModbusElement}s.
+	 * 
+	 * <p>
+	 * This is also used to apply values that were read by a merged request, see
+	 * {@link MergedReadRegistersTask}.
+	 * 
+	 * @param bridge the {@link AbstractModbusBridge}
+	 * @param result the parsed response values, starting at the StartAddress of
+	 *               this task
+	 * @return the {@link ExecuteState}
+	 */
+	protected final ExecuteState applyResult(AbstractModbusBridge bridge, T[] result) {
+		try {
+			validateResponse(result, this.length);
+
+			// NOTE: onExecute has to be called before filling elements; but OK could be
+			// wrong if fillElements throws an exception.
+			this.onExecute.accept(ExecuteState.OK);
+			this.fillElements(result);
 
-			this.invalidateElements(bridge);
-			return executeState;
+			return ExecuteState.OK;
+
+		} catch (Exception e) {
+			logError(this.log, e, "Parsing Response failed.");
+			return this.onError(bridge, e);
 		}
 	}
 
+	private ExecuteState onError(AbstractModbusBridge bridge, Exception e) {
+		var executeState = new ExecuteState.Error(e);
+		this.onExecute.accept(executeState);
+
+		this.invalidateElements(bridge);
+		return executeState;
+	}
+
 	/**
 	 * Invalidate all Elements.
 	 * 
@@ -152,6 +181,23 @@ public abstract class AbstractReadTask<//
 		return this.priority;
 	}
 
+	/**
+	 * Sets the target refresh interval, see {@link ReadTask#getRefreshInterval()}.
+	 * 
+	 * @param refreshInterval the refresh interval; null for the default of the
+	 *                        {@link Priority}
+	 * @return myself
+	 */
+	public AbstractReadTask<REQUEST, RESPONSE, ELEMENT, T> refreshInterval(Duration refreshInterval) {
+		this.refreshInterval = refreshInterval;
+		return this;
+	}
+
+	@Override
+	public Duration getRefreshInterval() {
+		return this.refreshInterval;
+	}
+
 	/**
 	 * Handle a Response, e.g. set the internal value.
 	 * 
@@ -22,6 +22,7 @@ import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
 import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
+import io.openems.edge.bridge.modbus.api.ModbusTransactionTimeoutException;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
 
 /**
@@ -102,8 +103,11 @@ public abstract non-sealed class AbstractTask<//
 	 * {@link ModbusResponse}.
 	 * 
 	 * <p>
-	 * If first request fails, the implementation reconnects the Modbus connection
-	 * and tries again.
+	 * If first request fails, the implementation tries again. The Modbus
+	 * connection is reconnected before, unless the device answered with a
+	 * {@link ModbusSlaveException} or only this transaction timed out
+	 * ({@link ModbusTransactionTimeoutException}); in that case the connection is
+	 * healthy and possibly shared with other transactions in flight.
 	 * 
 	 * <p>
 	 * Successful execution is produces a log message if {@link LogVerbosity} !=
@@ -123,8 +127,10 @@ public abstract non-sealed class AbstractTask<//
 					() -> sendRequest(bridge, unitId, this.responseClazz, request));
 
 		} catch (Exception e) {
-			// Second try; with new connection
-			bridge.closeModbusConnection();
+			// Second try; with new connection on transport errors
+			if (!(e instanceof ModbusSlaveException) && !(e instanceof ModbusTransactionTimeoutException)) {
+				bridge.closeModbusConnection();
+			}
 			return this.logRequest(TryExecute.SECOND_TRY, bridge, logVerbosity, request,
 					() -> sendRequest(bridge, unitId, this.responseClazz, request));
 		}
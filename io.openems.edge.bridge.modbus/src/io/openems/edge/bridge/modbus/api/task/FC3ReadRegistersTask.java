@@ -8,6 +8,7 @@ import com.ghgande.j2mod.modbus.procimg.Register;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.utils.FunctionUtils;
+import io.openems.edge.bridge.modbus.api.LogVerbosity;
 import io.openems.edge.bridge.modbus.api.ModbusUtils;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
 import io.openems.edge.common.taskmanager.Priority;
@@ -30,8 +31,8 @@ public class FC3ReadRegistersTask
 	}
 
 	@Override
-	protected ReadMultipleRegistersRequest createModbusRequest() {
-		return new ReadMultipleRegistersRequest(this.startAddress, this.length);
+	protected ReadMultipleRegistersRequest createModbusRequest(int startAddress, int length) {
+		return new ReadMultipleRegistersRequest(startAddress, length);
 	}
 
 	@Override
@@ -43,4 +44,12 @@ public class FC3ReadRegistersTask
 	protected String payloadToString(ReadMultipleRegistersResponse response) {
 		return ModbusUtils.registersToHexString(response.getRegisters());
 	}
+
+	@Override
+	protected String toLogMessage(LogVerbosity logVerbosity, ReadMultipleRegistersRequest request,
+			ReadMultipleRegistersResponse response, Exception exception) {
+		// Read StartAddress and Length from the actual Request; it might be merged
+		return this.toLogMessage(logVerbosity, request.getReference(), request.getWordCount(), request, response,
+				exception);
+	}
 }
@@ -10,6 +10,7 @@ import com.ghgande.j2mod.modbus.procimg.SimpleRegister;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.utils.FunctionUtils;
+import io.openems.edge.bridge.modbus.api.LogVerbosity;
 import io.openems.edge.bridge.modbus.api.ModbusUtils;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
 import io.openems.edge.common.taskmanager.Priority;
@@ -31,8 +32,8 @@ public class FC4ReadInputRegistersTask
 	}
 
 	@Override
-	protected ReadInputRegistersRequest createModbusRequest() {
-		return new ReadInputRegistersRequest(this.startAddress, this.length);
+	protected ReadInputRegistersRequest createModbusRequest(int startAddress, int length) {
+		return new ReadInputRegistersRequest(startAddress, length);
 	}
 
 	@Override
@@ -49,4 +50,12 @@ public class FC4ReadInputRegistersTask
 	protected String payloadToString(ReadInputRegistersResponse response) {
 		return ModbusUtils.registersToHexString(response.getRegisters());
 	}
-}
\ No newline at end of file
+
+	@Override
+	protected String toLogMessage(LogVerbosity logVerbosity, ReadInputRegistersRequest request,
+			ReadInputRegistersResponse response, Exception exception) {
+		// Read StartAddress and Length from the actual Request; it might be merged
+		return this.toLogMessage(logVerbosity, request.getReference(), request.getWordCount(), request, response,
+				exception);
+	}
+}
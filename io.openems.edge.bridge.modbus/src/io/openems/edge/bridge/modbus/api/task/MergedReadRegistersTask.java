@@ -0,0 +1,207 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+import static com.ghgande.j2mod.modbus.Modbus.ILLEGAL_ADDRESS_EXCEPTION;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+
+import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
+import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
+import io.openems.edge.bridge.modbus.api.ModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * A {@link ReadTask} that reads the register ranges of multiple
+ * {@link AbstractReadRegistersTask}s of the same type, Unit-ID and
+ * {@link Priority} with one request and distributes the response to the
+ * {@link ModbusElement}s of the original tasks.
+ *
+ * <p>
+ * Registers between the original tasks are read but ignored. If the merged
+ * request fails, the original tasks are executed one by one. If the device
+ * rejected the merged request with an 'Illegal Data Address' exception, the
+ * onMergeFailed callback is notified.
+ */
+public final class MergedReadRegistersTask implements ReadTask {
+
+	private final List<AbstractReadRegistersTask<?, ?>> tasks;
+	private final Consumer<MergedReadRegistersTask> onMergeFailed;
+	private final int startAddress;
+	private final int length;
+	private final Priority priority;
+	private final ModbusElement[] elements;
+	private final ExecuteState[] executeStates;
+
+	private int savedRequests = 0;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param tasks         the original tasks; sorted by StartAddress, all of the
+	 *                      same class, Unit-ID and {@link Priority}
+	 * @param onMergeFailed callback if the device rejected the merged request
+	 *                      with an 'Illegal Data Address' exception
+	 */
+	public MergedReadRegistersTask(List<AbstractReadRegistersTask<?, ?>> tasks,
+			Consumer<MergedReadRegistersTask> onMergeFailed) {
+		if (tasks.isEmpty()) {
+			throw new IllegalArgumentException("MergedReadRegistersTask requires at least one task");
+		}
+		this.tasks = List.copyOf(tasks);
+		this.onMergeFailed = onMergeFailed;
+		this.startAddress = tasks.stream().mapToInt(Task::getStartAddress).min().getAsInt();
+		this.length = tasks.stream().mapToInt(t -> t.getStartAddress() + t.getLength()).max().getAsInt()
+				- this.startAddress;
+		this.priority = tasks.get(0).getPriority();
+		this.elements = tasks.stream() //
+				.flatMap(t -> Stream.of(t.getElements())) //
+				.toArray(ModbusElement[]::new);
+		this.executeStates = new ExecuteState[tasks.size()];
+	}
+
+	/**
+	 * Gets the original tasks.
+	 *
+	 * @return a list of {@link AbstractReadRegistersTask}s
+	 */
+	public List<AbstractReadRegistersTask<?, ?>> getTasks() {
+		return this.tasks;
+	}
+
+	/**
+	 * Gets the {@link ExecuteState}s of the original tasks of the last execution;
+	 * in the same order as {@link #getTasks()}.
+	 *
+	 * @return an array of {@link ExecuteState}s
+	 */
+	public ExecuteState[] getExecuteStates() {
+		return this.executeStates;
+	}
+
+	/**
+	 * Gets the number of requests that were saved by the last execution. This is
+	 * negative if the merged request failed.
+	 *
+	 * @return the number of saved requests
+	 */
+	public int getSavedRequests() {
+		return this.savedRequests;
+	}
+
+	@Override
+	public ExecuteState execute(AbstractModbusBridge bridge) {
+		var first = this.tasks.get(0);
+		try {
+			var response = first.readRegisters(bridge, this.startAddress, this.length);
+			if (response != null) {
+				for (var i = 0; i < this.tasks.size(); i++) {
+					var task = this.tasks.get(i);
+					this.executeStates[i] = task.applyRegisters(bridge, response,
+							task.getStartAddress() - this.startAddress);
+				}
+				this.savedRequests = this.tasks.size() - 1;
+				return this.getExecuteState();
+			}
+			// Bridge is stopped -> original tasks handle this case
+
+		} catch (Exception e) {
+			// Fallback to the original tasks; this costs one additional request
+			if (isIllegalDataAddress(e)) {
+				// Device does not allow reading the registers in a gap
+				this.onMergeFailed.accept(this);
+			}
+		}
+
+		for (var i = 0; i < this.tasks.size(); i++) {
+			this.executeStates[i] = this.tasks.get(i).execute(bridge);
+		}
+		this.savedRequests = -1;
+		return this.getExecuteState();
+	}
+
+	/**
+	 * Is the given {@link Exception} - or one of its causes - a
+	 * {@link ModbusSlaveException} with 'Illegal Data Address'?
+	 *
+	 * @param e the {@link Exception}
+	 * @return true for 'Illegal Data Address'
+	 */
+	private static boolean isIllegalDataAddress(Throwable e) {
+		for (var t = e; t != null; t = t.getCause()) {
+			if (t instanceof ModbusSlaveException mse && mse.isType(ILLEGAL_ADDRESS_EXCEPTION)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Combines the {@link ExecuteState}s of the original tasks.
+	 *
+	 * @return Error if any task failed; OK if any task succeeded; otherwise NO_OP
+	 */
+	private ExecuteState getExecuteState() {
+		var result = (ExecuteState) ExecuteState.NO_OP;
+		for (var executeState : this.executeStates) {
+			switch (executeState) {
+			case ExecuteState.Error es -> {
+				return es;
+			}
+			case ExecuteState.Ok es -> result = es;
+			case ExecuteState.NoOp es -> {
+			}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public ModbusElement[] getElements() {
+		return this.elements;
+	}
+
+	@Override
+	public int getStartAddress() {
+		return this.startAddress;
+	}
+
+	@Override
+	public int getLength() {
+		return this.length;
+	}
+
+	/**
+	 * Sets the parent of all original tasks.
+	 *
+	 * @param parent the {@link AbstractOpenemsModbusComponent}
+	 */
+	@Override
+	public void setParent(AbstractOpenemsModbusComponent parent) {
+		this.tasks.forEach(t -> t.setParent(parent));
+	}
+
+	@Override
+	public ModbusComponent getParent() {
+		return this.tasks.get(0).getParent();
+	}
+
+	@Override
+	public Priority getPriority() {
+		return this.priority;
+	}
+
+	@Override
+	public void deactivate() {
+		// Original tasks are deactivated by their ModbusProtocol
+	}
+
+	@Override
+	public String toString() {
+		return "MergedReadRegistersTask [startAddress=" + this.startAddress + ", length=" + this.length + ", tasks="
+				+ this.tasks.size() + "]";
+	}
+}
@@ -1,6 +1,9 @@
 package io.openems.edge.bridge.modbus.api.task;
 
+import java.time.Duration;
+
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.common.taskmanager.Priority;
 
 /**
  * A Modbus 'ReadTask' is holding references to one or more Modbus
@@ -9,4 +12,15 @@ import io.openems.edge.bridge.modbus.api.element.ModbusElement;
  * inherits from ReadTask.
  */
 public non-sealed interface ReadTask extends Task {
+
+	/**
+	 * Gets the target refresh interval of this task. This is only used if
+	 * adaptive polling is activated for the Modbus-Bridge.
+	 *
+	 * @return the refresh interval; null for the default of its {@link Priority}
+	 */
+	public default Duration getRefreshInterval() {
+		return null;
+	}
+
 }
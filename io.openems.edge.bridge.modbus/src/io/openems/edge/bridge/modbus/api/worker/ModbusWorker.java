@@ -2,21 +2,31 @@ package io.openems.edge.bridge.modbus.api.worker;
 
 import static io.openems.common.utils.FunctionUtils.doNothing;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import com.google.common.base.Stopwatch;
+
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.Config.LogHandler;
 import io.openems.edge.bridge.modbus.api.ModbusComponent;
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.MergedReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.bridge.modbus.api.task.WriteTask;
 import io.openems.edge.bridge.modbus.api.worker.internal.CycleTasks;
 import io.openems.edge.bridge.modbus.api.worker.internal.CycleTasksManager;
 import io.openems.edge.bridge.modbus.api.worker.internal.DefectiveComponents;
+import io.openems.edge.bridge.modbus.api.worker.internal.PipelineExecutor;
+import io.openems.edge.bridge.modbus.api.worker.internal.ReadTasksPlanner;
+import io.openems.edge.bridge.modbus.api.worker.internal.ReadTasksScheduler;
 import io.openems.edge.bridge.modbus.api.worker.internal.TasksSupplierImpl;
 
 /**
@@ -36,11 +46,18 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	// Callbacks
 	private final Function<Task, ExecuteState> execute;
 	private final Consumer<ModbusElement[]> invalidate;
+	private final Consumer<Integer> savedRequestsChannel;
 
 	private final DefectiveComponents defectiveComponents;
 	private final TasksSupplierImpl tasksSupplier;
 	private final CycleTasksManager cycleTasksManager;
 
+	/** Executes Read-Tasks in parallel; null for strictly sequential execution. */
+	private volatile PipelineExecutor pipeline = null;
+
+	/** Number of requests saved by merged read tasks in the current Cycle. */
+	private final AtomicInteger savedRequests = new AtomicInteger();
+
 	/**
 	 * Constructor for {@link ModbusWorker}.
 	 * 
@@ -54,28 +71,65 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	 * @param cycleDelayChannel          sets the
 	 *                                   {@link BridgeModbus.ChannelId#CYCLE_DELAY}
 	 *                                   channel
+	 * @param savedRequestsChannel       sets the
+	 *                                   {@link BridgeModbus.ChannelId#SAVED_REQUESTS}
+	 *                                   channel
 	 * @param logHandler                 a {@link Supplier} for the
 	 *                                   {@link LogHandler}
 	 */
 	public ModbusWorker(Function<Task, ExecuteState> execute, Consumer<ModbusElement[]> invalidate,
 			Consumer<Boolean> cycleTimeIsTooShortChannel, Consumer<Long> cycleDelayChannel,
-			Supplier<LogHandler> logHandler) {
+			Consumer<Integer> savedRequestsChannel, Supplier<LogHandler> logHandler) {
 		this.execute = execute;
 		this.invalidate = invalidate;
+		this.savedRequestsChannel = savedRequestsChannel;
 
 		this.defectiveComponents = new DefectiveComponents(logHandler);
 		this.tasksSupplier = new TasksSupplierImpl(logHandler);
 		this.cycleTasksManager = new CycleTasksManager(this.tasksSupplier, this.defectiveComponents,
-				cycleTimeIsTooShortChannel, cycleDelayChannel, logHandler);
+				cycleTimeIsTooShortChannel, cycleDelayChannel, logHandler, this::awaitPendingReads);
 	}
 
 	@Override
 	protected void forever() throws InterruptedException {
 		var task = this.cycleTasksManager.getNextTask();
 
+		var pipeline = this.pipeline;
+		if (pipeline != null) {
+			if (task instanceof ReadTask && !(task instanceof WriteTask)) {
+				// execute the task in parallel
+				pipeline.execute(task, () -> this.executeTask(task));
+				return;
+			}
+			// Write- and Wait-Tasks are executed after all pending Read-Tasks
+			pipeline.awaitIdle();
+		}
+
+		this.executeTask(task);
+	}
+
+	private void executeTask(Task task) {
 		// execute the task
+		var stopwatch = Stopwatch.createStarted();
 		var result = this.execute.apply(task);
+		var duration = stopwatch.elapsed().toNanos();
+
+		if (task instanceof MergedReadRegistersTask merged) {
+			// handle the original tasks individually
+			this.savedRequests.addAndGet(merged.getSavedRequests());
+			var tasks = merged.getTasks();
+			var executeStates = merged.getExecuteStates();
+			for (var i = 0; i < tasks.size(); i++) {
+				this.handleExecuteState(tasks.get(i), executeStates[i]);
+				this.tasksSupplier.onExecuted(tasks.get(i), executeStates[i], duration / tasks.size());
+			}
+		} else {
+			this.handleExecuteState(task, result);
+			this.tasksSupplier.onExecuted(task, result, duration);
+		}
+	}
 
+	private void handleExecuteState(Task task, ExecuteState result) {
 		switch (result) {
 		case ExecuteState.Ok es ->
 			// no exception & at least one sub-task executed
@@ -161,6 +215,99 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	 * Called on BEFORE_PROCESS_IMAGE event.
 	 */
 	public void onBeforeProcessImage() {
+		this.savedRequestsChannel.accept(this.savedRequests.getAndSet(0));
 		this.cycleTasksManager.onBeforeProcessImage();
 	}
+
+	/**
+	 * Blocks until all Read-Tasks that are executed in parallel are finished.
+	 */
+	private void awaitPendingReads() {
+		var pipeline = this.pipeline;
+		if (pipeline == null) {
+			return;
+		}
+		try {
+			pipeline.awaitIdle();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Sets the number of Read-Tasks that are executed in parallel.
+	 * 
+	 * <p>
+	 * With a window size of one, all tasks are executed strictly one after the
+	 * other. Otherwise Read-Tasks are executed by a {@link PipelineExecutor};
+	 * Write-Tasks are still executed exclusively.
+	 * 
+	 * @param name         a name for the Threads
+	 * @param windowSize   the maximum number of Read-Tasks in flight
+	 * @param maxPerDevice the maximum number of Read-Tasks in flight per Unit-ID;
+	 *                     zero for no limit besides the window size
+	 */
+	public synchronized void setMaxTasksInFlight(String name, int windowSize, int maxPerDevice) {
+		var previous = this.pipeline;
+		if (previous != null && previous.getWindowSize() == windowSize
+				&& previous.getMaxPerDevice() == PipelineExecutor.toMaxPerDevice(windowSize, maxPerDevice)) {
+			return;
+		}
+		this.pipeline = windowSize > 1 //
+				? new PipelineExecutor(name, windowSize, maxPerDevice) //
+				: null;
+		if (previous != null) {
+			previous.deactivate();
+		}
+	}
+
+	@Override
+	public synchronized void deactivate() {
+		super.deactivate();
+		var pipeline = this.pipeline;
+		this.pipeline = null;
+		if (pipeline != null) {
+			pipeline.deactivate();
+		}
+	}
+
+	/**
+	 * Enables or disables merging of neighbouring read tasks.
+	 * 
+	 * <p>
+	 * See {@link ReadTasksPlanner}.
+	 * 
+	 * @param enabled true to merge read tasks
+	 * @param maxGap  the maximum number of unused registers between two merged
+	 *                tasks
+	 */
+	public void setMergeReadTasks(boolean enabled, int maxGap) {
+		this.tasksSupplier.setReadTasksPlanner(enabled ? new ReadTasksPlanner(maxGap) : null);
+	}
+
+	/**
+	 * Enables or disables adaptive polling of read tasks.
+	 * 
+	 * <p>
+	 * See {@link ReadTasksScheduler}.
+	 * 
+	 * @param enabled                    true to schedule read tasks by their
+	 *                                   refresh interval
+	 * @param lowPriorityRefreshInterval the default refresh interval of LOW
+	 *                                   priority tasks
+	 */
+	public void setAdaptivePolling(boolean enabled, Duration lowPriorityRefreshInterval) {
+		this.tasksSupplier.setReadTasksScheduler(enabled //
+				? new ReadTasksScheduler(lowPriorityRefreshInterval) //
+				: null);
+	}
+
+	/**
+	 * Gets the {@link ReadTasksScheduler}, if adaptive polling is enabled.
+	 * 
+	 * @return the {@link ReadTasksScheduler}; null if disabled
+	 */
+	public ReadTasksScheduler getReadTasksScheduler() {
+		return this.tasksSupplier.getReadTasksScheduler();
+	}
 }
\ No newline at end of file
@@ -4,7 +4,9 @@ import java.util.LinkedList;
 import java.util.Objects;
 import java.util.stream.Stream;
 
+import io.openems.edge.bridge.modbus.api.task.MergedReadRegistersTask;
 import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.WriteTask;
 
 /**
@@ -63,7 +65,9 @@ public record CycleTasks(LinkedList<ReadTask> reads, LinkedList<WriteTask> write
 	 */
 	public boolean containsDefectiveComponent(DefectiveComponents defectiveComponents) {
 		return Stream.concat(this.reads.stream(), this.writes.stream()) //
-				.map(t -> t.getParent()) //
+				.flatMap(t -> t instanceof MergedReadRegistersTask m //
+						? m.getTasks().stream().map(Task::getParent) //
+						: Stream.of(t.getParent())) //
 				.filter(Objects::nonNull) //
 				.map(p -> p.id()) //
 				.anyMatch(c -> defectiveComponents.isKnown(c));
@@ -6,6 +6,7 @@ import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.openems.common.utils.FunctionUtils;
 import io.openems.edge.bridge.modbus.api.Config.LogHandler;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.WaitTask;
@@ -27,6 +28,7 @@ public class CycleTasksManager {
 	private final DefectiveComponents defectiveComponents;
 	private final Consumer<Boolean> cycleTimeIsTooShortChannel;
 	private final Supplier<LogHandler> logHandler;
+	private final Runnable awaitPendingReads;
 
 	private final WaitDelayHandler waitDelayHandler;
 	private final WaitTask.Mutex waitMutexTask = new WaitTask.Mutex();
@@ -36,10 +38,31 @@ public class CycleTasksManager {
 	public CycleTasksManager(TasksSupplier tasksSupplier, DefectiveComponents defectiveComponents,
 			Consumer<Boolean> cycleTimeIsTooShortChannel, Consumer<Long> cycleDelayChannel,
 			Supplier<LogHandler> logHandler) {
+		this(tasksSupplier, defectiveComponents, cycleTimeIsTooShortChannel, cycleDelayChannel, logHandler,
+				FunctionUtils::doNothing);
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param tasksSupplier              the {@link TasksSupplier}
+	 * @param defectiveComponents        the {@link DefectiveComponents}
+	 * @param cycleTimeIsTooShortChannel sets the CYCLE_TIME_IS_TOO_SHORT channel
+	 * @param cycleDelayChannel          sets the CYCLE_DELAY channel
+	 * @param logHandler                 a {@link Supplier} for the
+	 *                                   {@link LogHandler}
+	 * @param awaitPendingReads          blocks until all Read-Tasks that are
+	 *                                   executed in parallel are finished; called
+	 *                                   before the Cycle is marked as FINISHED
+	 */
+	public CycleTasksManager(TasksSupplier tasksSupplier, DefectiveComponents defectiveComponents,
+			Consumer<Boolean> cycleTimeIsTooShortChannel, Consumer<Long> cycleDelayChannel,
+			Supplier<LogHandler> logHandler, Runnable awaitPendingReads) {
 		this.tasksSupplier = tasksSupplier;
 		this.defectiveComponents = defectiveComponents;
 		this.cycleTimeIsTooShortChannel = cycleTimeIsTooShortChannel;
 		this.logHandler = logHandler;
+		this.awaitPendingReads = awaitPendingReads;
 		this.waitDelayHandler = new WaitDelayHandler(() -> this.onWaitDelayTaskFinished(), cycleDelayChannel);
 	}
 
@@ -51,7 +74,7 @@ public class CycleTasksManager {
 		FINISHED
 	}
 
-	private StateMachine state = StateMachine.FINISHED;
+	private volatile StateMachine state = StateMachine.FINISHED;
 
 	/**
 	 * Gets the current state.
@@ -84,8 +107,10 @@ public class CycleTasksManager {
 		// Update WaitDelayHandler Queue size
 		this.waitDelayHandler.updateTotalNumberOfTasks(this.tasksSupplier.getTotalNumberOfTasks());
 
-		// Fill queues for this Cycle
-		this.cycleTasks = this.tasksSupplier.getCycleTasks(this.defectiveComponents);
+		// Fill queues for this Cycle; the learned delay is the budget for optional
+		// Read-Tasks
+		this.cycleTasks = this.tasksSupplier.getCycleTasks(this.defectiveComponents,
+				this.waitDelayHandler.getWaitDelayTask().initialDelay);
 
 		// On defectiveComponents invalidate time measurement
 		final var containsDefectiveComponents = this.cycleTasks.containsDefectiveComponent(this.defectiveComponents);
@@ -158,8 +183,10 @@ public class CycleTasksManager {
 			if (task != null) {
 				yield task;
 			}
-			// Otherwise -> next state + recursive call
-			this.state = StateMachine.FINISHED;
+			// Otherwise -> wait for parallel reads, next state + recursive call. The
+			// State might have been changed in-between, e.g. by EXECUTE_WRITE event
+			this.awaitPendingReads.run();
+			this.compareAndSetState(StateMachine.READ, StateMachine.FINISHED);
 			yield this.getNextTask();
 		}
 
@@ -176,6 +203,21 @@ public class CycleTasksManager {
 		return nextTask;
 	}
 
+	/**
+	 * Sets the State only if it is still the expected State.
+	 * 
+	 * @param expected the expected {@link StateMachine}
+	 * @param next     the next {@link StateMachine}
+	 * @return true if the State was set
+	 */
+	private synchronized boolean compareAndSetState(StateMachine expected, StateMachine next) {
+		if (this.state != expected) {
+			return false;
+		}
+		this.state = next;
+		return true;
+	}
+
 	/**
 	 * Waiting in WAIT_BEFORE_READ finished.
 	 */
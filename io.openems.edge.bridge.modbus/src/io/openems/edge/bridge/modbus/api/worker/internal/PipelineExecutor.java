@@ -0,0 +1,195 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.edge.bridge.modbus.api.task.Task;
+
+/**
+ * Executes {@link Task}s in parallel, so that multiple Modbus transactions can
+ * be in flight at the same time.
+ *
+ * <p>
+ * At most 'windowSize' tasks are executed at once and at most 'maxPerDevice'
+ * tasks for the same Modbus Unit-ID. {@link #execute(Task, Runnable)} blocks
+ * only while the window is full. The per-device limit is checked before a task
+ * is dispatched: tasks for a busy device are queued and dispatched in order as
+ * soon as a task of the same device finished, so a slow device never blocks
+ * tasks for other devices.
+ */
+public class PipelineExecutor {
+
+	private static class Device {
+		private final Queue<Runnable> queued = new ArrayDeque<>();
+		private int running = 0;
+	}
+
+	private final int windowSize;
+	private final int maxPerDevice;
+	private final ExecutorService executor;
+	private final Semaphore window;
+	// Guarded by this
+	private final Map<Integer, Device> devices = new HashMap<>();
+
+	private int inFlight = 0;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param name         the name, used for Thread names
+	 * @param windowSize   the maximum number of parallel tasks
+	 * @param maxPerDevice the maximum number of parallel tasks per Unit-ID; zero
+	 *                     for no limit besides the window size
+	 */
+	public PipelineExecutor(String name, int windowSize, int maxPerDevice) {
+		this.windowSize = Math.max(1, windowSize);
+		this.maxPerDevice = toMaxPerDevice(this.windowSize, maxPerDevice);
+		this.window = new Semaphore(this.windowSize);
+		this.executor = Executors.newFixedThreadPool(this.windowSize,
+				new ThreadFactoryBuilder().setNameFormat("Modbus.Pipeline:" + name + "-%d").build());
+	}
+
+	/**
+	 * Gets the effective maximum number of parallel tasks per Unit-ID.
+	 *
+	 * @param windowSize   the maximum number of parallel tasks
+	 * @param maxPerDevice the configured maximum number of parallel tasks per
+	 *                     Unit-ID; zero for no limit besides the window size
+	 * @return the effective maximum per device
+	 */
+	public static int toMaxPerDevice(int windowSize, int maxPerDevice) {
+		var max = Math.max(1, windowSize);
+		if (maxPerDevice < 1) {
+			return max;
+		}
+		return Math.min(maxPerDevice, max);
+	}
+
+	/**
+	 * Executes the given {@link Runnable} for the {@link Task} as soon as the
+	 * limits allow.
+	 *
+	 * @param task     the {@link Task}; used to identify the device
+	 * @param runnable the {@link Runnable} that executes the {@link Task}
+	 * @throws InterruptedException if interrupted while waiting for a free slot
+	 */
+	public void execute(Task task, Runnable runnable) throws InterruptedException {
+		var parent = task.getParent();
+		var unitId = parent == null ? -1 : parent.getUnitId();
+		this.window.acquire();
+
+		final Device device;
+		synchronized (this) {
+			this.inFlight++;
+			device = this.devices.computeIfAbsent(unitId, t -> new Device());
+			if (device.running >= this.maxPerDevice) {
+				// Device is busy -> dispatched when one of its tasks finished
+				device.queued.add(runnable);
+				this.window.release();
+				return;
+			}
+			device.running++;
+		}
+
+		try {
+			this.submit(device, runnable);
+		} catch (RejectedExecutionException e) {
+			this.onFinished(device);
+			throw e;
+		}
+	}
+
+	private void submit(Device device, Runnable runnable) {
+		this.executor.execute(() -> {
+			try {
+				runnable.run();
+			} finally {
+				this.onFinished(device);
+			}
+		});
+	}
+
+	/**
+	 * Called when a task of the given device finished. Hands the window slot and
+	 * the device slot over to the next queued task of the same device, if any.
+	 *
+	 * @param device the {@link Device}
+	 */
+	private void onFinished(Device device) {
+		while (true) {
+			final Runnable next;
+			synchronized (this) {
+				this.inFlight--;
+				next = device.queued.poll();
+				if (next == null) {
+					device.running--;
+				}
+				this.notifyAll();
+			}
+			if (next == null) {
+				this.window.release();
+				return;
+			}
+			try {
+				this.submit(device, next);
+				return;
+			} catch (RejectedExecutionException e) {
+				// Executor was shut down -> drop the queued task
+			}
+		}
+	}
+
+	/**
+	 * Blocks until all started tasks are finished.
+	 *
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public synchronized void awaitIdle() throws InterruptedException {
+		while (this.inFlight > 0) {
+			this.wait();
+		}
+	}
+
+	/**
+	 * Gets the number of currently executed or queued tasks.
+	 *
+	 * @return the number of tasks in flight
+	 */
+	public synchronized int getInFlight() {
+		return this.inFlight;
+	}
+
+	/**
+	 * Gets the maximum number of parallel tasks.
+	 *
+	 * @return the window size
+	 */
+	public int getWindowSize() {
+		return this.windowSize;
+	}
+
+	/**
+	 * Gets the maximum number of parallel tasks per Unit-ID.
+	 *
+	 * @return the maximum per device
+	 */
+	public int getMaxPerDevice() {
+		return this.maxPerDevice;
+	}
+
+	/**
+	 * Shuts down the executor.
+	 */
+	public void deactivate() {
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
+	}
+}
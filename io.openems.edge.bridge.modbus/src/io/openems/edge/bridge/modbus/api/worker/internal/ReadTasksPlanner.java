@@ -0,0 +1,126 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.openems.edge.bridge.modbus.api.task.AbstractReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.MergedReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Merges {@link AbstractReadRegistersTask}s of the same type, Unit-ID and
+ * {@link Priority} with contiguous or near-contiguous register ranges -
+ * possibly of different Components - to {@link MergedReadRegistersTask}s.
+ *
+ * <p>
+ * Tasks whose merged request was rejected once with 'Illegal Data Address'
+ * (i.e. the device does not allow reading the registers in a gap) are not
+ * merged again. Other errors - like timeouts - do not exclude tasks.
+ */
+public class ReadTasksPlanner {
+
+	/** Maximum number of registers per FC3/FC4 request. */
+	public static final int MAX_LENGTH = 125;
+
+	private static record GroupKey(Class<?> clazz, int unitId, Priority priority) {
+	}
+
+	private final int maxGap;
+	private final Set<Task> excludedTasks = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxGap the maximum number of unused registers between two merged
+	 *               tasks
+	 */
+	public ReadTasksPlanner(int maxGap) {
+		this.maxGap = Math.max(0, maxGap);
+	}
+
+	/**
+	 * Plans the given {@link ReadTask}s.
+	 *
+	 * @param tasks the {@link ReadTask}s
+	 * @return the {@link ReadTask}s with merged tasks in place of their original
+	 *         tasks
+	 */
+	public List<ReadTask> plan(Collection<ReadTask> tasks) {
+		var result = new ArrayList<ReadTask>(tasks.size());
+		var groups = new LinkedHashMap<GroupKey, List<AbstractReadRegistersTask<?, ?>>>();
+		for (var task : tasks) {
+			if (task instanceof AbstractReadRegistersTask<?, ?> t //
+					&& t.getParent() != null //
+					&& t.getLength() > 0 //
+					&& !this.excludedTasks.contains(t)) {
+				groups.computeIfAbsent(new GroupKey(t.getClass(), t.getParent().getUnitId(), t.getPriority()),
+						(ignore) -> new ArrayList<>()) //
+						.add(t);
+			} else {
+				result.add(task);
+			}
+		}
+
+		for (var group : groups.values()) {
+			group.sort(Comparator.comparingInt(Task::getStartAddress));
+			var merge = new ArrayList<AbstractReadRegistersTask<?, ?>>();
+			var start = 0;
+			var end = 0;
+			for (var task : group) {
+				var taskEnd = task.getStartAddress() + task.getLength();
+				if (!merge.isEmpty() //
+						&& task.getStartAddress() - end <= this.maxGap //
+						&& Math.max(end, taskEnd) - start <= MAX_LENGTH) {
+					merge.add(task);
+					end = Math.max(end, taskEnd);
+					continue;
+				}
+				this.addMerged(result, merge);
+				merge = new ArrayList<>();
+				merge.add(task);
+				start = task.getStartAddress();
+				end = taskEnd;
+			}
+			this.addMerged(result, merge);
+		}
+		return result;
+	}
+
+	private void addMerged(List<ReadTask> result, List<AbstractReadRegistersTask<?, ?>> merge) {
+		switch (merge.size()) {
+		case 0 -> {
+		}
+		case 1 -> result.add(merge.get(0));
+		default -> result.add(new MergedReadRegistersTask(merge, this::onMergeFailed));
+		}
+	}
+
+	private void onMergeFailed(MergedReadRegistersTask task) {
+		this.excludedTasks.addAll(task.getTasks());
+	}
+
+	/**
+	 * Forgets about the given {@link Task}s, e.g. after its protocol was removed.
+	 *
+	 * @param tasks the {@link Task}s
+	 */
+	public void forget(Collection<? extends Task> tasks) {
+		this.excludedTasks.removeAll(tasks);
+	}
+
+	/**
+	 * Gets the number of tasks that are excluded from merging.
+	 *
+	 * @return the number of excluded tasks
+	 */
+	public int getNumberOfExcludedTasks() {
+		return this.excludedTasks.size();
+	}
+}
@@ -0,0 +1,219 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.Ticker;
+
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.common.taskmanager.Priority;
+import io.openems.edge.common.type.Tuple;
+
+/**
+ * Schedules {@link ReadTask}s by their target refresh interval within the time
+ * budget of a Cycle ('earliest deadline first').
+ *
+ * <p>
+ * The target refresh interval of a task is either set explicitly via
+ * {@link ReadTask#getRefreshInterval()} or defaults by {@link Priority}: HIGH
+ * tasks every Cycle, LOW tasks the configured default interval. The deadline of
+ * a task is its last successful execution plus its refresh interval.
+ *
+ * <p>
+ * Per Cycle all tasks with a zero refresh interval are scheduled. Due tasks are
+ * added in order of their deadline as long as their learned execution time
+ * fits in the budget. The task with the earliest deadline is always added, so
+ * every task is refreshed eventually, even without budget.
+ */
+public class ReadTasksScheduler {
+
+	/** Weight of a new measurement in the moving average of execution times. */
+	private static final double EXECUTION_TIME_WEIGHT = 0.2;
+
+	/**
+	 * Status of one {@link ReadTask}.
+	 *
+	 * @param componentId     the Component-ID
+	 * @param task            the name of the task
+	 * @param startAddress    the start address
+	 * @param length          the number of registers
+	 * @param priority        the {@link Priority}
+	 * @param refreshInterval the target refresh interval in [ms]
+	 * @param refreshAge      the time since the last successful execution in
+	 *                        [ms]; -1 if never executed
+	 * @param executionTime   the average execution time in [ms]; -1 if unknown
+	 */
+	public static record TaskStatus(String componentId, String task, int startAddress, int length,
+			Priority priority, long refreshInterval, long refreshAge, long executionTime) {
+	}
+
+	private static class Statistics {
+		private final long firstSeen;
+		private String componentId;
+		private long lastRefresh = -1;
+		private long lastScheduled = Long.MIN_VALUE;
+		private double executionTime = Double.NaN;
+
+		private Statistics(long firstSeen) {
+			this.firstSeen = firstSeen;
+		}
+	}
+
+	private static record Candidate(Tuple<String, ReadTask> task, Statistics statistics, long deadline) {
+	}
+
+	private final Ticker ticker;
+	private final long defaultLowPriorityIntervalNanos;
+	private final Map<ReadTask, Statistics> statistics = new HashMap<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param defaultLowPriorityInterval the target refresh interval of LOW
+	 *                                   priority tasks without explicit interval
+	 */
+	public ReadTasksScheduler(Duration defaultLowPriorityInterval) {
+		this(Ticker.systemTicker(), defaultLowPriorityInterval);
+	}
+
+	protected ReadTasksScheduler(Ticker ticker, Duration defaultLowPriorityInterval) {
+		this.ticker = ticker;
+		this.defaultLowPriorityIntervalNanos = defaultLowPriorityInterval.toNanos();
+	}
+
+	/**
+	 * Selects the {@link ReadTask}s for one Cycle.
+	 *
+	 * @param candidates   all {@link ReadTask}s with their Component-IDs
+	 * @param budgetMillis the available time for due tasks in [ms]
+	 * @return the selected {@link ReadTask}s with their Component-IDs
+	 */
+	public synchronized List<Tuple<String, ReadTask>> schedule(Collection<Tuple<String, ReadTask>> candidates,
+			long budgetMillis) {
+		final var now = this.ticker.read();
+		var result = new ArrayList<Tuple<String, ReadTask>>();
+		var due = new ArrayList<Candidate>();
+		for (var candidate : candidates) {
+			var statistics = this.statistics.computeIfAbsent(candidate.b(), t -> new Statistics(now));
+			statistics.componentId = candidate.a();
+			var interval = this.getRefreshIntervalNanos(candidate.b());
+			if (interval <= 0) {
+				// Every Cycle
+				result.add(candidate);
+				continue;
+			}
+			var deadline = statistics.lastRefresh < 0 //
+					? statistics.firstSeen //
+					: statistics.lastRefresh + interval;
+			if (deadline <= now) {
+				due.add(new Candidate(candidate, statistics, deadline));
+			}
+		}
+
+		// Earliest deadline first; prefer tasks that were not scheduled recently
+		due.sort(Comparator.comparingLong(Candidate::deadline) //
+				.thenComparingLong(c -> c.statistics().lastScheduled));
+		var defaultExecutionTime = this.getAverageExecutionTime();
+		var remaining = (double) budgetMillis;
+		for (var candidate : due) {
+			var executionTime = Double.isNaN(candidate.statistics().executionTime) //
+					? defaultExecutionTime //
+					: candidate.statistics().executionTime;
+			if (candidate != due.get(0) && executionTime > remaining) {
+				continue;
+			}
+			remaining -= executionTime;
+			candidate.statistics().lastScheduled = now;
+			result.add(candidate.task());
+		}
+		return result;
+	}
+
+	/**
+	 * Called after a {@link ReadTask} was executed.
+	 *
+	 * @param task          the {@link ReadTask}
+	 * @param executeState  the {@link ExecuteState}
+	 * @param durationNanos the execution time in [ns]
+	 */
+	public synchronized void onExecuted(ReadTask task, ExecuteState executeState, long durationNanos) {
+		var statistics = this.statistics.get(task);
+		if (statistics == null || !(executeState instanceof ExecuteState.Ok)) {
+			return;
+		}
+		statistics.lastRefresh = this.ticker.read();
+		var executionTime = durationNanos / 1_000_000.;
+		statistics.executionTime = Double.isNaN(statistics.executionTime) //
+				? executionTime //
+				: statistics.executionTime + EXECUTION_TIME_WEIGHT * (executionTime - statistics.executionTime);
+	}
+
+	/**
+	 * Forgets about the given {@link Task}s, e.g. after its protocol was removed.
+	 *
+	 * @param tasks the {@link Task}s
+	 */
+	public synchronized void forget(Collection<? extends Task> tasks) {
+		this.statistics.keySet().removeAll(tasks);
+	}
+
+	/**
+	 * Gets the {@link TaskStatus} of all known {@link ReadTask}s.
+	 *
+	 * @return a list of {@link TaskStatus}
+	 */
+	public synchronized List<TaskStatus> getTaskStatus() {
+		final var now = this.ticker.read();
+		var result = new ArrayList<TaskStatus>(this.statistics.size());
+		this.statistics.forEach((task, statistics) -> {
+			result.add(new TaskStatus(statistics.componentId, task.getClass().getSimpleName(),
+					task.getStartAddress(), task.getLength(), task.getPriority(),
+					this.getRefreshIntervalNanos(task) / 1_000_000, //
+					statistics.lastRefresh < 0 ? -1 : (now - statistics.lastRefresh) / 1_000_000, //
+					Double.isNaN(statistics.executionTime) ? -1 : Math.round(statistics.executionTime)));
+		});
+		result.sort(Comparator.comparing(TaskStatus::componentId) //
+				.thenComparingInt(TaskStatus::startAddress));
+		return result;
+	}
+
+	/**
+	 * Gets the maximum refresh age of all known {@link ReadTask}s. For tasks that
+	 * were never executed, the time since they are known is used.
+	 *
+	 * @return the maximum refresh age in [ms]
+	 */
+	public synchronized long getMaxRefreshAge() {
+		final var now = this.ticker.read();
+		return this.statistics.values().stream() //
+				.mapToLong(s -> now - (s.lastRefresh < 0 ? s.firstSeen : s.lastRefresh)) //
+				.max() //
+				.orElse(0) / 1_000_000;
+	}
+
+	private long getRefreshIntervalNanos(ReadTask task) {
+		var refreshInterval = task.getRefreshInterval();
+		if (refreshInterval != null) {
+			return refreshInterval.toNanos();
+		}
+		return switch (task.getPriority()) {
+		case HIGH -> 0;
+		case LOW -> this.defaultLowPriorityIntervalNanos;
+		};
+	}
+
+	private double getAverageExecutionTime() {
+		return this.statistics.values().stream() //
+				.mapToDouble(s -> s.executionTime) //
+				.filter(t -> !Double.isNaN(t)) //
+				.average() //
+				.orElse(0);
+	}
+}
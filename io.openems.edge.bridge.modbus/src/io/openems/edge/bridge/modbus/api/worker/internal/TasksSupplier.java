@@ -10,6 +10,19 @@ public interface TasksSupplier {
 	 */
 	public CycleTasks getCycleTasks(DefectiveComponents defectiveComponents);
 
+	/**
+	 * Supplies the Tasks for one Cycle, considering the time that is available for
+	 * reading.
+	 * 
+	 * @param defectiveComponents the {@link DefectiveComponents} handler
+	 * @param budgetMillis        the available time for optional Read-Tasks in
+	 *                            [ms]
+	 * @return a {@link CycleTasks} object
+	 */
+	public default CycleTasks getCycleTasks(DefectiveComponents defectiveComponents, long budgetMillis) {
+		return this.getCycleTasks(defectiveComponents);
+	}
+
 	/**
 	 * Gets the total number of tasks.
 	 * 
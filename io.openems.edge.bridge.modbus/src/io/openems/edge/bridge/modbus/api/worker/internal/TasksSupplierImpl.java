@@ -1,5 +1,6 @@
 package io.openems.edge.bridge.modbus.api.worker.internal;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -17,6 +18,7 @@ import io.openems.edge.bridge.modbus.api.ModbusProtocol;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
 import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
 import io.openems.edge.bridge.modbus.api.task.WriteTask;
 import io.openems.edge.common.taskmanager.Priority;
 import io.openems.edge.common.taskmanager.TasksManager;
@@ -44,6 +46,61 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 */
 	private final Queue<Tuple<String, ReadTask>> nextLowPriorityTasks = new LinkedList<>();
 
+	/**
+	 * Optional {@link ReadTasksPlanner}; null if read tasks are not merged.
+	 */
+	private ReadTasksPlanner readTasksPlanner = null;
+
+	/**
+	 * Sets the {@link ReadTasksPlanner} that merges the read tasks of each Cycle.
+	 * 
+	 * @param readTasksPlanner the {@link ReadTasksPlanner}; null to disable
+	 */
+	public synchronized void setReadTasksPlanner(ReadTasksPlanner readTasksPlanner) {
+		this.readTasksPlanner = readTasksPlanner;
+	}
+
+	/**
+	 * Optional {@link ReadTasksScheduler}; null for the fixed HIGH/LOW priority
+	 * scheme.
+	 */
+	private ReadTasksScheduler readTasksScheduler = null;
+
+	/**
+	 * Sets the {@link ReadTasksScheduler} that selects the read tasks of each
+	 * Cycle by their refresh interval.
+	 * 
+	 * @param readTasksScheduler the {@link ReadTasksScheduler}; null to disable
+	 */
+	public synchronized void setReadTasksScheduler(ReadTasksScheduler readTasksScheduler) {
+		this.readTasksScheduler = readTasksScheduler;
+		this.nextLowPriorityTasks.clear();
+	}
+
+	/**
+	 * Gets the {@link ReadTasksScheduler}.
+	 * 
+	 * @return the {@link ReadTasksScheduler}; null if disabled
+	 */
+	public synchronized ReadTasksScheduler getReadTasksScheduler() {
+		return this.readTasksScheduler;
+	}
+
+	/**
+	 * Called after a {@link Task} was executed. Updates the statistics of the
+	 * {@link ReadTasksScheduler}.
+	 * 
+	 * @param task          the {@link Task}
+	 * @param executeState  the {@link ExecuteState}
+	 * @param durationNanos the execution time in [ns]
+	 */
+	public void onExecuted(Task task, ExecuteState executeState, long durationNanos) {
+		var readTasksScheduler = this.getReadTasksScheduler();
+		if (readTasksScheduler != null && task instanceof ReadTask readTask) {
+			readTasksScheduler.onExecuted(readTask, executeState, durationNanos);
+		}
+	}
+
 	/**
 	 * Adds (or replaces) the protocol identified by its sourceId.
 	 * 
@@ -85,26 +142,60 @@ public class TasksSupplierImpl implements TasksSupplier {
 		taskManager.getTasks() //
 				.forEach(t -> invalidate.accept(t.getElements()));
 		this.nextLowPriorityTasks.removeIf(t -> t.a() == sourceId);
+		if (this.readTasksPlanner != null) {
+			this.readTasksPlanner.forget(taskManager.getTasks());
+		}
+		if (this.readTasksScheduler != null) {
+			this.readTasksScheduler.forget(taskManager.getTasks());
+		}
 	}
 
 	@Override
 	public synchronized CycleTasks getCycleTasks(DefectiveComponents defectiveComponents) {
+		return this.getCycleTasks(defectiveComponents, 0);
+	}
+
+	@Override
+	public synchronized CycleTasks getCycleTasks(DefectiveComponents defectiveComponents, long budgetMillis) {
 		Map<String, LinkedList<Task>> tasks = new HashMap<>();
-		// One Low Priority ReadTask
-		{
-			var t = this.getOneLowPriorityReadTask();
-			if (t != null) {
+		if (this.readTasksScheduler == null) {
+			// One Low Priority ReadTask
+			{
+				var t = this.getOneLowPriorityReadTask();
+				if (t != null) {
+					tasks.computeIfAbsent(t.a(), (ignore) -> new LinkedList<>()) //
+							.add(t.b());
+				}
+			}
+			// All High Priority ReadTasks + all WriteTasks
+			this.taskManagers.forEach((id, taskManager) -> {
+				var list = tasks.computeIfAbsent(id, (ignore) -> new LinkedList<>());
+				taskManager.getTasks().stream() //
+						.filter(t -> t instanceof WriteTask || t.getPriority() == Priority.HIGH) //
+						.forEach(list::add);
+			});
+
+		} else {
+			// ReadTasks as scheduled
+			var candidates = new ArrayList<Tuple<String, ReadTask>>();
+			this.taskManagers.forEach((id, taskManager) -> {
+				taskManager.getTasks().stream() //
+						.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
+						.map(t -> new Tuple<String, ReadTask>(id, t)) //
+						.forEach(candidates::add);
+			});
+			for (var t : this.readTasksScheduler.schedule(candidates, budgetMillis)) {
 				tasks.computeIfAbsent(t.a(), (ignore) -> new LinkedList<>()) //
 						.add(t.b());
 			}
+			// All WriteTasks
+			this.taskManagers.forEach((id, taskManager) -> {
+				var list = tasks.computeIfAbsent(id, (ignore) -> new LinkedList<>());
+				taskManager.getTasks().stream() //
+						.filter(WriteTask.class::isInstance) //
+						.forEach(list::add);
+			});
 		}
-		// All High Priority ReadTasks + all WriteTasks
-		this.taskManagers.forEach((id, taskManager) -> {
-			var list = tasks.computeIfAbsent(id, (ignore) -> new LinkedList<>());
-			taskManager.getTasks().stream() //
-					.filter(t -> t instanceof WriteTask || t.getPriority() == Priority.HIGH) //
-					.forEach(list::add);
-		});
 		// Filter out defective components
 		tasks.forEach((id, componentTasks) -> {
 			var isDue = defectiveComponents.isDueForNextTry(id);
@@ -121,9 +212,15 @@ public class TasksSupplierImpl implements TasksSupplier {
 				componentTasks.clear();
 			}
 		});
+		var reads = tasks.values().stream().flatMap(LinkedList::stream) //
+				.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
+				.toList();
+		if (this.readTasksPlanner != null) {
+			// Merge neighbouring read tasks
+			reads = this.readTasksPlanner.plan(reads);
+		}
 		var result = new CycleTasks(//
-				tasks.values().stream().flatMap(LinkedList::stream) //
-						.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
+				reads.stream() //
 						// Sort HIGH priority to the end
 						.sorted((a, b) -> b.getPriority().compareTo(a.getPriority())) //
 						.collect(Collectors.toCollection(LinkedList::new)),
@@ -0,0 +1,99 @@
+package io.openems.edge.bridge.modbus.jsonrpc;
+
+import static io.openems.common.jsonrpc.serialization.JsonSerializerUtil.jsonObjectSerializer;
+
+import java.util.List;
+
+import io.openems.common.jsonrpc.serialization.EmptyObject;
+import io.openems.common.jsonrpc.serialization.EndpointRequestType;
+import io.openems.common.jsonrpc.serialization.JsonSerializer;
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.bridge.modbus.api.worker.internal.ReadTasksScheduler.TaskStatus;
+import io.openems.edge.bridge.modbus.jsonrpc.GetReadTasksStatus.Response;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Gets the refresh age and execution time of all Read-Tasks of a Modbus
+ * Bridge with adaptive polling.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "method": "getReadTasksStatus",
+ *   "params": {}
+ * }
+ * </pre>
+ */
+public class GetReadTasksStatus implements EndpointRequestType<EmptyObject, Response> {
+
+	@Override
+	public String getMethod() {
+		return "getReadTasksStatus";
+	}
+
+	@Override
+	public JsonSerializer<EmptyObject> getRequestSerializer() {
+		return EmptyObject.serializer();
+	}
+
+	@Override
+	public JsonSerializer<Response> getResponseSerializer() {
+		return Response.serializer();
+	}
+
+	public record Response(boolean adaptivePolling, List<TaskStatus> tasks) {
+
+		/**
+		 * Returns a {@link JsonSerializer} for a {@link TaskStatus}.
+		 *
+		 * @return the created {@link JsonSerializer}
+		 */
+		public static JsonSerializer<TaskStatus> taskStatusSerializer() {
+			return jsonObjectSerializer(TaskStatus.class, json -> {
+				return new TaskStatus(//
+						json.getString("componentId"), //
+						json.getString("task"), //
+						json.getInt("startAddress"), //
+						json.getInt("length"), //
+						json.getEnum("priority", Priority.class), //
+						json.getLong("refreshInterval"), //
+						json.getLong("refreshAge"), //
+						json.getLong("executionTime") //
+				);
+			}, obj -> {
+				return JsonUtils.buildJsonObject() //
+						.addProperty("componentId", obj.componentId()) //
+						.addProperty("task", obj.task()) //
+						.addProperty("startAddress", obj.startAddress()) //
+						.addProperty("length", obj.length()) //
+						.addProperty("priority", obj.priority()) //
+						.addProperty("refreshInterval", obj.refreshInterval()) //
+						.addProperty("refreshAge", obj.refreshAge()) //
+						.addProperty("executionTime", obj.executionTime()) //
+						.build();
+			});
+		}
+
+		/**
+		 * Returns a {@link JsonSerializer} for a
+		 * {@link GetReadTasksStatus.Response}.
+		 *
+		 * @return the created {@link JsonSerializer}
+		 */
+		public static JsonSerializer<GetReadTasksStatus.Response> serializer() {
+			return jsonObjectSerializer(json -> {
+				return new GetReadTasksStatus.Response(//
+						json.getBoolean("adaptivePolling"), //
+						json.getList("tasks", taskStatusSerializer()));
+			}, obj -> {
+				return JsonUtils.buildJsonObject() //
+						.addProperty("adaptivePolling", obj.adaptivePolling()) //
+						.add("tasks", taskStatusSerializer().toListSerializer().serialize(obj.tasks())) //
+						.build();
+			});
+		}
+
+	}
+
+}
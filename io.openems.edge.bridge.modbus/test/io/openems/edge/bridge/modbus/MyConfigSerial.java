@@ -20,6 +20,10 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		private int delayAfterTx;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private boolean mergeReadTasks = false;
+		private int mergeReadTasksMaxGap = 0;
+		private boolean adaptivePolling = false;
+		private int lowPriorityRefreshInterval = 30;
 
 		private Builder() {
 		}
@@ -79,6 +83,26 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 			return this;
 		}
 
+		public Builder setMergeReadTasks(boolean mergeReadTasks) {
+			this.mergeReadTasks = mergeReadTasks;
+			return this;
+		}
+
+		public Builder setMergeReadTasksMaxGap(int mergeReadTasksMaxGap) {
+			this.mergeReadTasksMaxGap = mergeReadTasksMaxGap;
+			return this;
+		}
+
+		public Builder setAdaptivePolling(boolean adaptivePolling) {
+			this.adaptivePolling = adaptivePolling;
+			return this;
+		}
+
+		public Builder setLowPriorityRefreshInterval(int lowPriorityRefreshInterval) {
+			this.lowPriorityRefreshInterval = lowPriorityRefreshInterval;
+			return this;
+		}
+
 		public MyConfigSerial build() {
 			return new MyConfigSerial(this);
 		}
@@ -135,4 +159,24 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
+	@Override
+	public boolean mergeReadTasks() {
+		return this.builder.mergeReadTasks;
+	}
+
+	@Override
+	public int mergeReadTasksMaxGap() {
+		return this.builder.mergeReadTasksMaxGap;
+	}
+
+	@Override
+	public boolean adaptivePolling() {
+		return this.builder.adaptivePolling;
+	}
+
+	@Override
+	public int lowPriorityRefreshInterval() {
+		return this.builder.lowPriorityRefreshInterval;
+	}
+
 }
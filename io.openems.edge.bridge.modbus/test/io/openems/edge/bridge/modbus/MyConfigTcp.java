@@ -10,8 +10,14 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		private String id;
 		private String ip;
 		private int port;
+		private int maxTransactionsInFlight = 1;
+		private int maxTransactionsInFlightPerDevice = 0;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private boolean mergeReadTasks = false;
+		private int mergeReadTasksMaxGap = 0;
+		private boolean adaptivePolling = false;
+		private int lowPriorityRefreshInterval = 30;
 
 		private Builder() {
 		}
@@ -31,6 +37,16 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 			return this;
 		}
 
+		public Builder setMaxTransactionsInFlight(int maxTransactionsInFlight) {
+			this.maxTransactionsInFlight = maxTransactionsInFlight;
+			return this;
+		}
+
+		public Builder setMaxTransactionsInFlightPerDevice(int maxTransactionsInFlightPerDevice) {
+			this.maxTransactionsInFlightPerDevice = maxTransactionsInFlightPerDevice;
+			return this;
+		}
+
 		public Builder setLogVerbosity(LogVerbosity logVerbosity) {
 			this.logVerbosity = logVerbosity;
 			return this;
@@ -41,6 +57,26 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 			return this;
 		}
 
+		public Builder setMergeReadTasks(boolean mergeReadTasks) {
+			this.mergeReadTasks = mergeReadTasks;
+			return this;
+		}
+
+		public Builder setMergeReadTasksMaxGap(int mergeReadTasksMaxGap) {
+			this.mergeReadTasksMaxGap = mergeReadTasksMaxGap;
+			return this;
+		}
+
+		public Builder setAdaptivePolling(boolean adaptivePolling) {
+			this.adaptivePolling = adaptivePolling;
+			return this;
+		}
+
+		public Builder setLowPriorityRefreshInterval(int lowPriorityRefreshInterval) {
+			this.lowPriorityRefreshInterval = lowPriorityRefreshInterval;
+			return this;
+		}
+
 		public MyConfigTcp build() {
 			return new MyConfigTcp(this);
 		}
@@ -72,6 +108,16 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		return this.builder.port;
 	}
 
+	@Override
+	public int maxTransactionsInFlight() {
+		return this.builder.maxTransactionsInFlight;
+	}
+
+	@Override
+	public int maxTransactionsInFlightPerDevice() {
+		return this.builder.maxTransactionsInFlightPerDevice;
+	}
+
 	@Override
 	public LogVerbosity logVerbosity() {
 		return this.builder.logVerbosity;
@@ -82,4 +128,24 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
+	@Override
+	public boolean mergeReadTasks() {
+		return this.builder.mergeReadTasks;
+	}
+
+	@Override
+	public int mergeReadTasksMaxGap() {
+		return this.builder.mergeReadTasksMaxGap;
+	}
+
+	@Override
+	public boolean adaptivePolling() {
+		return this.builder.adaptivePolling;
+	}
+
+	@Override
+	public int lowPriorityRefreshInterval() {
+		return this.builder.lowPriorityRefreshInterval;
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,207 @@
+package io.openems.edge.bridge.modbus;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersResponse;
+import com.ghgande.j2mod.modbus.net.TCPMasterConnection;
+
+import io.openems.edge.bridge.modbus.api.ModbusTransactionTimeoutException;
+
+public class PipelinedModbusTcpConnectionTest {
+
+	private static final int TIMEOUT = 2000;
+
+	/**
+	 * A received FC3 request.
+	 *
+	 * @param transactionId the Modbus/TCP transaction ID
+	 * @param unitId        the Unit-ID
+	 * @param ref           the start address
+	 */
+	private static record Request(int transactionId, int unitId, int ref) {
+	}
+
+	private final BlockingQueue<Request> requests = new LinkedBlockingQueue<>();
+
+	private ServerSocket serverSocket;
+	private Socket socket;
+	private Thread server;
+	private ExecutorService executor;
+	private PipelinedModbusTcpConnection sut;
+
+	@Before
+	public void before() throws Exception {
+		this.serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+		var accept = CompletableFuture.supplyAsync(() -> {
+			try {
+				return this.serverSocket.accept();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+
+		var connection = new TCPMasterConnection(InetAddress.getLoopbackAddress());
+		connection.setPort(this.serverSocket.getLocalPort());
+		connection.connect();
+		this.socket = accept.get(5, SECONDS);
+
+		// Collects the requests; answers are sent by the tests
+		this.server = new Thread(() -> {
+			try {
+				var in = new DataInputStream(this.socket.getInputStream());
+				while (true) {
+					var transactionId = in.readUnsignedShort();
+					in.readUnsignedShort(); // protocol
+					in.readUnsignedShort(); // length
+					var unitId = in.readUnsignedByte();
+					in.readUnsignedByte(); // function code
+					var ref = in.readUnsignedShort();
+					in.readUnsignedShort(); // count
+					this.requests.add(new Request(transactionId, unitId, ref));
+				}
+			} catch (IOException e) {
+				// Connection closed
+			}
+		});
+		this.server.start();
+
+		this.executor = Executors.newCachedThreadPool();
+		this.sut = new PipelinedModbusTcpConnection(connection, 4, TIMEOUT);
+	}
+
+	@After
+	public void after() throws Exception {
+		this.sut.close();
+		this.executor.shutdownNow();
+		this.socket.close();
+		this.serverSocket.close();
+		this.server.join(5000);
+	}
+
+	@Test
+	public void testOutOfOrderResponses() throws Exception {
+		var first = this.execute(100);
+		var firstRequest = this.takeRequest();
+		var second = this.execute(200);
+		var secondRequest = this.takeRequest();
+		assertEquals(100, firstRequest.ref());
+		assertEquals(200, secondRequest.ref());
+		assertEquals(2, this.sut.getPendingTransactions());
+
+		this.respond(secondRequest, 2000);
+		assertEquals(2000, valueOf(second));
+		assertFalse(first.isDone());
+
+		this.respond(firstRequest, 1000);
+		assertEquals(1000, valueOf(first));
+		assertEquals(0, this.sut.getPendingTransactions());
+	}
+
+	@Test
+	public void testTransactionTimeout() throws Exception {
+		var first = this.execute(100);
+		var firstRequest = this.takeRequest();
+		Thread.sleep(TIMEOUT / 2);
+		var second = this.execute(200);
+		var secondRequest = this.takeRequest();
+
+		// First transaction is never answered
+		var e = assertThrows(ExecutionException.class, () -> first.get(5, SECONDS));
+		assertTrue(e.getCause() instanceof ModbusTransactionTimeoutException);
+
+		// Second transaction on the same connection is still answered
+		this.respond(secondRequest, 2000);
+		assertEquals(2000, valueOf(second));
+		assertFalse(this.sut.isClosed());
+
+		// A late response is dropped
+		this.respond(firstRequest, 1000);
+		var third = this.execute(300);
+		this.respond(this.takeRequest(), 3000);
+		assertEquals(3000, valueOf(third));
+		assertFalse(this.sut.isClosed());
+	}
+
+	@Test
+	public void testCloseFailsPendingTransactions() throws Exception {
+		var first = this.execute(100);
+		var second = this.execute(200);
+		this.takeRequest();
+		this.takeRequest();
+
+		this.sut.close();
+
+		// Fail immediately, not after the timeout
+		var e1 = assertThrows(ExecutionException.class, () -> first.get(TIMEOUT / 2, MILLISECONDS));
+		assertTrue(e1.getCause() instanceof ModbusIOException);
+		assertFalse(e1.getCause() instanceof ModbusTransactionTimeoutException);
+		var e2 = assertThrows(ExecutionException.class, () -> second.get(TIMEOUT / 2, MILLISECONDS));
+		assertTrue(e2.getCause() instanceof ModbusIOException);
+		assertTrue(this.sut.isClosed());
+		assertEquals(0, this.sut.getPendingTransactions());
+
+		var third = this.execute(300);
+		assertThrows(ExecutionException.class, () -> third.get(TIMEOUT / 2, MILLISECONDS));
+	}
+
+	private CompletableFuture<ModbusResponse> execute(int ref) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return this.sut.execute(new ReadMultipleRegistersRequest(ref, 1));
+			} catch (Exception e) {
+				throw new CompletionException(e);
+			}
+		}, this.executor);
+	}
+
+	private Request takeRequest() throws InterruptedException {
+		var request = this.requests.poll(5, SECONDS);
+		assertNotNull(request);
+		return request;
+	}
+
+	private void respond(Request request, int value) throws IOException {
+		var out = new DataOutputStream(this.socket.getOutputStream());
+		out.writeShort(request.transactionId());
+		out.writeShort(0); // protocol
+		out.writeShort(5); // length
+		out.writeByte(request.unitId());
+		out.writeByte(3); // function code
+		out.writeByte(2); // byte count
+		out.writeShort(value);
+		out.flush();
+	}
+
+	private static int valueOf(CompletableFuture<ModbusResponse> future) throws Exception {
+		return ((ReadMultipleRegistersResponse) future.get(5, SECONDS)).getRegisterValue(0);
+	}
+
+}
@@ -1,10 +1,12 @@
 package io.openems.edge.bridge.modbus.api.worker.internal;
 
 import static io.openems.edge.bridge.modbus.api.worker.internal.CycleTasksManager.StateMachine.FINISHED;
+import static io.openems.edge.bridge.modbus.api.worker.internal.CycleTasksManager.StateMachine.WAIT_BEFORE_READ;
 import static io.openems.edge.bridge.modbus.api.worker.internal.CycleTasksManager.StateMachine.WRITE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -240,4 +242,35 @@ public class CycleTasksManagerTest {
 		var writeTask = sut.getNextTask();
 		assertEquals(WT_1, writeTask);
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testExecuteWriteWhileAwaitingPendingReads() throws OpenemsException, InterruptedException {
+		var cycle1 = CycleTasks.create() //
+				.reads(RT_H_1) //
+				.writes(WT_1) //
+				.build();
+		var tasksSupplier = new DummyTasksSupplier(cycle1);
+		var defectiveComponents = new DefectiveComponents(LOG_HANDLER);
+
+		// EXECUTE_WRITE event arrives while parallel Read-Tasks are still in flight
+		var sutRef = new AtomicReference<CycleTasksManager>();
+		var sut = new CycleTasksManager(tasksSupplier, defectiveComponents, //
+				CYCLE_TIME_IS_TOO_SHORT, CYCLE_DELAY, LOG_HANDLER, () -> sutRef.get().onExecuteWrite());
+		sutRef.set(sut);
+
+		sut.onBeforeProcessImage();
+		sut.getNextTask(); // Mutex
+		sut.onExecuteWrite();
+		sut.getNextTask().execute(null); // WT_1
+		sut.getNextTask().execute(null); // Delay
+
+		var task = sut.getNextTask();
+		assertEquals(RT_H_1, task);
+		task.execute(null);
+
+		// State must not be overwritten with FINISHED
+		task = sut.getNextTask();
+		assertTrue(task instanceof WaitTask.Delay);
+		assertEquals(WAIT_BEFORE_READ, sut.getState());
+	}
+}
@@ -0,0 +1,131 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.worker.DummyReadTask;
+import io.openems.edge.bridge.modbus.test.DummyModbusBridge;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class PipelineExecutorTest {
+
+	private static class Counter {
+		private final AtomicInteger current = new AtomicInteger();
+		private final AtomicInteger max = new AtomicInteger();
+
+		private Runnable run(long millis) {
+			return () -> {
+				this.max.accumulateAndGet(this.current.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(millis);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				this.current.decrementAndGet();
+			};
+		}
+	}
+
+	@Test
+	public void test() throws OpenemsException, InterruptedException {
+		var bridge = new DummyModbusBridge("modbus0");
+		var device1 = new DummyModbusComponent("device1", bridge, 1, new io.openems.edge.common.channel.ChannelId[0]);
+		var device2 = new DummyModbusComponent("device2", bridge, 2, new io.openems.edge.common.channel.ChannelId[0]);
+
+		var sut = new PipelineExecutor("test", 4, 1);
+		var counter1 = new Counter();
+		var counter2 = new Counter();
+		try {
+			for (var i = 0; i < 3; i++) {
+				var task1 = new DummyReadTask("RT_1_" + i, 0, Priority.HIGH);
+				task1.setParent(device1);
+				sut.execute(task1, counter1.run(20));
+				var task2 = new DummyReadTask("RT_2_" + i, 0, Priority.HIGH);
+				task2.setParent(device2);
+				sut.execute(task2, counter2.run(20));
+			}
+			sut.awaitIdle();
+
+			assertEquals(0, sut.getInFlight());
+			// One task per device at a time
+			assertEquals(1, counter1.max.get());
+			assertEquals(1, counter2.max.get());
+
+		} finally {
+			sut.deactivate();
+		}
+	}
+
+	@Test
+	public void testBusyDeviceDoesNotBlockOtherDevices() throws OpenemsException, InterruptedException {
+		var bridge = new DummyModbusBridge("modbus0");
+		var device1 = new DummyModbusComponent("device1", bridge, 1, new io.openems.edge.common.channel.ChannelId[0]);
+		var device2 = new DummyModbusComponent("device2", bridge, 2, new io.openems.edge.common.channel.ChannelId[0]);
+
+		var sut = new PipelineExecutor("test", 2, 1);
+		var blockDevice1 = new CountDownLatch(1);
+		var device2Finished = new CountDownLatch(1);
+		var executed = new AtomicInteger();
+		try {
+			for (var i = 0; i < 3; i++) {
+				var task = new DummyReadTask("RT_1_" + i, 0, Priority.HIGH);
+				task.setParent(device1);
+				// Only the first one is dispatched; the others are queued without blocking
+				sut.execute(task, () -> {
+					try {
+						blockDevice1.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					executed.incrementAndGet();
+				});
+			}
+			var task2 = new DummyReadTask("RT_2", 0, Priority.HIGH);
+			task2.setParent(device2);
+			sut.execute(task2, device2Finished::countDown);
+
+			assertTrue(device2Finished.await(1, TimeUnit.SECONDS));
+			assertEquals(0, executed.get());
+			assertEquals(3, sut.getInFlight());
+
+			blockDevice1.countDown();
+			sut.awaitIdle();
+			assertEquals(3, executed.get());
+			assertEquals(0, sut.getInFlight());
+
+		} finally {
+			sut.deactivate();
+		}
+	}
+
+	@Test
+	public void testNoLimitPerDevice() throws OpenemsException, InterruptedException {
+		var bridge = new DummyModbusBridge("modbus0");
+		var device1 = new DummyModbusComponent("device1", bridge, 1, new io.openems.edge.common.channel.ChannelId[0]);
+
+		var sut = new PipelineExecutor("test", 2, 0);
+		assertEquals(2, sut.getMaxPerDevice());
+		var counter = new Counter();
+		try {
+			for (var i = 0; i < 4; i++) {
+				var task = new DummyReadTask("RT_1_" + i, 0, Priority.HIGH);
+				task.setParent(device1);
+				sut.execute(task, counter.run(50));
+			}
+			sut.awaitIdle();
+			assertEquals(2, counter.max.get());
+
+		} finally {
+			sut.deactivate();
+		}
+	}
+
+}
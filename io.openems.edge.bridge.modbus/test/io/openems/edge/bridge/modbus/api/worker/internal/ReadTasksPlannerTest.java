@@ -0,0 +1,203 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.Modbus;
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.UnsignedDoublewordElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.AbstractTask;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC4ReadInputRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.MergedReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.bridge.modbus.test.DummyModbusBridge;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ReadTasksPlannerTest {
+
+	private static class FailingModbusBridge extends DummyModbusBridge {
+
+		private ModbusException exception;
+
+		public FailingModbusBridge(String id) {
+			super(id);
+		}
+
+		@Override
+		public ModbusTransaction getNewModbusTransaction() {
+			return new ModbusTransaction() {
+				@Override
+				public void execute() throws ModbusException {
+					throw FailingModbusBridge.this.exception;
+				}
+			};
+		}
+	}
+
+	private static <T extends AbstractTask<?, ?>> T withParent(T task, DummyModbusComponent parent) {
+		task.setParent(parent);
+		return task;
+	}
+
+	@Test
+	public void testPlan() throws OpenemsException {
+		var component = new DummyModbusComponent();
+		var fc3a = withParent(new FC3ReadRegistersTask(0, Priority.HIGH, //
+				new UnsignedWordElement(0), new UnsignedWordElement(1)), component);
+		var fc3b = withParent(new FC3ReadRegistersTask(2, Priority.HIGH, //
+				new UnsignedWordElement(2)), component);
+		var fc3c = withParent(new FC3ReadRegistersTask(6, Priority.HIGH, //
+				new UnsignedWordElement(6)), component);
+		var fc3d = withParent(new FC3ReadRegistersTask(200, Priority.HIGH, //
+				new UnsignedWordElement(200)), component);
+		var fc4 = withParent(new FC4ReadInputRegistersTask(3, Priority.HIGH, //
+				new UnsignedWordElement(3)), component);
+
+		var sut = new ReadTasksPlanner(3);
+		var tasks = sut.plan(List.<ReadTask>of(fc3a, fc3b, fc3c, fc3d, fc4));
+		assertEquals(3, tasks.size());
+
+		var merged = (MergedReadRegistersTask) tasks.get(0);
+		assertEquals(List.of(fc3a, fc3b, fc3c), merged.getTasks());
+		assertEquals(0, merged.getStartAddress());
+		assertEquals(7, merged.getLength());
+		assertEquals(Priority.HIGH, merged.getPriority());
+		assertEquals(4, merged.getElements().length);
+
+		assertSame(fc3d, tasks.get(1)); // gap too large
+		assertSame(fc4, tasks.get(2)); // not mergeable with FC3
+
+		// Without gap
+		tasks = new ReadTasksPlanner(0).plan(List.<ReadTask>of(fc3c, fc3b, fc3a));
+		assertEquals(2, tasks.size());
+		assertSame(fc3c, tasks.get(1));
+		assertEquals(List.of(fc3a, fc3b), ((MergedReadRegistersTask) tasks.get(0)).getTasks());
+	}
+
+	@Test
+	public void testMaxLength() throws OpenemsException {
+		var component = new DummyModbusComponent();
+		var task1 = withParent(new FC3ReadRegistersTask(0, Priority.HIGH, //
+				new UnsignedWordElement(0)), component);
+		var task2 = withParent(new FC3ReadRegistersTask(124, Priority.HIGH, //
+				new UnsignedWordElement(124)), component);
+		var task3 = withParent(new FC3ReadRegistersTask(125, Priority.HIGH, //
+				new UnsignedWordElement(125)), component);
+
+		var tasks = new ReadTasksPlanner(200).plan(List.<ReadTask>of(task1, task2, task3));
+		assertEquals(2, tasks.size());
+		var merged = (MergedReadRegistersTask) tasks.get(0);
+		assertEquals(ReadTasksPlanner.MAX_LENGTH, merged.getLength());
+		assertTrue(merged.getTasks().contains(task2));
+		assertSame(task3, tasks.get(1));
+	}
+
+	@Test
+	public void testPriority() throws OpenemsException {
+		var component = new DummyModbusComponent();
+		var low = withParent(new FC3ReadRegistersTask(0, Priority.LOW, //
+				new UnsignedWordElement(0)), component);
+		var high1 = withParent(new FC3ReadRegistersTask(1, Priority.HIGH, //
+				new UnsignedWordElement(1)), component);
+		var high2 = withParent(new FC3ReadRegistersTask(2, Priority.HIGH, //
+				new UnsignedWordElement(2)), component);
+
+		var tasks = new ReadTasksPlanner(0).plan(List.<ReadTask>of(low, high1, high2));
+		assertEquals(2, tasks.size());
+		assertSame(low, tasks.get(0)); // not promoted to HIGH
+		var merged = (MergedReadRegistersTask) tasks.get(1);
+		assertEquals(List.of(high1, high2), merged.getTasks());
+		assertEquals(Priority.HIGH, merged.getPriority());
+	}
+
+	@Test
+	public void testMergeFailed() throws OpenemsException {
+		var bridge = new FailingModbusBridge("modbus0");
+		var component = new DummyModbusComponent("device0", bridge, 1,
+				new io.openems.edge.common.channel.ChannelId[0]);
+		var task1 = withParent(new FC3ReadRegistersTask(0, Priority.HIGH, //
+				new UnsignedWordElement(0)), component);
+		var task2 = withParent(new FC3ReadRegistersTask(2, Priority.HIGH, //
+				new UnsignedWordElement(2)), component);
+		var sut = new ReadTasksPlanner(1);
+
+		// Timeout: keep merging
+		bridge.exception = new ModbusIOException("Timeout");
+		var tasks = sut.plan(List.<ReadTask>of(task1, task2));
+		assertEquals(1, tasks.size());
+		tasks.get(0).execute(bridge);
+		assertEquals(0, sut.getNumberOfExcludedTasks());
+
+		// Illegal Data Address: do not merge again
+		bridge.exception = new ModbusSlaveException(Modbus.ILLEGAL_ADDRESS_EXCEPTION);
+		sut.plan(List.<ReadTask>of(task1, task2)).get(0).execute(bridge);
+		assertEquals(2, sut.getNumberOfExcludedTasks());
+		tasks = sut.plan(List.<ReadTask>of(task1, task2));
+		assertEquals(List.of(task1, task2), tasks);
+
+		// Set parent of merged tasks
+		var other = new DummyModbusComponent("device1", bridge, 2, new io.openems.edge.common.channel.ChannelId[0]);
+		var merged = (MergedReadRegistersTask) new ReadTasksPlanner(1).plan(List.<ReadTask>of(task1, task2)).get(0);
+		merged.setParent(other);
+		assertSame(other, task1.getParent());
+		assertSame(other, task2.getParent());
+	}
+
+	@Test
+	public void testSplitResponse() throws OpenemsException {
+		var bridge = new DummyModbusBridge("modbus0") //
+				.withRegisters(10, 101, 111) //
+				.withRegisters(12, 0xDEAD, 0xDEAD, 0xDEAD) // gap
+				.withRegisters(15, 151, 0x0001, 0x0002);
+		var component = new DummyModbusComponent("device0", bridge, 1,
+				new io.openems.edge.common.channel.ChannelId[0]);
+
+		var value10 = new AtomicReference<Integer>();
+		var value11 = new AtomicReference<Integer>();
+		var value15 = new AtomicReference<Integer>();
+		var value16 = new AtomicReference<Long>();
+		var element10 = new UnsignedWordElement(10);
+		element10.onUpdateCallback(value10::set);
+		var element11 = new UnsignedWordElement(11);
+		element11.onUpdateCallback(value11::set);
+		var element15 = new UnsignedWordElement(15);
+		element15.onUpdateCallback(value15::set);
+		var element16 = new UnsignedDoublewordElement(16);
+		element16.onUpdateCallback(value16::set);
+
+		var task1 = withParent(new FC3ReadRegistersTask(10, Priority.HIGH, element10, element11), component);
+		var task2 = withParent(new FC3ReadRegistersTask(15, Priority.HIGH, element15, element16), component);
+
+		var tasks = new ReadTasksPlanner(3).plan(List.<ReadTask>of(task2, task1));
+		assertEquals(1, tasks.size());
+		var merged = (MergedReadRegistersTask) tasks.get(0);
+		assertEquals(10, merged.getStartAddress());
+		assertEquals(8, merged.getLength());
+
+		assertSame(ExecuteState.OK, merged.execute(bridge));
+		assertEquals(1, merged.getSavedRequests());
+		assertEquals(List.of(ExecuteState.OK, ExecuteState.OK), List.of(merged.getExecuteStates()));
+
+		// Each element gets the registers at its own address; the gap is ignored
+		assertEquals(Integer.valueOf(101), value10.get());
+		assertEquals(Integer.valueOf(111), value11.get());
+		assertEquals(Integer.valueOf(151), value15.get());
+		assertEquals(Long.valueOf(0x00010002L), value16.get());
+	}
+
+}
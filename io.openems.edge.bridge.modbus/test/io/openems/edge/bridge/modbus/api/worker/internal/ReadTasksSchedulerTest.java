@@ -0,0 +1,91 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.bridge.modbus.api.worker.DummyReadTask;
+import io.openems.edge.common.taskmanager.Priority;
+import io.openems.edge.common.type.Tuple;
+
+public class ReadTasksSchedulerTest {
+
+	private static final String CMP = "foo";
+
+	private static List<ReadTask> tasks(List<Tuple<String, ReadTask>> tuples) {
+		return tuples.stream().map(Tuple::b).toList();
+	}
+
+	@Test
+	public void test() {
+		var clock = new FakeTicker();
+		var sut = new ReadTasksScheduler(clock, Duration.ofSeconds(10));
+
+		var high = new DummyReadTask("RT_H", 0, Priority.HIGH);
+		var low1 = new DummyReadTask("RT_L_1", 0, Priority.LOW);
+		var low2 = new DummyReadTask("RT_L_2", 0, Priority.LOW);
+		var candidates = List.<Tuple<String, ReadTask>>of(//
+				new Tuple<>(CMP, high), //
+				new Tuple<>(CMP, low1), //
+				new Tuple<>(CMP, low2));
+
+		// Initially all tasks are due; execution times are unknown
+		assertEquals(List.of(high, low1, low2), tasks(sut.schedule(candidates, 0)));
+		sut.onExecuted(high, ExecuteState.OK, Duration.ofMillis(10).toNanos());
+		sut.onExecuted(low1, ExecuteState.OK, Duration.ofMillis(50).toNanos());
+		sut.onExecuted(low2, ExecuteState.OK, Duration.ofMillis(50).toNanos());
+
+		// LOW tasks are not due
+		clock.advance(Duration.ofSeconds(1));
+		assertEquals(List.of(high), tasks(sut.schedule(candidates, 100)));
+
+		// Both LOW tasks are due, but budget is sufficient for only one
+		clock.advance(Duration.ofSeconds(10));
+		assertEquals(List.of(high, low1), tasks(sut.schedule(candidates, 60)));
+		sut.onExecuted(low1, ExecuteState.OK, Duration.ofMillis(50).toNanos());
+
+		// Earliest deadline is always scheduled, even without budget
+		clock.advance(Duration.ofSeconds(1));
+		assertEquals(List.of(high, low2), tasks(sut.schedule(candidates, 0)));
+
+		// Failed executions do not count as refresh
+		sut.onExecuted(low2, new ExecuteState.Error(new Exception()), Duration.ofMillis(50).toNanos());
+		assertEquals(List.of(high, low2), tasks(sut.schedule(candidates, 0)));
+
+		var status = sut.getTaskStatus();
+		assertEquals(3, status.size());
+		var low1Status = status.stream().filter(s -> s.refreshInterval() == 10_000 && s.refreshAge() == 1_000)
+				.findFirst().get();
+		assertEquals(50, low1Status.executionTime());
+		assertEquals(12_000, sut.getMaxRefreshAge());
+
+		sut.forget(List.of(high, low1, low2));
+		assertEquals(0, sut.getTaskStatus().size());
+	}
+
+	@Test
+	public void testRefreshInterval() {
+		var clock = new FakeTicker();
+		var sut = new ReadTasksScheduler(clock, Duration.ofSeconds(10));
+		var task = new DummyReadTask("RT", 0, Priority.HIGH) {
+			@Override
+			public Duration getRefreshInterval() {
+				return Duration.ofSeconds(2);
+			}
+		};
+		var candidates = List.<Tuple<String, ReadTask>>of(new Tuple<>(CMP, task));
+
+		assertEquals(1, sut.schedule(candidates, 0).size());
+		sut.onExecuted(task, ExecuteState.OK, 0);
+		clock.advance(Duration.ofSeconds(1));
+		assertEquals(0, sut.schedule(candidates, 0).size());
+		clock.advance(Duration.ofSeconds(1));
+		assertEquals(1, sut.schedule(candidates, 0).size());
+	}
+
+}
@@ -10,6 +10,7 @@ import java.util.function.Consumer;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.internal.AbstractReadChannel;
+import io.openems.edge.common.channel.internal.PastValuesAggregator;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.type.TypeUtils;
@@ -176,6 +177,20 @@ public interface Channel<T> {
 	// TODO this should be a ZonedDateTime
 	public TreeMap<LocalDateTime, Value<T>> getPastValues();
 
+	/**
+	 * Gets the {@link PastValuesAggregator} for this Channel, that answers
+	 * aggregations over the past values without iterating
+	 * {@link #getPastValues()}.
+	 *
+	 * <p>
+	 * Only numeric Channels provide a {@link PastValuesAggregator}.
+	 *
+	 * @return the {@link PastValuesAggregator}; null if not supported
+	 */
+	public default PastValuesAggregator getPastValuesAggregator() {
+		return null;
+	}
+
 	/**
 	 * Add an onUpdate callback. It is called, after the active value was updated by
 	 * nextProcessImage().
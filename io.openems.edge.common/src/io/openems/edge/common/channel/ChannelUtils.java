@@ -1,15 +1,19 @@
 package io.openems.edge.common.channel;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalDouble;
 
 import com.google.common.base.CaseFormat;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.OptionsEnum;
+import io.openems.edge.common.channel.internal.PastValuesAggregator;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -216,4 +220,38 @@ public final class ChannelUtils {
 		}
 		channel.setNextWriteValue(value);
 	}
+
+	/**
+	 * Aggregates the past values of a Channel using its
+	 * {@link Channel#getPastValuesAggregator()}: the maximum for cumulated
+	 * Channels, otherwise the average. Produces the same result as an aggregation
+	 * over the past values from the highest timestamp before 'from' to 'to'.
+	 *
+	 * @param channel the {@link Channel}
+	 * @param from    the start time (inclusive)
+	 * @param to      the end time (exclusive)
+	 * @return the aggregated value; empty if there are no values; null if the
+	 *         Channel has no {@link PastValuesAggregator}, is an {@link EnumDoc}
+	 *         Channel or the range can not be answered
+	 */
+	public static OptionalDouble aggregatePastValues(Channel<?> channel, LocalDateTime from, LocalDateTime to) {
+		final var aggregator = channel.getPastValuesAggregator();
+		if (aggregator == null || channel.channelDoc() instanceof EnumDoc) {
+			return null;
+		}
+		// Past values are recorded in the system default time-zone
+		final var fromMillis = from.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		final var toMillis = to.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		if (!aggregator.isAvailable(fromMillis, toMillis)) {
+			return null;
+		}
+		final var value = channel.channelDoc().getUnit().isCumulated() //
+				? aggregator.maxWithPrevious(fromMillis, toMillis) //
+				: aggregator.averageWithPrevious(fromMillis, toMillis);
+		if (Double.isNaN(value)) {
+			return OptionalDouble.empty();
+		}
+		return OptionalDouble.of(value);
+	}
+
 }
@@ -9,6 +9,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,19 +38,19 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	private final Set<Consumer<Value<T>>> onSetNextValueCallbacks = new CopyOnWriteArraySet<>();
 	private final Set<BiConsumer<Value<T>, Value<T>>> onChangeCallbacks = new CopyOnWriteArraySet<>();
 	private final Set<Runnable> cleanupCallbacks = new CopyOnWriteArraySet<>();
-	private final TreeMap<LocalDateTime, Value<T>> pastValues = new TreeMap<>();
 
 	/**
-	 * The 'next' value of the Channel. Copied to 'active' in
-	 * {@link #nextProcessImage()}. Never null.
+	 * Holds the 'next', 'active' and past values of the Channel.
 	 */
-	private volatile Value<T> nextValue = new Value<>(this, null);
-	/**
-	 * The 'active' value of the Channel. Never null.
-	 */
-	private volatile Value<T> activeValue = new Value<>(this, null);
+	private final ValueStore<T> values;
 
 	protected AbstractReadChannel(OpenemsType type, OpenemsComponent parent, ChannelId channelId, D channelDoc) {
+		this(type, parent, channelId, channelDoc, ObjectValueStore::new);
+	}
+
+	protected AbstractReadChannel(OpenemsType type, OpenemsComponent parent, ChannelId channelId, D channelDoc,
+			Function<Channel<T>, ValueStore<T>> valueStoreFactory) {
+		this.values = valueStoreFactory.apply(this);
 		this.type = type;
 		this.parent = parent;
 		this.channelId = channelId;
@@ -114,23 +115,27 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 
 	@Override
 	public void nextProcessImage() {
-		var oldValue = this.activeValue;
-		var newValue = this.nextValue;
 		try {
+			// Keep the 'old' value only if it is required by a callback
+			var oldValue = this.onChangeCallbacks.isEmpty() ? null : this.values.getActiveValue();
 
 			// Copy 'next' value to 'active' value
-			this.activeValue = newValue;
+			var hasChanged = this.values.nextProcessImage();
 
 			// Always -> call 'onUpdate' callbacks
-			this.onUpdateCallbacks.forEach(callback -> callback.accept(newValue));
+			if (!this.onUpdateCallbacks.isEmpty()) {
+				var newValue = this.values.getActiveValue();
+				this.onUpdateCallbacks.forEach(callback -> callback.accept(newValue));
+			}
 
 			// If value has changed -> call 'onChange' callbacks
-			if (!Objects.equals(oldValue.get(), newValue.get())) {
+			if (hasChanged && oldValue != null) {
+				var newValue = this.values.getActiveValue();
 				this.onChangeCallbacks.forEach(callback -> callback.accept(oldValue, newValue));
 			}
 
 			// Additionally append to 'pastValues'
-			this.appendPastValue(newValue);
+			this.values.appendPastValue();
 
 		} catch (RuntimeException e) {
 			var component = this.parent != null ? this.parent.id() : "";
@@ -140,19 +145,6 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		}
 	}
 
-	/**
-	 * Appends a value to `pastValues` and deletes entries that are elder than
-	 * {@link Channel#MAX_AGE_OF_PAST_VALUES}.
-	 * 
-	 * @param value a new {@link Value}
-	 */
-	private void appendPastValue(Value<T> value) {
-		final var compareTime = value.getTimestamp().minus(Channel.MAX_AGE_OF_PAST_VALUES);
-		this.pastValues.put(value.getTimestamp(), value);
-		// changes to sub map are also applied to the backed map
-		this.pastValues.headMap(compareTime).clear();
-	}
-
 	@Override
 	public ChannelAddress address() {
 		return new ChannelAddress(this.parent.id(), this.channelId().id());
@@ -181,7 +173,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	@Override
 	@Deprecated
 	public void _setNextValue(T value) {
-		if (this.channelDoc.getUnit().isCumulated() && this.activeValue.isDefined() && value == null) {
+		if (this.channelDoc.getUnit().isCumulated() && this.values.isActiveValueDefined() && value == null) {
 			// Channel has CUMULATED Unit, currently holds a valid value and next value is
 			// 'null' -> ignore change to make sure the value is 'steadily increasing'.
 			if (this.channelDoc.isDebug()) {
@@ -191,16 +183,19 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 			return;
 		}
 
-		this.nextValue = new Value<>(this, value);
+		this.values.setNextValue(value);
 		if (this.channelDoc.isDebug()) {
-			this.log.info("Next value for [" + this.address() + "]: " + this.nextValue.asString());
+			this.log.info("Next value for [" + this.address() + "]: " + this.values.getNextValue().asString());
+		}
+		if (!this.onSetNextValueCallbacks.isEmpty()) {
+			var nextValue = this.values.getNextValue();
+			this.onSetNextValueCallbacks.forEach(callback -> callback.accept(nextValue));
 		}
-		this.onSetNextValueCallbacks.forEach(callback -> callback.accept(this.nextValue));
 	}
 
 	@Override
 	public Value<T> getNextValue() {
-		return this.nextValue;
+		return this.values.getNextValue();
 	}
 
 	@Override
@@ -212,7 +207,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		case READ_WRITE:
 			break;
 		}
-		return this.activeValue;
+		return this.values.getActiveValue();
 	}
 
 	@Override
@@ -220,7 +215,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		return "Channel [" //
 				+ "ID=" + this.channelId.id() + ", " //
 				+ "type=" + this.type + ", " //
-				+ "activeValue=" + this.activeValue.asString() + ", "//
+				+ "activeValue=" + this.values.getActiveValue().asString() + ", "//
 				+ "access=" + this.channelDoc.getAccessMode() //
 				+ "]";
 	}
@@ -303,7 +298,24 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	 */
 	@Override
 	public TreeMap<LocalDateTime, Value<T>> getPastValues() {
-		return this.pastValues;
+		return this.values.getPastValues();
+	}
+
+	@Override
+	public PastValuesAggregator getPastValuesAggregator() {
+		if (this.values instanceof PrimitiveValueStore<?> store) {
+			return store.getPastValuesAggregator();
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the {@link ValueStore} that holds the values of this Channel.
+	 *
+	 * @return the {@link ValueStore}
+	 */
+	protected ValueStore<T> getValueStore() {
+		return this.values;
 	}
 
 	/**
@@ -0,0 +1,79 @@
+package io.openems.edge.common.channel.internal;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Value;
+
+/**
+ * A {@link ValueStore} that holds every value as a {@link Value} object and the
+ * past values in a {@link TreeMap}.
+ *
+ * @param <T> the type of the Channel
+ */
+public class ObjectValueStore<T> implements ValueStore<T> {
+
+	private final Channel<T> channel;
+	private final TreeMap<LocalDateTime, Value<T>> pastValues = new TreeMap<>();
+
+	/**
+	 * The 'next' value of the Channel. Copied to 'active' in
+	 * {@link #nextProcessImage()}. Never null.
+	 */
+	private volatile Value<T> nextValue;
+	/**
+	 * The 'active' value of the Channel. Never null.
+	 */
+	private volatile Value<T> activeValue;
+
+	public ObjectValueStore(Channel<T> channel) {
+		this.channel = channel;
+		this.nextValue = new Value<>(channel, null);
+		this.activeValue = new Value<>(channel, null);
+	}
+
+	@Override
+	public void setNextValue(T value) {
+		this.nextValue = new Value<>(this.channel, value);
+	}
+
+	@Override
+	public Value<T> getNextValue() {
+		return this.nextValue;
+	}
+
+	@Override
+	public Value<T> getActiveValue() {
+		return this.activeValue;
+	}
+
+	@Override
+	public boolean isActiveValueDefined() {
+		return this.activeValue.isDefined();
+	}
+
+	@Override
+	public boolean nextProcessImage() {
+		var oldValue = this.activeValue;
+		var newValue = this.nextValue;
+		this.activeValue = newValue;
+		return !Objects.equals(oldValue.get(), newValue.get());
+	}
+
+	@Override
+	public void appendPastValue() {
+		var value = this.activeValue;
+		final var compareTime = value.getTimestamp().minus(Channel.MAX_AGE_OF_PAST_VALUES);
+		this.pastValues.put(value.getTimestamp(), value);
+		// changes to sub map are also applied to the backed map
+		this.pastValues.headMap(compareTime).clear();
+	}
+
+	@Override
+	public TreeMap<LocalDateTime, Value<T>> getPastValues() {
+		return this.pastValues;
+	}
+
+}
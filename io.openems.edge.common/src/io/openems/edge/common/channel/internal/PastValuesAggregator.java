@@ -0,0 +1,420 @@
+package io.openems.edge.common.channel.internal;
+
+import java.util.Arrays;
+
+/**
+ * Keeps running aggregates of the past values of a numeric Channel in buckets
+ * of one second, five minutes and one hour.
+ *
+ * <p>
+ * Each bucket holds count, sum, minimum, maximum and the last value of the
+ * samples within its time range. Additionally the cumulated count and sum
+ * before every bucket are kept, so {@link #count(long, long)},
+ * {@link #sum(long, long)} and {@link #average(long, long)} are answered in
+ * O(1) for any range that is aligned to one of the {@link Window}s. Minimum and
+ * maximum iterate the buckets of the coarsest aligned {@link Window}, i.e. O(1)
+ * for a range of exactly one bucket. No query allocates memory.
+ *
+ * <p>
+ * The cumulated sums are rebased on the oldest retained bucket whenever a new
+ * bucket is started, so they stay in the magnitude of the retention and do not
+ * lose precision on long running systems.
+ *
+ * <p>
+ * Timestamps are epoch milliseconds; 'from' is inclusive, 'to' is exclusive.
+ * Undefined (null) values are counted as 'last' value of a bucket, but not
+ * included in any aggregate.
+ */
+public class PastValuesAggregator {
+
+	public static enum Window {
+		SECOND(1_000L, 64), //
+		FIVE_MINUTES(300_000L, 14), //
+		HOUR(3_600_000L, 26);
+
+		/**
+		 * The length of one bucket in [ms].
+		 */
+		public final long millis;
+		/**
+		 * The number of buckets that are kept.
+		 */
+		public final int capacity;
+
+		private Window(long millis, int capacity) {
+			this.millis = millis;
+			this.capacity = capacity;
+		}
+	}
+
+	private static final Window[] COARSEST_FIRST = { Window.HOUR, Window.FIVE_MINUTES, Window.SECOND };
+
+	private final Buckets[] buckets = new Buckets[Window.values().length];
+
+	public PastValuesAggregator() {
+		for (var window : Window.values()) {
+			this.buckets[window.ordinal()] = new Buckets(window);
+		}
+	}
+
+	/**
+	 * Adds a sample. Samples are expected in ascending timestamp order; samples
+	 * that are elder than the retention of a {@link Window} are ignored for that
+	 * {@link Window}.
+	 *
+	 * @param timestamp the epoch-millis timestamp
+	 * @param value     the value
+	 * @param isDefined true if the value is not null
+	 */
+	public synchronized void add(long timestamp, double value, boolean isDefined) {
+		for (var bucket : this.buckets) {
+			bucket.add(timestamp, value, isDefined && !Double.isNaN(value));
+		}
+	}
+
+	/**
+	 * Can the range be answered by this {@link PastValuesAggregator}?.
+	 *
+	 * @param from the start timestamp (inclusive)
+	 * @param to   the end timestamp (exclusive)
+	 * @return true if the range is aligned to a {@link Window} and within its
+	 *         retention
+	 */
+	public synchronized boolean isAvailable(long from, long to) {
+		return this.find(from, to) != null;
+	}
+
+	/**
+	 * Gets the number of defined samples within the range.
+	 *
+	 * @param from the start timestamp (inclusive)
+	 * @param to   the end timestamp (exclusive)
+	 * @return the count; -1 if not available
+	 */
+	public synchronized long count(long from, long to) {
+		var b = this.find(from, to);
+		if (b == null) {
+			return -1;
+		}
+		return b.cumCountAt(b.index(to)) - b.cumCountAt(b.index(from));
+	}
+
+	/**
+	 * Gets the sum of all defined samples within the range.
+	 *
+	 * @param from the start timestamp (inclusive)
+	 * @param to   the end timestamp (exclusive)
+	 * @return the sum; NaN if not available
+	 */
+	public synchronized double sum(long from, long to) {
+		var b = this.find(from, to);
+		if (b == null) {
+			return Double.NaN;
+		}
+		return b.cumSumAt(b.index(to)) - b.cumSumAt(b.index(from));
+	}
+
+	/**
+	 * Gets the average of all defined samples within the range.
+	 *
+	 * @param from the start timestamp (inclusive)
+	 * @param to   the end timestamp (exclusive)
+	 * @return the average; NaN if not available or there are no samples
+	 */
+	public synchronized double average(long from, long to) {
+		var count = this.count(from, to);
+		if (count <= 0) {
+			return Double.NaN;
+		}
+		return this.sum(from, to) / count;
+	}
+
+	/**
+	 * Gets the minimum of all defined samples within the range.
+	 *
+	 * @param from the start timestamp (inclusive)
+	 * @param to   the end timestamp (exclusive)
+	 * @return the minimum; NaN if not available or there are no samples
+	 */
+	public synchronized double min(long from, long to) {
+		var b = this.find(from, to);
+		if (b == null) {
+			return Double.NaN;
+		}
+		var result = Double.NaN;
+		for (var index = b.index(from); index < b.index(to); index++) {
+			var slot = b.slot(index);
+			if (slot >= 0 && b.count[slot] > 0 && !(b.min[slot] >= result)) {
+				result = b.min[slot];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the maximum of all defined samples within the range.
+	 *
+	 * @param from the start timestamp (inclusive)
+	 * @param to   the end timestamp (exclusive)
+	 * @return the maximum; NaN if not available or there are no samples
+	 */
+	public synchronized double max(long from, long to) {
+		var b = this.find(from, to);
+		if (b == null) {
+			return Double.NaN;
+		}
+		var result = Double.NaN;
+		for (var index = b.index(from); index < b.index(to); index++) {
+			var slot = b.slot(index);
+			if (slot >= 0 && b.count[slot] > 0 && !(b.max[slot] <= result)) {
+				result = b.max[slot];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the last sample before the given timestamp.
+	 *
+	 * @param timestamp the timestamp (exclusive)
+	 * @return the value; NaN if there is no sample within the retention or the
+	 *         last sample was undefined
+	 */
+	public synchronized double lastBefore(long timestamp) {
+		for (var b : this.buckets) {
+			if (timestamp % b.window.millis != 0) {
+				continue;
+			}
+			var index = Math.min(b.index(timestamp) - 1, b.newestIndex);
+			for (; index > b.newestIndex - b.window.capacity; index--) {
+				var slot = b.slot(index);
+				if (slot >= 0 && b.touched[slot]) {
+					return b.last[slot];
+				}
+			}
+			if (b.oldestSeenIndex > b.newestIndex - b.window.capacity) {
+				// all samples of this Window were checked
+				return Double.NaN;
+			}
+		}
+		return Double.NaN;
+	}
+
+	/**
+	 * Gets the average of all defined samples within the range, including the
+	 * last sample before 'from'. This matches the traditional aggregation over
+	 * {@code getPastValues().tailMap(floorKey(from))}.
+	 *
+	 * @param from the start timestamp (inclusive)
+	 * @param to   the end timestamp (exclusive)
+	 * @return the average; NaN if not available or there are no samples
+	 */
+	public synchronized double averageWithPrevious(long from, long to) {
+		var count = this.count(from, to);
+		if (count < 0) {
+			return Double.NaN;
+		}
+		var sum = this.sum(from, to);
+		var previous = this.lastBefore(from);
+		if (!Double.isNaN(previous)) {
+			sum += previous;
+			count++;
+		}
+		if (count == 0) {
+			return Double.NaN;
+		}
+		return sum / count;
+	}
+
+	/**
+	 * Gets the maximum of all defined samples within the range, including the
+	 * last sample before 'from'. See {@link #averageWithPrevious(long, long)}.
+	 *
+	 * @param from the start timestamp (inclusive)
+	 * @param to   the end timestamp (exclusive)
+	 * @return the maximum; NaN if not available or there are no samples
+	 */
+	public synchronized double maxWithPrevious(long from, long to) {
+		if (this.find(from, to) == null) {
+			return Double.NaN;
+		}
+		var max = this.max(from, to);
+		var previous = this.lastBefore(from);
+		if (Double.isNaN(max) || previous > max) {
+			return previous;
+		}
+		return max;
+	}
+
+	/**
+	 * Finds the coarsest {@link Buckets} that can answer the range.
+	 *
+	 * @param from the start timestamp (inclusive)
+	 * @param to   the end timestamp (exclusive)
+	 * @return the {@link Buckets}; null if none
+	 */
+	private Buckets find(long from, long to) {
+		if (to < from) {
+			return null;
+		}
+		for (var window : COARSEST_FIRST) {
+			var b = this.buckets[window.ordinal()];
+			if (from % window.millis == 0 && to % window.millis == 0 //
+					&& b.covers(b.index(from)) && b.covers(b.index(to))) {
+				return b;
+			}
+		}
+		return null;
+	}
+
+	private static class Buckets {
+
+		private final Window window;
+		private final boolean[] touched;
+		private final int[] count;
+		private final double[] sum;
+		private final double[] min;
+		private final double[] max;
+		private final double[] last;
+		/** Cumulated count of all buckets before this bucket. */
+		private final long[] cumCountBefore;
+		/** Cumulated sum of all buckets before this bucket. */
+		private final double[] cumSumBefore;
+
+		private long newestIndex = Long.MIN_VALUE;
+		private long oldestSeenIndex = Long.MIN_VALUE;
+		private long totalCount = 0;
+		private double totalSum = 0;
+		/** Sum that was subtracted from the cumulated sums by rebasing. */
+		private double baseSum = 0;
+
+		private Buckets(Window window) {
+			this.window = window;
+			this.touched = new boolean[window.capacity];
+			this.count = new int[window.capacity];
+			this.sum = new double[window.capacity];
+			this.min = new double[window.capacity];
+			this.max = new double[window.capacity];
+			this.last = new double[window.capacity];
+			this.cumCountBefore = new long[window.capacity];
+			this.cumSumBefore = new double[window.capacity];
+		}
+
+		private long index(long timestamp) {
+			return Math.floorDiv(timestamp, this.window.millis);
+		}
+
+		private int slot(long index) {
+			if (index > this.newestIndex || index <= this.newestIndex - this.window.capacity) {
+				return -1;
+			}
+			return (int) Math.floorMod(index, (long) this.window.capacity);
+		}
+
+		/**
+		 * Are the cumulated values at the given bucket index known?.
+		 *
+		 * @param index the bucket index
+		 * @return true if the bucket is within the retention or before the first
+		 *         sample
+		 */
+		private boolean covers(long index) {
+			if (this.newestIndex == Long.MIN_VALUE) {
+				return false;
+			}
+			return index > this.newestIndex - this.window.capacity || index <= this.oldestSeenIndex;
+		}
+
+		private long cumCountAt(long index) {
+			var slot = this.slot(index);
+			if (slot >= 0) {
+				return this.cumCountBefore[slot];
+			}
+			return index > this.newestIndex ? this.totalCount : 0;
+		}
+
+		private double cumSumAt(long index) {
+			var slot = this.slot(index);
+			if (slot >= 0) {
+				return this.cumSumBefore[slot];
+			}
+			return index > this.newestIndex ? this.totalSum : -this.baseSum;
+		}
+
+		private void add(long timestamp, double value, boolean isDefined) {
+			var index = this.index(timestamp);
+			if (this.newestIndex == Long.MIN_VALUE) {
+				this.oldestSeenIndex = index;
+				this.newestIndex = index - 1;
+			}
+			if (index <= this.newestIndex - this.window.capacity) {
+				// too old
+				return;
+			}
+			if (index > this.newestIndex) {
+				// Advance and clear buckets
+				var start = Math.max(this.newestIndex + 1, index - this.window.capacity + 1);
+				for (var i = start; i <= index; i++) {
+					var slot = (int) Math.floorMod(i, (long) this.window.capacity);
+					this.touched[slot] = false;
+					this.count[slot] = 0;
+					this.sum[slot] = 0;
+					this.min[slot] = Double.NaN;
+					this.max[slot] = Double.NaN;
+					this.last[slot] = Double.NaN;
+					this.cumCountBefore[slot] = this.totalCount;
+					this.cumSumBefore[slot] = this.totalSum;
+				}
+				this.newestIndex = index;
+				this.rebase();
+			}
+
+			var slot = this.slot(index);
+			this.touched[slot] = true;
+			this.last[slot] = isDefined ? value : Double.NaN;
+			if (!isDefined) {
+				return;
+			}
+			if (this.count[slot] == 0) {
+				this.min[slot] = value;
+				this.max[slot] = value;
+			} else {
+				this.min[slot] = Math.min(this.min[slot], value);
+				this.max[slot] = Math.max(this.max[slot], value);
+			}
+			this.count[slot]++;
+			this.sum[slot] += value;
+			this.totalCount++;
+			this.totalSum += value;
+			// Out-of-order sample: update cumulated values of following buckets
+			for (var i = index + 1; i <= this.newestIndex; i++) {
+				var s = this.slot(i);
+				this.cumCountBefore[s]++;
+				this.cumSumBefore[s] += value;
+			}
+		}
+
+		/**
+		 * Subtracts the cumulated sum before the oldest retained bucket from all
+		 * cumulated sums. Differences of cumulated sums are not changed.
+		 */
+		private void rebase() {
+			var oldestIndex = Math.max(this.newestIndex - this.window.capacity + 1, this.oldestSeenIndex);
+			var base = this.cumSumBefore[this.slot(oldestIndex)];
+			if (base == 0) {
+				return;
+			}
+			for (var index = oldestIndex; index <= this.newestIndex; index++) {
+				this.cumSumBefore[this.slot(index)] -= base;
+			}
+			this.totalSum -= base;
+			this.baseSum += base;
+		}
+
+		@Override
+		public String toString() {
+			return this.window + Arrays.toString(this.count);
+		}
+	}
+
+}
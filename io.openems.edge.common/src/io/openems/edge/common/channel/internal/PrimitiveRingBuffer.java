@@ -0,0 +1,146 @@
+package io.openems.edge.common.channel.internal;
+
+import java.util.Arrays;
+
+/**
+ * A ring buffer of timestamped primitive values.
+ *
+ * <p>
+ * Values are stored as raw 64-bit patterns together with an epoch-millis
+ * timestamp and a 'defined' flag (i.e. the value is not null). Entries are
+ * expected to be appended in ascending timestamp order. The buffer keeps all
+ * entries that are not elder than the configured maximum age; it grows only
+ * while this is not possible within the current capacity, so once the steady
+ * state is reached, appending does not allocate.
+ */
+public class PrimitiveRingBuffer {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final long maxAgeMillis;
+
+	private long[] timestamps = new long[INITIAL_CAPACITY];
+	private long[] values = new long[INITIAL_CAPACITY];
+	private boolean[] defined = new boolean[INITIAL_CAPACITY];
+	private int head = 0;
+	private int size = 0;
+
+	public PrimitiveRingBuffer(long maxAgeMillis) {
+		this.maxAgeMillis = maxAgeMillis;
+	}
+
+	/**
+	 * Appends an entry. If the timestamp equals the timestamp of the latest entry,
+	 * the latest entry is replaced. Entries that are elder than the maximum age
+	 * relative to the given timestamp are removed.
+	 *
+	 * @param timestamp the epoch-millis timestamp
+	 * @param value     the raw value
+	 * @param isDefined true if the value is not null
+	 */
+	public void append(long timestamp, long value, boolean isDefined) {
+		if (this.size > 0 && this.timestamp(this.size - 1) == timestamp) {
+			var index = this.physicalIndex(this.size - 1);
+			this.values[index] = value;
+			this.defined[index] = isDefined;
+			return;
+		}
+
+		// Remove entries that are too old
+		final var compareTime = timestamp - this.maxAgeMillis;
+		while (this.size > 0 && this.timestamps[this.head] < compareTime) {
+			this.head = (this.head + 1) % this.timestamps.length;
+			this.size--;
+		}
+
+		if (this.size == this.timestamps.length) {
+			this.grow();
+		}
+
+		var index = this.physicalIndex(this.size);
+		this.timestamps[index] = timestamp;
+		this.values[index] = value;
+		this.defined[index] = isDefined;
+		this.size++;
+	}
+
+	/**
+	 * Gets the number of entries.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets the capacity of the underlying arrays.
+	 *
+	 * @return the capacity
+	 */
+	public int capacity() {
+		return this.timestamps.length;
+	}
+
+	/**
+	 * Gets the timestamp of the entry at the given position; 0 is the eldest
+	 * entry.
+	 *
+	 * @param position the position
+	 * @return the epoch-millis timestamp
+	 */
+	public long timestamp(int position) {
+		return this.timestamps[this.physicalIndex(position)];
+	}
+
+	/**
+	 * Gets the raw value of the entry at the given position; 0 is the eldest
+	 * entry.
+	 *
+	 * @param position the position
+	 * @return the raw value
+	 */
+	public long value(int position) {
+		return this.values[this.physicalIndex(position)];
+	}
+
+	/**
+	 * Gets the 'defined' flag of the entry at the given position; 0 is the eldest
+	 * entry.
+	 *
+	 * @param position the position
+	 * @return true if the value is not null
+	 */
+	public boolean isDefined(int position) {
+		return this.defined[this.physicalIndex(position)];
+	}
+
+	private int physicalIndex(int position) {
+		if (position < 0 || position >= this.timestamps.length) {
+			throw new IndexOutOfBoundsException(position);
+		}
+		return (this.head + position) % this.timestamps.length;
+	}
+
+	private void grow() {
+		var capacity = this.timestamps.length * 2;
+		this.timestamps = this.unwrap(this.timestamps, capacity);
+		this.values = this.unwrap(this.values, capacity);
+		var defined = new boolean[capacity];
+		for (var i = 0; i < this.size; i++) {
+			defined[i] = this.defined[(this.head + i) % this.defined.length];
+		}
+		this.defined = defined;
+		this.head = 0;
+	}
+
+	private long[] unwrap(long[] array, int capacity) {
+		var result = Arrays.copyOfRange(array, this.head, this.head + capacity);
+		var tail = this.head + this.size - array.length;
+		if (tail > 0) {
+			System.arraycopy(array, 0, result, array.length - this.head, tail);
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,289 @@
+package io.openems.edge.common.channel.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.TreeMap;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Value;
+
+/**
+ * A {@link ValueStore} for numeric Channels that holds the 'next' and 'active'
+ * values and their epoch-millis timestamps in primitive fields and the past
+ * values in a {@link PrimitiveRingBuffer}.
+ *
+ * <p>
+ * {@link Value} objects are only created on request and cached until the
+ * underlying data changes. The {@link TreeMap} of past values is created on
+ * first request and afterwards updated with the values appended since the
+ * previous request, like the map of the previous implementation was updated on
+ * every append.
+ *
+ * @param <T> the type of the Channel
+ */
+public class PrimitiveValueStore<T extends Number> implements ValueStore<T> {
+
+	/**
+	 * Converts between a boxed value and its raw 64-bit representation.
+	 *
+	 * @param <T> the boxed type
+	 */
+	public static interface Codec<T extends Number> {
+
+		/**
+		 * Encodes a value to its raw representation. Equal values have equal raw
+		 * representations.
+		 *
+		 * @param value the value; not null
+		 * @return the raw value
+		 */
+		public long encode(Number value);
+
+		/**
+		 * Decodes a raw value.
+		 *
+		 * @param raw the raw value
+		 * @return the boxed value
+		 */
+		public T decode(long raw);
+
+		/**
+		 * Converts a raw value to double.
+		 *
+		 * @param raw the raw value
+		 * @return the value as double
+		 */
+		public double toDouble(long raw);
+	}
+
+	public static final Codec<Integer> INTEGER = new Codec<>() {
+		@Override
+		public long encode(Number value) {
+			return value.intValue();
+		}
+
+		@Override
+		public Integer decode(long raw) {
+			return (int) raw;
+		}
+
+		@Override
+		public double toDouble(long raw) {
+			return raw;
+		}
+	};
+
+	public static final Codec<Long> LONG = new Codec<>() {
+		@Override
+		public long encode(Number value) {
+			return value.longValue();
+		}
+
+		@Override
+		public Long decode(long raw) {
+			return raw;
+		}
+
+		@Override
+		public double toDouble(long raw) {
+			return raw;
+		}
+	};
+
+	public static final Codec<Float> FLOAT = new Codec<>() {
+		@Override
+		public long encode(Number value) {
+			return Float.floatToIntBits(value.floatValue());
+		}
+
+		@Override
+		public Float decode(long raw) {
+			return Float.intBitsToFloat((int) raw);
+		}
+
+		@Override
+		public double toDouble(long raw) {
+			return Float.intBitsToFloat((int) raw);
+		}
+	};
+
+	public static final Codec<Double> DOUBLE = new Codec<>() {
+		@Override
+		public long encode(Number value) {
+			return Double.doubleToLongBits(value.doubleValue());
+		}
+
+		@Override
+		public Double decode(long raw) {
+			return Double.longBitsToDouble(raw);
+		}
+
+		@Override
+		public double toDouble(long raw) {
+			return Double.longBitsToDouble(raw);
+		}
+	};
+
+	private static final long MAX_AGE_OF_PAST_VALUES_MILLIS = Duration.from(Channel.MAX_AGE_OF_PAST_VALUES)
+			.toMillis();
+
+	private final Channel<T> channel;
+	private final Codec<T> codec;
+	private final PrimitiveRingBuffer pastValues = new PrimitiveRingBuffer(MAX_AGE_OF_PAST_VALUES_MILLIS);
+
+	private boolean nextDefined = false;
+	private long nextRaw = 0;
+	private long nextTimestamp;
+	private Value<T> nextValue = null;
+
+	private boolean activeDefined = false;
+	private long activeRaw = 0;
+	private long activeTimestamp;
+	private Value<T> activeValue = null;
+
+	private TreeMap<LocalDateTime, Value<T>> pastValuesView = null;
+	private int pendingPastValues = 0;
+	private PastValuesAggregator aggregator = null;
+
+	public PrimitiveValueStore(Channel<T> channel, Codec<T> codec) {
+		this.channel = channel;
+		this.codec = codec;
+		this.nextTimestamp = System.currentTimeMillis();
+		this.activeTimestamp = this.nextTimestamp;
+	}
+
+	/**
+	 * Gets the {@link Codec}.
+	 *
+	 * @return the {@link Codec}
+	 */
+	public Codec<T> getCodec() {
+		return this.codec;
+	}
+
+	@Override
+	public synchronized void setNextValue(T value) {
+		this.nextTimestamp = System.currentTimeMillis();
+		this.nextDefined = value != null;
+		this.nextRaw = value != null ? this.codec.encode(value) : 0;
+		this.nextValue = null;
+	}
+
+	@Override
+	public synchronized Value<T> getNextValue() {
+		if (this.nextValue == null) {
+			this.nextValue = this.toValue(this.nextTimestamp, this.nextRaw, this.nextDefined);
+		}
+		return this.nextValue;
+	}
+
+	@Override
+	public synchronized Value<T> getActiveValue() {
+		if (this.activeValue == null) {
+			this.activeValue = this.toValue(this.activeTimestamp, this.activeRaw, this.activeDefined);
+		}
+		return this.activeValue;
+	}
+
+	@Override
+	public synchronized boolean isActiveValueDefined() {
+		return this.activeDefined;
+	}
+
+	@Override
+	public synchronized boolean nextProcessImage() {
+		var changed = this.activeDefined != this.nextDefined //
+				|| this.nextDefined && this.activeRaw != this.nextRaw;
+		this.activeDefined = this.nextDefined;
+		this.activeRaw = this.nextRaw;
+		this.activeTimestamp = this.nextTimestamp;
+		// 'active' is the same object as 'next' if it was already created
+		this.activeValue = this.nextValue;
+		return changed;
+	}
+
+	@Override
+	public synchronized void appendPastValue() {
+		var size = this.pastValues.size();
+		if (size > 0 //
+				&& this.pastValues.timestamp(size - 1) == this.activeTimestamp //
+				&& this.pastValues.value(size - 1) == this.activeRaw //
+				&& this.pastValues.isDefined(size - 1) == this.activeDefined) {
+			// Value was not updated since last Cycle
+			return;
+		}
+		this.pastValues.append(this.activeTimestamp, this.activeRaw, this.activeDefined);
+		if (this.pastValuesView != null) {
+			this.pendingPastValues++;
+		}
+		if (this.aggregator != null) {
+			this.aggregator.add(this.activeTimestamp, this.codec.toDouble(this.activeRaw), this.activeDefined);
+		}
+	}
+
+	/**
+	 * Gets the {@link PastValuesAggregator}. It is created on first call and
+	 * initialized with the current past values; afterwards it is updated on every
+	 * new past value.
+	 *
+	 * @return the {@link PastValuesAggregator}
+	 */
+	public synchronized PastValuesAggregator getPastValuesAggregator() {
+		if (this.aggregator == null) {
+			var aggregator = new PastValuesAggregator();
+			for (var i = 0; i < this.pastValues.size(); i++) {
+				aggregator.add(this.pastValues.timestamp(i), this.codec.toDouble(this.pastValues.value(i)),
+						this.pastValues.isDefined(i));
+			}
+			this.aggregator = aggregator;
+		}
+		return this.aggregator;
+	}
+
+	@Override
+	public synchronized TreeMap<LocalDateTime, Value<T>> getPastValues() {
+		final var size = this.pastValues.size();
+		if (this.pastValuesView == null || this.pendingPastValues > size) {
+			this.pastValuesView = new TreeMap<>();
+			this.putPastValues(0, size);
+
+		} else if (this.pendingPastValues > 0) {
+			this.putPastValues(size - this.pendingPastValues, size);
+			if (size > 0) {
+				// Remove values which were evicted from the ring buffer
+				this.pastValuesView.headMap(toLocalDateTime(this.pastValues.timestamp(0))).clear();
+			}
+		}
+		this.pendingPastValues = 0;
+		return this.pastValuesView;
+	}
+
+	private void putPastValues(int from, int to) {
+		for (var i = from; i < to; i++) {
+			var value = this.toValue(this.pastValues.timestamp(i), this.pastValues.value(i),
+					this.pastValues.isDefined(i));
+			this.pastValuesView.put(value.getTimestamp(), value);
+		}
+	}
+
+	/**
+	 * Gets the raw past values. Access must be synchronized on this
+	 * {@link PrimitiveValueStore}.
+	 *
+	 * @return the {@link PrimitiveRingBuffer}
+	 */
+	protected PrimitiveRingBuffer getPastValuesBuffer() {
+		return this.pastValues;
+	}
+
+	private Value<T> toValue(long timestamp, long raw, boolean isDefined) {
+		return new Value<>(this.channel, isDefined ? this.codec.decode(raw) : null, toLocalDateTime(timestamp));
+	}
+
+	private static LocalDateTime toLocalDateTime(long epochMillis) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+	}
+
+}
@@ -0,0 +1,68 @@
+package io.openems.edge.common.channel.internal;
+
+import java.time.LocalDateTime;
+import java.util.TreeMap;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Value;
+
+/**
+ * Holds the 'next', 'active' and past values of a {@link Channel}.
+ *
+ * <p>
+ * Implementations are used by {@link AbstractReadChannel}; they do not call any
+ * Channel callbacks.
+ *
+ * @param <T> the type of the Channel
+ */
+public interface ValueStore<T> {
+
+	/**
+	 * Sets the 'next' value.
+	 *
+	 * @param value the value; possibly null
+	 */
+	public void setNextValue(T value);
+
+	/**
+	 * Gets the 'next' value.
+	 *
+	 * @return the {@link Value}; never null
+	 */
+	public Value<T> getNextValue();
+
+	/**
+	 * Gets the 'active' value.
+	 *
+	 * @return the {@link Value}; never null
+	 */
+	public Value<T> getActiveValue();
+
+	/**
+	 * Is the 'active' value defined, i.e. not null?.
+	 *
+	 * @return true if defined
+	 */
+	public boolean isActiveValueDefined();
+
+	/**
+	 * Copies the 'next' value to the 'active' value.
+	 *
+	 * @return true if the value has changed
+	 */
+	public boolean nextProcessImage();
+
+	/**
+	 * Appends the 'active' value to the past values and deletes entries that are
+	 * elder than {@link Channel#MAX_AGE_OF_PAST_VALUES}.
+	 */
+	public void appendPastValue();
+
+	/**
+	 * Gets the past values.
+	 *
+	 * @return a map of recording time and historic value at that time
+	 */
+	public TreeMap<LocalDateTime, Value<T>> getPastValues();
+
+}
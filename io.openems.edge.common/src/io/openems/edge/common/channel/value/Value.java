@@ -46,9 +46,13 @@ public class Value<T> {
 	private final LocalDateTime timestamp;
 
 	public Value(Channel<T> parent, T value) {
+		this(parent, value, LocalDateTime.now());
+	}
+
+	public Value(Channel<T> parent, T value, LocalDateTime timestamp) {
 		this.parent = parent;
 		this.value = value;
-		this.timestamp = LocalDateTime.now();
+		this.timestamp = timestamp;
 	}
 
 	/**
@@ -16,8 +16,10 @@ import io.openems.common.jsonrpc.type.DeleteComponentConfig;
 import io.openems.common.jsonrpc.type.UpdateComponentConfig;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.EdgeConfig;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.user.User;
@@ -38,7 +40,10 @@ public interface ComponentManager extends OpenemsComponent, ClockProvider {
 		WAS_OUT_OF_MEMORY(Doc.of(Level.INFO)//
 				.text("OutOfMemory had happened. Found heap dump files.")),
 		DEFAULT_CONFIGURATION_FAILED(Doc.of(Level.FAULT)//
-				.text("Applying the default configuration failed.")),;
+				.text("Applying the default configuration failed.")),
+		REGISTRY_VERSION(Doc.of(OpenemsType.LONG)//
+				.text("Version of the registry of enabled Components; changes whenever a Component is added, "
+						+ "removed or modified")),;
 
 		private final Doc doc;
 
@@ -168,6 +173,35 @@ public interface ComponentManager extends OpenemsComponent, ClockProvider {
 		this.getDefaultConfigurationFailedChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#REGISTRY_VERSION}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getRegistryVersionChannel() {
+		return this.channel(ChannelId.REGISTRY_VERSION);
+	}
+
+	/**
+	 * Gets the version of the registry of enabled Components. See
+	 * {@link ChannelId#REGISTRY_VERSION}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getRegistryVersion() {
+		return this.getRegistryVersionChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#REGISTRY_VERSION}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRegistryVersion(long value) {
+		this.getRegistryVersionChannel().setNextValue(value);
+	}
+
 	/**
 	 * Gets the OpenEMS Clock - either the real system clock or a mocked clock for
 	 * simulations.
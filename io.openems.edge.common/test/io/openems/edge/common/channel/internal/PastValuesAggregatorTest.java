@@ -0,0 +1,94 @@
+package io.openems.edge.common.channel.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PastValuesAggregatorTest {
+
+	private static final long HOUR = 3_600_000L;
+	private static final long FIVE_MINUTES = 300_000L;
+	private static final long START = 1_700_000_000_000L / HOUR * HOUR;
+
+	/**
+	 * Adds one sample per second for two hours. Value equals the second; every
+	 * 100th value is undefined.
+	 *
+	 * @return the {@link PastValuesAggregator}
+	 */
+	private static PastValuesAggregator prepare() {
+		var sut = new PastValuesAggregator();
+		for (var second = 0L; second < 7200; second++) {
+			sut.add(START + second * 1000 + 123, second, second % 100 != 0);
+		}
+		return sut;
+	}
+
+	@Test
+	public void testFiveMinutes() {
+		var sut = prepare();
+		var from = START + HOUR;
+		var to = from + FIVE_MINUTES;
+
+		// 3600..3899 without 3600, 3700 and 3800
+		assertEquals(297, sut.count(from, to));
+		assertEquals(3750.0, sut.average(from, to), 0.001);
+		assertEquals(3601.0, sut.min(from, to), 0.0);
+		assertEquals(3899.0, sut.max(from, to), 0.0);
+
+		assertEquals(3599.0, sut.lastBefore(from), 0.0);
+		assertEquals((3750.0 * 297 + 3599) / 298, sut.averageWithPrevious(from, to), 0.001);
+	}
+
+	@Test
+	public void testHour() {
+		var sut = prepare();
+		assertTrue(sut.isAvailable(START, START + HOUR));
+		assertEquals(3564, sut.count(START, START + HOUR));
+		assertEquals(3599.0, sut.lastBefore(START + HOUR), 0.0);
+		assertTrue(Double.isNaN(sut.lastBefore(START)));
+	}
+
+	@Test
+	public void testNotAvailable() {
+		var sut = prepare();
+		assertFalse(sut.isAvailable(START + 1, START + 1001));
+		assertEquals(-1, sut.count(START + 1, START + 1001));
+		assertTrue(Double.isNaN(sut.average(START + 1, START + 1001)));
+
+		// Seconds are kept only for the latest minute
+		assertFalse(sut.isAvailable(START + 1000, START + 2000));
+		assertTrue(sut.isAvailable(START + 7190_000, START + 7200_000));
+	}
+
+	@Test
+	public void testEmpty() {
+		var sut = new PastValuesAggregator();
+		assertFalse(sut.isAvailable(START, START + HOUR));
+		assertTrue(Double.isNaN(sut.lastBefore(START)));
+	}
+
+	@Test
+	public void testNoPrecisionLossAfterLargeValues() {
+		var sut = new PastValuesAggregator();
+		for (var second = 0L; second < 100; second++) {
+			sut.add(START + second * 1000, 1e12, true);
+		}
+		for (var second = 100L; second < 300; second++) {
+			sut.add(START + second * 1000, 0.001, true);
+		}
+
+		// Large values are out of the retention of the one second buckets
+		var from = START + 290_000;
+		var to = START + 300_000;
+		assertEquals(10, sut.count(from, to));
+		assertEquals(0.01, sut.sum(from, to), 1e-9);
+		assertEquals(0.001, sut.average(from, to), 1e-12);
+
+		// Sum from before the first sample is still answered
+		assertEquals(100 * 1e12 + 200 * 0.001, sut.sum(START, START + FIVE_MINUTES), 1.0);
+	}
+
+}
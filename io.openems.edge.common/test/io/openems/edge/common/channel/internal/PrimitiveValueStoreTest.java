@@ -0,0 +1,89 @@
+package io.openems.edge.common.channel.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.DoubleReadChannel;
+import io.openems.edge.common.channel.IntegerReadChannel;
+
+public class PrimitiveValueStoreTest {
+
+	@Test
+	public void testInteger() {
+		var channel = (IntegerReadChannel) Doc.of(OpenemsType.INTEGER).createChannelInstance(null, null);
+		var changes = new ArrayList<String>();
+		channel.onChange((oldValue, newValue) -> changes.add(oldValue.get() + "->" + newValue.get()));
+
+		assertNull(channel.value().get());
+		assertFalse(channel.getValueStore().isActiveValueDefined());
+
+		channel.setNextValue(123);
+		assertEquals(123, channel.getNextValue().get().intValue());
+		assertNull(channel.value().get());
+
+		channel.nextProcessImage();
+		assertEquals(123, channel.value().get().intValue());
+		assertSame(channel.getNextValue(), channel.value());
+
+		// Same value -> no change
+		channel.nextProcessImage();
+		channel.setNextValue(null);
+		channel.nextProcessImage();
+
+		assertEquals(2, changes.size());
+		assertEquals("null->123", changes.get(0));
+		assertEquals("123->null", changes.get(1));
+	}
+
+	@Test
+	public void testDouble() {
+		var channel = (DoubleReadChannel) Doc.of(OpenemsType.DOUBLE).createChannelInstance(null, null);
+		channel.setNextValue(1.5);
+		channel.nextProcessImage();
+		assertEquals(1.5, channel.value().get(), 0.0);
+
+		// NaN is converted to null
+		channel.setNextValue(Double.NaN);
+		channel.nextProcessImage();
+		assertNull(channel.value().get());
+	}
+
+	@Test
+	public void testPastValues() throws InterruptedException {
+		var channel = (IntegerReadChannel) Doc.of(OpenemsType.INTEGER).createChannelInstance(null, null);
+		for (var i = 0; i < 5; i++) {
+			channel.setNextValue(i);
+			channel.nextProcessImage();
+			// Needs sleep to not overwrite the latest value
+			Thread.sleep(2);
+		}
+		// Not updated -> not added again
+		channel.nextProcessImage();
+
+		var pastValues = channel.getPastValues();
+		assertEquals(5, pastValues.size());
+		assertEquals(0, pastValues.firstEntry().getValue().get().intValue());
+		assertEquals(4, pastValues.lastEntry().getValue().get().intValue());
+
+		// View is cached and updated with new values instead of being rebuilt
+		assertSame(pastValues, channel.getPastValues());
+		channel.setNextValue(5);
+		channel.nextProcessImage();
+		Thread.sleep(2);
+		channel.setNextValue(6);
+		channel.nextProcessImage();
+		assertSame(pastValues, channel.getPastValues());
+		assertEquals(7, pastValues.size());
+		assertEquals(0, pastValues.firstEntry().getValue().get().intValue());
+		assertEquals(6, pastValues.lastEntry().getValue().get().intValue());
+	}
+
+}
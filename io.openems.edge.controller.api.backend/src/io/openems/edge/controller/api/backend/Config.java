@@ -49,6 +49,15 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Resend values Persistence Priority", description = "Resend only Channels with a Persistence Priority greater-or-equals this. Should match with the persistence priority configured in your timedata.")
 	PersistencePriority resendPriority() default PersistencePriority.HIGH;
 
+	@AttributeDefinition(name = "Binary data encoding", description = "Sends Channel values in a compact binary encoding, if supported by OpenEMS Backend.")
+	boolean binaryDataEncoding() default true;
+
+	@AttributeDefinition(name = "Write-ahead log quota [MB]", description = "Values that could not be sent are logged on disk up to this size (a tenth for aggregated values) and replayed after reconnect; zero to disable.")
+	int writeAheadLogQuota() default 100;
+
+	@AttributeDefinition(name = "Write-ahead log replay rate", description = "Max number of write-ahead log batches sent per second after reconnect.")
+	int writeAheadLogReplayRate() default 5;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
@@ -1,11 +1,14 @@
 package io.openems.edge.controller.api.backend;
 
+import static io.openems.common.OpenemsConstants.getOpenemsDataDir;
 import static io.openems.common.utils.StringUtils.definedOrElse;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Proxy;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -38,6 +41,7 @@ import io.openems.common.oem.OpenemsEdgeOem;
 import io.openems.common.types.EdgeConfig;
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.websocket.AbstractWebsocketClient;
+import io.openems.common.websocket.BinaryDataEncoding;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -89,6 +93,9 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 	protected BackendOnRequest requestHandler;
 
 	protected WebsocketClient websocket = null;
+	protected WriteAheadLog writeAheadLog = null;
+	protected WriteAheadLog aggregatedWriteAheadLog = null;
+	protected WriteAheadLogReplayWorker writeAheadLogReplayWorker = null;
 	protected Config config;
 	/** Used for SubscribeSystemLogRequests. */
 	private ScheduledExecutorService executor;
@@ -142,6 +149,9 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 		// create http headers
 		Map<String, String> httpHeaders = new HashMap<>();
 		httpHeaders.put("apikey", config.apikey());
+		if (config.binaryDataEncoding()) {
+			httpHeaders.put(BinaryDataEncoding.HTTP_HEADER, BinaryDataEncoding.HTTP_HEADER_VALUE);
+		}
 
 		// Create Websocket instance
 		this.websocket = new WebsocketClient(this, name, uri, httpHeaders, proxy);
@@ -157,6 +167,24 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 		));
 		this.resendHistoricDataWorker.activate(this.id(), false);
 
+		// Initialize write-ahead logs for values that could not be sent
+		if (config.writeAheadLogQuota() > 0) {
+			final var directory = Paths.get(getOpenemsDataDir(), "backend-wal", this.id());
+			final var quota = config.writeAheadLogQuota() * 1024L * 1024L;
+			try {
+				this.writeAheadLog = new WriteAheadLog(directory, quota - quota / 10);
+				// Aggregated values are sent only every 5 minutes
+				this.aggregatedWriteAheadLog = new WriteAheadLog(directory.resolve("aggregated"), quota / 10);
+				this._setWriteAheadLogSize(this.writeAheadLog.getSize() + this.aggregatedWriteAheadLog.getSize());
+				this.writeAheadLogReplayWorker = new WriteAheadLogReplayWorker(this, this.writeAheadLog,
+						this.aggregatedWriteAheadLog, config.writeAheadLogReplayRate());
+				this.writeAheadLogReplayWorker.activate(name + ":WriteAheadLog");
+			} catch (IOException e) {
+				this.logError(this.log, "Unable to open write-ahead log: " + e.getMessage());
+				this.closeWriteAheadLogs();
+			}
+		}
+
 		this.requestHandler.setOnCall(call -> {
 			call.put(WEBSOCKET_CLIENT_KEY, this.websocket);
 			call.put(ComponentConfigRequestHandler.API_WORKER_KEY, this.apiWorker);
@@ -172,12 +200,32 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 		this.resendHistoricDataWorkerFactory.unget(this.resendHistoricDataWorker);
 		this.resendHistoricDataWorker = null;
 		this.sendChannelValuesWorker.deactivate();
+		if (this.writeAheadLogReplayWorker != null) {
+			this.writeAheadLogReplayWorker.deactivate();
+			this.writeAheadLogReplayWorker = null;
+		}
 		if (this.websocket != null) {
 			this.websocket.stop();
 		}
+		this.closeWriteAheadLogs();
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
 	}
 
+	private void closeWriteAheadLogs() {
+		for (var writeAheadLog : new WriteAheadLog[] { this.writeAheadLog, this.aggregatedWriteAheadLog }) {
+			if (writeAheadLog == null) {
+				continue;
+			}
+			try {
+				writeAheadLog.close();
+			} catch (IOException e) {
+				this.logError(this.log, "Unable to close write-ahead log: " + e.getMessage());
+			}
+		}
+		this.writeAheadLog = null;
+		this.aggregatedWriteAheadLog = null;
+	}
+
 	@Override
 	public void run() throws OpenemsNamedException {
 		this.apiWorker.run();
@@ -7,6 +7,7 @@ import org.slf4j.LoggerFactory;
 
 import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
+import io.openems.common.websocket.BinaryDataEncoding;
 
 public class OnOpen implements io.openems.common.websocket.OnOpen {
 
@@ -19,7 +20,10 @@ public class OnOpen implements io.openems.common.websocket.OnOpen {
 
 	@Override
 	public OpenemsError apply(WebSocket ws, Handshakedata handshakedata) {
-		this.parent.logInfo(this.log, "Connected to OpenEMS Backend");
+		final var binaryDataEncoding = BinaryDataEncoding.isSupported(handshakedata);
+		this.parent.logInfo(this.log, "Connected to OpenEMS Backend" //
+				+ (binaryDataEncoding ? " [binary data encoding]" : ""));
+		this.parent.websocket.resetBinaryDataEncoder(binaryDataEncoding);
 
 		// Immediately send Config
 		var config = this.parent.componentManager.getEdgeConfig();
@@ -31,6 +35,9 @@ public class OnOpen implements io.openems.common.websocket.OnOpen {
 
 		// Trigger resending data
 		this.parent.resendHistoricDataWorker.triggerNextRun();
+		if (this.parent.writeAheadLogReplayWorker != null) {
+			this.parent.writeAheadLogReplayWorker.triggerNextRun();
+		}
 
 		return null; // No error
 	}
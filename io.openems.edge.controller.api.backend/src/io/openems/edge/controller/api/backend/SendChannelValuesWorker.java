@@ -1,8 +1,10 @@
 package io.openems.edge.controller.api.backend;
 
+import static io.openems.edge.common.channel.ChannelUtils.aggregatePastValues;
 import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.groupingBy;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -41,7 +43,9 @@ import io.openems.common.timedata.DurationUnit;
 import io.openems.common.types.OpenemsType;
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.ChannelUtils;
 import io.openems.edge.common.channel.EnumDoc;
+import io.openems.edge.common.channel.internal.PastValuesAggregator;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.type.TypeUtils;
 
@@ -196,6 +200,17 @@ public class SendChannelValuesWorker {
 								.isAtLeast(this.parent.config.aggregationPriority()))
 				.forEach(channel -> {
 					try {
+						// Use pre-aggregated values if available
+						var aggregatedValue = aggregateWithAggregator(channel, startTime.toLocalDateTime(),
+								endTime.toLocalDateTime());
+						if (aggregatedValue != null) {
+							if (!sendAllChannels && aggregatedValue.isJsonNull()) {
+								return;
+							}
+							table.put(timestampMillis, channel.address().toString(), aggregatedValue);
+							return;
+						}
+
 						// This is the highest timestamp before `startTime`. If existing it is used for
 						// the tailMap to make sure we get a Value even for Channels where the value has
 						// not changed within the last 5 minutes.
@@ -230,6 +245,37 @@ public class SendChannelValuesWorker {
 		return table;
 	}
 
+	/**
+	 * Aggregates the past values of a Channel using
+	 * {@link ChannelUtils#aggregatePastValues(Channel, LocalDateTime, LocalDateTime)}
+	 * and converts the result to the type of the Channel. Produces the same result
+	 * as {@link #aggregate(boolean, OpenemsType, Collection)} over the past values
+	 * from the highest timestamp before 'from' to 'to'.
+	 * 
+	 * @param channel the {@link Channel}
+	 * @param from    the start time (inclusive)
+	 * @param to      the end time (exclusive)
+	 * @return the aggregated value; null if the Channel has no
+	 *         {@link PastValuesAggregator} or it is unable to answer the range
+	 */
+	protected static JsonElement aggregateWithAggregator(Channel<?> channel, LocalDateTime from, LocalDateTime to) {
+		final var aggregated = aggregatePastValues(channel, from, to);
+		if (aggregated == null) {
+			return null;
+		}
+		if (aggregated.isEmpty()) {
+			return JsonNull.INSTANCE;
+		}
+		final var value = aggregated.getAsDouble();
+		final var isCumulated = channel.channelDoc().getUnit().isCumulated();
+		return switch (channel.getType()) {
+		case DOUBLE, FLOAT -> new JsonPrimitive(value);
+		// round averages to their type
+		case BOOLEAN, LONG, INTEGER, SHORT -> new JsonPrimitive(isCumulated ? (long) value : Math.round(value));
+		case STRING -> null;
+		};
+	}
+
 	// TODO aggregation should be moved to doc
 	protected static JsonElement aggregateEnumChannel(//
 			Channel<?> channel, //
@@ -407,6 +453,18 @@ public class SendChannelValuesWorker {
 			// Try to send
 			var wasSent = this.parent.parent.websocket.sendMessage(message);
 
+			// Not sent: keep in write-ahead log for replay after reconnect
+			var writeAheadLog = this.parent.parent.writeAheadLog;
+			if (!wasSent && writeAheadLog != null && !sendValuesMap.isEmpty()) {
+				try {
+					writeAheadLog.append(timestampMillis, sendValuesMap);
+					wasSent = true;
+				} catch (IOException e) {
+					this.parent.parent.logWarn(this.parent.log,
+							"Unable to write to write-ahead log: " + e.getMessage());
+				}
+			}
+
 			if (wasSent) {
 				// Successfully sent: update information for next runs
 				this.parent.lastAllValues = this.allValues;
@@ -441,7 +499,19 @@ public class SendChannelValuesWorker {
 
 			final var wasSent = this.parent.parent.websocket.sendMessage(message);
 
-			// Set the UNABLE_TO_SEND channel
+			// Not sent: keep in write-ahead log for replay after reconnect
+			final var writeAheadLog = this.parent.parent.aggregatedWriteAheadLog;
+			if (!wasSent && writeAheadLog != null && !this.allValues.isEmpty()) {
+				try {
+					writeAheadLog.append(this.timestamp.toEpochMilli(), this.allValues);
+				} catch (IOException e) {
+					this.parent.parent.logWarn(this.parent.log,
+							"Unable to write to write-ahead log: " + e.getMessage());
+				}
+			}
+
+			// Set the UNABLE_TO_SEND channel; ResendHistoricDataWorker resends the period
+			// unless the write-ahead log was replayed completely
 			this.parent.parent.getUnableToSendChannel().setNextValue(!wasSent);
 		}
 
@@ -10,10 +10,14 @@ import java.util.concurrent.TimeUnit;
 import io.openems.edge.common.channel.ChannelUtils;
 import io.openems.edge.controller.api.backend.api.ControllerApiBackend;
 import org.java_websocket.WebSocket;
+import org.java_websocket.exceptions.WebsocketNotConnectedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.websocket.AbstractWebsocketClient;
+import io.openems.common.websocket.BinaryDataEncoder;
 import io.openems.common.websocket.ClientReconnectorWorker;
 import io.openems.common.websocket.OnClose;
 import io.openems.common.websocket.WsData;
@@ -28,6 +32,13 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 	private final OnError onError;
 	private final OnClose onClose;
 
+	/**
+	 * The {@link BinaryDataEncoder} of the current connection; null if JSON is
+	 * used. Guarded by itself to keep encoding and sending in order.
+	 */
+	private final Object binaryDataLock = new Object();
+	private BinaryDataEncoder binaryDataEncoder = null;
+
 	protected WebsocketClient(ControllerApiBackendImpl parent, String name, URI serverUri,
 			Map<String, String> httpHeaders, Proxy proxy) {
 		super(name, serverUri, AbstractWebsocketClient.DEFAULT_DRAFT, httpHeaders, proxy, null,
@@ -37,6 +48,7 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 		this.onNotification = new OnNotification(parent);
 		this.onError = new OnError(parent);
 		this.onClose = (ws, code, reason, remote) -> {
+			this.resetBinaryDataEncoder(false);
 			this.log.error("Disconnected from OpenEMS Backend [" + serverUri.toString() //
 					+ (proxy != AbstractWebsocketClient.NO_PROXY ? " via Proxy" : "") + "]");
 			this.parent.getUnableToSendChannel().setNextValue(true);
@@ -50,6 +62,50 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 		}
 	}
 
+	/**
+	 * Starts a new binary encoding for the current connection or switches to
+	 * JSON.
+	 *
+	 * @param enabled true if the Backend confirmed the binary encoding
+	 */
+	protected void resetBinaryDataEncoder(boolean enabled) {
+		synchronized (this.binaryDataLock) {
+			this.binaryDataEncoder = enabled ? new BinaryDataEncoder() : null;
+		}
+	}
+
+	/**
+	 * Sends a {@link JsonrpcMessage}. {@link AbstractDataNotification}s are sent
+	 * as binary frames if negotiated with the Backend.
+	 *
+	 * @param message the {@link JsonrpcMessage}
+	 * @return true if sending was successful
+	 */
+	@Override
+	public boolean sendMessage(JsonrpcMessage message) {
+		if (message instanceof AbstractDataNotification notification) {
+			synchronized (this.binaryDataLock) {
+				if (this.binaryDataEncoder != null) {
+					return this.sendBinary(this.binaryDataEncoder.encode(notification));
+				}
+			}
+		}
+		return super.sendMessage(message);
+	}
+
+	private boolean sendBinary(byte[] frame) {
+		try {
+			if (this.ws.isOpen()) {
+				this.ws.send(frame);
+				return true;
+			}
+		} catch (WebsocketNotConnectedException e) {
+			// Connection was closed inbetween
+		}
+		this.logWarn(this.log, "Unable to send binary data [" + frame.length + " bytes]: Connection is closed.");
+		return false;
+	}
+
 	@Override
 	public OnOpen getOnOpen() {
 		return this.onOpen;
@@ -0,0 +1,425 @@
+package io.openems.edge.controller.api.backend;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Append-only, segment based log of timestamped Channel values that could not
+ * be sent to OpenEMS Backend.
+ *
+ * <p>
+ * Entries are collected in memory and written as compressed blocks of up to
+ * {@link #MAX_BLOCK_ENTRIES} entries. Segments are rotated at
+ * {@link #MAX_SEGMENT_BYTES}; if the quota is exceeded the oldest segment is
+ * dropped. Blocks are read in the order they were written; a segment is deleted
+ * once all its blocks were committed. The position after the last committed
+ * block is kept in an offset file, so a restart does not replay it again.
+ *
+ * <p>
+ * Block format: [int magic][int raw length][int compressed length][int CRC32 of
+ * compressed data][compressed data]. The raw data is one line per entry:
+ * 'timestamp TAB json-object'.
+ */
+final class WriteAheadLog implements AutoCloseable {
+
+	/**
+	 * A block of entries.
+	 *
+	 * @param data       the values per timestamp and Channel-Address
+	 * @param segment    the segment number
+	 * @param nextOffset the offset of the next block in the segment
+	 */
+	protected record Batch(TreeBasedTable<Long, String, JsonElement> data, long segment, long nextOffset) {
+	}
+
+	protected static final int MAX_BLOCK_ENTRIES = 300;
+	protected static final int MAX_BLOCK_CHARS = 1 << 20; // 1 MB
+	protected static final long MAX_SEGMENT_BYTES = 4L << 20; // 4 MB
+
+	private static final int MAGIC = 0x4F57414C; // "OWAL"
+	private static final int HEADER_BYTES = 16;
+	private static final String SUFFIX = ".wal";
+	private static final String OFFSET_FILE = "replay.offset";
+	private static final int OFFSET_BYTES = 16;
+
+	private final Path directory;
+	private final Path offsetFile;
+	private final long quota;
+	private final long maxSegmentBytes;
+
+	/** Segment files by segment number. */
+	private final TreeMap<Long, Path> segments = new TreeMap<>();
+	private final StringBuilder pending = new StringBuilder();
+	private int pendingEntries = 0;
+	private long size = 0;
+
+	private FileChannel writer = null;
+	private long writeSegment = -1;
+	private long readSegment = -1;
+	private long readOffset = 0;
+
+	/** False if data was dropped since the log was empty the last time. */
+	private boolean complete = true;
+
+	/**
+	 * Opens a {@link WriteAheadLog}. Existing segments are kept for replay;
+	 * replay continues after the last committed block.
+	 *
+	 * @param directory the directory
+	 * @param quota     the max size in bytes
+	 * @throws IOException on error
+	 */
+	protected WriteAheadLog(Path directory, long quota) throws IOException {
+		this.directory = directory;
+		this.offsetFile = directory.resolve(OFFSET_FILE);
+		this.quota = quota;
+		this.maxSegmentBytes = Math.max(HEADER_BYTES, Math.min(MAX_SEGMENT_BYTES, quota / 4));
+		Files.createDirectories(directory);
+		try (var files = Files.list(directory)) {
+			for (var file : (Iterable<Path>) files::iterator) {
+				var name = file.getFileName().toString();
+				if (!name.endsWith(SUFFIX)) {
+					continue;
+				}
+				try {
+					var segment = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+					this.segments.put(segment, file);
+					this.size += Files.size(file);
+				} catch (NumberFormatException e) {
+					// ignore foreign file
+				}
+			}
+		}
+		this.loadOffset();
+	}
+
+	/**
+	 * Appends the values of one timestamp.
+	 *
+	 * @param timestamp the timestamp in epoch milliseconds
+	 * @param values    the values by Channel-Address
+	 * @throws IOException on error
+	 */
+	protected synchronized void append(long timestamp, Map<String, JsonElement> values) throws IOException {
+		var json = new JsonObject();
+		values.forEach(json::add);
+		this.pending.append(timestamp).append('\t').append(json).append('\n');
+		this.pendingEntries++;
+		if (this.pendingEntries >= MAX_BLOCK_ENTRIES || this.pending.length() >= MAX_BLOCK_CHARS) {
+			this.flush();
+		}
+	}
+
+	/**
+	 * Writes the entries collected in memory as a block.
+	 *
+	 * @throws IOException on error
+	 */
+	protected synchronized void flush() throws IOException {
+		if (this.pendingEntries == 0) {
+			return;
+		}
+		var raw = this.pending.toString().getBytes(UTF_8);
+		this.pending.setLength(0);
+		this.pendingEntries = 0;
+
+		var compressed = compress(raw);
+		var crc = new CRC32();
+		crc.update(compressed);
+		var block = ByteBuffer.allocate(HEADER_BYTES + compressed.length) //
+				.putInt(MAGIC) //
+				.putInt(raw.length) //
+				.putInt(compressed.length) //
+				.putInt((int) crc.getValue()) //
+				.put(compressed) //
+				.flip();
+
+		this.enforceQuota(block.remaining());
+		if (this.writer == null) {
+			this.writeSegment = this.segments.isEmpty() ? 0 : this.segments.lastKey() + 1;
+			var file = this.directory.resolve(String.format("%019d", this.writeSegment) + SUFFIX);
+			this.writer = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+			this.segments.put(this.writeSegment, file);
+		}
+		var length = block.remaining();
+		while (block.hasRemaining()) {
+			this.writer.write(block);
+		}
+		this.writer.force(false);
+		this.size += length;
+		if (this.writer.size() >= this.maxSegmentBytes) {
+			this.closeWriter();
+		}
+	}
+
+	/**
+	 * Reads the next block that was not yet committed.
+	 *
+	 * @return the {@link Batch}; null if there is none
+	 * @throws IOException on error
+	 */
+	protected synchronized Batch next() throws IOException {
+		while (!this.segments.isEmpty()) {
+			var entry = this.segments.firstEntry();
+			if (entry.getKey() != this.readSegment) {
+				this.readSegment = entry.getKey();
+				this.readOffset = 0;
+			}
+			var batch = this.read(entry.getValue());
+			if (batch != null) {
+				return batch;
+			}
+			// Segment is completely read
+			if (this.readOffset < Files.size(entry.getValue())) {
+				// corrupt or truncated block
+				this.complete = false;
+			}
+			if (entry.getKey() == this.writeSegment) {
+				this.closeWriter();
+			}
+			this.deleteSegment(entry.getKey());
+		}
+		return null;
+	}
+
+	/**
+	 * Marks a {@link Batch} as successfully replayed.
+	 *
+	 * @param batch the {@link Batch}
+	 * @throws IOException on error
+	 */
+	protected synchronized void commit(Batch batch) throws IOException {
+		if (batch.segment() == this.readSegment) {
+			this.readOffset = batch.nextOffset();
+			this.saveOffset();
+		}
+	}
+
+	/**
+	 * Gets the size on disk.
+	 *
+	 * @return the size in bytes
+	 */
+	protected synchronized long getSize() {
+		return this.size;
+	}
+
+	/**
+	 * Is the log empty?.
+	 *
+	 * @return true if there is nothing to replay
+	 */
+	protected synchronized boolean isEmpty() {
+		return this.segments.isEmpty() && this.pendingEntries == 0;
+	}
+
+	/**
+	 * Was data dropped because the quota was exceeded or a block was corrupt?.
+	 * Resets the state if the log is empty.
+	 *
+	 * @return true if no data was dropped since the log was empty the last time
+	 */
+	protected synchronized boolean takeComplete() {
+		var result = this.complete;
+		if (this.isEmpty()) {
+			this.complete = true;
+		}
+		return result;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		this.flush();
+		this.closeWriter();
+	}
+
+	private Batch read(Path file) throws IOException {
+		try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			var header = ByteBuffer.allocate(HEADER_BYTES);
+			if (!readFully(channel, header, this.readOffset)) {
+				return null;
+			}
+			header.flip();
+			var magic = header.getInt();
+			var rawLength = header.getInt();
+			var compressedLength = header.getInt();
+			var crc = header.getInt();
+			if (magic != MAGIC || rawLength < 0 || compressedLength < 0
+					|| this.readOffset + HEADER_BYTES + compressedLength > channel.size()) {
+				return null;
+			}
+			var compressed = ByteBuffer.allocate(compressedLength);
+			if (!readFully(channel, compressed, this.readOffset + HEADER_BYTES)) {
+				return null;
+			}
+			var actualCrc = new CRC32();
+			actualCrc.update(compressed.array());
+			if ((int) actualCrc.getValue() != crc) {
+				return null;
+			}
+			var data = parse(decompress(compressed.array(), rawLength));
+			if (data == null) {
+				return null;
+			}
+			return new Batch(data, this.readSegment, this.readOffset + HEADER_BYTES + compressedLength);
+		}
+	}
+
+	private void enforceQuota(int blockSize) throws IOException {
+		while (this.size + blockSize > this.quota && !this.segments.isEmpty()) {
+			var oldest = this.segments.firstKey();
+			if (oldest == this.writeSegment) {
+				// Start a new segment; the current one is dropped
+				this.closeWriter();
+			}
+			this.deleteSegment(oldest);
+			this.complete = false;
+		}
+	}
+
+	private void deleteSegment(long segment) throws IOException {
+		var file = this.segments.remove(segment);
+		if (file == null) {
+			return;
+		}
+		this.size -= Files.size(file);
+		Files.deleteIfExists(file);
+		if (segment == this.readSegment) {
+			this.readSegment = -1;
+			this.readOffset = 0;
+			Files.deleteIfExists(this.offsetFile);
+		}
+	}
+
+	private void loadOffset() throws IOException {
+		if (!Files.exists(this.offsetFile)) {
+			return;
+		}
+		var bytes = Files.readAllBytes(this.offsetFile);
+		if (bytes.length != OFFSET_BYTES) {
+			return;
+		}
+		var buffer = ByteBuffer.wrap(bytes);
+		var segment = buffer.getLong();
+		var offset = buffer.getLong();
+		var file = this.segments.get(segment);
+		if (file != null && offset >= 0 && offset <= Files.size(file)) {
+			this.readSegment = segment;
+			this.readOffset = offset;
+		}
+	}
+
+	private void saveOffset() throws IOException {
+		var buffer = ByteBuffer.allocate(OFFSET_BYTES) //
+				.putLong(this.readSegment) //
+				.putLong(this.readOffset) //
+				.flip();
+		var tmp = this.directory.resolve(OFFSET_FILE + ".tmp");
+		try (var channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(false);
+		}
+		Files.move(tmp, this.offsetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private void closeWriter() throws IOException {
+		if (this.writer != null) {
+			this.writer.close();
+			this.writer = null;
+			this.writeSegment = -1;
+		}
+	}
+
+	private static boolean readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			var read = channel.read(buffer, position + buffer.position());
+			if (read < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static byte[] compress(byte[] raw) {
+		var deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(raw);
+			deflater.finish();
+			var out = new ByteArrayOutputStream(raw.length / 4 + 64);
+			var buffer = new byte[8192];
+			while (!deflater.finished()) {
+				out.write(buffer, 0, deflater.deflate(buffer));
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] decompress(byte[] compressed, int rawLength) {
+		var inflater = new Inflater();
+		try {
+			inflater.setInput(compressed);
+			var raw = new byte[rawLength];
+			var length = 0;
+			while (length < rawLength && !inflater.finished()) {
+				var n = inflater.inflate(raw, length, rawLength - length);
+				if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				length += n;
+			}
+			return length == rawLength ? raw : null;
+		} catch (DataFormatException e) {
+			return null;
+		} finally {
+			inflater.end();
+		}
+	}
+
+	private static TreeBasedTable<Long, String, JsonElement> parse(byte[] raw) {
+		if (raw == null) {
+			return null;
+		}
+		var result = TreeBasedTable.<Long, String, JsonElement>create();
+		try {
+			for (var line : new String(raw, UTF_8).split("\n")) {
+				if (line.isEmpty()) {
+					continue;
+				}
+				var tab = line.indexOf('\t');
+				var timestamp = Long.parseLong(line.substring(0, tab));
+				var values = JsonParser.parseString(line.substring(tab + 1)).getAsJsonObject();
+				for (var entry : values.entrySet()) {
+					result.put(timestamp, entry.getKey(), entry.getValue());
+				}
+			}
+		} catch (RuntimeException e) {
+			return null;
+		}
+		return result;
+	}
+
+}
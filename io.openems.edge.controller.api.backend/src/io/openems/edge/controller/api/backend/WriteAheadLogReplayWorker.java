@@ -0,0 +1,137 @@
+package io.openems.edge.controller.api.backend;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.gson.JsonElement;
+
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.worker.AbstractWorker;
+
+/**
+ * Replays the {@link WriteAheadLog}s once the connection to OpenEMS Backend is
+ * available again: timestamped values as {@link TimestampedDataNotification}s
+ * and aggregated values as {@link AggregatedDataNotification}s, i.e. to the
+ * same stores as live values. OpenEMS Backend does not apply values to the
+ * live state of the Edge if they are older than the current ones.
+ *
+ * <p>
+ * If the aggregated values were replayed without loss, LastSuccessfulResend
+ * is moved to the last replayed timestamp, so {@link ResendHistoricDataWorker}
+ * does not resend the same period again from Timedata.
+ */
+public class WriteAheadLogReplayWorker extends AbstractWorker {
+
+	private static final int RETRY_MILLIS = 60_000; // [milliseconds] 1 min
+
+	private final Logger log = LoggerFactory.getLogger(WriteAheadLogReplayWorker.class);
+
+	private final ControllerApiBackendImpl parent;
+	private final WriteAheadLog writeAheadLog;
+	private final WriteAheadLog aggregatedWriteAheadLog;
+	private final RateLimiter rateLimiter;
+
+	/**
+	 * Result of replaying one {@link WriteAheadLog}.
+	 *
+	 * @param batches       the number of replayed batches
+	 * @param lastTimestamp the last replayed timestamp; -1 if none
+	 */
+	private static record Replay(int batches, long lastTimestamp) {
+	}
+
+	protected WriteAheadLogReplayWorker(ControllerApiBackendImpl parent, WriteAheadLog writeAheadLog,
+			WriteAheadLog aggregatedWriteAheadLog, int batchesPerSecond) {
+		this.parent = parent;
+		this.writeAheadLog = writeAheadLog;
+		this.aggregatedWriteAheadLog = aggregatedWriteAheadLog;
+		this.rateLimiter = RateLimiter.create(Math.max(1, batchesPerSecond));
+	}
+
+	@Override
+	protected void forever() throws IOException {
+		if (!this.parent.isConnected()) {
+			return;
+		}
+
+		final Replay timestamped;
+		final Replay aggregated;
+		try {
+			timestamped = this.replay(this.writeAheadLog, TimestampedDataNotification::new);
+			if (timestamped == null) {
+				return;
+			}
+			aggregated = this.replay(this.aggregatedWriteAheadLog, AggregatedDataNotification::new);
+			if (aggregated == null) {
+				return;
+			}
+		} finally {
+			this.parent._setWriteAheadLogSize(this.writeAheadLog.getSize() + this.aggregatedWriteAheadLog.getSize());
+		}
+
+		final var timestampedComplete = this.writeAheadLog.takeComplete();
+		final var aggregatedComplete = this.aggregatedWriteAheadLog.takeComplete();
+		final var complete = timestampedComplete && aggregatedComplete;
+		this.parent._setWriteAheadLogDataLost(!complete);
+		final var batches = timestamped.batches() + aggregated.batches();
+		if (batches == 0) {
+			return;
+		}
+		this.parent.logInfo(this.log, "Replayed write-ahead log [" + batches + " batches]" //
+				+ (complete ? "" : " with lost data"));
+
+		if (aggregatedComplete && aggregated.lastTimestamp() >= 0) {
+			final var lastSuccessfulResend = this.parent.getLastSuccessFulResendChannel();
+			final var lastTimestamp = aggregated.lastTimestamp() / 1000;
+			if (lastTimestamp > lastSuccessfulResend.getNextValue().orElse(-1L)) {
+				lastSuccessfulResend.setNextValue(lastTimestamp);
+			}
+		}
+	}
+
+	/**
+	 * Sends all batches of a {@link WriteAheadLog}.
+	 *
+	 * @param writeAheadLog       the {@link WriteAheadLog}
+	 * @param notificationFactory creates the notification for the data of a batch
+	 * @return the {@link Replay}; null if a batch could not be sent
+	 * @throws IOException on error
+	 */
+	private Replay replay(WriteAheadLog writeAheadLog,
+			Function<TreeBasedTable<Long, String, JsonElement>, AbstractDataNotification> notificationFactory)
+			throws IOException {
+		writeAheadLog.flush();
+
+		var batches = 0;
+		var lastTimestamp = -1L;
+		WriteAheadLog.Batch batch;
+		while ((batch = writeAheadLog.next()) != null) {
+			this.rateLimiter.acquire();
+			if (!this.parent.websocket.sendMessage(notificationFactory.apply(batch.data()))) {
+				this.parent.logWarn(this.log, "Unable to replay write-ahead log");
+				return null;
+			}
+			writeAheadLog.commit(batch);
+			batches++;
+			if (!batch.data().isEmpty()) {
+				lastTimestamp = batch.data().rowKeySet().last();
+			}
+		}
+		return new Replay(batches, lastTimestamp);
+	}
+
+	@Override
+	protected int getCycleTime() {
+		return this.writeAheadLog.isEmpty() && this.aggregatedWriteAheadLog.isEmpty() //
+				? AbstractWorker.ALWAYS_WAIT_FOR_TRIGGER_NEXT_RUN //
+				: RETRY_MILLIS;
+	}
+
+}
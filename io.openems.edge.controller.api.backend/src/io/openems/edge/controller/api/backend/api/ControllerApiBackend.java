@@ -38,6 +38,10 @@ public interface ControllerApiBackend extends Controller, OpenemsComponent, Even
 		 * in java. The channel is used for better reporting.
 		 */
 		CONNECTION_CLOSE_FAILURE(Doc.of(BOOLEAN)), //
+		WRITE_AHEAD_LOG_SIZE(Doc.of(OpenemsType.LONG)//
+				.text("Size of the write-ahead log of unsent values in bytes")), //
+		WRITE_AHEAD_LOG_DATA_LOST(Doc.of(Level.WARNING)//
+				.text("Values in the write-ahead log were dropped, e.g. because the quota was exceeded")), //
 
 		;
 
@@ -80,6 +84,44 @@ public interface ControllerApiBackend extends Controller, OpenemsComponent, Even
 		return this.channel(ChannelId.LAST_SUCCESSFUL_RESEND);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#WRITE_AHEAD_LOG_SIZE}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getWriteAheadLogSizeChannel() {
+		return this.channel(ChannelId.WRITE_AHEAD_LOG_SIZE);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#WRITE_AHEAD_LOG_SIZE} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setWriteAheadLogSize(long value) {
+		this.getWriteAheadLogSizeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#WRITE_AHEAD_LOG_DATA_LOST}.
+	 *
+	 * @return the Channel
+	 */
+	public default StateChannel getWriteAheadLogDataLostChannel() {
+		return this.channel(ChannelId.WRITE_AHEAD_LOG_DATA_LOST);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#WRITE_AHEAD_LOG_DATA_LOST} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setWriteAheadLogDataLost(boolean value) {
+		this.getWriteAheadLogDataLostChannel().setNextValue(value);
+	}
+
 	/**
 	 * Gets if the edge is currently connected to the backend.
 	 * 
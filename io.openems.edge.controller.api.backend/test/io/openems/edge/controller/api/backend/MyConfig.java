@@ -19,6 +19,9 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private PersistencePriority persistencePriority;
 		private PersistencePriority aggregationPriority;
 		private PersistencePriority resendPriority;
+		private boolean binaryDataEncoding;
+		private int writeAheadLogQuota;
+		private int writeAheadLogReplayRate;
 		private boolean debugMode;
 
 		private Builder() {
@@ -74,6 +77,21 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setBinaryDataEncoding(boolean binaryDataEncoding) {
+			this.binaryDataEncoding = binaryDataEncoding;
+			return this;
+		}
+
+		public Builder setWriteAheadLogQuota(int writeAheadLogQuota) {
+			this.writeAheadLogQuota = writeAheadLogQuota;
+			return this;
+		}
+
+		public Builder setWriteAheadLogReplayRate(int writeAheadLogReplayRate) {
+			this.writeAheadLogReplayRate = writeAheadLogReplayRate;
+			return this;
+		}
+
 		public Builder setDebugMode(boolean debugMode) {
 			this.debugMode = debugMode;
 			return this;
@@ -145,6 +163,21 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.resendPriority;
 	}
 
+	@Override
+	public boolean binaryDataEncoding() {
+		return this.builder.binaryDataEncoding;
+	}
+
+	@Override
+	public int writeAheadLogQuota() {
+		return this.builder.writeAheadLogQuota;
+	}
+
+	@Override
+	public int writeAheadLogReplayRate() {
+		return this.builder.writeAheadLogReplayRate;
+	}
+
 	@Override
 	public boolean debugMode() {
 		return this.builder.debugMode;
@@ -0,0 +1,142 @@
+package io.openems.edge.controller.api.backend;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.gson.JsonPrimitive;
+
+public class WriteAheadLogTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testReplay() throws IOException {
+		final var dir = this.folder.getRoot().toPath();
+		try (var sut = new WriteAheadLog(dir, 10_000_000)) {
+			assertTrue(sut.isEmpty());
+			sut.append(1000, Map.of("_sum/EssSoc", new JsonPrimitive(50)));
+			sut.append(2000, Map.of("_sum/EssSoc", new JsonPrimitive(51), "meter0/ActivePower", new JsonPrimitive(-3)));
+			assertFalse(sut.isEmpty());
+			assertNull(sut.next()); // not yet flushed
+			sut.flush();
+			assertTrue(sut.getSize() > 0);
+		}
+
+		// Reopen keeps the log
+		try (var sut = new WriteAheadLog(dir, 10_000_000)) {
+			var batch = sut.next();
+			assertEquals(new JsonPrimitive(50), batch.data().get(1000L, "_sum/EssSoc"));
+			assertEquals(new JsonPrimitive(-3), batch.data().get(2000L, "meter0/ActivePower"));
+			assertEquals(3, batch.data().size());
+
+			// Not committed: same batch again
+			assertEquals(batch.data(), sut.next().data());
+
+			sut.commit(batch);
+			assertNull(sut.next());
+			assertTrue(sut.isEmpty());
+			assertEquals(0, sut.getSize());
+			assertTrue(sut.takeComplete());
+		}
+	}
+
+	@Test
+	public void testBlocks() throws IOException {
+		try (var sut = new WriteAheadLog(this.folder.getRoot().toPath(), 10_000_000)) {
+			for (var i = 0; i < WriteAheadLog.MAX_BLOCK_ENTRIES + 1; i++) {
+				sut.append(i, Map.of("_sum/EssSoc", new JsonPrimitive(i)));
+			}
+			sut.flush();
+
+			var batch = sut.next();
+			assertEquals(WriteAheadLog.MAX_BLOCK_ENTRIES, batch.data().rowKeySet().size());
+			sut.commit(batch);
+			batch = sut.next();
+			assertEquals(1, batch.data().size());
+			assertEquals(new JsonPrimitive(WriteAheadLog.MAX_BLOCK_ENTRIES),
+					batch.data().get((long) WriteAheadLog.MAX_BLOCK_ENTRIES, "_sum/EssSoc"));
+			sut.commit(batch);
+			assertNull(sut.next());
+		}
+	}
+
+	@Test
+	public void testReplayOffsetIsPersisted() throws IOException {
+		final var dir = this.folder.getRoot().toPath();
+		try (var sut = new WriteAheadLog(dir, 10_000_000)) {
+			for (var i = 0; i < WriteAheadLog.MAX_BLOCK_ENTRIES + 1; i++) {
+				sut.append(i, Map.of("_sum/EssSoc", new JsonPrimitive(i)));
+			}
+			sut.flush();
+			sut.commit(sut.next());
+		}
+
+		// Reopen continues after the committed block
+		try (var sut = new WriteAheadLog(dir, 10_000_000)) {
+			var batch = sut.next();
+			assertEquals(1, batch.data().size());
+			assertEquals(new JsonPrimitive(WriteAheadLog.MAX_BLOCK_ENTRIES),
+					batch.data().get((long) WriteAheadLog.MAX_BLOCK_ENTRIES, "_sum/EssSoc"));
+			sut.commit(batch);
+			assertNull(sut.next());
+			assertTrue(sut.isEmpty());
+		}
+		try (var files = Files.list(dir)) {
+			assertEquals(0, files.count());
+		}
+	}
+
+	@Test
+	public void testQuota() throws IOException {
+		// Small quota: every block starts a new segment
+		try (var sut = new WriteAheadLog(this.folder.getRoot().toPath(), 200)) {
+			for (var i = 0; i < 10; i++) {
+				sut.append(i, Map.of("_sum/EssSoc", new JsonPrimitive(i)));
+				sut.flush();
+			}
+			assertTrue(sut.getSize() <= 200);
+
+			var batch = sut.next();
+			assertTrue(batch.data().rowKeySet().first() > 0); // oldest were dropped
+			sut.commit(batch);
+			while ((batch = sut.next()) != null) {
+				sut.commit(batch);
+			}
+			assertFalse(sut.takeComplete());
+			assertTrue(sut.takeComplete());
+		}
+	}
+
+	@Test
+	public void testCorruptBlock() throws IOException {
+		final var dir = this.folder.getRoot().toPath();
+		try (var sut = new WriteAheadLog(dir, 10_000_000)) {
+			sut.append(1000, Map.of("_sum/EssSoc", new JsonPrimitive(50)));
+		}
+		try (var files = Files.list(dir)) {
+			var file = files.findFirst().get();
+			Files.write(file, new byte[] { 1, 2, 3 }, StandardOpenOption.APPEND);
+		}
+
+		try (var sut = new WriteAheadLog(dir, 10_000_000)) {
+			var batch = sut.next();
+			assertEquals(1, batch.data().size());
+			sut.commit(batch);
+			assertNull(sut.next());
+			assertFalse(sut.takeComplete());
+		}
+	}
+
+}
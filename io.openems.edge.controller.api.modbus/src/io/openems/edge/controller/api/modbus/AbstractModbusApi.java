@@ -73,6 +73,8 @@ public abstract class AbstractModbusApi extends AbstractOpenemsComponent
 	private final AtomicInteger accessCounter = new AtomicInteger();
 	/** Counts every Write to a Register. */
 	private final AtomicInteger writeCounter = new AtomicInteger();
+	/** Request-rate and latency per Modbus client. */
+	protected final ClientMetrics clientMetrics = new ClientMetrics(MAX_IDLE_SECONDS);
 
 	protected Instant lastModbusProcessImageErrorInstant = Instant.MIN;
 	protected Clock clock;
@@ -155,6 +157,7 @@ public abstract class AbstractModbusApi extends AbstractOpenemsComponent
 			-> new StringBuilder() //
 					.append("Access:").append(this.accessCounter.get()) //
 					.append("|Write:").append(this.writeCounter.get()) //
+					.append("|Clients:").append(this.getClients().orElse(0)) //
 					.toString();
 		};
 	}
@@ -237,10 +240,32 @@ public abstract class AbstractModbusApi extends AbstractOpenemsComponent
 			return;
 		}
 		this.updateCycleValues();
+		this.updateRegisterImage();
+		this.updateClientMetrics();
 		this.apiWorker.run();
 		this.resetProcessImageError(this.clock);
 	}
 
+	/**
+	 * Once every cycle: encode the values of all {@link ModbusRecord}s to the
+	 * Register image that serves the Modbus requests.
+	 */
+	protected synchronized void updateRegisterImage() {
+		this.processImage.updateRegisterImage(this.records);
+	}
+
+	/**
+	 * Once every cycle: update the Channels for request-rate and latency of the
+	 * Modbus clients.
+	 */
+	protected void updateClientMetrics() {
+		var snapshot = this.clientMetrics.snapshot(System.nanoTime());
+		this._setClients(snapshot.clients());
+		this._setRequestsPerSecond(snapshot.requestsPerSecond());
+		this._setMaxClientRequestsPerSecond(snapshot.maxClientRequestsPerSecond());
+		this._setMaxRequestDuration(snapshot.maxRequestDuration());
+	}
+
 	/**
 	 * Called by addComponent/removeComponent. Initializes the ModbusRecords, once
 	 * all Components are available. Fault-State otherwise.
@@ -250,6 +275,7 @@ public abstract class AbstractModbusApi extends AbstractOpenemsComponent
 
 		if (config == null) {
 			this.resetModbusTable();
+			this.updateRegisterImage();
 			return;
 		}
 		final var expectedIds = List.of(config.componentIds());
@@ -259,12 +285,14 @@ public abstract class AbstractModbusApi extends AbstractOpenemsComponent
 
 		if (!availableIds.containsAll(expectedIds)) {
 			this.resetModbusTable();
+			this.updateRegisterImage();
 			this._setComponentMissingFault(true);
 			return;
 		}
 
 		this._setComponentMissingFault(false);
 		this.initializeModbusRecords(config.metaComponent(), config.componentIds());
+		this.updateRegisterImage();
 	}
 
 	protected final synchronized void _addComponent(OpenemsComponent component) {
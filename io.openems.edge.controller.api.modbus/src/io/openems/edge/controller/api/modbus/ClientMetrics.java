@@ -0,0 +1,93 @@
+package io.openems.edge.controller.api.modbus;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects request-rate and latency of Modbus clients.
+ *
+ * <p>
+ * j2mod serves every Modbus/TCP connection from its own handler thread, so the
+ * calling thread identifies the client. {@link #record(long)} is called by the
+ * handler threads; {@link #snapshot(long)} once per Cycle.
+ */
+final class ClientMetrics {
+
+	protected record Snapshot(int clients, int requestsPerSecond, int maxClientRequestsPerSecond,
+			float maxRequestDuration) {
+	}
+
+	private static final class Client {
+
+		private final AtomicInteger requests = new AtomicInteger();
+		private final AtomicLong maxDuration = new AtomicLong();
+		private volatile long lastRequest;
+	}
+
+	private final ConcurrentHashMap<Long, Client> clients = new ConcurrentHashMap<>();
+	private final long maxIdleNanos;
+
+	private long lastSnapshot = Long.MIN_VALUE;
+
+	protected ClientMetrics(int maxIdleSeconds) {
+		this.maxIdleNanos = TimeUnit.SECONDS.toNanos(maxIdleSeconds);
+	}
+
+	/**
+	 * Records a finished request of the client of the current thread.
+	 *
+	 * @param start the {@link System#nanoTime()} at the start of the request
+	 */
+	protected void record(long start) {
+		final var now = System.nanoTime();
+		final var client = this.clients.computeIfAbsent(Thread.currentThread().threadId(), id -> new Client());
+		client.requests.incrementAndGet();
+		client.maxDuration.accumulateAndGet(now - start, Math::max);
+		client.lastRequest = now;
+	}
+
+	/**
+	 * Builds a {@link Snapshot} of the requests since the last call and removes
+	 * idle clients. Not thread-safe.
+	 *
+	 * @param now the current {@link System#nanoTime()}
+	 * @return the {@link Snapshot}
+	 */
+	protected Snapshot snapshot(long now) {
+		final var elapsed = this.lastSnapshot == Long.MIN_VALUE //
+				? 0 //
+				: now - this.lastSnapshot;
+		this.lastSnapshot = now;
+
+		var clients = 0;
+		var requests = 0L;
+		var maxClientRequests = 0;
+		var maxDuration = 0L;
+		for (var iterator = this.clients.values().iterator(); iterator.hasNext();) {
+			final var client = iterator.next();
+			final var clientRequests = client.requests.getAndSet(0);
+			maxDuration = Math.max(maxDuration, client.maxDuration.getAndSet(0));
+			if (clientRequests == 0 && now - client.lastRequest > this.maxIdleNanos) {
+				iterator.remove();
+				continue;
+			}
+			clients++;
+			requests += clientRequests;
+			maxClientRequests = Math.max(maxClientRequests, clientRequests);
+		}
+		return new Snapshot(clients, //
+				perSecond(requests, elapsed), //
+				perSecond(maxClientRequests, elapsed), //
+				maxDuration / 1_000_000F);
+	}
+
+	private static int perSecond(long count, long elapsedNanos) {
+		if (elapsedNanos <= 0) {
+			return 0;
+		}
+		return (int) Math.round(count * 1_000_000_000D / elapsedNanos);
+	}
+
+}
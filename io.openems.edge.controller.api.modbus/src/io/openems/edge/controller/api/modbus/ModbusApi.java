@@ -2,7 +2,11 @@ package io.openems.edge.controller.api.modbus;
 
 import io.openems.common.channel.Debounce;
 import io.openems.common.channel.Level;
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.FloatReadChannel;
+import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -18,7 +22,16 @@ public interface ModbusApi extends OpenemsComponent {
 				.debounce(10, Debounce.TRUE_VALUES_IN_A_ROW_TO_SET_TRUE) //
 				.text("A configured Component is not available")), //
 		PROCESS_IMAGE_FAULT(Doc.of(Level.FAULT) //
-				.text("Invalid Modbus Function call. Only FC3, FC4, FC6 and FC16 are supported"));
+				.text("Invalid Modbus Function call. Only FC3, FC4, FC6 and FC16 are supported")), //
+		CLIENTS(Doc.of(OpenemsType.INTEGER) //
+				.text("Number of Modbus clients with requests in the last minute")), //
+		REQUESTS_PER_SECOND(Doc.of(OpenemsType.INTEGER) //
+				.text("Modbus requests per second of all clients")), //
+		MAX_CLIENT_REQUESTS_PER_SECOND(Doc.of(OpenemsType.INTEGER) //
+				.text("Modbus requests per second of the busiest client")), //
+		MAX_REQUEST_DURATION(Doc.of(OpenemsType.FLOAT) //
+				.unit(Unit.MILLISECONDS) //
+				.text("Longest duration of a Modbus request since the last Cycle"));
 
 		private final Doc doc;
 
@@ -146,4 +159,118 @@ public interface ModbusApi extends OpenemsComponent {
 	public default void _setComponentMissingFault(boolean value) {
 		this.getComponentMissingFaultChannel().setNextValue(value);
 	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#CLIENTS}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getClientsChannel() {
+		return this.channel(ChannelId.CLIENTS);
+	}
+
+	/**
+	 * Gets the number of Modbus clients. See {@link ChannelId#CLIENTS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getClients() {
+		return this.getClientsChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#CLIENTS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setClients(int value) {
+		this.getClientsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#REQUESTS_PER_SECOND}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getRequestsPerSecondChannel() {
+		return this.channel(ChannelId.REQUESTS_PER_SECOND);
+	}
+
+	/**
+	 * Gets the Modbus requests per second. See
+	 * {@link ChannelId#REQUESTS_PER_SECOND}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getRequestsPerSecond() {
+		return this.getRequestsPerSecondChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#REQUESTS_PER_SECOND} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRequestsPerSecond(int value) {
+		this.getRequestsPerSecondChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#MAX_CLIENT_REQUESTS_PER_SECOND}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getMaxClientRequestsPerSecondChannel() {
+		return this.channel(ChannelId.MAX_CLIENT_REQUESTS_PER_SECOND);
+	}
+
+	/**
+	 * Gets the Modbus requests per second of the busiest client. See
+	 * {@link ChannelId#MAX_CLIENT_REQUESTS_PER_SECOND}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getMaxClientRequestsPerSecond() {
+		return this.getMaxClientRequestsPerSecondChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#MAX_CLIENT_REQUESTS_PER_SECOND} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setMaxClientRequestsPerSecond(int value) {
+		this.getMaxClientRequestsPerSecondChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#MAX_REQUEST_DURATION}.
+	 *
+	 * @return the Channel
+	 */
+	public default FloatReadChannel getMaxRequestDurationChannel() {
+		return this.channel(ChannelId.MAX_REQUEST_DURATION);
+	}
+
+	/**
+	 * Gets the longest duration of a Modbus request in [ms]. See
+	 * {@link ChannelId#MAX_REQUEST_DURATION}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Float> getMaxRequestDuration() {
+		return this.getMaxRequestDurationChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#MAX_REQUEST_DURATION} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setMaxRequestDuration(float value) {
+		this.getMaxRequestDurationChannel().setNextValue(value);
+	}
 }
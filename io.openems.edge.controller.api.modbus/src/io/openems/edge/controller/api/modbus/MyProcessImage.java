@@ -1,5 +1,11 @@
 package io.openems.edge.controller.api.modbus;
 
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,6 +26,10 @@ import io.openems.edge.common.modbusslave.ModbusRecordUint16Reserved;
 
 /**
  * This implementation answers Modbus-TCP/RTU Slave requests.
+ *
+ * <p>
+ * Register values are served from a {@link RegisterImage} that is updated once
+ * per Cycle, so requests do not lock and do not encode Channel values.
  */
 public class MyProcessImage implements ProcessImage {
 
@@ -27,32 +37,40 @@ public class MyProcessImage implements ProcessImage {
 
 	protected final AbstractModbusApi parent;
 
+	private final RegisterImage image = new RegisterImage(
+			ByteBuffer.wrap(new ModbusRecordUint16Reserved(0).getValue(null)).getShort());
+
+	private Set<String> disabledComponentIds = Set.of();
+
 	protected MyProcessImage(AbstractModbusApi parent) {
 		this.parent = parent;
 	}
 
 	@Override
-	public synchronized InputRegister[] getInputRegisterRange(int offset, int count) throws MyIllegalAddressException {
+	public InputRegister[] getInputRegisterRange(int offset, int count) throws MyIllegalAddressException {
+		final var start = System.nanoTime();
 		try {
 			this.parent.logDebug(this.log, "Reading Input Registers. Address [" + offset + "] Count [" + count + "].");
-			this.parent.incrementAccessCounter();
-			var registers = this.getRegisterRange(offset, count);
-			var result = new Register[registers.length];
-			for (var i = 0; i < registers.length; i++) {
-				result[i] = registers[i];
-			}
-			return result;
+			return this.readRegisterRange("getInputRegisterRange", offset, count);
 
-		} catch (Exception e) {
-			this.parent.setProcessImageFault(this.parent.clock);
-			throw MyIllegalAddressException.fromWithLog(this::logWarn, //
-					"getInputRegisterRange(" + offset + ", " + count + ") failed: " + e.getMessage());
+		} finally {
+			this.parent.clientMetrics.record(start);
 		}
 	}
 
 	@Override
-	public synchronized Register[] getRegisterRange(int offset, int count) throws MyIllegalAddressException {
-		this.parent.logDebug(this.log, "Reading Registers. Address [" + offset + "] Count [" + count + "].");
+	public Register[] getRegisterRange(int offset, int count) throws MyIllegalAddressException {
+		final var start = System.nanoTime();
+		try {
+			this.parent.logDebug(this.log, "Reading Registers. Address [" + offset + "] Count [" + count + "].");
+			return this.readRegisterRange("getRegisterRange", offset, count);
+
+		} finally {
+			this.parent.clientMetrics.record(start);
+		}
+	}
+
+	private Register[] readRegisterRange(String method, int offset, int count) throws MyIllegalAddressException {
 		this.parent.incrementAccessCounter();
 
 		try {
@@ -64,110 +82,106 @@ public class MyProcessImage implements ProcessImage {
 			var length = count * 2;
 			if (length < 0 || length + 2 > 255) {
 				throw MyIllegalAddressException.fromWithLog(this::logWarn, //
-						"getRegisterRange(" + offset + ", " + count + ") failed: " //
+						method + "(" + offset + ", " + count + ") failed: " //
 								+ "Invalid length: " + length + "; max. 126 registers allowed");
 			}
 
-			var records = this.parent.records.subMap(offset, offset + count);
+			var range = this.image.read(offset, count);
 			var result = new Register[count];
-			for (var i = 0; i < count;) {
-				// Get record for modbus address
-				var ref = i + offset;
-				var record = records.get(ref);
-				if (record == null) {
-					record = new ModbusRecordUint16Reserved(ref);
-				}
-
-				// Get Registers from Record
-				var registers = this.getRecordValueRegisters(record);
-
-				// make sure this Record fits
-				if (result.length < i + registers.length) {
-					throw MyIllegalAddressException.fromWithLog(this::logWarn, //
-							"getRegisterRange(" + offset + ", " + count + ") failed: " //
-									+ "Record for Modbus address [" + ref + "] does not fit in Result.");
-				}
-				for (var j = 0; j < registers.length; j++) {
-					result[i + j] = registers[j];
-				}
-
-				// increase i by word length
-				i += registers.length;
+			for (var i = 0; i < count; i++) {
+				result[i] = this.toRegister(offset + i, range, i);
 			}
 			return result;
 
 		} catch (Exception e) {
 			this.parent.setProcessImageFault(this.parent.clock);
 			throw MyIllegalAddressException.fromWithLog(this::logWarn, //
-					"getRegisterRange(" + offset + ", " + count + ") failed: " + e.getMessage());
+					method + "(" + offset + ", " + count + ") failed: " + e.getMessage());
 		}
 	}
 
 	@Override
-	public synchronized Register getRegister(int ref) throws MyIllegalAddressException {
+	public Register getRegister(int ref) throws MyIllegalAddressException {
+		final var start = System.nanoTime();
 		this.parent.logDebug(this.log, "Get Register. Address [" + ref + "].");
 		this.parent.incrementAccessCounter();
 
 		try {
-			var record = this.parent.records.get(ref);
+			var range = this.image.read(ref, 1);
 
 			// make sure the ModbusRecord is available
+			var record = range.records[0];
 			if (record == null) {
 				throw MyIllegalAddressException.fromWithLog(this::logWarn, //
 						"getRegister(" + ref + ") failed: " //
 								+ "Record for Modbus address [" + ref + "] is not available");
 			}
 
-			// Get Registers from Record
-			var registers = this.getRecordValueRegisters(record);
-
-			// make sure this Record requires only one Register/Word
-			if (registers.length > 1) {
-				throw MyIllegalAddressException.fromWithLog(this::logWarn, //
-						"getRegister(" + ref + ") failed: " //
-								+ "Record for Modbus address [" + ref + "] requires more than one Register");
-			}
-
-			return registers[0];
+			return this.toRegister(ref, range, 0);
 
 		} catch (Exception e) {
 			this.parent.setProcessImageFault(this.parent.clock);
 			throw MyIllegalAddressException.fromWithLog(this::logWarn, //
 					"getRegister(" + ref + ") failed: " + e.getMessage());
+
+		} finally {
+			this.parent.clientMetrics.record(start);
 		}
 	}
 
 	/**
-	 * Get value as byte-array and convert it to InputRegisters.
+	 * Converts a Register of a {@link RegisterImage.Range} to a {@link Register}
+	 * that forwards writes to its {@link ModbusRecord}.
 	 *
-	 * @param record the record
+	 * @param ref   the Modbus address
+	 * @param range the {@link RegisterImage.Range}
+	 * @param i     the index within the range
 	 * @return the Register
 	 */
-	private Register[] getRecordValueRegisters(ModbusRecord record) {
-		var result = new MyRegister[record.getType().getWords()];
-		final OpenemsComponent component;
-		{
-			var cmp = this.parent.getPossiblyDisabledComponent(record.getComponentId());
-			if (cmp != null && !cmp.isEnabled()) {
-				this.parent.logWarn(this.log, "Trying to access disabled Component [" + cmp.id() + "] for " + record);
-				component = null;
-			} else {
-				component = cmp;
+	private Register toRegister(int ref, RegisterImage.Range range, int i) {
+		final var value = range.values[i];
+		final var record = range.records[i];
+		return new MyRegister(range.indexes[i], (byte) (value >> 8), (byte) value, //
+				/*
+				 * On Set-Value event:
+				 */
+				register -> {
+					this.parent.incrementWriteCounter();
+					var r = record != null ? record : new ModbusRecordUint16Reserved(ref);
+					r.writeValue(register.getIndex(), register.getByte1(), register.getByte2());
+				});
+	}
+
+	/**
+	 * Updates the {@link RegisterImage} from the current values of the
+	 * {@link ModbusRecord}s. Must not be called concurrently.
+	 *
+	 * @param records the {@link ModbusRecord}s by Modbus address
+	 */
+	protected void updateRegisterImage(Map<Integer, ModbusRecord> records) {
+		final var components = new HashMap<String, OpenemsComponent>();
+		final var disabledComponentIds = new TreeSet<String>();
+		this.image.update(records, record -> {
+			final var componentId = record.getComponentId();
+			if (componentId == null) {
+				return null;
 			}
-		}
+			return components.computeIfAbsent(componentId, id -> {
+				var cmp = this.parent.getPossiblyDisabledComponent(id);
+				if (cmp != null && !cmp.isEnabled()) {
+					disabledComponentIds.add(id);
+					return null;
+				}
+				return cmp;
+			});
+		});
 
-		var value = record.getValue(component);
-		for (var j = 0; j < value.length / 2; j++) {
-			result[j] = new MyRegister(j, value[j * 2], value[j * 2 + 1], //
-					/*
-					 * On Set-Value event:
-					 */
-					register -> {
-						this.parent.incrementWriteCounter();
-						record.writeValue(register.getIndex(), register.getByte1(), register.getByte2());
-					});
+		if (!disabledComponentIds.equals(this.disabledComponentIds)) {
+			if (!disabledComponentIds.isEmpty()) {
+				this.parent.logWarn(this.log, "Serving disabled Components " + disabledComponentIds);
+			}
+			this.disabledComponentIds = disabledComponentIds;
 		}
-		return result;
 	}
 
 	/**********************************************
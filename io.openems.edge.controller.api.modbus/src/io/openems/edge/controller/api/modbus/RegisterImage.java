@@ -0,0 +1,199 @@
+package io.openems.edge.controller.api.modbus;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.modbusslave.ModbusRecord;
+
+/**
+ * Double-buffered image of the pre-encoded Modbus registers.
+ *
+ * <p>
+ * {@link #update(Map, Function)} encodes the values of all
+ * {@link ModbusRecord}s once per Cycle into the back buffer and then swaps
+ * buffers. {@link #read(int, int)} copies a range from the front buffer without
+ * locking; if the buffer is being overwritten during the copy - i.e. the reader
+ * was slower than a complete Cycle - the copy is repeated.
+ *
+ * <p>
+ * {@link #update(Map, Function)} must not be called concurrently.
+ */
+public final class RegisterImage {
+
+	/** The Registers of a {@link #read(int, int)}. */
+	public static final class Range {
+
+		/** The Register values. */
+		public final short[] values;
+
+		/**
+		 * The {@link ModbusRecord} that starts at the Register; null if the Register
+		 * is not part of a Record or the Range starts in the middle of the Record.
+		 */
+		public final ModbusRecord[] records;
+
+		/** The index of the Register within its {@link ModbusRecord}. */
+		public final byte[] indexes;
+
+		private Range(int count) {
+			this.values = new short[count];
+			this.records = new ModbusRecord[count];
+			this.indexes = new byte[count];
+		}
+	}
+
+	private static final class Buffer {
+
+		/** Even: stable; odd: being written. */
+		private volatile int stamp = 0;
+
+		private int size = 0;
+		private short[] values = new short[0];
+		private byte[] lengths = new byte[0];
+		private ModbusRecord[] records = new ModbusRecord[0];
+
+		private void ensureCapacity(int size) {
+			if (this.values.length < size) {
+				this.values = new short[size];
+				this.lengths = new byte[size];
+				this.records = new ModbusRecord[size];
+			}
+			// clear leftovers of a previously larger image
+			Arrays.fill(this.lengths, 0, this.values.length, (byte) 0);
+			Arrays.fill(this.records, 0, this.values.length, null);
+			this.size = size;
+		}
+	}
+
+	private final short reservedValue;
+	private final Buffer[] buffers = { new Buffer(), new Buffer() };
+
+	/** The index of the front buffer. */
+	private volatile int front = 0;
+
+	/**
+	 * Builds a {@link RegisterImage}.
+	 *
+	 * @param reservedValue the value for Registers without {@link ModbusRecord}
+	 */
+	public RegisterImage(short reservedValue) {
+		this.reservedValue = reservedValue;
+	}
+
+	/**
+	 * Encodes the {@link ModbusRecord}s to the back buffer and makes it the front
+	 * buffer.
+	 *
+	 * @param records      the {@link ModbusRecord}s by start address
+	 * @param getComponent gets the {@link OpenemsComponent} of a
+	 *                     {@link ModbusRecord}; possibly null
+	 */
+	public void update(Map<Integer, ModbusRecord> records, Function<ModbusRecord, OpenemsComponent> getComponent) {
+		var size = 0;
+		for (var entry : records.entrySet()) {
+			size = Math.max(size, entry.getKey() + entry.getValue().getType().getWords());
+		}
+
+		final var back = 1 - this.front;
+		final var buffer = this.buffers[back];
+		buffer.stamp++; // odd: readers of this buffer retry
+		// keep the writes below from becoming visible before the odd stamp
+		VarHandle.storeStoreFence();
+		try {
+			buffer.ensureCapacity(size);
+			Arrays.fill(buffer.values, 0, size, this.reservedValue);
+			for (var entry : records.entrySet()) {
+				final int address = entry.getKey();
+				final var record = entry.getValue();
+				final var value = record.getValue(getComponent.apply(record));
+				final var words = Math.min(value.length / 2, size - address);
+				for (var i = 0; i < words; i++) {
+					buffer.values[address + i] = (short) ((value[i * 2] & 0xff) << 8 | value[i * 2 + 1] & 0xff);
+				}
+				buffer.lengths[address] = (byte) record.getType().getWords();
+				buffer.records[address] = record;
+			}
+		} finally {
+			buffer.stamp++;
+		}
+		this.front = back;
+	}
+
+	/**
+	 * Reads a range of Registers.
+	 *
+	 * <p>
+	 * A {@link ModbusRecord} is only returned if the range contains its first
+	 * Register; otherwise the Registers are treated like reserved Registers.
+	 *
+	 * @param offset the start address
+	 * @param count  the number of Registers
+	 * @return the {@link Range}
+	 * @throws IllegalArgumentException if a {@link ModbusRecord} does not fit in
+	 *                                  the range
+	 */
+	public Range read(int offset, int count) throws IllegalArgumentException {
+		final var result = new Range(count);
+		while (true) {
+			final var buffer = this.buffers[this.front];
+			final var stamp = buffer.stamp;
+			if ((stamp & 1) == 0) {
+				final var error = this.copy(buffer, offset, count, result);
+				// keep the reads above from being reordered after the stamp check
+				VarHandle.loadLoadFence();
+				if (buffer.stamp == stamp) {
+					if (error != null) {
+						throw new IllegalArgumentException(error);
+					}
+					return result;
+				}
+			}
+			// Buffer was modified concurrently
+			Thread.onSpinWait();
+		}
+	}
+
+	/**
+	 * Copies a range from a buffer.
+	 *
+	 * @param buffer the {@link Buffer}
+	 * @param offset the start address
+	 * @param count  the number of Registers
+	 * @param result the {@link Range}
+	 * @return an error message; null on success
+	 */
+	private String copy(Buffer buffer, int offset, int count, Range result) {
+		final var size = buffer.size;
+		final var values = buffer.values;
+		final var lengths = buffer.lengths;
+		final var records = buffer.records;
+		if (values.length < size || lengths.length < size || records.length < size) {
+			return "Buffer is being resized";
+		}
+		for (var i = 0; i < count;) {
+			final var ref = offset + i;
+			final var length = ref >= 0 && ref < size ? lengths[ref] : 0;
+			if (length == 0) {
+				result.values[i] = this.reservedValue;
+				result.records[i] = null;
+				result.indexes[i] = 0;
+				i++;
+				continue;
+			}
+			if (i + length > count || ref + length > size) {
+				return "Record for Modbus address [" + ref + "] does not fit in Result.";
+			}
+			for (var j = 0; j < length; j++) {
+				result.values[i + j] = values[ref + j];
+				result.records[i + j] = records[ref];
+				result.indexes[i + j] = (byte) j;
+			}
+			i += length;
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,132 @@
+package io.openems.edge.controller.api.modbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import io.openems.edge.common.modbusslave.ModbusRecord;
+import io.openems.edge.common.modbusslave.ModbusRecordString16;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16Hash;
+import io.openems.edge.common.modbusslave.ModbusSlaveNatureTable;
+
+public class RegisterImageTest {
+
+	private static final short RESERVED = (short) ModbusRecordUint16.UNDEFINED_VALUE;
+
+	@Test
+	public void testRead() {
+		final var hash = new ModbusRecordUint16Hash(0, "OpenEMS");
+		final var string = new ModbusRecordString16(-1, "Component-ID", "ess0");
+		final var records = new TreeMap<Integer, ModbusRecord>();
+		records.put(0, hash);
+		records.put(2, string);
+
+		final var sut = new RegisterImage(RESERVED);
+		sut.update(records, r -> null);
+
+		var range = sut.read(0, 18);
+		assertEquals((short) ModbusSlaveNatureTable.generateHash("OpenEMS"), range.values[0]);
+		assertSame(hash, range.records[0]);
+		assertEquals(RESERVED, range.values[1]);
+		assertNull(range.records[1]);
+		assertEquals((short) ('e' << 8 | 's'), range.values[2]);
+		assertEquals((short) ('s' << 8 | '0'), range.values[3]);
+		assertSame(string, range.records[2]);
+		assertSame(string, range.records[17]);
+		assertEquals(15, range.indexes[17]);
+
+		// Outside of the image
+		range = sut.read(100, 2);
+		assertEquals(RESERVED, range.values[1]);
+		assertNull(range.records[1]);
+
+		// Starts in the middle of a Record
+		range = sut.read(3, 1);
+		assertEquals(RESERVED, range.values[0]);
+		assertNull(range.records[0]);
+
+		// Record does not fit
+		try {
+			sut.read(0, 3);
+			throw new AssertionError("Expected IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testUpdate() {
+		final var records = new TreeMap<Integer, ModbusRecord>();
+		records.put(0, new ModbusRecordUint16Hash(0, "OpenEMS"));
+		records.put(5, new ModbusRecordUint16Hash(0, "Foo"));
+
+		final var sut = new RegisterImage(RESERVED);
+		sut.update(records, r -> null);
+		assertEquals((short) ModbusSlaveNatureTable.generateHash("Foo"), sut.read(5, 1).values[0]);
+
+		// Smaller image clears previous Records
+		records.remove(5);
+		sut.update(records, r -> null);
+		sut.update(records, r -> null);
+		assertEquals(RESERVED, sut.read(5, 1).values[0]);
+		assertNull(sut.read(5, 1).records[0]);
+	}
+
+	@Test
+	public void testConcurrentReadAndUpdate() throws InterruptedException {
+		final var count = 100;
+		final var recordsA = new TreeMap<Integer, ModbusRecord>();
+		final var recordsB = new TreeMap<Integer, ModbusRecord>();
+		for (var i = 0; i < count; i++) {
+			recordsA.put(i, new ModbusRecordUint16Hash(i, "A"));
+			recordsB.put(i, new ModbusRecordUint16Hash(i, "B"));
+		}
+		final var hashA = (short) ModbusSlaveNatureTable.generateHash("A");
+		final var hashB = (short) ModbusSlaveNatureTable.generateHash("B");
+
+		final var sut = new RegisterImage(RESERVED);
+		sut.update(recordsA, r -> null);
+
+		final var stop = new AtomicBoolean();
+		final var failure = new AtomicReference<String>();
+		final var readers = new Thread[2];
+		for (var t = 0; t < readers.length; t++) {
+			readers[t] = new Thread(() -> {
+				while (!stop.get()) {
+					final var range = sut.read(0, count);
+					final var first = range.values[0];
+					if (first != hashA && first != hashB) {
+						failure.compareAndSet(null, "Unexpected value [" + first + "]");
+						return;
+					}
+					for (var i = 1; i < count; i++) {
+						if (range.values[i] != first) {
+							failure.compareAndSet(null, "Torn read at Register [" + i + "]");
+							return;
+						}
+					}
+				}
+			});
+			readers[t].start();
+		}
+
+		for (var i = 0; i < 20_000 && failure.get() == null; i++) {
+			sut.update(i % 2 == 0 ? recordsB : recordsA, r -> null);
+		}
+		stop.set(true);
+		for (var reader : readers) {
+			reader.join();
+		}
+
+		assertNull(failure.get());
+		assertEquals(hashA, sut.read(0, count).values[count - 1]);
+	}
+
+}
@@ -0,0 +1,296 @@
+package io.openems.edge.controller.api.websocket;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.notification.CurrentDataNotification;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.ComponentManager;
+
+/**
+ * Holds the Channel subscriptions of all UI sessions.
+ *
+ * <p>
+ * Sessions that subscribed the same set of Channels share a {@link Group}; the
+ * values for a {@link CurrentDataNotification} are collected once per Group.
+ *
+ * <p>
+ * In delta mode onChange callbacks on the subscribed Channels collect the
+ * Channels that changed; a frame then only holds the Channels that changed
+ * since the previous frame of the Group. A session always receives all its
+ * Channels with its first frame after subscribing.
+ */
+final class ChannelSubscriptions {
+
+	/**
+	 * The values for one {@link CurrentDataNotification}.
+	 *
+	 * @param sessions the receiving UI sessions
+	 * @param values   the Channel values
+	 */
+	protected record Frame(List<WsData> sessions, Map<String, JsonElement> values) {
+	}
+
+	private static final class Group {
+
+		private final SortedSet<ChannelAddress> channels;
+		private final Set<WsData> sessions = new HashSet<>();
+		private final Set<WsData> initialSessions = new HashSet<>();
+		private final Set<ChannelAddress> changed = new HashSet<>();
+		private long lastFrame;
+		private boolean hasFrame = false;
+
+		private Group(SortedSet<ChannelAddress> channels) {
+			this.channels = channels;
+		}
+	}
+
+	private static final class Tracked {
+
+		private final Runnable onChange;
+		private int groups = 0;
+		private Channel<?> channel = null;
+		private BiConsumer<?, ?> callback = null;
+
+		private Tracked(Runnable onChange) {
+			this.onChange = onChange;
+		}
+
+		private void setChannel(Channel<?> channel) {
+			if (this.channel != null) {
+				this.channel.removeOnChangeCallback(this.callback);
+			}
+			this.channel = channel;
+			this.callback = channel != null //
+					? addOnChange(channel, this.onChange) //
+					: null;
+		}
+
+		private static <T> BiConsumer<?, ?> addOnChange(Channel<T> channel, Runnable onChange) {
+			return channel.onChange((oldValue, newValue) -> onChange.run());
+		}
+	}
+
+	private final Logger log = LoggerFactory.getLogger(ChannelSubscriptions.class);
+
+	private final boolean delta;
+	private final long minFrameInterval;
+	private final Map<Set<ChannelAddress>, Group> groups = new HashMap<>();
+	private final Map<WsData, Group> groupBySession = new HashMap<>();
+	private final Map<ChannelAddress, Tracked> tracked = new HashMap<>();
+	private final Set<ChannelAddress> changed = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Builds a {@link ChannelSubscriptions}.
+	 *
+	 * @param delta        send only changed Channels
+	 * @param maxFrameRate the max frames per second per session; zero for one
+	 *                     frame per Cycle
+	 */
+	protected ChannelSubscriptions(boolean delta, int maxFrameRate) {
+		this.delta = delta;
+		this.minFrameInterval = maxFrameRate > 0 //
+				? TimeUnit.SECONDS.toNanos(1) / maxFrameRate //
+				: 0;
+	}
+
+	/**
+	 * Replaces the subscribed Channels of a UI session.
+	 *
+	 * @param session  the UI session
+	 * @param channels the subscribed Channels; empty to unsubscribe
+	 */
+	protected synchronized void subscribe(WsData session, Set<ChannelAddress> channels) {
+		this.unsubscribe(session);
+		if (channels.isEmpty()) {
+			return;
+		}
+		var group = this.groups.get(channels);
+		if (group == null) {
+			group = new Group(Collections.unmodifiableSortedSet(new TreeSet<>(channels)));
+			this.groups.put(group.channels, group);
+			if (this.delta) {
+				group.channels.forEach(this::track);
+			}
+		}
+		group.sessions.add(session);
+		group.initialSessions.add(session);
+		this.groupBySession.put(session, group);
+	}
+
+	/**
+	 * Removes all subscribed Channels of a UI session.
+	 *
+	 * @param session the UI session
+	 */
+	protected synchronized void unsubscribe(WsData session) {
+		var group = this.groupBySession.remove(session);
+		if (group == null) {
+			return;
+		}
+		group.sessions.remove(session);
+		group.initialSessions.remove(session);
+		if (group.sessions.isEmpty()) {
+			this.groups.remove(group.channels);
+			if (this.delta) {
+				group.channels.forEach(this::untrack);
+			}
+		}
+	}
+
+	/**
+	 * Removes all subscriptions and onChange callbacks.
+	 */
+	protected synchronized void dispose() {
+		this.tracked.values().forEach(t -> t.setChannel(null));
+		this.tracked.clear();
+		this.groups.clear();
+		this.groupBySession.clear();
+		this.changed.clear();
+	}
+
+	/**
+	 * Gets the number of distinct subscriptions.
+	 *
+	 * @return the number of Groups
+	 */
+	protected synchronized int getNumberOfGroups() {
+		return this.groups.size();
+	}
+
+	/**
+	 * Collects the frames to be sent after the process image switch of a Cycle.
+	 *
+	 * @param componentManager the {@link ComponentManager}
+	 * @param now              the current {@link System#nanoTime()}
+	 * @return the {@link Frame}s
+	 */
+	protected synchronized List<Frame> getFrames(ComponentManager componentManager, long now) {
+		if (this.groups.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		final Set<ChannelAddress> changed;
+		if (this.delta) {
+			this.updateTrackedChannels(componentManager);
+			changed = new HashSet<>(this.changed);
+			this.changed.removeAll(changed);
+		} else {
+			changed = Collections.emptySet();
+		}
+
+		var result = new ArrayList<Frame>();
+		for (var group : this.groups.values()) {
+			if (this.delta) {
+				if (changed.size() < group.channels.size()) {
+					for (var channel : changed) {
+						if (group.channels.contains(channel)) {
+							group.changed.add(channel);
+						}
+					}
+				} else {
+					for (var channel : group.channels) {
+						if (changed.contains(channel)) {
+							group.changed.add(channel);
+						}
+					}
+				}
+			}
+
+			if (group.hasFrame && now - group.lastFrame < this.minFrameInterval) {
+				continue;
+			}
+			group.hasFrame = true;
+			group.lastFrame = now;
+
+			if (!this.delta) {
+				this.addFrame(result, componentManager, group.sessions, group.channels);
+				continue;
+			}
+
+			this.addFrame(result, componentManager, group.initialSessions, group.channels);
+			if (!group.changed.isEmpty() && group.sessions.size() > group.initialSessions.size()) {
+				var sessions = new HashSet<>(group.sessions);
+				sessions.removeAll(group.initialSessions);
+				this.addFrame(result, componentManager, sessions, group.changed);
+			}
+			group.initialSessions.clear();
+			group.changed.clear();
+		}
+		return result;
+	}
+
+	private void addFrame(List<Frame> result, ComponentManager componentManager, Set<WsData> sessions,
+			Set<ChannelAddress> channels) {
+		if (sessions.isEmpty() || channels.isEmpty()) {
+			return;
+		}
+		var values = new HashMap<String, JsonElement>(channels.size());
+		for (var channel : channels) {
+			JsonElement value;
+			try {
+				Channel<?> c = componentManager.getChannel(channel);
+				value = c.value().asJson();
+			} catch (IllegalArgumentException | OpenemsNamedException e) {
+				this.log.warn("Unable to read value for Channel [" + channel + "]");
+				value = JsonNull.INSTANCE;
+			}
+			values.put(channel.toString(), value);
+		}
+		result.add(new Frame(List.copyOf(sessions), values));
+	}
+
+	private void track(ChannelAddress address) {
+		// onChange callbacks are registered in updateTrackedChannels()
+		this.tracked.computeIfAbsent(address, a -> new Tracked(() -> this.changed.add(a))).groups++;
+	}
+
+	private void untrack(ChannelAddress address) {
+		var t = this.tracked.get(address);
+		if (t != null && --t.groups == 0) {
+			t.setChannel(null);
+			this.tracked.remove(address);
+		}
+	}
+
+	/**
+	 * Registers the onChange callbacks on Channels that became available or were
+	 * replaced, e.g. because a Component was restarted.
+	 *
+	 * @param componentManager the {@link ComponentManager}
+	 */
+	private void updateTrackedChannels(ComponentManager componentManager) {
+		for (var entry : this.tracked.entrySet()) {
+			Channel<?> channel;
+			try {
+				channel = componentManager.getChannel(entry.getKey());
+			} catch (IllegalArgumentException | OpenemsNamedException e) {
+				channel = null;
+			}
+			var t = entry.getValue();
+			if (channel != t.channel) {
+				t.setChannel(channel);
+				this.changed.add(entry.getKey());
+			}
+		}
+	}
+
+}
@@ -26,5 +26,11 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
+	@AttributeDefinition(name = "Delta Subscriptions", description = "Sends only subscribed Channels whose value changed since the last frame; requires a client that merges partial updates.")
+	boolean deltaSubscriptions() default false;
+
+	@AttributeDefinition(name = "Max Frame Rate", description = "Max number of subscribed Channel frames per second and session; zero for one frame per Cycle.")
+	int maxFrameRate() default 0;
+
 	String webconsole_configurationFactory_nameHint() default "Controller Api Websocket [{id}]";
 }
\ No newline at end of file
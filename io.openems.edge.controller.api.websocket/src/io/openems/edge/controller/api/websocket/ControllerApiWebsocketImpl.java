@@ -19,6 +19,7 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.jsonrpc.notification.ChannelUpdateNotification;
+import io.openems.common.jsonrpc.notification.CurrentDataNotification;
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
 import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
 import io.openems.common.types.EdgeConfig;
@@ -57,6 +58,7 @@ public class ControllerApiWebsocketImpl extends AbstractOpenemsComponent
 	protected UserService userService;
 
 	protected WebsocketServer server = null;
+	protected ChannelSubscriptions subscriptions = null;
 
 	private ScheduledExecutorService executor;
 
@@ -92,6 +94,7 @@ public class ControllerApiWebsocketImpl extends AbstractOpenemsComponent
 			call.put(ComponentConfigRequestHandler.API_WORKER_KEY, this.apiWorker);
 		});
 		this.onRequest.setDebug(config.debugMode());
+		this.subscriptions = new ChannelSubscriptions(config.deltaSubscriptions(), config.maxFrameRate());
 		this.startServer(config.port(), POOL_SIZE);
 
 	}
@@ -101,6 +104,9 @@ public class ControllerApiWebsocketImpl extends AbstractOpenemsComponent
 	protected void deactivate() {
 		super.deactivate();
 		this.stopServer();
+		if (this.subscriptions != null) {
+			this.subscriptions.dispose();
+		}
 		this.onRequestFactory.unget(this.onRequest);
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
 	}
@@ -174,12 +180,25 @@ public class ControllerApiWebsocketImpl extends AbstractOpenemsComponent
 		}
 
 		case EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE -> {
-			for (var ws : this.server.getConnections()) {
-				WsData wsData = ws.getAttachment();
-				wsData.sendSubscribedChannels();
-			}
+			this.sendSubscribedChannels();
 		}
 		}
 	}
 
+	/**
+	 * Sends the subscribed Channels to the UI sessions. Every distinct set of
+	 * subscribed Channels is serialized only once.
+	 */
+	private void sendSubscribedChannels() {
+		for (var frame : this.subscriptions.getFrames(this.componentManager, System.nanoTime())) {
+			this.server.execute(() -> {
+				var notification = new EdgeRpcNotification(ControllerApiWebsocket.EDGE_ID, //
+						new CurrentDataNotification(frame.values())).toString();
+				for (var wsData : frame.sessions()) {
+					wsData.sendSerialized(notification);
+				}
+			});
+		}
+	}
+
 }
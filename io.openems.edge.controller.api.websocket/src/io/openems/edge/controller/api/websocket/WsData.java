@@ -1,83 +1,21 @@
 package io.openems.edge.controller.api.websocket;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.HashSet;
 import java.util.Optional;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
 import org.java_websocket.WebSocket;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.google.gson.JsonElement;
-import com.google.gson.JsonNull;
+import org.java_websocket.exceptions.WebsocketNotConnectedException;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
-import io.openems.common.jsonrpc.notification.CurrentDataNotification;
-import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
 import io.openems.common.jsonrpc.request.SubscribeChannelsRequest;
 import io.openems.common.types.ChannelAddress;
-import io.openems.edge.common.channel.Channel;
-import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.common.user.User;
 
 public class WsData extends io.openems.common.websocket.WsData {
 
-	private static class SubscribedChannels {
-
-		private final Logger log = LoggerFactory.getLogger(SubscribedChannels.class);
-
-		private int lastRequestCount = Integer.MIN_VALUE;
-		private final SortedSet<ChannelAddress> subscribedChannels = new TreeSet<>();
-
-		/**
-		 * Applies a SubscribeChannelsRequest.
-		 *
-		 * @param request the SubscribeChannelsRequest
-		 * @throws OpenemsNamedException on error
-		 */
-		public synchronized void handleSubscribeChannelsRequest(SubscribeChannelsRequest request)
-				throws OpenemsNamedException {
-			if (this.lastRequestCount < request.getCount()) {
-				this.lastRequestCount = request.getCount();
-				this.subscribedChannels.clear();
-				for (var channel : request.getChannels()) {
-					this.subscribedChannels.add(ChannelAddress.fromString(channel));
-				}
-			}
-		}
-
-		public synchronized Map<String, JsonElement> getChannelValues(ComponentManager componentManager) {
-			var subscribedChannels = this.subscribedChannels;
-			if (subscribedChannels.isEmpty()) {
-				return Collections.emptyMap();
-			}
-
-			var result = new HashMap<String, JsonElement>(subscribedChannels.size());
-			for (var channel : subscribedChannels) {
-				JsonElement value;
-				try {
-					Channel<?> c = componentManager.getChannel(channel);
-					value = c.value().asJson();
-				} catch (IllegalArgumentException | OpenemsNamedException e) {
-					this.log.warn("Unable to read value for Channel [" + channel + "]");
-					value = JsonNull.INSTANCE;
-				}
-				result.put(channel.toString(), value);
-			}
-			return result;
-		}
-
-		protected synchronized void dispose() {
-			this.subscribedChannels.clear();
-		}
-	}
-
 	private final ControllerApiWebsocketImpl parent;
-	private final SubscribedChannels subscribedChannels = new SubscribedChannels();
+	private int lastSubscribeChannelsRequestCount = Integer.MIN_VALUE;
 	private volatile boolean channelChangesSubscribed = false;
 
 	/**
@@ -98,7 +36,13 @@ public class WsData extends io.openems.common.websocket.WsData {
 	 */
 	public void logout() {
 		this.unsetUser();
-		this.subscribedChannels.dispose();
+		this.parent.subscriptions.unsubscribe(this);
+	}
+
+	@Override
+	public void dispose() {
+		super.dispose();
+		this.parent.subscriptions.unsubscribe(this);
 	}
 
 	/**
@@ -164,22 +108,37 @@ public class WsData extends io.openems.common.websocket.WsData {
 	 */
 	public synchronized void handleSubscribeChannelsRequest(SubscribeChannelsRequest request)
 			throws OpenemsNamedException {
-		this.subscribedChannels.handleSubscribeChannelsRequest(request);
+		if (this.lastSubscribeChannelsRequestCount < request.getCount()) {
+			this.lastSubscribeChannelsRequestCount = request.getCount();
+			var channels = new HashSet<ChannelAddress>();
+			for (var channel : request.getChannels()) {
+				channels.add(ChannelAddress.fromString(channel));
+			}
+			this.parent.subscriptions.subscribe(this, channels);
+		}
 	}
 
 	/**
-	 * Sends the subscribed Channels to the UI session.
+	 * Sends an already serialized JSON-RPC Notification to the UI session.
+	 *
+	 * <p>
+	 * Allows to serialize a Notification once for multiple UI sessions.
+	 *
+	 * @param notification the serialized JSON-RPC Notification
+	 * @return true if sending was successful; false otherwise
 	 */
-	public void sendSubscribedChannels() {
-		var values = this.subscribedChannels.getChannelValues(this.parent.componentManager);
-		if (values.isEmpty()) {
-			return;
+	public boolean sendSerialized(String notification) {
+		final var ws = this.getWebsocket();
+		if (ws == null || !ws.isOpen()) {
+			return false;
+		}
+		try {
+			ws.send(notification);
+			return true;
+		} catch (WebsocketNotConnectedException e) {
+			// handles corner cases
+			return false;
 		}
-		this.parent.server.execute(() -> {
-			this.send(//
-					new EdgeRpcNotification(ControllerApiWebsocket.EDGE_ID, //
-							new CurrentDataNotification(values)));
-		});
 	}
 
 	/**
@@ -0,0 +1,144 @@
+package io.openems.edge.controller.api.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.AbstractDummyOpenemsComponent;
+import io.openems.edge.common.test.DummyComponentManager;
+
+public class ChannelSubscriptionsTest {
+
+	private static final ChannelAddress FOO = new ChannelAddress("dummy0", "Foo");
+	private static final ChannelAddress BAR = new ChannelAddress("dummy0", "Bar");
+	private static final long MS = 1_000_000L;
+
+	@Test
+	public void testDelta() {
+		final var dummy = new DummyComponent("dummy0");
+		final var componentManager = new DummyComponentManager().addComponent(dummy);
+		final var sut = new ChannelSubscriptions(true, 0);
+		final var session0 = new WsData(null, null);
+		final var session1 = new WsData(null, null);
+		sut.subscribe(session0, Set.of(FOO, BAR));
+		sut.subscribe(session1, Set.of(BAR, FOO));
+		assertEquals(1, sut.getNumberOfGroups());
+
+		dummy.set(DummyComponent.ChannelId.FOO, 1);
+		dummy.set(DummyComponent.ChannelId.BAR, 2);
+
+		// First frame holds all Channels; serialized once for both sessions
+		var frames = sut.getFrames(componentManager, 0);
+		assertEquals(1, frames.size());
+		assertEquals(2, frames.get(0).sessions().size());
+		assertEquals(new JsonPrimitive(1), frames.get(0).values().get("dummy0/Foo"));
+		assertEquals(new JsonPrimitive(2), frames.get(0).values().get("dummy0/Bar"));
+
+		// Nothing changed
+		dummy.set(DummyComponent.ChannelId.FOO, 1);
+		assertTrue(sut.getFrames(componentManager, 1).isEmpty());
+
+		// Only changed Channels; new session gets all Channels
+		dummy.set(DummyComponent.ChannelId.FOO, 3);
+		final var session2 = new WsData(null, null);
+		sut.subscribe(session2, Set.of(FOO, BAR));
+		frames = sut.getFrames(componentManager, 2);
+		assertEquals(2, frames.size());
+		for (var frame : frames) {
+			if (frame.sessions().equals(List.of(session2))) {
+				assertEquals(2, frame.values().size());
+			} else {
+				assertEquals(2, frame.sessions().size());
+				assertEquals(1, frame.values().size());
+				assertEquals(new JsonPrimitive(3), frame.values().get("dummy0/Foo"));
+			}
+		}
+
+		// Unsubscribe removes the onChange callbacks
+		sut.unsubscribe(session0);
+		sut.unsubscribe(session1);
+		sut.unsubscribe(session2);
+		assertEquals(0, sut.getNumberOfGroups());
+		assertTrue(sut.getFrames(componentManager, 3).isEmpty());
+	}
+
+	@Test
+	public void testMaxFrameRate() {
+		final var dummy = new DummyComponent("dummy0");
+		final var componentManager = new DummyComponentManager().addComponent(dummy);
+		final var sut = new ChannelSubscriptions(true, 10 /* 100 ms */);
+		final var session = new WsData(null, null);
+		sut.subscribe(session, Set.of(FOO, BAR));
+
+		assertEquals(1, sut.getFrames(componentManager, 0).size());
+
+		dummy.set(DummyComponent.ChannelId.FOO, 1);
+		assertTrue(sut.getFrames(componentManager, 50 * MS).isEmpty());
+
+		// Changes are collected until the next frame
+		dummy.set(DummyComponent.ChannelId.BAR, 2);
+		var frames = sut.getFrames(componentManager, 100 * MS);
+		assertEquals(1, frames.size());
+		assertEquals(2, frames.get(0).values().size());
+	}
+
+	@Test
+	public void testFull() {
+		final var dummy = new DummyComponent("dummy0");
+		final var componentManager = new DummyComponentManager().addComponent(dummy);
+		final var sut = new ChannelSubscriptions(false, 0);
+		sut.subscribe(new WsData(null, null), Set.of(FOO, BAR));
+
+		assertEquals(2, sut.getFrames(componentManager, 0).get(0).values().size());
+		assertEquals(2, sut.getFrames(componentManager, 1).get(0).values().size());
+	}
+
+	private static class DummyComponent extends AbstractDummyOpenemsComponent<DummyComponent>
+			implements OpenemsComponent {
+
+		private static enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+			FOO(Doc.of(OpenemsType.INTEGER)), //
+			BAR(Doc.of(OpenemsType.INTEGER)); //
+
+			private final Doc doc;
+
+			private ChannelId(Doc doc) {
+				this.doc = doc;
+			}
+
+			@Override
+			public Doc doc() {
+				return this.doc;
+			}
+		}
+
+		public DummyComponent(String id) {
+			super(id, //
+					OpenemsComponent.ChannelId.values(), //
+					ChannelId.values() //
+			);
+		}
+
+		private void set(ChannelId channelId, Integer value) {
+			var channel = this.channel(channelId);
+			channel.setNextValue(value);
+			channel.nextProcessImage();
+		}
+
+		@Override
+		protected DummyComponent self() {
+			return this;
+		}
+	}
+
+}
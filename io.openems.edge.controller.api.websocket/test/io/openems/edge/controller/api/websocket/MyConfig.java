@@ -10,6 +10,8 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private int port;
 		private int apiTimeout;
 		private boolean debugMode;
+		private boolean deltaSubscriptions;
+		private int maxFrameRate;
 
 		private Builder() {
 		}
@@ -34,6 +36,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setDeltaSubscriptions(boolean deltaSubscriptions) {
+			this.deltaSubscriptions = deltaSubscriptions;
+			return this;
+		}
+
+		public Builder setMaxFrameRate(int maxFrameRate) {
+			this.maxFrameRate = maxFrameRate;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -70,4 +82,14 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.debugMode;
 	}
 
-}
\ No newline at end of file
+	@Override
+	public boolean deltaSubscriptions() {
+		return this.builder.deltaSubscriptions;
+	}
+
+	@Override
+	public int maxFrameRate() {
+		return this.builder.maxFrameRate;
+	}
+
+}
@@ -72,6 +72,18 @@ public class EnergyScheduler {
 		public SingleScheduleContext getCsc(String componentId) {
 			return this.singleCscs.get(componentId);
 		}
+
+		/**
+		 * Creates a deep copy of this {@link ClusterScheduleContext}.
+		 * 
+		 * @return the copy
+		 */
+		public ClusterScheduleContext copy() {
+			return new ClusterScheduleContext(this.singleCscs.entrySet().stream() //
+					.collect(toImmutableMap(//
+							e -> e.getKey(), // Component-ID
+							e -> new SingleScheduleContext(e.getValue().sessionEnergy))));
+		}
 	}
 
 	public static class SingleScheduleContext {
@@ -135,6 +147,7 @@ public class EnergyScheduler {
 									e -> e.getKey(), // Component-ID
 									e -> new SingleScheduleContext(e.getValue().sessionEnergy()))));
 				}) //
+				.setScheduleContextCopier(ClusterScheduleContext::copy) //
 
 				.setPreProcessor((period, csc, mode) -> {
 					// Find actual Mode per Single-Controller
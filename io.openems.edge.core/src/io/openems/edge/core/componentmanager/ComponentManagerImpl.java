@@ -17,11 +17,17 @@ import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceListener;
+import org.osgi.framework.ServiceReference;
 import org.osgi.service.cm.Configuration;
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.cm.ConfigurationEvent;
@@ -99,6 +105,13 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 
 	protected BundleContext bundleContext;
 
+	private final AtomicLong registryVersion = new AtomicLong(0L);
+	private final ServiceListener registryListener = this::onServiceEvent;
+	private final Object registryLock = new Object();
+	private volatile ComponentRegistry registry = ComponentRegistry.EMPTY;
+	/** Services that are about to be unregistered; excluded from the registry. */
+	private final Set<ServiceReference<?>> unregisteringServices = ConcurrentHashMap.newKeySet();
+
 	@Reference(cardinality = ReferenceCardinality.OPTIONAL)
 	private volatile ClockProvider clockProvider = null;
 
@@ -129,6 +142,7 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	private void activate(ComponentContext componentContext, BundleContext bundleContext) throws OpenemsException {
 		super.activate(componentContext, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.bundleContext = bundleContext;
+		this.addRegistryListener();
 
 		for (ComponentManagerWorker worker : this.workers) {
 			worker.activate(this.id());
@@ -143,6 +157,7 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	private void modified(ComponentContext componentContext, BundleContext bundleContext) {
 		super.modified(componentContext, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.bundleContext = bundleContext;
+		this.invalidateRegistry();
 
 		for (ComponentManagerWorker worker : this.workers) {
 			worker.modified(this.id());
@@ -157,6 +172,7 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
+		this.removeRegistryListener();
 
 		for (ComponentManagerWorker worker : this.workers) {
 			worker.deactivate();
@@ -186,12 +202,12 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 
 	@Override
 	public List<OpenemsComponent> getEnabledComponents() {
-		return this.getComponentsViaService("(&(enabled=true)(!(service.factoryPid=Core.ComponentManager)))");
+		return this.getRegistry().getEnabledComponents();
 	}
 
 	@Override
 	public <T extends OpenemsComponent> List<T> getEnabledComponentsOfType(Class<T> clazz) {
-		return this.getComponentsViaService(clazz, "(enabled=true)");
+		return this.getRegistry().getEnabledComponentsOfType(clazz);
 	}
 
 	@Override
@@ -202,13 +218,25 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T extends OpenemsComponent> T getComponent(String componentId) throws OpenemsNamedException {
-		var component = this.getComponentViaService(componentId, true);
+		var component = this.getRegistry().getEnabledComponent(componentId);
 		if (component != null) {
 			return (T) component;
 		}
 		throw OpenemsError.EDGE_NO_COMPONENT_WITH_ID.exception(componentId);
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends Channel<?>> T getChannel(ChannelAddress channelAddress)
+			throws IllegalArgumentException, OpenemsNamedException {
+		var channel = this.getRegistry().getChannel(channelAddress);
+		if (channel != null) {
+			return (T) channel;
+		}
+		// Channel was added after the registry was built
+		return ComponentManager.super.getChannel(channelAddress);
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T extends OpenemsComponent> T getPossiblyDisabledComponent(String componentId)
@@ -220,6 +248,114 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 		throw OpenemsError.EDGE_NO_COMPONENT_WITH_ID.exception(componentId);
 	}
 
+	/**
+	 * Gets the current {@link ComponentRegistry}; rebuilds it if a Component
+	 * service was registered, modified or unregistered since it was built.
+	 *
+	 * @return the {@link ComponentRegistry}
+	 */
+	private ComponentRegistry getRegistry() {
+		var registry = this.registry;
+		var version = this.registryVersion.get();
+		if (registry.getVersion() == version) {
+			return registry;
+		}
+		synchronized (this.registryLock) {
+			registry = this.registry;
+			version = this.registryVersion.get();
+			if (registry.getVersion() != version) {
+				// Events during the rebuild increase the version again
+				registry = new ComponentRegistry(version, this.getRegisteredComponentsViaService());
+				this.registry = registry;
+			}
+			return registry;
+		}
+	}
+
+	/**
+	 * Gets the enabled Components via OSGi service reference, without the ones
+	 * that are currently being unregistered.
+	 *
+	 * <p>
+	 * The UNREGISTERING {@link ServiceEvent} is delivered while the service is
+	 * still registered; without this filter a snapshot that is built in-between
+	 * would keep the Component until the next event.
+	 *
+	 * @return the Components
+	 */
+	private List<OpenemsComponent> getRegisteredComponentsViaService() {
+		if (this.bundleContext == null) {
+			// Can be null in JUnit tests
+			return Collections.emptyList();
+		}
+
+		try {
+			var serviceReferences = this.bundleContext.getServiceReferences(OpenemsComponent.class,
+					"(enabled=true)");
+			// Forget about services that are finally unregistered
+			this.unregisteringServices.retainAll(serviceReferences);
+
+			var allComponents = new ArrayList<OpenemsComponent>(serviceReferences.size());
+			for (var reference : serviceReferences) {
+				if (this.unregisteringServices.contains(reference)) {
+					continue;
+				}
+				var component = this.bundleContext.getService(reference);
+				if (component == null) {
+					continue;
+				}
+				allComponents.add(component);
+				this.bundleContext.ungetService(reference);
+			}
+			return allComponents;
+
+		} catch (InvalidSyntaxException e) {
+			// filter invalid
+			e.printStackTrace();
+			return Collections.emptyList();
+		} catch (RuntimeException e) {
+			e.printStackTrace();
+			return Collections.emptyList();
+		}
+	}
+
+	private void invalidateRegistry() {
+		this._setRegistryVersion(this.registryVersion.incrementAndGet());
+	}
+
+	protected void onServiceEvent(ServiceEvent event) {
+		if (event.getType() == ServiceEvent.UNREGISTERING) {
+			this.unregisteringServices.add(event.getServiceReference());
+		}
+		this.invalidateRegistry();
+	}
+
+	private void addRegistryListener() {
+		if (this.bundleContext == null) {
+			// Can be null in JUnit tests
+			return;
+		}
+		try {
+			this.bundleContext.addServiceListener(this.registryListener,
+					"(objectClass=" + OpenemsComponent.class.getName() + ")");
+		} catch (InvalidSyntaxException e) {
+			e.printStackTrace();
+		}
+		this.invalidateRegistry();
+	}
+
+	private void removeRegistryListener() {
+		if (this.bundleContext == null) {
+			return;
+		}
+		try {
+			this.bundleContext.removeServiceListener(this.registryListener);
+		} catch (IllegalStateException e) {
+			// BundleContext is no longer valid
+		}
+		this.invalidateRegistry();
+	}
+
 	/**
 	 * Gets the components via OSGi service reference.
 	 *
@@ -784,6 +920,7 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 
 	@Override
 	public void configurationEvent(ConfigurationEvent event) {
+		this.invalidateRegistry();
 		for (ComponentManagerWorker worker : this.workers) {
 			worker.configurationEvent(event);
 		}
@@ -0,0 +1,114 @@
+package io.openems.edge.core.componentmanager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Immutable snapshot of the enabled OpenEMS Components.
+ *
+ * <p>
+ * Rebuilt by the {@link ComponentManagerImpl} only after a Component service
+ * was registered, modified or unregistered, i.e. lookups on the hot path do
+ * not query the OSGi service registry.
+ *
+ * <p>
+ * The Channel index holds the Channels that existed when the snapshot was
+ * built; Channels that are added later are found via their Component.
+ */
+final class ComponentRegistry {
+
+	/** Registry without any Components, e.g. in JUnit tests. */
+	protected static final ComponentRegistry EMPTY = new ComponentRegistry(0L, List.of());
+
+	private final long version;
+	private final List<OpenemsComponent> components;
+	private final List<OpenemsComponent> enabledComponents;
+	private final Map<String, OpenemsComponent> enabledComponentsById;
+	private final Map<ChannelAddress, Channel<?>> channels;
+	private final Map<Class<?>, List<?>> enabledComponentsByType = new ConcurrentHashMap<>();
+
+	/**
+	 * Builds a {@link ComponentRegistry}.
+	 *
+	 * @param version    the version of the registry
+	 * @param components the enabled Components, including the
+	 *                   {@link ComponentManager}, in order of registration
+	 */
+	protected ComponentRegistry(long version, List<OpenemsComponent> components) {
+		this.version = version;
+		this.components = List.copyOf(components);
+		final var byId = new HashMap<String, OpenemsComponent>();
+		final var channels = new HashMap<ChannelAddress, Channel<?>>();
+		for (var component : components) {
+			if (byId.putIfAbsent(component.id(), component) != null) {
+				continue; // duplicated Component-ID: first one wins
+			}
+			for (var channel : component.channels()) {
+				channels.put(channel.address(), channel);
+			}
+		}
+		this.enabledComponents = components.stream() //
+				.filter(c -> !ComponentManager.SINGLETON_SERVICE_PID.equals(c.serviceFactoryPid())) //
+				.toList();
+		this.enabledComponentsById = Collections.unmodifiableMap(byId);
+		this.channels = Collections.unmodifiableMap(channels);
+	}
+
+	public long getVersion() {
+		return this.version;
+	}
+
+	/**
+	 * Gets all enabled Components, excluding the {@link ComponentManager}.
+	 *
+	 * @return an unmodifiable List
+	 */
+	public List<OpenemsComponent> getEnabledComponents() {
+		return this.enabledComponents;
+	}
+
+	/**
+	 * Gets an enabled Component by its Component-ID.
+	 *
+	 * @param componentId the Component-ID
+	 * @return the Component; null if it is not enabled or does not exist
+	 */
+	public OpenemsComponent getEnabledComponent(String componentId) {
+		return this.enabledComponentsById.get(componentId);
+	}
+
+	/**
+	 * Gets a Channel of an enabled Component by its Channel-Address.
+	 *
+	 * @param channelAddress the Channel-Address
+	 * @return the Channel; null if it is not in the index
+	 */
+	public Channel<?> getChannel(ChannelAddress channelAddress) {
+		return this.channels.get(channelAddress);
+	}
+
+	/**
+	 * Gets the enabled Components of a type, including the
+	 * {@link ComponentManager}. The result is calculated once per type and
+	 * snapshot.
+	 *
+	 * @param <T>   the type
+	 * @param clazz the type
+	 * @return an unmodifiable List
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> List<T> getEnabledComponentsOfType(Class<T> clazz) {
+		return (List<T>) this.enabledComponentsByType.computeIfAbsent(clazz, c -> this.components.stream() //
+				.filter(c::isInstance) //
+				.toList());
+	}
+
+}
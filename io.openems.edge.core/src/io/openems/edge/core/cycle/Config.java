@@ -16,6 +16,9 @@ import io.openems.edge.common.cycle.Cycle;
 	@AttributeDefinition(name = "Log-Verbosity", description = "The log verbosity.")
 	CycleLogVerbosity logVerbosity() default CycleLogVerbosity.NONE;
 
+	@AttributeDefinition(name = "Process-Image Threads", description = "Number of threads used to switch the Process-Image of all Channels. '0' switches on the Cycle thread.")
+	int processImageThreads() default 0;
+
 	String webconsole_configurationFactory_nameHint() default "Core Cycle";
 
 }
\ No newline at end of file
@@ -58,6 +58,7 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	protected final TreeSet<Scheduler> schedulers = new TreeSet<>(Comparator.comparing(Scheduler::id));
 
 	private Config config = null;
+	private volatile ProcessImageSwitcher processImageSwitcher = null;
 
 	@Reference(//
 			policy = ReferencePolicy.DYNAMIC, //
@@ -87,6 +88,7 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	private void activate(ComponentContext context, Config config) throws OpenemsException {
 		super.activate(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.updateProcessImageSwitcher(config);
 		this.worker.activate(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -98,6 +100,7 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	private void modified(ComponentContext context, Config config) throws OpenemsNamedException {
 		super.modified(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.updateProcessImageSwitcher(config);
 		this.worker.modified(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -110,6 +113,22 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	protected void deactivate() {
 		super.deactivate();
 		this.worker.deactivate();
+		this.updateProcessImageSwitcher(null);
+	}
+
+	private synchronized void updateProcessImageSwitcher(Config config) {
+		var threads = config == null ? 0 : config.processImageThreads();
+		var current = this.processImageSwitcher;
+		if (current != null && current.getThreads() == threads) {
+			return;
+		}
+		this.processImageSwitcher = threads > 0 //
+				? new ProcessImageSwitcher(threads) //
+				: null;
+		if (current != null) {
+			// Waits for a switch of the Cycle that still uses the old instance
+			current.deactivate();
+		}
 	}
 
 	@Override
@@ -140,4 +159,13 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		return this.config.logVerbosity();
 	}
 
+	/**
+	 * Gets the {@link ProcessImageSwitcher} for parallel Process-Image switch.
+	 * 
+	 * @return the {@link ProcessImageSwitcher}; null if disabled
+	 */
+	protected ProcessImageSwitcher getProcessImageSwitcher() {
+		return this.processImageSwitcher;
+	}
+
 }
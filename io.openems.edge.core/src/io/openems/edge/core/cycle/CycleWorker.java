@@ -56,21 +56,35 @@ public class CycleWorker extends AbstractWorker {
 			/*
 			 * Before Controllers start: switch to next process image for each channel
 			 */
-			Stream.concat(//
+			var phase = Stopwatch.createStarted();
+			var components = Stream.concat(//
 					this.parent.componentManager.getEnabledComponents().stream(), //
 					Stream.of(this.parent)//
 			)//
 					.filter(c -> c.isEnabled() && !(c instanceof Sum))//
-					.forEach(component -> this.triggerComponentEvent(verbosity, component));
+					.toList();
+			var processImageSwitcher = this.parent.getProcessImageSwitcher();
+			if (processImageSwitcher == null) {
+				components.forEach(component -> this.triggerComponentEvent(verbosity, component));
+			} else {
+				this.executeCycleStep(verbosity, CycleLogVerbosity.PHASES,
+						"[Parallel Component Channel Update] " + components.size() + " Components",
+						() -> processImageSwitcher.switchProcessImage(components,
+								component -> this.triggerComponentEvent(verbosity, component)));
+			}
 
 			/*
 			 * Update the Channels in the Sum-Component.
+			 * 
+			 * Sum aggregates the values of all other Components, so this always runs
+			 * after all other Process-Images have been switched.
 			 */
 			this.executeCycleStep(verbosity, CycleLogVerbosity.PHASES, "Update the Channels in the Sum-Component",
 					() -> {
 						this.parent.sumComponent.updateChannelsBeforeProcessImage();
 						this.parent.sumComponent.channels().forEach(channel -> channel.nextProcessImage());
 					});
+			this.parent._setMeasuredProcessImageTime(phase.elapsed(TimeUnit.MILLISECONDS));
 
 			/*
 			 * Trigger AFTER_PROCESS_IMAGE event
@@ -85,7 +99,9 @@ public class CycleWorker extends AbstractWorker {
 			/*
 			 * Execute Schedulers and their Controllers
 			 */
+			phase.reset().start();
 			var hasDisabledController = this.executeSchedulersWithOptionalMeasure(verbosity);
+			this.parent._setMeasuredControllersTime(phase.elapsed(TimeUnit.MILLISECONDS));
 
 			// announce ignoring disabled Controllers
 			this.parent._setIgnoreDisabledController(hasDisabledController);
@@ -98,6 +114,7 @@ public class CycleWorker extends AbstractWorker {
 			/*
 			 * Trigger BEFORE_WRITE event
 			 */
+			phase.reset().start();
 			this.triggerEvent(verbosity, EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
 
 			/*
@@ -109,6 +126,7 @@ public class CycleWorker extends AbstractWorker {
 			 * Trigger AFTER_WRITE event
 			 */
 			this.triggerEvent(verbosity, EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			this.parent._setMeasuredWriteTime(phase.elapsed(TimeUnit.MILLISECONDS));
 
 		} catch (Throwable t) {
 			this.parent.logWarn(this.log,
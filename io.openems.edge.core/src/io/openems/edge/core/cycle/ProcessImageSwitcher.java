@@ -0,0 +1,175 @@
+package io.openems.edge.core.cycle;
+
+import static io.openems.common.utils.ThreadPoolUtils.shutdownAndAwaitTermination;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Switches the Process-Image of all Channels of a list of Components on a
+ * bounded pool of worker threads.
+ *
+ * <p>
+ * Components are partitioned into one bucket per thread, balanced by their
+ * number of Channels. The Channels of one Component are always switched by the
+ * same thread in the order of {@link OpenemsComponent#channels()}, so
+ * onUpdate/onChange callbacks of one Component keep a deterministic order.
+ * Callbacks of different Components may run concurrently; the call to
+ * {@link #switchProcessImage(List)} returns only after all Components are
+ * done.
+ *
+ * <p>
+ * {@link #deactivate()} waits for a running switch to finish. A switch that is
+ * started after deactivation runs sequentially on the calling thread.
+ */
+public class ProcessImageSwitcher {
+
+	private final Logger log = LoggerFactory.getLogger(ProcessImageSwitcher.class);
+
+	private final int threads;
+	private final ExecutorService executor;
+
+	private boolean closed = false;
+
+	public ProcessImageSwitcher(int threads) {
+		this.threads = threads;
+		this.executor = Executors.newFixedThreadPool(threads,
+				new ThreadFactoryBuilder().setNameFormat("Cycle.ProcessImage-%d").build());
+	}
+
+	/**
+	 * Gets the number of worker threads.
+	 *
+	 * @return the number of threads
+	 */
+	public int getThreads() {
+		return this.threads;
+	}
+
+	/**
+	 * Calls nextProcessImage() on every Channel of the given Components and waits
+	 * for completion.
+	 *
+	 * @param components the Components
+	 * @throws InterruptedException on interrupt while waiting
+	 */
+	public void switchProcessImage(List<? extends OpenemsComponent> components) throws InterruptedException {
+		this.switchProcessImage(components, component -> component.channels().forEach(Channel::nextProcessImage));
+	}
+
+	/**
+	 * Applies the given switch to every Component and waits for completion.
+	 *
+	 * @param <T>        the type of the Components
+	 * @param components the Components
+	 * @param switcher   switches the Process-Image of one Component
+	 * @throws InterruptedException on interrupt while waiting
+	 */
+	public synchronized <T extends OpenemsComponent> void switchProcessImage(List<T> components,
+			Consumer<? super T> switcher) throws InterruptedException {
+		if (this.closed) {
+			for (var component : components) {
+				this.switchComponent(component, switcher);
+			}
+			return;
+		}
+
+		var tasks = new ArrayList<Callable<Void>>(this.threads);
+		for (var bucket : partition(components, this.threads)) {
+			if (bucket.isEmpty()) {
+				continue;
+			}
+			tasks.add(() -> {
+				for (var component : bucket) {
+					this.switchComponent(component, switcher);
+				}
+				return null;
+			});
+		}
+
+		for (var future : this.executor.invokeAll(tasks)) {
+			try {
+				future.get();
+			} catch (ExecutionException e) {
+				this.log.warn("Error in Process-Image switch: " + e.getMessage(), e);
+			}
+		}
+	}
+
+	private <T extends OpenemsComponent> void switchComponent(T component, Consumer<? super T> switcher) {
+		try {
+			switcher.accept(component);
+		} catch (RuntimeException e) {
+			this.log.warn("Error in Process-Image switch of [" + component.id() + "]: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Waits for a running switch to finish and shuts down the worker threads.
+	 */
+	public synchronized void deactivate() {
+		this.closed = true;
+		shutdownAndAwaitTermination(this.executor, 0);
+	}
+
+	/**
+	 * Partitions the Components into buckets with a balanced number of Channels
+	 * (longest-processing-time-first). The order of Components within a bucket
+	 * follows their order in the given list.
+	 *
+	 * @param components the Components
+	 * @param buckets    the number of buckets
+	 * @return a list of buckets
+	 */
+	protected static <T extends OpenemsComponent> List<List<T>> partition(List<T> components, int buckets) {
+		record Load(int index, int channels) {
+		}
+
+		record Bucket(int index, long channels) {
+		}
+
+		var loads = new ArrayList<Load>(components.size());
+		for (var i = 0; i < components.size(); i++) {
+			loads.add(new Load(i, components.get(i).channels().size()));
+		}
+		loads.sort(Comparator.comparingInt(Load::channels).reversed().thenComparingInt(Load::index));
+
+		var queue = new PriorityQueue<Bucket>(Math.max(1, buckets),
+				Comparator.comparingLong(Bucket::channels).thenComparingInt(Bucket::index));
+		for (var i = 0; i < buckets; i++) {
+			queue.add(new Bucket(i, 0));
+		}
+
+		var assignment = new int[components.size()];
+		for (var load : loads) {
+			var bucket = queue.poll();
+			assignment[load.index] = bucket.index;
+			queue.add(new Bucket(bucket.index, bucket.channels + load.channels));
+		}
+
+		var result = new ArrayList<List<T>>(buckets);
+		for (var i = 0; i < buckets; i++) {
+			result.add(new ArrayList<>());
+		}
+		for (var i = 0; i < components.size(); i++) {
+			result.get(assignment[i]).add(components.get(i));
+		}
+		return result;
+	}
+
+}
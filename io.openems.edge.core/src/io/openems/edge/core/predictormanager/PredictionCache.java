@@ -0,0 +1,108 @@
+package io.openems.edge.core.predictormanager;
+
+import static io.openems.edge.predictor.api.prediction.Prediction.EMPTY_PREDICTION;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.predictor.api.prediction.Prediction;
+
+/**
+ * Caches {@link Prediction}s by {@link ChannelAddress}, quarter and the model
+ * versions of the Predictors.
+ *
+ * <p>
+ * Concurrent requests for the same missing entry are coalesced: the first
+ * request computes the {@link Prediction} and the others wait for its result.
+ * An empty {@link Prediction} is handed to the waiting requests, but not kept,
+ * so it is computed again on the next request.
+ */
+class PredictionCache {
+
+	/**
+	 * The key of a cached {@link Prediction}.
+	 *
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @param quarter        the quarter
+	 * @param modelVersions  the model versions of all Predictors, in ranked order
+	 */
+	public record Key(ChannelAddress channelAddress, Instant quarter, List<Long> modelVersions) {
+	}
+
+	private final Map<Key, CompletableFuture<Prediction>> entries = new ConcurrentHashMap<>();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Gets the cached {@link Prediction} for the given {@link Key}, or computes it
+	 * with the given {@link Supplier}.
+	 *
+	 * <p>
+	 * Entries of other quarters or model versions are removed on every miss. If
+	 * the {@link Supplier} throws, the exception is rethrown to the computing and
+	 * to all waiting requests.
+	 *
+	 * @param key      the {@link Key}
+	 * @param supplier computes the {@link Prediction}
+	 * @return the {@link Prediction}
+	 */
+	public Prediction get(Key key, Supplier<Prediction> supplier) {
+		final var future = new CompletableFuture<Prediction>();
+		final var existing = this.entries.putIfAbsent(key, future);
+		if (existing != null) {
+			this.hits.increment();
+			try {
+				return existing.join();
+			} catch (CompletionException e) {
+				// Throw the same exception as the computing request
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				if (e.getCause() instanceof Error cause) {
+					throw cause;
+				}
+				throw e;
+			}
+		}
+
+		this.misses.increment();
+		this.entries.keySet().removeIf(k -> !k.quarter().equals(key.quarter()) //
+				|| !k.modelVersions().equals(key.modelVersions()));
+
+		final Prediction prediction;
+		try {
+			prediction = supplier.get();
+		} catch (RuntimeException | Error e) {
+			this.entries.remove(key, future);
+			future.completeExceptionally(e);
+			throw e;
+		}
+		if (prediction == null || EMPTY_PREDICTION.equals(prediction)) {
+			this.entries.remove(key, future);
+		}
+		future.complete(prediction);
+		return prediction;
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void clear() {
+		this.entries.clear();
+	}
+
+	public long getHits() {
+		return this.hits.sum();
+	}
+
+	public long getMisses() {
+		return this.misses.sum();
+	}
+}
@@ -1,10 +1,12 @@
 package io.openems.edge.core.predictormanager;
 
+import static io.openems.common.utils.DateUtils.roundDownToQuarter;
 import static io.openems.edge.common.channel.ChannelId.channelIdCamelToUpper;
 import static io.openems.edge.predictor.api.prediction.Prediction.EMPTY_PREDICTION;
 import static io.openems.edge.predictor.api.prediction.Prediction.sum;
 import static java.util.Collections.emptyList;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
@@ -23,6 +25,7 @@ import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableSortedSet;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
@@ -59,6 +62,7 @@ public class PredictorManagerImpl extends AbstractOpenemsComponent implements Pr
 	private final List<Predictor> rawPredictors = new ArrayList<>();
 	private final AtomicReference<ImmutableSortedSet<Predictor>> rankedPredictors = new AtomicReference<>(
 			ImmutableSortedSet.of());
+	private final PredictionCache cache = new PredictionCache();
 
 	@Reference(//
 			policy = ReferencePolicy.DYNAMIC, //
@@ -127,10 +131,39 @@ public class PredictorManagerImpl extends AbstractOpenemsComponent implements Pr
 	private void updatePredictors() {
 		var comparator = ComparatorUtils.comparatorIdList(this.configPredictorIds, Predictor::id);
 		this.rankedPredictors.set(ImmutableSortedSet.copyOf(comparator, this.rawPredictors));
+		this.cache.clear();
 	}
 
 	@Override
 	public Prediction getPrediction(ChannelAddress channelAddress) {
+		var key = new PredictionCache.Key(//
+				channelAddress, //
+				roundDownToQuarter(Instant.now(this.componentManager.getClock())), //
+				this.getModelVersions());
+		var prediction = this.cache.get(key, () -> {
+			var stopwatch = Stopwatch.createStarted();
+			var result = this.computePrediction(channelAddress);
+			this._setPredictionComputeTime(stopwatch.elapsed().toMillis());
+			return result;
+		});
+		this._setCacheHits(this.cache.getHits());
+		this._setCacheMisses(this.cache.getMisses());
+		return prediction;
+	}
+
+	/**
+	 * Gets the model versions of all Predictors, in ranked order. They change
+	 * whenever a Predictor retrains; changes of the Predictors clear the cache.
+	 *
+	 * @return the model versions
+	 */
+	private List<Long> getModelVersions() {
+		return this.rankedPredictors.get().stream() //
+				.map(Predictor::getModelVersion) //
+				.toList();
+	}
+
+	private Prediction computePrediction(ChannelAddress channelAddress) {
 		for (var predictor : this.rankedPredictors.get()) {
 			for (var pattern : predictor.getChannelAddresses()) {
 				// Skip if channel address does not match pattern (including wildcards)
@@ -4,11 +4,20 @@ import static io.openems.common.utils.ConfigUtils.generateReferenceTargetFilter;
 import static java.util.UUID.randomUUID;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
 
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceReference;
 
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.request.UpdateComponentConfigRequest.Property;
 import io.openems.common.jsonrpc.type.UpdateComponentConfig;
@@ -17,6 +26,7 @@ import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.test.AbstractDummyOpenemsComponent;
 import io.openems.edge.common.test.ComponentTest;
+import io.openems.edge.common.test.DummyBundleContext;
 import io.openems.edge.common.test.DummyComponentContext;
 import io.openems.edge.common.test.DummyEventAdmin;
 import io.openems.edge.common.test.DummyServiceComponentRuntime;
@@ -86,6 +96,89 @@ public class ComponentManagerImplTest {
 		assertEquals(batteryInverter0Target, properties.get("batteryInverter.target")); // unchanged
 	}
 
+	@Test
+	public void testRegistry() throws OpenemsException, Exception {
+		final var sut = new ComponentManagerImpl();
+		new ComponentTest(sut) //
+				.addReference("cm", new DummyConfigurationAdmin()) //
+				.addReference("serviceComponentRuntime", new DummyServiceComponentRuntime()) //
+				.addReference("eventAdmin", new DummyEventAdmin()) //
+				.activate(MyConfig.create() //
+						.build());
+		final var bundleContext = new MyBundleContext(sut);
+		sut.bundleContext = bundleContext;
+		final var ess0 = new MyDummyComponent("ess0");
+		final var ess1 = new MyDummyComponent("ess1");
+
+		// Register
+		bundleContext.register(ess0);
+		bundleContext.register(ess1);
+		assertEquals(List.of(ess0, ess1), sut.getEnabledComponents());
+		assertEquals(ess1, sut.getComponent("ess1"));
+
+		// Unregister; Components are read while the service is still registered
+		bundleContext.unregister(ess1, () -> {
+			assertEquals(List.of(ess0), sut.getEnabledComponents());
+		});
+		assertEquals(List.of(ess0), sut.getEnabledComponents());
+		assertThrows(OpenemsNamedException.class, () -> sut.getComponent("ess1"));
+
+		// Register again
+		bundleContext.register(ess1);
+		assertEquals(List.of(ess0, ess1), sut.getEnabledComponents());
+	}
+
+	private static class MyBundleContext extends DummyBundleContext {
+
+		private final ComponentManagerImpl sut;
+		private final Map<ServiceReference<?>, OpenemsComponent> services = new LinkedHashMap<>();
+
+		public MyBundleContext(ComponentManagerImpl sut) {
+			this.sut = sut;
+		}
+
+		public void register(OpenemsComponent component) {
+			var reference = (ServiceReference<?>) Proxy.newProxyInstance(this.getClass().getClassLoader(),
+					new Class<?>[] { ServiceReference.class }, (proxy, method, args) -> {
+						return switch (method.getName()) {
+						case "equals" -> proxy == args[0];
+						case "hashCode" -> System.identityHashCode(proxy);
+						case "toString" -> "ServiceReference [" + component.id() + "]";
+						default -> null;
+						};
+					});
+			this.services.put(reference, component);
+			this.sut.onServiceEvent(new ServiceEvent(ServiceEvent.REGISTERED, reference));
+		}
+
+		public void unregister(OpenemsComponent component, Runnable whileUnregistering) {
+			var reference = this.services.entrySet().stream() //
+					.filter(e -> e.getValue() == component) //
+					.map(Map.Entry::getKey) //
+					.findFirst() //
+					.get();
+			this.sut.onServiceEvent(new ServiceEvent(ServiceEvent.UNREGISTERING, reference));
+			whileUnregistering.run();
+			this.services.remove(reference);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <S> Collection<ServiceReference<S>> getServiceReferences(Class<S> clazz, String filter) {
+			var result = new ArrayList<ServiceReference<S>>();
+			for (var reference : this.services.keySet()) {
+				result.add((ServiceReference<S>) reference);
+			}
+			return result;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <S> S getService(ServiceReference<S> reference) {
+			return (S) this.services.get(reference);
+		}
+	}
+
 	private static class MyDummyComponent extends AbstractDummyOpenemsComponent<MyDummyComponent>
 			implements OpenemsComponent {
 
@@ -0,0 +1,67 @@
+package io.openems.edge.core.componentmanager;
+
+import static java.util.UUID.randomUUID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.AbstractDummyOpenemsComponent;
+import io.openems.edge.common.test.DummyComponentContext;
+
+public class ComponentRegistryTest {
+
+	@Test
+	public void test() {
+		final var componentManager = new MyDummyComponent(ComponentManager.SINGLETON_COMPONENT_ID,
+				ComponentManager.SINGLETON_SERVICE_PID);
+		final var ess0 = new MyDummyComponent("ess0", "My.Dummy.Component");
+		final var ess0Duplicate = new MyDummyComponent("ess0", "My.Dummy.Component");
+		final var sut = new ComponentRegistry(5L, List.of(componentManager, ess0, ess0Duplicate));
+
+		assertEquals(5L, sut.getVersion());
+		assertEquals(List.of(ess0, ess0Duplicate), sut.getEnabledComponents());
+		assertSame(ess0, sut.getEnabledComponent("ess0"));
+		assertSame(componentManager, sut.getEnabledComponent(ComponentManager.SINGLETON_COMPONENT_ID));
+		assertNull(sut.getEnabledComponent("ess1"));
+
+		assertSame(ess0.getStateChannel(), sut.getChannel(new ChannelAddress("ess0", "State")));
+		assertNull(sut.getChannel(new ChannelAddress("ess0", "Foo")));
+	}
+
+	@Test
+	public void testEnabledComponentsOfType() {
+		final var ess0 = new MyDummyComponent("ess0", "My.Dummy.Component");
+		final var componentManager = new MyDummyComponent(ComponentManager.SINGLETON_COMPONENT_ID,
+				ComponentManager.SINGLETON_SERVICE_PID);
+		final var sut = new ComponentRegistry(1L, List.of(componentManager, ess0));
+
+		assertEquals(List.of(componentManager, ess0), sut.getEnabledComponentsOfType(MyDummyComponent.class));
+		assertSame(sut.getEnabledComponentsOfType(MyDummyComponent.class),
+				sut.getEnabledComponentsOfType(MyDummyComponent.class));
+		assertEquals(List.of(), sut.getEnabledComponentsOfType(ComponentManager.class));
+	}
+
+	private static class MyDummyComponent extends AbstractDummyOpenemsComponent<MyDummyComponent>
+			implements OpenemsComponent {
+
+		public MyDummyComponent(String id, String factoryPid) {
+			super(id, id, //
+					new DummyComponentContext() //
+							.addProperty("service.factoryPid", factoryPid) //
+							.addProperty("service.pid", factoryPid + "." + randomUUID()), //
+					OpenemsComponent.ChannelId.values());
+		}
+
+		@Override
+		protected MyDummyComponent self() {
+			return this;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.DummyCycle;
+import io.openems.edge.common.test.DummyMeta;
+
+public class ProcessImageSwitcherTest {
+
+	@Test
+	public void testPartition() {
+		var meta = new DummyMeta();
+		var cycle1 = new DummyCycle(1000);
+		var cycle2 = new DummyCycle(1000);
+		var cycle3 = new DummyCycle(1000);
+		List<OpenemsComponent> components = List.of(cycle1, meta, cycle2, cycle3);
+
+		var buckets = ProcessImageSwitcher.partition(components, 2);
+		assertEquals(2, buckets.size());
+		assertEquals(2, buckets.get(0).size());
+		assertEquals(2, buckets.get(1).size());
+
+		// Order within a bucket follows the original order
+		for (var bucket : buckets) {
+			assertTrue(components.indexOf(bucket.get(0)) < components.indexOf(bucket.get(1)));
+		}
+	}
+
+	@Test
+	public void testPartitionMoreBucketsThanComponents() {
+		var cycle = new DummyCycle(1000);
+		var buckets = ProcessImageSwitcher.partition(List.of(cycle), 3);
+		assertEquals(List.of(cycle), buckets.get(0));
+		assertTrue(buckets.get(1).isEmpty());
+		assertTrue(buckets.get(2).isEmpty());
+	}
+
+	@Test
+	public void testSwitchProcessImage() throws InterruptedException {
+		var cycle1 = new DummyCycle(1000);
+		var cycle2 = new DummyCycle(1000);
+		cycle1._setMeasuredCycleTime(123L);
+		cycle2._setMeasuredCycleTime(456L);
+
+		var sut = new ProcessImageSwitcher(2);
+		try {
+			sut.switchProcessImage(List.of(cycle1, cycle2));
+		} finally {
+			sut.deactivate();
+		}
+
+		assertEquals(123L, cycle1.getMeasuredCycleTime().get().longValue());
+		assertEquals(456L, cycle2.getMeasuredCycleTime().get().longValue());
+	}
+
+	@Test
+	public void testSwitchProcessImageWithSwitcher() throws InterruptedException {
+		var cycle1 = new DummyCycle(1000);
+		var cycle2 = new DummyCycle(1000);
+		var switched = Collections.synchronizedList(new ArrayList<OpenemsComponent>());
+
+		var sut = new ProcessImageSwitcher(2);
+		try {
+			sut.switchProcessImage(List.of(cycle1, cycle2), switched::add);
+		} finally {
+			sut.deactivate();
+		}
+
+		assertEquals(2, switched.size());
+		assertTrue(switched.containsAll(List.of(cycle1, cycle2)));
+	}
+
+	@Test
+	public void testSwitchProcessImageAfterDeactivate() throws InterruptedException {
+		var cycle = new DummyCycle(1000);
+		cycle._setMeasuredCycleTime(123L);
+
+		var sut = new ProcessImageSwitcher(2);
+		sut.deactivate();
+		sut.switchProcessImage(List.of(cycle));
+
+		assertEquals(123L, cycle.getMeasuredCycleTime().get().longValue());
+	}
+
+	@Test
+	public void testDeactivateWaitsForRunningSwitch() throws Exception {
+		var cycle = new DummyCycle(1000);
+		var started = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+		var finished = new CountDownLatch(1);
+
+		var sut = new ProcessImageSwitcher(1);
+		var thread = new Thread(() -> {
+			try {
+				sut.switchProcessImage(List.of(cycle), c -> {
+					started.countDown();
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				});
+				finished.countDown();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		thread.start();
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		var deactivated = new CountDownLatch(1);
+		var deactivator = new Thread(() -> {
+			sut.deactivate();
+			deactivated.countDown();
+		});
+		deactivator.start();
+		assertFalse(deactivated.await(100, TimeUnit.MILLISECONDS));
+
+		release.countDown();
+		assertTrue(finished.await(5, TimeUnit.SECONDS));
+		assertTrue(deactivated.await(5, TimeUnit.SECONDS));
+	}
+
+}
@@ -0,0 +1,72 @@
+package io.openems.edge.core.predictormanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.predictor.api.prediction.Prediction;
+
+public class PredictionCacheTest {
+
+	private static final ChannelAddress CHANNEL_ADDRESS = new ChannelAddress("_sum", "ConsumptionActivePower");
+	private static final Instant QUARTER = Instant.parse("2025-01-01T00:00:00Z");
+
+	@Test
+	public void testGet_ShouldThrowSameExceptionOnHit() throws Exception {
+		final var sut = new PredictionCache();
+		final var key = new PredictionCache.Key(CHANNEL_ADDRESS, QUARTER, List.of(1L));
+		final var entered = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		final var exception = new IllegalStateException("failed");
+
+		var first = CompletableFuture.runAsync(() -> sut.get(key, () -> {
+			entered.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			throw exception;
+		}));
+		entered.await();
+		var second = CompletableFuture.runAsync(() -> sut.get(key, () -> Prediction.EMPTY_PREDICTION));
+		while (sut.getHits() == 0) {
+			Thread.onSpinWait();
+		}
+		release.countDown();
+
+		assertSame(exception, assertThrows(ExecutionException.class, first::get).getCause());
+		assertSame(exception, assertThrows(ExecutionException.class, second::get).getCause());
+		assertEquals(1, sut.getMisses());
+	}
+
+	@Test
+	public void testGet_ShouldSeparateModelVersionsWithSameSum() {
+		final var sut = new PredictionCache();
+		final var calls = new AtomicInteger();
+		final var prediction = Prediction.from(QUARTER, 1, 2, 3);
+
+		sut.get(new PredictionCache.Key(CHANNEL_ADDRESS, QUARTER, List.of(1L, 2L)), () -> {
+			calls.incrementAndGet();
+			return prediction;
+		});
+		sut.get(new PredictionCache.Key(CHANNEL_ADDRESS, QUARTER, List.of(2L, 1L)), () -> {
+			calls.incrementAndGet();
+			return prediction;
+		});
+
+		assertEquals(2, calls.get());
+		assertEquals(0, sut.getHits());
+	}
+
+}
@@ -1,15 +1,21 @@
 package io.openems.edge.core.predictormanager;
 
 import static io.openems.common.test.TestUtils.createDummyClock;
+import static java.time.temporal.ChronoUnit.MINUTES;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.test.DummyConfigurationAdmin;
 import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.component.ClockProvider;
 import io.openems.edge.common.sum.DummySum;
 import io.openems.edge.common.test.ComponentTest;
 import io.openems.edge.common.test.DummyComponentManager;
@@ -170,4 +176,134 @@ public class PredictorManagerImplTest {
 		var prediction2 = sut.getPrediction(new ChannelAddress("_sum", "ConsumptionActivePower_L2"));
 		assertArrayEquals(new Integer[] { 1 }, prediction2.asArray());
 	}
+
+	@Test
+	public void testGetPrediction_ShouldServeCachedPredictionWithinQuarter() throws Exception {
+		final var clock = createDummyClock();
+		final var componentManager = new DummyComponentManager(clock);
+		final var sum = new DummySum();
+		final var now = Instant.now(clock);
+
+		var predictor = new CountingPredictor(//
+				PREDICTOR_ID0, //
+				componentManager, //
+				Prediction.from(sum, SUM_CONSUMPTION_ACTIVE_POWER, now, 0), //
+				SUM_CONSUMPTION_ACTIVE_POWER //
+		);
+
+		var sut = new PredictorManagerImpl();
+		new ComponentTest(sut) //
+				.addReference("configurationAdmin", new DummyConfigurationAdmin()) //
+				.addReference("componentManager", componentManager) //
+				.activate(MyConfig.create() //
+						.setPredictorIds(PREDICTOR_ID0) //
+						.build() //
+				);
+		sut.bindPredictor(predictor);
+
+		sut.getPrediction(SUM_CONSUMPTION_ACTIVE_POWER);
+		var prediction = sut.getPrediction(SUM_CONSUMPTION_ACTIVE_POWER);
+		assertArrayEquals(new Integer[] { 0 }, prediction.asArray());
+		assertEquals(1, predictor.calls.get());
+
+		sut.getCacheHitsChannel().nextProcessImage();
+		sut.getCacheMissesChannel().nextProcessImage();
+		assertEquals(Long.valueOf(1), sut.getCacheHits().get());
+		assertEquals(Long.valueOf(1), sut.getCacheMisses().get());
+
+		// Next quarter
+		clock.leap(15, MINUTES);
+		sut.getPrediction(SUM_CONSUMPTION_ACTIVE_POWER);
+		assertEquals(2, predictor.calls.get());
+	}
+
+	@Test
+	public void testGetPrediction_ShouldInvalidateCacheWhenPredictorRetrains() throws Exception {
+		final var clock = createDummyClock();
+		final var componentManager = new DummyComponentManager(clock);
+		final var sum = new DummySum();
+		final var now = Instant.now(clock);
+
+		var predictor = new CountingPredictor(//
+				PREDICTOR_ID0, //
+				componentManager, //
+				Prediction.from(sum, SUM_CONSUMPTION_ACTIVE_POWER, now, 0), //
+				SUM_CONSUMPTION_ACTIVE_POWER //
+		);
+
+		var sut = new PredictorManagerImpl();
+		new ComponentTest(sut) //
+				.addReference("configurationAdmin", new DummyConfigurationAdmin()) //
+				.addReference("componentManager", componentManager) //
+				.activate(MyConfig.create() //
+						.setPredictorIds(PREDICTOR_ID0) //
+						.build() //
+				);
+		sut.bindPredictor(predictor);
+
+		assertArrayEquals(new Integer[] { 0 }, sut.getPrediction(SUM_CONSUMPTION_ACTIVE_POWER).asArray());
+
+		predictor.setPrediction(Prediction.from(sum, SUM_CONSUMPTION_ACTIVE_POWER, now, 5));
+		assertArrayEquals(new Integer[] { 5 }, sut.getPrediction(SUM_CONSUMPTION_ACTIVE_POWER).asArray());
+		assertEquals(2, predictor.calls.get());
+	}
+
+	@Test
+	public void testGetPrediction_ShouldCoalesceConcurrentRequests() throws Exception {
+		final var clock = createDummyClock();
+		final var componentManager = new DummyComponentManager(clock);
+		final var sum = new DummySum();
+		final var now = Instant.now(clock);
+
+		var predictor = new CountingPredictor(//
+				PREDICTOR_ID0, //
+				componentManager, //
+				Prediction.from(sum, SUM_CONSUMPTION_ACTIVE_POWER, now, 0), //
+				SUM_CONSUMPTION_ACTIVE_POWER //
+		);
+		predictor.release = new CountDownLatch(1);
+
+		var sut = new PredictorManagerImpl();
+		new ComponentTest(sut) //
+				.addReference("configurationAdmin", new DummyConfigurationAdmin()) //
+				.addReference("componentManager", componentManager) //
+				.activate(MyConfig.create() //
+						.setPredictorIds(PREDICTOR_ID0) //
+						.build() //
+				);
+		sut.bindPredictor(predictor);
+
+		var first = CompletableFuture.supplyAsync(() -> sut.getPrediction(SUM_CONSUMPTION_ACTIVE_POWER));
+		predictor.entered.await();
+		var second = CompletableFuture.supplyAsync(() -> sut.getPrediction(SUM_CONSUMPTION_ACTIVE_POWER));
+		predictor.release.countDown();
+
+		assertArrayEquals(new Integer[] { 0 }, first.get().asArray());
+		assertArrayEquals(new Integer[] { 0 }, second.get().asArray());
+		assertEquals(1, predictor.calls.get());
+	}
+
+	private static class CountingPredictor extends DummyPredictor {
+
+		private final AtomicInteger calls = new AtomicInteger();
+		private final CountDownLatch entered = new CountDownLatch(1);
+		private CountDownLatch release = new CountDownLatch(0);
+
+		public CountingPredictor(String id, ClockProvider clockProvider, Prediction prediction,
+				ChannelAddress... channelAddresses) throws OpenemsNamedException {
+			super(id, clockProvider, prediction, channelAddresses);
+		}
+
+		@Override
+		public Prediction getPrediction(ChannelAddress channelAddress) {
+			this.calls.incrementAndGet();
+			this.entered.countDown();
+			try {
+				this.release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return super.getPrediction(channelAddress);
+		}
+	}
 }
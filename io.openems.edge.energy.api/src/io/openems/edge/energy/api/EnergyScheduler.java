@@ -2,6 +2,7 @@ package io.openems.edge.energy.api;
 
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponse;
+import io.openems.common.channel.Unit;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -18,6 +19,8 @@ public interface EnergyScheduler extends OpenemsComponent {
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
 		SIMULATIONS_PER_QUARTER(Doc.of(OpenemsType.INTEGER)), //
 		GENERATIONS_PER_QUARTER(Doc.of(OpenemsType.INTEGER)), //
+		SIMULATION_CACHE_HIT_RATE(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.PERCENT)), //
 		;
 
 		private final Doc doc;
@@ -9,6 +9,7 @@ import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 import com.google.common.base.MoreObjects;
 import com.google.gson.JsonElement;
@@ -45,6 +46,7 @@ public abstract sealed class AbstractEnergyScheduleHandler<OPTIMIZATION_CONTEXT,
 	private final Serializer<?> serializer;
 	private final Function<GlobalOptimizationContext, OPTIMIZATION_CONTEXT> cocFunction;
 	private final Function<OPTIMIZATION_CONTEXT, SCHEDULE_CONTEXT> cscFunction;
+	private final UnaryOperator<SCHEDULE_CONTEXT> cscCopier;
 
 	protected Clock clock;
 	protected OPTIMIZATION_CONTEXT coc;
@@ -54,12 +56,14 @@ public abstract sealed class AbstractEnergyScheduleHandler<OPTIMIZATION_CONTEXT,
 	public AbstractEnergyScheduleHandler(String parentFactoryPid, String parentId, //
 			Serializer<?> serializer, //
 			Function<GlobalOptimizationContext, OPTIMIZATION_CONTEXT> cocFunction,
-			Function<OPTIMIZATION_CONTEXT, SCHEDULE_CONTEXT> cscFunction) {
+			Function<OPTIMIZATION_CONTEXT, SCHEDULE_CONTEXT> cscFunction, //
+			UnaryOperator<SCHEDULE_CONTEXT> cscCopier) {
 		this.parentFactoryPid = parentFactoryPid;
 		this.parentId = parentId;
 		this.serializer = serializer;
 		this.cocFunction = cocFunction;
 		this.cscFunction = cscFunction;
+		this.cscCopier = cscCopier;
 	}
 
 	public String getParentFactoryPid() {
@@ -98,6 +102,20 @@ public abstract sealed class AbstractEnergyScheduleHandler<OPTIMIZATION_CONTEXT,
 		return this.cscFunction.apply(this.coc);
 	}
 
+	/**
+	 * Creates a deep copy of a ControllerScheduleContext.
+	 * 
+	 * @param csc the ControllerScheduleContext
+	 * @return the copy; null if no copier was set
+	 */
+	@SuppressWarnings("unchecked")
+	public Object copyScheduleContext(Object csc) {
+		if (csc == null || this.cscCopier == null) {
+			return null;
+		}
+		return this.cscCopier.apply((SCHEDULE_CONTEXT) csc);
+	}
+
 	/**
 	 * Sets the callback to be invoked when a rescheduling event is triggered.
 	 *
@@ -181,6 +199,7 @@ public abstract sealed class AbstractEnergyScheduleHandler<OPTIMIZATION_CONTEXT,
 		protected Serializer<?> serializer = null;
 		protected Function<GlobalOptimizationContext, OPTIMIZATION_CONTEXT> cocFunction = goc -> null;
 		protected Function<OPTIMIZATION_CONTEXT, SCHEDULE_CONTEXT> cscFunction = coc -> null;
+		protected UnaryOperator<SCHEDULE_CONTEXT> cscCopier = null;
 
 		/**
 		 * Sets the parent Factory-PID and Component-ID as unique ID for easier
@@ -265,5 +284,21 @@ public abstract sealed class AbstractEnergyScheduleHandler<OPTIMIZATION_CONTEXT,
 			this.cscFunction = gsc -> cscSupplier.get();
 			return this.self();
 		}
+
+		/**
+		 * Sets a {@link UnaryOperator} to create a deep copy of a
+		 * ControllerScheduleContext.
+		 * 
+		 * <p>
+		 * This allows the Optimizer to resume the simulation of a Schedule from a
+		 * cached intermediate state.
+		 * 
+		 * @param cscCopier the ControllerScheduleContext copier
+		 * @return myself
+		 */
+		public final BUILDER setScheduleContextCopier(UnaryOperator<SCHEDULE_CONTEXT> cscCopier) {
+			this.cscCopier = cscCopier;
+			return this.self();
+		}
 	}
 }
\ No newline at end of file
@@ -141,6 +141,7 @@ public class DifferentModes {
 					this.modesFunction, //
 					this.cocFunction, //
 					this.cscFunction, //
+					this.cscCopier, //
 					this.initialPopulationsProvider, //
 					this.preProcessor, //
 					this.simulator);
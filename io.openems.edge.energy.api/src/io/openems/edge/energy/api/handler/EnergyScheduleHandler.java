@@ -59,6 +59,14 @@ public sealed interface EnergyScheduleHandler permits WithDifferentModes, WithOn
 	 */
 	public <SCHEDULE_CONTEXT> SCHEDULE_CONTEXT createScheduleContext();
 
+	/**
+	 * Creates a deep copy of a ControllerScheduleContext.
+	 * 
+	 * @param csc the ControllerScheduleContext
+	 * @return the copy; null if copying is not supported
+	 */
+	public Object copyScheduleContext(Object csc);
+
 	/**
 	 * Gets a copy of the current Schedule.
 	 * 
@@ -8,6 +8,7 @@ import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
@@ -40,10 +41,11 @@ public final class EshWithDifferentModes<MODE, OPTIMIZATION_CONTEXT, SCHEDULE_CO
 			BiFunction<GlobalOptimizationContext, OPTIMIZATION_CONTEXT, Modes<MODE>> modesFunction, //
 			Function<GlobalOptimizationContext, OPTIMIZATION_CONTEXT> cocFunction, //
 			Function<OPTIMIZATION_CONTEXT, SCHEDULE_CONTEXT> cscFunction, //
+			UnaryOperator<SCHEDULE_CONTEXT> cscCopier, //
 			InitialPopulationsProvider<MODE, OPTIMIZATION_CONTEXT> initialPopulationsProvider, //
 			PreProcessor<MODE, OPTIMIZATION_CONTEXT> preProcessor, //
 			Simulator<MODE, OPTIMIZATION_CONTEXT, SCHEDULE_CONTEXT> simulator) {
-		super(parentFactoryPid, parentId, serializer, cocFunction, cscFunction);
+		super(parentFactoryPid, parentId, serializer, cocFunction, cscFunction, cscCopier);
 		this.modesFunction = modesFunction;
 		this.initialPopulationsProvider = initialPopulationsProvider;
 		this.preProcessor = preProcessor;
@@ -4,6 +4,7 @@ import java.time.ZonedDateTime;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import com.google.common.base.MoreObjects.ToStringHelper;
 import com.google.common.collect.ImmutableSortedMap;
@@ -25,8 +26,9 @@ public final class EshWithOnlyOneMode<OPTIMIZATION_CONTEXT, SCHEDULE_CONTEXT> //
 			Serializer<?> serializer, //
 			Function<GlobalOptimizationContext, OPTIMIZATION_CONTEXT> cocFunction, //
 			Function<OPTIMIZATION_CONTEXT, SCHEDULE_CONTEXT> cscFunction, //
+			UnaryOperator<SCHEDULE_CONTEXT> cscCopier, //
 			Simulator<OPTIMIZATION_CONTEXT, SCHEDULE_CONTEXT> simulator) {
-		super(parentFactoryPid, parentId, serializer, cocFunction, cscFunction);
+		super(parentFactoryPid, parentId, serializer, cocFunction, cscFunction, cscCopier);
 		this.simulator = simulator;
 	}
 
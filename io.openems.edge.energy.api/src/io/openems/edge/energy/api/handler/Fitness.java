@@ -105,6 +105,21 @@ public class Fitness implements Comparable<Fitness> {
 		this.softConstraintViolations += degree;
 	}
 
+	/**
+	 * Creates a copy of this {@link Fitness}.
+	 * 
+	 * @return the copy
+	 */
+	public Fitness copy() {
+		var result = new Fitness();
+		result.hardConstraintViolations = this.hardConstraintViolations;
+		result.gridBuyCost = this.gridBuyCost;
+		result.gridSellRevenue = this.gridSellRevenue;
+		result.modePreferencePenalty = this.modePreferencePenalty;
+		result.softConstraintViolations = this.softConstraintViolations;
+		return result;
+	}
+
 	@Override
 	public int compareTo(Fitness o) {
 		// 1st priority: hard constraints (lower is better)
@@ -80,6 +80,7 @@ public class OneMode {
 					this.parentFactoryPid, this.parentId, this.serializer, //
 					this.cocFunction, //
 					this.cscFunction, //
+					this.cscCopier, //
 					this.simulator);
 		}
 	}
@@ -59,6 +59,18 @@ public class GlobalScheduleContext {
 		return new GlobalScheduleContext(goc, Ess.from(goc.ess()));
 	}
 
+	/**
+	 * Builds a {@link GlobalScheduleContext} that starts from an intermediate
+	 * state, e.g. when resuming a cached simulation.
+	 * 
+	 * @param goc              the {@link GlobalOptimizationContext}
+	 * @param essInitialEnergy the initial SoC-Energy of the ESS in [Wh]
+	 * @return the {@link GlobalScheduleContext}
+	 */
+	public static GlobalScheduleContext from(GlobalOptimizationContext goc, int essInitialEnergy) {
+		return new GlobalScheduleContext(goc, new Ess(essInitialEnergy));
+	}
+
 	public final GlobalOptimizationContext goc;
 	public final Ess ess;
 
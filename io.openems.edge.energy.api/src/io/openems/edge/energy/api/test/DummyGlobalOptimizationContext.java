@@ -29,14 +29,7 @@ public class DummyGlobalOptimizationContext {
 	 * @return a {@link GlobalOptimizationContext}
 	 */
 	public static GlobalOptimizationContext fromHandlers(EnergyScheduleHandler... handlers) {
-		final var eshs = Arrays.stream(handlers).collect(toImmutableList());
-
-		return new GlobalOptimizationContext(//
-				CLOCK, Environment.TEST, TIME, //
-				eshs, filterEshsWithDifferentModes(eshs).collect(toImmutableList()), //
-				new GlobalOptimizationContext.Grid(16000, 20000, JSCalendar.Tasks.empty()), //
-				new GlobalOptimizationContext.Ess(5000, 22000, 16000, 16000), //
-				GlobalOptimizationContext.Periods.create(Environment.TEST) //
+		return fromHandlers(GlobalOptimizationContext.Periods.create(Environment.TEST) //
 						.add(time(0, 0), null, 0, 106, 293.70) //
 						.add(time(0, 15), null, 0, 86, 293.70) //
 						.add(time(0, 30), null, 0, 88, 293.70) //
@@ -89,10 +82,39 @@ public class DummyGlobalOptimizationContext {
 						.add(time(12, 15), null, 3022, 64, 260.70) //
 						.add(time(12, 30), null, 3036, 64, 260.70) //
 						.add(time(12, 45), null, 3045, 59, 260.70) //
-						.build());
+						.build(), //
+				handlers);
+	}
+
+	/**
+	 * Generates a {@link GlobalOptimizationContext} with the given
+	 * {@link GlobalOptimizationContext.Periods} and
+	 * {@link EnergyScheduleHandler}s.
+	 * 
+	 * @param periods  the {@link GlobalOptimizationContext.Periods}
+	 * @param handlers the {@link EnergyScheduleHandler}s
+	 * @return a {@link GlobalOptimizationContext}
+	 */
+	public static GlobalOptimizationContext fromHandlers(GlobalOptimizationContext.Periods periods,
+			EnergyScheduleHandler... handlers) {
+		final var eshs = Arrays.stream(handlers).collect(toImmutableList());
+
+		return new GlobalOptimizationContext(//
+				CLOCK, Environment.TEST, TIME, //
+				eshs, filterEshsWithDifferentModes(eshs).collect(toImmutableList()), //
+				new GlobalOptimizationContext.Grid(16000, 20000, JSCalendar.Tasks.empty()), //
+				new GlobalOptimizationContext.Ess(5000, 22000, 16000, 16000), //
+				periods);
 	}
 
-	private static ZonedDateTime time(int hours, int minutes) {
+	/**
+	 * Gets the timestamp of a Period relative to {@link #TIME}.
+	 * 
+	 * @param hours   the hours
+	 * @param minutes the minutes
+	 * @return the {@link ZonedDateTime}
+	 */
+	public static ZonedDateTime time(int hours, int minutes) {
 		return TIME.plusHours(hours).plusMinutes(minutes);
 	}
 }
@@ -24,5 +24,8 @@ import io.openems.edge.energy.api.Version;
 	@AttributeDefinition(name = "Environment", description = "")
 	Environment environment() default Environment.PRODUCTION;
 
+	@AttributeDefinition(name = "Optimizer Islands", description = "Number of sub-populations that evolve in parallel on separate cores and exchange their best schedules; '1' evolves a single population")
+	int optimizerIslands() default 1;
+
 	String webconsole_configurationFactory_nameHint() default "Core Energy Scheduler";
 }
\ No newline at end of file
@@ -171,7 +171,8 @@ public class EnergySchedulerImpl extends AbstractOpenemsComponent implements Ope
 							.build();
 				}, //
 				this.channel(EnergyScheduler.ChannelId.SIMULATIONS_PER_QUARTER), //
-				this.channel(EnergyScheduler.ChannelId.GENERATIONS_PER_QUARTER));
+				this.channel(EnergyScheduler.ChannelId.GENERATIONS_PER_QUARTER), //
+				this.channel(EnergyScheduler.ChannelId.SIMULATION_CACHE_HIT_RATE));
 	}
 
 	@Activate
@@ -213,6 +214,7 @@ public class EnergySchedulerImpl extends AbstractOpenemsComponent implements Ope
 		}
 		case V2_ENERGY_SCHEDULABLE -> {
 			this.optimizerV1.deactivate();
+			this.optimizer.setIslands(config.optimizerIslands());
 			if (this.optimizer.isActivated()) {
 				this.optimizer.restartOptimization(reason, false);
 			} else {
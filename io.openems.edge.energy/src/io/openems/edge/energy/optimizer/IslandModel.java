@@ -0,0 +1,151 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.jenetics.util.ISeq.toISeq;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Stream;
+
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionInit;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.EvolutionStream;
+import io.jenetics.util.ISeq;
+import io.openems.edge.energy.api.handler.Fitness;
+
+/**
+ * Evolves multiple sub-populations ('islands') independently and exchanges
+ * their best individuals periodically ('migration').
+ *
+ * <p>
+ * Every island is an independent {@link EvolutionStream} that is supposed to
+ * run on its own Thread. Every {@link #MIGRATION_INTERVAL} generations an
+ * island publishes its elites; in the following generation its neighbour (in
+ * a ring) replaces its worst individuals by them. Migration is asynchronous,
+ * i.e. islands never wait for each other.
+ */
+public class IslandModel {
+
+	/** Number of generations between two migrations. */
+	public static final int MIGRATION_INTERVAL = 20;
+
+	private final Engine<IntegerGene, Fitness> engine;
+	private final int islands;
+	private final int migrants;
+	private final AtomicReferenceArray<ISeq<Phenotype<IntegerGene, Fitness>>> emigrants;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param engine   the {@link Engine}; shared by all islands
+	 * @param islands  the number of islands
+	 * @param migrants the number of individuals that migrate
+	 */
+	public IslandModel(Engine<IntegerGene, Fitness> engine, int islands, int migrants) {
+		this.engine = engine;
+		this.islands = islands;
+		this.migrants = Math.max(1, migrants);
+		this.emigrants = new AtomicReferenceArray<>(islands);
+	}
+
+	/**
+	 * Gets the number of islands.
+	 *
+	 * @return the number of islands
+	 */
+	public int getIslands() {
+		return this.islands;
+	}
+
+	/**
+	 * Creates the {@link EvolutionStream} for one island.
+	 *
+	 * @param island            the index of the island
+	 * @param initialPopulation the {@link EvolutionInit}
+	 * @return the {@link EvolutionStream}
+	 */
+	public EvolutionStream<IntegerGene, Fitness> stream(int island, EvolutionInit<IntegerGene> initialPopulation) {
+		final var source = (island - 1 + this.islands) % this.islands;
+		return EvolutionStream.ofEvolution(//
+				() -> this.evolutionStart(initialPopulation), //
+				start -> {
+					var population = start.population();
+					var immigrants = this.emigrants.getAndSet(source, null);
+					if (immigrants != null) {
+						population = immigrate(population, immigrants);
+					}
+					var result = this.engine.evolve(EvolutionStart.of(population, start.generation()));
+					if (result.generation() % MIGRATION_INTERVAL == 0) {
+						this.emigrants.set(island, elites(result, this.migrants));
+					}
+					return result;
+				});
+	}
+
+	/**
+	 * Creates the {@link EvolutionStart} of an island: the initial population,
+	 * filled up with random individuals.
+	 *
+	 * @param initialPopulation the {@link EvolutionInit}
+	 * @return the {@link EvolutionStart}
+	 */
+	private EvolutionStart<IntegerGene, Fitness> evolutionStart(EvolutionInit<IntegerGene> initialPopulation) {
+		final var generation = initialPopulation.generation();
+		final var genotypes = initialPopulation.population().stream() //
+				.limit(this.engine.populationSize());
+		final var random = Stream.generate(this.engine.genotypeFactory()::newInstance) //
+				.limit(Math.max(0, this.engine.populationSize() - initialPopulation.population().size()));
+		return EvolutionStart.of(Stream.concat(genotypes, random) //
+				.map(gt -> Phenotype.<IntegerGene, Fitness>of(gt, generation)) //
+				.collect(toISeq()), generation);
+	}
+
+	/**
+	 * Gets the best individuals of a {@link EvolutionResult}.
+	 *
+	 * @param result the {@link EvolutionResult}
+	 * @param count  the number of individuals
+	 * @return the best individuals; best first
+	 */
+	protected static ISeq<Phenotype<IntegerGene, Fitness>> elites(EvolutionResult<IntegerGene, Fitness> result,
+			int count) {
+		return result.population().stream() //
+				.sorted(IslandModel::compare) //
+				.limit(count) //
+				.collect(toISeq());
+	}
+
+	/**
+	 * Replaces the worst individuals of a population by immigrants.
+	 *
+	 * @param population the population
+	 * @param immigrants the immigrants
+	 * @return the new population of unchanged size
+	 */
+	protected static ISeq<Phenotype<IntegerGene, Fitness>> immigrate(ISeq<Phenotype<IntegerGene, Fitness>> population,
+			ISeq<Phenotype<IntegerGene, Fitness>> immigrants) {
+		var keep = Math.max(0, population.size() - immigrants.size());
+		return population.stream() //
+				.sorted(IslandModel::compare) //
+				.limit(keep) //
+				.collect(toISeq()) //
+				.append(immigrants);
+	}
+
+	/**
+	 * Compares two {@link Phenotype}s by their {@link Fitness}; not evaluated
+	 * {@link Phenotype}s are sorted last.
+	 *
+	 * @param a the first {@link Phenotype}
+	 * @param b the second {@link Phenotype}
+	 * @return the comparison result; negative if 'a' is better
+	 */
+	private static int compare(Phenotype<IntegerGene, Fitness> a, Phenotype<IntegerGene, Fitness> b) {
+		if (!a.isEvaluated() || !b.isEvaluated()) {
+			return Boolean.compare(!a.isEvaluated(), !b.isEvaluated());
+		}
+		return a.fitness().compareTo(b.fitness());
+	}
+}
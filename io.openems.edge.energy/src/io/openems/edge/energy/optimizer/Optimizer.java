@@ -59,6 +59,7 @@ public class Optimizer {
 	private final Supplier<GlobalOptimizationContext> gocSupplier;
 	private final Channel<Integer> simulationsPerQuarterChannel;
 	private final Channel<Integer> generationsPerQuarterChannel;
+	private final Channel<Integer> simulationCacheHitRateChannel;
 
 	private final Clock clock;
 	private final Supplier<ExecutorService> executorFactory;
@@ -70,6 +71,7 @@ public class Optimizer {
 	private volatile Simulator simulator;
 	private volatile SimulationResult latestSimulationResult = EMPTY_SIMULATION_RESULT;
 	private volatile boolean activated = false;
+	private volatile int islands = 1;
 
 	private ExecutorService executor;
 	private ScheduledExecutorService scheduler;
@@ -79,12 +81,14 @@ public class Optimizer {
 			Supplier<LogVerbosity> logVerbosity, //
 			Supplier<GlobalOptimizationContext> gocSupplier, //
 			Channel<Integer> simulationsPerQuarterChannel, //
-			Channel<Integer> generationsPerQuarterChannel) {
+			Channel<Integer> generationsPerQuarterChannel, //
+			Channel<Integer> simulationCacheHitRateChannel) {
 		this(//
 				logVerbosity, //
 				gocSupplier, //
 				simulationsPerQuarterChannel, //
 				generationsPerQuarterChannel, //
+				simulationCacheHitRateChannel, //
 				Clock.systemDefaultZone(), //
 				Executors::newSingleThreadExecutor, //
 				Executors::newSingleThreadScheduledExecutor, //
@@ -97,6 +101,7 @@ public class Optimizer {
 			Supplier<GlobalOptimizationContext> gocSupplier, //
 			Channel<Integer> simulationsPerQuarterChannel, //
 			Channel<Integer> generationsPerQuarterChannel, //
+			Channel<Integer> simulationCacheHitRateChannel, //
 			Clock clock, //
 			Supplier<ExecutorService> executorFactory, //
 			Supplier<ScheduledExecutorService> schedulerFactory, //
@@ -105,6 +110,7 @@ public class Optimizer {
 		this.gocSupplier = gocSupplier;
 		this.simulationsPerQuarterChannel = simulationsPerQuarterChannel;
 		this.generationsPerQuarterChannel = generationsPerQuarterChannel;
+		this.simulationCacheHitRateChannel = simulationCacheHitRateChannel;
 		this.clock = clock;
 		this.executorFactory = executorFactory;
 		this.schedulerFactory = schedulerFactory;
@@ -166,6 +172,18 @@ public class Optimizer {
 		}
 	}
 
+	/**
+	 * Sets the number of islands for the next optimization run.
+	 * 
+	 * <p>
+	 * See {@link Simulator#setIslands(int)}.
+	 * 
+	 * @param islands the number of sub-populations that evolve in parallel
+	 */
+	public void setIslands(int islands) {
+		this.islands = Math.max(1, islands);
+	}
+
 	/**
 	 * Returns whether the optimizer is currently activated.
 	 *
@@ -250,6 +268,7 @@ public class Optimizer {
 				return;
 			}
 			this.simulator = simulator;
+			simulator.setIslands(this.islands);
 			this.traceLog(() -> "Simulator is " + simulator.toJson().toString());
 
 			this.traceLog(() -> "Running optimization...");
@@ -316,6 +335,7 @@ public class Optimizer {
 			Utils.logSimulationResult(s, simulationResult);
 			this.simulationsPerQuarterChannel.setNextValue(s.getTotalNumberOfSimulations());
 			this.generationsPerQuarterChannel.setNextValue(s.getTotalNumberOfGenerations());
+			this.simulationCacheHitRateChannel.setNextValue(s.getSimulationCacheHitRate());
 		});
 
 		this.latestSimulationResult = simulationResult;
@@ -370,6 +390,7 @@ public class Optimizer {
 		}
 		b.append("|SimulationsPerQuarter:").append(this.simulationsPerQuarterChannel.value());
 		b.append("|GenerationsPerQuarter:").append(this.generationsPerQuarterChannel.value());
+		b.append("|SimulationCacheHitRate:").append(this.simulationCacheHitRateChannel.value());
 		Optional.ofNullable(this.simulator).ifPresent(simulator -> {
 			b.append("|Current:").append(simulator.getTotalNumberOfSimulations());
 		});
@@ -0,0 +1,259 @@
+package io.openems.edge.energy.optimizer;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+
+import io.openems.edge.energy.api.handler.EnergyScheduleHandler;
+import io.openems.edge.energy.api.handler.Fitness;
+import io.openems.edge.energy.api.simulation.GlobalOptimizationContext;
+import io.openems.edge.energy.api.simulation.GlobalScheduleContext;
+
+/**
+ * Caches intermediate states ('checkpoints') of Schedule simulations.
+ *
+ * <p>
+ * Genotypes of one generation typically share long prefixes, e.g. after a
+ * mutation in the late periods. A checkpoint holds the state after simulating
+ * the first periods of a Schedule - the ESS energy, copies of the
+ * ControllerScheduleContexts and the partial {@link Fitness} - and is stored
+ * for that exact prefix of modes. Simulation of another Schedule with the same
+ * prefix then resumes from the checkpoint instead of starting from the first
+ * period.
+ *
+ * <p>
+ * Besides the ESS energy, only ControllerScheduleContexts carry state from one
+ * period to the next; OptimizationContexts are never modified during a
+ * simulation. {@link EnergyScheduleHandler}s without ControllerScheduleContext
+ * therefore need no copier; those with a ControllerScheduleContext have to
+ * provide one via {@code setScheduleContextCopier()} of their builder.
+ *
+ * <p>
+ * Checkpoints are recorded every {@link #CHECKPOINT_INTERVAL} periods; the
+ * estimated memory usage of all checkpoints is bounded by a budget (least
+ * recently used are evicted first).
+ */
+public class SimulationCache {
+
+	/** Number of periods between two checkpoints. */
+	public static final int CHECKPOINT_INTERVAL = 4;
+
+	/** Default memory budget for cached checkpoints in [byte]. */
+	public static final long DEFAULT_MEMORY_BUDGET = 32 * 1024 * 1024;
+
+	/**
+	 * Estimated size of a checkpoint without its prefix and
+	 * ControllerScheduleContexts in [byte]: cache entry, key, {@link Checkpoint},
+	 * {@link Fitness} and map.
+	 */
+	private static final int CHECKPOINT_BASE_SIZE = 256;
+
+	/** Estimated size of one copied ControllerScheduleContext in [byte]. */
+	private static final int SCHEDULE_CONTEXT_SIZE = 128;
+
+	/**
+	 * The state after simulating the periods before {@link #periodIndex}.
+	 *
+	 * @param periodIndex      the index of the next period to simulate
+	 * @param essInitialEnergy the initial ESS energy of the next period
+	 * @param cscs             the ControllerScheduleContexts; never modified
+	 * @param fitness          the partial {@link Fitness}; never modified
+	 */
+	protected record Checkpoint(int periodIndex, int essInitialEnergy,
+			ImmutableMap<EnergyScheduleHandler, Object> cscs, Fitness fitness) {
+	}
+
+	/**
+	 * The prefix of a Schedule, used as cache key.
+	 *
+	 * <p>
+	 * Keys that are stored in the cache hold a copy of the prefix; keys for
+	 * lookup refer to the simulated Schedule to avoid copying.
+	 */
+	private static final class Prefix {
+		private final int[] schedule;
+		private final int length;
+		private final int hash;
+
+		private Prefix(int[] schedule, int length, int hash) {
+			this.schedule = schedule;
+			this.length = length;
+			this.hash = hash;
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Prefix other) || this.length != other.length || this.hash != other.hash) {
+				return false;
+			}
+			return Arrays.equals(this.schedule, 0, this.length, other.schedule, 0, other.length);
+		}
+	}
+
+	private final GlobalOptimizationContext goc;
+	private final Cache<Prefix, Checkpoint> checkpoints;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder skippedPeriods = new LongAdder();
+
+	/**
+	 * Creates a {@link SimulationCache} for a {@link GlobalOptimizationContext}.
+	 *
+	 * <p>
+	 * Resuming a simulation requires copies of the ControllerScheduleContexts, so
+	 * caching is not possible if any {@link EnergyScheduleHandler} uses a
+	 * ControllerScheduleContext that can not be copied.
+	 *
+	 * @param goc          the {@link GlobalOptimizationContext}
+	 * @param memoryBudget the maximum estimated memory usage of all checkpoints
+	 *                     in [byte]
+	 * @return the {@link SimulationCache}; null if caching is not possible
+	 */
+	public static SimulationCache from(GlobalOptimizationContext goc, long memoryBudget) {
+		if (memoryBudget <= 0 || goc.periods().size() <= CHECKPOINT_INTERVAL) {
+			return null;
+		}
+		for (var esh : goc.eshs()) {
+			var csc = esh.createScheduleContext();
+			if (csc != null && esh.copyScheduleContext(csc) == null) {
+				return null;
+			}
+		}
+		return new SimulationCache(goc, memoryBudget);
+	}
+
+	private SimulationCache(GlobalOptimizationContext goc, long memoryBudget) {
+		this.goc = goc;
+		this.checkpoints = CacheBuilder.newBuilder() //
+				.maximumWeight(memoryBudget) //
+				.weigher((Prefix prefix, Checkpoint checkpoint) -> //
+				estimateSize(prefix.length, checkpoint.cscs().size())) //
+				.build();
+	}
+
+	/**
+	 * Estimates the memory usage of a {@link Checkpoint}.
+	 *
+	 * @param prefixLength the length of the prefix of the Schedule
+	 * @param noOfCscs     the number of ControllerScheduleContexts
+	 * @return the estimated size in [byte]
+	 */
+	protected static int estimateSize(int prefixLength, int noOfCscs) {
+		return CHECKPOINT_BASE_SIZE + prefixLength * Integer.BYTES + noOfCscs * SCHEDULE_CONTEXT_SIZE;
+	}
+
+	/**
+	 * Finds the {@link Checkpoint} with the longest prefix of the given Schedule.
+	 *
+	 * @param schedule the Schedule
+	 * @return the {@link Checkpoint}; null if there is none
+	 */
+	protected Checkpoint lookup(int[] schedule) {
+		final var noOfCheckpoints = (schedule.length - 1) / CHECKPOINT_INTERVAL;
+		final var hashes = new int[noOfCheckpoints];
+		var hash = 1;
+		for (var i = 0; i < noOfCheckpoints * CHECKPOINT_INTERVAL; i++) {
+			hash = 31 * hash + schedule[i];
+			if ((i + 1) % CHECKPOINT_INTERVAL == 0) {
+				hashes[i / CHECKPOINT_INTERVAL] = hash;
+			}
+		}
+		for (var i = noOfCheckpoints - 1; i >= 0; i--) {
+			var checkpoint = this.checkpoints
+					.getIfPresent(new Prefix(schedule, (i + 1) * CHECKPOINT_INTERVAL, hashes[i]));
+			if (checkpoint != null) {
+				this.hits.increment();
+				this.skippedPeriods.add(checkpoint.periodIndex);
+				return checkpoint;
+			}
+		}
+		this.misses.increment();
+		return null;
+	}
+
+	/**
+	 * Whether a {@link Checkpoint} should be recorded before simulating the given
+	 * period.
+	 *
+	 * @param periodIndex the index of the next period to simulate
+	 * @return true for a checkpoint
+	 */
+	protected boolean isCheckpoint(int periodIndex) {
+		return periodIndex > 0 //
+				&& periodIndex % CHECKPOINT_INTERVAL == 0 //
+				&& periodIndex < this.goc.periods().size();
+	}
+
+	/**
+	 * Records a {@link Checkpoint}.
+	 *
+	 * @param schedule    the Schedule
+	 * @param periodIndex the index of the next period to simulate
+	 * @param gsc         the {@link GlobalScheduleContext}
+	 * @param cscs        the ControllerScheduleContexts
+	 * @param fitness     the partial {@link Fitness}
+	 */
+	protected void record(int[] schedule, int periodIndex, GlobalScheduleContext gsc,
+			ImmutableMap<EnergyScheduleHandler, Object> cscs, Fitness fitness) {
+		var hash = 1;
+		for (var i = 0; i < periodIndex; i++) {
+			hash = 31 * hash + schedule[i];
+		}
+		this.checkpoints.put(//
+				new Prefix(Arrays.copyOf(schedule, periodIndex), periodIndex, hash), //
+				new Checkpoint(periodIndex, gsc.ess.getInitialEnergy(), copyScheduleContexts(cscs), fitness.copy()));
+	}
+
+	/**
+	 * Creates deep copies of ControllerScheduleContexts.
+	 *
+	 * @param cscs the ControllerScheduleContexts
+	 * @return the copies
+	 */
+	protected static ImmutableMap<EnergyScheduleHandler, Object> copyScheduleContexts(
+			ImmutableMap<EnergyScheduleHandler, Object> cscs) {
+		final var result = ImmutableMap.<EnergyScheduleHandler, Object>builderWithExpectedSize(cscs.size());
+		cscs.forEach((esh, csc) -> result.put(esh, esh.copyScheduleContext(csc)));
+		return result.build();
+	}
+
+	/**
+	 * Gets the share of simulations that were resumed from a {@link Checkpoint}.
+	 *
+	 * @return the hit rate in [%]
+	 */
+	public int getHitRate() {
+		final var hits = this.hits.sum();
+		final var total = hits + this.misses.sum();
+		return total == 0 ? 0 : (int) (hits * 100 / total);
+	}
+
+	/**
+	 * Gets the number of simulations that were resumed from a {@link Checkpoint}.
+	 *
+	 * @return the number of hits
+	 */
+	public long getHits() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Gets the number of periods that did not have to be simulated.
+	 *
+	 * @return the number of skipped periods
+	 */
+	public long getSkippedPeriods() {
+		return this.skippedPeriods.sum();
+	}
+}
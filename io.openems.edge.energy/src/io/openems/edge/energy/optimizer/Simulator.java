@@ -8,11 +8,16 @@ import static java.lang.Math.max;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -26,6 +31,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonObject;
 
 import io.jenetics.EliteSelector;
@@ -38,6 +44,8 @@ import io.jenetics.ShuffleMutator;
 import io.jenetics.SinglePointCrossover;
 import io.jenetics.TournamentSelector;
 import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionInit;
+import io.jenetics.engine.EvolutionResult;
 import io.jenetics.engine.EvolutionStream;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.energy.api.handler.AbstractEnergyScheduleHandler;
@@ -65,6 +73,8 @@ public class Simulator {
 	private final AtomicLong generationsCounter = new AtomicLong(0);
 
 	private Duration earliestCallbackDelay = Duration.ofSeconds(30);
+	private volatile int islands = 1;
+	private volatile SimulationCache simulationCache;
 
 	public Simulator(GlobalOptimizationContext goc) {
 		this.goc = goc;
@@ -76,6 +86,7 @@ public class Simulator {
 		}
 		this.modeCombinations = ModeCombinations.fromGlobalOptimizationContext(goc);
 		this.normalizedEshModePreferenceRanks = GocUtils.normalizeEshModePreferenceRanks(goc.eshsWithDifferentModes());
+		this.simulationCache = SimulationCache.from(goc, SimulationCache.DEFAULT_MEMORY_BUDGET);
 	}
 
 	protected int getTotalNumberOfSimulations() {
@@ -86,25 +97,70 @@ public class Simulator {
 		return (int) this.generationsCounter.get();
 	}
 
+	/**
+	 * Gets the share of simulations that were resumed from a cached intermediate
+	 * state. See {@link SimulationCache}.
+	 *
+	 * @return the hit rate in [%]; null if caching is disabled
+	 */
+	protected Integer getSimulationCacheHitRate() {
+		var simulationCache = this.simulationCache;
+		if (simulationCache == null) {
+			return null;
+		}
+		return simulationCache.getHitRate();
+	}
+
 	protected static Fitness simulate(//
 			GlobalOptimizationContext goc, //
 			ModeCombinations modeCombinations, //
 			int[] schedule, //
 			BestScheduleCollector bsc, //
 			List<Map<Integer, Double>> normalizedEshModePreferenceRanks) {
-		final var gsc = GlobalScheduleContext.from(goc);
-		final var cscsBuilder = ImmutableMap.<EnergyScheduleHandler, Object>builder();
-		for (var esh : goc.eshs()) {
-			var csc = esh.createScheduleContext();
-			if (csc != null) {
-				cscsBuilder.put(esh, csc);
+		return simulate(goc, modeCombinations, schedule, bsc, normalizedEshModePreferenceRanks, null);
+	}
+
+	protected static Fitness simulate(//
+			GlobalOptimizationContext goc, //
+			ModeCombinations modeCombinations, //
+			int[] schedule, //
+			BestScheduleCollector bsc, //
+			List<Map<Integer, Double>> normalizedEshModePreferenceRanks, //
+			SimulationCache simulationCache) {
+		// The final run with BestScheduleCollector always simulates all periods
+		final var cache = bsc == null ? simulationCache : null;
+		final var checkpoint = cache == null ? null : cache.lookup(schedule);
+
+		final GlobalScheduleContext gsc;
+		final ImmutableMap<EnergyScheduleHandler, Object> cscs;
+		final Fitness fitness;
+		final int firstPeriodIndex;
+		if (checkpoint == null) {
+			gsc = GlobalScheduleContext.from(goc);
+			final var cscsBuilder = ImmutableMap.<EnergyScheduleHandler, Object>builder();
+			for (var esh : goc.eshs()) {
+				var csc = esh.createScheduleContext();
+				if (csc != null) {
+					cscsBuilder.put(esh, csc);
+				}
 			}
+			cscs = cscsBuilder.build();
+			fitness = new Fitness();
+			firstPeriodIndex = 0;
+
+		} else {
+			// Resume from cached state
+			gsc = GlobalScheduleContext.from(goc, checkpoint.essInitialEnergy());
+			cscs = SimulationCache.copyScheduleContexts(checkpoint.cscs());
+			fitness = checkpoint.fitness().copy();
+			firstPeriodIndex = checkpoint.periodIndex();
 		}
-		final var cscs = cscsBuilder.build();
 		final var noOfPeriods = goc.periods().size();
-		final var fitness = new Fitness();
 
-		for (var periodIndex = 0; periodIndex < noOfPeriods; periodIndex++) {
+		for (var periodIndex = firstPeriodIndex; periodIndex < noOfPeriods; periodIndex++) {
+			if (cache != null && periodIndex > firstPeriodIndex && cache.isCheckpoint(periodIndex)) {
+				cache.record(schedule, periodIndex, gsc, cscs, fitness);
+			}
 			var modeCombination = modeCombinations.get(schedule[periodIndex]);
 			simulatePeriod(gsc, cscs, periodIndex, modeCombination, fitness, bsc);
 		}
@@ -254,27 +310,41 @@ public class Simulator {
 			onBestResult.accept(EMPTY_SIMULATION_RESULT);
 		}
 
-		// Decide for single- or multi-threading
-		final Executor executor;
-		final var availableCores = Runtime.getRuntime().availableProcessors() - 1;
-		if (availableCores > 1) {
-			// Executor is a Thread-Pool with CPU-Cores minus one
-			executor = new ForkJoinPool(availableCores);
-			System.out.println("OPTIMIZER Executor runs on " + availableCores + " cores");
-		} else {
-			// Executor is the current thread
-			executor = Runnable::run;
-			System.out.println("OPTIMIZER Executor runs on current thread");
-		}
-
 		// Build the Jenetics Engine
 		final var initialPopulation = generateInitialPopulation(codec);
 		var populationSize = fitWithin(10, 50, initialPopulation.population().size() * 2);
+		final var islands = this.islands;
+
+		final Executor executor;
+		final ExecutorService islandsExecutor;
+		if (islands > 1) {
+			// Every island evaluates on its own Thread
+			executor = Runnable::run;
+			islandsExecutor = Executors.newFixedThreadPool(islands,
+					new ThreadFactoryBuilder().setNameFormat("Optimizer.Island-%d").build());
+			populationSize = max(10, populationSize / islands);
+			LOG.debug("OPTIMIZER Executor runs " + islands + " islands");
+
+		} else {
+			// Decide for single- or multi-threading
+			islandsExecutor = null;
+			final var availableCores = Runtime.getRuntime().availableProcessors() - 1;
+			if (availableCores > 1) {
+				// Executor is a Thread-Pool with CPU-Cores minus one
+				executor = new ForkJoinPool(availableCores);
+				System.out.println("OPTIMIZER Executor runs on " + availableCores + " cores");
+			} else {
+				// Executor is the current thread
+				executor = Runnable::run;
+				System.out.println("OPTIMIZER Executor runs on current thread");
+			}
+		}
 
 		var engine = Engine //
 				.builder(gt -> {
 					this.simulationsCounter.incrementAndGet();
-					return simulate(this.goc, this.modeCombinations, gt, null, this.normalizedEshModePreferenceRanks);
+					return simulate(this.goc, this.modeCombinations, gt, null, this.normalizedEshModePreferenceRanks,
+							this.simulationCache);
 				}, codec) //
 				.selector(//
 						new EliteSelector<IntegerGene, Fitness>(populationSize / 4, //
@@ -291,19 +361,11 @@ public class Simulator {
 			engine = engineInterceptor.apply(engine);
 		}
 
-		var stream = engine.build() //
-				.stream(initialPopulation) //
-				.limit(result -> !Thread.currentThread().isInterrupted());
-		if (evolutionStreamInterceptor != null) {
-			stream = evolutionStreamInterceptor.apply(stream);
-		}
-
 		final var bestPt = new AtomicReference<Phenotype<IntegerGene, Fitness>>();
 		final var earliestCallback = Instant.now().plus(this.earliestCallbackDelay);
 
-		// Start the evaluation
-		stream.forEach(er -> {
-			this.generationsCounter.set(er.generation());
+		// Handles the results of all islands
+		final Consumer<EvolutionResult<IntegerGene, Fitness>> onEvolutionResult = er -> {
 			var currentBest = er.bestPhenotype();
 
 			// Update best phenotype
@@ -315,20 +377,43 @@ public class Simulator {
 			});
 
 			// Apply current best result
-			if (!isCurrentPeriodFixed.get() && Instant.now().isAfter(earliestCallback)) {
-				if (bestPt.get() == null) {
-					onBestResult.accept(SimulationResult.EMPTY_SIMULATION_RESULT);
-				} else {
-					onBestResult.accept(SimulationResult.fromQuarters(//
-							this.goc, //
-							codec.decode(bestPt.get().genotype()), //
-							this.getTotalNumberOfSimulations(), //
-							this.getTotalNumberOfGenerations()));
+			synchronized (isCurrentPeriodFixed) {
+				if (!isCurrentPeriodFixed.get() && Instant.now().isAfter(earliestCallback)) {
+					if (bestPt.get() == null) {
+						onBestResult.accept(SimulationResult.EMPTY_SIMULATION_RESULT);
+					} else {
+						onBestResult.accept(SimulationResult.fromQuarters(//
+								this.goc, //
+								codec.decode(bestPt.get().genotype()), //
+								this.getTotalNumberOfSimulations(), //
+								this.getTotalNumberOfGenerations()));
+					}
+					// Fix current period form now on
+					isCurrentPeriodFixed.set(true);
 				}
-				// Fix current period form now on
-				isCurrentPeriodFixed.set(true);
 			}
-		});
+		};
+
+		// Start the evaluation
+		if (islandsExecutor == null) {
+			var stream = engine.build() //
+					.stream(initialPopulation) //
+					.limit(result -> !Thread.currentThread().isInterrupted());
+			if (evolutionStreamInterceptor != null) {
+				stream = evolutionStreamInterceptor.apply(stream);
+			}
+			stream.forEach(er -> {
+				this.generationsCounter.set(er.generation());
+				onEvolutionResult.accept(er);
+			});
+
+		} else {
+			this.evolveIslands(new IslandModel(engine.build(), islands, max(1, populationSize / 10)),
+					initialPopulation, islandsExecutor, evolutionStreamInterceptor, er -> {
+						this.generationsCounter.incrementAndGet();
+						onEvolutionResult.accept(er);
+					});
+		}
 
 		// Apply final best result
 		if (Instant.now().isAfter(earliestCallback)) {
@@ -344,6 +429,52 @@ public class Simulator {
 		}
 	}
 
+	/**
+	 * Runs the islands of an {@link IslandModel} in parallel until all of them are
+	 * finished.
+	 *
+	 * @param islandModel                the {@link IslandModel}
+	 * @param initialPopulation          the initial population of every island
+	 * @param islandsExecutor            the {@link ExecutorService}; shut down
+	 *                                   afterwards
+	 * @param evolutionStreamInterceptor interceptor to customize the
+	 *                                   {@link EvolutionStream} of every island
+	 * @param onEvolutionResult          called for every {@link EvolutionResult} of
+	 *                                   every island
+	 */
+	private void evolveIslands(//
+			IslandModel islandModel, //
+			EvolutionInit<IntegerGene> initialPopulation, //
+			ExecutorService islandsExecutor, //
+			Function<EvolutionStream<IntegerGene, Fitness>, EvolutionStream<IntegerGene, Fitness>> evolutionStreamInterceptor, //
+			Consumer<EvolutionResult<IntegerGene, Fitness>> onEvolutionResult) {
+		final var futures = new ArrayList<Future<?>>();
+		for (var island = 0; island < islandModel.getIslands(); island++) {
+			var stream = islandModel.stream(island, initialPopulation) //
+					.limit(result -> !Thread.currentThread().isInterrupted());
+			if (evolutionStreamInterceptor != null) {
+				stream = evolutionStreamInterceptor.apply(stream);
+			}
+			final var islandStream = stream;
+			futures.add(islandsExecutor.submit(() -> islandStream.forEach(onEvolutionResult)));
+		}
+		try {
+			for (var future : futures) {
+				future.get();
+			}
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+
+		} catch (ExecutionException e) {
+			throw new RuntimeException("Error in Optimizer island: " + e.getCause().getMessage(), e.getCause());
+
+		} finally {
+			// Interrupts islands that are still running
+			islandsExecutor.shutdownNow();
+		}
+	}
+
 	/**
 	 * Calculates a weighted penalty based on the normalized preference ranks of
 	 * modes in a given schedule.
@@ -448,6 +579,36 @@ public class Simulator {
 				.build();
 	}
 
+	/**
+	 * Sets the number of islands, i.e. sub-populations that evolve in parallel.
+	 * 
+	 * <p>
+	 * See {@link IslandModel}. With one island, a single population is evolved
+	 * and fitness evaluation is distributed over the available cores.
+	 * 
+	 * @param islands the number of islands
+	 */
+	public void setIslands(int islands) {
+		this.islands = max(1, islands);
+	}
+
+	/**
+	 * Sets the memory budget for cached intermediate simulation states.
+	 * 
+	 * <p>
+	 * See {@link SimulationCache}. A value of '0' disables caching.
+	 * 
+	 * @param memoryBudget the maximum estimated memory usage in [byte]
+	 */
+	public void setSimulationCacheMemoryBudget(long memoryBudget) {
+		this.simulationCache = SimulationCache.from(this.goc, memoryBudget);
+	}
+
+	@VisibleForTesting
+	protected SimulationCache getSimulationCache() {
+		return this.simulationCache;
+	}
+
 	@VisibleForTesting
 	public void setEarliestCallbackDelay(Duration delay) {
 		this.earliestCallbackDelay = delay;
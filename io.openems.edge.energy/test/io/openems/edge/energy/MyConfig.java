@@ -14,6 +14,7 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private LogVerbosity logVerbosity;
 		private Version version;
 		private Environment environment;
+		private int optimizerIslands = 1;
 
 		private Builder() {
 		}
@@ -43,6 +44,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setOptimizerIslands(int optimizerIslands) {
+			this.optimizerIslands = optimizerIslands;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -83,4 +89,9 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 	public Environment environment() {
 		return this.builder.environment;
 	}
+
+	@Override
+	public int optimizerIslands() {
+		return this.builder.optimizerIslands;
+	}
 }
\ No newline at end of file
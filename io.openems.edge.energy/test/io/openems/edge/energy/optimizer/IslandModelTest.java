@@ -0,0 +1,60 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.jenetics.util.ISeq.toISeq;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.openems.edge.energy.api.handler.Fitness;
+
+public class IslandModelTest {
+
+	private static Phenotype<IntegerGene, Fitness> phenotype(int cost) {
+		var fitness = new Fitness();
+		fitness.addGridBuyCost(cost);
+		return Phenotype.of(Genotype.of(IntegerChromosome.of(0, 3, 4)), 1, fitness);
+	}
+
+	private static ISeq<Phenotype<IntegerGene, Fitness>> population(int... costs) {
+		return IntStream.of(costs) //
+				.mapToObj(IslandModelTest::phenotype) //
+				.collect(toISeq());
+	}
+
+	private static double[] costs(ISeq<Phenotype<IntegerGene, Fitness>> population) {
+		return population.stream() //
+				.mapToDouble(p -> p.fitness().getGridBuyCost()) //
+				.toArray();
+	}
+
+	@Test
+	public void testImmigrate() {
+		var population = population(30, 10, 50, 20, 40);
+		var immigrants = population(1, 2);
+
+		var result = IslandModel.immigrate(population, immigrants);
+		assertEquals(5, result.size());
+		// The two worst are replaced
+		assertEquals("[10.0, 20.0, 30.0, 1.0, 2.0]", Arrays.toString(costs(result)));
+	}
+
+	@Test
+	public void testImmigrateUnevaluated() {
+		var unevaluated = Phenotype.<IntegerGene, Fitness>of(Genotype.of(IntegerChromosome.of(0, 3, 4)), 1);
+		var population = population(30, 10).append(unevaluated);
+
+		var result = IslandModel.immigrate(population, population(1));
+		assertEquals(3, result.size());
+		// The unevaluated Phenotype is replaced first
+		assertEquals("[10.0, 30.0, 1.0]", Arrays.toString(costs(result)));
+	}
+
+}
@@ -56,6 +56,7 @@ public class OptimizerTest {
 	private Simulator simulator;
 	private DummyChannel dummyChannel1;
 	private DummyChannel dummyChannel2;
+	private DummyChannel dummyChannel3;
 	private Clock clock;
 
 	@Before
@@ -63,6 +64,7 @@ public class OptimizerTest {
 		this.simulator = spy(new Simulator(SimulatorTest.GOC));
 		this.dummyChannel1 = DummyChannel.of("DummyChannel1");
 		this.dummyChannel2 = DummyChannel.of("DummyChannel2");
+		this.dummyChannel3 = DummyChannel.of("DummyChannel3");
 		this.clock = Clock.fixed(Instant.parse("2026-01-13T10:05:30Z"), ZoneId.of("UTC"));
 	}
 
@@ -73,7 +75,8 @@ public class OptimizerTest {
 				() -> LogVerbosity.NONE, //
 				() -> SimulatorTest.GOC, //
 				this.dummyChannel1, //
-				this.dummyChannel2));
+				this.dummyChannel2, //
+				this.dummyChannel3));
 
 		doNothing().when(sut)//
 				.restartOptimization(anyString(), anyBoolean());
@@ -95,7 +98,8 @@ public class OptimizerTest {
 				() -> LogVerbosity.NONE, //
 				() -> SimulatorTest.GOC, //
 				this.dummyChannel1, //
-				this.dummyChannel2));
+				this.dummyChannel2, //
+				this.dummyChannel3));
 
 		doNothing().when(sut)//
 				.restartOptimization(anyString(), any(Duration.class), anyBoolean());
@@ -120,6 +124,7 @@ public class OptimizerTest {
 				() -> SimulatorTest.GOC, //
 				this.dummyChannel1, //
 				this.dummyChannel2, //
+				this.dummyChannel3, //
 				this.clock, //
 				() -> this.worker, //
 				() -> this.scheduler, //
@@ -156,6 +161,7 @@ public class OptimizerTest {
 				() -> SimulatorTest.GOC, //
 				this.dummyChannel1, //
 				this.dummyChannel2, //
+				this.dummyChannel3, //
 				this.clock, //
 				() -> this.worker, //
 				() -> this.scheduler, //
@@ -188,6 +194,7 @@ public class OptimizerTest {
 				() -> null, //
 				this.dummyChannel1, //
 				this.dummyChannel2, //
+				this.dummyChannel3, //
 				this.clock, //
 				() -> this.worker, //
 				() -> this.scheduler, //
@@ -213,6 +220,7 @@ public class OptimizerTest {
 				() -> dummyGoc, //
 				this.dummyChannel1, //
 				this.dummyChannel2, //
+				this.dummyChannel3, //
 				this.clock, //
 				() -> this.worker, //
 				() -> this.scheduler, //
@@ -237,6 +245,7 @@ public class OptimizerTest {
 				() -> SimulatorTest.GOC, //
 				this.dummyChannel1, //
 				this.dummyChannel2, //
+				this.dummyChannel3, //
 				this.clock, //
 				() -> this.worker, //
 				() -> this.scheduler, //
@@ -259,6 +268,7 @@ public class OptimizerTest {
 				() -> SimulatorTest.GOC, //
 				this.dummyChannel1, //
 				this.dummyChannel2, //
+				this.dummyChannel3, //
 				this.clock, //
 				() -> this.worker, //
 				() -> this.scheduler, //
@@ -288,6 +298,7 @@ public class OptimizerTest {
 				() -> SimulatorTest.GOC, //
 				this.dummyChannel1, //
 				this.dummyChannel2, //
+				this.dummyChannel3, //
 				this.clock, //
 				() -> this.worker, //
 				() -> this.scheduler, //
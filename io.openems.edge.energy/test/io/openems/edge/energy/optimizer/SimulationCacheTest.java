@@ -0,0 +1,68 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.openems.edge.energy.api.simulation.GocUtils.normalizeEshModePreferenceRanks;
+import static io.openems.edge.energy.optimizer.SimulatorTest.DUMMY_SIMULATOR;
+import static io.openems.edge.energy.optimizer.SimulatorTest.GOC;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import io.openems.edge.energy.api.handler.Fitness;
+
+public class SimulationCacheTest {
+
+	private static Fitness simulate(int[] schedule, SimulationCache cache) {
+		return Simulator.simulate(GOC, DUMMY_SIMULATOR.modeCombinations, schedule, null,
+				normalizeEshModePreferenceRanks(GOC.eshsWithDifferentModes()), cache);
+	}
+
+	@Test
+	public void test() {
+		final var sut = SimulationCache.from(GOC, SimulationCache.DEFAULT_MEMORY_BUDGET);
+		final var random = new Random(123);
+		final var noOfPeriods = GOC.periods().size();
+		final var noOfModeCombinations = DUMMY_SIMULATOR.modeCombinations.size();
+
+		var schedule = random.ints(noOfPeriods, 0, noOfModeCombinations).toArray();
+		for (var i = 0; i < 50; i++) {
+			// Mutate one period
+			schedule = schedule.clone();
+			schedule[random.nextInt(noOfPeriods)] = random.nextInt(noOfModeCombinations);
+
+			var expected = simulate(schedule, null);
+			var actual = simulate(schedule, sut);
+			assertEquals(expected.toString(), actual.toString());
+		}
+
+		assertTrue(sut.getHitRate() > 0);
+		assertTrue(sut.getSkippedPeriods() > 0);
+	}
+
+	@Test
+	public void testMemoryBudget() {
+		// Budget is too small for even the smallest checkpoint
+		final var sut = SimulationCache.from(GOC,
+				SimulationCache.estimateSize(SimulationCache.CHECKPOINT_INTERVAL, 0) - 1);
+		final var schedule = new int[GOC.periods().size()];
+
+		simulate(schedule, sut);
+		simulate(schedule, sut);
+		assertEquals(0, sut.getHits());
+
+		// Same Schedule with enough budget
+		final var sut2 = SimulationCache.from(GOC, SimulationCache.DEFAULT_MEMORY_BUDGET);
+		simulate(schedule, sut2);
+		simulate(schedule, sut2);
+		assertEquals(1, sut2.getHits());
+	}
+
+	@Test
+	public void testDisabled() {
+		assertNull(SimulationCache.from(GOC, 0));
+	}
+
+}
@@ -4,6 +4,7 @@ import static io.jenetics.engine.Limits.byFixedGeneration;
 import static io.openems.edge.energy.api.EnergyUtils.socToEnergy;
 import static io.openems.edge.energy.optimizer.SimulationResult.EMPTY_SIMULATION_RESULT;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.time.Duration;
@@ -139,4 +140,46 @@ public class SimulatorTest {
 		assertEquals("BALANCING", ESH_TIME_OF_USE_TARIFF_CTRL.getCurrentPeriod().mode().toString());
 		assertEquals("FOO", ESH2.getCurrentPeriod().mode().toString());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testRunOptimizationWithIslands() {
+		final var simulator = new Simulator(GOC);
+		simulator.setIslands(2);
+		simulator.setEarliestCallbackDelay(Duration.ZERO);
+
+		var result = new AtomicReference<SimulationResult>();
+		simulator.runOptimization(//
+				() -> EMPTY_SIMULATION_RESULT, //
+				false /* optimizeCurrentPeriod */, //
+				null, //
+				stream -> stream //
+						.limit(byFixedGeneration(IslandModel.MIGRATION_INTERVAL + 5)), //
+				result::set);
+
+		assertEquals(2, result.get().schedules().size());
+		// Generations of both islands, including one migration
+		assertTrue(simulator.getTotalNumberOfGenerations() > 2 * IslandModel.MIGRATION_INTERVAL);
+	}
+
+	@Test
+	public void testRunOptimizationWithSimulationCache() {
+		final var simulator = new Simulator(GOC);
+		simulator.setEarliestCallbackDelay(Duration.ZERO);
+		final var cache = simulator.getSimulationCache();
+		assertNotNull(cache);
+
+		var result = new AtomicReference<SimulationResult>();
+		simulator.runOptimization(//
+				() -> EMPTY_SIMULATION_RESULT, //
+				false /* optimizeCurrentPeriod */, //
+				null, //
+				stream -> stream //
+						.limit(byFixedGeneration(20)), //
+				result::set);
+
+		assertEquals(2, result.get().schedules().size());
+		// Mutated Schedules are resumed from cached checkpoints
+		assertTrue(cache.getHits() > 0);
+		assertTrue(cache.getSkippedPeriods() > 0);
+	}
+}
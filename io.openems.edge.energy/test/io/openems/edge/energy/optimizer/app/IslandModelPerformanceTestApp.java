@@ -0,0 +1,116 @@
+package io.openems.edge.energy.optimizer.app;
+
+import static io.jenetics.engine.Limits.byExecutionTime;
+import static io.openems.edge.energy.api.test.DummyGlobalOptimizationContext.time;
+import static io.openems.edge.energy.optimizer.SimulationResult.EMPTY_SIMULATION_RESULT;
+import static io.openems.edge.energy.optimizer.app.ConsumptionTestData.CONSUMPTION;
+import static io.openems.edge.energy.optimizer.app.PricesTestData.PRICES_TIBBER_SUMMER_CLEAR;
+import static io.openems.edge.energy.optimizer.app.ProductionTestData.PRODUCTION_SUMMER_CLEAR;
+import static java.time.Duration.ofSeconds;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.common.base.Stopwatch;
+
+import io.jenetics.IntegerGene;
+import io.jenetics.engine.EvolutionResult;
+import io.openems.edge.energy.api.Environment;
+import io.openems.edge.energy.api.handler.Fitness;
+import io.openems.edge.energy.api.simulation.GlobalOptimizationContext;
+import io.openems.edge.energy.api.test.DummyGlobalOptimizationContext;
+import io.openems.edge.energy.optimizer.SimulationResult;
+import io.openems.edge.energy.optimizer.Simulator;
+import io.openems.edge.energy.optimizer.SimulatorTest;
+
+/**
+ * Compares the single-population Optimizer with the island model: reports
+ * generations per second and the best fitness over wall-clock time for a
+ * schedule of 96 quarters (one day).
+ */
+public class IslandModelPerformanceTestApp {
+
+	private static final Duration EXECUTION_TIME = ofSeconds(30);
+	private static final Duration SAMPLE_INTERVAL = ofSeconds(5);
+	private static final int[] ISLANDS = { 1, 2, 3, 4 };
+
+	/**
+	 * Runs the performance test.
+	 *
+	 * @param args the args
+	 */
+	public static void main(String[] args) {
+		final var goc = createGlobalOptimizationContext();
+		System.out.println("Periods: " + goc.periods().size() + " (from 96 quarters)");
+
+		for (var islands : ISLANDS) {
+			run(goc, islands);
+		}
+	}
+
+	private static void run(GlobalOptimizationContext goc, int islands) {
+		final var simulator = new Simulator(goc);
+		simulator.setIslands(islands);
+		simulator.setEarliestCallbackDelay(Duration.ZERO);
+
+		final var tracker = new Tracker(islands);
+		final var result = new AtomicReference<SimulationResult>();
+		simulator.runOptimization(//
+				() -> EMPTY_SIMULATION_RESULT, //
+				false /* optimizeCurrentPeriod */, //
+				null, //
+				stream -> stream //
+						.limit(byExecutionTime(EXECUTION_TIME)) //
+						.limit(tracker::onResult), //
+				result::set);
+
+		tracker.print();
+		System.out.println("Islands [" + islands + "] " //
+				+ "Generations/s [" + tracker.generations * 1000 / tracker.stopwatch.elapsed().toMillis() + "] " //
+				+ "Final " + result.get().fitness());
+		System.out.println();
+	}
+
+	private static class Tracker {
+		private final int islands;
+		private final Stopwatch stopwatch = Stopwatch.createStarted();
+
+		private long generations = 0;
+		private long nextSample = SAMPLE_INTERVAL.toMillis();
+		private Fitness best = null;
+
+		private Tracker(int islands) {
+			this.islands = islands;
+		}
+
+		private synchronized boolean onResult(EvolutionResult<IntegerGene, Fitness> er) {
+			this.generations++;
+			var fitness = er.bestFitness();
+			if (this.best == null || fitness.compareTo(this.best) < 0) {
+				this.best = fitness;
+			}
+			if (this.stopwatch.elapsed().toMillis() >= this.nextSample) {
+				this.nextSample += SAMPLE_INTERVAL.toMillis();
+				this.print();
+			}
+			return true;
+		}
+
+		private synchronized void print() {
+			System.out.println("Islands [" + this.islands + "] " //
+					+ "Time [" + this.stopwatch.elapsed().toSeconds() + "s] " //
+					+ "Generations [" + this.generations + "] " //
+					+ "Best " + this.best);
+		}
+	}
+
+	private static GlobalOptimizationContext createGlobalOptimizationContext() {
+		final var periods = GlobalOptimizationContext.Periods.create(Environment.TEST);
+		for (var i = 0; i < 96; i++) {
+			periods.add(time(0, i * 15), null, PRODUCTION_SUMMER_CLEAR[i], CONSUMPTION[i],
+					PRICES_TIBBER_SUMMER_CLEAR[i]);
+		}
+		return DummyGlobalOptimizationContext.fromHandlers(periods.build(), //
+				SimulatorTest.ESH0, SimulatorTest.ESH_TIME_OF_USE_TARIFF_CTRL, SimulatorTest.ESH2);
+	}
+}
@@ -24,6 +24,9 @@ import io.openems.edge.ess.power.api.SolverStrategy;
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default EssPower.DEFAULT_DEBUG_MODE;
 
+	@AttributeDefinition(name = "Reuse Solutions", description = "Reuses the solution of identical linear problems within and across Cycles instead of solving them again")
+	boolean reuseSolutions() default true;
+
 	@AttributeDefinition(name = "Enable PID Filter", description = "Enables the PID Filter with the settings for P, I and D below")
 	boolean enablePid() default true;
 
@@ -130,7 +130,7 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 				OPTIMIZE_BY_KEEPING_ALL_EQUAL, //
 				OPTIMIZE_BY_KEEPING_ALL_NEAR_EQUAL //
 			-> new PowerDistributionHandlerV1(//
-					config.strategy(), config.symmetricMode(), config.debugMode(), //
+					config.strategy(), config.symmetricMode(), config.debugMode(), config.reuseSolutions(), //
 					() -> this.esss, //
 					this::_setStaticConstraintsFailed, this::_setNotSolved, //
 					this::_setSolveDuration, this::_setSolveStrategy);
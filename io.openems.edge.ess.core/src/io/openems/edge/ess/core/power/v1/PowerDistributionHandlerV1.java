@@ -17,6 +17,7 @@ import io.openems.edge.common.type.Phase.SingleOrAllPhase;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
 import io.openems.edge.ess.core.power.PowerDistributionHandler;
 import io.openems.edge.ess.core.power.v1.data.ConstraintUtil;
+import io.openems.edge.ess.core.power.v1.solver.CachingSimplexSolver;
 import io.openems.edge.ess.core.power.v1.solver.CalculatePowerExtrema;
 import io.openems.edge.ess.power.api.Coefficient;
 import io.openems.edge.ess.power.api.Constraint;
@@ -34,11 +35,12 @@ public class PowerDistributionHandlerV1 implements PowerDistributionHandler {
 	private final SolverStrategy solverStrategy;
 	private final boolean debugMode;
 	private final Data data;
+	private final CachingSimplexSolver simplexSolver;
 	private final Solver solver;
 
 	public PowerDistributionHandlerV1(SolverStrategy solverStrategy, boolean symmetricMode, boolean debugMode,
-			Supplier<List<ManagedSymmetricEss>> esssSupplier, Consumer<Boolean> onStaticConstraintsFailed,
-			BooleanConsumer onSetNotSolved, IntConsumer onSetSolveDuration,
+			boolean reuseSolutions, Supplier<List<ManagedSymmetricEss>> esssSupplier,
+			Consumer<Boolean> onStaticConstraintsFailed, BooleanConsumer onSetNotSolved, IntConsumer onSetSolveDuration,
 			Consumer<SolverStrategy> onSetSolveStrategy) {
 		this.solverStrategy = solverStrategy;
 		this.debugMode = debugMode;
@@ -47,7 +49,8 @@ public class PowerDistributionHandlerV1 implements PowerDistributionHandler {
 		this.data.onStaticConstraintsFailed(onStaticConstraintsFailed);
 		this.data.setSymmetricMode(symmetricMode);
 
-		this.solver = new Solver(esssSupplier, this.data, debugMode);
+		this.simplexSolver = new CachingSimplexSolver(reuseSolutions);
+		this.solver = new Solver(esssSupplier, this.data, this.simplexSolver, debugMode);
 		this.solver.onSolved((isSolved, duration, strategy) -> {
 			onSetNotSolved.accept(!isSolved);
 			onSetSolveDuration.accept(duration);
@@ -126,7 +129,8 @@ public class PowerDistributionHandlerV1 implements PowerDistributionHandler {
 			this.log.error("Unable to get Constraints " + e.getMessage());
 			return 0;
 		}
-		var power = CalculatePowerExtrema.from(this.data.getCoefficients(), allConstraints, ess.id(), phase, pwr, goal);
+		var power = CalculatePowerExtrema.from(this.simplexSolver, this.data.getCoefficients(), allConstraints,
+				ess.id(), phase, pwr, goal);
 		if (power <= Integer.MIN_VALUE || power >= Integer.MAX_VALUE) {
 			this.log.error(goal.name() + " Power for [" + ess.toString() + "," + phase.toString() + "," + pwr.toString()
 					+ "=" + power + "] is out of bounds. Returning '0'");
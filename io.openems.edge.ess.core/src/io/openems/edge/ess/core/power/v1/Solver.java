@@ -34,6 +34,7 @@ import io.openems.edge.ess.core.power.v1.optimizers.KeepAllNearEqual;
 import io.openems.edge.ess.core.power.v1.optimizers.KeepTargetDirectionAndMaximizeInOrder;
 import io.openems.edge.ess.core.power.v1.optimizers.MoveTowardsTarget;
 import io.openems.edge.ess.core.power.v1.optimizers.Optimizers;
+import io.openems.edge.ess.core.power.v1.solver.CachingSimplexSolver;
 import io.openems.edge.ess.core.power.v1.solver.ConstraintSolver;
 import io.openems.edge.ess.core.power.v1.solver.PowerTuple;
 import io.openems.edge.ess.power.api.Constraint;
@@ -50,6 +51,7 @@ public class Solver {
 	private final Logger log = LoggerFactory.getLogger(Solver.class);
 	private final Supplier<List<ManagedSymmetricEss>> esssSupplier;
 	private final Data data;
+	private final CachingSimplexSolver simplexSolver;
 	private final Optimizers optimizers = new Optimizers();
 	private final boolean debugMode;
 
@@ -58,9 +60,11 @@ public class Solver {
 
 	private final ThrowingFunction<List<Inverter>, PointValuePair, Exception> solveWithDisabledInverters;
 
-	public Solver(Supplier<List<ManagedSymmetricEss>> esssSupplier, Data data, boolean debugMode) {
+	public Solver(Supplier<List<ManagedSymmetricEss>> esssSupplier, Data data, CachingSimplexSolver simplexSolver,
+			boolean debugMode) {
 		this.esssSupplier = esssSupplier;
 		this.data = data;
+		this.simplexSolver = simplexSolver;
 		this.debugMode = debugMode;
 
 		/**
@@ -74,7 +78,7 @@ public class Solver {
 		 */
 		this.solveWithDisabledInverters = disabledInverters -> {
 			var constraints = this.data.getConstraintsWithoutDisabledInverters(disabledInverters);
-			return ConstraintSolver.solve(this.data.getCoefficients(), constraints);
+			return ConstraintSolver.solve(this.simplexSolver, this.data.getCoefficients(), constraints);
 		};
 	}
 
@@ -94,7 +98,8 @@ public class Solver {
 	 */
 	public void isSolvableOrError() throws OpenemsException {
 		try {
-			ConstraintSolver.solve(this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
+			ConstraintSolver.solve(this.simplexSolver, this.data.getCoefficients(),
+					this.data.getConstraintsForAllInverters());
 		} catch (NoFeasibleSolutionException e) {
 			throw new PowerException(Type.NO_FEASIBLE_SOLUTION);
 		} catch (UnboundedSolutionException e) {
@@ -109,7 +114,8 @@ public class Solver {
 	 */
 	public boolean isSolvable() {
 		try {
-			ConstraintSolver.solve(this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
+			ConstraintSolver.solve(this.simplexSolver, this.data.getCoefficients(),
+					this.data.getConstraintsForAllInverters());
 			return true;
 		} catch (NoFeasibleSolutionException | UnboundedSolutionException | OpenemsException e) {
 			return false;
@@ -145,8 +151,8 @@ public class Solver {
 			allConstraints = this.data.getConstraintsForAllInverters();
 
 			// Add Strict constraints if required
-			AddConstraintsForNotStrictlyDefinedCoefficients.apply(allInverters, this.data.getCoefficients(),
-					allConstraints);
+			AddConstraintsForNotStrictlyDefinedCoefficients.apply(this.simplexSolver, allInverters,
+					this.data.getCoefficients(), allConstraints);
 
 			// Print log with currently active EQUALS != 0 Constraints
 			if (this.debugMode) {
@@ -160,6 +166,7 @@ public class Solver {
 
 			// Evaluates whether it is a CHARGE or DISCHARGE problem.
 			targetDirection = TargetDirection.from(//
+					this.simplexSolver, //
 					this.data.getInverters(), //
 					this.data.getCoefficients(), //
 					this.data.getConstraintsForAllInverters() //
@@ -257,18 +264,19 @@ public class Solver {
 			case BALANCE:
 				break;
 			case ALL_CONSTRAINTS:
-				solution = ConstraintSolver.solve(this.data.getCoefficients(), allConstraints);
+				solution = ConstraintSolver.solve(this.simplexSolver, this.data.getCoefficients(), allConstraints);
 				break;
 			case OPTIMIZE_BY_MOVING_TOWARDS_TARGET:
-				solution = MoveTowardsTarget.apply(this.data.getCoefficients(), targetDirection, allInverters,
-						targetInverters, allConstraints);
+				solution = MoveTowardsTarget.apply(this.simplexSolver, this.data.getCoefficients(), targetDirection,
+						allInverters, targetInverters, allConstraints);
 				break;
 			case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER:
-				solution = KeepTargetDirectionAndMaximizeInOrder.apply(this.data.getCoefficients(), allInverters,
-						targetInverters, allConstraints, targetDirection);
+				solution = KeepTargetDirectionAndMaximizeInOrder.apply(this.simplexSolver, this.data.getCoefficients(),
+						allInverters, targetInverters, allConstraints, targetDirection);
 				break;
 			case OPTIMIZE_BY_KEEPING_ALL_EQUAL:
-				solution = KeepAllEqual.apply(this.data.getCoefficients(), allInverters, allConstraints);
+				solution = KeepAllEqual.apply(this.simplexSolver, this.data.getCoefficients(), allInverters,
+						allConstraints);
 				break;
 			case OPTIMIZE_BY_KEEPING_ALL_NEAR_EQUAL:
 				solution = KeepAllNearEqual.apply(this.data.getCoefficients(), this.esssSupplier.get(), allInverters,
@@ -281,7 +289,7 @@ public class Solver {
 			}
 		}
 		// no strategy was successful -> try allConstraints
-		solution = ConstraintSolver.solve(this.data.getCoefficients(), allConstraints);
+		solution = ConstraintSolver.solve(this.simplexSolver, this.data.getCoefficients(), allConstraints);
 		if (solution != null) {
 			return new SolveSolution(SolverStrategy.ALL_CONSTRAINTS, solution);
 		}
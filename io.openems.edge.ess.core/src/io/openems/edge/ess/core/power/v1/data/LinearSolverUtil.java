@@ -13,6 +13,7 @@ import org.apache.commons.math3.optim.linear.LinearObjectiveFunction;
 
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.Relationship;
 
 public class LinearSolverUtil {
 
@@ -38,17 +39,26 @@ public class LinearSolverUtil {
 				cos[index] = co.getValue();
 			}
 
-			final var relationship = switch (c.relationship) {
-			case EQUALS -> EQ;
-			case GREATER_OR_EQUALS -> GEQ;
-			case LESS_OR_EQUALS -> LEQ;
-			};
-
-			result.add(new LinearConstraint(cos, relationship, value));
+			result.add(new LinearConstraint(cos, toLinearRelationship(c.relationship), value));
 		}
 		return result;
 	}
 
+	/**
+	 * Converts a {@link Relationship} to a commons-math
+	 * {@link org.apache.commons.math3.optim.linear.Relationship}.
+	 *
+	 * @param relationship the {@link Relationship}
+	 * @return the commons-math Relationship
+	 */
+	public static org.apache.commons.math3.optim.linear.Relationship toLinearRelationship(Relationship relationship) {
+		return switch (relationship) {
+		case EQUALS -> EQ;
+		case GREATER_OR_EQUALS -> GEQ;
+		case LESS_OR_EQUALS -> LEQ;
+		};
+	}
+
 	/**
 	 * Gets an empty coefficients array required for linear solver.
 	 *
@@ -6,6 +6,7 @@ import java.util.List;
 import org.apache.commons.math3.exception.MathIllegalStateException;
 
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.core.power.v1.solver.CachingSimplexSolver;
 import io.openems.edge.ess.core.power.v1.solver.ConstraintSolver;
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
@@ -22,6 +23,7 @@ public enum TargetDirection {
 	 * Gets the TargetDirection of the Problem, i.e. whether it is a DISCHARGE or
 	 * CHARGE problem.
 	 *
+	 * @param simplexSolver              the {@link CachingSimplexSolver}
 	 * @param inverters                  list of {@link Inverter}s
 	 * @param coefficients               the {@link Coefficients}
 	 * @param constraintsForAllInverters {@link Constraint}s for all
@@ -29,26 +31,26 @@ public enum TargetDirection {
 	 * @return the {@link TargetDirection}
 	 * @throws OpenemsException on error
 	 */
-	public static TargetDirection from(List<Inverter> inverters, Coefficients coefficients,
-			List<Constraint> constraintsForAllInverters) throws OpenemsException {
+	public static TargetDirection from(CachingSimplexSolver simplexSolver, List<Inverter> inverters,
+			Coefficients coefficients, List<Constraint> constraintsForAllInverters) throws OpenemsException {
 		var constraints = constraintsForAllInverters;
 		var equals0 = createSumOfPConstraint(inverters, coefficients, Relationship.EQUALS, 0);
 		constraints.add(equals0);
 		try {
-			ConstraintSolver.solve(coefficients, constraints);
+			ConstraintSolver.solve(simplexSolver, coefficients, constraints);
 			return TargetDirection.KEEP_ZERO;
 		} catch (MathIllegalStateException e) {
 			constraints.remove(equals0);
 			var greaterOrEquals0 = createSumOfPConstraint(inverters, coefficients, Relationship.GREATER_OR_EQUALS, 0);
 			constraints.add(greaterOrEquals0);
 			try {
-				ConstraintSolver.solve(coefficients, constraints);
+				ConstraintSolver.solve(simplexSolver, coefficients, constraints);
 				return TargetDirection.DISCHARGE;
 			} catch (MathIllegalStateException e2) {
 				constraints.remove(greaterOrEquals0);
 				var lessOrEquals0 = createSumOfPConstraint(inverters, coefficients, Relationship.LESS_OR_EQUALS, 0);
 				constraints.add(lessOrEquals0);
-				ConstraintSolver.solve(coefficients, constraints);
+				ConstraintSolver.solve(simplexSolver, coefficients, constraints);
 				return TargetDirection.CHARGE;
 			}
 		}
@@ -1,18 +1,16 @@
 package io.openems.edge.ess.core.power.v1.optimizers;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
-import org.apache.commons.math3.optim.linear.LinearConstraintSet;
-import org.apache.commons.math3.optim.linear.LinearObjectiveFunction;
 import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
-import org.apache.commons.math3.optim.linear.PivotSelectionRule;
-import org.apache.commons.math3.optim.linear.SimplexSolver;
 import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
 import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.ess.core.power.v1.data.LinearSolverUtil;
+import io.openems.edge.ess.core.power.v1.solver.CachingSimplexSolver;
 import io.openems.edge.ess.core.power.v1.solver.ConstraintSolver;
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
@@ -27,15 +25,16 @@ public class AddConstraintsForNotStrictlyDefinedCoefficients {
 	 * Adds Constraints for not strictly defined Coefficients, e.g. if only a P <= X
 	 * is defined, but no P = X.
 	 *
+	 * @param simplexSolver  the {@link CachingSimplexSolver}
 	 * @param allInverters   a list of all {@link Inverter}s
 	 * @param coefficients   the {@link Coefficients}
 	 * @param allConstraints a list of all {@link Constraint}s
 	 * @throws OpenemsException on error
 	 */
-	public static void apply(List<Inverter> allInverters, Coefficients coefficients, List<Constraint> allConstraints)
-			throws OpenemsException {
-		var constraints = new LinearConstraintSet(
-				LinearSolverUtil.convertToLinearConstraints(coefficients, allConstraints));
+	public static void apply(CachingSimplexSolver simplexSolver, List<Inverter> allInverters,
+			Coefficients coefficients, List<Constraint> allConstraints) throws OpenemsException {
+		// Extrema are calculated under the Constraints before this method was called
+		var constraints = new ArrayList<>(allConstraints);
 
 		for (Pwr pwr : Pwr.values()) {
 			// prepare objective function
@@ -44,17 +43,11 @@ public class AddConstraintsForNotStrictlyDefinedCoefficients {
 				var c = coefficients.of(inv.getEssId(), inv.getPhase(), pwr);
 				cos[c.getIndex()] = 1;
 			}
-			var objectiveFunction = new LinearObjectiveFunction(cos, 0);
 
 			// get Max value over all relevant Coefficients
 			double max;
 			try {
-				var solver = new SimplexSolver();
-				var solution = solver.optimize(//
-						objectiveFunction, //
-						constraints, //
-						GoalType.MAXIMIZE, //
-						PivotSelectionRule.BLAND);
+				var solution = simplexSolver.solve(coefficients, constraints, cos, GoalType.MAXIMIZE);
 				max = 0d;
 				for (Inverter inv : allInverters) {
 					var c = coefficients.of(inv.getEssId(), inv.getPhase(), pwr);
@@ -66,12 +59,7 @@ public class AddConstraintsForNotStrictlyDefinedCoefficients {
 			// get Min value over all relevant Coefficients
 			double min;
 			try {
-				var solver = new SimplexSolver();
-				var solution = solver.optimize(//
-						objectiveFunction, //
-						constraints, //
-						GoalType.MINIMIZE, //
-						PivotSelectionRule.BLAND);
+				var solution = simplexSolver.solve(coefficients, constraints, cos, GoalType.MINIMIZE);
 				min = 0d;
 				for (Inverter inv : allInverters) {
 					var c = coefficients.of(inv.getEssId(), inv.getPhase(), pwr);
@@ -130,7 +118,7 @@ public class AddConstraintsForNotStrictlyDefinedCoefficients {
 			allConstraints.addAll(newConstraints);
 			for (Constraint constraint : newConstraints) {
 				try {
-					ConstraintSolver.solve(coefficients, allConstraints);
+					ConstraintSolver.solve(simplexSolver, coefficients, allConstraints);
 					break;
 				} catch (NoFeasibleSolutionException | UnboundedSolutionException e) {
 					// Unable to add Constraint
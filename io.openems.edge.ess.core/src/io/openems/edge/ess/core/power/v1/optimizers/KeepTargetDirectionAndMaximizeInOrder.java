@@ -17,6 +17,7 @@ import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.ess.core.power.v1.data.TargetDirection;
+import io.openems.edge.ess.core.power.v1.solver.CachingSimplexSolver;
 import io.openems.edge.ess.core.power.v1.solver.CalculatePowerExtrema;
 import io.openems.edge.ess.core.power.v1.solver.ConstraintSolver;
 import io.openems.edge.ess.power.api.Coefficients;
@@ -30,6 +31,7 @@ public class KeepTargetDirectionAndMaximizeInOrder {
 	 * Tries to keep all Target Inverters in the right TargetDirection; then
 	 * maximizes them in order.
 	 *
+	 * @param simplexSolver   the {@link CachingSimplexSolver}
 	 * @param coefficients    the {@link Coefficients}
 	 * @param allInverters    all {@link Inverter}s
 	 * @param targetInverters the target {@link Inverter}s
@@ -38,9 +40,9 @@ public class KeepTargetDirectionAndMaximizeInOrder {
 	 * @return a solution as {@link PointValuePair} or null
 	 * @throws OpenemsException on error
 	 */
-	public static PointValuePair apply(Coefficients coefficients, List<Inverter> allInverters,
-			List<Inverter> targetInverters, List<Constraint> allConstraints, TargetDirection targetDirection)
-			throws OpenemsException {
+	public static PointValuePair apply(CachingSimplexSolver simplexSolver, Coefficients coefficients,
+			List<Inverter> allInverters, List<Inverter> targetInverters, List<Constraint> allConstraints,
+			TargetDirection targetDirection) throws OpenemsException {
 		List<Constraint> constraints = new ArrayList<>(allConstraints);
 
 		// Add Zero-Constraint for all Inverters that are not Target
@@ -55,7 +57,7 @@ public class KeepTargetDirectionAndMaximizeInOrder {
 			}
 		}
 
-		var result = ConstraintSolver.solve(coefficients, constraints);
+		var result = ConstraintSolver.solve(simplexSolver, coefficients, constraints);
 
 		var relationship = switch (targetDirection) {
 		case CHARGE -> LESS_OR_EQUALS;
@@ -66,11 +68,11 @@ public class KeepTargetDirectionAndMaximizeInOrder {
 		for (var inv : targetInverters) {
 			// Create Constraint to force Ess positive/negative/zero according to
 			// targetDirection
-			result = addContraintIfProblemStillSolves(result, constraints, coefficients,
+			result = addContraintIfProblemStillSolves(simplexSolver, result, constraints, coefficients,
 					createSimpleConstraint(coefficients, //
 							inv.toString() + ": Force ActivePower " + targetDirection.name(), //
 							inv.getEssId(), inv.getPhase(), Pwr.ACTIVE, relationship, 0));
-			result = addContraintIfProblemStillSolves(result, constraints, coefficients,
+			result = addContraintIfProblemStillSolves(simplexSolver, result, constraints, coefficients,
 					createSimpleConstraint(coefficients, //
 							inv.toString() + ": Force ReactivePower " + targetDirection.name(), //
 							inv.getEssId(), inv.getPhase(), Pwr.REACTIVE, relationship, 0));
@@ -87,16 +89,16 @@ public class KeepTargetDirectionAndMaximizeInOrder {
 			case DISCHARGE, KEEP_ZERO -> MAXIMIZE;
 			};
 
-			var activePowerTarget = CalculatePowerExtrema.from(coefficients, allConstraints, inv.getEssId(),
-					inv.getPhase(), Pwr.ACTIVE, goal);
-			result = addContraintIfProblemStillSolves(result, constraints, coefficients, //
+			var activePowerTarget = CalculatePowerExtrema.from(simplexSolver, coefficients, allConstraints,
+					inv.getEssId(), inv.getPhase(), Pwr.ACTIVE, goal);
+			result = addContraintIfProblemStillSolves(simplexSolver, result, constraints, coefficients, //
 					createConstraint(coefficients, //
 							inv.toString() + ": Set ActivePower " + goal.name() + " value", //
 							inv.getEssId(), inv.getPhase(), Pwr.ACTIVE, EQUALS, activePowerTarget));
 
-			var reactivePowerTarget = CalculatePowerExtrema.from(coefficients, allConstraints, inv.getEssId(),
-					inv.getPhase(), Pwr.REACTIVE, goal);
-			result = addContraintIfProblemStillSolves(result, constraints, coefficients, //
+			var reactivePowerTarget = CalculatePowerExtrema.from(simplexSolver, coefficients, allConstraints,
+					inv.getEssId(), inv.getPhase(), Pwr.REACTIVE, goal);
+			result = addContraintIfProblemStillSolves(simplexSolver, result, constraints, coefficients, //
 					createConstraint(coefficients, //
 							inv.toString() + ": Set ReactivePower " + goal.name() + " value", //
 							inv.getEssId(), inv.getPhase(), Pwr.REACTIVE, EQUALS, reactivePowerTarget));
@@ -108,18 +110,19 @@ public class KeepTargetDirectionAndMaximizeInOrder {
 	/**
 	 * Add Constraint only if the problem still solves with the Constraint.
 	 *
-	 * @param lastResult   the last result
-	 * @param constraints  the list of {@link Constraint}s
-	 * @param coefficients the {@link Coefficients}
-	 * @param c            the {@link Constraint} to be added
+	 * @param simplexSolver the {@link CachingSimplexSolver}
+	 * @param lastResult    the last result
+	 * @param constraints   the list of {@link Constraint}s
+	 * @param coefficients  the {@link Coefficients}
+	 * @param c             the {@link Constraint} to be added
 	 * @return new solution on success; last result on error
 	 */
-	private static PointValuePair addContraintIfProblemStillSolves(PointValuePair lastResult,
-			List<Constraint> constraints, Coefficients coefficients, Constraint c) {
+	private static PointValuePair addContraintIfProblemStillSolves(CachingSimplexSolver simplexSolver,
+			PointValuePair lastResult, List<Constraint> constraints, Coefficients coefficients, Constraint c) {
 		constraints.add(c);
 		// Try to solve with Constraint
 		try {
-			return ConstraintSolver.solve(coefficients, constraints); // only if solving was successful
+			return ConstraintSolver.solve(simplexSolver, coefficients, constraints); // only if solving was successful
 		} catch (NoFeasibleSolutionException | UnboundedSolutionException e) {
 			// solving failed
 			constraints.remove(c);
@@ -13,6 +13,7 @@ import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.ess.core.power.v1.data.ConstraintUtil;
 import io.openems.edge.ess.core.power.v1.data.TargetDirection;
+import io.openems.edge.ess.core.power.v1.solver.CachingSimplexSolver;
 import io.openems.edge.ess.core.power.v1.solver.ConstraintSolver;
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
@@ -30,6 +31,7 @@ public class MoveTowardsTarget {
 	 * weights using a learning rate. If this fails it tries to start from the
 	 * target weights towards a given existing solution.
 	 *
+	 * @param simplexSolver   the {@link CachingSimplexSolver}
 	 * @param coefficients    the {@link Coefficients}
 	 * @param allInverters    all {@link Inverter}s
 	 * @param targetInverters the target {@link Inverter}s
@@ -38,9 +40,9 @@ public class MoveTowardsTarget {
 	 * @return a solution as {@link PointValuePair} or null
 	 * @throws OpenemsException on error
 	 */
-	public static PointValuePair apply(Coefficients coefficients, TargetDirection targetDirection,
-			List<Inverter> allInverters, List<Inverter> targetInverters, List<Constraint> allConstraints)
-			throws OpenemsException {
+	public static PointValuePair apply(CachingSimplexSolver simplexSolver, Coefficients coefficients,
+			TargetDirection targetDirection, List<Inverter> allInverters, List<Inverter> targetInverters,
+			List<Constraint> allConstraints) throws OpenemsException {
 		// find maxLastActive + maxWeight
 		var maxLastActivePower = 0;
 		var sumWeights = 0;
@@ -146,7 +148,7 @@ public class MoveTowardsTarget {
 			}
 
 			try {
-				return ConstraintSolver.solve(coefficients, constraints);
+				return ConstraintSolver.solve(simplexSolver, coefficients, constraints);
 			} catch (NoFeasibleSolutionException | UnboundedSolutionException e) {
 				// Adjust next weights
 				for (Entry<Inverter, Double> entry : nextWeights.entrySet()) {
@@ -0,0 +1,228 @@
+package io.openems.edge.ess.core.power.v1.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.math3.optim.PointValuePair;
+import org.apache.commons.math3.optim.linear.LinearConstraint;
+import org.apache.commons.math3.optim.linear.LinearConstraintSet;
+import org.apache.commons.math3.optim.linear.LinearObjectiveFunction;
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.apache.commons.math3.optim.linear.PivotSelectionRule;
+import org.apache.commons.math3.optim.linear.SimplexSolver;
+import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+
+import io.openems.edge.ess.core.power.v1.data.LinearSolverUtil;
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.Relationship;
+
+/**
+ * Solves linear programs with the {@link SimplexSolver} and reuses the outcome
+ * of an identical problem that was solved before.
+ *
+ * <p>
+ * The Power-Solver solves the same problems many times per Cycle - e.g. for
+ * validation of every added Constraint, for every Power extrema requested by a
+ * Controller and for every {@link io.openems.edge.ess.power.api.SolverStrategy}
+ * that is tried - and, as long as limits and setpoints do not change, again in
+ * the next Cycle.
+ *
+ * <p>
+ * Constraints are encoded into a sparse primitive array that is used as exact
+ * cache key; {@link LinearConstraint}s are only created and the
+ * {@link SimplexSolver} is only run on a cache miss. Results are therefore
+ * identical to solving from scratch.
+ *
+ * <p>
+ * Every {@link io.openems.edge.ess.core.power.v1.PowerDistributionHandlerV1}
+ * owns its own instance, so the cache is discarded on reconfiguration.
+ */
+public final class CachingSimplexSolver {
+
+	private static final int MAX_ENTRIES = 128;
+
+	private final Map<Problem, Outcome> cache = new LinkedHashMap<>(16, 0.75F, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Problem, Outcome> eldest) {
+			return this.size() > MAX_ENTRIES;
+		}
+	};
+
+	private final boolean enabled;
+
+	// Reused encoding buffers; guarded by cache
+	private double[] buffer = new double[1024];
+	private double[] row = new double[0];
+
+	/**
+	 * Creates a {@link CachingSimplexSolver}.
+	 *
+	 * @param enabled false to solve every problem from scratch
+	 */
+	public CachingSimplexSolver(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Solves the problem with the given list of Constraints.
+	 *
+	 * @param coefficients the {@link Coefficients}
+	 * @param constraints  a list of Constraints
+	 * @param objective    the coefficients of the objective function
+	 * @param goal         the {@link GoalType}
+	 * @return a solution
+	 * @throws NoFeasibleSolutionException if not solvable
+	 * @throws UnboundedSolutionException  if not solvable
+	 */
+	public PointValuePair solve(Coefficients coefficients, List<Constraint> constraints, double[] objective,
+			GoalType goal) throws NoFeasibleSolutionException, UnboundedSolutionException {
+		if (!this.enabled) {
+			return optimize(LinearSolverUtil.convertToLinearConstraints(coefficients, constraints), objective, goal);
+		}
+
+		final Problem problem;
+		Outcome outcome;
+		synchronized (this.cache) {
+			problem = this.encode(coefficients.getNoOfCoefficients(), constraints, objective, goal);
+			outcome = this.cache.get(problem);
+		}
+		if (outcome == null) {
+			try {
+				outcome = new Outcome(optimize(problem.toLinearConstraints(), objective, goal), null);
+			} catch (NoFeasibleSolutionException | UnboundedSolutionException e) {
+				outcome = new Outcome(null, e);
+			}
+			synchronized (this.cache) {
+				this.cache.put(problem, outcome);
+			}
+		}
+		return outcome.get();
+	}
+
+	private static PointValuePair optimize(List<LinearConstraint> constraints, double[] objective, GoalType goal) {
+		var solver = new SimplexSolver();
+		return solver.optimize(//
+				new LinearObjectiveFunction(objective, 0), //
+				new LinearConstraintSet(constraints), //
+				goal, //
+				PivotSelectionRule.BLAND);
+	}
+
+	/**
+	 * Encodes the problem as [noOfCoefficients, goal, n, objective * n] followed by one
+	 * block per Constraint: [relationship, value, n, (index, coefficient) * n].
+	 *
+	 * @param noOfCoefficients the number of Coefficients
+	 * @param constraints      the Constraints
+	 * @param objective        the objective function
+	 * @param goal             the {@link GoalType}
+	 * @return the {@link Problem}
+	 */
+	private Problem encode(int noOfCoefficients, List<Constraint> constraints, double[] objective, GoalType goal) {
+		if (this.row.length != noOfCoefficients) {
+			this.row = new double[noOfCoefficients];
+		}
+		var pos = 0;
+		this.ensureCapacity(3 + objective.length);
+		this.buffer[pos++] = noOfCoefficients;
+		this.buffer[pos++] = goal.ordinal();
+		this.buffer[pos++] = objective.length;
+		for (var value : objective) {
+			this.buffer[pos++] = value;
+		}
+		for (var c : constraints) {
+			// Same semantics as LinearSolverUtil#convertToLinearConstraints()
+			for (var co : c.coefficients) {
+				var index = co.getCoefficient().getIndex();
+				if (index >= noOfCoefficients) { // check for race conditions
+					continue;
+				}
+				this.row[index] = co.getValue();
+			}
+			this.ensureCapacity(pos + 3 + 2 * noOfCoefficients);
+			this.buffer[pos++] = c.relationship.ordinal();
+			this.buffer[pos++] = c.value;
+			final var countPos = pos++;
+			var count = 0;
+			for (var i = 0; i < noOfCoefficients; i++) {
+				final var value = this.row[i];
+				if (Double.doubleToRawLongBits(value) != 0L) { // keeps -0.0
+					this.buffer[pos++] = i;
+					this.buffer[pos++] = value;
+					this.row[i] = 0.;
+					count++;
+				}
+			}
+			this.buffer[countPos] = count;
+		}
+		return new Problem(Arrays.copyOf(this.buffer, pos));
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > this.buffer.length) {
+			this.buffer = Arrays.copyOf(this.buffer, Math.max(capacity, this.buffer.length * 2));
+		}
+	}
+
+	private static final class Problem {
+
+		private final double[] data;
+		private final int hashCode;
+
+		private Problem(double[] data) {
+			this.data = data;
+			this.hashCode = Arrays.hashCode(data);
+		}
+
+		private List<LinearConstraint> toLinearConstraints() {
+			final var noOfCoefficients = (int) this.data[0];
+			final var result = new ArrayList<LinearConstraint>();
+			var pos = 3 + (int) this.data[2];
+			while (pos < this.data.length) {
+				final var relationship = Relationship.values()[(int) this.data[pos++]];
+				final var value = this.data[pos++];
+				final var count = (int) this.data[pos++];
+				final var cos = LinearSolverUtil.generateEmptyCoefficientsArray(noOfCoefficients);
+				for (var i = 0; i < count; i++, pos += 2) {
+					cos[(int) this.data[pos]] = this.data[pos + 1];
+				}
+				result.add(new LinearConstraint(cos, LinearSolverUtil.toLinearRelationship(relationship), value));
+			}
+			return result;
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return this == obj //
+					|| obj instanceof Problem other && this.hashCode == other.hashCode
+							&& Arrays.equals(this.data, other.data);
+		}
+	}
+
+	private record Outcome(PointValuePair solution, RuntimeException exception) {
+
+		private PointValuePair get() {
+			if (this.exception instanceof NoFeasibleSolutionException) {
+				throw new NoFeasibleSolutionException();
+			}
+			if (this.exception instanceof UnboundedSolutionException) {
+				throw new UnboundedSolutionException();
+			}
+			// PointValuePair holds a mutable array
+			return new PointValuePair(this.solution.getPointRef(), this.solution.getValue());
+		}
+	}
+
+}
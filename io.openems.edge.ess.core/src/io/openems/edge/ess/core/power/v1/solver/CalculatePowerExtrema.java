@@ -2,11 +2,7 @@ package io.openems.edge.ess.core.power.v1.solver;
 
 import java.util.List;
 
-import org.apache.commons.math3.optim.linear.LinearConstraintSet;
-import org.apache.commons.math3.optim.linear.LinearObjectiveFunction;
 import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
-import org.apache.commons.math3.optim.linear.PivotSelectionRule;
-import org.apache.commons.math3.optim.linear.SimplexSolver;
 import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
 import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 import org.slf4j.Logger;
@@ -28,6 +24,7 @@ public class CalculatePowerExtrema {
 	 * Calculates the extrema under the current constraints for the given
 	 * parameters.
 	 *
+	 * @param simplexSolver  the {@link CachingSimplexSolver}
 	 * @param coefficients   the {@link Coefficients}
 	 * @param allConstraints all active {@link Constraint}s
 	 * @param essId          the ID of the {@link ManagedSymmetricEss}
@@ -36,8 +33,8 @@ public class CalculatePowerExtrema {
 	 * @param goal           the {@link GoalType}
 	 * @return the extrema value; or 0 on error
 	 */
-	public static double from(Coefficients coefficients, List<Constraint> allConstraints, String essId,
-			SingleOrAllPhase phase, Pwr pwr, GoalType goal) {
+	public static double from(CachingSimplexSolver simplexSolver, Coefficients coefficients,
+			List<Constraint> allConstraints, String essId, SingleOrAllPhase phase, Pwr pwr, GoalType goal) {
 		// prepare objective function
 		int index;
 		try {
@@ -48,18 +45,9 @@ public class CalculatePowerExtrema {
 		}
 		var cos = LinearSolverUtil.generateEmptyCoefficientsArray(coefficients.getNoOfCoefficients());
 		cos[index] = 1;
-		var objectiveFunction = new LinearObjectiveFunction(cos, 0);
 
-		var constraints = new LinearConstraintSet(
-				LinearSolverUtil.convertToLinearConstraints(coefficients, allConstraints));
-
-		var solver = new SimplexSolver();
 		try {
-			var solution = solver.optimize(//
-					objectiveFunction, //
-					constraints, //
-					goal, //
-					PivotSelectionRule.BLAND);
+			var solution = simplexSolver.solve(coefficients, allConstraints, cos, goal);
 			return solution.getPoint()[index];
 
 		} catch (UnboundedSolutionException e) {
@@ -1,10 +1,12 @@
 package io.openems.edge.ess.core.power.v1.solver;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.commons.math3.optim.PointValuePair;
 import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
 import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 
 import io.openems.edge.ess.core.power.v1.data.LinearSolverUtil;
 import io.openems.edge.ess.power.api.Coefficients;
@@ -15,16 +17,18 @@ public class ConstraintSolver {
 	/**
 	 * Solves the problem with the given list of Constraints.
 	 *
-	 * @param coefficients the {@link Coefficients}
-	 * @param constraints  a list of Constraints
+	 * @param simplexSolver the {@link CachingSimplexSolver}
+	 * @param coefficients  the {@link Coefficients}
+	 * @param constraints   a list of Constraints
 	 * @return a solution
 	 * @throws NoFeasibleSolutionException if not solvable
 	 * @throws UnboundedSolutionException  if not solvable
 	 */
-	public static PointValuePair solve(Coefficients coefficients, List<Constraint> constraints)
-			throws NoFeasibleSolutionException, UnboundedSolutionException {
-		var linearConstraints = LinearSolverUtil.convertToLinearConstraints(coefficients, constraints);
-		return LinearConstraintsSolver.solve(coefficients, linearConstraints);
+	public static PointValuePair solve(CachingSimplexSolver simplexSolver, Coefficients coefficients,
+			List<Constraint> constraints) throws NoFeasibleSolutionException, UnboundedSolutionException {
+		var objective = LinearSolverUtil.generateEmptyCoefficientsArray(coefficients.getNoOfCoefficients());
+		Arrays.fill(objective, 1);
+		return simplexSolver.solve(coefficients, constraints, objective, GoalType.MINIMIZE);
 	}
 
 }
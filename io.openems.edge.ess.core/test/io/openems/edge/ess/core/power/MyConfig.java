@@ -10,6 +10,7 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private SolverStrategy strategy;
 		private boolean symmetricMode;
 		private boolean debugMode;
+		private boolean reuseSolutions = true;
 		private boolean enablePid;
 		private double p;
 		private double i;
@@ -35,6 +36,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setReuseSolutions(boolean reuseSolutions) {
+			this.reuseSolutions = reuseSolutions;
+			return this;
+		}
+
 		public Builder setEnablePid(boolean enablePid) {
 			this.enablePid = enablePid;
 			return this;
@@ -101,6 +107,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.debugMode;
 	}
 
+	@Override
+	public boolean reuseSolutions() {
+		return this.builder.reuseSolutions;
+	}
+
 	@Override
 	public boolean enablePid() {
 		return this.builder.enablePid;
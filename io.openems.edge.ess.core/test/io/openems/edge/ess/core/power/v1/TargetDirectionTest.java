@@ -11,7 +11,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import io.openems.edge.ess.core.power.v1.data.TargetDirection;
-import io.openems.edge.ess.core.power.v1.solver.LinearConstraintsSolver;
+import io.openems.edge.ess.core.power.v1.solver.CachingSimplexSolver;
 import io.openems.edge.ess.test.DummyManagedSymmetricEss;
 
 public class TargetDirectionTest {
@@ -19,7 +19,7 @@ public class TargetDirectionTest {
 	private static DummyManagedSymmetricEss ess0;
 	private static Data data;
 
-	public static final LinearConstraintsSolver linearConstraintsSolver = new LinearConstraintsSolver();
+	private static CachingSimplexSolver simplexSolver;
 
 	@Before
 	public void before() {
@@ -28,6 +28,7 @@ public class TargetDirectionTest {
 				.withAllowedDischargePower(9000) //
 				.withMaxApparentPower(5000);
 		data = new Data(() -> List.of(ess0));
+		simplexSolver = new CachingSimplexSolver(true);
 	}
 
 	@Test
@@ -35,21 +36,21 @@ public class TargetDirectionTest {
 		// #1
 		data.addSimpleConstraint("", ess0.id(), ALL, ACTIVE, EQUALS, 0);
 		assertEquals(TargetDirection.KEEP_ZERO, //
-				TargetDirection.from(data.getInverters(), data.getCoefficients(),
+				TargetDirection.from(simplexSolver, data.getInverters(), data.getCoefficients(),
 						data.getConstraintsForAllInverters()));
 		data.initializeCycle();
 
 		// #2
 		data.addSimpleConstraint("", ess0.id(), ALL, ACTIVE, EQUALS, -1);
 		assertEquals(TargetDirection.CHARGE, //
-				TargetDirection.from(data.getInverters(), data.getCoefficients(),
+				TargetDirection.from(simplexSolver, data.getInverters(), data.getCoefficients(),
 						data.getConstraintsForAllInverters()));
 		data.initializeCycle();
 
 		// #3
 		data.addSimpleConstraint("", ess0.id(), ALL, ACTIVE, EQUALS, 1);
 		assertEquals(TargetDirection.DISCHARGE, //
-				TargetDirection.from(data.getInverters(), data.getCoefficients(),
+				TargetDirection.from(simplexSolver, data.getInverters(), data.getCoefficients(),
 						data.getConstraintsForAllInverters()));
 	}
 }
@@ -0,0 +1,134 @@
+package io.openems.edge.ess.core.power.v1.solver;
+
+import static io.openems.edge.common.type.Phase.SingleOrAllPhase.ALL;
+import static io.openems.edge.ess.power.api.Pwr.ACTIVE;
+import static io.openems.edge.ess.power.api.Pwr.REACTIVE;
+import static io.openems.edge.ess.power.api.Relationship.EQUALS;
+import static io.openems.edge.ess.power.api.Relationship.LESS_OR_EQUALS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+
+import io.openems.edge.ess.api.ManagedSymmetricEss;
+import io.openems.edge.ess.core.power.v1.PowerDistributionHandlerV1;
+import io.openems.edge.ess.power.api.SolverStrategy;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+
+/**
+ * Compares the Power-Solver with and without {@link CachingSimplexSolver} on a
+ * recorded sequence of Cycles of a cluster of ESS.
+ *
+ * <p>
+ * Every Cycle Controllers query the Power extrema and set the Active- and
+ * Reactive-Power of the cluster; the setpoint changes every few Cycles, the
+ * allowed charge/discharge power of single ESS less often. Reports the average
+ * duration per Cycle and verifies that the applied Power is identical.
+ */
+public class CachingSimplexSolverPerformanceTestApp {
+
+	private static final int NUMBER_OF_ESS = 12;
+	private static final int CYCLES = 2_000;
+	private static final int WARMUP_CYCLES = 200;
+	private static final int SETPOINT_CYCLES = 5;
+	private static final int LIMIT_CYCLES = 60;
+
+	/**
+	 * Runs the performance test.
+	 *
+	 * @param args the args
+	 * @throws Exception on error
+	 */
+	public static void main(String[] args) throws Exception {
+		// Warmup
+		run(false, WARMUP_CYCLES);
+		run(true, WARMUP_CYCLES);
+
+		var start = System.nanoTime();
+		final var uncached = run(false, CYCLES);
+		final var uncachedNanos = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		final var cached = run(true, CYCLES);
+		final var cachedNanos = System.nanoTime() - start;
+
+		var mismatches = 0;
+		for (var i = 0; i < CYCLES; i++) {
+			if (!Arrays.equals(uncached.get(i), cached.get(i))) {
+				mismatches++;
+			}
+		}
+
+		System.out.println("ESS: " + NUMBER_OF_ESS + ", Cycles: " + CYCLES);
+		System.out.println(String.format("Uncached: %.2f ms/Cycle", uncachedNanos / 1_000_000.0 / CYCLES));
+		System.out.println(String.format("Cached:   %.2f ms/Cycle", cachedNanos / 1_000_000.0 / CYCLES));
+		System.out.println("Cycles with different result: " + mismatches);
+	}
+
+	private static List<int[]> run(boolean reuseSolutions, int cycles) throws Exception {
+		final var random = new Random(0);
+
+		final var esss = new ArrayList<ManagedSymmetricEss>();
+		final var dummies = new DummyManagedSymmetricEss[NUMBER_OF_ESS];
+		for (var i = 0; i < NUMBER_OF_ESS; i++) {
+			dummies[i] = new DummyManagedSymmetricEss("ess" + i) //
+					.withAllowedChargePower(-50_000) //
+					.withAllowedDischargePower(50_000) //
+					.withMaxApparentPower(40_000) //
+					.withSoc(50 + i);
+			esss.add(dummies[i]);
+		}
+
+		final var handler = new PowerDistributionHandlerV1(SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET, false,
+				false, reuseSolutions, () -> esss, failed -> {
+				}, notSolved -> {
+				}, duration -> {
+				}, strategy -> {
+				});
+		handler.onUpdateEsss();
+
+		final var result = new ArrayList<int[]>(cycles);
+		var setpoint = 0;
+		for (var cycle = 0; cycle < cycles; cycle++) {
+			if (cycle % LIMIT_CYCLES == 0) {
+				final var ess = dummies[random.nextInt(NUMBER_OF_ESS)];
+				ess.withAllowedChargePower(-random.nextInt(50_000));
+				ess.withAllowedDischargePower(random.nextInt(50_000));
+			}
+			if (cycle % SETPOINT_CYCLES == 0) {
+				setpoint = random.nextInt(200_000) - 100_000;
+			}
+
+			// Controllers
+			for (var ess : dummies) {
+				handler.getPowerExtrema(ess, ALL, ACTIVE, GoalType.MAXIMIZE);
+				handler.getPowerExtrema(ess, ALL, ACTIVE, GoalType.MINIMIZE);
+			}
+			handler.addConstraintAndValidate(handler.createSimpleConstraint("Max P", dummies[0], ALL, ACTIVE,
+					LESS_OR_EQUALS, 400_000));
+			for (var ess : dummies) {
+				var max = handler.getPowerExtrema(ess, ALL, ACTIVE, GoalType.MAXIMIZE);
+				var min = handler.getPowerExtrema(ess, ALL, ACTIVE, GoalType.MINIMIZE);
+				var p = Math.max(min, Math.min(max, setpoint / NUMBER_OF_ESS));
+				handler.addConstraintAndValidate(handler.createSimpleConstraint("Set P", ess, ALL, ACTIVE, EQUALS, p));
+				handler.addConstraintAndValidate(handler.createSimpleConstraint("Set Q", ess, ALL, REACTIVE, EQUALS, 0));
+			}
+
+			// Solve
+			handler.onBeforeWriteEvent();
+			handler.onAfterWriteEvent();
+
+			final var applied = new int[NUMBER_OF_ESS * 2];
+			for (var i = 0; i < NUMBER_OF_ESS; i++) {
+				applied[i * 2] = dummies[i].getDebugSetActivePowerChannel().getNextValue().orElse(0);
+				applied[i * 2 + 1] = dummies[i].getDebugSetReactivePowerChannel().getNextValue().orElse(0);
+			}
+			result.add(applied);
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,79 @@
+package io.openems.edge.ess.core.power.v1.solver;
+
+import static io.openems.edge.common.type.Phase.SingleOrAllPhase.ALL;
+import static io.openems.edge.ess.core.power.v1.data.ConstraintUtil.createSimpleConstraint;
+import static io.openems.edge.ess.power.api.Pwr.ACTIVE;
+import static io.openems.edge.ess.power.api.Pwr.REACTIVE;
+import static io.openems.edge.ess.power.api.Relationship.EQUALS;
+import static io.openems.edge.ess.power.api.Relationship.GREATER_OR_EQUALS;
+import static io.openems.edge.ess.power.api.Relationship.LESS_OR_EQUALS;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Constraint;
+
+public class CachingSimplexSolverTest {
+
+	@Test
+	public void testSameResultAsUncached() throws OpenemsException {
+		final var coefficients = new Coefficients();
+		coefficients.initialize(false, Set.of("ess0", "ess1"));
+		final var constraints = constraints(coefficients);
+		final var objective = new double[coefficients.getNoOfCoefficients()];
+		objective[coefficients.of("ess0", ALL, ACTIVE).getIndex()] = 1;
+
+		final var expected = new CachingSimplexSolver(false).solve(coefficients, constraints, objective,
+				GoalType.MAXIMIZE);
+
+		final var sut = new CachingSimplexSolver(true);
+		final var first = sut.solve(coefficients, constraints, objective, GoalType.MAXIMIZE);
+		final var second = sut.solve(coefficients, constraints(coefficients), objective, GoalType.MAXIMIZE);
+
+		assertArrayEquals(expected.getPoint(), first.getPoint(), 0);
+		assertArrayEquals(expected.getPoint(), second.getPoint(), 0);
+		assertEquals(expected.getValue(), second.getValue());
+		assertEquals(3000, second.getPoint()[coefficients.of("ess0", ALL, ACTIVE).getIndex()], 0);
+		assertNotSame(first.getPointRef(), second.getPointRef());
+
+		// Different goal is a different problem
+		final var min = sut.solve(coefficients, constraints, objective, GoalType.MINIMIZE);
+		assertEquals(-2000, min.getPoint()[coefficients.of("ess0", ALL, ACTIVE).getIndex()], 0);
+	}
+
+	@Test
+	public void testNoFeasibleSolution() throws OpenemsException {
+		final var coefficients = new Coefficients();
+		coefficients.initialize(false, Set.of("ess0"));
+		final var constraints = new ArrayList<Constraint>(constraints(coefficients));
+		constraints.add(createSimpleConstraint(coefficients, "Infeasible", "ess0", ALL, ACTIVE, EQUALS, 5000));
+
+		final var sut = new CachingSimplexSolver(true);
+		for (var i = 0; i < 2; i++) {
+			try {
+				ConstraintSolver.solve(sut, coefficients, constraints);
+				throw new AssertionError("Expected NoFeasibleSolutionException");
+			} catch (NoFeasibleSolutionException e) {
+				// expected; second time from cache
+			}
+		}
+	}
+
+	private static List<Constraint> constraints(Coefficients coefficients) throws OpenemsException {
+		return List.of(//
+				createSimpleConstraint(coefficients, "Max", "ess0", ALL, ACTIVE, LESS_OR_EQUALS, 3000), //
+				createSimpleConstraint(coefficients, "Min", "ess0", ALL, ACTIVE, GREATER_OR_EQUALS, -2000), //
+				createSimpleConstraint(coefficients, "Q", "ess0", ALL, REACTIVE, EQUALS, 0));
+	}
+
+}
@@ -1,7 +1,11 @@
 package io.openems.edge.predictor.api.manager;
 
+import io.openems.common.channel.Unit;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.LongReadChannel;
+import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.predictor.api.prediction.Prediction;
 import io.openems.edge.predictor.api.prediction.Predictor;
@@ -12,7 +16,26 @@ public interface PredictorManager extends OpenemsComponent {
 	public static final String SINGLETON_COMPONENT_ID = "_predictorManager";
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+		/**
+		 * Number of {@link Prediction}s served from the cache since activation.
+		 */
+		CACHE_HITS(Doc.of(OpenemsType.LONG) //
+				.text("Number of predictions served from the cache")), //
+		/**
+		 * Number of {@link Prediction}s that were computed, because they were not
+		 * cached, since activation.
+		 */
+		CACHE_MISSES(Doc.of(OpenemsType.LONG) //
+				.text("Number of predictions that were not cached")), //
+		/**
+		 * Duration of the last computation of a {@link Prediction} that was not
+		 * cached.
+		 */
+		PREDICTION_COMPUTE_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS) //
+				.text("Duration of the last computation of a prediction")), //
 		;
+
 		private final Doc doc;
 
 		private ChannelId(Doc doc) {
@@ -34,4 +57,91 @@ public interface PredictorManager extends OpenemsComponent {
 	 *         Predictor matches the Channel-Address
 	 */
 	public Prediction getPrediction(ChannelAddress channelAddress);
+
+	/**
+	 * Gets the Channel for {@link ChannelId#CACHE_HITS}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getCacheHitsChannel() {
+		return this.channel(ChannelId.CACHE_HITS);
+	}
+
+	/**
+	 * Gets the number of {@link Prediction}s served from the cache. See
+	 * {@link ChannelId#CACHE_HITS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getCacheHits() {
+		return this.getCacheHitsChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#CACHE_HITS}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setCacheHits(Long value) {
+		this.getCacheHitsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#CACHE_MISSES}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getCacheMissesChannel() {
+		return this.channel(ChannelId.CACHE_MISSES);
+	}
+
+	/**
+	 * Gets the number of {@link Prediction}s that were not cached. See
+	 * {@link ChannelId#CACHE_MISSES}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getCacheMisses() {
+		return this.getCacheMissesChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#CACHE_MISSES}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setCacheMisses(Long value) {
+		this.getCacheMissesChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PREDICTION_COMPUTE_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getPredictionComputeTimeChannel() {
+		return this.channel(ChannelId.PREDICTION_COMPUTE_TIME);
+	}
+
+	/**
+	 * Gets the duration of the last computation of a {@link Prediction} in [ms].
+	 * See {@link ChannelId#PREDICTION_COMPUTE_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getPredictionComputeTime() {
+		return this.getPredictionComputeTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PREDICTION_COMPUTE_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPredictionComputeTime(Long value) {
+		this.getPredictionComputeTimeChannel().setNextValue(value);
+	}
 }
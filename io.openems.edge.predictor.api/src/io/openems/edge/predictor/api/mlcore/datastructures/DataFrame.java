@@ -1,7 +1,8 @@
 package io.openems.edge.predictor.api.mlcore.datastructures;
 
+import java.nio.DoubleBuffer;
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -9,27 +10,34 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.OptionalDouble;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import io.openems.edge.predictor.api.mlcore.transformer.DataFrameTransformer;
 
+/**
+ * A table of {@code double} values with a row index and named columns.
+ *
+ * <p>
+ * Values are stored column by column in primitive arrays. Missing values are
+ * {@link Double#NaN}; {@code null} values set via the boxed API are kept as
+ * {@code null} there, but appear as {@link Double#NaN} in the primitive views.
+ *
+ * @param <I> the type of the row index
+ */
 public class DataFrame<I> implements DataStructure<I> {
 
-	private final List<I> index;
+	private Index<I> index;
 	private final List<String> columnNames;
-	private final List<List<Double>> values;
-	private final Map<I, Integer> indexToRowPos;
+	private final List<DoubleColumn> columns;
 	private final Map<String, Integer> columnNameToColumnPos;
 
 	public DataFrame() {
-		this.index = new ArrayList<>();
+		this.index = Index.of(List.of());
 		this.columnNames = new ArrayList<>();
-		this.values = new ArrayList<>();
-		this.indexToRowPos = new HashMap<>();
+		this.columns = new ArrayList<>();
 		this.columnNameToColumnPos = new HashMap<>();
 	}
 
@@ -48,18 +56,35 @@ public class DataFrame<I> implements DataStructure<I> {
 			}
 		}
 
-		this.checkForDuplicates(index, "index");
-		this.checkForDuplicates(columnNames, "column name");
+		checkForDuplicates(columnNames, "column name");
 
-		this.index = new ArrayList<>(index);
+		this.index = Index.of(index);
 		this.columnNames = new ArrayList<>(columnNames);
-		this.values = values.stream()//
-				.map(ArrayList::new)//
-				.collect(Collectors.toList());
+		this.columns = new ArrayList<>(columnNames.size());
+		for (int j = 0; j < columnNames.size(); j++) {
+			this.columns.add(DoubleColumn.filled(index.size(), Double.NaN));
+		}
+		var i = 0;
+		for (var row : values) {
+			var j = 0;
+			for (var value : row) {
+				this.columns.get(j++).set(i, value);
+			}
+			i++;
+		}
+
+		this.columnNameToColumnPos = new HashMap<>();
+		this.rebuildColumnPositions();
+	}
 
-		this.indexToRowPos = new HashMap<>();
+	private DataFrame(Index<I> index, List<String> columnNames, List<DoubleColumn> columns) {
+		checkForDuplicates(columnNames, "column name");
+
+		this.index = index;
+		this.columnNames = new ArrayList<>(columnNames);
+		this.columns = new ArrayList<>(columns);
 		this.columnNameToColumnPos = new HashMap<>();
-		this.rebuildIndices();
+		this.rebuildColumnPositions();
 	}
 
 	/**
@@ -88,37 +113,67 @@ public class DataFrame<I> implements DataStructure<I> {
 			return new DataFrame<>();
 		}
 
-		List<I> index = null;
+		Series<I> first = null;
 		var columnNames = new ArrayList<String>(seriesMap.keySet());
-		var values = new ArrayList<List<Double>>();
+		var columns = new ArrayList<DoubleColumn>(columnNames.size());
 
 		for (var colName : columnNames) {
 			var series = seriesMap.get(colName);
-			if (index == null) {
-				index = series.getIndex();
-				for (int i = 0; i < index.size(); i++) {
-					values.add(new ArrayList<>());
-				}
-			} else {
-				if (!series.getIndex().equals(index)) {
-					throw new IllegalArgumentException("All series must have the same index");
-				}
+			if (first == null) {
+				first = series;
+			} else if (!series.getIndex().equals(first.getIndex())) {
+				throw new IllegalArgumentException("All series must have the same index");
 			}
+			columns.add(series.column().copy());
+		}
+
+		return new DataFrame<>(first.index().share(), columnNames, columns);
+	}
 
-			var seriesValues = series.getValues();
-			for (int i = 0; i < seriesValues.size(); i++) {
-				values.get(i).add(seriesValues.get(i));
+	/**
+	 * Creates a DataFrame from a map of column names to arrays of values. The
+	 * arrays are used as storage and are not copied. Missing values are
+	 * {@link Double#NaN}.
+	 *
+	 * @param index   the row index
+	 * @param columns map of column names to values
+	 * @param <I>     type of the row index
+	 * @return DataFrame constructed from the columns
+	 * @throws IllegalArgumentException if the length of an array does not match
+	 *                                  the index
+	 */
+	public static <I> DataFrame<I> fromColumns(List<I> index, Map<String, double[]> columns) {
+		Objects.requireNonNull(index, "Index must not be null");
+		Objects.requireNonNull(columns, "Columns must not be null");
+
+		var columnNames = new ArrayList<String>(columns.size());
+		var values = new ArrayList<DoubleColumn>(columns.size());
+		for (var entry : columns.entrySet()) {
+			if (entry.getValue().length != index.size()) {
+				throw new IllegalArgumentException("Column length must match index size: " + entry.getKey());
 			}
+			columnNames.add(entry.getKey());
+			values.add(DoubleColumn.wrap(entry.getValue()));
 		}
-
-		return new DataFrame<>(index, columnNames, values);
+		return new DataFrame<>(Index.of(index), columnNames, values);
 	}
 
 	// --- accessors / getters --- //
 
 	@Override
 	public List<I> getIndex() {
-		return Collections.unmodifiableList(this.index);
+		return new AbstractList<I>() {
+
+			@Override
+			public I get(int position) {
+				return DataFrame.this.index.get(position);
+			}
+
+			@Override
+			public int size() {
+				return DataFrame.this.index.size();
+			}
+		};
 	}
 
 	/**
@@ -136,9 +191,30 @@ public class DataFrame<I> implements DataStructure<I> {
 	 * @return unmodifiable list of rows with unmodifiable row values
 	 */
 	public List<List<Double>> getValues() {
-		return this.values.stream()//
-				.map(Collections::unmodifiableList)//
-				.toList();
+		return new AbstractList<List<Double>>() {
+
+			@Override
+			public List<Double> get(int rowPosition) {
+				Objects.checkIndex(rowPosition, DataFrame.this.rowCount());
+				return new AbstractList<Double>() {
+
+					@Override
+					public Double get(int columnPosition) {
+						return DataFrame.this.columns.get(columnPosition).get(rowPosition);
+					}
+
+					@Override
+					public int size() {
+						return DataFrame.this.columnCount();
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return DataFrame.this.rowCount();
+			}
+		};
 	}
 
 	/**
@@ -167,11 +243,7 @@ public class DataFrame<I> implements DataStructure<I> {
 	 * @throws IllegalArgumentException if column does not exist
 	 */
 	public Series<I> getColumn(String columnName) {
-		var colPos = this.columnNameToColumnPos.get(columnName);
-		if (colPos == null) {
-			throw new IllegalArgumentException("Column not found: " + columnName);
-		}
-		return this.getColumnAt(colPos);
+		return this.getColumnAt(this.getColumnPosition(columnName));
 	}
 
 	/**
@@ -185,11 +257,22 @@ public class DataFrame<I> implements DataStructure<I> {
 		if (columnPosition < 0 || columnPosition >= this.columnNames.size()) {
 			throw new IndexOutOfBoundsException("Invalid column position: " + columnPosition);
 		}
-		var columnValues = new ArrayList<Double>(this.values.size());
-		for (var row : this.values) {
-			columnValues.add(row.get(columnPosition));
-		}
-		return new Series<>(this.index, columnValues);
+		return new Series<>(this.index.share(), this.columns.get(columnPosition).copy());
+	}
+
+	/**
+	 * Returns a read-only view of the values of the specified column, without
+	 * copying them. Missing values are {@link Double#NaN}.
+	 *
+	 * <p>
+	 * The view reflects later changes of values, but not of the number of rows.
+	 *
+	 * @param columnName name of the column
+	 * @return read-only view of the column values
+	 * @throws IllegalArgumentException if column does not exist
+	 */
+	public DoubleBuffer getColumnView(String columnName) {
+		return this.columns.get(this.getColumnPosition(columnName)).view();
 	}
 
 	/**
@@ -200,7 +283,7 @@ public class DataFrame<I> implements DataStructure<I> {
 	 * @throws IllegalArgumentException if row index is not found
 	 */
 	public List<Double> getRow(I rowIndex) {
-		var rowPos = this.indexToRowPos.get(rowIndex);
+		var rowPos = this.index.positionOf(rowIndex);
 		if (rowPos == null) {
 			throw new IllegalArgumentException("Row index not found: " + rowIndex);
 		}
@@ -215,10 +298,14 @@ public class DataFrame<I> implements DataStructure<I> {
 	 * @throws IndexOutOfBoundsException if position is out of range
 	 */
 	public List<Double> getRowAt(int rowPosition) {
-		if (rowPosition < 0 || rowPosition >= this.values.size()) {
+		if (rowPosition < 0 || rowPosition >= this.rowCount()) {
 			throw new IndexOutOfBoundsException("Invalid row position: " + rowPosition);
 		}
-		return new ArrayList<>(this.values.get(rowPosition));
+		var row = new ArrayList<Double>(this.columnCount());
+		for (var column : this.columns) {
+			row.add(column.get(rowPosition));
+		}
+		return row;
 	}
 
 	/**
@@ -230,7 +317,7 @@ public class DataFrame<I> implements DataStructure<I> {
 	 * @throws IllegalArgumentException if row index or column name is not found
 	 */
 	public Double getValue(I rowIndex, String columnName) {
-		var rowPosition = this.indexToRowPos.get(rowIndex);
+		var rowPosition = this.index.positionOf(rowIndex);
 		if (rowPosition == null) {
 			throw new IllegalArgumentException("Row index not found: " + rowIndex);
 		}
@@ -250,13 +337,13 @@ public class DataFrame<I> implements DataStructure<I> {
 	 * @throws IndexOutOfBoundsException if row or column position is out of range
 	 */
 	public Double getValueAt(int rowPosition, int columnPosition) {
-		if (rowPosition < 0 || rowPosition >= this.values.size()) {
+		if (rowPosition < 0 || rowPosition >= this.rowCount()) {
 			throw new IndexOutOfBoundsException("Invalid row position: " + rowPosition);
 		}
 		if (columnPosition < 0 || columnPosition >= this.columnNames.size()) {
 			throw new IndexOutOfBoundsException("Invalid column position: " + columnPosition);
 		}
-		return this.values.get(rowPosition).get(columnPosition);
+		return this.columns.get(columnPosition).get(rowPosition);
 	}
 
 	// --- mutators / setters ---
@@ -274,7 +361,7 @@ public class DataFrame<I> implements DataStructure<I> {
 		Objects.requireNonNull(rowIndex, "Row index must not be null");
 		Objects.requireNonNull(rowValues, "Row values must not be null");
 
-		if (this.indexToRowPos.containsKey(rowIndex)) {
+		if (this.index.contains(rowIndex)) {
 			throw new IllegalArgumentException("Row with index '" + rowIndex + "' already exists");
 		}
 
@@ -283,9 +370,10 @@ public class DataFrame<I> implements DataStructure<I> {
 					"Row size must match number of columns (" + this.columnNames.size() + ")");
 		}
 
-		this.index.add(rowIndex);
-		this.values.add(new ArrayList<>(rowValues));
-		this.indexToRowPos.put(rowIndex, this.index.size() - 1);
+		this.modifiableIndex().add(rowIndex);
+		for (int j = 0; j < this.columns.size(); j++) {
+			this.columns.get(j).add(rowValues.get(j));
+		}
 	}
 
 	/**
@@ -298,17 +386,14 @@ public class DataFrame<I> implements DataStructure<I> {
 	public void addEmptyRow(I rowIndex) {
 		Objects.requireNonNull(rowIndex, "Row index must not be null");
 
-		if (this.indexToRowPos.containsKey(rowIndex)) {
+		if (this.index.contains(rowIndex)) {
 			throw new IllegalArgumentException("Row with index '" + rowIndex + "' already exists");
 		}
 
-		this.index.add(rowIndex);
-		var row = new ArrayList<Double>(this.columnCount());
-		for (int i = 0; i < this.columnCount(); i++) {
-			row.add(Double.NaN);
+		this.modifiableIndex().add(rowIndex);
+		for (var column : this.columns) {
+			column.add(Double.NaN);
 		}
-		this.values.add(row);
-		this.indexToRowPos.put(rowIndex, this.index.size() - 1);
 	}
 
 	/**
@@ -324,23 +409,32 @@ public class DataFrame<I> implements DataStructure<I> {
 		Objects.requireNonNull(columnName, "Column name must not be null");
 		Objects.requireNonNull(series, "Series must not be null");
 
-		if (!series.getIndex().equals(this.index)) {
+		if (!this.index.keysEqual(series.index())) {
 			throw new IllegalArgumentException("Series index must match DataFrame index");
 		}
 
-		var colPos = this.columnNameToColumnPos.get(columnName);
-		if (colPos == null) {
-			this.columnNames.add(columnName);
-			this.columnNameToColumnPos.put(columnName, this.columnNames.size() - 1);
-			for (int i = 0; i < this.values.size(); i++) {
-				this.values.get(i).add(series.getValues().get(i));
-			}
-			return;
-		}
+		this.putColumn(columnName, series.column().copy());
+	}
+
+	/**
+	 * Sets or adds a column with the given name. The array is used as storage and
+	 * is not copied. Missing values are {@link Double#NaN}.
+	 *
+	 * @param columnName name of the column
+	 * @param values     values matching the DataFrame index
+	 * @throws NullPointerException     if columnName or values is null
+	 * @throws IllegalArgumentException if the length does not match the DataFrame
+	 *                                  index
+	 */
+	public void setColumn(String columnName, double[] values) {
+		Objects.requireNonNull(columnName, "Column name must not be null");
+		Objects.requireNonNull(values, "Values must not be null");
 
-		for (int i = 0; i < this.values.size(); i++) {
-			this.values.get(i).set(colPos, series.getValues().get(i));
+		if (values.length != this.rowCount()) {
+			throw new IllegalArgumentException("Column length must match DataFrame index");
 		}
+
+		this.putColumn(columnName, DoubleColumn.wrap(values));
 	}
 
 	/**
@@ -356,7 +450,7 @@ public class DataFrame<I> implements DataStructure<I> {
 		Objects.requireNonNull(rowIndex, "Row index must not be null");
 		Objects.requireNonNull(columnName, "Column name must not be null");
 
-		var rowPos = this.indexToRowPos.get(rowIndex);
+		var rowPos = this.index.positionOf(rowIndex);
 		if (rowPos == null) {
 			throw new IllegalArgumentException("Row index not found: " + rowIndex);
 		}
@@ -366,7 +460,7 @@ public class DataFrame<I> implements DataStructure<I> {
 			throw new IllegalArgumentException("Column name not found: " + columnName);
 		}
 
-		this.values.get(rowPos).set(colPos, value);
+		this.columns.get(colPos).set(rowPos, value);
 	}
 
 	/**
@@ -378,7 +472,7 @@ public class DataFrame<I> implements DataStructure<I> {
 	 * @throws IndexOutOfBoundsException if row or column position is out of range
 	 */
 	public void setValueAt(int rowPosition, int columnPosition, Double value) {
-		if (rowPosition < 0 || rowPosition >= this.values.size()) {
+		if (rowPosition < 0 || rowPosition >= this.rowCount()) {
 			throw new IndexOutOfBoundsException("Row position out of bounds: " + rowPosition);
 		}
 
@@ -386,7 +480,7 @@ public class DataFrame<I> implements DataStructure<I> {
 			throw new IndexOutOfBoundsException("Column position out of bounds: " + columnPosition);
 		}
 
-		this.values.get(rowPosition).set(columnPosition, value);
+		this.columns.get(columnPosition).set(rowPosition, value);
 	}
 
 	/**
@@ -398,13 +492,14 @@ public class DataFrame<I> implements DataStructure<I> {
 	 */
 	public void removeRow(I rowIndex) {
 		Objects.requireNonNull(rowIndex, "Row index must not be null");
-		var rowPos = this.indexToRowPos.get(rowIndex);
+		var rowPos = this.index.positionOf(rowIndex);
 		if (rowPos == null) {
 			throw new IllegalArgumentException("Row index not found: " + rowIndex);
 		}
-		this.index.remove((int) rowPos);
-		this.values.remove((int) rowPos);
-		this.rebuildIndices();
+		this.modifiableIndex().remove((int) rowPos);
+		for (var column : this.columns) {
+			column.remove(rowPos);
+		}
 	}
 
 	/**
@@ -421,10 +516,8 @@ public class DataFrame<I> implements DataStructure<I> {
 			throw new IllegalArgumentException("Column name not found: " + columnName);
 		}
 		this.columnNames.remove((int) colPos);
-		for (var row : this.values) {
-			row.remove((int) colPos);
-		}
-		this.rebuildIndices();
+		this.columns.remove((int) colPos);
+		this.rebuildColumnPositions();
 	}
 
 	// --- utility ---
@@ -436,11 +529,10 @@ public class DataFrame<I> implements DataStructure<I> {
 	 */
 	public Map<I, Map<String, Double>> toMap() {
 		var map = new LinkedHashMap<I, Map<String, Double>>();
-		for (int i = 0; i < this.index.size(); i++) {
+		for (int i = 0; i < this.rowCount(); i++) {
 			var rowMap = new LinkedHashMap<String, Double>();
-			var rowValues = this.values.get(i);
 			for (int j = 0; j < this.columnNames.size(); j++) {
-				rowMap.put(this.columnNames.get(j), rowValues.get(j));
+				rowMap.put(this.columnNames.get(j), this.columns.get(j).get(i));
 			}
 			map.put(this.index.get(i), rowMap);
 		}
@@ -449,78 +541,114 @@ public class DataFrame<I> implements DataStructure<I> {
 
 	@Override
 	public void dropNa() {
-		var newIndex = new ArrayList<I>();
-		var newValues = new ArrayList<List<Double>>();
-
-		for (int i = 0; i < this.values.size(); i++) {
-			var row = this.values.get(i);
-			boolean hasNaN = row.stream().anyMatch(v -> v == null || v.isNaN());
-			if (!hasNaN) {
-				newIndex.add(this.index.get(i));
-				newValues.add(new ArrayList<>(row));
+		var keep = new boolean[this.rowCount()];
+		var count = 0;
+		for (int i = 0; i < keep.length; i++) {
+			keep[i] = true;
+			for (var column : this.columns) {
+				if (Double.isNaN(column.getDouble(i))) {
+					keep[i] = false;
+					break;
+				}
+			}
+			if (keep[i]) {
+				count++;
 			}
 		}
+		if (count == keep.length) {
+			return;
+		}
 
-		this.update(newIndex, newValues);
+		var positions = new int[count];
+		for (int i = 0, p = 0; i < keep.length; i++) {
+			if (keep[i]) {
+				positions[p++] = i;
+			}
+		}
+		this.select(positions);
 	}
 
 	@Override
 	public void sortByIndex(Comparator<I> comparator) {
-		var positions = IntStream.range(0, this.index.size())//
+		var positions = IntStream.range(0, this.rowCount())//
 				.boxed()//
 				.sorted(Comparator.comparing(this.index::get, comparator))//
-				.toList();
-
-		var newIndex = new ArrayList<I>(this.index.size());
-		var newValues = new ArrayList<List<Double>>(this.values.size());
+				.mapToInt(Integer::intValue)//
+				.toArray();
 
-		for (int pos : positions) {
-			newIndex.add(this.index.get(pos));
-			newValues.add(new ArrayList<>(this.values.get(pos)));
-		}
-
-		this.update(newIndex, newValues);
+		this.select(positions);
 	}
 
 	@Override
 	public OptionalDouble min() {
-		return this.values.stream()//
-				.flatMap(List::stream)//
-				.mapToDouble(Double::doubleValue)//
-				.min();
+		var result = OptionalDouble.empty();
+		for (var column : this.columns) {
+			var min = column.min();
+			if (min.isPresent()) {
+				result = OptionalDouble.of(result.isPresent() //
+						? Math.min(result.getAsDouble(), min.getAsDouble()) //
+						: min.getAsDouble());
+			}
+		}
+		return result;
 	}
 
 	@Override
 	public OptionalDouble max() {
-		return this.values.stream()//
-				.flatMap(List::stream)//
-				.mapToDouble(Double::doubleValue)//
-				.max();
+		var result = OptionalDouble.empty();
+		for (var column : this.columns) {
+			var max = column.max();
+			if (max.isPresent()) {
+				result = OptionalDouble.of(result.isPresent() //
+						? Math.max(result.getAsDouble(), max.getAsDouble()) //
+						: max.getAsDouble());
+			}
+		}
+		return result;
 	}
 
 	@Override
 	public void apply(Function<Double, Double> function) {
-		var newValues = new ArrayList<List<Double>>();
-
-		for (int rowIndex = 0; rowIndex < this.rowCount(); rowIndex++) {
-			var oldRow = this.values.get(rowIndex);
-			var newRow = new ArrayList<Double>();
-			for (int colIndex = 0; colIndex < this.columnCount(); colIndex++) {
-				Double oldVal = oldRow.get(colIndex);
-				Double newVal = Optional.ofNullable(oldVal)//
-						.map(function)//
-						.orElse(null);
-				newRow.add(newVal);
-			}
-			newValues.add(newRow);
+		for (var column : this.columns) {
+			column.apply(function);
 		}
+	}
+
+	@Override
+	public void applyAsDouble(DoubleUnaryOperator operator) {
+		for (var column : this.columns) {
+			column.applyAsDouble(operator);
+		}
+	}
+
+	/**
+	 * Applies the given function in place to each non-null value of the specified
+	 * column.
+	 *
+	 * @param columnName name of the column
+	 * @param function   the function to apply
+	 * @throws IllegalArgumentException if column does not exist
+	 */
+	public void apply(String columnName, Function<Double, Double> function) {
+		this.columns.get(this.getColumnPosition(columnName)).apply(function);
+	}
 
-		this.update(List.copyOf(this.index), newValues);
+	/**
+	 * Applies the given operator in place to each non-null value of the specified
+	 * column.
+	 *
+	 * @param columnName name of the column
+	 * @param operator   the operator to apply
+	 * @throws IllegalArgumentException if column does not exist
+	 */
+	public void applyAsDouble(String columnName, DoubleUnaryOperator operator) {
+		this.columns.get(this.getColumnPosition(columnName)).applyAsDouble(operator);
 	}
 
 	@Override
 	public DataFrame<I> copy() {
-		return new DataFrame<>(this.index, this.columnNames, this.values);
+		return new DataFrame<>(this.index.share(), this.columnNames, //
+				this.columns.stream().map(DoubleColumn::copy).toList());
 	}
 
 	/**
@@ -532,24 +660,31 @@ public class DataFrame<I> implements DataStructure<I> {
 	 * @return a new {@link DataFrame} with combined columns from both dataframes
 	 */
 	public DataFrame<I> innerJoin(DataFrame<I> other) {
-		var commonIndices = new HashSet<I>(this.index);
-		commonIndices.retainAll(other.getIndex());
-
-		var newIndex = this.index.stream().filter(commonIndices::contains).toList();
+		var thisPositions = IntStream.builder();
+		var otherPositions = IntStream.builder();
+		for (int i = 0; i < this.rowCount(); i++) {
+			var otherPos = other.index.positionOf(this.index.get(i));
+			if (otherPos != null) {
+				thisPositions.add(i);
+				otherPositions.add(otherPos);
+			}
+		}
+		var thisSelection = thisPositions.build().toArray();
+		var otherSelection = otherPositions.build().toArray();
 
-		var newValues = new ArrayList<List<Double>>();
-		for (I rowIndex : newIndex) {
-			var newRow = new ArrayList<Double>();
-			newRow.addAll(this.getRow(rowIndex));
-			newRow.addAll(other.getRow(rowIndex));
-			newValues.add(newRow);
+		var newColumns = new ArrayList<DoubleColumn>();
+		for (var column : this.columns) {
+			newColumns.add(column.select(thisSelection));
+		}
+		for (var column : other.columns) {
+			newColumns.add(column.select(otherSelection));
 		}
 
-		var newColumns = new ArrayList<String>();
-		newColumns.addAll(this.columnNames);
-		newColumns.addAll(other.getColumnNames());
+		var newColumnNames = new ArrayList<String>();
+		newColumnNames.addAll(this.columnNames);
+		newColumnNames.addAll(other.columnNames);
 
-		return new DataFrame<>(newIndex, newColumns, newValues);
+		return new DataFrame<>(this.index.select(thisSelection), newColumnNames, newColumns);
 	}
 
 	/**
@@ -566,20 +701,18 @@ public class DataFrame<I> implements DataStructure<I> {
 			throw new IllegalArgumentException("n must be non-negative");
 		}
 
-		int size = this.index.size();
+		int size = this.rowCount();
 		if (n >= size) {
 			return this.copy();
 		}
 
-		var newIndex = this.index.subList(size - n, size);
-		var newValues = this.values.subList(size - n, size);
-
-		return new DataFrame<I>(newIndex, this.columnNames, newValues);
+		return new DataFrame<I>(this.index.slice(size - n, size), this.columnNames, //
+				this.columns.stream().map(c -> c.slice(size - n, size)).toList());
 	}
 
 	// --- private helpers --- //
 
-	private void checkForDuplicates(List<?> list, String name) {
+	private static void checkForDuplicates(List<?> list, String name) {
 		var seen = new HashSet<Object>();
 		for (var item : list) {
 			if (!seen.add(item)) {
@@ -588,22 +721,38 @@ public class DataFrame<I> implements DataStructure<I> {
 		}
 	}
 
-	private void update(List<I> newIndex, List<List<Double>> newValues) {
-		this.index.clear();
-		this.index.addAll(newIndex);
+	private int getColumnPosition(String columnName) {
+		var colPos = this.columnNameToColumnPos.get(columnName);
+		if (colPos == null) {
+			throw new IllegalArgumentException("Column not found: " + columnName);
+		}
+		return colPos;
+	}
 
-		this.values.clear();
-		this.values.addAll(newValues);
+	private void putColumn(String columnName, DoubleColumn column) {
+		var colPos = this.columnNameToColumnPos.get(columnName);
+		if (colPos == null) {
+			this.columnNames.add(columnName);
+			this.columns.add(column);
+			this.columnNameToColumnPos.put(columnName, this.columnNames.size() - 1);
+			return;
+		}
+		this.columns.set(colPos, column);
+	}
 
-		this.rebuildIndices();
+	private void select(int[] positions) {
+		this.index = this.index.select(positions);
+		this.columns.replaceAll(c -> c.select(positions));
 	}
 
-	private void rebuildIndices() {
-		this.indexToRowPos.clear();
-		for (int i = 0; i < this.index.size(); i++) {
-			this.indexToRowPos.put(this.index.get(i), i);
+	private Index<I> modifiableIndex() {
+		if (this.index.isShared()) {
+			this.index = this.index.copy();
 		}
+		return this.index;
+	}
 
+	private void rebuildColumnPositions() {
 		this.columnNameToColumnPos.clear();
 		for (int i = 0; i < this.columnNames.size(); i++) {
 			this.columnNameToColumnPos.put(this.columnNames.get(i), i);
@@ -620,13 +769,13 @@ public class DataFrame<I> implements DataStructure<I> {
 		if (!(o instanceof DataFrame<?> other)) {
 			return false;
 		}
-		return Objects.equals(this.index, other.index)//
+		return this.index.keysEqual(other.index)//
 				&& Objects.equals(this.columnNames, other.columnNames)//
-				&& Objects.equals(this.values, other.values);
+				&& Objects.equals(this.columns, other.columns);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.index, this.columnNames, this.values);
+		return Objects.hash(this.index.keysHashCode(), this.columnNames, this.columns);
 	}
 }
@@ -3,6 +3,7 @@ package io.openems.edge.predictor.api.mlcore.datastructures;
 import java.util.Comparator;
 import java.util.List;
 import java.util.OptionalDouble;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 public interface DataStructure<I> {
@@ -52,6 +53,17 @@ public interface DataStructure<I> {
 	 */
 	public void apply(Function<Double, Double> function);
 
+	/**
+	 * Applies the given operator in place to each value in the data structure,
+	 * without boxing.
+	 *
+	 * <p>
+	 * {@code null} values are not passed to the operator; {@code NaN} values are.
+	 *
+	 * @param operator the operator to apply to each non-null value
+	 */
+	public void applyAsDouble(DoubleUnaryOperator operator);
+
 	/**
 	 * Returns a deep copy of this data structure. Modifications to the copy do not
 	 * affect the original.
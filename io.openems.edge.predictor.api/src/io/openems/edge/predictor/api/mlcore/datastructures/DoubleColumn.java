@@ -0,0 +1,278 @@
+package io.openems.edge.predictor.api.mlcore.datastructures;
+
+import java.nio.DoubleBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+
+/**
+ * A growable column of primitive {@code double} values, shared by
+ * {@link Series} and {@link DataFrame}.
+ *
+ * <p>
+ * Missing values are stored as {@link Double#NaN}. To keep the boxed API of
+ * {@link Series} and {@link DataFrame} unchanged, positions that were set to
+ * {@code null} are additionally marked in a {@link BitSet}; the primitive
+ * accessors see them as {@link Double#NaN}.
+ */
+final class DoubleColumn {
+
+	private static final int MIN_CAPACITY = 8;
+
+	private double[] values;
+	private int size;
+	private BitSet nulls; // null if no position holds null
+
+	private DoubleColumn(double[] values, int size, BitSet nulls) {
+		this.values = values;
+		this.size = size;
+		this.nulls = nulls;
+	}
+
+	/**
+	 * Creates a {@link DoubleColumn} that uses the given array as storage, without
+	 * copying it.
+	 *
+	 * @param values the values
+	 * @return the {@link DoubleColumn}
+	 */
+	static DoubleColumn wrap(double[] values) {
+		return new DoubleColumn(Objects.requireNonNull(values, "Values must not be null"), values.length, null);
+	}
+
+	/**
+	 * Creates a {@link DoubleColumn} from boxed values.
+	 *
+	 * @param values the values; may contain null
+	 * @return the {@link DoubleColumn}
+	 */
+	static DoubleColumn of(List<Double> values) {
+		var result = new DoubleColumn(new double[values.size()], values.size(), null);
+		var i = 0;
+		for (var value : values) {
+			result.set(i++, value);
+		}
+		return result;
+	}
+
+	/**
+	 * Creates a {@link DoubleColumn} with the given size and every value set to
+	 * the given value.
+	 *
+	 * @param size  the size
+	 * @param value the value
+	 * @return the {@link DoubleColumn}
+	 */
+	static DoubleColumn filled(int size, double value) {
+		var values = new double[size];
+		Arrays.fill(values, value);
+		return wrap(values);
+	}
+
+	int size() {
+		return this.size;
+	}
+
+	Double get(int position) {
+		Objects.checkIndex(position, this.size);
+		if (this.isNull(position)) {
+			return null;
+		}
+		return this.values[position];
+	}
+
+	double getDouble(int position) {
+		Objects.checkIndex(position, this.size);
+		return this.values[position];
+	}
+
+	void set(int position, Double value) {
+		Objects.checkIndex(position, this.size);
+		if (value == null) {
+			this.values[position] = Double.NaN;
+			if (this.nulls == null) {
+				this.nulls = new BitSet();
+			}
+			this.nulls.set(position);
+		} else {
+			this.values[position] = value;
+			if (this.nulls != null) {
+				this.nulls.clear(position);
+			}
+		}
+	}
+
+	void add(Double value) {
+		if (this.size == this.values.length) {
+			this.values = Arrays.copyOf(this.values, Math.max(MIN_CAPACITY, this.size * 2));
+		}
+		this.size++;
+		this.set(this.size - 1, value);
+	}
+
+	void remove(int position) {
+		Objects.checkIndex(position, this.size);
+		System.arraycopy(this.values, position + 1, this.values, position, this.size - position - 1);
+		if (this.nulls != null) {
+			var shifted = this.nulls.get(position + 1, this.size);
+			this.nulls.clear(position, this.size);
+			shifted.stream().forEach(i -> this.nulls.set(position + i));
+		}
+		this.size--;
+	}
+
+	/**
+	 * Applies the function to every non-null value.
+	 *
+	 * @param function the function
+	 */
+	void apply(Function<Double, Double> function) {
+		for (var i = 0; i < this.size; i++) {
+			if (!this.isNull(i)) {
+				this.set(i, function.apply(this.values[i]));
+			}
+		}
+	}
+
+	/**
+	 * Applies the operator in place to every non-null value.
+	 *
+	 * @param operator the operator
+	 */
+	void applyAsDouble(DoubleUnaryOperator operator) {
+		for (var i = 0; i < this.size; i++) {
+			if (!this.isNull(i)) {
+				this.values[i] = operator.applyAsDouble(this.values[i]);
+			}
+		}
+	}
+
+	DoubleColumn copy() {
+		return new DoubleColumn(Arrays.copyOf(this.values, this.size), this.size,
+				this.nulls == null || this.nulls.isEmpty() ? null : (BitSet) this.nulls.clone());
+	}
+
+	/**
+	 * Creates a new {@link DoubleColumn} with the values at the given positions.
+	 *
+	 * @param positions the positions
+	 * @return the new {@link DoubleColumn}
+	 */
+	DoubleColumn select(int[] positions) {
+		var result = new DoubleColumn(new double[positions.length], positions.length, null);
+		for (var i = 0; i < positions.length; i++) {
+			result.values[i] = this.values[positions[i]];
+			if (this.isNull(positions[i])) {
+				result.set(i, null);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Creates a new {@link DoubleColumn} with the values in the given range.
+	 *
+	 * @param from the first position, inclusive
+	 * @param to   the last position, exclusive
+	 * @return the new {@link DoubleColumn}
+	 */
+	DoubleColumn slice(int from, int to) {
+		Objects.checkFromToIndex(from, to, this.size);
+		return new DoubleColumn(Arrays.copyOfRange(this.values, from, to), to - from,
+				this.nulls == null || this.nulls.isEmpty() ? null : this.nulls.get(from, to));
+	}
+
+	/**
+	 * Gets a read-only view of the values without copying them. Missing values are
+	 * {@link Double#NaN}.
+	 *
+	 * @return the view
+	 */
+	DoubleBuffer view() {
+		return DoubleBuffer.wrap(this.values, 0, this.size).slice().asReadOnlyBuffer();
+	}
+
+	double[] toArray() {
+		return Arrays.copyOf(this.values, this.size);
+	}
+
+	OptionalDouble min() {
+		var result = OptionalDouble.empty();
+		for (var i = 0; i < this.size; i++) {
+			if (!this.isNull(i)) {
+				result = OptionalDouble.of(result.isPresent() //
+						? Math.min(result.getAsDouble(), this.values[i]) //
+						: this.values[i]);
+			}
+		}
+		return result;
+	}
+
+	OptionalDouble max() {
+		var result = OptionalDouble.empty();
+		for (var i = 0; i < this.size; i++) {
+			if (!this.isNull(i)) {
+				result = OptionalDouble.of(result.isPresent() //
+						? Math.max(result.getAsDouble(), this.values[i]) //
+						: this.values[i]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets an unmodifiable {@link List} view of the values.
+	 *
+	 * @return the view
+	 */
+	List<Double> asList() {
+		return new AbstractList<Double>() {
+
+			@Override
+			public Double get(int index) {
+				return DoubleColumn.this.get(index);
+			}
+
+			@Override
+			public int size() {
+				return DoubleColumn.this.size;
+			}
+		};
+	}
+
+	private boolean isNull(int position) {
+		return this.nulls != null && this.nulls.get(position);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof DoubleColumn other) || this.size != other.size) {
+			return false;
+		}
+		for (var i = 0; i < this.size; i++) {
+			if (this.isNull(i) != other.isNull(i) //
+					|| Double.doubleToLongBits(this.values[i]) != Double.doubleToLongBits(other.values[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		// Same as List#hashCode() of the boxed values
+		var result = 1;
+		for (var i = 0; i < this.size; i++) {
+			result = 31 * result + (this.isNull(i) ? 0 : Double.hashCode(this.values[i]));
+		}
+		return result;
+	}
+}
@@ -0,0 +1,160 @@
+package io.openems.edge.predictor.api.mlcore.datastructures;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The row index of a {@link Series} or {@link DataFrame}.
+ *
+ * <p>
+ * An {@link Index} is shared instead of copied, e.g. between a
+ * {@link DataFrame} and the {@link Series} of its columns. Once it is
+ * {@link #share() shared}, it is never modified again; holders take a
+ * {@link #copy()} before they add or remove keys.
+ *
+ * @param <I> the type of the keys
+ */
+final class Index<I> {
+
+	private final List<I> keys;
+	private final Map<I, Integer> positions;
+	private boolean shared = false;
+
+	/**
+	 * Creates an {@link Index} that takes ownership of the given keys.
+	 *
+	 * <p>
+	 * The positions are built eagerly, so a shared {@link Index} can be read by
+	 * multiple threads without synchronization.
+	 *
+	 * @param keys the keys
+	 * @throws IllegalArgumentException on duplicate keys
+	 */
+	private Index(List<I> keys) {
+		this.keys = keys;
+		this.positions = new HashMap<>(capacity(keys.size()));
+		for (var i = 0; i < keys.size(); i++) {
+			var key = keys.get(i);
+			if (this.positions.putIfAbsent(key, i) != null) {
+				throw new IllegalArgumentException("Duplicate index found: " + key);
+			}
+		}
+	}
+
+	/**
+	 * Creates an {@link Index} from a copy of the given keys.
+	 *
+	 * @param <I>  the type of the keys
+	 * @param keys the keys
+	 * @return the {@link Index}
+	 * @throws IllegalArgumentException on duplicate keys
+	 */
+	static <I> Index<I> of(List<I> keys) {
+		return new Index<>(new ArrayList<>(keys));
+	}
+
+	/**
+	 * Marks this {@link Index} as shared and returns it.
+	 *
+	 * @return this
+	 */
+	Index<I> share() {
+		this.shared = true;
+		return this;
+	}
+
+	boolean isShared() {
+		return this.shared;
+	}
+
+	Index<I> copy() {
+		return new Index<>(new ArrayList<>(this.keys));
+	}
+
+	int size() {
+		return this.keys.size();
+	}
+
+	I get(int position) {
+		return this.keys.get(position);
+	}
+
+	/**
+	 * Gets the position of the given key.
+	 *
+	 * @param key the key
+	 * @return the position; null if the key is not part of the index
+	 */
+	Integer positionOf(I key) {
+		return this.positions.get(key);
+	}
+
+	boolean contains(I key) {
+		return this.positionOf(key) != null;
+	}
+
+	void add(I key) {
+		this.checkNotShared();
+		this.positions.put(key, this.keys.size());
+		this.keys.add(key);
+	}
+
+	void remove(int position) {
+		this.checkNotShared();
+		this.positions.remove(this.keys.remove(position));
+		for (var i = position; i < this.keys.size(); i++) {
+			this.positions.put(this.keys.get(i), i);
+		}
+	}
+
+	/**
+	 * Creates a new {@link Index} with the keys at the given positions.
+	 *
+	 * @param positions the positions; without duplicates
+	 * @return the new {@link Index}
+	 */
+	Index<I> select(int[] positions) {
+		var keys = new ArrayList<I>(positions.length);
+		for (var position : positions) {
+			keys.add(this.keys.get(position));
+		}
+		return new Index<>(keys);
+	}
+
+	/**
+	 * Creates a new {@link Index} with the keys in the given range.
+	 *
+	 * @param from the first position, inclusive
+	 * @param to   the last position, exclusive
+	 * @return the new {@link Index}
+	 */
+	Index<I> slice(int from, int to) {
+		return new Index<>(new ArrayList<>(this.keys.subList(from, to)));
+	}
+
+	/**
+	 * Checks if this {@link Index} holds the same keys as the other {@link Index}.
+	 *
+	 * @param other the other {@link Index}
+	 * @return true if the keys are equal
+	 */
+	boolean keysEqual(Index<?> other) {
+		return this == other || this.keys.equals(other.keys);
+	}
+
+	int keysHashCode() {
+		return this.keys.hashCode();
+	}
+
+	private void checkNotShared() {
+		if (this.shared) {
+			throw new IllegalStateException("Shared index must not be modified");
+		}
+	}
+
+	private static int capacity(int size) {
+		return (int) (size / 0.75f) + 1;
+	}
+}
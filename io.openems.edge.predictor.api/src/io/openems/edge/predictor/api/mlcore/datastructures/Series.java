@@ -1,15 +1,14 @@
 package io.openems.edge.predictor.api.mlcore.datastructures;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.nio.DoubleBuffer;
+import java.util.AbstractList;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.OptionalDouble;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 
@@ -17,9 +16,8 @@ import io.openems.edge.predictor.api.mlcore.transformer.SeriesTransformer;
 
 public class Series<I> implements DataStructure<I> {
 
-	private final List<I> index;
-	private final List<Double> values;
-	private final Map<I, Integer> indexToPos;
+	private Index<I> index;
+	private DoubleColumn values;
 
 	public Series(List<I> index, List<Double> values) {
 		Objects.requireNonNull(index, "Index must not be null");
@@ -29,15 +27,32 @@ public class Series<I> implements DataStructure<I> {
 			throw new IllegalArgumentException("Index and values must have the same length");
 		}
 
-		this.index = new ArrayList<>(index);
-		this.values = new ArrayList<>(values);
-		this.indexToPos = new HashMap<>();
-		for (int i = 0; i < this.index.size(); i++) {
-			I idx = this.index.get(i);
-			if (this.indexToPos.putIfAbsent(idx, i) != null) {
-				throw new IllegalArgumentException("Duplicate index found: " + idx);
-			}
+		this.index = Index.of(index);
+		this.values = DoubleColumn.of(values);
+	}
+
+	/**
+	 * Creates a {@code Series} that uses the given array as storage; the array is
+	 * not copied. Missing values are {@link Double#NaN}.
+	 *
+	 * @param index  the index
+	 * @param values the values
+	 */
+	public Series(List<I> index, double[] values) {
+		Objects.requireNonNull(index, "Index must not be null");
+		Objects.requireNonNull(values, "Values must not be null");
+
+		if (index.size() != values.length) {
+			throw new IllegalArgumentException("Index and values must have the same length");
 		}
+
+		this.index = Index.of(index);
+		this.values = DoubleColumn.wrap(values);
+	}
+
+	Series(Index<I> index, DoubleColumn values) {
+		this.index = index;
+		this.values = values;
 	}
 
 	/**
@@ -55,7 +70,18 @@ public class Series<I> implements DataStructure<I> {
 
 	@Override
 	public List<I> getIndex() {
-		return Collections.unmodifiableList(this.index);
+		return new AbstractList<I>() {
+
+			@Override
+			public I get(int position) {
+				return Series.this.index.get(position);
+			}
+
+			@Override
+			public int size() {
+				return Series.this.index.size();
+			}
+		};
 	}
 
 	/**
@@ -64,7 +90,41 @@ public class Series<I> implements DataStructure<I> {
 	 * @return unmodifiable list of values
 	 */
 	public List<Double> getValues() {
-		return Collections.unmodifiableList(this.values);
+		return new AbstractList<Double>() {
+
+			@Override
+			public Double get(int position) {
+				return Series.this.values.get(position);
+			}
+
+			@Override
+			public int size() {
+				return Series.this.values.size();
+			}
+		};
+	}
+
+	/**
+	 * Returns a read-only view of the values, without copying them. Missing values
+	 * are {@link Double#NaN}.
+	 *
+	 * <p>
+	 * The view reflects later changes of values, but not of the size.
+	 *
+	 * @return read-only view of the values
+	 */
+	public DoubleBuffer getValuesView() {
+		return this.values.view();
+	}
+
+	/**
+	 * Returns a copy of the values as array. Missing values are
+	 * {@link Double#NaN}.
+	 *
+	 * @return array of values
+	 */
+	public double[] toArray() {
+		return this.values.toArray();
 	}
 
 	/**
@@ -84,7 +144,7 @@ public class Series<I> implements DataStructure<I> {
 	 * @throws IllegalArgumentException if index is not found
 	 */
 	public Double get(I idx) {
-		var pos = this.indexToPos.get(idx);
+		var pos = this.index.positionOf(idx);
 		if (pos == null) {
 			throw new IllegalArgumentException("Index not found: " + idx);
 		}
@@ -112,7 +172,7 @@ public class Series<I> implements DataStructure<I> {
 	 * @throws IllegalArgumentException if index is not found
 	 */
 	public void setValue(I idx, Double value) {
-		var pos = this.indexToPos.get(idx);
+		var pos = this.index.positionOf(idx);
 		if (pos == null) {
 			throw new IllegalArgumentException("Index not found: " + idx);
 		}
@@ -137,7 +197,7 @@ public class Series<I> implements DataStructure<I> {
 	 * @throws IllegalArgumentException if index is not found
 	 */
 	public void remove(I idx) {
-		var pos = this.indexToPos.get(idx);
+		var pos = this.index.positionOf(idx);
 		if (pos == null) {
 			throw new IllegalArgumentException("Index not found: " + idx);
 		}
@@ -151,12 +211,9 @@ public class Series<I> implements DataStructure<I> {
 	 * @throws IndexOutOfBoundsException if position is out of range
 	 */
 	public void removeAt(int position) {
-		this.index.remove(position);
+		Objects.checkIndex(position, this.size());
+		this.modifiableIndex().remove(position);
 		this.values.remove(position);
-		this.indexToPos.clear();
-		for (int i = 0; i < this.size(); i++) {
-			this.indexToPos.put(this.index.get(i), i);
-		}
 	}
 
 	/**
@@ -167,12 +224,11 @@ public class Series<I> implements DataStructure<I> {
 	 * @throws IllegalArgumentException if index already exists
 	 */
 	public void add(I idx, Double value) {
-		if (this.indexToPos.containsKey(idx)) {
+		if (this.index.contains(idx)) {
 			throw new IllegalArgumentException("Index already exists: " + idx);
 		}
-		this.index.add(idx);
+		this.modifiableIndex().add(idx);
 		this.values.add(value);
-		this.indexToPos.put(idx, this.size() - 1);
 	}
 
 	// --- utility ---
@@ -190,19 +246,31 @@ public class Series<I> implements DataStructure<I> {
 		return map;
 	}
 
+	/**
+	 * Returns a new {@code Series} with the same index and the given values; the
+	 * array is not copied. Missing values are {@link Double#NaN}.
+	 *
+	 * @param values the values
+	 * @return a new {@code Series}
+	 * @throws IllegalArgumentException if the length does not match the index
+	 */
+	public Series<I> withValues(double[] values) {
+		if (values.length != this.size()) {
+			throw new IllegalArgumentException("Index and values must have the same length");
+		}
+		return new Series<>(this.index.share(), DoubleColumn.wrap(values));
+	}
+
 	@Override
 	public void dropNa() {
-		var newIndex = new ArrayList<I>();
-		var newValues = new ArrayList<Double>();
-		for (int i = 0; i < this.size(); i++) {
-			var value = this.values.get(i);
-			if (value != null && !value.isNaN()) {
-				newIndex.add(this.index.get(i));
-				newValues.add(value);
-			}
+		var positions = IntStream.range(0, this.size())//
+				.filter(i -> !Double.isNaN(this.values.getDouble(i)))//
+				.toArray();
+		if (positions.length == this.size()) {
+			return;
 		}
-
-		this.update(newIndex, newValues);
+		this.index = this.index.select(positions);
+		this.values = this.values.select(positions);
 	}
 
 	@Override
@@ -210,67 +278,55 @@ public class Series<I> implements DataStructure<I> {
 		var positions = IntStream.range(0, this.size())//
 				.boxed()//
 				.sorted(Comparator.comparing(this.index::get, comparator))//
-				.toList();
+				.mapToInt(Integer::intValue)//
+				.toArray();
 
-		var newIndex = new ArrayList<I>(this.size());
-		var newValues = new ArrayList<Double>(this.size());
-
-		for (int pos : positions) {
-			newIndex.add(this.index.get(pos));
-			newValues.add(this.values.get(pos));
-		}
-
-		this.update(newIndex, newValues);
+		this.index = this.index.select(positions);
+		this.values = this.values.select(positions);
 	}
 
 	@Override
 	public OptionalDouble min() {
-		return this.values.stream()//
-				.filter(Objects::nonNull)//
-				.mapToDouble(Double::doubleValue)//
-				.min();
+		return this.values.min();
 	}
 
 	@Override
 	public OptionalDouble max() {
-		return this.values.stream()//
-				.filter(Objects::nonNull)//
-				.mapToDouble(Double::doubleValue)//
-				.max();
+		return this.values.max();
 	}
 
 	@Override
 	public void apply(Function<Double, Double> function) {
-		var newValues = new ArrayList<Double>();
-
-		for (int i = 0; i < this.size(); i++) {
-			newValues.add(//
-					Optional.ofNullable(this.values.get(i))//
-							.map(function)//
-							.orElse(null));
-		}
+		this.values.apply(function);
+	}
 
-		this.update(List.copyOf(this.index), newValues);
+	@Override
+	public void applyAsDouble(DoubleUnaryOperator operator) {
+		this.values.applyAsDouble(operator);
 	}
 
 	@Override
 	public Series<I> copy() {
-		return new Series<>(this.index, this.values);
+		return new Series<>(this.index.share(), this.values.copy());
 	}
 
-	// --- private helpers --- //
+	// --- package-private helpers --- //
 
-	private void update(List<I> newIndex, List<Double> newValues) {
-		this.index.clear();
-		this.index.addAll(newIndex);
+	Index<I> index() {
+		return this.index;
+	}
 
-		this.values.clear();
-		this.values.addAll(newValues);
+	DoubleColumn column() {
+		return this.values;
+	}
 
-		this.indexToPos.clear();
-		for (int i = 0; i < this.size(); i++) {
-			this.indexToPos.put(this.index.get(i), i);
+	// --- private helpers --- //
+
+	private Index<I> modifiableIndex() {
+		if (this.index.isShared()) {
+			this.index = this.index.copy();
 		}
+		return this.index;
 	}
 
 	// --- equals and hashCode ---
@@ -283,12 +339,12 @@ public class Series<I> implements DataStructure<I> {
 		if (!(o instanceof Series<?> other)) {
 			return false;
 		}
-		return Objects.equals(this.index, other.index) //
+		return this.index.keysEqual(other.index) //
 				&& Objects.equals(this.values, other.values);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.index, this.values);
+		return Objects.hash(this.index.keysHashCode(), this.values);
 	}
 }
@@ -1,5 +1,6 @@
 package io.openems.edge.predictor.api.mlcore.interpolation;
 
+import java.util.Arrays;
 import java.util.List;
 
 public interface Interpolator {
@@ -13,4 +14,22 @@ public interface Interpolator {
 	 *         possible
 	 */
 	public Double interpolate(int index, List<Double> values);
+
+	/**
+	 * Interpolates all missing values, i.e. {@link Double#NaN}, in place. Every
+	 * value is interpolated from the original values, not from values that were
+	 * interpolated before.
+	 *
+	 * @param values the values; missing values are replaced, or stay
+	 *               {@link Double#NaN} if interpolation is not possible
+	 */
+	public default void interpolateInPlace(double[] values) {
+		final var original = Arrays.stream(values).boxed().toList();
+		for (int i = 0; i < values.length; i++) {
+			if (Double.isNaN(values[i])) {
+				var value = this.interpolate(i, original);
+				values[i] = value == null ? Double.NaN : value;
+			}
+		}
+	}
 }
@@ -53,9 +53,45 @@ public class LinearInterpolator implements Interpolator {
 			return Double.NaN;
 		}
 
-		double floorValue = values.get(floorIndex);
-		double ceilingValue = values.get(ceilingIndex);
+		return interpolate(index, floorIndex, values.get(floorIndex), ceilingIndex, values.get(ceilingIndex));
+	}
+
+	@Override
+	public void interpolateInPlace(double[] values) {
+		// Every gap, i.e. run of missing values, is filled from its bounds
+		int i = 0;
+		while (i < values.length) {
+			if (!Double.isNaN(values[i])) {
+				i++;
+				continue;
+			}
+
+			int floorIndex = i - 1;
+			int ceilingIndex = i;
+			while (ceilingIndex < values.length && Double.isNaN(values[ceilingIndex])) {
+				ceilingIndex++;
+			}
+			i = ceilingIndex;
+
+			int gapSize = ceilingIndex - floorIndex - 1;
+			if (gapSize > this.maxGapSize || (floorIndex == -1 && ceilingIndex == values.length)) {
+				continue;
+			}
+
+			for (int j = floorIndex + 1; j < ceilingIndex; j++) {
+				if (floorIndex == -1) {
+					values[j] = values[ceilingIndex];
+				} else if (ceilingIndex == values.length) {
+					values[j] = values[floorIndex];
+				} else {
+					values[j] = interpolate(j, floorIndex, values[floorIndex], ceilingIndex, values[ceilingIndex]);
+				}
+			}
+		}
+	}
 
+	private static double interpolate(int index, int floorIndex, double floorValue, int ceilingIndex,
+			double ceilingValue) {
 		if (floorValue == ceilingValue) {
 			return floorValue;
 		}
@@ -0,0 +1,427 @@
+package io.openems.edge.predictor.api.mlcore.regression;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * A random forest of CART regression trees, which are stored in flat primitive
+ * arrays.
+ *
+ * <p>
+ * Every tree is built on its own bootstrap sample with its own seeded
+ * {@link Random}, so trees are built concurrently and the result does not
+ * depend on the number of threads. Splits minimize the squared error.
+ *
+ * <p>
+ * The nodes of all trees are stored depth-first in shared arrays: the left
+ * child of a split node directly follows its parent, so only the right child
+ * is stored. {@link #predict(double[][], int)} walks one tree for all rows
+ * before it continues with the next tree, which keeps the nodes of the current
+ * tree in the CPU cache.
+ */
+final class FlatRandomForest {
+
+	private static final int LEAF = -1;
+	private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+	private final int[] roots;
+	// Split feature of a node; LEAF for leaves
+	private final int[] features;
+	// Split threshold of a node; the predicted value for leaves
+	private final double[] values;
+	// Position of the right child of a split node
+	private final int[] rights;
+
+	private FlatRandomForest(int[] roots, int[] features, double[] values, int[] rights) {
+		this.roots = roots;
+		this.features = features;
+		this.values = values;
+		this.rights = rights;
+	}
+
+	/**
+	 * Fits a {@link FlatRandomForest} to the given feature columns and target
+	 * values.
+	 *
+	 * @param columns the feature values; one array of row values per feature
+	 * @param target  the target values per row
+	 * @param config  the {@link Config}
+	 * @param pool    the {@link ForkJoinPool} the trees are built on
+	 * @return the trained {@link FlatRandomForest}
+	 * @throws IllegalArgumentException if the number of rows does not match or
+	 *                                  there are no rows or features
+	 */
+	public static FlatRandomForest fit(double[][] columns, double[] target, Config config, ForkJoinPool pool) {
+		if (columns.length == 0) {
+			throw new IllegalArgumentException("Training data must have at least one feature");
+		}
+		for (var column : columns) {
+			if (column.length != target.length) {
+				throw new IllegalArgumentException("Feature and target row counts do not match");
+			}
+		}
+		if (target.length == 0) {
+			throw new IllegalArgumentException("Training data must not be empty");
+		}
+		if (config.numTrees() < 1) {
+			throw new IllegalArgumentException("Number of trees must be at least 1");
+		}
+
+		// Sort rows by value once per feature; every tree filters its bootstrap
+		// sample from these orders instead of sorting again
+		var orders = new int[columns.length][];
+		for (var feature = 0; feature < columns.length; feature++) {
+			final var column = columns[feature];
+			orders[feature] = IntStream.range(0, target.length)//
+					.boxed()//
+					.sorted(Comparator.comparingDouble(row -> column[row]))//
+					.mapToInt(Integer::intValue)//
+					.toArray();
+		}
+
+		List<Tree> trees = pool.submit(() -> IntStream.range(0, config.numTrees())//
+				.parallel()//
+				.mapToObj(tree -> new TreeBuilder(columns, target, orders, config, //
+						new Random(config.seed() + tree * SEED_INCREMENT)).build())//
+				.toList())//
+				.join();
+
+		var size = trees.stream()//
+				.mapToInt(Tree::size)//
+				.sum();
+		var roots = new int[trees.size()];
+		var features = new int[size];
+		var values = new double[size];
+		var rights = new int[size];
+		var offset = 0;
+		for (var i = 0; i < trees.size(); i++) {
+			var tree = trees.get(i);
+			roots[i] = offset;
+			System.arraycopy(tree.features(), 0, features, offset, tree.size());
+			System.arraycopy(tree.values(), 0, values, offset, tree.size());
+			for (var node = 0; node < tree.size(); node++) {
+				rights[offset + node] = tree.features()[node] == LEAF //
+						? LEAF //
+						: tree.rights()[node] + offset;
+			}
+			offset += tree.size();
+		}
+		return new FlatRandomForest(roots, features, values, rights);
+	}
+
+	/**
+	 * Predicts the target values for the given feature columns, as the average of
+	 * the predictions of all trees.
+	 *
+	 * @param columns  the feature values in the order used for
+	 *                 {@link #fit(double[][], double[], Config, ForkJoinPool)}
+	 * @param rowCount the number of rows
+	 * @return the predicted values per row
+	 */
+	public double[] predict(double[][] columns, int rowCount) {
+		final var features = this.features;
+		final var values = this.values;
+		final var rights = this.rights;
+		final var result = new double[rowCount];
+		for (var root : this.roots) {
+			for (var row = 0; row < rowCount; row++) {
+				var node = root;
+				int feature;
+				while ((feature = features[node]) != LEAF) {
+					// NaN is never less or equal and goes to the right, like in training
+					node = columns[feature][row] <= values[node] ? node + 1 : rights[node];
+				}
+				result[row] += values[node];
+			}
+		}
+		for (var row = 0; row < rowCount; row++) {
+			result[row] /= this.roots.length;
+		}
+		return result;
+	}
+
+	public int getNumTrees() {
+		return this.roots.length;
+	}
+
+	public int getNumNodes() {
+		return this.features.length;
+	}
+
+	public record Config(//
+			int numTrees, //
+			int maxDepth, //
+			double minChildWeight, //
+			double minImpurityDecrease, //
+			double fractionFeaturesInSplit, //
+			boolean useRandomSplitPoints, //
+			long seed) {
+	}
+
+	private record Tree(int[] features, double[] values, int[] rights, int size) {
+	}
+
+	/**
+	 * Builds one tree on a bootstrap sample. Rows drawn more than once are kept
+	 * once with their count as weight.
+	 *
+	 * <p>
+	 * For every feature the sampled rows are kept sorted by value. The rows of a
+	 * node are the same range in all of these orders, so candidate splits are
+	 * evaluated in one pass per feature and splitting a node is a stable
+	 * partition of that range.
+	 */
+	private static final class TreeBuilder {
+
+		private final double[][] columns;
+		private final double[] target;
+		private final Config config;
+		private final Random random;
+
+		private final int[] weights;
+		private final int[][] sorted;
+		private final boolean[] goesLeft;
+		private final int[] scratch;
+		private final int[] featureOrder;
+		private final int featuresInSplit;
+		private final double totalWeight;
+
+		private int[] features = new int[64];
+		private double[] values = new double[64];
+		private int[] rights = new int[64];
+		private int size = 0;
+
+		// Best split of the current node
+		private int bestFeature;
+		private double bestThreshold;
+		private double bestGain;
+
+		private TreeBuilder(double[][] columns, double[] target, int[][] orders, Config config, Random random) {
+			this.columns = columns;
+			this.target = target;
+			this.config = config;
+			this.random = random;
+
+			final var rows = target.length;
+			this.weights = new int[rows];
+			for (var i = 0; i < rows; i++) {
+				this.weights[this.random.nextInt(rows)]++;
+			}
+			var sampled = 0;
+			for (var weight : this.weights) {
+				if (weight > 0) {
+					sampled++;
+				}
+			}
+			this.sorted = new int[columns.length][sampled];
+			for (var feature = 0; feature < columns.length; feature++) {
+				var position = 0;
+				for (var row : orders[feature]) {
+					if (this.weights[row] > 0) {
+						this.sorted[feature][position++] = row;
+					}
+				}
+			}
+			this.goesLeft = new boolean[rows];
+			this.scratch = new int[sampled];
+			this.featureOrder = IntStream.range(0, columns.length).toArray();
+			this.featuresInSplit = Math.max(1, Math.min(columns.length, //
+					(int) Math.round(config.fractionFeaturesInSplit() * columns.length)));
+			this.totalWeight = rows;
+		}
+
+		private Tree build() {
+			// Pending nodes as {start, end, depth, parent}; parent is the split node
+			// whose right child is the pending node, or LEAF for the root
+			var stack = new int[64][];
+			var stackSize = 0;
+			stack[stackSize++] = new int[] { 0, this.scratch.length, 0, LEAF };
+			while (stackSize > 0) {
+				var pending = stack[--stackSize];
+				var node = this.buildNode(pending[0], pending[1], pending[2]);
+				if (pending[3] != LEAF) {
+					this.rights[pending[3]] = node;
+				}
+				if (this.features[node] != LEAF) {
+					if (stackSize + 2 > stack.length) {
+						stack = Arrays.copyOf(stack, stack.length * 2);
+					}
+					var middle = this.partition(pending[0], pending[1]);
+					// Right is pushed first, so the left child directly follows its parent
+					stack[stackSize++] = new int[] { middle, pending[1], pending[2] + 1, node };
+					stack[stackSize++] = new int[] { pending[0], middle, pending[2] + 1, LEAF };
+				}
+			}
+			return new Tree(this.features, this.values, this.rights, this.size);
+		}
+
+		/**
+		 * Adds a node for the rows in the given range, either a split node with the
+		 * best split or a leaf.
+		 *
+		 * @param start the start of the range, inclusive
+		 * @param end   the end of the range, exclusive
+		 * @param depth the depth of the node
+		 * @return the position of the node
+		 */
+		private int buildNode(int start, int end, int depth) {
+			var weight = 0.;
+			var sum = 0.;
+			var sumOfSquares = 0.;
+			for (var i = start; i < end; i++) {
+				var row = this.sorted[0][i];
+				var w = this.weights[row];
+				var y = this.target[row];
+				weight += w;
+				sum += w * y;
+				sumOfSquares += w * y * y;
+			}
+			var mean = sum / weight;
+			var squaredError = sumOfSquares - sum * mean;
+
+			this.bestFeature = LEAF;
+			this.bestGain = 0.;
+			if (depth < this.config.maxDepth() //
+					&& weight >= 2 * this.config.minChildWeight() //
+					&& squaredError > 0) {
+				// Evaluates more than featuresInSplit features, if none of them allowed a
+				// split, e.g. because they are constant in this node
+				for (var i = 0; i < this.featureOrder.length; i++) {
+					if (i >= this.featuresInSplit && this.bestFeature != LEAF) {
+						break;
+					}
+					this.findSplit(this.nextFeature(i), start, end, weight, sum, sumOfSquares, squaredError);
+				}
+			}
+			if (this.bestFeature != LEAF
+					&& this.bestGain / this.totalWeight < this.config.minImpurityDecrease()) {
+				this.bestFeature = LEAF;
+			}
+			return this.addNode(this.bestFeature, this.bestFeature == LEAF ? mean : this.bestThreshold);
+		}
+
+		private void findSplit(int feature, int start, int end, double weight, double sum, double sumOfSquares,
+				double squaredError) {
+			final var order = this.sorted[feature];
+			final var column = this.columns[feature];
+			final var minChildWeight = this.config.minChildWeight();
+
+			var randomThreshold = Double.NaN;
+			if (this.config.useRandomSplitPoints()) {
+				var min = column[order[start]];
+				var max = column[order[end - 1]];
+				if (!(min < max)) {
+					return;
+				}
+				randomThreshold = min + this.random.nextDouble() * (max - min);
+			}
+
+			var leftWeight = 0.;
+			var leftSum = 0.;
+			var leftSumOfSquares = 0.;
+			for (var i = start; i < end - 1; i++) {
+				final var row = order[i];
+				final var w = this.weights[row];
+				final var y = this.target[row];
+				leftWeight += w;
+				leftSum += w * y;
+				leftSumOfSquares += w * y * y;
+
+				final var value = column[row];
+				final var next = column[order[i + 1]];
+				if (!(value < next)) {
+					// Equal values can not be split; NaN is sorted last
+					continue;
+				}
+				if (this.config.useRandomSplitPoints() && next <= randomThreshold) {
+					continue;
+				}
+				final var rightWeight = weight - leftWeight;
+				if (leftWeight < minChildWeight || rightWeight < minChildWeight) {
+					if (this.config.useRandomSplitPoints()) {
+						return;
+					}
+					continue;
+				}
+
+				final var rightSum = sum - leftSum;
+				final var gain = squaredError //
+						- (leftSumOfSquares - leftSum * leftSum / leftWeight) //
+						- (sumOfSquares - leftSumOfSquares - rightSum * rightSum / rightWeight);
+				if (gain > this.bestGain) {
+					this.bestGain = gain;
+					this.bestFeature = feature;
+					if (this.config.useRandomSplitPoints()) {
+						this.bestThreshold = randomThreshold;
+					} else {
+						// The midpoint may round up to the next value
+						var threshold = value + (next - value) / 2;
+						this.bestThreshold = threshold < next ? threshold : value;
+					}
+				}
+				if (this.config.useRandomSplitPoints()) {
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Moves the rows of the left child of the current split to the start of the
+		 * range of every feature order, keeping their sort order.
+		 *
+		 * @param start the start of the range, inclusive
+		 * @param end   the end of the range, exclusive
+		 * @return the end of the left child, exclusive
+		 */
+		private int partition(int start, int end) {
+			final var column = this.columns[this.bestFeature];
+			final var threshold = this.bestThreshold;
+			for (var i = start; i < end; i++) {
+				var row = this.sorted[this.bestFeature][i];
+				this.goesLeft[row] = column[row] <= threshold;
+			}
+			var middle = start;
+			for (var order : this.sorted) {
+				var left = start;
+				var right = 0;
+				for (var i = start; i < end; i++) {
+					var row = order[i];
+					if (this.goesLeft[row]) {
+						order[left++] = row;
+					} else {
+						this.scratch[right++] = row;
+					}
+				}
+				System.arraycopy(this.scratch, 0, order, left, right);
+				middle = left;
+			}
+			return middle;
+		}
+
+		private int nextFeature(int i) {
+			// One step of a Fisher-Yates shuffle
+			var j = i + this.random.nextInt(this.featureOrder.length - i);
+			var feature = this.featureOrder[j];
+			this.featureOrder[j] = this.featureOrder[i];
+			this.featureOrder[i] = feature;
+			return feature;
+		}
+
+		private int addNode(int feature, double value) {
+			if (this.size == this.features.length) {
+				var capacity = this.size * 2;
+				this.features = Arrays.copyOf(this.features, capacity);
+				this.values = Arrays.copyOf(this.values, capacity);
+				this.rights = Arrays.copyOf(this.rights, capacity);
+			}
+			this.features[this.size] = feature;
+			this.values[this.size] = value;
+			this.rights[this.size] = LEAF;
+			return this.size++;
+		}
+	}
+}
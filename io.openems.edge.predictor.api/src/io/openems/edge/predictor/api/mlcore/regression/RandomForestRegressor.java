@@ -1,6 +1,8 @@
 package io.openems.edge.predictor.api.mlcore.regression;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 
 import org.tribuo.Example;
@@ -14,6 +16,7 @@ import org.tribuo.provenance.SimpleDataSourceProvenance;
 import org.tribuo.regression.RegressionFactory;
 import org.tribuo.regression.ensemble.AveragingCombiner;
 import org.tribuo.regression.rtree.CARTRegressionTrainer;
+import org.tribuo.regression.rtree.impurity.MeanSquaredError;
 import org.tribuo.regression.rtree.impurity.RegressorImpurity;
 
 import io.openems.edge.predictor.api.mlcore.datastructures.DataFrame;
@@ -28,10 +31,21 @@ public class RandomForestRegressor implements Regressor {
 		java.util.logging.Logger.getLogger("com.oracle.labs.mlrg.olcut").setLevel(java.util.logging.Level.SEVERE);
 	}
 
+	// Either the Tribuo model or the flat forest of fitParallel() is set
 	private final EnsembleModel<org.tribuo.regression.Regressor> model;
+	private final FlatRandomForest forest;
+	private final List<String> featureNames;
 
 	private RandomForestRegressor(EnsembleModel<org.tribuo.regression.Regressor> model) {
 		this.model = model;
+		this.forest = null;
+		this.featureNames = null;
+	}
+
+	private RandomForestRegressor(FlatRandomForest forest, List<String> featureNames) {
+		this.model = null;
+		this.forest = forest;
+		this.featureNames = featureNames;
 	}
 
 	/**
@@ -70,8 +84,59 @@ public class RandomForestRegressor implements Regressor {
 		return new RandomForestRegressor(model);
 	}
 
+	/**
+	 * Fits a {@link RandomForestRegressor} model to the given feature matrix and
+	 * target series, building the trees concurrently on a pool of the given number
+	 * of threads.
+	 *
+	 * <p>
+	 * The trees are stored as flat primitive arrays (see
+	 * {@link FlatRandomForest}), which makes {@link #predictBatch(DataFrame)} much
+	 * faster than the Tribuo model of {@link #fit(DataFrame, Series, Config)}.
+	 * Splits always minimize the squared error, so only
+	 * {@link MeanSquaredError} is supported as impurity.
+	 *
+	 * @param featureMatrix the input feature matrix
+	 * @param targetSeries  the target values corresponding to the feature matrix
+	 * @param config        the configuration parameters for the training
+	 * @param parallelism   the maximum number of threads
+	 * @return a trained {@link RandomForestRegressor} model
+	 * @throws IllegalArgumentException if the impurity is not supported
+	 */
+	public static RandomForestRegressor fitParallel(DataFrame<?> featureMatrix, Series<?> targetSeries,
+			Config config, int parallelism) {
+		if (!(config.impurity() instanceof MeanSquaredError)) {
+			throw new IllegalArgumentException("Only MeanSquaredError is supported as impurity");
+		}
+
+		var featureNames = List.copyOf(featureMatrix.getColumnNames());
+		var columns = toColumns(featureMatrix, featureNames);
+		var forestConfig = new FlatRandomForest.Config(//
+				config.numTrees(), //
+				config.maxDepth(), //
+				config.minChildWeight(), //
+				config.minImpurityDecrease(), //
+				config.fractionFeaturesInSplit(), //
+				config.useRandomSplitPoints(), //
+				config.seed());
+
+		var pool = new ForkJoinPool(parallelism);
+		try {
+			var forest = FlatRandomForest.fit(columns, targetSeries.toArray(), forestConfig, pool);
+			return new RandomForestRegressor(forest, featureNames);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
 	@Override
 	public List<Double> predict(DataFrame<?> featureMatrix) {
+		if (this.forest != null) {
+			return DoubleStream.of(this.predictBatch(featureMatrix))//
+					.boxed()//
+					.toList();
+		}
+
 		var examples = toExamples(featureMatrix);
 
 		var prediction = this.model.predict(examples);
@@ -81,14 +146,37 @@ public class RandomForestRegressor implements Regressor {
 				.toList();
 	}
 
+	@Override
+	public double[] predictBatch(DataFrame<?> featureMatrix) {
+		if (this.forest == null) {
+			return this.model.predict(toExamples(featureMatrix)).stream()//
+					.mapToDouble(p -> p.getOutput().getValues()[0])//
+					.toArray();
+		}
+
+		return this.forest.predict(//
+				toColumns(featureMatrix, this.featureNames), //
+				featureMatrix.rowCount());
+	}
+
+	private static double[][] toColumns(DataFrame<?> featureMatrix, List<String> featureNames) {
+		var columns = new double[featureNames.size()][];
+		for (var i = 0; i < columns.length; i++) {
+			columns[i] = new double[featureMatrix.rowCount()];
+			featureMatrix.getColumnView(featureNames.get(i)).get(columns[i]);
+		}
+		return columns;
+	}
+
 	private static List<Example<org.tribuo.regression.Regressor>> toExamples(DataFrame<?> featureMatrix,
 			Series<?> targetSeries) {
+		var columnNames = featureMatrix.getColumnNames();
 		return IntStream.range(0, featureMatrix.rowCount())//
 				.mapToObj(i -> {
 					var targetValue = new org.tribuo.regression.Regressor(TARGET, targetSeries.getAt(i));
 					var features = IntStream.range(0, featureMatrix.columnCount())//
 							.mapToObj(j -> new Feature(//
-									featureMatrix.getColumnNames().get(j), //
+									columnNames.get(j), //
 									featureMatrix.getValueAt(i, j)))//
 							.toList();
 					return (Example<org.tribuo.regression.Regressor>) new ArrayExample<>(targetValue, features);
@@ -97,12 +185,13 @@ public class RandomForestRegressor implements Regressor {
 	}
 
 	private static List<Example<org.tribuo.regression.Regressor>> toExamples(DataFrame<?> featureMatrix) {
+		var columnNames = featureMatrix.getColumnNames();
 		return IntStream.range(0, featureMatrix.rowCount())//
 				.mapToObj(i -> {
 					var targetValue = new org.tribuo.regression.Regressor(TARGET, Double.NaN);
 					var features = IntStream.range(0, featureMatrix.columnCount())//
 							.mapToObj(j -> new Feature(//
-									featureMatrix.getColumnNames().get(j), //
+									columnNames.get(j), //
 									featureMatrix.getValueAt(i, j)))//
 							.toList();
 					return (Example<org.tribuo.regression.Regressor>) new ArrayExample<>(targetValue, features);
@@ -13,4 +13,17 @@ public interface Regressor {
 	 * @return a list of predicted values
 	 */
 	public List<Double> predict(DataFrame<?> features);
+
+	/**
+	 * Predicts target values for all rows of the given feature matrix in one call,
+	 * e.g. for a whole prediction horizon.
+	 *
+	 * @param features the input features
+	 * @return the predicted values per row
+	 */
+	public default double[] predictBatch(DataFrame<?> features) {
+		return this.predict(features).stream()//
+				.mapToDouble(Double::doubleValue)//
+				.toArray();
+	}
 }
@@ -11,7 +11,7 @@ public abstract class AbstractDualTransformer<I> implements SeriesTransformer<I>
 	}
 
 	@Override
-	public DataFrame<I> transform(DataFrame<I> dataframe) {
+	public final DataFrame<I> transform(DataFrame<I> dataframe) {
 		return this.safeTransform(dataframe.copy());
 	}
 
@@ -20,9 +20,7 @@ public class ColumnApplyTransformer<I> extends AbstractDataFrameTransformer<I> {
 	@Override
 	public DataFrame<I> safeTransform(DataFrame<I> dataframe) {
 		for (var columnName : this.columnNames) {
-			var columnSeries = dataframe.getColumn(columnName);
-			columnSeries.apply(this.function);
-			dataframe.setColumn(columnName, columnSeries);
+			dataframe.apply(columnName, this.function);
 		}
 		return dataframe;
 	}
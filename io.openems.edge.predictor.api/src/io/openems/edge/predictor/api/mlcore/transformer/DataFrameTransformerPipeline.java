@@ -20,9 +20,16 @@ public class DataFrameTransformerPipeline<I> {
 	 * @return the transformed DataFrame after applying all transformers
 	 */
 	public DataFrame<I> transform(DataFrame<I> input) {
-		var result = input;
+		// Copy the input once; the steps of the pipeline then work in place
+		var result = input.copy();
 		for (DataFrameTransformer<I> transformer : this.transformers) {
-			result = result.applyTransformer(transformer);
+			if (transformer instanceof AbstractDataFrameTransformer<I> t) {
+				result = t.safeTransform(result);
+			} else if (transformer instanceof AbstractDualTransformer<I> t) {
+				result = t.safeTransform(result);
+			} else {
+				result = result.applyTransformer(transformer);
+			}
 		}
 		return result;
 	}
@@ -1,7 +1,5 @@
 package io.openems.edge.predictor.api.mlcore.transformer;
 
-import java.util.ArrayList;
-
 import io.openems.edge.predictor.api.mlcore.datastructures.Series;
 import io.openems.edge.predictor.api.mlcore.interpolation.Interpolator;
 
@@ -15,17 +13,8 @@ public class InterpolationTransformer<I> extends AbstractSeriesTransformer<I> {
 
 	@Override
 	protected Series<I> safeTransform(Series<I> series) {
-		var values = series.getValues();
-		var interpolatedValues = new ArrayList<Double>();
-
-		for (int i = 0; i < values.size(); i++) {
-			var value = values.get(i);
-			if (value == null || Double.isNaN(value)) {
-				value = this.interpolator.interpolate(i, values);
-			}
-			interpolatedValues.add(value);
-		}
-
-		return new Series<>(series.getIndex(), interpolatedValues);
+		var values = series.toArray();
+		this.interpolator.interpolateInPlace(values);
+		return series.withValues(values);
 	}
 }
\ No newline at end of file
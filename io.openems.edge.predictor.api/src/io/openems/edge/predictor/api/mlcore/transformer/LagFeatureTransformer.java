@@ -1,9 +1,6 @@
 package io.openems.edge.predictor.api.mlcore.transformer;
 
-import java.util.ArrayList;
-
 import io.openems.edge.predictor.api.mlcore.datastructures.DataFrame;
-import io.openems.edge.predictor.api.mlcore.datastructures.Series;
 
 public class LagFeatureTransformer<I> extends AbstractDataFrameTransformer<I> {
 
@@ -19,19 +16,16 @@ public class LagFeatureTransformer<I> extends AbstractDataFrameTransformer<I> {
 
 	@Override
 	protected DataFrame<I> safeTransform(DataFrame<I> dataframe) {
-		var originalValues = dataframe.getColumn(this.columnName).getValues();
-
-		var laggedValues = new ArrayList<Double>();
+		var originalValues = dataframe.getColumnView(this.columnName);
 
-		for (int i = 0; i < originalValues.size(); i++) {
-			if (i - this.lag < 0) {
-				laggedValues.add(Double.NaN);
-			} else {
-				laggedValues.add(originalValues.get(i - this.lag));
-			}
+		var laggedValues = new double[originalValues.limit()];
+		for (int i = 0; i < laggedValues.length; i++) {
+			laggedValues[i] = i - this.lag < 0 //
+					? Double.NaN //
+					: originalValues.get(i - this.lag);
 		}
 
-		dataframe.setColumn(this.newFeatureName, new Series<>(dataframe.getIndex(), laggedValues));
+		dataframe.setColumn(this.newFeatureName, laggedValues);
 		return dataframe;
 	}
 }
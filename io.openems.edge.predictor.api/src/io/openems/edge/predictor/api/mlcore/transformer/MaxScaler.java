@@ -15,7 +15,7 @@ public class MaxScaler<I> extends AbstractSeriesTransformer<I> {
 
 	@Override
 	protected Series<I> safeTransform(Series<I> series) {
-		series.apply(v -> v / this.max);
+		series.applyAsDouble(v -> v / this.max);
 		return series;
 	}
 }
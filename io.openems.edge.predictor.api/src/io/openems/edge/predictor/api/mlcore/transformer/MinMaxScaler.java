@@ -34,7 +34,7 @@ public class MinMaxScaler<I> extends AbstractSeriesTransformer<I> {
 
 		double targetRange = this.targetMax - this.targetMin;
 
-		series.apply(v -> this.targetMin + ((v - dataMin) / safeDataRange) * targetRange);
+		series.applyAsDouble(v -> this.targetMin + ((v - dataMin) / safeDataRange) * targetRange);
 		return series;
 	}
 }
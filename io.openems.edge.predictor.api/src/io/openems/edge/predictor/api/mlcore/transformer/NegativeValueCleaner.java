@@ -12,12 +12,12 @@ public class NegativeValueCleaner<I> extends AbstractSeriesTransformer<I> {
 
 	@Override
 	protected Series<I> safeTransform(Series<I> series) {
-		var cleanedValues = series.getValues().stream()//
-				.map(v -> (v != null && v.doubleValue() < 0) //
-						? this.replacementValue //
-						: v)//
-				.toList();
-
-		return new Series<>(series.getIndex(), cleanedValues);
+		if (this.replacementValue == null) {
+			series.apply(v -> v < 0 ? null : v);
+		} else {
+			final double replacement = this.replacementValue;
+			series.applyAsDouble(v -> v < 0 ? replacement : v);
+		}
+		return series;
 	}
 }
@@ -20,9 +20,16 @@ public class SeriesTransformerPipeline<I> {
 	 * @return the transformed Series after applying all transformers
 	 */
 	public Series<I> transform(Series<I> input) {
-		var result = input;
+		// Copy the input once; the steps of the pipeline then work in place
+		var result = input.copy();
 		for (SeriesTransformer<I> transformer : this.transformers) {
-			result = result.applyTransformer(transformer);
+			if (transformer instanceof AbstractSeriesTransformer<I> t) {
+				result = t.safeTransform(result);
+			} else if (transformer instanceof AbstractDualTransformer<I> t) {
+				result = t.safeTransform(result);
+			} else {
+				result = result.applyTransformer(transformer);
+			}
 		}
 		return result;
 	}
@@ -3,7 +3,6 @@ package io.openems.edge.predictor.api.mlcore.transformer;
 import java.util.function.Function;
 
 import io.openems.edge.predictor.api.mlcore.datastructures.DataFrame;
-import io.openems.edge.predictor.api.mlcore.datastructures.Series;
 
 public class TimeOfDaySinCosFeatureTransformer<I> extends AbstractDataFrameTransformer<I> {
 
@@ -26,24 +25,17 @@ public class TimeOfDaySinCosFeatureTransformer<I> extends AbstractDataFrameTrans
 	protected DataFrame<I> safeTransform(DataFrame<I> dataframe) {
 		var index = dataframe.getIndex();
 
-		var sinValues = index.stream()//
-				.map(idx -> {
-					int minuteOfDay = this.minuteOfDayExtractor.apply(idx);
-					double angle = 2 * Math.PI * ((double) minuteOfDay / MINUTES_PER_DAY);
-					return Math.sin(angle);
-				})//
-				.toList();
-
-		var cosValues = index.stream()//
-				.map(idx -> {
-					int minuteOfDay = this.minuteOfDayExtractor.apply(idx);
-					double angle = 2 * Math.PI * ((double) minuteOfDay / MINUTES_PER_DAY);
-					return Math.cos(angle);
-				})//
-				.toList();
-
-		dataframe.setColumn(this.sinColumnName, new Series<>(index, sinValues));
-		dataframe.setColumn(this.cosColumnName, new Series<>(index, cosValues));
+		var sinValues = new double[index.size()];
+		var cosValues = new double[index.size()];
+		for (int i = 0; i < sinValues.length; i++) {
+			int minuteOfDay = this.minuteOfDayExtractor.apply(index.get(i));
+			double angle = 2 * Math.PI * ((double) minuteOfDay / MINUTES_PER_DAY);
+			sinValues[i] = Math.sin(angle);
+			cosValues[i] = Math.cos(angle);
+		}
+
+		dataframe.setColumn(this.sinColumnName, sinValues);
+		dataframe.setColumn(this.cosColumnName, cosValues);
 
 		return dataframe;
 	}
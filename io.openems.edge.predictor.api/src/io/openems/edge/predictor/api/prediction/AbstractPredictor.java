@@ -4,14 +4,18 @@ import static io.openems.common.utils.DateUtils.roundDownToQuarter;
 import static io.openems.common.utils.FunctionUtils.doNothing;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Stopwatch;
+
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
@@ -24,9 +28,12 @@ public abstract class AbstractPredictor extends AbstractOpenemsComponent impleme
 	private final Logger log = LoggerFactory.getLogger(AbstractPredictor.class);
 
 	private final Map<ChannelAddress, Prediction> predictions = new HashMap<>();
+	private final AtomicLong modelVersion = new AtomicLong();
+	private long predictionsModelVersion = 0L;
 
 	private ChannelAddress[] channelAdresses = new ChannelAddress[0];
 	private LogVerbosity logVerbosity = LogVerbosity.NONE;
+	private volatile Stopwatch trainingStopwatch = null;
 
 	protected abstract ClockProvider getClockProvider();
 
@@ -35,7 +42,14 @@ public abstract class AbstractPredictor extends AbstractOpenemsComponent impleme
 	protected AbstractPredictor(//
 			io.openems.edge.common.channel.ChannelId[] firstInitialChannelIds,
 			io.openems.edge.common.channel.ChannelId[]... furtherInitialChannelIds) {
-		super(firstInitialChannelIds, furtherInitialChannelIds);
+		super(firstInitialChannelIds, withPredictorChannelIds(furtherInitialChannelIds));
+	}
+
+	private static io.openems.edge.common.channel.ChannelId[][] withPredictorChannelIds(
+			io.openems.edge.common.channel.ChannelId[][] channelIds) {
+		final var result = Arrays.copyOf(channelIds, channelIds.length + 1);
+		result[channelIds.length] = Predictor.ChannelId.values();
+		return result;
 	}
 
 	@Override
@@ -84,13 +98,21 @@ public abstract class AbstractPredictor extends AbstractOpenemsComponent impleme
 	@Override
 	public Prediction getPrediction(ChannelAddress channelAddress) {
 		var now = roundDownToQuarter(Instant.now(this.getClockProvider().getClock()));
+		var modelVersion = this.modelVersion.get();
+		if (modelVersion != this.predictionsModelVersion) {
+			// Model was updated: discard predictions of the previous model
+			this.predictions.clear();
+			this.predictionsModelVersion = modelVersion;
+		}
 		var prediction = this.predictions.get(channelAddress);
 		if (Optional.ofNullable(prediction) // handle first-request or unsupported channelAddress
 				.map(p -> p.getFirstTime()) // handle prediction is EMPTY_PREDICTION
 				.map(t -> now.isAfter(t)) // handle prediction is outdated
 				.orElse(true /* any null? */)) {
 			// Create new prediction
+			final var stopwatch = Stopwatch.createStarted();
 			prediction = this.createNewPrediction(channelAddress);
+			this._setPredictionDuration(stopwatch.elapsed().toMillis());
 			this.predictions.put(channelAddress, prediction);
 		} else {
 			// Reuse existing prediction
@@ -102,6 +124,41 @@ public abstract class AbstractPredictor extends AbstractOpenemsComponent impleme
 		return prediction;
 	}
 
+	@Override
+	public long getModelVersion() {
+		return this.modelVersion.get();
+	}
+
+	/**
+	 * Increases the model version after a successful training, so that
+	 * predictions of the previous model are not reused. See
+	 * {@link Predictor#getModelVersion()}.
+	 */
+	protected void increaseModelVersion() {
+		this.modelVersion.incrementAndGet();
+	}
+
+	/**
+	 * Starts measuring the duration of a training. Call
+	 * {@link #stopTrainingDuration()} when the training has finished.
+	 */
+	protected void startTrainingDuration() {
+		this.trainingStopwatch = Stopwatch.createStarted();
+	}
+
+	/**
+	 * Sets the duration since {@link #startTrainingDuration()} on
+	 * {@link Predictor.ChannelId#TRAINING_DURATION}.
+	 */
+	protected void stopTrainingDuration() {
+		final var stopwatch = this.trainingStopwatch;
+		if (stopwatch == null) {
+			return;
+		}
+		this.trainingStopwatch = null;
+		this._setTrainingDuration(stopwatch.elapsed().toMillis());
+	}
+
 	protected LogVerbosity getLogVerbosity() {
 		return this.logVerbosity;
 	}
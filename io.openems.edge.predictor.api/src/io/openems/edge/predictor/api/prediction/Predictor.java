@@ -2,7 +2,12 @@ package io.openems.edge.predictor.api.prediction;
 
 import org.osgi.annotation.versioning.ProviderType;
 
+import io.openems.common.channel.Unit;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.LongReadChannel;
+import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 
 /**
@@ -11,6 +16,33 @@ import io.openems.edge.common.component.OpenemsComponent;
 @ProviderType
 public interface Predictor extends OpenemsComponent {
 
+	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+		/**
+		 * Duration of the last training of the prediction model.
+		 */
+		TRAINING_DURATION(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS) //
+				.text("Duration of the last training")), //
+		/**
+		 * Duration of the last creation of a new prediction.
+		 */
+		PREDICTION_DURATION(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS) //
+				.text("Duration of the last creation of a prediction")), //
+		;
+
+		private final Doc doc;
+
+		private ChannelId(Doc doc) {
+			this.doc = doc;
+		}
+
+		@Override
+		public Doc doc() {
+			return this.doc;
+		}
+	}
+
 	/**
 	 * Gets the Channel-Addresses for which this Predictor can provide a prediction.
 	 *
@@ -30,4 +62,71 @@ public interface Predictor extends OpenemsComponent {
 	 */
 	public Prediction getPrediction(ChannelAddress channelAddress);
 
+	/**
+	 * Gets the version of the prediction model. The version changes whenever the
+	 * model was retrained, so that cached {@link Prediction}s of an older model
+	 * can be discarded.
+	 *
+	 * @return the model version
+	 */
+	public long getModelVersion();
+
+	/**
+	 * Gets the Channel for {@link ChannelId#TRAINING_DURATION}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getTrainingDurationChannel() {
+		return this.channel(ChannelId.TRAINING_DURATION);
+	}
+
+	/**
+	 * Gets the duration of the last training in [ms]. See
+	 * {@link ChannelId#TRAINING_DURATION}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getTrainingDuration() {
+		return this.getTrainingDurationChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#TRAINING_DURATION}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setTrainingDuration(Long value) {
+		this.getTrainingDurationChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PREDICTION_DURATION}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getPredictionDurationChannel() {
+		return this.channel(ChannelId.PREDICTION_DURATION);
+	}
+
+	/**
+	 * Gets the duration of the last creation of a prediction in [ms]. See
+	 * {@link ChannelId#PREDICTION_DURATION}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getPredictionDuration() {
+		return this.getPredictionDurationChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PREDICTION_DURATION} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPredictionDuration(Long value) {
+		this.getPredictionDurationChannel().setNextValue(value);
+	}
+
 }
@@ -38,8 +38,14 @@ public class DummyPredictor extends AbstractPredictor implements Predictor {
 		this.prediction = prediction;
 	}
 
+	/**
+	 * Sets the {@link Prediction} like after a new training.
+	 *
+	 * @param prediction the {@link Prediction}
+	 */
 	public void setPrediction(Prediction prediction) {
 		this.prediction = prediction;
+		this.increaseModelVersion();
 	}
 
 	@Override
@@ -3,6 +3,7 @@ package io.openems.edge.predictor.api.mlcore.datastructures;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
@@ -10,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.OptionalDouble;
@@ -94,6 +96,21 @@ public class DataFrameTest {
 		assertEquals(this.values, result.getValues());
 	}
 
+	@Test
+	public void testFromColumns_ShouldCreateDataFrame_WhenValidColumns() {
+		var columns = new LinkedHashMap<String, double[]>();
+		columns.put("column1", new double[] { 1.0, 3.0, 5.0 });
+		columns.put("column2", new double[] { 2.0, 4.0, 6.0 });
+
+		var result = DataFrame.fromColumns(this.index, columns);
+		assertEquals(this.dataframe, result);
+
+		columns.put("column3", new double[] { 1.0 });
+		assertThrows(//
+				IllegalArgumentException.class, //
+				() -> DataFrame.fromColumns(this.index, columns));
+	}
+
 	@Test
 	public void testFromSeriesMap_ShouldThrow_WhenSeriesHaveDifferentIndices() {
 		var seriesMap = new HashMap<String, Series<Integer>>();
@@ -151,6 +168,29 @@ public class DataFrameTest {
 		assertEquals(expected, this.dataframe.getColumn("column1"));
 	}
 
+	@Test
+	public void testGetColumn_ShouldNotAffectDataFrame_WhenSeriesModified() {
+		var column = this.dataframe.getColumn("column1");
+		column.setValueAt(0, 10.0);
+		column.add(3, 7.0);
+		assertEquals(1.0, this.dataframe.getValueAt(0, 0), 0.0);
+		assertEquals(this.index, this.dataframe.getIndex());
+
+		this.dataframe.removeRow(0);
+		assertEquals(List.of(0, 1, 2, 3), column.getIndex());
+	}
+
+	@Test
+	public void testGetColumnView_ShouldReflectValues_WhenValueSet() {
+		var view = this.dataframe.getColumnView("column2");
+		assertEquals(3, view.limit());
+		assertEquals(4.0, view.get(1), 0.0);
+
+		this.dataframe.setValue(1, "column2", null);
+		assertTrue(Double.isNaN(view.get(1)));
+		assertNull(this.dataframe.getValue(1, "column2"));
+	}
+
 	@Test
 	public void testGetColumn_ShouldThrow_WhenColumnNotFound() {
 		assertThrows(//
@@ -288,6 +328,17 @@ public class DataFrameTest {
 		assertEquals(newSeries, this.dataframe.getColumn("column1"));
 	}
 
+	@Test
+	public void testSetColumn_ShouldUseArray_WhenArrayProvided() {
+		var values = new double[] { 7.0, 8.0, 9.0 };
+		this.dataframe.setColumn("column3", values);
+		assertEquals(List.of(7.0, 8.0, 9.0), this.dataframe.getColumn("column3").getValues());
+
+		assertThrows(//
+				IllegalArgumentException.class, //
+				() -> this.dataframe.setColumn("column4", new double[2]));
+	}
+
 	@Test
 	public void testSetColumn_ShouldThrow_WhenSeriesIndexMismatches() {
 		var invalidSeries = new Series<>(List.of(0, 1, 3), List.of(7.0, 8.0, 9.0));
@@ -228,6 +228,50 @@ public class SeriesTest {
 		assertEquals(Arrays.asList(2.0, null, 6.0), seriesWithNull.getValues());
 	}
 
+	@Test
+	public void testApplyAsDouble_ShouldTransformValuesInPlace() {
+		var seriesWithNull = new Series<>(//
+				List.of(0, 1, 2, 3), //
+				Arrays.asList(1.0, null, Double.NaN, 3.0));
+		seriesWithNull.applyAsDouble(x -> x * 2);
+		assertEquals(Arrays.asList(2.0, null, Double.NaN, 6.0), seriesWithNull.getValues());
+	}
+
+	@Test
+	public void testGetValuesView_ShouldReturnNaN_WhenValueIsMissing() {
+		var seriesWithNull = new Series<>(//
+				this.index, //
+				Arrays.asList(1.0, null, 3.0));
+		var view = seriesWithNull.getValuesView();
+		assertEquals(3, view.limit());
+		assertTrue(Double.isNaN(view.get(1)));
+
+		seriesWithNull.setValueAt(1, 2.0);
+		assertEquals(2.0, view.get(1), 0.0);
+		assertTrue(view.isReadOnly());
+	}
+
+	@Test
+	public void testWithValues_ShouldShareIndex_WhenCalled() {
+		var values = new double[] { 4.0, 5.0, 6.0 };
+		var other = this.series.withValues(values);
+		assertEquals(this.index, other.getIndex());
+		assertEquals(List.of(4.0, 5.0, 6.0), other.getValues());
+
+		// array is used as storage
+		values[0] = 7.0;
+		assertEquals(7.0, other.getAt(0), 0.0);
+
+		// index is copied before modification
+		other.add(3, 8.0);
+		assertEquals(3, this.series.size());
+		assertEquals(4, other.size());
+
+		assertThrows(//
+				IllegalArgumentException.class, //
+				() -> this.series.withValues(new double[2]));
+	}
+
 	@Test
 	public void testCopy_ShouldCreateDeepCopy_WhenCalled() {
 		var copy = this.series.copy();
@@ -42,6 +42,25 @@ public class LinearInterpolatorTest {
 		assertTrue(Double.isNaN(interp.interpolate(2, values)));
 	}
 
+	@Test
+	public void testInterpolateInPlace_ShouldMatchInterpolate() {
+		var interp = new LinearInterpolator(2);
+		var values = Arrays.asList(null, 1.0, null, null, 4.0, null, null, null, 8.0, 9.0, null, null);
+		var array = values.stream()//
+				.mapToDouble(v -> v == null ? Double.NaN : v)//
+				.toArray();
+
+		interp.interpolateInPlace(array);
+
+		for (int i = 0; i < values.size(); i++) {
+			var expected = values.get(i) == null ? interp.interpolate(i, values) : values.get(i);
+			assertEquals(expected, array[i], 1e-6);
+		}
+		assertEquals(2.0, array[2], 1e-6);
+		assertTrue(Double.isNaN(array[6]));
+		assertEquals(9.0, array[11], 1e-6);
+	}
+
 	@Test
 	public void shouldInterpolate_ShouldReturnNaN_WhenNoNeighbors() {
 		var interp = new LinearInterpolator(2);
@@ -0,0 +1,110 @@
+package io.openems.edge.predictor.api.mlcore.regression;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+public class FlatRandomForestTest {
+
+	private static final int ROWS = 200;
+
+	@Test
+	public void testFitAndPredict_ShouldLearnStepFunction() {
+		var columns = createColumns();
+		var target = createTarget(columns);
+
+		var pool = new ForkJoinPool(2);
+		try {
+			var forest = FlatRandomForest.fit(columns, target, createConfig(false), pool);
+			var preds = forest.predict(new double[][] { { 10, 190 }, { 0.5, 0.5 } }, 2);
+
+			assertEquals(20, forest.getNumTrees());
+			assertEquals(1.0, preds[0], 0.5);
+			assertEquals(5.0, preds[1], 0.5);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testFitAndPredict_WithRandomSplitPoints_ShouldLearnStepFunction() {
+		var columns = createColumns();
+		var target = createTarget(columns);
+
+		var pool = new ForkJoinPool(2);
+		try {
+			var forest = FlatRandomForest.fit(columns, target, createConfig(true), pool);
+			var preds = forest.predict(new double[][] { { 10, 190 }, { 0.5, 0.5 } }, 2);
+
+			assertTrue(forest.getNumNodes() > forest.getNumTrees());
+			assertEquals(1.0, preds[0], 1.0);
+			assertEquals(5.0, preds[1], 1.0);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testFit_ShouldNotDependOnParallelism() {
+		var columns = createColumns();
+		var target = createTarget(columns);
+
+		var sequentialPool = new ForkJoinPool(1);
+		var parallelPool = new ForkJoinPool(4);
+		try {
+			var sequential = FlatRandomForest.fit(columns, target, createConfig(false), sequentialPool);
+			var parallel = FlatRandomForest.fit(columns, target, createConfig(false), parallelPool);
+
+			assertEquals(sequential.getNumNodes(), parallel.getNumNodes());
+			assertArrayEquals(sequential.predict(columns, ROWS), parallel.predict(columns, ROWS), 0.0);
+		} finally {
+			sequentialPool.shutdown();
+			parallelPool.shutdown();
+		}
+	}
+
+	@Test
+	public void testFit_ShouldThrowOnRowCountMismatch() {
+		var pool = new ForkJoinPool(1);
+		try {
+			assertThrows(IllegalArgumentException.class, () -> FlatRandomForest.fit(//
+					new double[][] { { 1, 2, 3 } }, new double[] { 1, 2 }, createConfig(false), pool));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private static FlatRandomForest.Config createConfig(boolean useRandomSplitPoints) {
+		return new FlatRandomForest.Config(//
+				20, // numTrees
+				Integer.MAX_VALUE, // maxDepth
+				3.0, // minChildWeight
+				0.0, // minImpurityDecrease
+				0.5, // fractionFeaturesInSplit
+				useRandomSplitPoints, //
+				42L // seed
+		);
+	}
+
+	private static double[][] createColumns() {
+		var columns = new double[2][ROWS];
+		for (var row = 0; row < ROWS; row++) {
+			columns[0][row] = row;
+			columns[1][row] = (row * 7 % 13) / 13.0; // noise
+		}
+		return columns;
+	}
+
+	private static double[] createTarget(double[][] columns) {
+		var target = new double[ROWS];
+		for (var row = 0; row < ROWS; row++) {
+			target[row] = columns[0][row] < ROWS / 2 ? 1.0 : 5.0;
+		}
+		return target;
+	}
+}
@@ -1,8 +1,12 @@
 package io.openems.edge.predictor.api.mlcore.regression;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.Test;
 import org.tribuo.regression.rtree.impurity.MeanSquaredError;
@@ -42,4 +46,128 @@ public class RandomForestRegressorTest {
 
 		assertEquals(targets.size(), preds.size());
 	}
+
+	@Test
+	public void testFitParallelAndPredictBatch_ShouldMatchPredict() {
+		var featureNames = List.of("feature1", "feature2");
+		var features = new ArrayList<List<Double>>();
+		var targets = new ArrayList<Double>();
+		var index = new ArrayList<Integer>();
+		for (var i = 0; i < 100; i++) {
+			features.add(List.of((double) i, (double) (i % 3)));
+			targets.add(i < 50 ? 2.0 : 8.0);
+			index.add(i);
+		}
+		var x = new DataFrame<>(index, featureNames, features);
+		var y = new Series<>(index, targets);
+
+		var config = new RandomForestRegressor.Config(//
+				25, // numTrees
+				12, // maxDepth
+				1.0f, // minChildWeight
+				1e-8f, // minImpurityDecrease
+				0.5f, // fractionFeaturesInSplit
+				false, // useRandomSplitPoints
+				new MeanSquaredError(), // impurity
+				42L // seed
+		);
+
+		var model = RandomForestRegressor.fitParallel(x, y, config, 2);
+		var preds = model.predict(x);
+		var batchPreds = model.predictBatch(x);
+
+		assertEquals(targets.size(), batchPreds.length);
+		assertArrayEquals(preds.stream().mapToDouble(Double::doubleValue).toArray(), batchPreds, 0.0);
+		assertEquals(2.0, batchPreds[10], 0.5);
+		assertEquals(8.0, batchPreds[90], 0.5);
+	}
+
+	@Test
+	public void testFitParallel_ShouldMatchFitOnProductionData() {
+		final var trainingDays = 30;
+		final var testDays = 5;
+		var training = createProductionData(0, trainingDays);
+		var test = createProductionData(trainingDays, testDays);
+
+		// Same parameters as the production linear model
+		var config = new RandomForestRegressor.Config(//
+				100, // numTrees
+				Integer.MAX_VALUE, // maxDepth
+				3.0f, // minChildWeight
+				0.0f, // minImpurityDecrease
+				3.0f / 7, // fractionFeaturesInSplit
+				false, // useRandomSplitPoints
+				new MeanSquaredError(), // impurity
+				42L // seed
+		);
+
+		var tribuo = RandomForestRegressor.fit(training.features(), training.target(), config)
+				.predictBatch(test.features());
+		var flat = RandomForestRegressor.fitParallel(training.features(), training.target(), config, 4)
+				.predictBatch(test.features());
+		var actual = test.target().toArray();
+
+		var tribuoError = rootMeanSquaredError(tribuo, actual);
+		var flatError = rootMeanSquaredError(flat, actual);
+		var difference = rootMeanSquaredError(tribuo, flat);
+
+		// In W, for a peak production of about 9 kW. With Tribuo 4.3.2 and seeds 1 to
+		// 9 and 42 both errors are 87 to 90 W apart by at most 3 W; the predictions
+		// differ by 14 to 16 W
+		assertTrue("Tribuo error " + tribuoError, tribuoError < 100);
+		assertTrue("Flat error " + flatError, flatError < 100);
+		assertTrue("Flat error " + flatError + " vs Tribuo error " + tribuoError,
+				Math.abs(flatError - tribuoError) < 5);
+		assertTrue("Difference " + difference, difference < 20);
+	}
+
+	private record ProductionData(DataFrame<Integer> features, Series<Integer> target) {
+	}
+
+	/**
+	 * Creates quarterly weather features and the production of a 10 kWp PV system
+	 * with changing cloudiness, like the training data of the production linear
+	 * model.
+	 *
+	 * @param startDay the first day
+	 * @param days     the number of days
+	 * @return the {@link ProductionData}
+	 */
+	private static ProductionData createProductionData(int startDay, int days) {
+		var featureNames = List.of("shortwave_radiation", "direct_radiation", "diffuse_radiation", "temperature",
+				"time_sin", "time_cos");
+		var features = new ArrayList<List<Double>>();
+		var targets = new ArrayList<Double>();
+		var index = new ArrayList<Integer>();
+		var random = new Random(startDay);
+		for (var day = startDay; day < startDay + days; day++) {
+			var cloudiness = random.nextDouble();
+			for (var quarter = 0; quarter < 96; quarter++) {
+				var angle = 2 * Math.PI * quarter / 96;
+				var sun = Math.max(0, -Math.cos(angle));
+				var clouds = Math.min(1, Math.max(0, cloudiness + 0.2 * random.nextGaussian()));
+				var shortwave = 900 * sun * (1 - 0.75 * clouds);
+				var direct = shortwave * (1 - clouds);
+				var diffuse = shortwave - direct;
+				var temperature = 10 + 12 * sun + 3 * random.nextGaussian();
+				var production = 10 * shortwave * (1 - 0.004 * (temperature - 25)) //
+						+ 150 * sun * random.nextGaussian();
+
+				features.add(List.of(shortwave, direct, diffuse, temperature, Math.sin(angle), Math.cos(angle)));
+				targets.add(Math.max(0, production));
+				index.add(day * 96 + quarter);
+			}
+		}
+		return new ProductionData(//
+				new DataFrame<>(index, featureNames, features), //
+				new Series<>(index, targets));
+	}
+
+	private static double rootMeanSquaredError(double[] a, double[] b) {
+		var sum = 0.;
+		for (var i = 0; i < a.length; i++) {
+			sum += (a[i] - b[i]) * (a[i] - b[i]);
+		}
+		return Math.sqrt(sum / a.length);
+	}
 }
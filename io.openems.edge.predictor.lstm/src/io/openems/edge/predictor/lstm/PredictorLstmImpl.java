@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.SortedMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
@@ -52,6 +53,7 @@ import io.openems.edge.predictor.lstm.common.LstmPredictor;
 import io.openems.edge.predictor.lstm.common.ReadAndSaveModels;
 import io.openems.edge.predictor.lstm.jsonrpc.GetPredictionRequest;
 import io.openems.edge.predictor.lstm.train.LstmTrain;
+import io.openems.edge.predictor.lstm.train.MakeModel;
 import io.openems.edge.timedata.api.Timedata;
 
 @Designate(ocd = Config.class, factory = true)
@@ -95,6 +97,7 @@ public class PredictorLstmImpl extends AbstractPredictor
 	}
 
 	private ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+	private final ForkJoinPool trainingPool = MakeModel.createTrainingPool();
 	private ChannelAddress channelForPrediction;
 
 	@Activate
@@ -109,7 +112,7 @@ public class PredictorLstmImpl extends AbstractPredictor
 		 * 45-day period: 30 days for training and 15 days for validation.
 		 */
 		this.scheduler.scheduleAtFixedRate(//
-				new LstmTrain(this.timedata, channelAddress, this, DAYS_45), //
+				new LstmTrain(this.timedata, channelAddress, this, DAYS_45, this.trainingPool), //
 				0, //
 				PERIOD, //
 				TimeUnit.MINUTES//
@@ -120,6 +123,7 @@ public class PredictorLstmImpl extends AbstractPredictor
 	@Deactivate
 	protected void deactivate() {
 		shutdownAndAwaitTermination(this.scheduler, 0);
+		shutdownAndAwaitTermination(this.trainingPool, 0);
 		super.deactivate();
 	}
 
@@ -1,9 +1,15 @@
 package io.openems.edge.predictor.lstm.common;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serializable;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 public class HyperParameters implements Serializable {
 
@@ -890,4 +896,135 @@ public class HyperParameters implements Serializable {
 		this.lastTrainedDate = OffsetDateTime.now();
 	}
 
+	/**
+	 * Writes this {@link HyperParameters} including all models in the compact
+	 * binary format read by {@link #readFrom(DataInput)}.
+	 *
+	 * <p>
+	 * Model weights and errors are written as raw doubles; a null value is
+	 * written as {@link Double#NaN}.
+	 *
+	 * @param out the {@link DataOutput}
+	 * @throws IOException on error
+	 */
+	public void writeTo(DataOutput out) throws IOException {
+		out.writeBoolean(this.lastTrainedDate != null);
+		if (this.lastTrainedDate != null) {
+			out.writeLong(this.lastTrainedDate.toEpochSecond());
+			out.writeInt(this.lastTrainedDate.getNano());
+			out.writeInt(this.lastTrainedDate.getOffset().getTotalSeconds());
+		}
+		out.writeDouble(this.learningRateUpperLimit);
+		out.writeDouble(this.learnignRateLowerLimit);
+		out.writeDouble(this.dataSplitTrain);
+		out.writeDouble(this.dataSplitValidate);
+		out.writeDouble(this.wiInit);
+		out.writeDouble(this.woInit);
+		out.writeDouble(this.wzInit);
+		out.writeDouble(this.riInit);
+		out.writeDouble(this.roInit);
+		out.writeDouble(this.rzInit);
+		out.writeDouble(this.ytInit);
+		out.writeDouble(this.ctInit);
+		out.writeInt(this.interval);
+		out.writeInt(this.batchSize);
+		out.writeInt(this.batchTrack);
+		out.writeInt(this.epoch);
+		out.writeInt(this.epochTrack);
+		out.writeInt(this.trendPoints);
+		out.writeInt(this.windowSizeSeasonality);
+		out.writeInt(this.windowSizeTrend);
+		out.writeInt(this.gdIterration);
+		out.writeInt(this.count);
+		out.writeDouble(this.targetError);
+		out.writeDouble(this.scalingMin);
+		out.writeDouble(this.scalingMax);
+		writeNested(out, this.modelTrend);
+		writeNested(out, this.modelSeasonality);
+		writeNested(out, this.allModelErrorTrend);
+		writeNested(out, this.allModelErrorSeasonality);
+		out.writeDouble(this.mean);
+		out.writeDouble(this.standardDeviation);
+		writeNested(out, this.rmsErrorTrend);
+		writeNested(out, this.rmsErrorSeasonality);
+		out.writeInt(this.outerLoopCount);
+		out.writeUTF(this.modelName);
+	}
+
+	/**
+	 * Reads {@link HyperParameters} written by {@link #writeTo(DataOutput)}.
+	 *
+	 * @param in the {@link DataInput}
+	 * @return the {@link HyperParameters}
+	 * @throws IOException on error
+	 */
+	public static HyperParameters readFrom(DataInput in) throws IOException {
+		var result = new HyperParameters();
+		if (in.readBoolean()) {
+			var epochSecond = in.readLong();
+			var nano = in.readInt();
+			var offset = ZoneOffset.ofTotalSeconds(in.readInt());
+			result.lastTrainedDate = OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), offset);
+		}
+		result.learningRateUpperLimit = in.readDouble();
+		result.learnignRateLowerLimit = in.readDouble();
+		result.dataSplitTrain = in.readDouble();
+		result.dataSplitValidate = in.readDouble();
+		result.wiInit = in.readDouble();
+		result.woInit = in.readDouble();
+		result.wzInit = in.readDouble();
+		result.riInit = in.readDouble();
+		result.roInit = in.readDouble();
+		result.rzInit = in.readDouble();
+		result.ytInit = in.readDouble();
+		result.ctInit = in.readDouble();
+		result.interval = in.readInt();
+		result.batchSize = in.readInt();
+		result.batchTrack = in.readInt();
+		result.epoch = in.readInt();
+		result.epochTrack = in.readInt();
+		result.trendPoints = in.readInt();
+		result.windowSizeSeasonality = in.readInt();
+		result.windowSizeTrend = in.readInt();
+		result.gdIterration = in.readInt();
+		result.count = in.readInt();
+		result.targetError = in.readDouble();
+		result.scalingMin = in.readDouble();
+		result.scalingMax = in.readDouble();
+		result.modelTrend = readNested(in, 4);
+		result.modelSeasonality = readNested(in, 4);
+		result.allModelErrorTrend = readNested(in, 1);
+		result.allModelErrorSeasonality = readNested(in, 1);
+		result.mean = in.readDouble();
+		result.standardDeviation = in.readDouble();
+		result.rmsErrorTrend = readNested(in, 1);
+		result.rmsErrorSeasonality = readNested(in, 1);
+		result.outerLoopCount = in.readInt();
+		result.modelName = in.readUTF();
+		return result;
+	}
+
+	private static void writeNested(DataOutput out, List<?> list) throws IOException {
+		out.writeInt(list.size());
+		for (var element : list) {
+			if (element instanceof List<?> l) {
+				writeNested(out, l);
+			} else {
+				out.writeDouble(element == null ? Double.NaN : (Double) element);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> ArrayList<T> readNested(DataInput in, int depth) throws IOException {
+		var size = in.readInt();
+		var result = new ArrayList<T>(size);
+		for (var i = 0; i < size; i++) {
+			result.add(depth > 1 //
+					? (T) readNested(in, depth - 1) //
+					: (T) Double.valueOf(in.readDouble()));
+		}
+		return result;
+	}
+
 }
@@ -1,15 +1,20 @@
 package io.openems.edge.predictor.lstm.common;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
@@ -28,17 +33,20 @@ public class ReadAndSaveModels {
 
 	protected static final String MODEL_FOLDER = File.separator + "lstm" + File.separator;
 
+	/** First bytes of a model file in the binary format: "LSTM". */
+	protected static final int MAGIC = 0x4C53544D;
+	protected static final int FORMAT_VERSION = 1;
+
 	private static final String MODEL_DIRECTORY = Paths.get(OpenemsConstants.getOpenemsDataDir())//
 			.toFile()//
 			.getAbsolutePath();
 
 	/**
-	 * Saves the {@link HyperParameters} object to a file in JSON format. This
-	 * method serializes the provided {@link HyperParameters} object into JSON
-	 * format and saves it to a file with the specified name in the "lstm"
-	 * directory. The serialization process utilizes a custom Gson instance
-	 * configured to handle the serialization of OffsetDateTime objects. The file is
-	 * saved in the directory specified by the OpenEMS data directory.
+	 * Saves the {@link HyperParameters} object to a file in the compact binary
+	 * format. The file starts with {@link #MAGIC} and {@link #FORMAT_VERSION},
+	 * followed by the deflated output of
+	 * {@link HyperParameters#writeTo(java.io.DataOutput)}. The file is saved with
+	 * the model name in the "lstm" directory within the OpenEMS data directory.
 	 * 
 	 * @param hyperParameters The {@link HyperParameters} object to be saved.
 	 */
@@ -53,47 +61,47 @@ public class ReadAndSaveModels {
 			}
 		}
 
-		Gson gson = new GsonBuilder()//
-				.registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeAdapter())//
-				.create();
-
-		try {
-			var compressedData = compress(hyperParameters);
-			var compressedDataString = Base64.getEncoder().encodeToString(compressedData);
-			var json = gson.toJson(compressedDataString);
+		try (var file = new FileOutputStream(path.toFile());
+				var deflater = new DeflaterOutputStream(file);
+				var out = new DataOutputStream(new BufferedOutputStream(deflater))) {
+			var header = new DataOutputStream(file);
+			header.writeInt(MAGIC);
+			header.writeByte(FORMAT_VERSION);
+			header.flush();
 
-			try (FileWriter writer = new FileWriter(path.toFile())) {
-				writer.write(json);
-			}
+			// Closing 'out' finishes the deflated stream and releases the Deflater
+			hyperParameters.writeTo(out);
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
 	}
 
 	/**
-	 * Reads and de-serializes a {@link HyperParameters} object from a JSON file.
-	 * This method reads a HyperParameters object from the specified JSON file,
-	 * de-serializing it into a {@link HyperParameters} instance. The
-	 * de-serialization process utilizes a custom Gson instance configured to handle
-	 * the de-serialization of {@link OffsetDateTime} objects. The file is expected
-	 * to be located in the "lstm" directory within the OpenEMS data directory.
+	 * Reads a {@link HyperParameters} object from a file. This method reads the
+	 * compact binary format written by {@link #save(HyperParameters)}, or the
+	 * legacy format of Base64 encoded, compressed Java serialization wrapped in a
+	 * JSON string. The file is expected to be located in the "lstm" directory
+	 * within the OpenEMS data directory.
 	 * 
-	 * @param fileName The name of the JSON file to read the HyperParameters from.
-	 * @return The {@link HyperParameters} object read from the file.
-	 * @throws FileNotFoundException If the specified file is not found.
-	 * @throws IOException           If an I/O error occurs while reading the file.
+	 * @param fileName The name of the file to read the HyperParameters from.
+	 * @return The {@link HyperParameters} object read from the file; a new
+	 *         {@link HyperParameters} object if the file cannot be read
 	 */
 	public static HyperParameters read(String fileName) {
-		String filePath = Paths.get(MODEL_DIRECTORY, MODEL_FOLDER, fileName)//
-				.toString();
-
-		try (Reader reader = new FileReader(filePath)) {
-			Gson gson = new GsonBuilder()//
-					.registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeAdapter())//
-					.create();
-			var json = gson.fromJson(reader, String.class);
-			var deserializedData = Base64.getDecoder().decode(json);
-			return decompress(deserializedData);
+		var path = Paths.get(MODEL_DIRECTORY, MODEL_FOLDER, fileName);
+
+		try (var in = new DataInputStream(new BufferedInputStream(new FileInputStream(path.toFile())))) {
+			in.mark(Integer.BYTES);
+			if (in.readInt() == MAGIC) {
+				var version = in.readUnsignedByte();
+				if (version != FORMAT_VERSION) {
+					throw new IOException("Unsupported model format version [" + version + "]");
+				}
+				return HyperParameters.readFrom(new DataInputStream(//
+						new BufferedInputStream(new InflaterInputStream(in))));
+			}
+			in.reset();
+			return readLegacy(new InputStreamReader(in, StandardCharsets.UTF_8));
 		} catch (IOException e) {
 			var hyperParameters = new HyperParameters();
 			hyperParameters.setModelName(fileName);
@@ -101,6 +109,22 @@ public class ReadAndSaveModels {
 		}
 	}
 
+	private static HyperParameters readLegacy(Reader reader) throws IOException {
+		Gson gson = new GsonBuilder()//
+				.registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeAdapter())//
+				.create();
+		var json = gson.fromJson(reader, String.class);
+		if (json == null) {
+			throw new IOException("Empty model file");
+		}
+		var deserializedData = Base64.getDecoder().decode(json);
+		var hyperParameters = decompress(deserializedData);
+		if (hyperParameters == null) {
+			throw new IOException("Unable to decompress model file");
+		}
+		return hyperParameters;
+	}
+
 	/**
 	 * Compress the data.
 	 * 
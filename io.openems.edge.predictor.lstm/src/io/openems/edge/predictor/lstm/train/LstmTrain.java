@@ -14,6 +14,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,12 +37,15 @@ public class LstmTrain implements Runnable {
 	private final ChannelAddress channelAddress;
 	private final PredictorLstm parent;
 	private final long days;
+	private final ForkJoinPool trainingPool;
 
-	public LstmTrain(Timedata timedata, ChannelAddress channelAddress, PredictorLstm parent, long days) {
+	public LstmTrain(Timedata timedata, ChannelAddress channelAddress, PredictorLstm parent, long days,
+			ForkJoinPool trainingPool) {
 		this.timedata = timedata;
 		this.channelAddress = channelAddress;
 		this.parent = parent;
 		this.days = days;
+		this.trainingPool = trainingPool;
 	}
 
 	@Override
@@ -103,7 +107,8 @@ public class LstmTrain implements Runnable {
 				constantScaling(removeNegatives(trainingData), 1), //
 				trainingDate, //
 				constantScaling(removeNegatives(validationData), 1), //
-				validationDate, hyperParameters);
+				validationDate, hyperParameters, //
+				this.trainingPool);
 
 		// Enable early stopping to prevent overfitting
 		trainer.setEarlyStoppingEnabled(true);
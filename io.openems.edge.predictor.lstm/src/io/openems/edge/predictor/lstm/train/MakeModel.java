@@ -1,9 +1,14 @@
 package io.openems.edge.predictor.lstm.train;
 
 import static io.openems.edge.predictor.lstm.utilities.UtilityConversion.to1DArray;
+import static java.util.stream.Collectors.toCollection;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
 
 import io.openems.edge.predictor.lstm.common.DynamicItterationValue;
 import io.openems.edge.predictor.lstm.common.HyperParameters;
@@ -15,6 +20,15 @@ public class MakeModel {
 	public static final String SEASONALITY = "seasonality";
 	public static final String TREND = "trend";
 
+	/** Maximum number of models that are trained at the same time. */
+	public static final int DEFAULT_TRAINING_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+	private final ForkJoinPool pool;
+
+	public MakeModel(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
 	/**
 	 * Trains the trend model using the specified data, timestamps, and
 	 * hyperparameters. The training process involves preprocessing the data for
@@ -31,8 +45,6 @@ public class MakeModel {
 	 */
 	public synchronized ArrayList<ArrayList<ArrayList<ArrayList<Double>>>> trainTrend(ArrayList<Double> data,
 			ArrayList<OffsetDateTime> date, HyperParameters hyperParameters) {
-		var weightMatrix = new ArrayList<ArrayList<ArrayList<ArrayList<Double>>>>();
-		var weightTrend = new ArrayList<ArrayList<Double>>();
 		PreprocessingPipeImpl preProcessing = new PreprocessingPipeImpl(hyperParameters);
 		preProcessing.setData(to1DArray(data));
 		preProcessing.setDates(date);
@@ -45,14 +57,14 @@ public class MakeModel {
 				.modifyForTrendPrediction()//
 				.execute();
 
-		for (int i = 0; i < modifiedData.length; i++) {
-			weightTrend = (hyperParameters.getCount() == 0) //
+		var iterations = hyperParameters.getGdIterration();
+		return this.trainInParallel(modifiedData.length, i -> {
+			var weightTrend = (hyperParameters.getCount() == 0) //
 					? generateInitialWeightMatrix(hyperParameters.getWindowSizeTrend(), hyperParameters)//
 					: hyperParameters.getlastModelTrend().get(i);
 
-			preProcessing.setData(modifiedData[i]);
-
-			var preProcessed = (double[][][]) preProcessing//
+			var preProcessed = (double[][][]) new PreprocessingPipeImpl(hyperParameters)//
+					.setData(modifiedData[i])//
 					.groupToStiffedWindow()//
 					.normalize()//
 					.shuffle()//
@@ -61,13 +73,11 @@ public class MakeModel {
 			var model = new EngineBuilder() //
 					.setInputMatrix(preProcessed[0])//
 					.setTargetVector(preProcessed[1][0]) //
+					.setSeed(i) //
 					.build();
-			model.fit(hyperParameters.getGdIterration(), weightTrend, hyperParameters);
-			weightMatrix.add(model.getWeights());
-
-		}
-
-		return weightMatrix;
+			model.fit(iterations, weightTrend, hyperParameters);
+			return model.getWeights();
+		});
 	}
 
 	/**
@@ -87,8 +97,6 @@ public class MakeModel {
 
 	public synchronized ArrayList<ArrayList<ArrayList<ArrayList<Double>>>> trainSeasonality(ArrayList<Double> data,
 			ArrayList<OffsetDateTime> date, HyperParameters hyperParameters) {
-		var weightMatrix = new ArrayList<ArrayList<ArrayList<ArrayList<Double>>>>();
-		var weightSeasonality = new ArrayList<ArrayList<Double>>();
 		int windowsSize = hyperParameters.getWindowSizeSeasonality();
 
 		var preprocessing = new PreprocessingPipeImpl(hyperParameters);
@@ -102,44 +110,74 @@ public class MakeModel {
 				.filterOutliers()//
 				.groupByHoursAndMinutes()//
 				.execute();
-		int k = 0;
-
-		for (int i = 0; i < dataGroupedByMinute.length; i++) {
-			for (int j = 0; j < dataGroupedByMinute[i].length; j++) {
-
-				hyperParameters.setGdIterration(DynamicItterationValue
-						.setIteration(hyperParameters.getAllModelErrorSeason(), k, hyperParameters));
-
-				if (hyperParameters.getCount() == 0) {
-					weightSeasonality = generateInitialWeightMatrix(windowsSize, hyperParameters);
 
-				} else {
-					weightSeasonality = hyperParameters.getlastModelSeasonality().get(k);
-				}
-
-				preprocessing.setData(dataGroupedByMinute[i][j]);
-
-				var preProcessedSeason = (double[][][]) preprocessing//
-						// .differencing()//
-						.groupToWIndowSeasonality() //
-						.normalize() //
-						.shuffle() //
-						.execute();
+		// One model per group of hour and minute
+		var groups = Arrays.stream(dataGroupedByMinute)//
+				.flatMap(Arrays::stream)//
+				.toArray(double[][]::new);
+		var iterations = new int[groups.length];
+		for (int k = 0; k < groups.length; k++) {
+			iterations[k] = DynamicItterationValue.setIteration(hyperParameters.getAllModelErrorSeason(), k,
+					hyperParameters);
+		}
+		if (groups.length > 0) {
+			hyperParameters.setGdIterration(iterations[groups.length - 1]);
+		}
 
-				var model = new EngineBuilder()//
-						.setInputMatrix(preProcessedSeason[0]) //
-						.setTargetVector(preProcessedSeason[1][0]) //
-						.build();
+		return this.trainInParallel(groups.length, k -> {
+			var weightSeasonality = (hyperParameters.getCount() == 0) //
+					? generateInitialWeightMatrix(windowsSize, hyperParameters) //
+					: hyperParameters.getlastModelSeasonality().get(k);
+
+			var preProcessedSeason = (double[][][]) new PreprocessingPipeImpl(hyperParameters)//
+					.setData(groups[k]) //
+					// .differencing()//
+					.groupToWIndowSeasonality() //
+					.normalize() //
+					.shuffle() //
+					.execute();
 
-				model.fit(hyperParameters.getGdIterration(), weightSeasonality, hyperParameters);
-				weightMatrix.add(model.getWeights());
+			var model = new EngineBuilder()//
+					.setInputMatrix(preProcessedSeason[0]) //
+					.setTargetVector(preProcessedSeason[1][0]) //
+					.setSeed(k) //
+					.build();
 
-				k = k + 1;
-			}
-		}
+			model.fit(iterations[k], weightSeasonality, hyperParameters);
+			return model.getWeights();
+		});
+	}
 
-		return weightMatrix;
+	/**
+	 * Creates a dedicated {@link ForkJoinPool} for training, bounded to
+	 * {@link #DEFAULT_TRAINING_PARALLELISM}. Training runs for minutes, so it must
+	 * not occupy the common pool that is shared with the rest of OpenEMS Edge.
+	 *
+	 * @return the {@link ForkJoinPool}; shut it down when it is not needed anymore
+	 */
+	public static ForkJoinPool createTrainingPool() {
+		return new ForkJoinPool(DEFAULT_TRAINING_PARALLELISM, pool -> {
+			var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName("LSTM-Train-" + thread.getPoolIndex());
+			return thread;
+		}, null, false);
+	}
 
+	/**
+	 * Trains independent models on the {@link ForkJoinPool}. Every model is seeded
+	 * by its index, so the result does not depend on the parallelism.
+	 *
+	 * @param models     the number of models
+	 * @param trainModel trains the model with the given index
+	 * @return the trained models, in the order of their index
+	 */
+	private ArrayList<ArrayList<ArrayList<ArrayList<Double>>>> trainInParallel(int models,
+			IntFunction<ArrayList<ArrayList<ArrayList<Double>>>> trainModel) {
+		return this.pool.submit(() -> IntStream.range(0, models) //
+				.parallel() //
+				.mapToObj(trainModel) //
+				.collect(toCollection(ArrayList::new))) //
+				.join();
 	}
 
 	/**
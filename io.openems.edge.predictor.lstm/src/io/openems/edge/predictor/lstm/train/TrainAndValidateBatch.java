@@ -4,6 +4,7 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 
 import io.openems.edge.predictor.lstm.common.HyperParameters;
 import io.openems.edge.predictor.lstm.common.ReadAndSaveModels;
@@ -42,7 +43,8 @@ public class TrainAndValidateBatch {
 			ArrayList<OffsetDateTime> trainDate, //
 			ArrayList<Double> validateData, //
 			ArrayList<OffsetDateTime> validateDate, //
-			HyperParameters hyperParameter) {
+			HyperParameters hyperParameter, //
+			ForkJoinPool trainingPool) {
 
 		/*
 		 * var checkTrain = trainData.size() / hyperParameter.getBatchSize()
@@ -74,7 +76,7 @@ public class TrainAndValidateBatch {
 				System.out.println("=====> Epoch=  " + epoch //
 						+ "/" + hyperParameter.getEpoch());
 
-				MakeModel makeModels = new MakeModel();
+				MakeModel makeModels = new MakeModel(trainingPool);
 
 				var trainDataTemp = batchedData.get(batch);
 				var trainDateTemp = batchedDate.get(batch);
@@ -6,18 +6,21 @@ import static io.openems.edge.predictor.lstm.utilities.MathUtils.tanh;
 import static io.openems.edge.predictor.lstm.utilities.UtilityConversion.getMinIndex;
 
 import java.util.ArrayList;
+import java.util.Random;
 
 import io.openems.edge.predictor.lstm.common.DataStatistics;
 import io.openems.edge.predictor.lstm.common.HyperParameters;
-import io.openems.edge.predictor.lstm.util.Lstm.LstmBuilder;
 
 public class Engine {
 
+	public static final long DEFAULT_SEED = 0L;
+
 	private double[][] inputMatrix;
 	private double[] targetVector;
 	private double[][] validateData;
 	private double[] validateTarget;
 	private double learningRate;
+	private long seed;
 
 	private final ArrayList<ArrayList<ArrayList<Double>>> weights = new ArrayList<ArrayList<ArrayList<Double>>>();
 	private final ArrayList<ArrayList<Double>> finalWeights = new ArrayList<ArrayList<Double>>();
@@ -35,55 +38,45 @@ public class Engine {
 
 		this.learningRate = rate.scheduler(hyperParameters);
 
-		// First Time default LSTM object
-		var ls = new LstmBuilder(this.inputMatrix[0], this.targetVector[0])//
-				.setLearningRate(this.learningRate) //
-				.setEpoch(epochs)//
-				.build();
-
-		ls.initilizeCells();
-
-		ls.setWi(val);
-		ls.setWo(val);
-		ls.setWz(val);
-		ls.setRi(val);
-		ls.setRo(val);
-		ls.setRz(val);
-		ls.setCt(val);
-		ls.setYt(val);
-
-		var wieghtMatrix = ls.train();
-
-		this.weights.add(wieghtMatrix);
-
-		for (int i = 1; i < this.inputMatrix.length; i++) {
-
-			this.learningRate = rate.scheduler(hyperParameters);
-			// Update the Lstm
-			ls = new LstmBuilder(this.inputMatrix[i], this.targetVector[i])//
-					.setLearningRate(this.learningRate) //
-					.setEpoch(epochs) //
-					.build();
-
-			ls.initilizeCells();
-
-			for (int j = 0; j < ls.cells.size(); j++) {
+		var windowSize = this.inputMatrix[0].length;
+		var kernel = new LstmKernel(windowSize, new Random(this.seed));
+		var weights = toFlatWeights(val, windowSize);
+
+		// The first sample starts from a zero state, every further sample from the
+		// state of the model trained on the previous sample
+		var ytInit = 0.;
+		var ctInit = 0.;
+		for (int i = 0; i < this.inputMatrix.length; i++) {
+			kernel.train(this.inputMatrix[i], this.targetVector[i], weights, ytInit, ctInit, this.learningRate,
+					epochs);
+			this.weights.add(toWeightMatrix(weights, windowSize));
+
+			ytInit = weights[LstmKernel.YT * windowSize];
+			ctInit = weights[LstmKernel.CT * windowSize];
+		}
+	}
 
-				ls.cells.get(j).setWi((wieghtMatrix.get(0)).get(j));
-				ls.cells.get(j).setWo((wieghtMatrix.get(1)).get(j));
-				ls.cells.get(j).setWz((wieghtMatrix.get(2)).get(j));
-				ls.cells.get(j).setRi((wieghtMatrix.get(3)).get(j));
-				ls.cells.get(j).setRo((wieghtMatrix.get(4)).get(j));
-				ls.cells.get(j).setRz((wieghtMatrix.get(5)).get(j));
-				ls.cells.get(j).setYtMinusOne(wieghtMatrix.get(6).get(j));
-				ls.cells.get(j).setCtMinusOne(wieghtMatrix.get(7).get(j));
+	private static double[] toFlatWeights(ArrayList<ArrayList<Double>> val, int windowSize) {
+		var weights = new double[LstmKernel.PARAMETERS * windowSize];
+		for (var p = 0; p < LstmKernel.PARAMETERS; p++) {
+			var values = val.get(p);
+			for (var i = 0; i < windowSize; i++) {
+				weights[p * windowSize + i] = values.get(i);
 			}
-
-			wieghtMatrix = ls.train();
-			this.weights.add(wieghtMatrix);
-
 		}
+		return weights;
+	}
 
+	private static ArrayList<ArrayList<Double>> toWeightMatrix(double[] weights, int windowSize) {
+		var result = new ArrayList<ArrayList<Double>>(LstmKernel.PARAMETERS);
+		for (var p = 0; p < LstmKernel.PARAMETERS; p++) {
+			var values = new ArrayList<Double>(windowSize);
+			for (var i = 0; i < windowSize; i++) {
+				values.add(weights[p * windowSize + i]);
+			}
+			result.add(values);
+		}
+		return result;
 	}
 
 	/**
@@ -206,7 +199,7 @@ public class Engine {
 		this.targetVector = builder.targetVector;
 		this.validateData = builder.validateData;
 		this.validateTarget = builder.validateTarget;
-
+		this.seed = builder.seed;
 	}
 
 	public static class EngineBuilder {
@@ -214,6 +207,7 @@ public class Engine {
 		private double[] targetVector;
 		private double[][] validateData;
 		private double[] validateTarget;
+		private long seed = DEFAULT_SEED;
 
 		public EngineBuilder(double[][] inputMatrix, double[] targetVector, double[][] validateData,
 				double[] validateTarget, int validatorCounter) {
@@ -246,6 +240,17 @@ public class Engine {
 			return this;
 		}
 
+		/**
+		 * Sets the seed for the dropout decisions during training.
+		 *
+		 * @param seed the seed
+		 * @return this
+		 */
+		public EngineBuilder setSeed(long seed) {
+			this.seed = seed;
+			return this;
+		}
+
 		public Engine build() {
 			return new Engine(this);
 		}
@@ -0,0 +1,188 @@
+package io.openems.edge.predictor.lstm.util;
+
+import static io.openems.edge.predictor.lstm.utilities.MathUtils.sigmoid;
+import static io.openems.edge.predictor.lstm.utilities.MathUtils.tanh;
+
+import java.util.Random;
+
+/**
+ * Trains one window of the LSTM with the same math as {@link Lstm} and
+ * {@link Cell}, but keeps weights and state in flat {@code double[]} arrays that
+ * are allocated once and reused for every sample and epoch.
+ *
+ * <p>
+ * The weights of a window of size {@code n} are stored as one array of
+ * {@link #PARAMETERS} blocks of {@code n} values, in the order of the weight
+ * matrix used by {@link Engine}: {@link #WI}, {@link #WO}, {@link #WZ},
+ * {@link #RI}, {@link #RO}, {@link #RZ}, {@link #YT}, {@link #CT}.
+ *
+ * <p>
+ * Dropout decisions are drawn from the given {@link Random}, so training is
+ * reproducible for a seeded {@link Random}. Not thread-safe.
+ */
+public class LstmKernel {
+
+	public static final int WI = 0;
+	public static final int WO = 1;
+	public static final int WZ = 2;
+	public static final int RI = 3;
+	public static final int RO = 4;
+	public static final int RZ = 5;
+	public static final int YT = 6;
+	public static final int CT = 7;
+	public static final int PARAMETERS = 8;
+
+	private static final double DROPOUT_RATE = 0.2;
+	private static final double DROPOUT_SCALE = 1.0 / (1.0 - DROPOUT_RATE);
+	private static final double SQRT_2 = Math.sqrt(2);
+
+	private final int windowSize;
+	private final Random random;
+	private final AdaptiveLearningRate rate = new AdaptiveLearningRate();
+
+	private final double[] weights;
+	private final double[] best;
+
+	// State per timestep
+	private final double[] ytMinusOne;
+	private final double[] it;
+	private final double[] ot;
+	private final double[] zt;
+	private final double[] tanhCt;
+	private final double[] error;
+	private final double[] delI;
+	private final double[] delO;
+	private final double[] delZ;
+
+	public LstmKernel(int windowSize, Random random) {
+		this.windowSize = windowSize;
+		this.random = random;
+		this.weights = new double[PARAMETERS * windowSize];
+		this.best = new double[PARAMETERS * windowSize];
+		this.ytMinusOne = new double[windowSize];
+		this.it = new double[windowSize];
+		this.ot = new double[windowSize];
+		this.zt = new double[windowSize];
+		this.tanhCt = new double[windowSize];
+		this.error = new double[windowSize];
+		this.delI = new double[windowSize];
+		this.delO = new double[windowSize];
+		this.delZ = new double[windowSize];
+	}
+
+	public int getWindowSize() {
+		return this.windowSize;
+	}
+
+	/**
+	 * Trains on one sample and writes the weights of the epoch with the lowest
+	 * error back to the given weights.
+	 *
+	 * @param input        the input window; length is the window size
+	 * @param target       the target value
+	 * @param weights      the flat weights; updated in place
+	 * @param ytInit       the output before the first timestep
+	 * @param ctInit       the cell state before the first timestep
+	 * @param learningRate the learning rate
+	 * @param epochs       the number of forward and backward passes
+	 */
+	public void train(double[] input, double target, double[] weights, double ytInit, double ctInit,
+			double learningRate, int epochs) {
+		final var n = this.windowSize;
+		System.arraycopy(weights, 0, this.weights, 0, this.weights.length);
+
+		// Gradients and the cell state derivative of the last timestep are
+		// accumulated over all epochs, like in Lstm
+		var dWi = 0.;
+		var dWo = 0.;
+		var dWz = 0.;
+		var dRi = 0.;
+		var dRo = 0.;
+		var dRz = 0.;
+		var lastDlByDc = 0.;
+		var bestError = 0.;
+
+		for (var epoch = 0; epoch < epochs; epoch++) {
+			this.forward(input, target, ytInit, ctInit);
+
+			// Backward propagation; derivatives of sigmoid and tanh are derived from the
+			// activations of the forward propagation
+			var dlByDc = lastDlByDc;
+			for (var i = n - 1; i >= 0; i--) {
+				final var it = this.it[i];
+				final var ot = this.ot[i];
+				final var zt = this.zt[i];
+				final var tanhCt = this.tanhCt[i];
+				dlByDc = this.error[i] * ot * (1 - tanhCt * tanhCt) + dlByDc;
+				if (i == n - 1) {
+					lastDlByDc = dlByDc;
+				}
+				this.delI[i] = dlByDc * zt * it * (1 - it);
+				this.delO[i] = this.error[i] * tanhCt * ot * (1 - ot);
+				this.delZ[i] = dlByDc * it * (1 - zt * zt);
+			}
+			for (var i = 0; i < n; i++) {
+				dRi += this.ytMinusOne[i] * this.delI[i];
+				dRo += this.ytMinusOne[i] * this.delO[i];
+				dRz += this.ytMinusOne[i] * this.delZ[i];
+				dWi += input[i] * this.delI[i];
+				dWo += input[i] * this.delO[i];
+				dWz += input[i] * this.delZ[i];
+			}
+
+			this.updateWeights(WI, dWi / n, learningRate);
+			this.updateWeights(WO, dWo / n, learningRate);
+			this.updateWeights(WZ, dWz / n, learningRate);
+			this.updateWeights(RI, dRi / n, learningRate);
+			this.updateWeights(RO, dRo / n, learningRate);
+			this.updateWeights(RZ, dRz / n, learningRate);
+
+			// Keep the first epoch with the lowest error
+			var epochError = Math.abs(this.error[n - 1]);
+			if (epoch == 0 || Double.compare(epochError, bestError) < 0) {
+				bestError = epochError;
+				System.arraycopy(this.weights, 0, this.best, 0, this.best.length);
+			}
+		}
+
+		if (epochs > 0) {
+			System.arraycopy(this.best, 0, weights, 0, weights.length);
+		}
+	}
+
+	private void forward(double[] input, double target, double ytInit, double ctInit) {
+		final var n = this.windowSize;
+		final var w = this.weights;
+		var yt = ytInit;
+		var ct = ctInit;
+		for (var i = 0; i < n; i++) {
+			final var x = input[i];
+			this.ytMinusOne[i] = yt;
+			this.it[i] = sigmoid(w[WI * n + i] * x + w[RI * n + i] * yt);
+			this.ot[i] = sigmoid(w[WO * n + i] * x + w[RO * n + i] * yt);
+			this.zt[i] = tanh(w[WZ * n + i] * x + w[RZ * n + i] * yt);
+
+			if (this.random.nextDouble() >= DROPOUT_RATE) {
+				ct = ct + this.it[i] * this.zt[i];
+				this.tanhCt[i] = tanh(ct);
+				yt = this.ot[i] * this.tanhCt[i] * DROPOUT_SCALE;
+			} else {
+				// Dropped: keep previous output and cell state
+				this.tanhCt[i] = tanh(ct);
+			}
+
+			w[YT * n + i] = yt;
+			w[CT * n + i] = ct;
+			this.error[i] = Math.abs(yt - (i < n - 1 ? input[i + 1] : target)) / SQRT_2;
+		}
+	}
+
+	private void updateWeights(int parameter, double gradient, double learningRate) {
+		final var offset = parameter * this.windowSize;
+		var localLearningRate = 0.;
+		for (var i = 0; i < this.windowSize; i++) {
+			localLearningRate = this.rate.adagradOptimizer(learningRate, localLearningRate, gradient, i);
+			this.weights[offset + i] -= localLearningRate * gradient;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package io.openems.edge.predictor.lstm.common;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.edge.predictor.lstm.train.MakeModel;
+
+public class HyperParametersTest {
+
+	@Test
+	public void testWriteTo_ShouldBeReadByReadFrom() throws IOException {
+		var hyperParameters = new HyperParameters();
+		hyperParameters.setModelName("Consumption");
+		hyperParameters.setCount(3);
+		hyperParameters.setEpochTrack(2);
+		hyperParameters.setRmsErrorSeasonality(0.25);
+		hyperParameters.setRmsErrorTrend(0.5);
+		hyperParameters.setAllModelErrorSeason(new ArrayList<>(List.of(0.1, 0.2)));
+		var model = new ArrayList<ArrayList<ArrayList<Double>>>();
+		model.add(MakeModel.generateInitialWeightMatrix(10, hyperParameters));
+		model.add(MakeModel.generateInitialWeightMatrix(10, hyperParameters));
+		hyperParameters.updateModelSeasonality(model);
+		hyperParameters.updatModelTrend(model);
+		hyperParameters.update();
+
+		var bytes = new ByteArrayOutputStream();
+		hyperParameters.writeTo(new DataOutputStream(bytes));
+		var result = HyperParameters.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		assertEquals("Consumption", result.getModelName());
+		assertEquals(1, result.getCount());
+		assertEquals(2, result.getEpochTrack());
+		assertEquals(hyperParameters.getLastTrainedDate(), result.getLastTrainedDate());
+		assertEquals(hyperParameters.getRmsErrorSeasonality(), result.getRmsErrorSeasonality());
+		assertEquals(hyperParameters.getRmsErrorTrend(), result.getRmsErrorTrend());
+		assertEquals(hyperParameters.getAllModelErrorSeason(), result.getAllModelErrorSeason());
+		assertEquals(hyperParameters.getAllModelSeasonality(), result.getAllModelSeasonality());
+		assertEquals(hyperParameters.getAllModelsTrend(), result.getAllModelsTrend());
+		assertEquals(hyperParameters.getWindowSizeSeasonality(), result.getWindowSizeSeasonality());
+		assertEquals(hyperParameters.getScalingMax(), result.getScalingMax(), 0.0);
+	}
+}
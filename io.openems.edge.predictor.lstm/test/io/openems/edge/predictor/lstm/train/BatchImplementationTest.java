@@ -52,11 +52,13 @@ public class BatchImplementationTest {
 			// ReadAndSaveModels.adapt(hyperParameters, validateBatchData,
 			// validateBatchDate);
 
+			var trainingPool = MakeModel.createTrainingPool();
 			new TrainAndValidateBatch(
 					DataModification.constantScaling(DataModification.removeNegatives(obj1.getData()), 1),
 					obj1.getDates(),
 					DataModification.constantScaling(DataModification.removeNegatives(validateBatchData), 1),
-					validateBatchDate, hyperParameters);
+					validateBatchDate, hyperParameters, trainingPool);
+			trainingPool.shutdown();
 
 			hyperParameters.setEpochTrack(0);
 			hyperParameters.setBatchTrack(0);
@@ -108,8 +110,10 @@ public class BatchImplementationTest {
 			// ReadAndSaveModels.adapt(hyperParameters, validateBatchData,
 			// validateBatchDate);
 
+			var trainingPool = MakeModel.createTrainingPool();
 			new TrainAndValidateBatch(trainingData, obj1.getDates(), validateBatchData, validateBatchDate,
-					hyperParameters);
+					hyperParameters, trainingPool);
+			trainingPool.shutdown();
 
 			hyperParameters.setEpochTrack(0);
 			hyperParameters.setBatchTrack(0);
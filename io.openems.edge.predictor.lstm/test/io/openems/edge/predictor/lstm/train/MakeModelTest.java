@@ -2,8 +2,12 @@ package io.openems.edge.predictor.lstm.train;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.Test;
 
@@ -11,6 +15,9 @@ import io.openems.edge.predictor.lstm.common.HyperParameters;
 
 public class MakeModelTest {
 
+	private static final int DAYS = 20;
+	private static final int VALUES_PER_DAY = 24 * 12; // 5 minutes
+
 	@Test
 	public void testGenerateInitialWeightMatrixOriginal() {
 		// Result should be
@@ -32,4 +39,71 @@ public class MakeModelTest {
 		assertEquals(8, result.size());
 		assertEquals(windowSize, result.get(0).size());
 	}
+
+	@Test
+	public void testCreateTrainingPool() {
+		var pool = MakeModel.createTrainingPool();
+		try {
+			assertEquals(MakeModel.DEFAULT_TRAINING_PARALLELISM, pool.getParallelism());
+			assertTrue(pool.getParallelism() < Runtime.getRuntime().availableProcessors()
+					|| Runtime.getRuntime().availableProcessors() == 1);
+			assertTrue(pool.submit(() -> Thread.currentThread().getName()).join().startsWith("LSTM-Train-"));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testTrainSeasonality_ShouldNotDependOnParallelism() {
+		var data = createData();
+		var dates = createDates();
+
+		var sequentialPool = new ForkJoinPool(1);
+		var parallelPool = new ForkJoinPool(4);
+		try {
+			var sequential = new MakeModel(sequentialPool).trainSeasonality(data, dates, new HyperParameters());
+			var parallel = new MakeModel(parallelPool).trainSeasonality(data, dates, new HyperParameters());
+
+			assertEquals(VALUES_PER_DAY, sequential.size());
+			assertEquals(sequential, parallel);
+		} finally {
+			sequentialPool.shutdown();
+			parallelPool.shutdown();
+		}
+	}
+
+	@Test
+	public void testTrainTrend_ShouldNotDependOnParallelism() {
+		var data = createData();
+		var dates = createDates();
+
+		var sequentialPool = new ForkJoinPool(1);
+		var parallelPool = new ForkJoinPool(4);
+		try {
+			var sequential = new MakeModel(sequentialPool).trainTrend(data, dates, new HyperParameters());
+			var parallel = new MakeModel(parallelPool).trainTrend(data, dates, new HyperParameters());
+
+			assertEquals(sequential, parallel);
+		} finally {
+			sequentialPool.shutdown();
+			parallelPool.shutdown();
+		}
+	}
+
+	private static ArrayList<Double> createData() {
+		var data = new ArrayList<Double>();
+		for (var i = 0; i < DAYS * VALUES_PER_DAY; i++) {
+			data.add(5000 + 4000 * Math.sin(2 * Math.PI * i / VALUES_PER_DAY) + (i % 7) * 100);
+		}
+		return data;
+	}
+
+	private static ArrayList<OffsetDateTime> createDates() {
+		var start = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+		var dates = new ArrayList<OffsetDateTime>();
+		for (var i = 0; i < DAYS * VALUES_PER_DAY; i++) {
+			dates.add(start.plusMinutes(5L * i));
+		}
+		return dates;
+	}
 }
@@ -0,0 +1,71 @@
+package io.openems.edge.predictor.lstm.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+
+import io.openems.edge.predictor.lstm.common.HyperParameters;
+import io.openems.edge.predictor.lstm.train.MakeModel;
+import io.openems.edge.predictor.lstm.util.Engine.EngineBuilder;
+
+public class EngineTest {
+
+	private static final int WINDOW_SIZE = 10;
+	private static final int SAMPLES = 50;
+	private static final int EPOCHS = 15;
+
+	@Test
+	public void testFit_ShouldBeReproducible_WhenSameSeed() {
+		var hyperParameters = new HyperParameters();
+
+		var first = fit(hyperParameters, 1L);
+		var second = fit(hyperParameters, 1L);
+
+		assertEquals(SAMPLES, first.getWeights().size());
+		assertEquals(first.getWeights(), second.getWeights());
+	}
+
+	@Test
+	public void testFit_ShouldDropOutDifferently_WhenDifferentSeed() {
+		var hyperParameters = new HyperParameters();
+
+		var first = fit(hyperParameters, 1L);
+		var second = fit(hyperParameters, 2L);
+
+		assertNotEquals(first.getWeights(), second.getWeights());
+	}
+
+	@Test
+	public void testFit_ShouldContinueFromPreviousState() {
+		var hyperParameters = new HyperParameters();
+		var engine = fit(hyperParameters, 1L);
+
+		// Every sample starts from the weights of the previous sample
+		var weights = engine.getWeights();
+		for (var i = 1; i < weights.size(); i++) {
+			assertEquals(LstmKernel.PARAMETERS, weights.get(i).size());
+			assertEquals(WINDOW_SIZE, weights.get(i).get(LstmKernel.WI).size());
+		}
+		assertNotEquals(MakeModel.generateInitialWeightMatrix(WINDOW_SIZE, hyperParameters), weights.get(0));
+	}
+
+	private static Engine fit(HyperParameters hyperParameters, long seed) {
+		var inputMatrix = new double[SAMPLES][WINDOW_SIZE];
+		var targetVector = new double[SAMPLES];
+		for (var i = 0; i < SAMPLES; i++) {
+			for (var j = 0; j < WINDOW_SIZE; j++) {
+				inputMatrix[i][j] = Math.sin((i + j) / 5.0);
+			}
+			targetVector[i] = Math.sin((i + WINDOW_SIZE) / 5.0);
+		}
+
+		var engine = new EngineBuilder() //
+				.setInputMatrix(inputMatrix) //
+				.setTargetVector(targetVector) //
+				.setSeed(seed) //
+				.build();
+		engine.fit(EPOCHS, MakeModel.generateInitialWeightMatrix(WINDOW_SIZE, hyperParameters), hyperParameters);
+		return engine;
+	}
+}
@@ -0,0 +1,157 @@
+package io.openems.edge.predictor.lstm.util;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+import com.google.common.base.Stopwatch;
+
+import io.openems.edge.predictor.lstm.common.HyperParameters;
+import io.openems.edge.predictor.lstm.train.MakeModel;
+import io.openems.edge.predictor.lstm.util.Engine.EngineBuilder;
+import io.openems.edge.predictor.lstm.util.Lstm.LstmBuilder;
+
+/**
+ * Compares training with the object based {@link Lstm} and {@link Cell} with
+ * the flat array based {@link LstmKernel} used by {@link Engine}.
+ *
+ * <p>
+ * Trains {@link #MODELS} independent models of {@link #SAMPLES} windows, like
+ * the seasonality models of one group per quarter of the day. Then trains the
+ * seasonality models of {@link #DAYS} days of synthetic data on one thread and
+ * on the dedicated training {@link ForkJoinPool}.
+ */
+public class LstmEnginePerformanceTestApp {
+
+	private static final int WINDOW_SIZE = 10;
+	private static final int SAMPLES = 60;
+	private static final int MODELS = 96;
+	private static final int EPOCHS = 30;
+	private static final int DAYS = 30;
+	private static final int VALUES_PER_DAY = 24 * 12; // 5 minutes
+	private static final int ROUNDS = 3;
+
+	/**
+	 * Runs the performance test.
+	 *
+	 * @param args the args
+	 * @throws Exception on error
+	 */
+	public static void main(String[] args) throws Exception {
+		final var hyperParameters = new HyperParameters();
+		final var initialWeights = MakeModel.generateInitialWeightMatrix(WINDOW_SIZE, hyperParameters);
+		final var inputMatrix = new double[SAMPLES][WINDOW_SIZE];
+		final var targetVector = new double[SAMPLES];
+		for (var i = 0; i < SAMPLES; i++) {
+			for (var j = 0; j < WINDOW_SIZE; j++) {
+				inputMatrix[i][j] = Math.sin((i + j) / 5.0);
+			}
+			targetVector[i] = Math.sin((i + WINDOW_SIZE) / 5.0);
+		}
+
+		for (var round = 0; round < ROUNDS; round++) {
+			var stopwatch = Stopwatch.createStarted();
+			for (var model = 0; model < MODELS; model++) {
+				legacyFit(inputMatrix, targetVector, initialWeights, hyperParameters);
+			}
+			final var legacyMillis = stopwatch.elapsed().toMillis();
+
+			stopwatch = Stopwatch.createStarted();
+			for (var model = 0; model < MODELS; model++) {
+				new EngineBuilder() //
+						.setInputMatrix(inputMatrix) //
+						.setTargetVector(targetVector) //
+						.setSeed(model) //
+						.build() //
+						.fit(EPOCHS, initialWeights, hyperParameters);
+			}
+			final var kernelMillis = stopwatch.elapsed().toMillis();
+
+			System.out.println("Round " + round + ": " //
+					+ "Lstm/Cell [" + legacyMillis + " ms] " //
+					+ "LstmKernel [" + kernelMillis + " ms]");
+		}
+
+		final var data = new ArrayList<Double>();
+		final var dates = new ArrayList<OffsetDateTime>();
+		final var start = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+		for (var i = 0; i < DAYS * VALUES_PER_DAY; i++) {
+			data.add(5000 + 4000 * Math.sin(2 * Math.PI * i / VALUES_PER_DAY) + (i % 7) * 100);
+			dates.add(start.plusMinutes(5L * i));
+		}
+
+		final var singleThreadPool = new ForkJoinPool(1);
+		final var trainingPool = MakeModel.createTrainingPool();
+		for (var round = 0; round < ROUNDS; round++) {
+			var stopwatch = Stopwatch.createStarted();
+			new MakeModel(singleThreadPool).trainSeasonality(data, dates, new HyperParameters());
+			final var sequentialMillis = stopwatch.elapsed().toMillis();
+
+			stopwatch = Stopwatch.createStarted();
+			new MakeModel(trainingPool).trainSeasonality(data, dates, new HyperParameters());
+			final var parallelMillis = stopwatch.elapsed().toMillis();
+
+			System.out.println("Round " + round + ": " //
+					+ "Seasonality sequential [" + sequentialMillis + " ms] " //
+					+ "parallel [" + parallelMillis + " ms] " //
+					+ "on [" + trainingPool.getParallelism() + "] threads");
+		}
+		singleThreadPool.shutdown();
+		trainingPool.shutdown();
+	}
+
+	/**
+	 * Trains like {@link Engine#fit(int, ArrayList, HyperParameters)} did with
+	 * {@link Lstm} and {@link Cell}.
+	 *
+	 * @param inputMatrix     the input windows
+	 * @param targetVector    the targets
+	 * @param val             the initial weights
+	 * @param hyperParameters the {@link HyperParameters}
+	 * @return the weights per sample
+	 */
+	private static ArrayList<ArrayList<ArrayList<Double>>> legacyFit(double[][] inputMatrix, double[] targetVector,
+			ArrayList<ArrayList<Double>> val, HyperParameters hyperParameters) {
+		final var weights = new ArrayList<ArrayList<ArrayList<Double>>>();
+		final var learningRate = new AdaptiveLearningRate().scheduler(hyperParameters);
+
+		var ls = new LstmBuilder(inputMatrix[0], targetVector[0]) //
+				.setLearningRate(learningRate) //
+				.setEpoch(EPOCHS) //
+				.build();
+		ls.initilizeCells();
+		ls.setWi(val);
+		ls.setWo(val);
+		ls.setWz(val);
+		ls.setRi(val);
+		ls.setRo(val);
+		ls.setRz(val);
+		ls.setCt(val);
+		ls.setYt(val);
+		var weightMatrix = ls.train();
+		weights.add(weightMatrix);
+
+		for (var i = 1; i < inputMatrix.length; i++) {
+			ls = new LstmBuilder(inputMatrix[i], targetVector[i]) //
+					.setLearningRate(learningRate) //
+					.setEpoch(EPOCHS) //
+					.build();
+			ls.initilizeCells();
+			for (var j = 0; j < ls.getCells().size(); j++) {
+				var cell = ls.getCells().get(j);
+				cell.setWi(weightMatrix.get(0).get(j));
+				cell.setWo(weightMatrix.get(1).get(j));
+				cell.setWz(weightMatrix.get(2).get(j));
+				cell.setRi(weightMatrix.get(3).get(j));
+				cell.setRo(weightMatrix.get(4).get(j));
+				cell.setRz(weightMatrix.get(5).get(j));
+				cell.setYtMinusOne(weightMatrix.get(6).get(j));
+				cell.setCtMinusOne(weightMatrix.get(7).get(j));
+			}
+			weightMatrix = ls.train();
+			weights.add(weightMatrix);
+		}
+		return weights;
+	}
+}
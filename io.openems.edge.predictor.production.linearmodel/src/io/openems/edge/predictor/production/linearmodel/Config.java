@@ -26,5 +26,9 @@ import io.openems.edge.predictor.api.prediction.SourceChannel;
 	@AttributeDefinition(name = "Log-Verbosity", description = "The log verbosity.")
 	LogVerbosity logVerbosity() default LogVerbosity.NONE;
 
+	@AttributeDefinition(name = "Parallel Training", description = "Experimental: trains the random forest on multiple "
+			+ "threads into flat arrays instead of using Tribuo")
+	boolean parallelTraining() default false;
+
 	String webconsole_configurationFactory_nameHint() default "Predictor Production Regression Model [{id}]";
 }
\ No newline at end of file
@@ -73,6 +73,13 @@ public interface PredictorConfig {
 	 */
 	public RegressorFitter regressorFitter();
 
+	/**
+	 * The function used to fit a regressor if parallel training is enabled.
+	 *
+	 * @return the parallel regressor fitter
+	 */
+	public RegressorFitter parallelRegressorFitter();
+
 	/**
 	 * The maximum allowed model age.
 	 *
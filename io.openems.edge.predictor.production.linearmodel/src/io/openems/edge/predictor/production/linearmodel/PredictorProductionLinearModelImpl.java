@@ -109,6 +109,7 @@ public class PredictorProductionLinearModelImpl extends AbstractPredictor
 	private SnowStateMachine snowStateMachine;
 	private PredictionPersistenceService predictionPersistenceService;
 	private int maxProduction = Integer.MAX_VALUE;
+	private boolean parallelTraining = false;
 
 	@Activate
 	private void activate(ComponentContext context, Config config) throws OpenemsNamedException {
@@ -120,6 +121,7 @@ public class PredictorProductionLinearModelImpl extends AbstractPredictor
 		}
 
 		this.productionChannelAddress = config.sourceChannel().channelAddress;
+		this.parallelTraining = config.parallelTraining();
 
 		this.predictionPersistenceService = new PredictionPersistenceService(//
 				this, //
@@ -224,12 +226,15 @@ public class PredictorProductionLinearModelImpl extends AbstractPredictor
 
 	@Override
 	public void onTrainingStart() {
+		this.startTrainingDuration();
 		this.logInfo(this.log, "Training started");
 	}
 
 	@Override
 	public void onTrainingSuccess(ModelBundle bundle) {
 		this.currentModel = bundle;
+		this.increaseModelVersion();
+		this.stopTrainingDuration();
 		this._setTrainingState(TrainingState.SUCCESSFUL);
 		this.logInfo(this.log, String.format(//
 				"Training succeeded [%s]", //
@@ -238,6 +243,7 @@ public class PredictorProductionLinearModelImpl extends AbstractPredictor
 
 	@Override
 	public void onTrainingError(TrainingError error, String message) {
+		this.stopTrainingDuration();
 		this._setTrainingState(error.getFailedState());
 		this.logTrainingError(error.getFailedState(), error.getSeverity(), message);
 	}
@@ -303,7 +309,9 @@ public class PredictorProductionLinearModelImpl extends AbstractPredictor
 				this.weather, //
 				this.productionChannelAddress, //
 				this.predictorConfig.trainingWindowInQuarters(), //
-				this.predictorConfig.regressorFitter(), //
+				this.parallelTraining //
+						? this.predictorConfig.parallelRegressorFitter() //
+						: this.predictorConfig.regressorFitter(), //
 				this.predictorConfig.minTrainingSamples(), //
 				this.predictorConfig.maxTrainingSamples());
 	}
@@ -387,6 +395,8 @@ public class PredictorProductionLinearModelImpl extends AbstractPredictor
 	@Component(service = PredictorConfig.class)
 	public static class DefaultPredictorConfig implements PredictorConfig {
 
+		private static final int TRAINING_PARALLELISM = Math.min(4, Runtime.getRuntime().availableProcessors());
+
 		@Override
 		public int trainingIntervalInDays() {
 			return 1;
@@ -412,6 +422,12 @@ public class PredictorProductionLinearModelImpl extends AbstractPredictor
 			return (features, target) -> RandomForestRegressor.fit(features, target, this.regressorConfig());
 		}
 
+		@Override
+		public RegressorFitter parallelRegressorFitter() {
+			return (features, target) -> RandomForestRegressor.fitParallel(features, target, this.regressorConfig(),
+					TRAINING_PARALLELISM);
+		}
+
 		@Override
 		public Duration maxModelAge() {
 			return Duration.ofDays(7);
@@ -50,7 +50,7 @@ public class PredictionOrchestrator {
 
 		var index = transformedFeatureMatrix.getIndex();
 		var predictedValues = this.predictionContext.regressor()//
-				.predict(transformedFeatureMatrix);
+				.predictBatch(transformedFeatureMatrix);
 
 		return new Series<>(index, predictedValues);
 	}
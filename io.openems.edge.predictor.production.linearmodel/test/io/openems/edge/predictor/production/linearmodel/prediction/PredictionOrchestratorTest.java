@@ -61,13 +61,13 @@ public class PredictionOrchestratorTest {
 		when(this.predictionDataService.prepareFeatureMatrix(1)).thenReturn(rawFeatureMatrix);
 		when(this.featureEngineeringService.transformForPrediction(rawFeatureMatrix))
 				.thenReturn(transformedFeatureMatrix);
-		when(this.regressor.predict(transformedFeatureMatrix)).thenReturn(List.of(100.0, 200.0));
+		when(this.regressor.predictBatch(transformedFeatureMatrix)).thenReturn(new double[] { 100.0, 200.0 });
 
 		final var result = sut.runPrediction();
 
 		verify(this.predictionDataService).prepareFeatureMatrix(1);
 		verify(this.featureEngineeringService).transformForPrediction(eq(rawFeatureMatrix));
-		verify(this.regressor).predict(eq(transformedFeatureMatrix));
+		verify(this.regressor).predictBatch(eq(transformedFeatureMatrix));
 		assertEquals(List.of(this.now, this.now.plusMinutes(15)), result.getIndex());
 		assertEquals(List.of(100.0, 200.0), result.getValues());
 	}
@@ -0,0 +1,124 @@
+package io.openems.edge.predictor.production.linearmodel.services;
+
+import java.lang.management.ManagementFactory;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.google.common.base.Stopwatch;
+
+import io.openems.edge.predictor.api.mlcore.datastructures.DataFrame;
+import io.openems.edge.predictor.api.mlcore.datastructures.Series;
+import io.openems.edge.predictor.api.mlcore.transformer.ColumnApplyTransformer;
+import io.openems.edge.predictor.api.mlcore.transformer.DataFrameTransformerPipeline;
+import io.openems.edge.predictor.api.mlcore.transformer.DropColumnsTransformer;
+import io.openems.edge.predictor.api.mlcore.transformer.DropNaTransformer;
+import io.openems.edge.predictor.production.linearmodel.ColumnNames;
+
+/**
+ * Runs the training data cleaning and feature engineering of the production
+ * linear model on one year of synthetic quarterly weather and production data.
+ *
+ * <p>
+ * Prints the duration and the bytes allocated by the current thread per run.
+ */
+public class LinearModelPipelinePerformanceTestApp {
+
+	private static final ZonedDateTime START = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneId.of("Europe/Berlin"));
+	private static final int QUARTERS = 365 * 96;
+	private static final int WARMUP_RUNS = 5;
+	private static final int RUNS = 20;
+
+	/**
+	 * Runs the performance test.
+	 *
+	 * @param args the args
+	 * @throws Exception on error
+	 */
+	public static void main(String[] args) throws Exception {
+		final var random = new Random(42);
+		final var index = new ArrayList<ZonedDateTime>(QUARTERS);
+		for (var i = 0; i < QUARTERS; i++) {
+			index.add(START.plusMinutes(15L * i));
+		}
+		final var threadMxBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+		for (var i = 0; i < WARMUP_RUNS; i++) {
+			runPipeline(index, random);
+		}
+
+		var rows = 0;
+		var millis = 0L;
+		var allocated = 0L;
+		for (var i = 0; i < RUNS; i++) {
+			// Input data is created outside of the measurement, like fetched data
+			final var featureMatrix = createFeatureMatrix(index, random);
+			final var targetMatrix = createTargetMatrix(index, random);
+
+			final var allocatedBefore = threadMxBean.getCurrentThreadAllocatedBytes();
+			final var stopwatch = Stopwatch.createStarted();
+			rows = runPipeline(featureMatrix, targetMatrix);
+			millis += stopwatch.elapsed().toMillis();
+			allocated += threadMxBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+		}
+
+		System.out.println("Linear model pipeline for [" + QUARTERS + "] values: " //
+				+ "[" + (double) millis / RUNS + " ms] " //
+				+ "[" + allocated / RUNS / 1024 / 1024 + " MB allocated] " //
+				+ "[" + rows + " rows]");
+	}
+
+	private static int runPipeline(List<ZonedDateTime> index, Random random) {
+		return runPipeline(createFeatureMatrix(index, random), createTargetMatrix(index, random));
+	}
+
+	private static int runPipeline(DataFrame<ZonedDateTime> featureMatrix, DataFrame<ZonedDateTime> targetMatrix) {
+		// Same as TrainingDataService
+		var featureTargetMatrix = featureMatrix.innerJoin(targetMatrix);
+		var pipeline = new DataFrameTransformerPipeline<ZonedDateTime>(List.of(//
+				new ColumnApplyTransformer<>(v -> v < 0 ? Double.NaN : v, List.of(ColumnNames.TARGET)), //
+				new ColumnApplyTransformer<>(v -> v >= 0.02 ? Double.NaN : v, List.of(ColumnNames.SNOW_DEPTH)), //
+				new DropNaTransformer<>(), //
+				new DropColumnsTransformer<>(List.of(ColumnNames.SNOW_DEPTH))));
+		var cleanedFeatureTargetMatrix = pipeline.transform(featureTargetMatrix);
+
+		var result = new FeatureEngineeringService().transformForTraining(cleanedFeatureTargetMatrix);
+		return result.rowCount();
+	}
+
+	private static DataFrame<ZonedDateTime> createFeatureMatrix(List<ZonedDateTime> index, Random random) {
+		var columnNames = List.of(//
+				ColumnNames.SHORTWAVE_RADIATION, //
+				ColumnNames.DIRECT_RADIATION, //
+				ColumnNames.DIRECT_NORMAL_IRRADIANCE, //
+				ColumnNames.DIFFUSE_RADIATION, //
+				ColumnNames.TEMPERATURE, //
+				ColumnNames.SNOW_DEPTH);
+		var values = new ArrayList<List<Double>>(index.size());
+		for (var i = 0; i < index.size(); i++) {
+			var radiation = Math.max(0, 800 * Math.sin(Math.PI * (i % 96 - 24) / 48));
+			values.add(List.of(//
+					radiation, //
+					radiation * 0.7, //
+					radiation * 0.9, //
+					radiation * 0.3, //
+					10 + random.nextGaussian() * 5, //
+					random.nextInt(50) == 0 ? 0.1 : 0.0));
+		}
+		return new DataFrame<>(index, columnNames, values);
+	}
+
+	private static DataFrame<ZonedDateTime> createTargetMatrix(List<ZonedDateTime> index, Random random) {
+		var values = new double[index.size()];
+		for (var i = 0; i < values.length; i++) {
+			var production = Math.max(0, 5000 * Math.sin(Math.PI * (i % 96 - 24) / 48));
+			values[i] = random.nextInt(100) == 0 //
+					? Double.NaN //
+					: production + random.nextGaussian() * 100;
+		}
+		return DataFrame.fromSeriesMap(Map.of(ColumnNames.TARGET, new Series<>(index, values)));
+	}
+}
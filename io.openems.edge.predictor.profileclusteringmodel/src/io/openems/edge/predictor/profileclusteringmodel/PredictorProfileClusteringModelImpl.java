@@ -171,10 +171,18 @@ public class PredictorProfileClusteringModelImpl extends AbstractPredictor
 		return prediction;
 	}
 
+	@Override
+	public void onTrainingStart() {
+		this.startTrainingDuration();
+		this.logInfo(this.log, "Training started");
+	}
+
 	@Override
 	public void onTrainingSuccess(ModelBundle bundle) {
 		this.currentModels = bundle;
 		this.currentProfile = null;
+		this.increaseModelVersion();
+		this.stopTrainingDuration();
 		this._setTrainingState(TrainingState.SUCCESSFUL);
 		this.logInfo(this.log, String.format(//
 				"Training succeeded [%s]", //
@@ -183,6 +191,7 @@ public class PredictorProfileClusteringModelImpl extends AbstractPredictor
 
 	@Override
 	public void onTrainingError(TrainingError error, String message) {
+		this.stopTrainingDuration();
 		this._setTrainingState(error.getFailedState());
 		this.logTrainingError(error.getFailedState(), error.getSeverity(), message);
 	}
@@ -10,6 +10,11 @@ import io.openems.edge.predictor.api.mlcore.transformer.OneHotEncoder;
 
 public interface TrainingCallback {
 
+	/**
+	 * Called when the training starts.
+	 */
+	public void onTrainingStart();
+
 	/**
 	 * Called when training completes successfully.
 	 * 
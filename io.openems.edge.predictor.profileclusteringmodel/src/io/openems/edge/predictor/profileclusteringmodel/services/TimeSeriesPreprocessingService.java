@@ -3,11 +3,10 @@ package io.openems.edge.predictor.profileclusteringmodel.services;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import io.openems.edge.predictor.api.common.PredictionException;
 import io.openems.edge.predictor.api.common.TrainingException;
@@ -89,42 +88,62 @@ public class TimeSeriesPreprocessingService {
 	}
 
 	private static DataFrame<LocalDate> groupTimeSeriesByDate(Series<ZonedDateTime> series) {
-		var grouped = series.toMap().entrySet().stream()//
-				.collect(Collectors.groupingBy(//
-						entry -> entry.getKey().toLocalDate(), //
-						TreeMap::new, //
-						Collectors.toMap(//
-								Map.Entry::getKey, //
-								Map.Entry::getValue)));
-
-		var columnNames = new ArrayList<String>();
-		for (int i = 0; i < QUARTERS_PER_DAY; i++) {
-			columnNames.add(String.valueOf(i));
-		}
+		var timestamps = series.getIndex();
+		var values = series.getValuesView();
 
-		var index = new ArrayList<LocalDate>();
-		var data = new ArrayList<List<Double>>();
+		var dates = new LocalDate[timestamps.size()];
+		for (int i = 0; i < dates.length; i++) {
+			dates[i] = timestamps.get(i).toLocalDate();
+		}
 
-		for (var entry : grouped.entrySet()) {
-			var day = entry.getKey();
-			var timeMap = entry.getValue();
+		// Positions ordered by date and time; usually the series is sorted already
+		Comparator<Integer> byDateAndTime = Comparator.<Integer, LocalDate>comparing(i -> dates[i])//
+				.thenComparing(timestamps::get);
+		var positions = IntStream.range(0, dates.length).toArray();
+		for (int i = 1; i < positions.length; i++) {
+			if (byDateAndTime.compare(i - 1, i) > 0) {
+				positions = IntStream.range(0, dates.length)//
+						.boxed()//
+						.sorted(byDateAndTime)//
+						.mapToInt(Integer::intValue)//
+						.toArray();
+				break;
+			}
+		}
 
-			var sortedTimes = new ArrayList<>(timeMap.keySet());
-			Collections.sort(sortedTimes);
+		var index = new ArrayList<LocalDate>();
+		var rows = new ArrayList<double[]>();
 
-			var values = sortedTimes.stream().map(timeMap::get).toList();
+		for (int start = 0, end = 0; start < positions.length; start = end) {
+			var day = dates[positions[start]];
+			while (end < positions.length && dates[positions[end]].equals(day)) {
+				end++;
+			}
 
 			// During the switch to winter time, a day can have more than 96 values (100
 			// values). Such days are skipped here to keep only complete days with 96
 			// quarter-hour values.
-			if (values.size() != QUARTERS_PER_DAY) {
+			if (end - start != QUARTERS_PER_DAY) {
 				continue;
 			}
 
+			var row = new double[QUARTERS_PER_DAY];
+			for (int i = 0; i < QUARTERS_PER_DAY; i++) {
+				row[i] = values.get(positions[start + i]);
+			}
 			index.add(day);
-			data.add(new ArrayList<>(values));
+			rows.add(row);
+		}
+
+		var columns = new LinkedHashMap<String, double[]>();
+		for (int i = 0; i < QUARTERS_PER_DAY; i++) {
+			var column = new double[rows.size()];
+			for (int day = 0; day < column.length; day++) {
+				column[day] = rows.get(day)[i];
+			}
+			columns.put(String.valueOf(i), column);
 		}
 
-		return new DataFrame<>(index, columnNames, data);
+		return DataFrame.fromColumns(index, columns);
 	}
 }
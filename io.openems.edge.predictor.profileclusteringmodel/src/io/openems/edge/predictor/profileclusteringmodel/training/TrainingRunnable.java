@@ -13,6 +13,8 @@ public class TrainingRunnable implements Runnable {
 	@Override
 	public void run() {
 		try {
+			this.trainingContext.callback()//
+					.onTrainingStart();
 			var modelBundle = new TrainingOrchestrator(this.trainingContext)//
 					.runTraining();
 			this.trainingContext.callback()//
@@ -0,0 +1,93 @@
+package io.openems.edge.predictor.profileclusteringmodel.services;
+
+import java.lang.management.ManagementFactory;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Random;
+
+import com.google.common.base.Stopwatch;
+
+import io.openems.edge.common.meta.types.SubdivisionCode;
+import io.openems.edge.predictor.api.mlcore.datastructures.Series;
+import io.openems.edge.predictor.profileclusteringmodel.ColumnNames;
+
+/**
+ * Runs the preprocessing and feature engineering of the profile clustering
+ * model on one year of synthetic quarterly consumption data.
+ *
+ * <p>
+ * Prints the duration and the bytes allocated by the current thread per run.
+ */
+public class ProfileClusteringPipelinePerformanceTestApp {
+
+	private static final ZonedDateTime START = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneId.of("Europe/Berlin"));
+	private static final int QUARTERS = 365 * 96;
+	private static final int MAX_GAP_SIZE_INTERPOLATION = 4;
+	private static final int CLUSTERS = 4;
+	private static final int WARMUP_RUNS = 5;
+	private static final int RUNS = 20;
+
+	/**
+	 * Runs the performance test.
+	 *
+	 * @param args the args
+	 * @throws Exception on error
+	 */
+	public static void main(String[] args) throws Exception {
+		final var series = createSeries();
+		final var threadMxBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+		for (var i = 0; i < WARMUP_RUNS; i++) {
+			runPipeline(series);
+		}
+
+		var rows = 0;
+		final var allocatedBefore = threadMxBean.getCurrentThreadAllocatedBytes();
+		final var stopwatch = Stopwatch.createStarted();
+		for (var i = 0; i < RUNS; i++) {
+			rows = runPipeline(series);
+		}
+		final var millis = stopwatch.elapsed().toMillis();
+		final var allocated = threadMxBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+		System.out.println("Profile clustering pipeline for [" + QUARTERS + "] values: " //
+				+ "[" + (double) millis / RUNS + " ms] " //
+				+ "[" + allocated / RUNS / 1024 / 1024 + " MB allocated] " //
+				+ "[" + rows + " rows]");
+	}
+
+	private static int runPipeline(Series<ZonedDateTime> series) throws Exception {
+		var timeSeriesByDate = new TimeSeriesPreprocessingService(MAX_GAP_SIZE_INTERPOLATION)//
+				.preprocessTimeSeriesForTraining(series);
+
+		// Synthetic cluster labels instead of fitting a clusterer
+		var labels = new double[timeSeriesByDate.rowCount()];
+		for (var i = 0; i < labels.length; i++) {
+			labels[i] = i % CLUSTERS;
+		}
+		timeSeriesByDate.setColumn(ColumnNames.LABEL, labels);
+
+		var result = new FeatureEngineeringService(() -> SubdivisionCode.DE_BY)//
+				.transformForTraining(timeSeriesByDate);
+		return result.featureLabelMatrix().rowCount();
+	}
+
+	private static Series<ZonedDateTime> createSeries() {
+		final var random = new Random(42);
+		final var index = new ArrayList<ZonedDateTime>(QUARTERS);
+		final var values = new double[QUARTERS];
+		for (var i = 0; i < QUARTERS; i++) {
+			index.add(START.plusMinutes(15L * i));
+			var quarterOfDay = i % 96;
+			var value = 500 + 300 * Math.sin(Math.PI * quarterOfDay / 96) + random.nextGaussian() * 50;
+			if (random.nextInt(200) == 0) {
+				value = -value; // invalid negative value
+			} else if (random.nextInt(100) == 0) {
+				value = Double.NaN; // missing value
+			}
+			values[i] = value;
+		}
+		return new Series<>(index, values);
+	}
+}
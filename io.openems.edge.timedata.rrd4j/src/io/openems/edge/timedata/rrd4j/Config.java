@@ -25,6 +25,15 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Read-Only mode", description = "Activates the read-only mode. Then no data is written to rrd4j.")
 	boolean isReadOnly() default false;
 
+	@AttributeDefinition(name = "Storage Backend", description = "FILE writes every sample immediately. NIO uses memory-mapped files that are synchronized to disk every 5 minutes; this reduces write operations on flash storage.")
+	Rrd4jBackend backend() default Rrd4jBackend.FILE;
+
+	@AttributeDefinition(name = "Max. open databases", description = "Number of RRD4J files that are kept open for faster queries and writes; 0 disables caching")
+	int openDatabases() default Rrd4jSupplier.DEFAULT_OPEN_DATABASES;
+
+	@AttributeDefinition(name = "Write threads", description = "Number of RRD4J files that are written in parallel. Use 1 for slow SD cards; more for SSDs.")
+	int writeThreads() default RecordWorker.DEFAULT_WRITE_THREADS;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
@@ -1,7 +1,9 @@
 package io.openems.edge.timedata.rrd4j;
 
+import static io.openems.edge.common.channel.ChannelUtils.aggregatePastValues;
 import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
 
 import java.io.IOException;
 import java.time.Instant;
@@ -9,6 +11,8 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
@@ -16,7 +20,12 @@ import java.util.OptionalDouble;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.ToDoubleFunction;
@@ -29,6 +38,7 @@ import org.osgi.service.component.annotations.ServiceScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
@@ -39,6 +49,7 @@ import io.openems.common.channel.Unit;
 import io.openems.common.timedata.DurationUnit;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.OpenemsType;
+import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.EnumDoc;
@@ -56,13 +67,27 @@ public class RecordWorker extends AbstractImmediateWorker {
 			boolean readOnly, //
 			boolean debugMode, //
 			PersistencePriority persistencePriority, //
+			int writeThreads, //
 			Consumer<? super Boolean> onQueueFull, //
-			Consumer<? super Boolean> onUnableToInsert //
+			Consumer<? super Boolean> onUnableToInsert, //
+			Consumer<? super FlushStatistics> onFlush //
 	) {
 
 	}
 
-	private static record DataRecord(//
+	/**
+	 * Statistics of writing the queued records to RRD4J.
+	 *
+	 * @param duration         the duration in [ms]
+	 * @param records          the number of records that were written
+	 * @param writtenDatabases the number of RRD4J files that were written
+	 * @param queueDepth       the number of record lists that were queued while
+	 *                         writing
+	 */
+	public record FlushStatistics(long duration, int records, int writtenDatabases, int queueDepth) {
+	}
+
+	static record DataRecord(//
 			long timestamp, //
 			ChannelAddress address, //
 			Unit unit, //
@@ -70,6 +95,9 @@ public class RecordWorker extends AbstractImmediateWorker {
 	) {
 	}
 
+	/** Default number of RRD4J files that are written in parallel. */
+	public static final int DEFAULT_WRITE_THREADS = 2;
+
 	private static final Set<String> WHITELISTED_PROPERTY_CHANNELS = Set.of(//
 			"_PropertyMaximumSellToGridPower", //
 			"_PropertyMaximumGridFeedInLimit", //
@@ -94,12 +122,22 @@ public class RecordWorker extends AbstractImmediateWorker {
 
 	private final Set<ChannelAddress> checkedChannelsForDeletion = new HashSet<>();
 
+	private ExecutorService executor;
+
+	/**
+	 * Sets the {@link Config} and creates the pool of write threads.
+	 *
+	 * @param config the {@link Config}
+	 */
 	public void setConfig(Config config) {
 		this.config = config;
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 0);
+		this.executor = Executors.newFixedThreadPool(Math.max(1, config.writeThreads()), //
+				new ThreadFactoryBuilder().setNameFormat("Rrd4j:" + config.rrdDbId() + "-%d").build());
 	}
 
-	// Record queue
-	private final BlockingQueue<DataRecord> records = new LinkedBlockingQueue<>();
+	// Record queue; the records of one collectData() run are queued as one list
+	private final BlockingQueue<List<DataRecord>> records = new LinkedBlockingQueue<>();
 
 	// keeps the last recorded timestamp
 	private Instant lastTimestamp = Instant.MIN;
@@ -112,6 +150,7 @@ public class RecordWorker extends AbstractImmediateWorker {
 	@Deactivate
 	public void deactivate() {
 		super.deactivate();
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
 	}
 
 	/**
@@ -153,7 +192,7 @@ public class RecordWorker extends AbstractImmediateWorker {
 
 		this.lastTimestamp = timestamp;
 
-		this.componentManager.getEnabledComponents().stream() //
+		final var dataRecords = this.componentManager.getEnabledComponents().stream() //
 				.flatMap(component -> component.channels().stream()) //
 				.filter(channel -> {
 					final var doc = channel.channelDoc();
@@ -183,27 +222,32 @@ public class RecordWorker extends AbstractImmediateWorker {
 						writeSeconds = timestamp.getEpochSecond();
 					}
 
-					// This is the highest timestamp before `startTime`. If existing it is used for
-					// the tailMap to make sure we get a Value even for Channels where the value has
-					// not changed within the last 5 minutes.
-					var channelStartTime = Optional.ofNullable(channel.getPastValues().floorKey(from)) //
-							.orElse(from);
-
-					var value = channelAggregateFunction.apply(//
-							channel.getPastValues() //
-									.tailMap(channelStartTime, true) //
-									.entrySet().stream() //
-									.filter(e -> e.getKey().isBefore(to)) //
-									.map(Entry::getValue) //
-									.map(Value::get) //
-									.filter(Objects::nonNull) //
-									.mapToDouble(channelMapFunction) // convert to double
-					);
-
-					if (channel.channelDoc() instanceof EnumDoc) {
-						final var enumChannelValue = aggregateEnumChannel(channel, channelStartTime, to);
-						if (!enumChannelValue.isJsonNull()) {
-							value = OptionalDouble.of(enumChannelValue.getAsDouble());
+					// Use pre-aggregated values if available
+					var value = aggregatePastValues(channel, from, to);
+
+					if (value == null) {
+						// This is the highest timestamp before `startTime`. If existing it is used for
+						// the tailMap to make sure we get a Value even for Channels where the value has
+						// not changed within the last 5 minutes.
+						var channelStartTime = Optional.ofNullable(channel.getPastValues().floorKey(from)) //
+								.orElse(from);
+
+						value = channelAggregateFunction.apply(//
+								channel.getPastValues() //
+										.tailMap(channelStartTime, true) //
+										.entrySet().stream() //
+										.filter(e -> e.getKey().isBefore(to)) //
+										.map(Entry::getValue) //
+										.map(Value::get) //
+										.filter(Objects::nonNull) //
+										.mapToDouble(channelMapFunction) // convert to double
+						);
+
+						if (channel.channelDoc() instanceof EnumDoc) {
+							final var enumChannelValue = aggregateEnumChannel(channel, channelStartTime, to);
+							if (!enumChannelValue.isJsonNull()) {
+								value = OptionalDouble.of(enumChannelValue.getAsDouble());
+							}
 						}
 					}
 
@@ -220,64 +264,124 @@ public class RecordWorker extends AbstractImmediateWorker {
 					);
 				}) //
 				.filter(Objects::nonNull) //
-				.forEach(dataRecord -> {
-					this.config.onUnableToInsert.accept(!this.records.offer(dataRecord));
-				});
+				.toList();
+
+		if (!dataRecords.isEmpty()) {
+			this.config.onUnableToInsert.accept(!this.records.offer(dataRecords));
+		}
 
 	}
 
 	private void tryDelete(Channel<?> channel) {
 		try {
-			final var db = this.rrd4jSupplier.getExistingUpdatedRrdDb(this.config.rrdDbId, channel.address(),
+			final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(this.config.rrdDbId, channel.address(),
 					channel.channelDoc().getUnit());
 
-			if (db == null) {
+			if (handle == null) {
 				return;
 			}
 
-			db.close();
-
 			this.log.info("Delete file for channel {}", channel.address());
-			this.rrd4jSupplier.delete(db);
+			this.rrd4jSupplier.delete(handle);
 		} catch (IOException e) {
 			this.log.warn("Unable to access RRD4J database. Try to delete it. {}", channel.address(), e);
 		}
 	}
 
+	/**
+	 * Writes all queued records. Records are grouped by RRD4J file, so every file
+	 * is opened and written once per flush; files are written in parallel by the
+	 * write threads.
+	 */
 	@Override
 	protected void forever() throws InterruptedException {
-		final var record = this.records.take();
+		final var records = new ArrayList<DataRecord>(this.records.take());
+		List<DataRecord> next;
+		while ((next = this.records.poll()) != null) {
+			records.addAll(next);
+		}
 
 		if (this.config.readOnly()) {
 			if (this.config.debugMode()) {
-				this.log.info("Read-Only-Mode is activated. Not writing record: {}", record);
+				this.log.info("Read-Only-Mode is activated. Not writing [{}] records", records.size());
 			}
 			return;
 		}
 
-		try (var database = this.rrd4jSupplier.getRrdDb(this.config.rrdDbId, record.address, record.unit,
-				record.timestamp - 1)) {
-			if (database.getLastUpdateTime() == record.timestamp()) {
-				// overwrite last value if same time stamp
-				final var robin = database.getArchive(0).getRobin(0);
-				robin.setValue(robin.getSize() - 1, record.value());
-			} else if (database.getLastUpdateTime() < record.timestamp()) {
-				// Avoid and silently ignore error "IllegalArgumentException: Bad sample time:
-				// YYY. Last update time was ZZZ, at least one second step is required".
-
-				// Add Sample to RRD4J
-				database.createSample(record.timestamp()) //
-						.setValue(0, record.value) //
-						.update();
+		final var start = System.nanoTime();
+		final var recordsByDatabase = records.stream() //
+				.collect(groupingBy(DataRecord::address, LinkedHashMap::new, toList()));
+		final var futures = new ArrayList<Future<Boolean>>(recordsByDatabase.size());
+		for (var databaseRecords : recordsByDatabase.values()) {
+			futures.add(this.executor.submit(() -> this.write(databaseRecords)));
+		}
+
+		var failed = false;
+		var writtenDatabases = 0;
+		for (var future : futures) {
+			try {
+				if (future.get()) {
+					writtenDatabases++;
+				} else {
+					failed = true;
+				}
+			} catch (ExecutionException e) {
+				failed = true;
 			}
+		}
+
+		this.config.onQueueFull.accept(failed);
+		this.config.onFlush.accept(new FlushStatistics(//
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), //
+				records.size(), //
+				writtenDatabases, //
+				this.getQueueDepth()));
+	}
 
-			this.config.onQueueFull.accept(false);
+	/**
+	 * Gets the number of record lists, i.e. collectData() runs, that are waiting
+	 * to be written.
+	 *
+	 * @return the queue depth
+	 */
+	public int getQueueDepth() {
+		return this.records.size();
+	}
+
+	/**
+	 * Writes the records of one RRD4J file.
+	 *
+	 * @param records the records of one {@link ChannelAddress}, sorted by
+	 *                timestamp
+	 * @return true on success
+	 */
+	protected boolean write(List<DataRecord> records) {
+		final var first = records.get(0);
+		try (var handle = this.rrd4jSupplier.getRrdDb(this.config.rrdDbId, first.address, first.unit,
+				first.timestamp - 1)) {
+			final var database = handle.get();
+			for (var record : records) {
+				if (database.getLastUpdateTime() == record.timestamp()) {
+					// overwrite last value if same time stamp
+					final var robin = database.getArchive(0).getRobin(0);
+					robin.setValue(robin.getSize() - 1, record.value());
+				} else if (database.getLastUpdateTime() < record.timestamp()) {
+					// Avoid and silently ignore error "IllegalArgumentException: Bad sample time:
+					// YYY. Last update time was ZZZ, at least one second step is required".
+
+					// Add Sample to RRD4J
+					database.createSample(record.timestamp()) //
+							.setValue(0, record.value) //
+							.update();
+				}
+			}
+			return true;
 		} catch (Throwable e) {
-			this.config.onQueueFull.accept(true);
 			if (this.config.debugMode()) {
-				this.log.error("Unable to insert Sample [%s] %s: %s".formatted(record.address,
+				this.log.error("Unable to insert Sample [%s] %s: %s".formatted(first.address,
 						e.getClass().getSimpleName(), e.getMessage()), e);
 			}
+			return false;
 		}
 	}
 
@@ -0,0 +1,14 @@
+package io.openems.edge.timedata.rrd4j;
+
+public enum Rrd4jBackend {
+	/**
+	 * Files are accessed via {@link java.io.RandomAccessFile}; every update is
+	 * written to disk immediately.
+	 */
+	FILE,
+	/**
+	 * Files are memory-mapped via java.nio; changes are synchronized to disk
+	 * periodically and when a database is closed.
+	 */
+	NIO;
+}
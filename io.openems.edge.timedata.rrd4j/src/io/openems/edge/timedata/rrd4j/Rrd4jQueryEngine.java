@@ -0,0 +1,360 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.rrd4j.core.RrdDb;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.timedata.rrd4j.Rrd4jReadHandler.Range;
+
+/**
+ * Runs history queries for multiple Channels at once.
+ *
+ * <p>
+ * The caller plans a query for all requested Channels, i.e. it resolves the
+ * {@link Unit} of every Channel once. The RRD4J files are then read in
+ * parallel, one task per Channel, and every Channel fills a {@code double[]}
+ * column that is aligned on the common time axis of the query. Conversion to
+ * the JSON table of the Timedata API happens once, in {@link Columns#toTable()}.
+ */
+public class Rrd4jQueryEngine {
+
+	/**
+	 * The columnar result of a query.
+	 *
+	 * <p>
+	 * Every column is aligned on the axis; a column may be shorter than the axis if
+	 * the RRD4J file holds less data. Missing values are {@link Double#NaN}.
+	 *
+	 * @param axis    the timestamps
+	 * @param columns the values per Channel
+	 */
+	public record Columns(List<ZonedDateTime> axis, Map<ChannelAddress, double[]> columns) {
+
+		/**
+		 * Converts to the table of the Timedata API.
+		 *
+		 * @return the table
+		 */
+		public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> toTable() {
+			final var result = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+			for (var i = 0; i < this.axis.size(); i++) {
+				final var row = new TreeMap<ChannelAddress, JsonElement>();
+				for (var column : this.columns.entrySet()) {
+					final var values = column.getValue();
+					if (i < values.length) {
+						row.put(column.getKey(), toJson(values[i]));
+					}
+				}
+				result.put(this.axis.get(i), row);
+			}
+			return result;
+		}
+
+		/**
+		 * Converts one row to the map of the Timedata API.
+		 *
+		 * @param index the index on the axis
+		 * @return the values per Channel
+		 */
+		public SortedMap<ChannelAddress, JsonElement> toRow(int index) {
+			final var result = new TreeMap<ChannelAddress, JsonElement>();
+			for (var column : this.columns.entrySet()) {
+				final var values = column.getValue();
+				result.put(column.getKey(), index < values.length //
+						? toJson(values[index]) //
+						: JsonNull.INSTANCE);
+			}
+			return result;
+		}
+
+		/**
+		 * Checks if no column holds any value.
+		 *
+		 * @return true if all values are missing
+		 */
+		public boolean isEmpty() {
+			for (var values : this.columns.values()) {
+				for (var value : values) {
+					if (!Double.isNaN(value)) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+	}
+
+	@FunctionalInterface
+	private static interface ColumnReader {
+
+		/**
+		 * Reads the column of one Channel.
+		 *
+		 * @param database the {@link RrdDb} of the Channel
+		 * @param unit     the {@link Unit} of the Channel
+		 * @return the values
+		 * @throws IOException on error
+		 */
+		public double[] read(RrdDb database, Unit unit) throws IOException;
+	}
+
+	private final Logger log = LoggerFactory.getLogger(Rrd4jQueryEngine.class);
+
+	private final Rrd4jSupplier rrd4jSupplier;
+	private final Executor executor;
+
+	public Rrd4jQueryEngine(Rrd4jSupplier rrd4jSupplier, Executor executor) {
+		this.rrd4jSupplier = rrd4jSupplier;
+		this.executor = executor;
+	}
+
+	/**
+	 * Queries historic data with the given {@link Resolution}.
+	 *
+	 * <p>
+	 * Channels without {@link Unit} and Channels whose RRD4J file is missing or
+	 * can not be read have no column.
+	 *
+	 * @param rrdDbId    the id of the rrdb
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels with their {@link Unit}; null if unknown
+	 * @param resolution the {@link Resolution}
+	 * @param debugMode  if debugMode is active
+	 * @return the {@link Columns}
+	 */
+	public Columns queryHistoricData(//
+			final String rrdDbId, //
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Map<ChannelAddress, Unit> channels, //
+			final Resolution resolution, //
+			final boolean debugMode //
+	) {
+		final var fromTimestamp = fromDate.toEpochSecond();
+		final var toTimestamp = toDate.toEpochSecond();
+		final var resolutionSeconds = resolution.toSeconds();
+
+		final var columns = this.readColumns(rrdDbId, channels, debugMode, (database, unit) -> {
+			final var consolFun = Rrd4jSupplier.getDsDefForChannel(unit).consolFun();
+			final var fetchData = database //
+					.createFetchRequest(consolFun, fromTimestamp, toTimestamp, resolutionSeconds) //
+					.fetchData();
+			return Rrd4jSupplier.postProcessData(fetchData, resolutionSeconds);
+		});
+
+		var length = 0;
+		for (var values : columns.values()) {
+			length = Math.max(length, values.length);
+		}
+		final var axis = new ArrayList<ZonedDateTime>(length);
+		for (var i = 0; i < length; i++) {
+			axis.add(Instant.ofEpochSecond(fromTimestamp + i * resolutionSeconds).atZone(fromDate.getZone()));
+		}
+		return new Columns(axis, columns);
+	}
+
+	/**
+	 * Queries the energy of each {@link Range}, i.e. the difference between the
+	 * last value before the start and the last value within the {@link Range}.
+	 *
+	 * <p>
+	 * Every Channel has a column; values that are not available are
+	 * {@link Double#NaN}.
+	 *
+	 * @param rrdDbId   the id of the rrdb
+	 * @param ranges    the {@link Range}s
+	 * @param channels  the Channels with their {@link Unit}; null if unknown
+	 * @param debugMode if debugMode is active
+	 * @return the {@link Columns}; the axis holds the start of each {@link Range}
+	 */
+	public Columns queryHistoricEnergy(//
+			final String rrdDbId, //
+			final List<Range> ranges, //
+			final Map<ChannelAddress, Unit> channels, //
+			final boolean debugMode //
+	) {
+		final var fromTimestamps = new long[ranges.size()];
+		final var toTimestamps = new long[ranges.size()];
+		final var axis = new ArrayList<ZonedDateTime>(ranges.size());
+		for (var i = 0; i < ranges.size(); i++) {
+			final var range = ranges.get(i);
+			fromTimestamps[i] = range.from().toEpochSecond();
+			toTimestamps[i] = range.to().toEpochSecond();
+			axis.add(range.from());
+		}
+
+		final var columns = this.readColumns(rrdDbId, channels, debugMode, (database, unit) -> {
+			final var values = new double[fromTimestamps.length];
+			for (var i = 0; i < values.length; i++) {
+				values[i] = getEnergy(database, fromTimestamps[i], toTimestamps[i]);
+			}
+			return values;
+		});
+
+		// Channels that are not available are part of every row
+		final var result = new LinkedHashMap<ChannelAddress, double[]>();
+		for (var channel : channels.keySet()) {
+			var values = columns.get(channel);
+			if (values == null) {
+				values = new double[ranges.size()];
+				Arrays.fill(values, Double.NaN);
+			}
+			result.put(channel, values);
+		}
+		return new Columns(axis, result);
+	}
+
+	/**
+	 * Reads the columns of all Channels. Every Channel is read by its own task on
+	 * the {@link Executor}; a single Channel is read directly.
+	 *
+	 * @param rrdDbId   the id of the rrdb
+	 * @param channels  the Channels with their {@link Unit}; null if unknown
+	 * @param debugMode if debugMode is active
+	 * @param reader    the {@link ColumnReader}
+	 * @return the columns of the available Channels
+	 */
+	private Map<ChannelAddress, double[]> readColumns(String rrdDbId, Map<ChannelAddress, Unit> channels,
+			boolean debugMode, ColumnReader reader) {
+		final var futures = new LinkedHashMap<ChannelAddress, CompletableFuture<double[]>>();
+		for (var entry : channels.entrySet()) {
+			final var channel = entry.getKey();
+			final var unit = entry.getValue();
+			if (unit == null) {
+				continue;
+			}
+			futures.put(channel, channels.size() == 1 //
+					? CompletableFuture.completedFuture(this.readColumn(rrdDbId, channel, unit, debugMode, reader)) //
+					: CompletableFuture.supplyAsync(//
+							() -> this.readColumn(rrdDbId, channel, unit, debugMode, reader), this.executor));
+		}
+
+		final var result = new LinkedHashMap<ChannelAddress, double[]>();
+		for (var entry : futures.entrySet()) {
+			final var values = entry.getValue().join();
+			if (values != null) {
+				result.put(entry.getKey(), values);
+			}
+		}
+		return result;
+	}
+
+	private double[] readColumn(String rrdDbId, ChannelAddress channel, Unit unit, boolean debugMode,
+			ColumnReader reader) {
+		try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channel, unit)) {
+			if (handle == null) {
+				if (debugMode) {
+					this.log.warn("Unable to query RRD4j: " //
+							+ "RRD4j Database for " + channel + " is missing");
+				}
+				return null;
+			}
+			return reader.read(handle.get(), unit);
+		} catch (Exception e) {
+			if (debugMode) {
+				this.log.warn("Unable to query RRD4j " + channel, e);
+			}
+			return null;
+		}
+	}
+
+	private static double getEnergy(RrdDb database, long fromTimestamp, long toTimestamp) {
+		try {
+			final var first = getFirstValueBefore(database, fromTimestamp);
+			final var last = getLastValue(database, fromTimestamp, toTimestamp);
+			if (Double.isNaN(last)) {
+				return Double.NaN;
+			}
+			if (Double.isNaN(first)) {
+				// no value before the range
+				return last;
+			}
+			return last - first;
+		} catch (IOException | IllegalArgumentException e) {
+			return Double.NaN;
+		}
+	}
+
+	private static double getFirstValueBefore(RrdDb database, long endTimestamp) throws IOException {
+		final var archive = database.getArchive(0);
+		if (archive.getStartTime() > endTimestamp) {
+			// value out of range
+			return Double.NaN;
+		}
+
+		final var robin = archive.getRobin(0);
+
+		final var endIndex = Rrd4jReadHandler.calculateIndex(archive, endTimestamp) - 1 /* exclusive */;
+
+		for (int i = Math.min(endIndex, robin.getSize() - 1); i > 0; i--) {
+			final var value = robin.getValue(i);
+			if (!Double.isNaN(value)) {
+				return value;
+			}
+		}
+		return Double.NaN;
+	}
+
+	private static double getLastValue(RrdDb database, long startTimestamp, long endTimestamp) throws IOException {
+		if (startTimestamp > endTimestamp) {
+			throw new IllegalArgumentException("'startTimestamp' needs to be smaller than 'endTimestamp'");
+		}
+
+		final var archive = database.getArchive(0);
+		final var start = archive.getStartTime();
+
+		if (archive.getEndTime() < startTimestamp) {
+			// value out of range
+			return Double.NaN;
+		}
+		if (start > endTimestamp) {
+			// value out of range
+			return Double.NaN;
+		}
+
+		final var step = archive.getArcStep();
+		final var robin = archive.getRobin(0);
+
+		var startIndex = (int) ((startTimestamp - start) / step);
+		var endIndex = (int) ((endTimestamp - start) / step) - 1 /* exclusive */;
+
+		if (startIndex < 0) {
+			startIndex = 0;
+		}
+
+		for (int i = Math.min(endIndex, robin.getSize() - 1); i > startIndex; i--) {
+			final var value = robin.getValue(i);
+			if (!Double.isNaN(value)) {
+				return value;
+			}
+		}
+		return Double.NaN;
+	}
+
+	private static JsonElement toJson(double value) {
+		return Double.isNaN(value) //
+				? JsonNull.INSTANCE //
+				: new JsonPrimitive(value);
+	}
+}
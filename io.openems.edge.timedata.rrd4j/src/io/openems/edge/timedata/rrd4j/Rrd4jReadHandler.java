@@ -1,23 +1,26 @@
 package io.openems.edge.timedata.rrd4j;
 
 import java.io.IOException;
-import java.time.Instant;
-import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Function;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ServiceScope;
 import org.rrd4j.core.Archive;
@@ -25,8 +28,8 @@ import org.rrd4j.core.RrdDb;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
 
 import io.openems.common.channel.Unit;
@@ -34,6 +37,7 @@ import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.timedata.api.Timeranges;
@@ -44,6 +48,9 @@ import io.openems.edge.timedata.api.Timeranges;
 )
 public class Rrd4jReadHandler {
 
+	/** Number of RRD4J files that are read in parallel for one query. */
+	private static final int QUERY_THREADS = 4;
+
 	private final Logger log = LoggerFactory.getLogger(this.getClass());
 
 	@Reference
@@ -52,11 +59,22 @@ public class Rrd4jReadHandler {
 	@Reference
 	private Rrd4jSupplier rrd4jSupplier;
 
+	/** Reads the RRD4J files of a query in parallel. */
+	private final ThreadPoolExecutor executor;
+
 	@Activate
 	public Rrd4jReadHandler() {
+		this.executor = new ThreadPoolExecutor(QUERY_THREADS, QUERY_THREADS, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setNameFormat("Rrd4jQuery-%d").build());
+		this.executor.allowCoreThreadTimeOut(true);
 	}
 
-	private static int calculateIndex(Archive archive, long timestamp) throws IOException {
+	@Deactivate
+	private void deactivate() {
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
+	}
+
+	protected static int calculateIndex(Archive archive, long timestamp) throws IOException {
 		return (int) ((timestamp - archive.getStartTime()) / archive.getArcStep());
 	}
 
@@ -168,12 +186,12 @@ public class Rrd4jReadHandler {
 			// unable to get channel
 			throw new OpenemsException("RRD4j Database for " + notSendChannel + " is missing");
 		}
-		try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
+		try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
 				rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
-			if (database == null) {
+			if (handle == null) {
 				throw new OpenemsException("RRD4j Database for " + notSendChannel + " is missing");
 			}
-			return getTimerangesOfNotSendData(database, lastResendTimestamp);
+			return getTimerangesOfNotSendData(handle.get(), lastResendTimestamp);
 		} catch (IOException e) {
 			throw new OpenemsException("Unable to query database.", e);
 		}
@@ -213,15 +231,16 @@ public class Rrd4jReadHandler {
 				}
 				continue;
 			}
-			try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
+			try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
 					rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
-				if (database == null) {
+				if (handle == null) {
 					if (debugMode) {
 						this.log.warn("Unable to query RRD4j: " //
 								+ "RRD4j Database for " + channelAddress + " is missing");
 					}
 					continue;
 				}
+				final var database = handle.get();
 
 				for (int i = 0; i < database.getArcCount(); i++) {
 					final var archive = database.getArchive(i);
@@ -290,85 +309,21 @@ public class Rrd4jReadHandler {
 			final Resolution resolution, //
 			final boolean debugMode //
 	) throws OpenemsNamedException {
-		final var timezone = fromDate.getZone();
-		final var table = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
-
-		final var fromTimestamp = fromDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
-		final var toTimeStamp = toDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
-		var errorCounter = 0;
-
 		try {
-			for (var channelAddress : channels) {
-				final Channel<?> channel;
-				try {
-					channel = this.componentManager.getChannel(channelAddress);
-				} catch (Exception e) {
-					if (debugMode) {
-						this.log.warn("Unable to get channel " + channelAddress, e);
-					}
-					errorCounter++;
-					continue;
-				}
-				final var chDef = Rrd4jSupplier.getDsDefForChannel(channel.channelDoc().getUnit());
-				final double[] result;
-				try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channel.address(),
-						channel.channelDoc().getUnit())) {
-					if (database == null) {
-						if (debugMode) {
-							this.log.warn(
-									"Unable to query RRD4j" + "RRD4j Database for " + channelAddress + " is missing");
-						}
-						errorCounter++;
-						continue;
-					}
-
-					final var fetchedData = database
-							.createFetchRequest(chDef.consolFun(), fromTimestamp, toTimeStamp, resolution.toSeconds())
-							.fetchData();
-					// Post-Process data
-					result = Rrd4jSupplier.postProcessData(fetchedData, resolution.toSeconds());
-				} catch (Exception e) {
-					if (debugMode) {
-						this.log.warn("Unable to query RRD4j " + channelAddress, e);
-					}
-					errorCounter++;
-					continue;
-				}
-				try {
-					for (var i = 0; i < result.length; i++) {
-						final var timestamp = fromTimestamp + (i * resolution.toSeconds());
-
-						// Prepare result table row
-						var timestampInstant = Instant.ofEpochSecond(timestamp);
-						var dateTime = ZonedDateTime.ofInstant(timestampInstant, ZoneOffset.UTC) //
-								.withZoneSameInstant(timezone);
-
-						final var tableRow = table.computeIfAbsent(dateTime, t -> new TreeMap<>());
-
-						final var value = result[i];
-						tableRow.put(channelAddress, Double.isNaN(value) //
-								? JsonNull.INSTANCE
-								: new JsonPrimitive(value));
-					}
-				} catch (Exception e) {
-					if (debugMode) {
-						this.log.warn("Unable to query RRD4j " + channelAddress, e);
-					}
-					errorCounter++;
-				}
-			}
+			final var result = this.getQueryEngine().queryHistoricData(rrdDbId, fromDate, toDate,
+					this.getUnits(channels, debugMode), resolution, debugMode);
 
 			// If no Channel can be read successfully: throw exception; otherwise return the
 			// available data
-			if (errorCounter == channels.size()) {
+			if (result.columns().isEmpty()) {
 				throw new OpenemsException("None of the requested Channels is available: "
 						+ channels.stream().map(c -> c.toString()).collect(Collectors.joining(", ")));
 			}
+			return result.toTable();
 
 		} catch (Exception e) {
 			throw new OpenemsException("Unable to read historic data: " + e.getMessage());
 		}
-		return table;
 	}
 
 	/**
@@ -388,60 +343,16 @@ public class Rrd4jReadHandler {
 			final Set<ChannelAddress> channels, //
 			final boolean debugMode //
 	) throws OpenemsNamedException {
-		final var fromTimestamp = fromDate.toEpochSecond();
-		final var toTimestamp = toDate.toEpochSecond();
-
-		final var result = channels.stream() //
-				.collect(Collectors.toMap(Function.identity(), channelAddress -> {
-					final Channel<?> channel;
-					try {
-						channel = this.componentManager.getChannel(channelAddress);
-					} catch (Exception e) {
-						// unable to get channel
-						if (debugMode) {
-							this.log.warn("Unable to query RRD4j", e);
-						}
-						return JsonNull.INSTANCE;
-					}
-					try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
-							rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
-						if (database == null) {
-							if (debugMode) {
-								this.log.warn("Unable to query RRD4j: " //
-										+ "RRD4j Database for " + channelAddress + " is missing");
-							}
-							return JsonNull.INSTANCE;
-						}
-
-						var first = getFirstValueBefore(database, fromTimestamp);
-
-						// minus 1h to include the last timestamp of the requested day
-						final var last = getLastValue(database, fromTimestamp, toTimestamp);
-
-						// get first value in range
-						if (Double.isNaN(first) && !Double.isNaN(last)) {
-							return new JsonPrimitive(last);
-						}
-
-						if (Double.isNaN(first) || Double.isNaN(last)) {
-							return JsonNull.INSTANCE;
-						}
-						return new JsonPrimitive(last - first);
-					} catch (Exception e) {
-						if (debugMode) {
-							this.log.warn("Unable to query RRD4j", e);
-						}
-						return JsonNull.INSTANCE;
-					}
-				}, (t, u) -> t, TreeMap::new));
+		final var result = this.getQueryEngine().queryHistoricEnergy(rrdDbId, List.of(new Range(fromDate, toDate)),
+				this.getUnits(channels, debugMode), debugMode);
 
 		// If no Channel can be read successfully: throw exception
-		if (result.values().stream().allMatch(JsonElement::isJsonNull)) {
+		if (result.isEmpty()) {
 			throw new OpenemsException("Unable to read historic data: None of the requested Channels is available: "
 					+ channels.stream().map(c -> c.toString()).collect(Collectors.joining(", ")));
 		}
 
-		return result;
+		return result.toRow(0);
 	}
 
 	/**
@@ -469,15 +380,38 @@ public class Rrd4jReadHandler {
 			final Resolution resolution, //
 			final boolean debugMode //
 	) throws OpenemsNamedException {
-		return streamRanges(fromDate, toDate, resolution) //
-				.collect(Collectors.toMap(Range::from, range -> {
-					try {
-						return this.queryHistoricEnergy(rrdDbId, range.from(), range.to(), channels, debugMode);
-					} catch (OpenemsNamedException e) {
-						return channels.stream().collect(Collectors.toMap(Function.identity(),
-								channel -> JsonNull.INSTANCE, (t, u) -> t, TreeMap::new));
-					}
-				}, (t, u) -> t, TreeMap::new));
+		// Every RRD4J file is opened once for all periods
+		return this.getQueryEngine().queryHistoricEnergy(rrdDbId, streamRanges(fromDate, toDate, resolution).toList(),
+				this.getUnits(channels, debugMode), debugMode) //
+				.toTable();
+	}
+
+	private Rrd4jQueryEngine getQueryEngine() {
+		return new Rrd4jQueryEngine(this.rrd4jSupplier, this.executor);
+	}
+
+	/**
+	 * Plans a query: resolves the {@link Unit} of every requested Channel.
+	 *
+	 * @param channels  the Channels
+	 * @param debugMode if debugMode is active
+	 * @return the {@link Unit} per Channel; null if the Channel is not available
+	 */
+	private Map<ChannelAddress, Unit> getUnits(Set<ChannelAddress> channels, boolean debugMode) {
+		final var result = new LinkedHashMap<ChannelAddress, Unit>();
+		for (var channelAddress : channels) {
+			Unit unit;
+			try {
+				unit = this.componentManager.getChannel(channelAddress).channelDoc().getUnit();
+			} catch (Exception e) {
+				if (debugMode) {
+					this.log.warn("Unable to get channel " + channelAddress, e);
+				}
+				unit = null;
+			}
+			result.put(channelAddress, unit);
+		}
+		return result;
 	}
 
 	protected static record Range(ZonedDateTime from, ZonedDateTime to) {
@@ -556,11 +490,12 @@ public class Rrd4jReadHandler {
 				return Optional.empty();
 			}
 
-			try (var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress,
+			try (var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress,
 					channel.channelDoc().getUnit())) {
-				if (database == null) {
+				if (handle == null) {
 					return Optional.empty();
 				}
+				final var database = handle.get();
 
 				// search for last value in robin
 				final var robin = database.getArchive(0).getRobin(0);
@@ -599,10 +534,11 @@ public class Rrd4jReadHandler {
 	) {
 		return CompletableFuture.supplyAsync(() -> {
 
-			try (var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress, unit)) {
-				if (database == null) {
+			try (var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress, unit)) {
+				if (handle == null) {
 					return Optional.empty();
 				}
+				final var database = handle.get();
 
 				// search for last value in robin
 				final var robin = database.getArchive(0).getRobin(0);
@@ -621,60 +557,4 @@ public class Rrd4jReadHandler {
 		});
 	}
 
-	private static double getFirstValueBefore(RrdDb database, long endTimestamp) throws IOException {
-		final var archive = database.getArchive(0);
-		if (archive.getStartTime() > endTimestamp) {
-			// value out of range
-			return Double.NaN;
-		}
-
-		final var robin = archive.getRobin(0);
-
-		final var endIndex = calculateIndex(archive, endTimestamp) - 1 /* exclusive */;
-
-		for (int i = Math.min(endIndex, robin.getSize() - 1); i > 0; i--) {
-			final var value = robin.getValue(i);
-			if (!Double.isNaN(value)) {
-				return value;
-			}
-		}
-		return Double.NaN;
-	}
-
-	private static double getLastValue(RrdDb database, long startTimestamp, long endTimestamp) throws IOException {
-		if (startTimestamp > endTimestamp) {
-			throw new IllegalArgumentException("'startTimestamp' needs to be smaller than 'endTimestamp'");
-		}
-
-		final var archive = database.getArchive(0);
-		final var start = archive.getStartTime();
-
-		if (archive.getEndTime() < startTimestamp) {
-			// value out of range
-			return Double.NaN;
-		}
-		if (start > endTimestamp) {
-			// value out of range
-			return Double.NaN;
-		}
-
-		final var step = archive.getArcStep();
-		final var robin = archive.getRobin(0);
-
-		var startIndex = (int) ((startTimestamp - start) / step);
-		var endIndex = (int) ((endTimestamp - start) / step) - 1 /* exclusive */;
-
-		if (startIndex < 0) {
-			startIndex = 0;
-		}
-
-		for (int i = Math.min(endIndex, robin.getSize() - 1); i > startIndex; i--) {
-			final var value = robin.getValue(i);
-			if (!Double.isNaN(value)) {
-				return value;
-			}
-		}
-		return Double.NaN;
-	}
-
 }
@@ -14,6 +14,7 @@ import java.util.function.BiFunction;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ServiceScope;
 import org.rrd4j.ConsolFun;
@@ -22,6 +23,7 @@ import org.rrd4j.core.DsDef;
 import org.rrd4j.core.FetchData;
 import org.rrd4j.core.RrdBackendFactory;
 import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdNioBackendFactory;
 import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +34,7 @@ import io.openems.common.function.ThrowingSupplier;
 import io.openems.common.timedata.CommonTimedataService;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.type.TypeUtils;
+import io.openems.edge.timedata.rrd4j.RrdDbCache.Handle;
 import io.openems.edge.timedata.rrd4j.version.Version.CreateDatabaseConfig;
 import io.openems.edge.timedata.rrd4j.version.VersionHandler;
 
@@ -46,8 +49,20 @@ public class Rrd4jSupplier {
 	@Reference
 	private VersionHandler versionHandler;
 
+	/**
+	 * Default maximum number of open {@link RrdDb}s; large enough to keep the
+	 * databases of all persisted Channels of a typical system (about 3,000) open.
+	 */
+	public static final int DEFAULT_OPEN_DATABASES = 4_000;
+
+	/** Period for synchronizing memory-mapped files to disk. */
+	public static final int NIO_SYNC_PERIOD_SECONDS = Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS;
+
 	private final KeyLock keyLock = new KeyLock();
-	private final RrdBackendFactory factory;
+	private final RrdDbCache cache = new RrdDbCache(DEFAULT_OPEN_DATABASES);
+
+	private volatile RrdBackendFactory factory;
+	private Rrd4jBackend backend = Rrd4jBackend.FILE;
 
 	// channelAddress, rrdDbId => file path
 	private final BiFunction<ChannelAddress, String, String> fileValidator;
@@ -74,6 +89,65 @@ public class Rrd4jSupplier {
 		);
 	}
 
+	@Deactivate
+	private void deactivate() {
+		this.cache.clear();
+		this.closeFactory(this.factory);
+	}
+
+	/**
+	 * Configures the backend and the number of open {@link RrdDb}s.
+	 * 
+	 * <p>
+	 * The file format is the same for all backends, so switching the backend only
+	 * requires reopening the databases.
+	 * 
+	 * @param backend       the {@link Rrd4jBackend}
+	 * @param openDatabases the maximum number of open {@link RrdDb}s; '0' disables
+	 *                      caching
+	 */
+	public synchronized void configure(Rrd4jBackend backend, int openDatabases) {
+		if (backend != this.backend) {
+			final var previousFactory = this.factory;
+			this.factory = switch (backend) {
+			case FILE -> new RrdRandomAccessFileBackendFactory();
+			case NIO -> new RrdNioBackendFactory(NIO_SYNC_PERIOD_SECONDS);
+			};
+			this.backend = backend;
+			this.cache.clear();
+			this.closeFactory(previousFactory);
+		}
+		this.cache.setCapacity(openDatabases);
+	}
+
+	/**
+	 * Closes a {@link RrdNioBackendFactory}, which stops its sync thread pool.
+	 * 
+	 * <p>
+	 * Must be called after all {@link RrdDb}s of the factory were closed.
+	 * 
+	 * @param factory the {@link RrdBackendFactory}
+	 */
+	private void closeFactory(RrdBackendFactory factory) {
+		if (!(factory instanceof RrdNioBackendFactory nioFactory)) {
+			return;
+		}
+		try {
+			nioFactory.close();
+		} catch (IOException e) {
+			this.log.warn("Unable to close RRD4j NIO backend: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Gets the {@link RrdDbCache} of open {@link RrdDb}s.
+	 * 
+	 * @return the {@link RrdDbCache}
+	 */
+	public RrdDbCache getCache() {
+		return this.cache;
+	}
+
 	/**
 	 * Gets the RRD4j database for the given Channel-Address.
 	 * 
@@ -85,23 +159,30 @@ public class Rrd4jSupplier {
 	 * @param channelUnit    the {@link Unit}
 	 * @param startTime      the starttime for newly created RrdDbs
 	 * @param rrdDbId        the id of the rrd4j database
-	 * @return the RrdDb
+	 * @return the {@link Handle} of the RrdDb; release it after use
 	 * @throws IOException on error
 	 */
-	public RrdDb getRrdDb(//
+	public Handle getRrdDb(//
 			final String rrdDbId, //
 			final ChannelAddress channelAddress, //
 			final Unit channelUnit, //
 			final long startTime //
 	) throws IOException {
-		return this.keyLock.lock(rrdDbId + "/" + channelAddress.toString(), () -> {
+		final var key = rrdDbId + "/" + channelAddress.toString();
+		return this.keyLock.lock(key, () -> {
+			var handle = this.getCachedRrdDb(key);
+			if (handle != null) {
+				return handle;
+			}
 			var rrdDb = this.getExistingRrdDb(channelAddress, rrdDbId);
 			if (rrdDb != null) {
 				// Database exists
-				return this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit);
+				rrdDb = this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit);
+			} else {
+				// Create new database
+				rrdDb = this.createNewDb(rrdDbId, channelAddress, channelUnit, startTime);
 			}
-			// Create new database
-			return this.createNewDb(rrdDbId, channelAddress, channelUnit, startTime);
+			return this.cache.put(key, rrdDb);
 		});
 	}
 
@@ -112,23 +193,51 @@ public class Rrd4jSupplier {
 	 * @param rrdDbId        the id of the RrdDb
 	 * @param channelAddress the address of the {@link RrdDb}
 	 * @param channelUnit    the unit of the channel
-	 * @return the {@link RrdDb} or null if not existing
+	 * @return the {@link Handle} of the {@link RrdDb} or null if not existing;
+	 *         release it after use
 	 * @throws IOException on IO-Error
 	 */
-	public RrdDb getExistingUpdatedRrdDb(//
+	public Handle getExistingUpdatedRrdDb(//
 			final String rrdDbId, //
 			final ChannelAddress channelAddress, //
 			final Unit channelUnit //
 	) throws IOException {
-		return this.keyLock.lock(rrdDbId + "/" + channelAddress.toString(), () -> {
+		final var key = rrdDbId + "/" + channelAddress.toString();
+		return this.keyLock.lock(key, () -> {
+			var handle = this.getCachedRrdDb(key);
+			if (handle != null) {
+				return handle;
+			}
 			var rrdDb = this.getExistingRrdDb(channelAddress, rrdDbId);
 			if (rrdDb == null) {
 				return null;
 			}
-			return this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit);
+			rrdDb = this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit);
+			return this.cache.put(key, rrdDb);
 		});
 	}
 
+	/**
+	 * Gets a cached {@link RrdDb} that is on the current version.
+	 * 
+	 * @param key the cache key
+	 * @return the {@link Handle}; null if not cached
+	 * @throws IOException on IO-Error
+	 */
+	private Handle getCachedRrdDb(String key) throws IOException {
+		final var handle = this.cache.get(key);
+		if (handle == null) {
+			return null;
+		}
+		if (!this.versionHandler.isUpToDate(handle.get())) {
+			// Requires migration, i.e. the file gets replaced
+			this.cache.invalidate(handle);
+			handle.close();
+			return null;
+		}
+		return handle;
+	}
+
 	/**
 	 * Defines the datasource properties for a given Channel, i.e. min/max allowed
 	 * value and GAUGE vs. COUNTER type.
@@ -161,16 +270,17 @@ public class Rrd4jSupplier {
 	 * Deletes the RrdDb file of the given RrdDb. Use with care as this can lead to
 	 * data loss.
 	 * 
-	 * @param db the RrdDb to delete
+	 * <p>
+	 * The {@link Handle} is released.
+	 * 
+	 * @param handle the {@link Handle} of the RrdDb to delete
 	 * @return true if deletion was successful, false otherwise
 	 */
-	public boolean delete(RrdDb db) {
-		try {
-			db.close();
-		} catch (IOException e) {
-			return false;
-		}
-		var file = new File(db.getPath());
+	public boolean delete(Handle handle) {
+		final var path = handle.get().getPath();
+		this.cache.invalidate(handle);
+		handle.close();
+		var file = new File(path);
 		return file.delete();
 	}
 
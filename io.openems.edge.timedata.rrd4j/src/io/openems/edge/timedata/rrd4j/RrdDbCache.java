@@ -0,0 +1,280 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.rrd4j.core.RrdDb;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An LRU-bounded cache of open {@link RrdDb}s with reference counting.
+ *
+ * <p>
+ * Opening a {@link RrdDb} reads its header and archive definitions from the
+ * file system. Instead of opening and closing a file for every query and every
+ * record, users acquire a {@link Handle} and release it via
+ * {@link Handle#close()}. Like with {@link org.rrd4j.core.RrdDbPool}, the same
+ * {@link RrdDb} may be shared by multiple users at a time.
+ *
+ * <p>
+ * Released {@link RrdDb}s stay open until the number of open {@link RrdDb}s
+ * exceeds the capacity; then the least recently used ones are closed. A
+ * {@link RrdDb} that is in use is never closed; invalidated entries are closed
+ * as soon as their last {@link Handle} is released.
+ */
+public class RrdDbCache {
+
+	/** A reference to a {@link RrdDb}; release it via {@link #close()}. */
+	public static final class Handle implements AutoCloseable {
+
+		private final RrdDbCache cache;
+		private final Entry entry;
+		private boolean released = false;
+
+		private Handle(RrdDbCache cache, Entry entry) {
+			this.cache = cache;
+			this.entry = entry;
+		}
+
+		/**
+		 * Gets the {@link RrdDb}.
+		 *
+		 * @return the {@link RrdDb}
+		 */
+		public RrdDb get() {
+			return this.entry.db;
+		}
+
+		@Override
+		public void close() {
+			synchronized (this) {
+				if (this.released) {
+					return;
+				}
+				this.released = true;
+			}
+			this.cache.release(this.entry);
+		}
+	}
+
+	private static final class Entry {
+		private final String key;
+		private final RrdDb db;
+		private int references = 0;
+		private boolean invalid = false;
+
+		private Entry(String key, RrdDb db) {
+			this.key = key;
+			this.db = db;
+		}
+	}
+
+	private final Logger log = LoggerFactory.getLogger(RrdDbCache.class);
+
+	// access-order: least recently used first
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75F, true);
+
+	private int capacity;
+	private long hits = 0;
+	private long misses = 0;
+
+	public RrdDbCache(int capacity) {
+		this.capacity = Math.max(0, capacity);
+	}
+
+	/**
+	 * Gets a {@link Handle} for a cached {@link RrdDb}.
+	 *
+	 * @param key the key, i.e. RrdDb-ID and Channel-Address
+	 * @return the {@link Handle}; null if the {@link RrdDb} is not cached
+	 */
+	public synchronized Handle get(String key) {
+		final var entry = this.entries.get(key);
+		if (entry == null || entry.db.isClosed()) {
+			this.misses++;
+			return null;
+		}
+		this.hits++;
+		entry.references++;
+		return new Handle(this, entry);
+	}
+
+	/**
+	 * Adds a newly opened {@link RrdDb} to the cache.
+	 *
+	 * <p>
+	 * The caller is responsible to not open the same {@link RrdDb} twice, i.e. to
+	 * lock the key between {@link #get(String)} and this method.
+	 *
+	 * @param key the key, i.e. RrdDb-ID and Channel-Address
+	 * @param db  the {@link RrdDb}
+	 * @return the {@link Handle}
+	 */
+	public Handle put(String key, RrdDb db) {
+		final var entry = new Entry(key, db);
+		final List<RrdDb> toClose;
+		synchronized (this) {
+			entry.references++;
+			if (this.capacity == 0) {
+				// Caching disabled: close on release
+				entry.invalid = true;
+				return new Handle(this, entry);
+			}
+			toClose = new ArrayList<>();
+			final var previous = this.entries.put(key, entry);
+			if (previous != null) {
+				this.invalidate(previous, toClose);
+			}
+			this.evict(toClose);
+		}
+		this.close(toClose);
+		return new Handle(this, entry);
+	}
+
+	/**
+	 * Removes a {@link RrdDb} from the cache, e.g. before its file is deleted or
+	 * replaced. It is closed as soon as it is not in use anymore.
+	 *
+	 * @param key the key, i.e. RrdDb-ID and Channel-Address
+	 */
+	public void invalidate(String key) {
+		final var toClose = new ArrayList<RrdDb>();
+		synchronized (this) {
+			final var entry = this.entries.remove(key);
+			if (entry != null) {
+				this.invalidate(entry, toClose);
+			}
+		}
+		this.close(toClose);
+	}
+
+	/**
+	 * Removes the {@link RrdDb} of the given {@link Handle} from the cache. See
+	 * {@link #invalidate(String)}.
+	 *
+	 * @param handle the {@link Handle}
+	 */
+	public void invalidate(Handle handle) {
+		final var toClose = new ArrayList<RrdDb>();
+		synchronized (this) {
+			this.entries.remove(handle.entry.key, handle.entry);
+			this.invalidate(handle.entry, toClose);
+		}
+		this.close(toClose);
+	}
+
+	/**
+	 * Removes all {@link RrdDb}s from the cache and closes those that are not in
+	 * use.
+	 */
+	public void clear() {
+		final var toClose = new ArrayList<RrdDb>();
+		synchronized (this) {
+			for (var entry : this.entries.values()) {
+				this.invalidate(entry, toClose);
+			}
+			this.entries.clear();
+		}
+		this.close(toClose);
+	}
+
+	/**
+	 * Sets the maximum number of open {@link RrdDb}s. A capacity of '0' disables
+	 * caching.
+	 *
+	 * @param capacity the capacity
+	 */
+	public void setCapacity(int capacity) {
+		final var toClose = new ArrayList<RrdDb>();
+		synchronized (this) {
+			this.capacity = Math.max(0, capacity);
+			this.evict(toClose);
+		}
+		this.close(toClose);
+	}
+
+	/**
+	 * Gets the number of open {@link RrdDb}s in the cache.
+	 *
+	 * @return the number of entries
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Gets the number of {@link #get(String)} calls that found an open
+	 * {@link RrdDb}.
+	 *
+	 * @return the number of hits
+	 */
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * Gets the number of {@link #get(String)} calls that did not find an open
+	 * {@link RrdDb}.
+	 *
+	 * @return the number of misses
+	 */
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+	private void release(Entry entry) {
+		final var toClose = new ArrayList<RrdDb>();
+		synchronized (this) {
+			entry.references--;
+			if (entry.invalid) {
+				if (entry.references == 0) {
+					toClose.add(entry.db);
+				}
+			} else {
+				this.evict(toClose);
+			}
+		}
+		this.close(toClose);
+	}
+
+	private void invalidate(Entry entry, List<RrdDb> toClose) {
+		if (entry.invalid) {
+			return;
+		}
+		entry.invalid = true;
+		if (entry.references == 0) {
+			toClose.add(entry.db);
+		}
+	}
+
+	/**
+	 * Removes least recently used entries that are not in use until the capacity
+	 * is satisfied.
+	 *
+	 * @param toClose collects the {@link RrdDb}s that need to be closed
+	 */
+	private void evict(List<RrdDb> toClose) {
+		final var iterator = this.entries.values().iterator();
+		while (this.entries.size() > this.capacity && iterator.hasNext()) {
+			final var entry = iterator.next();
+			if (entry.references > 0) {
+				continue;
+			}
+			iterator.remove();
+			this.invalidate(entry, toClose);
+		}
+	}
+
+	private void close(List<RrdDb> dbs) {
+		for (var db : dbs) {
+			try {
+				db.close();
+			} catch (IOException e) {
+				this.log.warn("Unable to close RrdDb [" + db.getPath() + "]: " + e.getMessage());
+			}
+		}
+	}
+}
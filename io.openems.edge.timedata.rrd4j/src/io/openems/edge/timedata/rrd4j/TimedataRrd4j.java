@@ -1,7 +1,11 @@
 package io.openems.edge.timedata.rrd4j;
 
 import io.openems.common.channel.Level;
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
+import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -11,7 +15,16 @@ public interface TimedataRrd4j extends Timedata, OpenemsComponent {
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
 		QUEUE_IS_FULL(Doc.of(Level.WARNING)), //
-		UNABLE_TO_INSERT_SAMPLE(Doc.of(Level.WARNING));
+		UNABLE_TO_INSERT_SAMPLE(Doc.of(Level.WARNING)), //
+		FLUSH_DURATION(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS) //
+				.text("Duration of writing the queued records")), //
+		FLUSHED_RECORDS(Doc.of(OpenemsType.INTEGER) //
+				.text("Number of records written in the last flush")), //
+		WRITTEN_DATABASES(Doc.of(OpenemsType.INTEGER) //
+				.text("Number of RRD4J files written in the last flush")), //
+		QUEUE_DEPTH(Doc.of(OpenemsType.INTEGER) //
+				.text("Number of collected record lists waiting to be written")); //
 
 		private final Doc doc;
 
@@ -80,4 +93,117 @@ public interface TimedataRrd4j extends Timedata, OpenemsComponent {
 	public default void _setUnableToInsertSample(Boolean value) {
 		this.getUnableToInsertSampleChannel().setNextValue(value);
 	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#FLUSH_DURATION}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getFlushDurationChannel() {
+		return this.channel(ChannelId.FLUSH_DURATION);
+	}
+
+	/**
+	 * Gets the Flush Duration in [ms]. See {@link ChannelId#FLUSH_DURATION}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getFlushDuration() {
+		return this.getFlushDurationChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#FLUSH_DURATION}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setFlushDuration(Long value) {
+		this.getFlushDurationChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#FLUSHED_RECORDS}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getFlushedRecordsChannel() {
+		return this.channel(ChannelId.FLUSHED_RECORDS);
+	}
+
+	/**
+	 * Gets the number of Flushed Records. See {@link ChannelId#FLUSHED_RECORDS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getFlushedRecords() {
+		return this.getFlushedRecordsChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#FLUSHED_RECORDS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setFlushedRecords(Integer value) {
+		this.getFlushedRecordsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#WRITTEN_DATABASES}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getWrittenDatabasesChannel() {
+		return this.channel(ChannelId.WRITTEN_DATABASES);
+	}
+
+	/**
+	 * Gets the number of Written Databases. See
+	 * {@link ChannelId#WRITTEN_DATABASES}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getWrittenDatabases() {
+		return this.getWrittenDatabasesChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#WRITTEN_DATABASES} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setWrittenDatabases(Integer value) {
+		this.getWrittenDatabasesChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#QUEUE_DEPTH}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getQueueDepthChannel() {
+		return this.channel(ChannelId.QUEUE_DEPTH);
+	}
+
+	/**
+	 * Gets the Queue Depth. See {@link ChannelId#QUEUE_DEPTH}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getQueueDepth() {
+		return this.getQueueDepthChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#QUEUE_DEPTH}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setQueueDepth(Integer value) {
+		this.getQueueDepthChannel().setNextValue(value);
+	}
 }
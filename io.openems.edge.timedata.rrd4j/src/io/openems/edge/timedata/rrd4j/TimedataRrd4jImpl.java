@@ -48,6 +48,9 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 	@Reference
 	private Rrd4jReadHandler readHandler;
 
+	@Reference
+	private Rrd4jSupplier rrd4jSupplier;
+
 	private boolean debugMode = false;
 
 	public TimedataRrd4jImpl() {
@@ -62,6 +65,7 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 	private void activate(ComponentContext context, Config config) throws Exception {
 		super.activate(context, config.id(), config.alias(), config.enabled());
 		this.debugMode = config.debugMode();
+		this.rrd4jSupplier.configure(config.backend(), config.openDatabases());
 
 		this.worker = this.workerFactory.get();
 		this.worker.setConfig(new RecordWorker.Config(//
@@ -69,8 +73,15 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 				config.isReadOnly(), //
 				this.debugMode, //
 				config.persistencePriority(), //
+				config.writeThreads(), //
 				isFull -> this._setQueueIsFull(isFull), //
-				unableToInsert -> this._setUnableToInsertSample(unableToInsert) //
+				unableToInsert -> this._setUnableToInsertSample(unableToInsert), //
+				statistics -> {
+					this._setFlushDuration(statistics.duration());
+					this._setFlushedRecords(statistics.records());
+					this._setWrittenDatabases(statistics.writtenDatabases());
+					this._setQueueDepth(statistics.queueDepth());
+				} //
 		));
 		if (config.enabled()) {
 			this.worker.activate(this.id());
@@ -153,6 +164,7 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 		switch (event.getTopic()) {
 		case EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE:
 			this.worker.collectData();
+			this._setQueueDepth(this.worker.getQueueDepth());
 			break;
 		}
 	}
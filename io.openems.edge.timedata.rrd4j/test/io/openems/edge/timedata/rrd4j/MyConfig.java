@@ -11,6 +11,9 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private PersistencePriority persistencePriority;
 		private boolean readOnly;
 		private boolean debugMode;
+		private Rrd4jBackend backend;
+		private int openDatabases;
+		private int writeThreads;
 
 		private Builder() {
 		}
@@ -35,6 +38,21 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setBackend(Rrd4jBackend backend) {
+			this.backend = backend;
+			return this;
+		}
+
+		public Builder setOpenDatabases(int openDatabases) {
+			this.openDatabases = openDatabases;
+			return this;
+		}
+
+		public Builder setWriteThreads(int writeThreads) {
+			this.writeThreads = writeThreads;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -71,4 +89,19 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.debugMode;
 	}
 
+	@Override
+	public Rrd4jBackend backend() {
+		return this.builder.backend;
+	}
+
+	@Override
+	public int openDatabases() {
+		return this.builder.openDatabases;
+	}
+
+	@Override
+	public int writeThreads() {
+		return this.builder.writeThreads;
+	}
+
 }
\ No newline at end of file
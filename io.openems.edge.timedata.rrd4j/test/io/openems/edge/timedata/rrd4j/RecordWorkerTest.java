@@ -0,0 +1,161 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static io.openems.common.channel.PersistencePriority.MEDIUM;
+import static io.openems.common.utils.ReflectionUtils.getValueViaReflection;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.timedata.rrd4j.RecordWorker.DataRecord;
+import io.openems.edge.timedata.rrd4j.RecordWorker.FlushStatistics;
+
+public class RecordWorkerTest {
+
+	private static final ChannelAddress SOC = new ChannelAddress("_sum", "EssSoc");
+	private static final ChannelAddress ACTIVE_POWER = new ChannelAddress("meter0", "ActivePower");
+
+	/**
+	 * {@link RecordWorker} with a fake writer that keeps the written records in
+	 * memory instead of writing RRD4J files.
+	 */
+	private static class FakeWriterRecordWorker extends RecordWorker {
+
+		private final Map<ChannelAddress, List<DataRecord>> written = new ConcurrentHashMap<>();
+		private final Set<String> threads = ConcurrentHashMap.newKeySet();
+		private final CyclicBarrier barrier;
+		private final boolean fail;
+
+		private FakeWriterRecordWorker(CyclicBarrier barrier, boolean fail) {
+			this.barrier = barrier;
+			this.fail = fail;
+		}
+
+		@Override
+		protected boolean write(List<DataRecord> records) {
+			this.threads.add(Thread.currentThread().getName());
+			if (this.barrier != null) {
+				try {
+					// Only passes if all files are written at the same time
+					this.barrier.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+					return false;
+				}
+			}
+			var previous = this.written.putIfAbsent(records.get(0).address(), List.copyOf(records));
+			return previous == null && !this.fail;
+		}
+	}
+
+	private final AtomicReference<FlushStatistics> statistics = new AtomicReference<>();
+	private final AtomicBoolean queueFull = new AtomicBoolean();
+	private FakeWriterRecordWorker sut;
+
+	@After
+	public void after() {
+		this.sut.deactivate();
+	}
+
+	@Test
+	public void testGroupRecordsByDatabase() throws Exception {
+		this.sut = this.createWorker(1, null, false);
+		this.queue(//
+				new DataRecord(300, SOC, Unit.PERCENT, 50), //
+				new DataRecord(300, ACTIVE_POWER, Unit.WATT, 1000));
+		this.queue(//
+				new DataRecord(600, SOC, Unit.PERCENT, 51), //
+				new DataRecord(600, ACTIVE_POWER, Unit.WATT, 2000));
+
+		this.sut.forever();
+
+		// Both queued lists are written in one flush; every file once
+		assertEquals(Set.of(SOC, ACTIVE_POWER), this.sut.written.keySet());
+		assertEquals(List.of(50., 51.), values(this.sut.written.get(SOC)));
+		assertEquals(List.of(1000., 2000.), values(this.sut.written.get(ACTIVE_POWER)));
+		assertEquals(4, this.statistics.get().records());
+		assertEquals(2, this.statistics.get().writtenDatabases());
+		assertFalse(this.queueFull.get());
+	}
+
+	@Test
+	public void testParallelWrite() throws Exception {
+		this.sut = this.createWorker(2, new CyclicBarrier(2), false);
+		this.queue(//
+				new DataRecord(300, SOC, Unit.PERCENT, 50), //
+				new DataRecord(300, ACTIVE_POWER, Unit.WATT, 1000));
+
+		this.sut.forever();
+
+		assertEquals(2, this.statistics.get().writtenDatabases());
+		assertEquals(2, this.sut.threads.size());
+		assertTrue(this.sut.threads.stream().allMatch(name -> name.startsWith("Rrd4j:rrd4j0-")));
+		assertFalse(this.queueFull.get());
+	}
+
+	@Test
+	public void testWriteFailed() throws Exception {
+		this.sut = this.createWorker(2, null, true);
+		this.queue(new DataRecord(300, SOC, Unit.PERCENT, 50));
+
+		this.sut.forever();
+
+		assertEquals(1, this.statistics.get().records());
+		assertEquals(0, this.statistics.get().writtenDatabases());
+		assertTrue(this.queueFull.get());
+	}
+
+	@Test
+	public void testQueueDepth() throws Exception {
+		this.sut = this.createWorker(1, null, false);
+		assertEquals(0, this.sut.getQueueDepth());
+		this.queue(new DataRecord(300, SOC, Unit.PERCENT, 50));
+		this.queue(new DataRecord(600, SOC, Unit.PERCENT, 51));
+		assertEquals(2, this.sut.getQueueDepth());
+
+		this.sut.forever();
+
+		assertEquals(0, this.sut.getQueueDepth());
+		assertEquals(0, this.statistics.get().queueDepth());
+	}
+
+	private FakeWriterRecordWorker createWorker(int writeThreads, CyclicBarrier barrier, boolean fail) {
+		final var worker = new FakeWriterRecordWorker(barrier, fail);
+		worker.setConfig(new RecordWorker.Config("rrd4j0", false, false, MEDIUM, writeThreads, //
+				this.queueFull::set, //
+				unableToInsert -> {
+				}, //
+				this.statistics::set));
+		return worker;
+	}
+
+	private void queue(DataRecord... records) {
+		final BlockingQueue<List<DataRecord>> queue = getValueViaReflection(this.sut, "records");
+		queue.add(List.of(records));
+	}
+
+	private static List<Double> values(List<DataRecord> records) {
+		final var result = new ArrayList<Double>();
+		for (var record : records) {
+			result.add(record.value());
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,115 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static io.openems.common.utils.ReflectionUtils.setAttributeViaReflection;
+
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.rrd4j.ConsolFun;
+
+import com.google.common.base.Stopwatch;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.timedata.rrd4j.version.Version3;
+import io.openems.edge.timedata.rrd4j.version.VersionHandler;
+import io.openems.edge.timedata.rrd4j.version.VersionTest;
+
+/**
+ * Compares write throughput and query latency of the RRD4J backends with and
+ * without the cache of open databases.
+ *
+ * <p>
+ * Writes one day of samples for {@link #CHANNELS} Channels in the same order as
+ * the {@link RecordWorker} does, then queries {@link #QUERY_CHANNELS} Channels
+ * like a UI history chart. Every configuration works on a fresh temporary
+ * directory.
+ */
+public class Rrd4jBackendPerformanceTestApp {
+
+	private static final String OPENEMS_DATA_DIR = "openems.data.dir";
+	private static final String RRD_DB_ID = "rrd4j0";
+	private static final int CHANNELS = 3_000;
+	private static final int SAMPLES = 288; // one day of 5 minutes
+	private static final int QUERY_CHANNELS = 30;
+	private static final int QUERIES = 100;
+	private static final long START = Instant.parse("2025-01-01T00:00:00Z").getEpochSecond();
+
+	private static record Setup(String name, Rrd4jBackend backend, int openDatabases) {
+	}
+
+	private static final List<Setup> SETUPS = List.of(//
+			new Setup("FILE without cache", Rrd4jBackend.FILE, 0), //
+			new Setup("FILE with cache", Rrd4jBackend.FILE, Rrd4jSupplier.DEFAULT_OPEN_DATABASES), //
+			new Setup("NIO with cache", Rrd4jBackend.NIO, Rrd4jSupplier.DEFAULT_OPEN_DATABASES));
+
+	/**
+	 * Runs the performance test.
+	 *
+	 * @param args the args
+	 * @throws Exception on error
+	 */
+	public static void main(String[] args) throws Exception {
+		final var channels = new ArrayList<ChannelAddress>();
+		for (var i = 0; i < CHANNELS; i++) {
+			channels.add(new ChannelAddress("component" + i / 100, "Channel" + i % 100));
+		}
+
+		for (var setup : SETUPS) {
+			System.setProperty(OPENEMS_DATA_DIR,
+					Files.createTempDirectory("rrd4j-benchmark").toString());
+			run(setup, channels);
+		}
+	}
+
+	private static void run(Setup setup, List<ChannelAddress> channels) throws Exception {
+		final var supplier = createSupplier(setup);
+
+		// Write
+		var stopwatch = Stopwatch.createStarted();
+		for (var sample = 1; sample <= SAMPLES; sample++) {
+			final var timestamp = START + sample * Rrd4jConstants.DEFAULT_STEP_SECONDS;
+			for (var channel : channels) {
+				try (var handle = supplier.getRrdDb(RRD_DB_ID, channel, Unit.WATT, START)) {
+					handle.get().createSample(timestamp) //
+							.setValue(0, sample) //
+							.update();
+				}
+			}
+		}
+		final var writeMillis = Math.max(1, stopwatch.elapsed().toMillis());
+		final var writes = (long) SAMPLES * channels.size();
+
+		// Query
+		stopwatch = Stopwatch.createStarted();
+		for (var query = 0; query < QUERIES; query++) {
+			for (var channel : channels.subList(0, QUERY_CHANNELS)) {
+				try (var handle = supplier.getExistingUpdatedRrdDb(RRD_DB_ID, channel, Unit.WATT)) {
+					handle.get().createFetchRequest(ConsolFun.AVERAGE, START, START + SAMPLES * 300L, 900) //
+							.fetchData();
+				}
+			}
+		}
+		final var queryMillis = stopwatch.elapsed().toMillis();
+
+		supplier.getCache().clear();
+		System.out.println(setup.name() + ": " //
+				+ "Writes/s [" + writes * 1000 / writeMillis + "] " //
+				+ "Query latency [" + (double) queryMillis / QUERIES + " ms per " + QUERY_CHANNELS + " Channels] " //
+				+ "Cache hits [" + supplier.getCache().getHits() + "] misses [" + supplier.getCache().getMisses()
+				+ "]");
+	}
+
+	private static Rrd4jSupplier createSupplier(Setup setup) {
+		final var versionHandler = new VersionHandler();
+		versionHandler.bindVersion(new Version3(VersionTest.createDummyVersionComponentContext(3)));
+
+		final var supplier = new Rrd4jSupplier();
+		setAttributeViaReflection(supplier, "versionHandler", versionHandler);
+		supplier.configure(setup.backend(), setup.openDatabases());
+		return supplier;
+	}
+
+}
@@ -0,0 +1,160 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static io.openems.common.utils.ReflectionUtils.setAttributeViaReflection;
+
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+
+import com.google.common.base.Stopwatch;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.timedata.rrd4j.version.Version3;
+import io.openems.edge.timedata.rrd4j.version.VersionHandler;
+import io.openems.edge.timedata.rrd4j.version.VersionTest;
+
+/**
+ * Compares a history query with one sequential fetch per Channel, merged into
+ * nested TreeMaps, with the {@link Rrd4jQueryEngine}.
+ *
+ * <p>
+ * Creates a synthetic set of {@link #CHANNELS} RRD4J files with one day of
+ * data; the {@link #QUERY_CHANNELS} queried Channels hold one month. Queries
+ * one month like a UI history chart.
+ */
+public class Rrd4jQueryEnginePerformanceTestApp {
+
+	private static final String OPENEMS_DATA_DIR = "openems.data.dir";
+	private static final String RRD_DB_ID = "rrd4j0";
+	private static final int CHANNELS = 3_000;
+	private static final int QUERY_CHANNELS = 40;
+	private static final int SAMPLES_PER_DAY = 288; // 5 minutes
+	private static final int DAYS = 31;
+	private static final int QUERIES = 50;
+	private static final ZonedDateTime START = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+	private static final Resolution RESOLUTION = new Resolution(15, ChronoUnit.MINUTES);
+
+	/**
+	 * Runs the performance test.
+	 *
+	 * @param args the args
+	 * @throws Exception on error
+	 */
+	public static void main(String[] args) throws Exception {
+		System.setProperty(OPENEMS_DATA_DIR, Files.createTempDirectory("rrd4j-query-benchmark").toString());
+		final var supplier = createSupplier();
+
+		final var channels = new ArrayList<ChannelAddress>();
+		for (var i = 0; i < CHANNELS; i++) {
+			channels.add(new ChannelAddress("component" + i / 100, "Channel" + i % 100));
+		}
+		final var queryChannels = channels.subList(0, QUERY_CHANNELS);
+
+		// Create database set
+		var stopwatch = Stopwatch.createStarted();
+		final var start = START.toEpochSecond();
+		for (var i = 0; i < channels.size(); i++) {
+			final var samples = i < QUERY_CHANNELS ? SAMPLES_PER_DAY * DAYS : SAMPLES_PER_DAY;
+			try (var handle = supplier.getRrdDb(RRD_DB_ID, channels.get(i), Unit.WATT, start)) {
+				final var database = handle.get();
+				for (var sample = 1; sample <= samples; sample++) {
+					database.createSample(start + sample * Rrd4jConstants.DEFAULT_STEP_SECONDS) //
+							.setValue(0, sample % 1000) //
+							.update();
+				}
+			}
+		}
+		System.out.println("Created [" + CHANNELS + "] databases in [" + stopwatch.elapsed().toMillis() + " ms]");
+
+		final var from = START;
+		final var to = START.plus(DAYS, ChronoUnit.DAYS);
+		final var units = new LinkedHashMap<ChannelAddress, Unit>();
+		queryChannels.forEach(c -> units.put(c, Unit.WATT));
+
+		final var executor = Executors.newFixedThreadPool(4);
+		final var engine = new Rrd4jQueryEngine(supplier, executor);
+
+		for (var round = 0; round < 3; round++) {
+			// Sequential
+			stopwatch = Stopwatch.createStarted();
+			SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> sequential = null;
+			for (var query = 0; query < QUERIES; query++) {
+				sequential = querySequential(supplier, from, to, queryChannels);
+			}
+			final var sequentialMillis = stopwatch.elapsed().toMillis();
+
+			// Query engine
+			stopwatch = Stopwatch.createStarted();
+			SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> columnar = null;
+			for (var query = 0; query < QUERIES; query++) {
+				columnar = engine.queryHistoricData(RRD_DB_ID, from, to, units, RESOLUTION, false).toTable();
+			}
+			final var columnarMillis = stopwatch.elapsed().toMillis();
+
+			// Without conversion to the JSON table
+			stopwatch = Stopwatch.createStarted();
+			for (var query = 0; query < QUERIES; query++) {
+				engine.queryHistoricData(RRD_DB_ID, from, to, units, RESOLUTION, false);
+			}
+			final var columnsMillis = stopwatch.elapsed().toMillis();
+
+			System.out.println("Round " + round + ": " //
+					+ "Sequential [" + (double) sequentialMillis / QUERIES + " ms] " //
+					+ "Query engine [" + (double) columnarMillis / QUERIES + " ms] " //
+					+ "Columns only [" + (double) columnsMillis / QUERIES + " ms] " //
+					+ "Equal [" + sequential.equals(columnar) + "]");
+		}
+
+		executor.shutdown();
+		supplier.getCache().clear();
+	}
+
+	private static SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> querySequential(
+			Rrd4jSupplier supplier, ZonedDateTime from, ZonedDateTime to, List<ChannelAddress> channels)
+			throws Exception {
+		final var table = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		final var fromTimestamp = from.toEpochSecond();
+		final var resolution = RESOLUTION.toSeconds();
+		for (var channel : channels) {
+			final double[] result;
+			try (var handle = supplier.getExistingUpdatedRrdDb(RRD_DB_ID, channel, Unit.WATT)) {
+				final var consolFun = Rrd4jSupplier.getDsDefForChannel(Unit.WATT).consolFun();
+				final var fetchData = handle.get() //
+						.createFetchRequest(consolFun, fromTimestamp, to.toEpochSecond(), resolution) //
+						.fetchData();
+				result = Rrd4jSupplier.postProcessData(fetchData, resolution);
+			}
+			for (var i = 0; i < result.length; i++) {
+				final var timestamp = Instant.ofEpochSecond(fromTimestamp + i * resolution).atZone(from.getZone());
+				final var value = result[i];
+				table.computeIfAbsent(timestamp, t -> new TreeMap<>()) //
+						.put(channel, Double.isNaN(value) ? JsonNull.INSTANCE : new JsonPrimitive(value));
+			}
+		}
+		return table;
+	}
+
+	private static Rrd4jSupplier createSupplier() {
+		final var versionHandler = new VersionHandler();
+		versionHandler.bindVersion(new Version3(VersionTest.createDummyVersionComponentContext(3)));
+
+		final var supplier = new Rrd4jSupplier();
+		setAttributeViaReflection(supplier, "versionHandler", versionHandler);
+		supplier.configure(Rrd4jBackend.FILE, Rrd4jSupplier.DEFAULT_OPEN_DATABASES);
+		return supplier;
+	}
+
+}
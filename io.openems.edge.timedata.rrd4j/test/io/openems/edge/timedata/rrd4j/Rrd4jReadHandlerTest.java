@@ -21,6 +21,7 @@ import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.RrdMemoryBackendFactory;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
 
 import io.openems.common.channel.Unit;
@@ -163,6 +164,41 @@ public class Rrd4jReadHandlerTest {
 		), this.query(new Resolution(15, ChronoUnit.MINUTES)));
 	}
 
+	@Test
+	public void testQueryHistoricDataWithMissingChannel() throws Exception {
+		final var channel = this.dummyComponent.channel(DummyComponent.ChannelId.DUMMY_CHANNEL).address();
+		final var result = this.readHandler.queryHistoricData(this.rrdbId, //
+				START.atZone(ZoneId.of("UTC")), //
+				START.plus(30, ChronoUnit.MINUTES).atZone(ZoneId.of("UTC")), //
+				Set.of(channel, new ChannelAddress("comp0", "Missing")), //
+				new Resolution(5, ChronoUnit.MINUTES), false);
+
+		// Missing Channel has no values
+		assertEquals(this.query(new Resolution(5, ChronoUnit.MINUTES)), result);
+	}
+
+	@Test
+	public void testQueryHistoricEnergyPerPeriod() throws Exception {
+		final var channel = this.dummyComponent.channel(DummyComponent.ChannelId.DUMMY_CHANNEL).address();
+		final var missing = new ChannelAddress("comp0", "Missing");
+		final var from = START.plus(1, ChronoUnit.HOURS).atZone(ZoneId.of("UTC"));
+		final var to = START.plus(4, ChronoUnit.HOURS).atZone(ZoneId.of("UTC"));
+		final var resolution = new Resolution(1, ChronoUnit.HOURS);
+
+		final var result = this.readHandler.queryHistoricEnergyPerPeriod(this.rrdbId, from, to,
+				Set.of(channel, missing), resolution, false);
+
+		// Same as one query per period
+		final var ranges = Rrd4jReadHandler.streamRanges(from, to, resolution).toList();
+		assertEquals(3, result.size());
+		for (var range : ranges) {
+			final var row = result.get(range.from());
+			assertEquals(this.readHandler.queryHistoricEnergy(this.rrdbId, range.from(), range.to(), Set.of(channel),
+					false).get(channel), row.get(channel));
+			assertEquals(JsonNull.INSTANCE, row.get(missing));
+		}
+	}
+
 	@Test
 	public void testStreamRanges() throws Exception {
 		final var utc = ZoneId.of("UTC");
@@ -0,0 +1,103 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.DsType;
+import org.rrd4j.core.DsDef;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdDef;
+import org.rrd4j.core.RrdMemoryBackendFactory;
+
+public class RrdDbCacheTest {
+
+	private RrdMemoryBackendFactory factory;
+
+	@Before
+	public void setUp() {
+		this.factory = new RrdMemoryBackendFactory();
+	}
+
+	private RrdDb createRrdDb(String path) throws IOException {
+		final var rrdDef = new RrdDef(path, 1577836800L, Rrd4jConstants.DEFAULT_STEP_SECONDS);
+		rrdDef.addDatasource(new DsDef(Rrd4jConstants.DEFAULT_DATASOURCE_NAME, DsType.GAUGE,
+				Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS, Double.NaN, Double.NaN));
+		rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 1, 12);
+		return RrdDb.getBuilder() //
+				.setBackendFactory(this.factory) //
+				.setRrdDef(rrdDef) //
+				.build();
+	}
+
+	@Test
+	public void testLeastRecentlyUsed() throws IOException {
+		final var sut = new RrdDbCache(2);
+		final var db0 = this.createRrdDb("db0");
+		final var db1 = this.createRrdDb("db1");
+		final var db2 = this.createRrdDb("db2");
+
+		assertNull(sut.get("db0"));
+		sut.put("db0", db0).close();
+		sut.put("db1", db1).close();
+
+		// Use db0 -> db1 is least recently used
+		try (var handle = sut.get("db0")) {
+			assertSame(db0, handle.get());
+		}
+		sut.put("db2", db2).close();
+
+		assertEquals(2, sut.size());
+		assertTrue(db1.isClosed());
+		assertFalse(db0.isClosed());
+		assertNull(sut.get("db1"));
+		assertEquals(1, sut.getHits());
+		assertEquals(2, sut.getMisses());
+
+		sut.clear();
+		assertTrue(db0.isClosed());
+		assertTrue(db2.isClosed());
+	}
+
+	@Test
+	public void testReferenceCounting() throws IOException {
+		final var sut = new RrdDbCache(1);
+		final var db0 = this.createRrdDb("db0");
+		final var db1 = this.createRrdDb("db1");
+
+		final var handle0 = sut.put("db0", db0);
+		final var handle0b = sut.get("db0");
+
+		// db0 is in use -> not evicted
+		sut.put("db1", db1).close();
+		assertFalse(db0.isClosed());
+		assertTrue(db1.isClosed());
+
+		// Invalidated while in use -> closed on last release
+		sut.invalidate("db0");
+		handle0.close();
+		handle0.close(); // releasing twice has no effect
+		assertFalse(db0.isClosed());
+		handle0b.close();
+		assertTrue(db0.isClosed());
+		assertEquals(0, sut.size());
+	}
+
+	@Test
+	public void testDisabled() throws IOException {
+		final var sut = new RrdDbCache(0);
+		final var db0 = this.createRrdDb("db0");
+
+		sut.put("db0", db0).close();
+		assertTrue(db0.isClosed());
+		assertEquals(0, sut.size());
+	}
+
+}
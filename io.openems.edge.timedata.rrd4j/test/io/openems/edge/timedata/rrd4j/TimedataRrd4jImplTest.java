@@ -28,9 +28,13 @@ public class TimedataRrd4jImplTest {
 		new ComponentTest(new TimedataRrd4jImpl()) //
 				.addReference("workerFactory", new DummyRecordWorkerFactory(componentManager)) //
 				.addReference("readHandler", new Rrd4jReadHandler()) //
+				.addReference("rrd4jSupplier", new Rrd4jSupplier()) //
 				.activate(MyConfig.create() //
 						.setId("rrd4j0") //
 						.setPersistencePriority(MEDIUM) //
+						.setBackend(Rrd4jBackend.FILE) //
+						.setOpenDatabases(Rrd4jSupplier.DEFAULT_OPEN_DATABASES) //
+						.setWriteThreads(RecordWorker.DEFAULT_WRITE_THREADS) //
 						.build()) //
 				.next(new TestCase()) //
 		;
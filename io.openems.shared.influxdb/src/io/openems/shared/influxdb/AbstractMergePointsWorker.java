@@ -73,12 +73,15 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 	private List<T> pollPoints() throws InterruptedException {
 		final Instant maxWait = Instant.now().plusSeconds(MAX_AGGREGATE_WAIT);
 		var points = new ArrayList<T>(MAX_POINTS_PER_WRITE);
-		for (int i = 0; i < MAX_POINTS_PER_WRITE; i++) {
-			var point = this.pointsQueue.poll(MAX_AGGREGATE_WAIT, TimeUnit.SECONDS);
-			if (point == null) {
-				break;
+		while (points.size() < MAX_POINTS_PER_WRITE) {
+			// Take all available points at once; wait only if the queue is empty
+			if (this.pointsQueue.drainTo(points, MAX_POINTS_PER_WRITE - points.size()) == 0) {
+				var point = this.pointsQueue.poll(MAX_AGGREGATE_WAIT, TimeUnit.SECONDS);
+				if (point == null) {
+					break;
+				}
+				points.add(point);
 			}
-			points.add(point);
 			if (Instant.now().isAfter(maxWait)) {
 				break;
 			}
@@ -28,6 +28,7 @@ import com.influxdb.client.InfluxDBClientFactory;
 import com.influxdb.client.InfluxDBClientOptions;
 import com.influxdb.client.WriteApiBlocking;
 import com.influxdb.client.domain.WriteConsistency;
+import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
 import com.influxdb.client.write.WriteParameters;
 import com.influxdb.exceptions.BadRequestException;
@@ -62,6 +63,7 @@ public class InfluxConnector {
 
 	private final WriteParameters defaultWriteParameters;
 	private final Map<WriteParameters, MergePointsWorker> mergePointsWorkerByWriteParameters = new HashMap<>();
+	private final LineProtocolMergeWorker lineProtocolWorker;
 	private final AtomicInteger rejectedExecutionCount = new AtomicInteger();
 
 	/**
@@ -87,7 +89,8 @@ public class InfluxConnector {
 	 */
 	public InfluxConnector(String componentId, QueryLanguageConfig queryLanguage, URI url, String org, String apiKey,
 			String bucket, String tag, boolean isReadOnly, int poolSize, int maxQueueSize,
-			Consumer<BadRequestException> onWriteError, boolean safeWrite, WriteParameters... parameters) {
+			Consumer<BadRequestException> onWriteError, boolean safeWrite,
+			LineProtocolMergeWorker.Settings lineProtocolSettings, WriteParameters... parameters) {
 		this.queryProxy = QueryProxy.from(queryLanguage, tag);
 		this.url = url;
 		this.org = org;
@@ -132,6 +135,23 @@ public class InfluxConnector {
 			mergePointsWorker.activate();
 			this.mergePointsWorkerByWriteParameters.put(writeParameters, mergePointsWorker);
 		}
+
+		// initialize line protocol worker; timestamps are in milliseconds
+		if (lineProtocolSettings != null) {
+			this.lineProtocolWorker = new LineProtocolMergeWorker(this, "LineProtocol", //
+					new WriteParameters(this.bucket, this.org, WritePrecision.MS, WriteConsistency.ALL), //
+					onWriteError, safeWrite, lineProtocolSettings);
+			this.lineProtocolWorker.activate();
+		} else {
+			this.lineProtocolWorker = null;
+		}
+	}
+
+	public InfluxConnector(String componentId, QueryLanguageConfig queryLanguage, URI url, String org, String apiKey,
+			String bucket, String tag, boolean isReadOnly, int poolSize, int maxQueueSize,
+			Consumer<BadRequestException> onWriteError, boolean safeWrite, WriteParameters... parameters) {
+		this(componentId, queryLanguage, url, org, apiKey, bucket, tag, isReadOnly, poolSize, maxQueueSize,
+				onWriteError, safeWrite, null, parameters);
 	}
 
 	public InfluxConnector(String componentId, QueryLanguageConfig queryLanguage, URI url, String org, String apiKey,
@@ -162,7 +182,11 @@ public class InfluxConnector {
 				.append(", MergePointsWorker[") //
 				.append(this.mergePointsWorkerByWriteParameters.values().stream().map(MergePointsWorker::debugLog)
 						.collect(Collectors.joining(", ")))
-				.append("], Limit:") //
+				.append("]") //
+				.append(this.lineProtocolWorker != null //
+						? ", LineProtocolWorker[" + this.lineProtocolWorker.debugLog() + "]" //
+						: "") //
+				.append(", Limit:") //
 				.append(this.queryProxy.queryLimit) //
 				.append(", RejectedExecutions:") //
 				.append(this.rejectedExecutionCount.get()) //
@@ -218,6 +242,9 @@ public class InfluxConnector {
 		}
 		this.mergePointsWorkerByWriteParameters.values() //
 				.forEach(MergePointsWorker::deactivate);
+		if (this.lineProtocolWorker != null) {
+			this.lineProtocolWorker.deactivate();
+		}
 	}
 
 	/**
@@ -441,6 +468,30 @@ public class InfluxConnector {
 		mergePointsWorker.offer(point);
 	}
 
+	/**
+	 * Actually write the lines to InfluxDB.
+	 *
+	 * <p>
+	 * Requires {@link LineProtocolMergeWorker.Settings} to be passed in the
+	 * constructor. Timestamps are expected in milliseconds. The
+	 * {@link LineProtocolBuffer} is copied and can be reused afterwards.
+	 *
+	 * @param lines the {@link LineProtocolBuffer}
+	 */
+	public void write(LineProtocolBuffer lines) {
+		if (lines.lines() == 0) {
+			return;
+		}
+		if (this.isReadOnly) {
+			return;
+		}
+		if (this.lineProtocolWorker == null) {
+			this.log.info("Line protocol write is not enabled");
+			return;
+		}
+		this.lineProtocolWorker.offer(lines);
+	}
+
 	public boolean isSafeWrite() {
 		return this.safeWrite;
 	}
@@ -0,0 +1,366 @@
+package io.openems.shared.influxdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Arrays;
+
+/**
+ * Encodes records in InfluxDB line protocol directly into a reusable byte
+ * buffer.
+ *
+ * <p>
+ * Replaces building one {@link com.influxdb.client.write.Point} per record:
+ * no maps, boxed values or intermediate Strings are created. A record is
+ * written via {@link #startLine(String)}, any number of
+ * {@link #addTag(String, String)}, any number of addField(...) and finally
+ * {@link #endLine(long)}. Timestamps are in milliseconds, i.e. the buffer has
+ * to be written with {@link com.influxdb.client.domain.WritePrecision#MS}.
+ *
+ * <p>
+ * This class is not thread-safe.
+ */
+public class LineProtocolBuffer {
+
+	private static final byte[] TRUE = { 't', 'r', 'u', 'e' };
+	private static final byte[] FALSE = { 'f', 'a', 'l', 's', 'e' };
+
+	private byte[] bytes;
+	private int size = 0;
+	private int lines = 0;
+
+	// State of the current line
+	private int lineStart = -1;
+	private int fieldsInLine = 0;
+
+	public LineProtocolBuffer(int initialCapacity) {
+		this.bytes = new byte[Math.max(16, initialCapacity)];
+	}
+
+	/**
+	 * Starts a new line. A line that has been started but not ended is discarded.
+	 *
+	 * @param measurement the measurement
+	 * @return myself
+	 */
+	public LineProtocolBuffer startLine(String measurement) {
+		this.discardLine();
+		this.lineStart = this.size;
+		this.fieldsInLine = 0;
+		this.writeEscaped(measurement, false);
+		return this;
+	}
+
+	/**
+	 * Adds a tag to the current line. Tags have to be added before any field.
+	 *
+	 * @param key   the tag key
+	 * @param value the tag value
+	 * @return myself
+	 */
+	public LineProtocolBuffer addTag(String key, String value) {
+		this.assertInLine();
+		if (this.fieldsInLine > 0) {
+			throw new IllegalStateException("Tags have to be added before fields");
+		}
+		this.write((byte) ',');
+		this.writeEscaped(key, true);
+		this.write((byte) '=');
+		this.writeEscaped(value, true);
+		return this;
+	}
+
+	/**
+	 * Adds an integer field to the current line.
+	 *
+	 * @param key   the field key
+	 * @param value the value
+	 * @return myself
+	 */
+	public LineProtocolBuffer addField(String key, long value) {
+		this.startField(key);
+		this.writeLong(value);
+		this.write((byte) 'i');
+		return this;
+	}
+
+	/**
+	 * Adds a float field to the current line. NaN and infinite values are not
+	 * supported by InfluxDB and are ignored.
+	 *
+	 * @param key   the field key
+	 * @param value the value
+	 * @return myself
+	 */
+	public LineProtocolBuffer addField(String key, double value) {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			return this;
+		}
+		this.startField(key);
+		if (value == (long) value && Math.abs(value) < 1E15) {
+			// Avoid String allocation for integral values
+			this.writeLong((long) value);
+			this.write((byte) '.');
+			this.write((byte) '0');
+		} else {
+			this.writeAscii(Double.toString(value));
+		}
+		return this;
+	}
+
+	/**
+	 * Adds a boolean field to the current line.
+	 *
+	 * @param key   the field key
+	 * @param value the value
+	 * @return myself
+	 */
+	public LineProtocolBuffer addField(String key, boolean value) {
+		this.startField(key);
+		this.write(value ? TRUE : FALSE, value ? TRUE.length : FALSE.length);
+		return this;
+	}
+
+	/**
+	 * Adds a string field to the current line.
+	 *
+	 * @param key   the field key
+	 * @param value the value; null is ignored
+	 * @return myself
+	 */
+	public LineProtocolBuffer addField(String key, String value) {
+		if (value == null) {
+			return this;
+		}
+		this.startField(key);
+		this.write((byte) '"');
+		for (var i = 0; i < value.length(); i++) {
+			var c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				this.write((byte) '\\');
+			}
+			i = this.writeChar(value, i);
+		}
+		this.write((byte) '"');
+		return this;
+	}
+
+	/**
+	 * Ends the current line.
+	 *
+	 * <p>
+	 * Lines without fields are invalid in line protocol; they are discarded.
+	 *
+	 * @param timestamp the timestamp in milliseconds
+	 * @return true if the line was added; false if it had no fields
+	 */
+	public boolean endLine(long timestamp) {
+		this.assertInLine();
+		if (this.fieldsInLine == 0) {
+			this.discardLine();
+			return false;
+		}
+		this.write((byte) ' ');
+		this.writeLong(timestamp);
+		this.write((byte) '\n');
+		this.lineStart = -1;
+		this.lines++;
+		return true;
+	}
+
+	/**
+	 * Appends all complete lines of another {@link LineProtocolBuffer}.
+	 *
+	 * @param other the other {@link LineProtocolBuffer}
+	 */
+	public void append(LineProtocolBuffer other) {
+		final var length = other.lineStart >= 0 ? other.lineStart : other.size;
+		this.discardLine();
+		this.ensureCapacity(length);
+		System.arraycopy(other.bytes, 0, this.bytes, this.size, length);
+		this.size += length;
+		this.lines += other.lines;
+	}
+
+	/**
+	 * Clears the buffer, keeping the allocated memory.
+	 */
+	public void reset() {
+		this.size = 0;
+		this.lines = 0;
+		this.lineStart = -1;
+		this.fieldsInLine = 0;
+	}
+
+	/**
+	 * Gets the size of the encoded lines.
+	 *
+	 * @return the size in bytes
+	 */
+	public int size() {
+		return this.lineStart >= 0 ? this.lineStart : this.size;
+	}
+
+	/**
+	 * Gets the number of complete lines.
+	 *
+	 * @return the number of lines
+	 */
+	public int lines() {
+		return this.lines;
+	}
+
+	/**
+	 * Gets the number of bytes allocated by this buffer.
+	 *
+	 * @return the capacity in bytes
+	 */
+	public int capacity() {
+		return this.bytes.length;
+	}
+
+	/**
+	 * Gets the complete lines as one newline separated String.
+	 *
+	 * @return the line protocol
+	 */
+	@Override
+	public String toString() {
+		return new String(this.bytes, 0, this.size(), UTF_8);
+	}
+
+	private void discardLine() {
+		if (this.lineStart >= 0) {
+			this.size = this.lineStart;
+			this.lineStart = -1;
+		}
+	}
+
+	private void assertInLine() {
+		if (this.lineStart < 0) {
+			throw new IllegalStateException("No line was started");
+		}
+	}
+
+	private void startField(String key) {
+		this.assertInLine();
+		this.write(this.fieldsInLine == 0 ? (byte) ' ' : (byte) ',');
+		this.writeEscaped(key, true);
+		this.write((byte) '=');
+		this.fieldsInLine++;
+	}
+
+	/**
+	 * Writes a measurement, key or tag value with line protocol escaping.
+	 *
+	 * @param s           the String
+	 * @param escapeEqual true to also escape '=' (for keys and tag values)
+	 */
+	private void writeEscaped(String s, boolean escapeEqual) {
+		for (var i = 0; i < s.length(); i++) {
+			var c = s.charAt(i);
+			switch (c) {
+			case ',', ' ' -> this.write((byte) '\\');
+			case '=' -> {
+				if (escapeEqual) {
+					this.write((byte) '\\');
+				}
+			}
+			case '\n' -> {
+				this.write((byte) '\\');
+				this.write((byte) 'n');
+				continue;
+			}
+			default -> {
+			}
+			}
+			i = this.writeChar(s, i);
+		}
+	}
+
+	/**
+	 * Writes the char at the given index as UTF-8.
+	 *
+	 * @param s the String
+	 * @param i the index
+	 * @return the index of the last consumed char
+	 */
+	private int writeChar(String s, int i) {
+		var c = s.charAt(i);
+		if (c < 0x80) {
+			this.write((byte) c);
+			return i;
+		}
+		if (c < 0x800) {
+			this.ensureCapacity(2);
+			this.bytes[this.size++] = (byte) (0xC0 | c >> 6);
+			this.bytes[this.size++] = (byte) (0x80 | c & 0x3F);
+			return i;
+		}
+		if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+			var cp = Character.toCodePoint(c, s.charAt(i + 1));
+			this.ensureCapacity(4);
+			this.bytes[this.size++] = (byte) (0xF0 | cp >> 18);
+			this.bytes[this.size++] = (byte) (0x80 | cp >> 12 & 0x3F);
+			this.bytes[this.size++] = (byte) (0x80 | cp >> 6 & 0x3F);
+			this.bytes[this.size++] = (byte) (0x80 | cp & 0x3F);
+			return i + 1;
+		}
+		if (Character.isSurrogate(c)) {
+			// Unpaired surrogate
+			this.write((byte) '?');
+			return i;
+		}
+		this.ensureCapacity(3);
+		this.bytes[this.size++] = (byte) (0xE0 | c >> 12);
+		this.bytes[this.size++] = (byte) (0x80 | c >> 6 & 0x3F);
+		this.bytes[this.size++] = (byte) (0x80 | c & 0x3F);
+		return i;
+	}
+
+	private void writeAscii(String s) {
+		this.ensureCapacity(s.length());
+		for (var i = 0; i < s.length(); i++) {
+			this.bytes[this.size++] = (byte) s.charAt(i);
+		}
+	}
+
+	private void writeLong(long value) {
+		if (value == Long.MIN_VALUE) {
+			this.writeAscii(Long.toString(value));
+			return;
+		}
+		if (value < 0) {
+			this.write((byte) '-');
+		}
+		var remaining = Math.abs(value);
+		var digits = 1;
+		for (var v = remaining; v >= 10; v /= 10) {
+			digits++;
+		}
+		this.ensureCapacity(digits);
+		for (var i = this.size + digits - 1; i >= this.size; i--) {
+			this.bytes[i] = (byte) ('0' + remaining % 10);
+			remaining /= 10;
+		}
+		this.size += digits;
+	}
+
+	private void write(byte b) {
+		this.ensureCapacity(1);
+		this.bytes[this.size++] = b;
+	}
+
+	private void write(byte[] b, int length) {
+		this.ensureCapacity(length);
+		System.arraycopy(b, 0, this.bytes, this.size, length);
+		this.size += length;
+	}
+
+	private void ensureCapacity(int additional) {
+		final var required = this.size + additional;
+		if (required > this.bytes.length) {
+			this.bytes = Arrays.copyOf(this.bytes, Math.max(required, this.bytes.length * 2));
+		}
+	}
+
+}
@@ -0,0 +1,292 @@
+package io.openems.shared.influxdb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.influxdb.client.write.WriteParameters;
+import com.influxdb.exceptions.BadRequestException;
+
+import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.common.worker.AbstractImmediateWorker;
+
+/**
+ * Merges line protocol records to batches and writes them to InfluxDB.
+ *
+ * <p>
+ * Producers encode records into their own {@link LineProtocolBuffer} and hand
+ * them over via {@link #offer(LineProtocolBuffer)}, which appends them to the
+ * current batch. Batches are sealed when they reach the configured size in
+ * bytes (or after {@link #MAX_AGGREGATE_WAIT} seconds), drained in bulk by the
+ * worker and written by up to 'maxInFlight' threads at the same time. Batch
+ * buffers are reused.
+ *
+ * <p>
+ * If all batch slots are full, records are rejected ('backpressure').
+ */
+public class LineProtocolMergeWorker extends AbstractImmediateWorker {
+
+	public static final int DEFAULT_MAX_BATCH_BYTES = 512 * 1024;
+	public static final int DEFAULT_MAX_IN_FLIGHT = 4;
+
+	private static final int MAX_AGGREGATE_WAIT = 10; // [s]
+	private static final int MAX_QUEUED_BATCHES = 64;
+	private static final int MAX_WRITE_ATTEMPTS = 3;
+
+	private static final class Batch {
+		private final LineProtocolBuffer buffer;
+		private int failedCountDown = MAX_WRITE_ATTEMPTS;
+
+		private Batch(int capacity) {
+			this.buffer = new LineProtocolBuffer(capacity);
+		}
+	}
+
+	/**
+	 * Settings for a {@link LineProtocolMergeWorker}.
+	 *
+	 * @param maxBatchBytes the maximum size of a batch in bytes
+	 * @param maxInFlight   the maximum number of batches that are written at the
+	 *                      same time
+	 */
+	public static record Settings(int maxBatchBytes, int maxInFlight) {
+
+		/**
+		 * Creates {@link Settings} with default values.
+		 *
+		 * @return the {@link Settings}
+		 */
+		public static Settings defaults() {
+			return new Settings(DEFAULT_MAX_BATCH_BYTES, DEFAULT_MAX_IN_FLIGHT);
+		}
+	}
+
+	private final Logger log = LoggerFactory.getLogger(LineProtocolMergeWorker.class);
+
+	private final String name;
+	private final InfluxConnector parent;
+	private final WriteParameters writeParameters;
+	private final Consumer<BadRequestException> onWriteError;
+	private final boolean safeWrite;
+	private final int maxBatchBytes;
+	private final int maxInFlight;
+	private final long maxAggregateWait; // [ms]
+
+	private final BlockingQueue<Batch> sealedBatches = new ArrayBlockingQueue<>(MAX_QUEUED_BATCHES);
+	private final Queue<Batch> freeBatches = new ConcurrentLinkedQueue<>();
+	private final List<Batch> drainedBatches = new ArrayList<>(MAX_QUEUED_BATCHES);
+	private final Semaphore inFlight;
+	private final ExecutorService writeExecutor;
+
+	private final Object currentBatchLock = new Object();
+	private Batch currentBatch;
+
+	private final LongAdder writtenLines = new LongAdder();
+	private final LongAdder writtenBytes = new LongAdder();
+	private final LongAdder writtenBatches = new LongAdder();
+	private final LongAdder failedBatches = new LongAdder();
+	private final LongAdder rejectedLines = new LongAdder();
+
+	// Snapshot for throughput in debugLog()
+	private long lastDebugLogNanos = System.nanoTime();
+	private long lastWrittenLines = 0;
+	private long lastWrittenBytes = 0;
+
+	public LineProtocolMergeWorker(InfluxConnector parent, String name, WriteParameters writeParameters,
+			Consumer<BadRequestException> onWriteError, boolean safeWrite, Settings settings) {
+		this(parent, name, writeParameters, onWriteError, safeWrite, settings,
+				TimeUnit.SECONDS.toMillis(MAX_AGGREGATE_WAIT));
+	}
+
+	LineProtocolMergeWorker(InfluxConnector parent, String name, WriteParameters writeParameters,
+			Consumer<BadRequestException> onWriteError, boolean safeWrite, Settings settings,
+			long maxAggregateWait) {
+		this.parent = parent;
+		this.name = name;
+		this.writeParameters = writeParameters;
+		this.onWriteError = onWriteError;
+		this.safeWrite = safeWrite;
+		this.maxBatchBytes = Math.max(1024, settings.maxBatchBytes());
+		this.maxInFlight = Math.max(1, settings.maxInFlight());
+		this.maxAggregateWait = maxAggregateWait;
+		this.inFlight = new Semaphore(this.maxInFlight);
+		this.writeExecutor = Executors.newFixedThreadPool(this.maxInFlight, //
+				new ThreadFactoryBuilder().setNameFormat("InfluxDB-Write" + name + "-%d").build());
+		this.currentBatch = this.obtainBatch();
+	}
+
+	/**
+	 * Activates the worker.
+	 */
+	public void activate() {
+		this.activate("InfluxDB-MergeLines" + this.name);
+	}
+
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.writeExecutor, 5);
+	}
+
+	/**
+	 * Adds the complete lines of the given {@link LineProtocolBuffer} to the
+	 * current batch. The given buffer is not modified and can be reused by the
+	 * caller afterwards.
+	 *
+	 * @param lines the {@link LineProtocolBuffer}
+	 * @return true if the lines were added; false on backpressure
+	 */
+	public boolean offer(LineProtocolBuffer lines) {
+		if (lines.lines() == 0) {
+			return true;
+		}
+		synchronized (this.currentBatchLock) {
+			final var current = this.currentBatch.buffer;
+			if (current.size() > 0 && current.size() + lines.size() > this.maxBatchBytes) {
+				if (!this.sealedBatches.offer(this.currentBatch)) {
+					this.rejectedLines.add(lines.lines());
+					return false;
+				}
+				this.currentBatch = this.obtainBatch();
+			}
+			this.currentBatch.buffer.append(lines);
+		}
+		return true;
+	}
+
+	@Override
+	protected void forever() throws InterruptedException {
+		var batch = this.sealedBatches.poll(this.maxAggregateWait, TimeUnit.MILLISECONDS);
+		if (batch == null) {
+			// No full batch within timeout: write what we have
+			batch = this.sealCurrentBatch();
+			if (batch == null) {
+				return;
+			}
+		}
+
+		this.drainedBatches.add(batch);
+		this.sealedBatches.drainTo(this.drainedBatches);
+		try {
+			for (var b : this.drainedBatches) {
+				this.inFlight.acquire();
+				this.writeExecutor.execute(() -> this.write(b));
+			}
+		} finally {
+			this.drainedBatches.clear();
+		}
+	}
+
+	private Batch sealCurrentBatch() {
+		synchronized (this.currentBatchLock) {
+			if (this.currentBatch.buffer.lines() == 0) {
+				return null;
+			}
+			final var result = this.currentBatch;
+			this.currentBatch = this.obtainBatch();
+			return result;
+		}
+	}
+
+	private void write(Batch batch) {
+		var recycle = true;
+		try {
+			if (this.parent.queryProxy.isLimitReached()) {
+				this.rejectedLines.add(batch.buffer.lines());
+				return;
+			}
+			this.parent.getInfluxConnection().writeApi.writeRecord(batch.buffer.toString(), this.writeParameters);
+			this.parent.queryProxy.queryLimit.decrease();
+			this.writtenLines.add(batch.buffer.lines());
+			this.writtenBytes.add(batch.buffer.size());
+			this.writtenBatches.increment();
+
+		} catch (Throwable t) {
+			this.parent.queryProxy.queryLimit.increase();
+			this.failedBatches.increment();
+			this.log.warn("Unable to write to InfluxDB. " + t.getClass().getSimpleName() + ": " + t.getMessage());
+			if (t instanceof BadRequestException e) {
+				this.onWriteError.accept(e);
+			}
+			if (this.safeWrite && --batch.failedCountDown > 0 && this.sealedBatches.offer(batch)) {
+				// retry later
+				recycle = false;
+			} else {
+				this.rejectedLines.add(batch.buffer.lines());
+			}
+
+		} finally {
+			if (recycle) {
+				batch.buffer.reset();
+				batch.failedCountDown = MAX_WRITE_ATTEMPTS;
+				this.freeBatches.offer(batch);
+			}
+			this.inFlight.release();
+		}
+	}
+
+	private Batch obtainBatch() {
+		final var batch = this.freeBatches.poll();
+		if (batch != null) {
+			return batch;
+		}
+		// Headroom for the last record that exceeds the limit
+		return new Batch(this.maxBatchBytes + this.maxBatchBytes / 4);
+	}
+
+	/**
+	 * Simple debug log string.
+	 *
+	 * @return the debug string
+	 */
+	public synchronized String debugLog() {
+		final var now = System.nanoTime();
+		final var seconds = Math.max(1E-3, (now - this.lastDebugLogNanos) / 1E9);
+		final var lines = this.writtenLines.sum();
+		final var bytes = this.writtenBytes.sum();
+		final var linesPerSecond = Math.round((lines - this.lastWrittenLines) / seconds);
+		final var kiloBytesPerSecond = Math.round((bytes - this.lastWrittenBytes) / seconds / 1024);
+		this.lastDebugLogNanos = now;
+		this.lastWrittenLines = lines;
+		this.lastWrittenBytes = bytes;
+
+		final var queuedBatches = this.sealedBatches.size();
+		final var activeWrites = this.maxInFlight - this.inFlight.availablePermits();
+		return new StringBuilder() //
+				.append(this.name) //
+				.append(": Batches ") //
+				.append(queuedBatches) //
+				.append("/") //
+				.append(MAX_QUEUED_BATCHES) //
+				.append(", InFlight ") //
+				.append(activeWrites) //
+				.append("/") //
+				.append(this.maxInFlight) //
+				.append(", Lines/s ") //
+				.append(linesPerSecond) //
+				.append(", kB/s ") //
+				.append(kiloBytesPerSecond) //
+				.append(", Written ") //
+				.append(this.writtenBatches.sum()) //
+				.append(", Failed ") //
+				.append(this.failedBatches.sum()) //
+				.append(", Rejected Lines ") //
+				.append(this.rejectedLines.sum()) //
+				.append((queuedBatches == MAX_QUEUED_BATCHES) ? " !!!LINES BACKPRESSURE!!!" : "") //
+				.toString();
+	}
+
+}
@@ -0,0 +1,82 @@
+package io.openems.shared.influxdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LineProtocolBufferTest {
+
+	@Test
+	public void testFields() {
+		var sut = new LineProtocolBuffer(0);
+		sut.startLine("data") //
+				.addTag("edge", "123") //
+				.addField("ess0/Soc", 50L) //
+				.addField("meter0/ActivePower", -1234.5) //
+				.addField("ess0/Power", 3.0) //
+				.addField("_sum/Flag", true) //
+				.addField("ctrl0/State", "a \"b\" \\c");
+		assertTrue(sut.endLine(1700000000000L));
+
+		assertEquals(1, sut.lines());
+		assertEquals("data,edge=123 ess0/Soc=50i,meter0/ActivePower=-1234.5,ess0/Power=3.0,_sum/Flag=true," //
+				+ "ctrl0/State=\"a \\\"b\\\" \\\\c\" 1700000000000\n", sut.toString());
+	}
+
+	@Test
+	public void testEscaping() {
+		var sut = new LineProtocolBuffer(16);
+		sut.startLine("my data,x") //
+				.addTag("t a=g", "v,a l=ue") //
+				.addField("f=o o,", Long.MIN_VALUE) //
+				.addField("Öl€𝄞", 0L) //
+				.endLine(0);
+
+		assertEquals("my\\ data\\,x,t\\ a\\=g=v\\,a\\ l\\=ue f\\=o\\ o\\,=-9223372036854775808i,Öl€𝄞=0i 0\n",
+				sut.toString());
+		assertEquals(sut.toString().getBytes(UTF_8).length, sut.size());
+	}
+
+	@Test
+	public void testLineWithoutFields() {
+		var sut = new LineProtocolBuffer(16);
+		sut.startLine("data").addField("a", 1L).endLine(1);
+
+		// NaN is not supported by InfluxDB
+		assertFalse(sut.startLine("data").addTag("edge", "1").addField("b", Double.NaN).endLine(2));
+		assertEquals(1, sut.lines());
+		assertEquals("data a=1i 1\n", sut.toString());
+
+		// A started line is not visible before it is ended
+		sut.startLine("data").addField("c", 2L);
+		assertEquals("data a=1i 1\n", sut.toString());
+
+		sut.reset();
+		assertEquals(0, sut.size());
+		assertEquals(0, sut.lines());
+	}
+
+	@Test
+	public void testAppend() {
+		var sut = new LineProtocolBuffer(16);
+		var other = new LineProtocolBuffer(16);
+		other.startLine("data").addField("a", 1L).endLine(1);
+		other.startLine("data").addField("b", 2L).endLine(2);
+		other.startLine("data").addField("c", 3L); // not ended
+
+		sut.append(other);
+		sut.append(other);
+
+		assertEquals(4, sut.lines());
+		assertEquals("data a=1i 1\ndata b=2i 2\ndata a=1i 1\ndata b=2i 2\n", sut.toString());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testTagAfterField() {
+		new LineProtocolBuffer(16).startLine("data").addField("a", 1L).addTag("edge", "1");
+	}
+
+}
@@ -0,0 +1,296 @@
+package io.openems.shared.influxdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.influxdb.client.WriteApiBlocking;
+import com.influxdb.client.domain.WriteConsistency;
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.write.WriteParameters;
+
+public class LineProtocolMergeWorkerTest {
+
+	private static final int MAX_BATCH_BYTES = 1024;
+	private static final long MAX_AGGREGATE_WAIT = 100; // [ms]
+	private static final int MAX_QUEUED_BATCHES = 64;
+	private static final WriteParameters WRITE_PARAMETERS = new WriteParameters("db/rp", "-", WritePrecision.MS,
+			WriteConsistency.ALL);
+
+	/**
+	 * An {@link InfluxConnector} that hands the written records to a
+	 * {@link Consumer} instead of sending them to InfluxDB.
+	 */
+	private static class DummyInfluxConnector extends InfluxConnector {
+
+		private final InfluxConnection connection;
+
+		private DummyInfluxConnector(Consumer<String> writer) {
+			super("influx0", QueryLanguageConfig.INFLUX_QL, URI.create("http://localhost:8086"), "-", "", "db/rp",
+					"edge", false, 1, 1, e -> {
+					});
+			var writeApi = (WriteApiBlocking) Proxy.newProxyInstance(WriteApiBlocking.class.getClassLoader(),
+					new Class<?>[] { WriteApiBlocking.class }, (proxy, method, args) -> {
+						if (method.getName().equals("writeRecord") && args[0] instanceof String record) {
+							writer.accept(record);
+							return null;
+						}
+						throw new UnsupportedOperationException(method.getName());
+					});
+			this.connection = new InfluxConnection(null, writeApi);
+		}
+
+		@Override
+		protected synchronized InfluxConnection getInfluxConnection() {
+			return this.connection;
+		}
+
+		private void resetLimit() {
+			// A failed write increases the probability to reject the next write
+			for (var i = 0; i < 20; i++) {
+				this.queryProxy.queryLimit.decrease();
+			}
+		}
+	}
+
+	private final BlockingQueue<String> records = new LinkedBlockingQueue<>();
+
+	private volatile Consumer<String> writer = this.records::add;
+	private DummyInfluxConnector parent;
+	private LineProtocolMergeWorker sut;
+
+	@Before
+	public void before() {
+		this.parent = new DummyInfluxConnector(record -> this.writer.accept(record));
+	}
+
+	@After
+	public void after() {
+		if (this.sut != null) {
+			this.sut.deactivate();
+		}
+		this.parent.deactivate();
+	}
+
+	@Test
+	public void testOffer_ShouldSealBatchesBySize() throws Exception {
+		this.sut = this.createSut(false, 4);
+
+		// Two lines fit into one batch
+		for (var i = 0; i < 5; i++) {
+			assertTrue(this.sut.offer(line(i)));
+		}
+
+		// Writes both sealed batches; the current one stays open
+		this.sut.forever();
+		for (var i = 0; i < 2; i++) {
+			var record = this.takeRecord();
+			assertEquals(2, lines(record));
+			assertTrue(record.getBytes(UTF_8).length <= MAX_BATCH_BYTES);
+		}
+		assertNull(this.records.poll(MAX_AGGREGATE_WAIT, MILLISECONDS));
+
+		this.sut.forever();
+		assertEquals(line(4).toString(), this.takeRecord());
+	}
+
+	@Test
+	public void testOffer_ShouldRejectOnBackpressure() throws Exception {
+		this.sut = this.createSut(false, 4);
+
+		// Fill all batch slots and the current batch
+		for (var i = 0; i < (MAX_QUEUED_BATCHES + 1) * 2; i++) {
+			assertTrue(this.sut.offer(line(i)));
+		}
+		var lines = line(1000);
+		lines.append(line(1001));
+		assertFalse(this.sut.offer(lines));
+		assertTrue(this.sut.debugLog().contains("Batches 64/64"));
+		assertTrue(this.sut.debugLog().contains("Rejected Lines 2"));
+		assertTrue(this.sut.debugLog().contains("!!!LINES BACKPRESSURE!!!"));
+
+		// Writing the sealed batches frees the slots
+		this.sut.forever();
+		for (var i = 0; i < MAX_QUEUED_BATCHES; i++) {
+			this.takeRecord();
+		}
+		assertTrue(this.sut.offer(lines));
+		assertTrue(this.sut.debugLog().contains("Rejected Lines 2"));
+	}
+
+	@Test
+	public void testWrite_ShouldRetryWithSafeWrite() throws Exception {
+		this.sut = this.createSut(true, 4);
+		var attempts = new AtomicInteger();
+		this.writer = record -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw new IllegalStateException("failed");
+			}
+			this.records.add(record);
+		};
+
+		assertTrue(this.sut.offer(line(0)));
+		this.sut.forever();
+		await(() -> this.sut.debugLog().contains("Batches 1/64"));
+		assertTrue(this.sut.debugLog().contains("Failed 1"));
+		this.parent.resetLimit();
+
+		// The failed batch is written again
+		this.sut.forever();
+		assertEquals(line(0).toString(), this.takeRecord());
+		assertEquals(2, attempts.get());
+		await(() -> this.sut.debugLog().contains("Written 1"));
+		assertTrue(this.sut.debugLog().contains("Rejected Lines 0"));
+	}
+
+	@Test
+	public void testWrite_ShouldRejectAfterMaxAttempts() throws Exception {
+		this.sut = this.createSut(true, 4);
+		var attempts = new AtomicInteger();
+		this.writer = record -> {
+			attempts.incrementAndGet();
+			throw new IllegalStateException("failed");
+		};
+
+		assertTrue(this.sut.offer(line(0)));
+		for (var i = 1; i <= 3; i++) {
+			this.sut.forever();
+			final var failed = "Failed " + i;
+			await(() -> this.sut.debugLog().contains(failed));
+			this.parent.resetLimit();
+			if (i < 3) {
+				await(() -> this.sut.debugLog().contains("Batches 1/64"));
+			}
+		}
+		await(() -> this.sut.debugLog().contains("Rejected Lines 1"));
+		assertEquals(3, attempts.get());
+		assertTrue(this.sut.debugLog().contains("Batches 0/64"));
+	}
+
+	@Test
+	public void testWrite_ShouldRejectWithoutSafeWrite() throws Exception {
+		this.sut = this.createSut(false, 4);
+		this.writer = record -> {
+			throw new IllegalStateException("failed");
+		};
+
+		assertTrue(this.sut.offer(line(0)));
+		this.sut.forever();
+		await(() -> this.sut.debugLog().contains("Rejected Lines 1"));
+		assertTrue(this.sut.debugLog().contains("Failed 1"));
+		assertTrue(this.sut.debugLog().contains("Batches 0/64"));
+	}
+
+	@Test
+	public void testForever_ShouldLimitInFlightWrites() throws Exception {
+		this.sut = this.createSut(false, 2);
+		var active = new AtomicInteger();
+		var maxActive = new AtomicInteger();
+		var release = new CountDownLatch(1);
+		this.writer = record -> {
+			maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			active.decrementAndGet();
+			this.records.add(record);
+		};
+
+		// Three sealed batches
+		for (var i = 0; i < 8; i++) {
+			assertTrue(this.sut.offer(line(i)));
+		}
+		var forever = CompletableFuture.runAsync(() -> {
+			try {
+				this.sut.forever();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		// The third batch waits for a free slot
+		await(() -> active.get() == 2);
+		Thread.sleep(MAX_AGGREGATE_WAIT);
+		assertEquals(2, active.get());
+		assertFalse(forever.isDone());
+		assertTrue(this.sut.debugLog().contains("InFlight 2/2"));
+
+		release.countDown();
+		forever.get(5, SECONDS);
+		for (var i = 0; i < 3; i++) {
+			this.takeRecord();
+		}
+		assertEquals(2, maxActive.get());
+	}
+
+	@Test
+	public void testForever_ShouldFlushAfterTimeout() throws Exception {
+		this.sut = this.createSut(false, 4);
+
+		// Nothing to write
+		this.sut.forever();
+		assertTrue(this.records.isEmpty());
+
+		// Current batch is written although it is not full
+		assertTrue(this.sut.offer(line(0)));
+		var start = System.nanoTime();
+		this.sut.forever();
+		assertTrue(System.nanoTime() - start >= MAX_AGGREGATE_WAIT * 1_000_000);
+		assertEquals(line(0).toString(), this.takeRecord());
+	}
+
+	private LineProtocolMergeWorker createSut(boolean safeWrite, int maxInFlight) {
+		return new LineProtocolMergeWorker(this.parent, "Test", WRITE_PARAMETERS, e -> {
+		}, safeWrite, new LineProtocolMergeWorker.Settings(MAX_BATCH_BYTES, maxInFlight), MAX_AGGREGATE_WAIT);
+	}
+
+	private String takeRecord() throws InterruptedException {
+		var record = this.records.poll(5, SECONDS);
+		assertNotNull(record);
+		return record;
+	}
+
+	private static LineProtocolBuffer line(long timestamp) {
+		// About 420 bytes
+		var result = new LineProtocolBuffer(512);
+		result.startLine("data") //
+				.addTag("edge", "1") //
+				.addField("value", "x".repeat(380)) //
+				.endLine(timestamp);
+		return result;
+	}
+
+	private static int lines(String record) {
+		return (int) record.chars().filter(c -> c == '\n').count();
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		final var deadline = System.nanoTime() + SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			assertTrue("Condition not met within 5 s", System.nanoTime() < deadline);
+			Thread.sleep(10);
+		}
+	}
+
+}